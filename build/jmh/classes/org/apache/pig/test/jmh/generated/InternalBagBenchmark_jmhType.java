@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class InternalBagBenchmark_jmhType extends InternalBagBenchmark_jmhType_B3 {
+}
+
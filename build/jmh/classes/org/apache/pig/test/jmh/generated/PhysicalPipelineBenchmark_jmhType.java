@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class PhysicalPipelineBenchmark_jmhType extends PhysicalPipelineBenchmark_jmhType_B3 {
+}
+
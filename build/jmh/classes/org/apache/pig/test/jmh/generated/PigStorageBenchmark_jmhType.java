@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class PigStorageBenchmark_jmhType extends PigStorageBenchmark_jmhType_B3 {
+}
+
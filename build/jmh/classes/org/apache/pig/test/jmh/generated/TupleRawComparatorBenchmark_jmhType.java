@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class TupleRawComparatorBenchmark_jmhType extends TupleRawComparatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.pig.test.jmh.generated;
+public class Utf8StorageConverterBenchmark_jmhType extends Utf8StorageConverterBenchmark_jmhType_B3 {
+}
+
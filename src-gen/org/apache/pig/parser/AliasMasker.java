@@ -0,0 +1,20461 @@
+// $ANTLR 3.4 /root/project/src/org/apache/pig/parser/AliasMasker.g 2026-10-17 07:33:45
+
+package org.apache.pig.parser;
+
+import java.util.HashSet;
+import java.util.Set;
+
+
+import org.antlr.runtime.*;
+import org.antlr.runtime.tree.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+
+/**
+ * Grammar file for Pig tree parser (visitor for default data type insertion).
+ *
+ * NOTE: THIS FILE IS BASED ON QueryParser.g, SO IF YOU CHANGE THAT FILE, YOU WILL
+ *       PROBABLY NEED TO MAKE CORRESPONDING CHANGES TO THIS FILE AS WELL.
+ */
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class AliasMasker extends TreeParser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ALL", "AMPERSAND", "AND", "ARROBA", "AS", "ASC", "ASSERT", "BAG", "BIGDECIMAL", "BIGDECIMALNUMBER", "BIGINTEGER", "BIGINTEGERNUMBER", "BOOLEAN", "BY", "BYTEARRAY", "CACHE", "CASE", "CHARARRAY", "COGROUP", "COLON", "COMMA", "CROSS", "CUBE", "DATETIME", "DCOLON", "DEFINE", "DENSE", "DESC", "DIGIT", "DISTINCT", "DIV", "DOLLAR", "DOLLARVAR", "DOUBLE", "DOUBLENUMBER", "DOUBLE_PERIOD", "ELSE", "END", "EQUAL", "EXECCOMMAND", "FALSE", "FAT_ARROW", "FILTER", "FLATTEN", "FLOAT", "FLOATINGPOINT", "FLOATNUMBER", "FOREACH", "FULL", "GENERATE", "GROUP", "ID", "IDENTIFIER", "IF", "IMPORT", "IN", "INNER", "INPUT", "INT", "INTEGER", "INTO", "INVOKE", "IS", "JOIN", "LEFT", "LEFT_BRACKET", "LEFT_CURLY", "LEFT_PAREN", "LETTER", "LIMIT", "LOAD", "LONG", "LONGINTEGER", "MAP", "MAPREDUCE", "MINUS", "ML_COMMENT", "MULTILINE_QUOTEDSTRING", "NOT", "NULL", "NUM_OP_EQ", "NUM_OP_GT", "NUM_OP_GTE", "NUM_OP_LT", "NUM_OP_LTE", "NUM_OP_NE", "ONSCHEMA", "OR", "ORDER", "OTHERWISE", "OUTER", "OUTPUT", "PARALLEL", "PARTITION", "PERCENT", "PERIOD", "PLUS", "POUND", "QMARK", "QUOTEDSTRING", "RANK", "REGISTER", "RETURNS", "RIGHT", "RIGHT_BRACKET", "RIGHT_CURLY", "RIGHT_PAREN", "ROLLUP", "SAMPLE", "SEMI_COLON", "SHIP", "SL_COMMENT", "SPECIALCHAR", "SPLIT", "STAR", "STDERROR", "STDIN", "STDOUT", "STORE", "STREAM", "STR_OP_EQ", "STR_OP_GT", "STR_OP_GTE", "STR_OP_LT", "STR_OP_LTE", "STR_OP_MATCHES", "STR_OP_NE", "THEN", "THROUGH", "TRUE", "TUPLE", "UNION", "USING", "VOID", "WHEN", "WS", "ANY", "BAG_TYPE", "BAG_TYPE_CAST", "BAG_VAL", "BIN_EXPR", "BOOL", "BOOL_COND", "CASE_COND", "CASE_EXPR", "CASE_EXPR_LHS", "CASE_EXPR_RHS", "CAST_EXPR", "COL_RANGE", "EXPR_IN_PAREN", "FIELD_DEF", "FIELD_DEF_WITHOUT_IDENTIFIER", "FOREACH_PLAN_COMPLEX", "FOREACH_PLAN_SIMPLE", "FUNC", "FUNC_EVAL", "FUNC_REF", "INVOKER_FUNC_EVAL", "IN_LHS", "IN_RHS", "JOIN_ITEM", "KEY_VAL_PAIR", "MACRO_BODY", "MACRO_DEF", "MACRO_INLINE", "MAP_TYPE", "MAP_VAL", "NEG", "NESTED_CMD", "NESTED_CMD_ASSI", "NESTED_PROJ", "PARAMS", "QUERY", "REALIAS", "RETURN_VAL", "SPLIT_BRANCH", "STATEMENT", "TOBAG", "TOMAP", "TOTUPLE", "TUPLE_TYPE", "TUPLE_TYPE_CAST", "TUPLE_VAL", "EVAL", "MATCHES"
+    };
+
+    public static final int EOF=-1;
+    public static final int ALL=4;
+    public static final int AMPERSAND=5;
+    public static final int AND=6;
+    public static final int ARROBA=7;
+    public static final int AS=8;
+    public static final int ASC=9;
+    public static final int ASSERT=10;
+    public static final int BAG=11;
+    public static final int BIGDECIMAL=12;
+    public static final int BIGDECIMALNUMBER=13;
+    public static final int BIGINTEGER=14;
+    public static final int BIGINTEGERNUMBER=15;
+    public static final int BOOLEAN=16;
+    public static final int BY=17;
+    public static final int BYTEARRAY=18;
+    public static final int CACHE=19;
+    public static final int CASE=20;
+    public static final int CHARARRAY=21;
+    public static final int COGROUP=22;
+    public static final int COLON=23;
+    public static final int COMMA=24;
+    public static final int CROSS=25;
+    public static final int CUBE=26;
+    public static final int DATETIME=27;
+    public static final int DCOLON=28;
+    public static final int DEFINE=29;
+    public static final int DENSE=30;
+    public static final int DESC=31;
+    public static final int DIGIT=32;
+    public static final int DISTINCT=33;
+    public static final int DIV=34;
+    public static final int DOLLAR=35;
+    public static final int DOLLARVAR=36;
+    public static final int DOUBLE=37;
+    public static final int DOUBLENUMBER=38;
+    public static final int DOUBLE_PERIOD=39;
+    public static final int ELSE=40;
+    public static final int END=41;
+    public static final int EQUAL=42;
+    public static final int EXECCOMMAND=43;
+    public static final int FALSE=44;
+    public static final int FAT_ARROW=45;
+    public static final int FILTER=46;
+    public static final int FLATTEN=47;
+    public static final int FLOAT=48;
+    public static final int FLOATINGPOINT=49;
+    public static final int FLOATNUMBER=50;
+    public static final int FOREACH=51;
+    public static final int FULL=52;
+    public static final int GENERATE=53;
+    public static final int GROUP=54;
+    public static final int ID=55;
+    public static final int IDENTIFIER=56;
+    public static final int IF=57;
+    public static final int IMPORT=58;
+    public static final int IN=59;
+    public static final int INNER=60;
+    public static final int INPUT=61;
+    public static final int INT=62;
+    public static final int INTEGER=63;
+    public static final int INTO=64;
+    public static final int INVOKE=65;
+    public static final int IS=66;
+    public static final int JOIN=67;
+    public static final int LEFT=68;
+    public static final int LEFT_BRACKET=69;
+    public static final int LEFT_CURLY=70;
+    public static final int LEFT_PAREN=71;
+    public static final int LETTER=72;
+    public static final int LIMIT=73;
+    public static final int LOAD=74;
+    public static final int LONG=75;
+    public static final int LONGINTEGER=76;
+    public static final int MAP=77;
+    public static final int MAPREDUCE=78;
+    public static final int MINUS=79;
+    public static final int ML_COMMENT=80;
+    public static final int MULTILINE_QUOTEDSTRING=81;
+    public static final int NOT=82;
+    public static final int NULL=83;
+    public static final int NUM_OP_EQ=84;
+    public static final int NUM_OP_GT=85;
+    public static final int NUM_OP_GTE=86;
+    public static final int NUM_OP_LT=87;
+    public static final int NUM_OP_LTE=88;
+    public static final int NUM_OP_NE=89;
+    public static final int ONSCHEMA=90;
+    public static final int OR=91;
+    public static final int ORDER=92;
+    public static final int OTHERWISE=93;
+    public static final int OUTER=94;
+    public static final int OUTPUT=95;
+    public static final int PARALLEL=96;
+    public static final int PARTITION=97;
+    public static final int PERCENT=98;
+    public static final int PERIOD=99;
+    public static final int PLUS=100;
+    public static final int POUND=101;
+    public static final int QMARK=102;
+    public static final int QUOTEDSTRING=103;
+    public static final int RANK=104;
+    public static final int REGISTER=105;
+    public static final int RETURNS=106;
+    public static final int RIGHT=107;
+    public static final int RIGHT_BRACKET=108;
+    public static final int RIGHT_CURLY=109;
+    public static final int RIGHT_PAREN=110;
+    public static final int ROLLUP=111;
+    public static final int SAMPLE=112;
+    public static final int SEMI_COLON=113;
+    public static final int SHIP=114;
+    public static final int SL_COMMENT=115;
+    public static final int SPECIALCHAR=116;
+    public static final int SPLIT=117;
+    public static final int STAR=118;
+    public static final int STDERROR=119;
+    public static final int STDIN=120;
+    public static final int STDOUT=121;
+    public static final int STORE=122;
+    public static final int STREAM=123;
+    public static final int STR_OP_EQ=124;
+    public static final int STR_OP_GT=125;
+    public static final int STR_OP_GTE=126;
+    public static final int STR_OP_LT=127;
+    public static final int STR_OP_LTE=128;
+    public static final int STR_OP_MATCHES=129;
+    public static final int STR_OP_NE=130;
+    public static final int THEN=131;
+    public static final int THROUGH=132;
+    public static final int TRUE=133;
+    public static final int TUPLE=134;
+    public static final int UNION=135;
+    public static final int USING=136;
+    public static final int VOID=137;
+    public static final int WHEN=138;
+    public static final int WS=139;
+    public static final int ANY=140;
+    public static final int BAG_TYPE=141;
+    public static final int BAG_TYPE_CAST=142;
+    public static final int BAG_VAL=143;
+    public static final int BIN_EXPR=144;
+    public static final int BOOL=145;
+    public static final int BOOL_COND=146;
+    public static final int CASE_COND=147;
+    public static final int CASE_EXPR=148;
+    public static final int CASE_EXPR_LHS=149;
+    public static final int CASE_EXPR_RHS=150;
+    public static final int CAST_EXPR=151;
+    public static final int COL_RANGE=152;
+    public static final int EXPR_IN_PAREN=153;
+    public static final int FIELD_DEF=154;
+    public static final int FIELD_DEF_WITHOUT_IDENTIFIER=155;
+    public static final int FOREACH_PLAN_COMPLEX=156;
+    public static final int FOREACH_PLAN_SIMPLE=157;
+    public static final int FUNC=158;
+    public static final int FUNC_EVAL=159;
+    public static final int FUNC_REF=160;
+    public static final int INVOKER_FUNC_EVAL=161;
+    public static final int IN_LHS=162;
+    public static final int IN_RHS=163;
+    public static final int JOIN_ITEM=164;
+    public static final int KEY_VAL_PAIR=165;
+    public static final int MACRO_BODY=166;
+    public static final int MACRO_DEF=167;
+    public static final int MACRO_INLINE=168;
+    public static final int MAP_TYPE=169;
+    public static final int MAP_VAL=170;
+    public static final int NEG=171;
+    public static final int NESTED_CMD=172;
+    public static final int NESTED_CMD_ASSI=173;
+    public static final int NESTED_PROJ=174;
+    public static final int PARAMS=175;
+    public static final int QUERY=176;
+    public static final int REALIAS=177;
+    public static final int RETURN_VAL=178;
+    public static final int SPLIT_BRANCH=179;
+    public static final int STATEMENT=180;
+    public static final int TOBAG=181;
+    public static final int TOMAP=182;
+    public static final int TOTUPLE=183;
+    public static final int TUPLE_TYPE=184;
+    public static final int TUPLE_TYPE_CAST=185;
+    public static final int TUPLE_VAL=186;
+    public static final int EVAL=187;
+    public static final int MATCHES=188;
+
+    // delegates
+    public TreeParser[] getDelegates() {
+        return new TreeParser[] {};
+    }
+
+    // delegators
+
+
+    public AliasMasker(TreeNodeStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public AliasMasker(TreeNodeStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+protected TreeAdaptor adaptor = new CommonTreeAdaptor();
+
+public void setTreeAdaptor(TreeAdaptor adaptor) {
+    this.adaptor = adaptor;
+}
+public TreeAdaptor getTreeAdaptor() {
+    return adaptor;
+}
+    public String[] getTokenNames() { return AliasMasker.tokenNames; }
+    public String getGrammarFileName() { return "/root/project/src/org/apache/pig/parser/AliasMasker.g"; }
+
+
+
+    @Override
+    public String getErrorMessage(RecognitionException e, String[] tokenNames) {
+    	if (e instanceof ParserValidationException) {
+    		return e.toString();
+    	}
+    	return super.getErrorMessage(e, tokenNames);
+    }
+
+    public void setParams(Set ps, String macro, long idx) {
+        params = ps;
+        macroName = macro;
+        index = idx;
+    }
+
+    private String getMask(String alias) {
+        return params.contains( alias )
+            ? alias
+            : "macro_" + macroName + "_" + alias + "_" + index;
+    }
+
+    private Set<String> params = new HashSet<String>();
+
+    private Set<String> aliasSeen = new HashSet<String>();
+
+    private String macroName = "";
+
+    private long index = 0;
+
+    private boolean inAsOrGenClause = false;
+
+
+
+    public static class query_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "query"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:82:1: query : ^( QUERY ( statement )* ) ;
+    public final AliasMasker.query_return query() throws RecognitionException {
+        AliasMasker.query_return retval = new AliasMasker.query_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUERY1=null;
+        AliasMasker.statement_return statement2 =null;
+
+
+        CommonTree QUERY1_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:82:7: ( ^( QUERY ( statement )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:82:9: ^( QUERY ( statement )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            QUERY1=(CommonTree)match(input,QUERY,FOLLOW_QUERY_in_query80); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUERY1_tree = (CommonTree)adaptor.dupNode(QUERY1);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(QUERY1_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:82:18: ( statement )*
+                loop1:
+                do {
+                    int alt1=2;
+                    int LA1_0 = input.LA(1);
+
+                    if ( (LA1_0==ASSERT||LA1_0==SPLIT||LA1_0==REALIAS||LA1_0==STATEMENT) ) {
+                        alt1=1;
+                    }
+
+
+                    switch (alt1) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:82:18: statement
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_statement_in_query82);
+                	    statement2=statement();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, statement2.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop1;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "query"
+
+
+    public static class statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "statement"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:85:1: statement : ( general_statement | split_statement | realias_statement | assert_statement );
+    public final AliasMasker.statement_return statement() throws RecognitionException {
+        AliasMasker.statement_return retval = new AliasMasker.statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.general_statement_return general_statement3 =null;
+
+        AliasMasker.split_statement_return split_statement4 =null;
+
+        AliasMasker.realias_statement_return realias_statement5 =null;
+
+        AliasMasker.assert_statement_return assert_statement6 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:85:11: ( general_statement | split_statement | realias_statement | assert_statement )
+            int alt2=4;
+            switch ( input.LA(1) ) {
+            case STATEMENT:
+                {
+                alt2=1;
+                }
+                break;
+            case SPLIT:
+                {
+                alt2=2;
+                }
+                break;
+            case REALIAS:
+                {
+                alt2=3;
+                }
+                break;
+            case ASSERT:
+                {
+                alt2=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 2, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt2) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:85:13: general_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_general_statement_in_statement94);
+                    general_statement3=general_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, general_statement3.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:86:13: split_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_split_statement_in_statement108);
+                    split_statement4=split_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, split_statement4.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:87:13: realias_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_realias_statement_in_statement122);
+                    realias_statement5=realias_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, realias_statement5.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:88:13: assert_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_assert_statement_in_statement136);
+                    assert_statement6=assert_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, assert_statement6.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "statement"
+
+
+    public static class split_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_statement"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:91:1: split_statement : split_clause ;
+    public final AliasMasker.split_statement_return split_statement() throws RecognitionException {
+        AliasMasker.split_statement_return retval = new AliasMasker.split_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.split_clause_return split_clause7 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:91:17: ( split_clause )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:91:19: split_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_split_clause_in_split_statement145);
+            split_clause7=split_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, split_clause7.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_statement"
+
+
+    public static class assert_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "assert_statement"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:94:1: assert_statement : assert_clause ;
+    public final AliasMasker.assert_statement_return assert_statement() throws RecognitionException {
+        AliasMasker.assert_statement_return retval = new AliasMasker.assert_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.assert_clause_return assert_clause8 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:94:17: ( assert_clause )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:94:19: assert_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_assert_clause_in_assert_statement153);
+            assert_clause8=assert_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, assert_clause8.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "assert_statement"
+
+
+    public static class realias_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "realias_statement"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:97:1: realias_statement : realias_clause ;
+    public final AliasMasker.realias_statement_return realias_statement() throws RecognitionException {
+        AliasMasker.realias_statement_return retval = new AliasMasker.realias_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.realias_clause_return realias_clause9 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:97:19: ( realias_clause )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:97:21: realias_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_realias_clause_in_realias_statement162);
+            realias_clause9=realias_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, realias_clause9.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "realias_statement"
+
+
+    public static class general_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "general_statement"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:101:1: general_statement : ^( STATEMENT ( alias )? op_clause ( parallel_clause )? ) ;
+    public final AliasMasker.general_statement_return general_statement() throws RecognitionException {
+        AliasMasker.general_statement_return retval = new AliasMasker.general_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STATEMENT10=null;
+        AliasMasker.alias_return alias11 =null;
+
+        AliasMasker.op_clause_return op_clause12 =null;
+
+        AliasMasker.parallel_clause_return parallel_clause13 =null;
+
+
+        CommonTree STATEMENT10_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:102:5: ( ^( STATEMENT ( alias )? op_clause ( parallel_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:102:7: ^( STATEMENT ( alias )? op_clause ( parallel_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STATEMENT10=(CommonTree)match(input,STATEMENT,FOLLOW_STATEMENT_in_general_statement178); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STATEMENT10_tree = (CommonTree)adaptor.dupNode(STATEMENT10);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STATEMENT10_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:102:20: ( alias )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==IDENTIFIER) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:102:22: alias
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_alias_in_general_statement182);
+                    alias11=alias();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, alias11.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_op_clause_in_general_statement195);
+            op_clause12=op_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, op_clause12.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:103:19: ( parallel_clause )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==PARALLEL) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:103:19: parallel_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_parallel_clause_in_general_statement197);
+                    parallel_clause13=parallel_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, parallel_clause13.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "general_statement"
+
+
+    public static class realias_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "realias_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:106:1: realias_clause : ^( REALIAS alias IDENTIFIER ) ;
+    public final AliasMasker.realias_clause_return realias_clause() throws RecognitionException {
+        AliasMasker.realias_clause_return retval = new AliasMasker.realias_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree REALIAS14=null;
+        CommonTree IDENTIFIER16=null;
+        AliasMasker.alias_return alias15 =null;
+
+
+        CommonTree REALIAS14_tree=null;
+        CommonTree IDENTIFIER16_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:106:16: ( ^( REALIAS alias IDENTIFIER ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:106:18: ^( REALIAS alias IDENTIFIER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            REALIAS14=(CommonTree)match(input,REALIAS,FOLLOW_REALIAS_in_realias_clause210); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            REALIAS14_tree = (CommonTree)adaptor.dupNode(REALIAS14);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(REALIAS14_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_realias_clause212);
+            alias15=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias15.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER16=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_realias_clause214); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER16_tree = (CommonTree)adaptor.dupNode(IDENTIFIER16);
+
+
+            adaptor.addChild(root_1, IDENTIFIER16_tree);
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "realias_clause"
+
+
+    public static class parallel_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "parallel_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:109:1: parallel_clause : ^( PARALLEL INTEGER ) ;
+    public final AliasMasker.parallel_clause_return parallel_clause() throws RecognitionException {
+        AliasMasker.parallel_clause_return retval = new AliasMasker.parallel_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PARALLEL17=null;
+        CommonTree INTEGER18=null;
+
+        CommonTree PARALLEL17_tree=null;
+        CommonTree INTEGER18_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:110:5: ( ^( PARALLEL INTEGER ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:110:7: ^( PARALLEL INTEGER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            PARALLEL17=(CommonTree)match(input,PARALLEL,FOLLOW_PARALLEL_in_parallel_clause230); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            PARALLEL17_tree = (CommonTree)adaptor.dupNode(PARALLEL17);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(PARALLEL17_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            INTEGER18=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_parallel_clause232); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            INTEGER18_tree = (CommonTree)adaptor.dupNode(INTEGER18);
+
+
+            adaptor.addChild(root_1, INTEGER18_tree);
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "parallel_clause"
+
+
+    public static class alias_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "alias"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:113:1: alias : IDENTIFIER ;
+    public final AliasMasker.alias_return alias() throws RecognitionException {
+        AliasMasker.alias_return retval = new AliasMasker.alias_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IDENTIFIER19=null;
+
+        CommonTree IDENTIFIER19_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:114:5: ( IDENTIFIER )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:114:7: IDENTIFIER
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER19=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_alias247); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER19_tree = (CommonTree)adaptor.dupNode(IDENTIFIER19);
+
+
+            adaptor.addChild(root_0, IDENTIFIER19_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+                        aliasSeen.add((IDENTIFIER19!=null?IDENTIFIER19.getText():null));
+                        IDENTIFIER19.getToken().setText(getMask((IDENTIFIER19!=null?IDENTIFIER19.getText():null)));
+                    }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "alias"
+
+
+    public static class op_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "op_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:121:1: op_clause : ( define_clause | load_clause | group_clause | store_clause | filter_clause | distinct_clause | limit_clause | sample_clause | order_clause | rank_clause | cross_clause | join_clause | union_clause | stream_clause | mr_clause | split_clause | foreach_clause | cube_clause | assert_clause );
+    public final AliasMasker.op_clause_return op_clause() throws RecognitionException {
+        AliasMasker.op_clause_return retval = new AliasMasker.op_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.define_clause_return define_clause20 =null;
+
+        AliasMasker.load_clause_return load_clause21 =null;
+
+        AliasMasker.group_clause_return group_clause22 =null;
+
+        AliasMasker.store_clause_return store_clause23 =null;
+
+        AliasMasker.filter_clause_return filter_clause24 =null;
+
+        AliasMasker.distinct_clause_return distinct_clause25 =null;
+
+        AliasMasker.limit_clause_return limit_clause26 =null;
+
+        AliasMasker.sample_clause_return sample_clause27 =null;
+
+        AliasMasker.order_clause_return order_clause28 =null;
+
+        AliasMasker.rank_clause_return rank_clause29 =null;
+
+        AliasMasker.cross_clause_return cross_clause30 =null;
+
+        AliasMasker.join_clause_return join_clause31 =null;
+
+        AliasMasker.union_clause_return union_clause32 =null;
+
+        AliasMasker.stream_clause_return stream_clause33 =null;
+
+        AliasMasker.mr_clause_return mr_clause34 =null;
+
+        AliasMasker.split_clause_return split_clause35 =null;
+
+        AliasMasker.foreach_clause_return foreach_clause36 =null;
+
+        AliasMasker.cube_clause_return cube_clause37 =null;
+
+        AliasMasker.assert_clause_return assert_clause38 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:121:11: ( define_clause | load_clause | group_clause | store_clause | filter_clause | distinct_clause | limit_clause | sample_clause | order_clause | rank_clause | cross_clause | join_clause | union_clause | stream_clause | mr_clause | split_clause | foreach_clause | cube_clause | assert_clause )
+            int alt5=19;
+            switch ( input.LA(1) ) {
+            case DEFINE:
+                {
+                alt5=1;
+                }
+                break;
+            case LOAD:
+                {
+                alt5=2;
+                }
+                break;
+            case COGROUP:
+            case GROUP:
+                {
+                alt5=3;
+                }
+                break;
+            case STORE:
+                {
+                alt5=4;
+                }
+                break;
+            case FILTER:
+                {
+                alt5=5;
+                }
+                break;
+            case DISTINCT:
+                {
+                alt5=6;
+                }
+                break;
+            case LIMIT:
+                {
+                alt5=7;
+                }
+                break;
+            case SAMPLE:
+                {
+                alt5=8;
+                }
+                break;
+            case ORDER:
+                {
+                alt5=9;
+                }
+                break;
+            case RANK:
+                {
+                alt5=10;
+                }
+                break;
+            case CROSS:
+                {
+                alt5=11;
+                }
+                break;
+            case JOIN:
+                {
+                alt5=12;
+                }
+                break;
+            case UNION:
+                {
+                alt5=13;
+                }
+                break;
+            case STREAM:
+                {
+                alt5=14;
+                }
+                break;
+            case MAPREDUCE:
+                {
+                alt5=15;
+                }
+                break;
+            case SPLIT:
+                {
+                alt5=16;
+                }
+                break;
+            case FOREACH:
+                {
+                alt5=17;
+                }
+                break;
+            case CUBE:
+                {
+                alt5=18;
+                }
+                break;
+            case ASSERT:
+                {
+                alt5=19;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 5, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt5) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:121:13: define_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_define_clause_in_op_clause266);
+                    define_clause20=define_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, define_clause20.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:122:13: load_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_load_clause_in_op_clause280);
+                    load_clause21=load_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, load_clause21.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:123:13: group_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_group_clause_in_op_clause294);
+                    group_clause22=group_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, group_clause22.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:124:13: store_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_store_clause_in_op_clause308);
+                    store_clause23=store_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, store_clause23.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:125:13: filter_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_filter_clause_in_op_clause322);
+                    filter_clause24=filter_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, filter_clause24.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:126:13: distinct_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_distinct_clause_in_op_clause336);
+                    distinct_clause25=distinct_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, distinct_clause25.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:127:13: limit_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_limit_clause_in_op_clause350);
+                    limit_clause26=limit_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, limit_clause26.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:128:13: sample_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_sample_clause_in_op_clause364);
+                    sample_clause27=sample_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, sample_clause27.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:129:13: order_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_order_clause_in_op_clause378);
+                    order_clause28=order_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, order_clause28.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:130:13: rank_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rank_clause_in_op_clause392);
+                    rank_clause29=rank_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rank_clause29.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:131:13: cross_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cross_clause_in_op_clause406);
+                    cross_clause30=cross_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, cross_clause30.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 12 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:132:13: join_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_clause_in_op_clause420);
+                    join_clause31=join_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_clause31.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 13 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:133:13: union_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_union_clause_in_op_clause434);
+                    union_clause32=union_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, union_clause32.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 14 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:134:13: stream_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_stream_clause_in_op_clause448);
+                    stream_clause33=stream_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, stream_clause33.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 15 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:135:13: mr_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_mr_clause_in_op_clause462);
+                    mr_clause34=mr_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, mr_clause34.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 16 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:136:13: split_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_split_clause_in_op_clause476);
+                    split_clause35=split_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, split_clause35.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 17 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:137:13: foreach_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_foreach_clause_in_op_clause490);
+                    foreach_clause36=foreach_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, foreach_clause36.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 18 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:138:13: cube_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cube_clause_in_op_clause504);
+                    cube_clause37=cube_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, cube_clause37.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 19 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:139:13: assert_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_assert_clause_in_op_clause518);
+                    assert_clause38=assert_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, assert_clause38.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "op_clause"
+
+
+    public static class define_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "define_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:142:1: define_clause : ^( DEFINE IDENTIFIER ( cmd | func_clause ) ) ;
+    public final AliasMasker.define_clause_return define_clause() throws RecognitionException {
+        AliasMasker.define_clause_return retval = new AliasMasker.define_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DEFINE39=null;
+        CommonTree IDENTIFIER40=null;
+        AliasMasker.cmd_return cmd41 =null;
+
+        AliasMasker.func_clause_return func_clause42 =null;
+
+
+        CommonTree DEFINE39_tree=null;
+        CommonTree IDENTIFIER40_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:143:5: ( ^( DEFINE IDENTIFIER ( cmd | func_clause ) ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:143:7: ^( DEFINE IDENTIFIER ( cmd | func_clause ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            DEFINE39=(CommonTree)match(input,DEFINE,FOLLOW_DEFINE_in_define_clause533); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DEFINE39_tree = (CommonTree)adaptor.dupNode(DEFINE39);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(DEFINE39_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER40=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_define_clause535); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER40_tree = (CommonTree)adaptor.dupNode(IDENTIFIER40);
+
+
+            adaptor.addChild(root_1, IDENTIFIER40_tree);
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:143:29: ( cmd | func_clause )
+            int alt6=2;
+            int LA6_0 = input.LA(1);
+
+            if ( (LA6_0==EXECCOMMAND) ) {
+                alt6=1;
+            }
+            else if ( (LA6_0==FUNC||LA6_0==FUNC_REF) ) {
+                alt6=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 6, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt6) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:143:31: cmd
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cmd_in_define_clause540);
+                    cmd41=cmd();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cmd41.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:143:37: func_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_define_clause544);
+                    func_clause42=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause42.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "define_clause"
+
+
+    public static class cmd_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cmd"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:146:1: cmd : ^( EXECCOMMAND ( ship_clause | cache_clause | input_clause | output_clause | error_clause )* ) ;
+    public final AliasMasker.cmd_return cmd() throws RecognitionException {
+        AliasMasker.cmd_return retval = new AliasMasker.cmd_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree EXECCOMMAND43=null;
+        AliasMasker.ship_clause_return ship_clause44 =null;
+
+        AliasMasker.cache_clause_return cache_clause45 =null;
+
+        AliasMasker.input_clause_return input_clause46 =null;
+
+        AliasMasker.output_clause_return output_clause47 =null;
+
+        AliasMasker.error_clause_return error_clause48 =null;
+
+
+        CommonTree EXECCOMMAND43_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:147:5: ( ^( EXECCOMMAND ( ship_clause | cache_clause | input_clause | output_clause | error_clause )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:147:7: ^( EXECCOMMAND ( ship_clause | cache_clause | input_clause | output_clause | error_clause )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            EXECCOMMAND43=(CommonTree)match(input,EXECCOMMAND,FOLLOW_EXECCOMMAND_in_cmd563); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            EXECCOMMAND43_tree = (CommonTree)adaptor.dupNode(EXECCOMMAND43);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(EXECCOMMAND43_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:148:9: ( ship_clause | cache_clause | input_clause | output_clause | error_clause )*
+                loop7:
+                do {
+                    int alt7=6;
+                    switch ( input.LA(1) ) {
+                    case SHIP:
+                        {
+                        alt7=1;
+                        }
+                        break;
+                    case CACHE:
+                        {
+                        alt7=2;
+                        }
+                        break;
+                    case INPUT:
+                        {
+                        alt7=3;
+                        }
+                        break;
+                    case OUTPUT:
+                        {
+                        alt7=4;
+                        }
+                        break;
+                    case STDERROR:
+                        {
+                        alt7=5;
+                        }
+                        break;
+
+                    }
+
+                    switch (alt7) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:148:11: ship_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_ship_clause_in_cmd575);
+                	    ship_clause44=ship_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, ship_clause44.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 2 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:148:25: cache_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_cache_clause_in_cmd579);
+                	    cache_clause45=cache_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, cache_clause45.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 3 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:148:40: input_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_input_clause_in_cmd583);
+                	    input_clause46=input_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, input_clause46.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 4 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:148:55: output_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_output_clause_in_cmd587);
+                	    output_clause47=output_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, output_clause47.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 5 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:148:71: error_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_error_clause_in_cmd591);
+                	    error_clause48=error_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, error_clause48.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop7;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cmd"
+
+
+    public static class ship_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "ship_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:151:1: ship_clause : ^( SHIP ( path_list )? ) ;
+    public final AliasMasker.ship_clause_return ship_clause() throws RecognitionException {
+        AliasMasker.ship_clause_return retval = new AliasMasker.ship_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SHIP49=null;
+        AliasMasker.path_list_return path_list50 =null;
+
+
+        CommonTree SHIP49_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:152:5: ( ^( SHIP ( path_list )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:152:7: ^( SHIP ( path_list )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SHIP49=(CommonTree)match(input,SHIP,FOLLOW_SHIP_in_ship_clause611); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SHIP49_tree = (CommonTree)adaptor.dupNode(SHIP49);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SHIP49_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:152:15: ( path_list )?
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( (LA8_0==QUOTEDSTRING) ) {
+                    alt8=1;
+                }
+                switch (alt8) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:152:15: path_list
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_path_list_in_ship_clause613);
+                        path_list50=path_list();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, path_list50.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "ship_clause"
+
+
+    public static class path_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "path_list"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:155:1: path_list : ( QUOTEDSTRING )+ ;
+    public final AliasMasker.path_list_return path_list() throws RecognitionException {
+        AliasMasker.path_list_return retval = new AliasMasker.path_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING51=null;
+
+        CommonTree QUOTEDSTRING51_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:156:5: ( ( QUOTEDSTRING )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:156:7: ( QUOTEDSTRING )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:156:7: ( QUOTEDSTRING )+
+            int cnt9=0;
+            loop9:
+            do {
+                int alt9=2;
+                int LA9_0 = input.LA(1);
+
+                if ( (LA9_0==QUOTEDSTRING) ) {
+                    alt9=1;
+                }
+
+
+                switch (alt9) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:156:7: QUOTEDSTRING
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    QUOTEDSTRING51=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_path_list629); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    QUOTEDSTRING51_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING51);
+
+
+            	    adaptor.addChild(root_0, QUOTEDSTRING51_tree);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt9 >= 1 ) break loop9;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(9, input);
+                        throw eee;
+                }
+                cnt9++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "path_list"
+
+
+    public static class cache_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cache_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:159:1: cache_clause : ^( CACHE path_list ) ;
+    public final AliasMasker.cache_clause_return cache_clause() throws RecognitionException {
+        AliasMasker.cache_clause_return retval = new AliasMasker.cache_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CACHE52=null;
+        AliasMasker.path_list_return path_list53 =null;
+
+
+        CommonTree CACHE52_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:160:5: ( ^( CACHE path_list ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:160:7: ^( CACHE path_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CACHE52=(CommonTree)match(input,CACHE,FOLLOW_CACHE_in_cache_clause645); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CACHE52_tree = (CommonTree)adaptor.dupNode(CACHE52);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CACHE52_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_path_list_in_cache_clause647);
+            path_list53=path_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, path_list53.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cache_clause"
+
+
+    public static class input_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "input_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:163:1: input_clause : ^( INPUT ( stream_cmd )+ ) ;
+    public final AliasMasker.input_clause_return input_clause() throws RecognitionException {
+        AliasMasker.input_clause_return retval = new AliasMasker.input_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree INPUT54=null;
+        AliasMasker.stream_cmd_return stream_cmd55 =null;
+
+
+        CommonTree INPUT54_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:164:5: ( ^( INPUT ( stream_cmd )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:164:7: ^( INPUT ( stream_cmd )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            INPUT54=(CommonTree)match(input,INPUT,FOLLOW_INPUT_in_input_clause664); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            INPUT54_tree = (CommonTree)adaptor.dupNode(INPUT54);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(INPUT54_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:164:16: ( stream_cmd )+
+            int cnt10=0;
+            loop10:
+            do {
+                int alt10=2;
+                int LA10_0 = input.LA(1);
+
+                if ( (LA10_0==QUOTEDSTRING||(LA10_0 >= STDIN && LA10_0 <= STDOUT)) ) {
+                    alt10=1;
+                }
+
+
+                switch (alt10) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:164:16: stream_cmd
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_stream_cmd_in_input_clause666);
+            	    stream_cmd55=stream_cmd();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, stream_cmd55.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt10 >= 1 ) break loop10;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(10, input);
+                        throw eee;
+                }
+                cnt10++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "input_clause"
+
+
+    public static class stream_cmd_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "stream_cmd"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:167:1: stream_cmd : ( ^( STDIN ( func_clause )? ) | ^( STDOUT ( func_clause )? ) | ^( QUOTEDSTRING ( func_clause )? ) );
+    public final AliasMasker.stream_cmd_return stream_cmd() throws RecognitionException {
+        AliasMasker.stream_cmd_return retval = new AliasMasker.stream_cmd_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STDIN56=null;
+        CommonTree STDOUT58=null;
+        CommonTree QUOTEDSTRING60=null;
+        AliasMasker.func_clause_return func_clause57 =null;
+
+        AliasMasker.func_clause_return func_clause59 =null;
+
+        AliasMasker.func_clause_return func_clause61 =null;
+
+
+        CommonTree STDIN56_tree=null;
+        CommonTree STDOUT58_tree=null;
+        CommonTree QUOTEDSTRING60_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:168:5: ( ^( STDIN ( func_clause )? ) | ^( STDOUT ( func_clause )? ) | ^( QUOTEDSTRING ( func_clause )? ) )
+            int alt14=3;
+            switch ( input.LA(1) ) {
+            case STDIN:
+                {
+                alt14=1;
+                }
+                break;
+            case STDOUT:
+                {
+                alt14=2;
+                }
+                break;
+            case QUOTEDSTRING:
+                {
+                alt14=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 14, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt14) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:168:7: ^( STDIN ( func_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    STDIN56=(CommonTree)match(input,STDIN,FOLLOW_STDIN_in_stream_cmd684); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDIN56_tree = (CommonTree)adaptor.dupNode(STDIN56);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(STDIN56_tree, root_1);
+                    }
+
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:168:16: ( func_clause )?
+                        int alt11=2;
+                        int LA11_0 = input.LA(1);
+
+                        if ( (LA11_0==FUNC||LA11_0==FUNC_REF) ) {
+                            alt11=1;
+                        }
+                        switch (alt11) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AliasMasker.g:168:16: func_clause
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_func_clause_in_stream_cmd686);
+                                func_clause57=func_clause();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, func_clause57.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:169:7: ^( STDOUT ( func_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    STDOUT58=(CommonTree)match(input,STDOUT,FOLLOW_STDOUT_in_stream_cmd699); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDOUT58_tree = (CommonTree)adaptor.dupNode(STDOUT58);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(STDOUT58_tree, root_1);
+                    }
+
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:169:17: ( func_clause )?
+                        int alt12=2;
+                        int LA12_0 = input.LA(1);
+
+                        if ( (LA12_0==FUNC||LA12_0==FUNC_REF) ) {
+                            alt12=1;
+                        }
+                        switch (alt12) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AliasMasker.g:169:17: func_clause
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_func_clause_in_stream_cmd701);
+                                func_clause59=func_clause();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, func_clause59.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:170:7: ^( QUOTEDSTRING ( func_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING60=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_stream_cmd714); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING60_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING60);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(QUOTEDSTRING60_tree, root_1);
+                    }
+
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:170:23: ( func_clause )?
+                        int alt13=2;
+                        int LA13_0 = input.LA(1);
+
+                        if ( (LA13_0==FUNC||LA13_0==FUNC_REF) ) {
+                            alt13=1;
+                        }
+                        switch (alt13) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AliasMasker.g:170:23: func_clause
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_func_clause_in_stream_cmd716);
+                                func_clause61=func_clause();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, func_clause61.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "stream_cmd"
+
+
+    public static class output_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "output_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:173:1: output_clause : ^( OUTPUT ( stream_cmd )+ ) ;
+    public final AliasMasker.output_clause_return output_clause() throws RecognitionException {
+        AliasMasker.output_clause_return retval = new AliasMasker.output_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree OUTPUT62=null;
+        AliasMasker.stream_cmd_return stream_cmd63 =null;
+
+
+        CommonTree OUTPUT62_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:174:5: ( ^( OUTPUT ( stream_cmd )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:174:7: ^( OUTPUT ( stream_cmd )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            OUTPUT62=(CommonTree)match(input,OUTPUT,FOLLOW_OUTPUT_in_output_clause734); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            OUTPUT62_tree = (CommonTree)adaptor.dupNode(OUTPUT62);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(OUTPUT62_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:174:17: ( stream_cmd )+
+            int cnt15=0;
+            loop15:
+            do {
+                int alt15=2;
+                int LA15_0 = input.LA(1);
+
+                if ( (LA15_0==QUOTEDSTRING||(LA15_0 >= STDIN && LA15_0 <= STDOUT)) ) {
+                    alt15=1;
+                }
+
+
+                switch (alt15) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:174:17: stream_cmd
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_stream_cmd_in_output_clause736);
+            	    stream_cmd63=stream_cmd();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, stream_cmd63.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt15 >= 1 ) break loop15;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(15, input);
+                        throw eee;
+                }
+                cnt15++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "output_clause"
+
+
+    public static class error_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "error_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:177:1: error_clause : ^( STDERROR ( QUOTEDSTRING ( INTEGER )? )? ) ;
+    public final AliasMasker.error_clause_return error_clause() throws RecognitionException {
+        AliasMasker.error_clause_return retval = new AliasMasker.error_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STDERROR64=null;
+        CommonTree QUOTEDSTRING65=null;
+        CommonTree INTEGER66=null;
+
+        CommonTree STDERROR64_tree=null;
+        CommonTree QUOTEDSTRING65_tree=null;
+        CommonTree INTEGER66_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:178:5: ( ^( STDERROR ( QUOTEDSTRING ( INTEGER )? )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:178:7: ^( STDERROR ( QUOTEDSTRING ( INTEGER )? )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STDERROR64=(CommonTree)match(input,STDERROR,FOLLOW_STDERROR_in_error_clause754); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STDERROR64_tree = (CommonTree)adaptor.dupNode(STDERROR64);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STDERROR64_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:178:19: ( QUOTEDSTRING ( INTEGER )? )?
+                int alt17=2;
+                int LA17_0 = input.LA(1);
+
+                if ( (LA17_0==QUOTEDSTRING) ) {
+                    alt17=1;
+                }
+                switch (alt17) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:178:21: QUOTEDSTRING ( INTEGER )?
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        QUOTEDSTRING65=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_error_clause758); if (state.failed) return retval;
+                        if ( state.backtracking==0 ) {
+                        QUOTEDSTRING65_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING65);
+
+
+                        adaptor.addChild(root_1, QUOTEDSTRING65_tree);
+                        }
+
+
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:178:34: ( INTEGER )?
+                        int alt16=2;
+                        int LA16_0 = input.LA(1);
+
+                        if ( (LA16_0==INTEGER) ) {
+                            alt16=1;
+                        }
+                        switch (alt16) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AliasMasker.g:178:34: INTEGER
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                INTEGER66=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_error_clause760); if (state.failed) return retval;
+                                if ( state.backtracking==0 ) {
+                                INTEGER66_tree = (CommonTree)adaptor.dupNode(INTEGER66);
+
+
+                                adaptor.addChild(root_1, INTEGER66_tree);
+                                }
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "error_clause"
+
+
+    public static class load_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "load_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:181:1: load_clause : ^( LOAD filename ( func_clause )? ( as_clause )? ) ;
+    public final AliasMasker.load_clause_return load_clause() throws RecognitionException {
+        AliasMasker.load_clause_return retval = new AliasMasker.load_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LOAD67=null;
+        AliasMasker.filename_return filename68 =null;
+
+        AliasMasker.func_clause_return func_clause69 =null;
+
+        AliasMasker.as_clause_return as_clause70 =null;
+
+
+        CommonTree LOAD67_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:182:5: ( ^( LOAD filename ( func_clause )? ( as_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:182:7: ^( LOAD filename ( func_clause )? ( as_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            LOAD67=(CommonTree)match(input,LOAD,FOLLOW_LOAD_in_load_clause781); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            LOAD67_tree = (CommonTree)adaptor.dupNode(LOAD67);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(LOAD67_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_filename_in_load_clause783);
+            filename68=filename();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, filename68.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:182:24: ( func_clause )?
+            int alt18=2;
+            int LA18_0 = input.LA(1);
+
+            if ( (LA18_0==FUNC||LA18_0==FUNC_REF) ) {
+                alt18=1;
+            }
+            switch (alt18) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:182:24: func_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_load_clause785);
+                    func_clause69=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause69.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:182:37: ( as_clause )?
+            int alt19=2;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0==AS) ) {
+                alt19=1;
+            }
+            switch (alt19) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:182:37: as_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_as_clause_in_load_clause788);
+                    as_clause70=as_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, as_clause70.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "load_clause"
+
+
+    public static class filename_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "filename"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:185:1: filename : QUOTEDSTRING ;
+    public final AliasMasker.filename_return filename() throws RecognitionException {
+        AliasMasker.filename_return retval = new AliasMasker.filename_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING71=null;
+
+        CommonTree QUOTEDSTRING71_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:186:5: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:186:7: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING71=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_filename804); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING71_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING71);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING71_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "filename"
+
+
+    public static class as_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "as_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:189:1: as_clause : ^( AS field_def_list ) ;
+    public final AliasMasker.as_clause_return as_clause() throws RecognitionException {
+        AliasMasker.as_clause_return retval = new AliasMasker.as_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree AS72=null;
+        AliasMasker.field_def_list_return field_def_list73 =null;
+
+
+        CommonTree AS72_tree=null;
+
+
+        	inAsOrGenClause = true;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:196:5: ( ^( AS field_def_list ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:196:7: ^( AS field_def_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            AS72=(CommonTree)match(input,AS,FOLLOW_AS_in_as_clause829); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            AS72_tree = (CommonTree)adaptor.dupNode(AS72);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(AS72_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_field_def_list_in_as_clause831);
+            field_def_list73=field_def_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, field_def_list73.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+            if ( state.backtracking==0 ) {
+            	inAsOrGenClause = false;
+            }
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "as_clause"
+
+
+    public static class field_def_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "field_def"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:199:1: field_def : ( ^( FIELD_DEF IDENTIFIER ( type )? ) | ^( FIELD_DEF_WITHOUT_IDENTIFIER type ) );
+    public final AliasMasker.field_def_return field_def() throws RecognitionException {
+        AliasMasker.field_def_return retval = new AliasMasker.field_def_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FIELD_DEF74=null;
+        CommonTree IDENTIFIER75=null;
+        CommonTree FIELD_DEF_WITHOUT_IDENTIFIER77=null;
+        AliasMasker.type_return type76 =null;
+
+        AliasMasker.type_return type78 =null;
+
+
+        CommonTree FIELD_DEF74_tree=null;
+        CommonTree IDENTIFIER75_tree=null;
+        CommonTree FIELD_DEF_WITHOUT_IDENTIFIER77_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:200:5: ( ^( FIELD_DEF IDENTIFIER ( type )? ) | ^( FIELD_DEF_WITHOUT_IDENTIFIER type ) )
+            int alt21=2;
+            int LA21_0 = input.LA(1);
+
+            if ( (LA21_0==FIELD_DEF) ) {
+                alt21=1;
+            }
+            else if ( (LA21_0==FIELD_DEF_WITHOUT_IDENTIFIER) ) {
+                alt21=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 21, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt21) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:200:7: ^( FIELD_DEF IDENTIFIER ( type )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FIELD_DEF74=(CommonTree)match(input,FIELD_DEF,FOLLOW_FIELD_DEF_in_field_def848); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FIELD_DEF74_tree = (CommonTree)adaptor.dupNode(FIELD_DEF74);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FIELD_DEF74_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER75=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_field_def850); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER75_tree = (CommonTree)adaptor.dupNode(IDENTIFIER75);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER75_tree);
+                    }
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:200:31: ( type )?
+                    int alt20=2;
+                    int LA20_0 = input.LA(1);
+
+                    if ( (LA20_0==BIGDECIMAL||LA20_0==BIGINTEGER||LA20_0==BOOLEAN||LA20_0==BYTEARRAY||LA20_0==CHARARRAY||LA20_0==DATETIME||LA20_0==DOUBLE||LA20_0==FLOAT||LA20_0==INT||LA20_0==LONG||LA20_0==BAG_TYPE||LA20_0==MAP_TYPE||LA20_0==TUPLE_TYPE) ) {
+                        alt20=1;
+                    }
+                    switch (alt20) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:200:31: type
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            pushFollow(FOLLOW_type_in_field_def852);
+                            type76=type();
+
+                            state._fsp--;
+                            if (state.failed) return retval;
+                            if ( state.backtracking==0 ) 
+                            adaptor.addChild(root_1, type76.getTree());
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    	if (inAsOrGenClause) {
+                    		if (aliasSeen.contains((IDENTIFIER75!=null?IDENTIFIER75.getText():null))) {
+                    			throw new ParserValidationException(input, new SourceLocation((PigParserNode)((CommonTree)retval.start)),
+                    				"Macro doesn't support user defined schema that contains name that conflicts with alias name: " + (IDENTIFIER75!=null?IDENTIFIER75.getText():null));
+                    		}
+                    	}
+                    }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:208:7: ^( FIELD_DEF_WITHOUT_IDENTIFIER type )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FIELD_DEF_WITHOUT_IDENTIFIER77=(CommonTree)match(input,FIELD_DEF_WITHOUT_IDENTIFIER,FOLLOW_FIELD_DEF_WITHOUT_IDENTIFIER_in_field_def867); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FIELD_DEF_WITHOUT_IDENTIFIER77_tree = (CommonTree)adaptor.dupNode(FIELD_DEF_WITHOUT_IDENTIFIER77);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FIELD_DEF_WITHOUT_IDENTIFIER77_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_in_field_def869);
+                    type78=type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type78.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "field_def"
+
+
+    public static class field_def_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "field_def_list"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:211:1: field_def_list : ( field_def )+ ;
+    public final AliasMasker.field_def_list_return field_def_list() throws RecognitionException {
+        AliasMasker.field_def_list_return retval = new AliasMasker.field_def_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.field_def_return field_def79 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:212:5: ( ( field_def )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:212:7: ( field_def )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:212:7: ( field_def )+
+            int cnt22=0;
+            loop22:
+            do {
+                int alt22=2;
+                int LA22_0 = input.LA(1);
+
+                if ( ((LA22_0 >= FIELD_DEF && LA22_0 <= FIELD_DEF_WITHOUT_IDENTIFIER)) ) {
+                    alt22=1;
+                }
+
+
+                switch (alt22) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:212:7: field_def
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_field_def_in_field_def_list884);
+            	    field_def79=field_def();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, field_def79.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt22 >= 1 ) break loop22;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(22, input);
+                        throw eee;
+                }
+                cnt22++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "field_def_list"
+
+
+    public static class type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:215:1: type : ( simple_type | tuple_type | bag_type | map_type );
+    public final AliasMasker.type_return type() throws RecognitionException {
+        AliasMasker.type_return retval = new AliasMasker.type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.simple_type_return simple_type80 =null;
+
+        AliasMasker.tuple_type_return tuple_type81 =null;
+
+        AliasMasker.bag_type_return bag_type82 =null;
+
+        AliasMasker.map_type_return map_type83 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:215:6: ( simple_type | tuple_type | bag_type | map_type )
+            int alt23=4;
+            switch ( input.LA(1) ) {
+            case BIGDECIMAL:
+            case BIGINTEGER:
+            case BOOLEAN:
+            case BYTEARRAY:
+            case CHARARRAY:
+            case DATETIME:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+                {
+                alt23=1;
+                }
+                break;
+            case TUPLE_TYPE:
+                {
+                alt23=2;
+                }
+                break;
+            case BAG_TYPE:
+                {
+                alt23=3;
+                }
+                break;
+            case MAP_TYPE:
+                {
+                alt23=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 23, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt23) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:215:8: simple_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_simple_type_in_type894);
+                    simple_type80=simple_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, simple_type80.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:215:22: tuple_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_type_in_type898);
+                    tuple_type81=tuple_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, tuple_type81.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:215:35: bag_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bag_type_in_type902);
+                    bag_type82=bag_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bag_type82.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:215:46: map_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_map_type_in_type906);
+                    map_type83=map_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, map_type83.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "type"
+
+
+    public static class simple_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "simple_type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:218:1: simple_type : ( BOOLEAN | INT | LONG | FLOAT | DOUBLE | DATETIME | BIGINTEGER | BIGDECIMAL | CHARARRAY | BYTEARRAY );
+    public final AliasMasker.simple_type_return simple_type() throws RecognitionException {
+        AliasMasker.simple_type_return retval = new AliasMasker.simple_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set84=null;
+
+        CommonTree set84_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:219:5: ( BOOLEAN | INT | LONG | FLOAT | DOUBLE | DATETIME | BIGINTEGER | BIGDECIMAL | CHARARRAY | BYTEARRAY )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set84=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==BIGDECIMAL||input.LA(1)==BIGINTEGER||input.LA(1)==BOOLEAN||input.LA(1)==BYTEARRAY||input.LA(1)==CHARARRAY||input.LA(1)==DATETIME||input.LA(1)==DOUBLE||input.LA(1)==FLOAT||input.LA(1)==INT||input.LA(1)==LONG ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set84_tree = (CommonTree)adaptor.dupNode(set84);
+
+
+                adaptor.addChild(root_0, set84_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "simple_type"
+
+
+    public static class tuple_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tuple_type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:222:1: tuple_type : ^( TUPLE_TYPE ( field_def_list )? ) ;
+    public final AliasMasker.tuple_type_return tuple_type() throws RecognitionException {
+        AliasMasker.tuple_type_return retval = new AliasMasker.tuple_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree TUPLE_TYPE85=null;
+        AliasMasker.field_def_list_return field_def_list86 =null;
+
+
+        CommonTree TUPLE_TYPE85_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:223:5: ( ^( TUPLE_TYPE ( field_def_list )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:223:7: ^( TUPLE_TYPE ( field_def_list )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            TUPLE_TYPE85=(CommonTree)match(input,TUPLE_TYPE,FOLLOW_TUPLE_TYPE_in_tuple_type970); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            TUPLE_TYPE85_tree = (CommonTree)adaptor.dupNode(TUPLE_TYPE85);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_TYPE85_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:223:21: ( field_def_list )?
+                int alt24=2;
+                int LA24_0 = input.LA(1);
+
+                if ( ((LA24_0 >= FIELD_DEF && LA24_0 <= FIELD_DEF_WITHOUT_IDENTIFIER)) ) {
+                    alt24=1;
+                }
+                switch (alt24) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:223:21: field_def_list
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_field_def_list_in_tuple_type972);
+                        field_def_list86=field_def_list();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, field_def_list86.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tuple_type"
+
+
+    public static class bag_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bag_type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:226:1: bag_type : ^( BAG_TYPE ( IDENTIFIER )? ( tuple_type )? ) ;
+    public final AliasMasker.bag_type_return bag_type() throws RecognitionException {
+        AliasMasker.bag_type_return retval = new AliasMasker.bag_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BAG_TYPE87=null;
+        CommonTree IDENTIFIER88=null;
+        AliasMasker.tuple_type_return tuple_type89 =null;
+
+
+        CommonTree BAG_TYPE87_tree=null;
+        CommonTree IDENTIFIER88_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:227:5: ( ^( BAG_TYPE ( IDENTIFIER )? ( tuple_type )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:227:7: ^( BAG_TYPE ( IDENTIFIER )? ( tuple_type )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BAG_TYPE87=(CommonTree)match(input,BAG_TYPE,FOLLOW_BAG_TYPE_in_bag_type990); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BAG_TYPE87_tree = (CommonTree)adaptor.dupNode(BAG_TYPE87);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BAG_TYPE87_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:227:19: ( IDENTIFIER )?
+                int alt25=2;
+                int LA25_0 = input.LA(1);
+
+                if ( (LA25_0==IDENTIFIER) ) {
+                    alt25=1;
+                }
+                switch (alt25) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:227:19: IDENTIFIER
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        IDENTIFIER88=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_bag_type992); if (state.failed) return retval;
+                        if ( state.backtracking==0 ) {
+                        IDENTIFIER88_tree = (CommonTree)adaptor.dupNode(IDENTIFIER88);
+
+
+                        adaptor.addChild(root_1, IDENTIFIER88_tree);
+                        }
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:227:31: ( tuple_type )?
+                int alt26=2;
+                int LA26_0 = input.LA(1);
+
+                if ( (LA26_0==TUPLE_TYPE) ) {
+                    alt26=1;
+                }
+                switch (alt26) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:227:31: tuple_type
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_tuple_type_in_bag_type995);
+                        tuple_type89=tuple_type();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, tuple_type89.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bag_type"
+
+
+    public static class map_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "map_type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:1: map_type : ^( MAP_TYPE ( IDENTIFIER )? ( type )? ) ;
+    public final AliasMasker.map_type_return map_type() throws RecognitionException {
+        AliasMasker.map_type_return retval = new AliasMasker.map_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MAP_TYPE90=null;
+        CommonTree IDENTIFIER91=null;
+        AliasMasker.type_return type92 =null;
+
+
+        CommonTree MAP_TYPE90_tree=null;
+        CommonTree IDENTIFIER91_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:10: ( ^( MAP_TYPE ( IDENTIFIER )? ( type )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:12: ^( MAP_TYPE ( IDENTIFIER )? ( type )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            MAP_TYPE90=(CommonTree)match(input,MAP_TYPE,FOLLOW_MAP_TYPE_in_map_type1009); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            MAP_TYPE90_tree = (CommonTree)adaptor.dupNode(MAP_TYPE90);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(MAP_TYPE90_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:24: ( IDENTIFIER )?
+                int alt27=2;
+                int LA27_0 = input.LA(1);
+
+                if ( (LA27_0==IDENTIFIER) ) {
+                    alt27=1;
+                }
+                switch (alt27) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:24: IDENTIFIER
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        IDENTIFIER91=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_map_type1011); if (state.failed) return retval;
+                        if ( state.backtracking==0 ) {
+                        IDENTIFIER91_tree = (CommonTree)adaptor.dupNode(IDENTIFIER91);
+
+
+                        adaptor.addChild(root_1, IDENTIFIER91_tree);
+                        }
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:36: ( type )?
+                int alt28=2;
+                int LA28_0 = input.LA(1);
+
+                if ( (LA28_0==BIGDECIMAL||LA28_0==BIGINTEGER||LA28_0==BOOLEAN||LA28_0==BYTEARRAY||LA28_0==CHARARRAY||LA28_0==DATETIME||LA28_0==DOUBLE||LA28_0==FLOAT||LA28_0==INT||LA28_0==LONG||LA28_0==BAG_TYPE||LA28_0==MAP_TYPE||LA28_0==TUPLE_TYPE) ) {
+                    alt28=1;
+                }
+                switch (alt28) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:230:36: type
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_type_in_map_type1014);
+                        type92=type();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, type92.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "map_type"
+
+
+    public static class func_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:233:1: func_clause : ( ^( FUNC_REF func_name ) | ^( FUNC func_name ( func_args )? ) );
+    public final AliasMasker.func_clause_return func_clause() throws RecognitionException {
+        AliasMasker.func_clause_return retval = new AliasMasker.func_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FUNC_REF93=null;
+        CommonTree FUNC95=null;
+        AliasMasker.func_name_return func_name94 =null;
+
+        AliasMasker.func_name_return func_name96 =null;
+
+        AliasMasker.func_args_return func_args97 =null;
+
+
+        CommonTree FUNC_REF93_tree=null;
+        CommonTree FUNC95_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:234:5: ( ^( FUNC_REF func_name ) | ^( FUNC func_name ( func_args )? ) )
+            int alt30=2;
+            int LA30_0 = input.LA(1);
+
+            if ( (LA30_0==FUNC_REF) ) {
+                alt30=1;
+            }
+            else if ( (LA30_0==FUNC) ) {
+                alt30=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 30, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt30) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:234:7: ^( FUNC_REF func_name )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FUNC_REF93=(CommonTree)match(input,FUNC_REF,FOLLOW_FUNC_REF_in_func_clause1032); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FUNC_REF93_tree = (CommonTree)adaptor.dupNode(FUNC_REF93);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FUNC_REF93_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_name_in_func_clause1034);
+                    func_name94=func_name();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_name94.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:235:7: ^( FUNC func_name ( func_args )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FUNC95=(CommonTree)match(input,FUNC,FOLLOW_FUNC_in_func_clause1046); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FUNC95_tree = (CommonTree)adaptor.dupNode(FUNC95);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FUNC95_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_name_in_func_clause1048);
+                    func_name96=func_name();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_name96.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:235:25: ( func_args )?
+                    int alt29=2;
+                    int LA29_0 = input.LA(1);
+
+                    if ( (LA29_0==QUOTEDSTRING) ) {
+                        alt29=1;
+                    }
+                    switch (alt29) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:235:25: func_args
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            pushFollow(FOLLOW_func_args_in_func_clause1050);
+                            func_args97=func_args();
+
+                            state._fsp--;
+                            if (state.failed) return retval;
+                            if ( state.backtracking==0 ) 
+                            adaptor.addChild(root_1, func_args97.getTree());
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_clause"
+
+
+    public static class func_name_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_name"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:238:1: func_name : eid ( ( PERIOD | DOLLAR ) eid )* ;
+    public final AliasMasker.func_name_return func_name() throws RecognitionException {
+        AliasMasker.func_name_return retval = new AliasMasker.func_name_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set99=null;
+        AliasMasker.eid_return eid98 =null;
+
+        AliasMasker.eid_return eid100 =null;
+
+
+        CommonTree set99_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:239:5: ( eid ( ( PERIOD | DOLLAR ) eid )* )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:239:7: eid ( ( PERIOD | DOLLAR ) eid )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_eid_in_func_name1066);
+            eid98=eid();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, eid98.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:239:11: ( ( PERIOD | DOLLAR ) eid )*
+            loop31:
+            do {
+                int alt31=2;
+                int LA31_0 = input.LA(1);
+
+                if ( (LA31_0==DOLLAR||LA31_0==PERIOD) ) {
+                    alt31=1;
+                }
+
+
+                switch (alt31) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:239:13: ( PERIOD | DOLLAR ) eid
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    set99=(CommonTree)input.LT(1);
+
+            	    if ( input.LA(1)==DOLLAR||input.LA(1)==PERIOD ) {
+            	        input.consume();
+            	        if ( state.backtracking==0 ) {
+            	        set99_tree = (CommonTree)adaptor.dupNode(set99);
+
+
+            	        adaptor.addChild(root_0, set99_tree);
+            	        }
+
+            	        state.errorRecovery=false;
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return retval;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        throw mse;
+            	    }
+
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_eid_in_func_name1080);
+            	    eid100=eid();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, eid100.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop31;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_name"
+
+
+    public static class func_args_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_args"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:242:1: func_args : ( QUOTEDSTRING )+ ;
+    public final AliasMasker.func_args_return func_args() throws RecognitionException {
+        AliasMasker.func_args_return retval = new AliasMasker.func_args_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING101=null;
+
+        CommonTree QUOTEDSTRING101_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:243:5: ( ( QUOTEDSTRING )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:243:7: ( QUOTEDSTRING )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:243:7: ( QUOTEDSTRING )+
+            int cnt32=0;
+            loop32:
+            do {
+                int alt32=2;
+                int LA32_0 = input.LA(1);
+
+                if ( (LA32_0==QUOTEDSTRING) ) {
+                    alt32=1;
+                }
+
+
+                switch (alt32) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:243:7: QUOTEDSTRING
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    QUOTEDSTRING101=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_func_args1096); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    QUOTEDSTRING101_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING101);
+
+
+            	    adaptor.addChild(root_0, QUOTEDSTRING101_tree);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt32 >= 1 ) break loop32;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(32, input);
+                        throw eee;
+                }
+                cnt32++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_args"
+
+
+    public static class cube_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:246:1: cube_clause : ^( CUBE cube_item ) ;
+    public final AliasMasker.cube_clause_return cube_clause() throws RecognitionException {
+        AliasMasker.cube_clause_return retval = new AliasMasker.cube_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CUBE102=null;
+        AliasMasker.cube_item_return cube_item103 =null;
+
+
+        CommonTree CUBE102_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:247:5: ( ^( CUBE cube_item ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:247:7: ^( CUBE cube_item )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CUBE102=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_cube_clause1112); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CUBE102_tree = (CommonTree)adaptor.dupNode(CUBE102);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CUBE102_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_item_in_cube_clause1114);
+            cube_item103=cube_item();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cube_item103.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_clause"
+
+
+    public static class cube_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_item"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:250:1: cube_item : rel ( cube_by_clause ) ;
+    public final AliasMasker.cube_item_return cube_item() throws RecognitionException {
+        AliasMasker.cube_item_return retval = new AliasMasker.cube_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.rel_return rel104 =null;
+
+        AliasMasker.cube_by_clause_return cube_by_clause105 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:251:5: ( rel ( cube_by_clause ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:251:7: rel ( cube_by_clause )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_cube_item1129);
+            rel104=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, rel104.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:251:11: ( cube_by_clause )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:251:13: cube_by_clause
+            {
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_by_clause_in_cube_item1133);
+            cube_by_clause105=cube_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, cube_by_clause105.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_item"
+
+
+    public static class cube_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_by_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:254:1: cube_by_clause : ^( BY cube_or_rollup ) ;
+    public final AliasMasker.cube_by_clause_return cube_by_clause() throws RecognitionException {
+        AliasMasker.cube_by_clause_return retval = new AliasMasker.cube_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BY106=null;
+        AliasMasker.cube_or_rollup_return cube_or_rollup107 =null;
+
+
+        CommonTree BY106_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:255:5: ( ^( BY cube_or_rollup ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:255:7: ^( BY cube_or_rollup )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BY106=(CommonTree)match(input,BY,FOLLOW_BY_in_cube_by_clause1150); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BY106_tree = (CommonTree)adaptor.dupNode(BY106);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BY106_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_or_rollup_in_cube_by_clause1152);
+            cube_or_rollup107=cube_or_rollup();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cube_or_rollup107.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_by_clause"
+
+
+    public static class cube_or_rollup_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_or_rollup"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:258:1: cube_or_rollup : ( cube_rollup_list )+ ;
+    public final AliasMasker.cube_or_rollup_return cube_or_rollup() throws RecognitionException {
+        AliasMasker.cube_or_rollup_return retval = new AliasMasker.cube_or_rollup_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.cube_rollup_list_return cube_rollup_list108 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:259:5: ( ( cube_rollup_list )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:259:7: ( cube_rollup_list )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:259:7: ( cube_rollup_list )+
+            int cnt33=0;
+            loop33:
+            do {
+                int alt33=2;
+                int LA33_0 = input.LA(1);
+
+                if ( (LA33_0==CUBE||LA33_0==ROLLUP) ) {
+                    alt33=1;
+                }
+
+
+                switch (alt33) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:259:7: cube_rollup_list
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_cube_rollup_list_in_cube_or_rollup1167);
+            	    cube_rollup_list108=cube_rollup_list();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, cube_rollup_list108.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt33 >= 1 ) break loop33;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(33, input);
+                        throw eee;
+                }
+                cnt33++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_or_rollup"
+
+
+    public static class cube_rollup_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_rollup_list"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:262:1: cube_rollup_list : ^( ( CUBE | ROLLUP ) cube_by_expr_list ) ;
+    public final AliasMasker.cube_rollup_list_return cube_rollup_list() throws RecognitionException {
+        AliasMasker.cube_rollup_list_return retval = new AliasMasker.cube_rollup_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set109=null;
+        AliasMasker.cube_by_expr_list_return cube_by_expr_list110 =null;
+
+
+        CommonTree set109_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:263:5: ( ^( ( CUBE | ROLLUP ) cube_by_expr_list ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:263:7: ^( ( CUBE | ROLLUP ) cube_by_expr_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            set109=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==CUBE||input.LA(1)==ROLLUP ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set109_tree = (CommonTree)adaptor.dupNode(set109);
+
+
+                root_1 = (CommonTree)adaptor.becomeRoot(set109_tree, root_1);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_by_expr_list_in_cube_rollup_list1193);
+            cube_by_expr_list110=cube_by_expr_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cube_by_expr_list110.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_rollup_list"
+
+
+    public static class cube_by_expr_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_by_expr_list"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:266:1: cube_by_expr_list : ( cube_by_expr )+ ;
+    public final AliasMasker.cube_by_expr_list_return cube_by_expr_list() throws RecognitionException {
+        AliasMasker.cube_by_expr_list_return retval = new AliasMasker.cube_by_expr_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.cube_by_expr_return cube_by_expr111 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:267:5: ( ( cube_by_expr )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:267:7: ( cube_by_expr )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:267:7: ( cube_by_expr )+
+            int cnt34=0;
+            loop34:
+            do {
+                int alt34=2;
+                int LA34_0 = input.LA(1);
+
+                if ( (LA34_0==BIGDECIMALNUMBER||LA34_0==BIGINTEGERNUMBER||LA34_0==CUBE||LA34_0==DIV||LA34_0==DOLLARVAR||LA34_0==DOUBLENUMBER||LA34_0==FALSE||LA34_0==FLOATNUMBER||LA34_0==GROUP||LA34_0==IDENTIFIER||LA34_0==INTEGER||LA34_0==LONGINTEGER||LA34_0==MINUS||LA34_0==NULL||LA34_0==PERCENT||LA34_0==PLUS||LA34_0==QUOTEDSTRING||LA34_0==STAR||LA34_0==TRUE||(LA34_0 >= BAG_VAL && LA34_0 <= BIN_EXPR)||(LA34_0 >= CASE_COND && LA34_0 <= CASE_EXPR)||(LA34_0 >= CAST_EXPR && LA34_0 <= EXPR_IN_PAREN)||LA34_0==FUNC_EVAL||(LA34_0 >= MAP_VAL && LA34_0 <= NEG)||LA34_0==TUPLE_VAL) ) {
+                    alt34=1;
+                }
+
+
+                switch (alt34) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:267:7: cube_by_expr
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_cube_by_expr_in_cube_by_expr_list1208);
+            	    cube_by_expr111=cube_by_expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, cube_by_expr111.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt34 >= 1 ) break loop34;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(34, input);
+                        throw eee;
+                }
+                cnt34++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_by_expr_list"
+
+
+    public static class cube_by_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_by_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:270:1: cube_by_expr : ( col_range | expr | STAR );
+    public final AliasMasker.cube_by_expr_return cube_by_expr() throws RecognitionException {
+        AliasMasker.cube_by_expr_return retval = new AliasMasker.cube_by_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR114=null;
+        AliasMasker.col_range_return col_range112 =null;
+
+        AliasMasker.expr_return expr113 =null;
+
+
+        CommonTree STAR114_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:271:5: ( col_range | expr | STAR )
+            int alt35=3;
+            switch ( input.LA(1) ) {
+            case COL_RANGE:
+                {
+                alt35=1;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt35=2;
+                }
+                break;
+            case STAR:
+                {
+                int LA35_3 = input.LA(2);
+
+                if ( (LA35_3==DOWN) ) {
+                    alt35=2;
+                }
+                else if ( (LA35_3==EOF||LA35_3==UP||LA35_3==BIGDECIMALNUMBER||LA35_3==BIGINTEGERNUMBER||LA35_3==CUBE||LA35_3==DIV||LA35_3==DOLLARVAR||LA35_3==DOUBLENUMBER||LA35_3==FALSE||LA35_3==FLOATNUMBER||LA35_3==GROUP||LA35_3==IDENTIFIER||LA35_3==INTEGER||LA35_3==LONGINTEGER||LA35_3==MINUS||LA35_3==NULL||LA35_3==PERCENT||LA35_3==PLUS||LA35_3==QUOTEDSTRING||LA35_3==STAR||LA35_3==TRUE||(LA35_3 >= BAG_VAL && LA35_3 <= BIN_EXPR)||(LA35_3 >= CASE_COND && LA35_3 <= CASE_EXPR)||(LA35_3 >= CAST_EXPR && LA35_3 <= EXPR_IN_PAREN)||LA35_3==FUNC_EVAL||(LA35_3 >= MAP_VAL && LA35_3 <= NEG)||LA35_3==TUPLE_VAL) ) {
+                    alt35=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 35, 3, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 35, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt35) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:271:7: col_range
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_cube_by_expr1222);
+                    col_range112=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range112.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:271:19: expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cube_by_expr1226);
+                    expr113=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr113.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:271:26: STAR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR114=(CommonTree)match(input,STAR,FOLLOW_STAR_in_cube_by_expr1230); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR114_tree = (CommonTree)adaptor.dupNode(STAR114);
+
+
+                    adaptor.addChild(root_0, STAR114_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_by_expr"
+
+
+    public static class group_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "group_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:274:1: group_clause : ^( ( GROUP | COGROUP ) ( group_item )+ ( group_type )? ( partition_clause )? ) ;
+    public final AliasMasker.group_clause_return group_clause() throws RecognitionException {
+        AliasMasker.group_clause_return retval = new AliasMasker.group_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set115=null;
+        AliasMasker.group_item_return group_item116 =null;
+
+        AliasMasker.group_type_return group_type117 =null;
+
+        AliasMasker.partition_clause_return partition_clause118 =null;
+
+
+        CommonTree set115_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:5: ( ^( ( GROUP | COGROUP ) ( group_item )+ ( group_type )? ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:7: ^( ( GROUP | COGROUP ) ( group_item )+ ( group_type )? ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            set115=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==COGROUP||input.LA(1)==GROUP ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set115_tree = (CommonTree)adaptor.dupNode(set115);
+
+
+                root_1 = (CommonTree)adaptor.becomeRoot(set115_tree, root_1);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:30: ( group_item )+
+            int cnt36=0;
+            loop36:
+            do {
+                int alt36=2;
+                int LA36_0 = input.LA(1);
+
+                if ( (LA36_0==ASSERT||LA36_0==COGROUP||(LA36_0 >= CROSS && LA36_0 <= CUBE)||LA36_0==DEFINE||LA36_0==DISTINCT||LA36_0==FILTER||LA36_0==FOREACH||LA36_0==GROUP||LA36_0==IDENTIFIER||LA36_0==JOIN||(LA36_0 >= LIMIT && LA36_0 <= LOAD)||LA36_0==MAPREDUCE||LA36_0==ORDER||LA36_0==RANK||LA36_0==SAMPLE||LA36_0==SPLIT||(LA36_0 >= STORE && LA36_0 <= STREAM)||LA36_0==UNION) ) {
+                    alt36=1;
+                }
+
+
+                switch (alt36) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:30: group_item
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_group_item_in_group_clause1255);
+            	    group_item116=group_item();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, group_item116.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt36 >= 1 ) break loop36;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(36, input);
+                        throw eee;
+                }
+                cnt36++;
+            } while (true);
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:42: ( group_type )?
+            int alt37=2;
+            int LA37_0 = input.LA(1);
+
+            if ( (LA37_0==QUOTEDSTRING) ) {
+                alt37=1;
+            }
+            switch (alt37) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:42: group_type
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_group_type_in_group_clause1258);
+                    group_type117=group_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, group_type117.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:54: ( partition_clause )?
+            int alt38=2;
+            int LA38_0 = input.LA(1);
+
+            if ( (LA38_0==PARTITION) ) {
+                alt38=1;
+            }
+            switch (alt38) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:275:54: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_group_clause1261);
+                    partition_clause118=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause118.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "group_clause"
+
+
+    public static class group_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "group_type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:278:1: group_type : QUOTEDSTRING ;
+    public final AliasMasker.group_type_return group_type() throws RecognitionException {
+        AliasMasker.group_type_return retval = new AliasMasker.group_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING119=null;
+
+        CommonTree QUOTEDSTRING119_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:278:12: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:278:14: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING119=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_group_type1273); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING119_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING119);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING119_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "group_type"
+
+
+    public static class group_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "group_item"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:281:1: group_item : rel ( join_group_by_clause | ALL | ANY ) ( INNER | OUTER )? ;
+    public final AliasMasker.group_item_return group_item() throws RecognitionException {
+        AliasMasker.group_item_return retval = new AliasMasker.group_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ALL122=null;
+        CommonTree ANY123=null;
+        CommonTree set124=null;
+        AliasMasker.rel_return rel120 =null;
+
+        AliasMasker.join_group_by_clause_return join_group_by_clause121 =null;
+
+
+        CommonTree ALL122_tree=null;
+        CommonTree ANY123_tree=null;
+        CommonTree set124_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:5: ( rel ( join_group_by_clause | ALL | ANY ) ( INNER | OUTER )? )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:7: rel ( join_group_by_clause | ALL | ANY ) ( INNER | OUTER )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_group_item1286);
+            rel120=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, rel120.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:11: ( join_group_by_clause | ALL | ANY )
+            int alt39=3;
+            switch ( input.LA(1) ) {
+            case BY:
+                {
+                alt39=1;
+                }
+                break;
+            case ALL:
+                {
+                alt39=2;
+                }
+                break;
+            case ANY:
+                {
+                alt39=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 39, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt39) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:13: join_group_by_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_group_by_clause_in_group_item1290);
+                    join_group_by_clause121=join_group_by_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_group_by_clause121.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:36: ALL
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ALL122=(CommonTree)match(input,ALL,FOLLOW_ALL_in_group_item1294); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ALL122_tree = (CommonTree)adaptor.dupNode(ALL122);
+
+
+                    adaptor.addChild(root_0, ALL122_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:42: ANY
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ANY123=(CommonTree)match(input,ANY,FOLLOW_ANY_in_group_item1298); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ANY123_tree = (CommonTree)adaptor.dupNode(ANY123);
+
+
+                    adaptor.addChild(root_0, ANY123_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:282:48: ( INNER | OUTER )?
+            int alt40=2;
+            int LA40_0 = input.LA(1);
+
+            if ( (LA40_0==INNER||LA40_0==OUTER) ) {
+                alt40=1;
+            }
+            switch (alt40) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    set124=(CommonTree)input.LT(1);
+
+                    if ( input.LA(1)==INNER||input.LA(1)==OUTER ) {
+                        input.consume();
+                        if ( state.backtracking==0 ) {
+                        set124_tree = (CommonTree)adaptor.dupNode(set124);
+
+
+                        adaptor.addChild(root_0, set124_tree);
+                        }
+
+                        state.errorRecovery=false;
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "group_item"
+
+
+    public static class rel_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:285:1: rel : ( alias | ( op_clause ( parallel_clause )? ) );
+    public final AliasMasker.rel_return rel() throws RecognitionException {
+        AliasMasker.rel_return retval = new AliasMasker.rel_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.alias_return alias125 =null;
+
+        AliasMasker.op_clause_return op_clause126 =null;
+
+        AliasMasker.parallel_clause_return parallel_clause127 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:5: ( alias | ( op_clause ( parallel_clause )? ) )
+            int alt42=2;
+            int LA42_0 = input.LA(1);
+
+            if ( (LA42_0==IDENTIFIER) ) {
+                alt42=1;
+            }
+            else if ( (LA42_0==ASSERT||LA42_0==COGROUP||(LA42_0 >= CROSS && LA42_0 <= CUBE)||LA42_0==DEFINE||LA42_0==DISTINCT||LA42_0==FILTER||LA42_0==FOREACH||LA42_0==GROUP||LA42_0==JOIN||(LA42_0 >= LIMIT && LA42_0 <= LOAD)||LA42_0==MAPREDUCE||LA42_0==ORDER||LA42_0==RANK||LA42_0==SAMPLE||LA42_0==SPLIT||(LA42_0 >= STORE && LA42_0 <= STREAM)||LA42_0==UNION) ) {
+                alt42=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 42, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt42) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:7: alias
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_alias_in_rel1324);
+                    alias125=alias();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, alias125.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:15: ( op_clause ( parallel_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:15: ( op_clause ( parallel_clause )? )
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:17: op_clause ( parallel_clause )?
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_op_clause_in_rel1330);
+                    op_clause126=op_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, op_clause126.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:27: ( parallel_clause )?
+                    int alt41=2;
+                    int LA41_0 = input.LA(1);
+
+                    if ( (LA41_0==PARALLEL) ) {
+                        alt41=1;
+                    }
+                    switch (alt41) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:286:27: parallel_clause
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            pushFollow(FOLLOW_parallel_clause_in_rel1332);
+                            parallel_clause127=parallel_clause();
+
+                            state._fsp--;
+                            if (state.failed) return retval;
+                            if ( state.backtracking==0 ) 
+                            adaptor.addChild(root_0, parallel_clause127.getTree());
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel"
+
+
+    public static class flatten_generated_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "flatten_generated_item"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:289:1: flatten_generated_item : ( flatten_clause | col_range | expr | STAR ) ( field_def_list )? ;
+    public final AliasMasker.flatten_generated_item_return flatten_generated_item() throws RecognitionException {
+        AliasMasker.flatten_generated_item_return retval = new AliasMasker.flatten_generated_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR131=null;
+        AliasMasker.flatten_clause_return flatten_clause128 =null;
+
+        AliasMasker.col_range_return col_range129 =null;
+
+        AliasMasker.expr_return expr130 =null;
+
+        AliasMasker.field_def_list_return field_def_list132 =null;
+
+
+        CommonTree STAR131_tree=null;
+
+
+        	inAsOrGenClause = true;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:5: ( ( flatten_clause | col_range | expr | STAR ) ( field_def_list )? )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:7: ( flatten_clause | col_range | expr | STAR ) ( field_def_list )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:7: ( flatten_clause | col_range | expr | STAR )
+            int alt43=4;
+            switch ( input.LA(1) ) {
+            case FLATTEN:
+                {
+                alt43=1;
+                }
+                break;
+            case COL_RANGE:
+                {
+                alt43=2;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt43=3;
+                }
+                break;
+            case STAR:
+                {
+                int LA43_4 = input.LA(2);
+
+                if ( (LA43_4==DOWN) ) {
+                    alt43=3;
+                }
+                else if ( (LA43_4==EOF||LA43_4==UP||LA43_4==BIGDECIMALNUMBER||LA43_4==BIGINTEGERNUMBER||LA43_4==CUBE||LA43_4==DIV||LA43_4==DOLLARVAR||LA43_4==DOUBLENUMBER||LA43_4==FALSE||LA43_4==FLATTEN||LA43_4==FLOATNUMBER||LA43_4==GROUP||LA43_4==IDENTIFIER||LA43_4==INTEGER||LA43_4==LONGINTEGER||LA43_4==MINUS||LA43_4==NULL||LA43_4==PERCENT||LA43_4==PLUS||LA43_4==QUOTEDSTRING||LA43_4==STAR||LA43_4==TRUE||(LA43_4 >= BAG_VAL && LA43_4 <= BIN_EXPR)||(LA43_4 >= CASE_COND && LA43_4 <= CASE_EXPR)||(LA43_4 >= CAST_EXPR && LA43_4 <= FIELD_DEF_WITHOUT_IDENTIFIER)||LA43_4==FUNC_EVAL||(LA43_4 >= MAP_VAL && LA43_4 <= NEG)||LA43_4==TUPLE_VAL) ) {
+                    alt43=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 43, 4, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 43, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt43) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:9: flatten_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_flatten_clause_in_flatten_generated_item1360);
+                    flatten_clause128=flatten_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, flatten_clause128.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:26: col_range
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_flatten_generated_item1364);
+                    col_range129=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range129.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:38: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_flatten_generated_item1368);
+                    expr130=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr130.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:45: STAR
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    STAR131=(CommonTree)match(input,STAR,FOLLOW_STAR_in_flatten_generated_item1372); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR131_tree = (CommonTree)adaptor.dupNode(STAR131);
+
+
+                    adaptor.addChild(root_0, STAR131_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:52: ( field_def_list )?
+            int alt44=2;
+            int LA44_0 = input.LA(1);
+
+            if ( ((LA44_0 >= FIELD_DEF && LA44_0 <= FIELD_DEF_WITHOUT_IDENTIFIER)) ) {
+                alt44=1;
+            }
+            switch (alt44) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:296:52: field_def_list
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_field_def_list_in_flatten_generated_item1376);
+                    field_def_list132=field_def_list();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, field_def_list132.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+            if ( state.backtracking==0 ) {
+            	inAsOrGenClause = false;
+            }
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "flatten_generated_item"
+
+
+    public static class flatten_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "flatten_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:299:1: flatten_clause : ^( FLATTEN expr ) ;
+    public final AliasMasker.flatten_clause_return flatten_clause() throws RecognitionException {
+        AliasMasker.flatten_clause_return retval = new AliasMasker.flatten_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FLATTEN133=null;
+        AliasMasker.expr_return expr134 =null;
+
+
+        CommonTree FLATTEN133_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:300:5: ( ^( FLATTEN expr ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:300:7: ^( FLATTEN expr )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FLATTEN133=(CommonTree)match(input,FLATTEN,FOLLOW_FLATTEN_in_flatten_clause1392); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FLATTEN133_tree = (CommonTree)adaptor.dupNode(FLATTEN133);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FLATTEN133_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_flatten_clause1394);
+            expr134=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, expr134.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "flatten_clause"
+
+
+    public static class store_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "store_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:303:1: store_clause : ^( STORE alias filename ( func_clause )? ) ;
+    public final AliasMasker.store_clause_return store_clause() throws RecognitionException {
+        AliasMasker.store_clause_return retval = new AliasMasker.store_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STORE135=null;
+        AliasMasker.alias_return alias136 =null;
+
+        AliasMasker.filename_return filename137 =null;
+
+        AliasMasker.func_clause_return func_clause138 =null;
+
+
+        CommonTree STORE135_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:304:5: ( ^( STORE alias filename ( func_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:304:7: ^( STORE alias filename ( func_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STORE135=(CommonTree)match(input,STORE,FOLLOW_STORE_in_store_clause1411); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STORE135_tree = (CommonTree)adaptor.dupNode(STORE135);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STORE135_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_store_clause1413);
+            alias136=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias136.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_filename_in_store_clause1415);
+            filename137=filename();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, filename137.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:304:31: ( func_clause )?
+            int alt45=2;
+            int LA45_0 = input.LA(1);
+
+            if ( (LA45_0==FUNC||LA45_0==FUNC_REF) ) {
+                alt45=1;
+            }
+            switch (alt45) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:304:31: func_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_store_clause1417);
+                    func_clause138=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause138.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "store_clause"
+
+
+    public static class assert_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "assert_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:307:1: assert_clause : ^( ASSERT alias cond ( comment )? ) ;
+    public final AliasMasker.assert_clause_return assert_clause() throws RecognitionException {
+        AliasMasker.assert_clause_return retval = new AliasMasker.assert_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ASSERT139=null;
+        AliasMasker.alias_return alias140 =null;
+
+        AliasMasker.cond_return cond141 =null;
+
+        AliasMasker.comment_return comment142 =null;
+
+
+        CommonTree ASSERT139_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:308:5: ( ^( ASSERT alias cond ( comment )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:308:7: ^( ASSERT alias cond ( comment )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            ASSERT139=(CommonTree)match(input,ASSERT,FOLLOW_ASSERT_in_assert_clause1435); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            ASSERT139_tree = (CommonTree)adaptor.dupNode(ASSERT139);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(ASSERT139_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_assert_clause1437);
+            alias140=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias140.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_assert_clause1439);
+            cond141=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond141.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:308:28: ( comment )?
+            int alt46=2;
+            int LA46_0 = input.LA(1);
+
+            if ( (LA46_0==QUOTEDSTRING) ) {
+                alt46=1;
+            }
+            switch (alt46) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:308:28: comment
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_comment_in_assert_clause1441);
+                    comment142=comment();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, comment142.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "assert_clause"
+
+
+    public static class comment_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "comment"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:311:1: comment : QUOTEDSTRING ;
+    public final AliasMasker.comment_return comment() throws RecognitionException {
+        AliasMasker.comment_return retval = new AliasMasker.comment_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING143=null;
+
+        CommonTree QUOTEDSTRING143_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:311:9: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:311:11: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING143=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_comment1453); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING143_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING143);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING143_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "comment"
+
+
+    public static class filter_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "filter_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:314:1: filter_clause : ^( FILTER rel cond ) ;
+    public final AliasMasker.filter_clause_return filter_clause() throws RecognitionException {
+        AliasMasker.filter_clause_return retval = new AliasMasker.filter_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FILTER144=null;
+        AliasMasker.rel_return rel145 =null;
+
+        AliasMasker.cond_return cond146 =null;
+
+
+        CommonTree FILTER144_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:315:5: ( ^( FILTER rel cond ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:315:7: ^( FILTER rel cond )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FILTER144=(CommonTree)match(input,FILTER,FOLLOW_FILTER_in_filter_clause1468); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FILTER144_tree = (CommonTree)adaptor.dupNode(FILTER144);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FILTER144_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_filter_clause1470);
+            rel145=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel145.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_filter_clause1472);
+            cond146=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond146.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "filter_clause"
+
+
+    public static class cond_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cond"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:318:1: cond : ( ^( OR cond cond ) | ^( AND cond cond ) | ^( NOT cond ) | ^( NULL expr ( NOT )? ) | ^( rel_op expr expr ) | in_eval | func_eval | ^( BOOL_COND expr ) );
+    public final AliasMasker.cond_return cond() throws RecognitionException {
+        AliasMasker.cond_return retval = new AliasMasker.cond_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree OR147=null;
+        CommonTree AND150=null;
+        CommonTree NOT153=null;
+        CommonTree NULL155=null;
+        CommonTree NOT157=null;
+        CommonTree BOOL_COND163=null;
+        AliasMasker.cond_return cond148 =null;
+
+        AliasMasker.cond_return cond149 =null;
+
+        AliasMasker.cond_return cond151 =null;
+
+        AliasMasker.cond_return cond152 =null;
+
+        AliasMasker.cond_return cond154 =null;
+
+        AliasMasker.expr_return expr156 =null;
+
+        AliasMasker.rel_op_return rel_op158 =null;
+
+        AliasMasker.expr_return expr159 =null;
+
+        AliasMasker.expr_return expr160 =null;
+
+        AliasMasker.in_eval_return in_eval161 =null;
+
+        AliasMasker.func_eval_return func_eval162 =null;
+
+        AliasMasker.expr_return expr164 =null;
+
+
+        CommonTree OR147_tree=null;
+        CommonTree AND150_tree=null;
+        CommonTree NOT153_tree=null;
+        CommonTree NULL155_tree=null;
+        CommonTree NOT157_tree=null;
+        CommonTree BOOL_COND163_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:319:5: ( ^( OR cond cond ) | ^( AND cond cond ) | ^( NOT cond ) | ^( NULL expr ( NOT )? ) | ^( rel_op expr expr ) | in_eval | func_eval | ^( BOOL_COND expr ) )
+            int alt48=8;
+            switch ( input.LA(1) ) {
+            case OR:
+                {
+                alt48=1;
+                }
+                break;
+            case AND:
+                {
+                alt48=2;
+                }
+                break;
+            case NOT:
+                {
+                alt48=3;
+                }
+                break;
+            case NULL:
+                {
+                alt48=4;
+                }
+                break;
+            case NUM_OP_EQ:
+            case NUM_OP_GT:
+            case NUM_OP_GTE:
+            case NUM_OP_LT:
+            case NUM_OP_LTE:
+            case NUM_OP_NE:
+            case STR_OP_EQ:
+            case STR_OP_GT:
+            case STR_OP_GTE:
+            case STR_OP_LT:
+            case STR_OP_LTE:
+            case STR_OP_MATCHES:
+            case STR_OP_NE:
+                {
+                alt48=5;
+                }
+                break;
+            case IN:
+                {
+                alt48=6;
+                }
+                break;
+            case FUNC_EVAL:
+                {
+                alt48=7;
+                }
+                break;
+            case BOOL_COND:
+                {
+                alt48=8;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 48, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt48) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:319:7: ^( OR cond cond )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    OR147=(CommonTree)match(input,OR,FOLLOW_OR_in_cond1489); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OR147_tree = (CommonTree)adaptor.dupNode(OR147);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(OR147_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond1491);
+                    cond148=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond148.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond1493);
+                    cond149=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond149.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:320:7: ^( AND cond cond )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    AND150=(CommonTree)match(input,AND,FOLLOW_AND_in_cond1505); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    AND150_tree = (CommonTree)adaptor.dupNode(AND150);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(AND150_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond1507);
+                    cond151=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond151.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond1509);
+                    cond152=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond152.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:321:7: ^( NOT cond )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NOT153=(CommonTree)match(input,NOT,FOLLOW_NOT_in_cond1521); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NOT153_tree = (CommonTree)adaptor.dupNode(NOT153);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NOT153_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond1523);
+                    cond154=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond154.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:322:7: ^( NULL expr ( NOT )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NULL155=(CommonTree)match(input,NULL,FOLLOW_NULL_in_cond1535); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL155_tree = (CommonTree)adaptor.dupNode(NULL155);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NULL155_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond1537);
+                    expr156=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr156.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:322:20: ( NOT )?
+                    int alt47=2;
+                    int LA47_0 = input.LA(1);
+
+                    if ( (LA47_0==NOT) ) {
+                        alt47=1;
+                    }
+                    switch (alt47) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:322:20: NOT
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            NOT157=(CommonTree)match(input,NOT,FOLLOW_NOT_in_cond1539); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            NOT157_tree = (CommonTree)adaptor.dupNode(NOT157);
+
+
+                            adaptor.addChild(root_1, NOT157_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:323:7: ^( rel_op expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_in_cond1552);
+                    rel_op158=rel_op();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) root_1 = (CommonTree)adaptor.becomeRoot(rel_op158.getTree(), root_1);
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond1554);
+                    expr159=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr159.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond1556);
+                    expr160=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr160.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:324:7: in_eval
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_in_eval_in_cond1566);
+                    in_eval161=in_eval();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, in_eval161.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:325:7: func_eval
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_eval_in_cond1574);
+                    func_eval162=func_eval();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, func_eval162.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:326:7: ^( BOOL_COND expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    BOOL_COND163=(CommonTree)match(input,BOOL_COND,FOLLOW_BOOL_COND_in_cond1584); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BOOL_COND163_tree = (CommonTree)adaptor.dupNode(BOOL_COND163);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(BOOL_COND163_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond1586);
+                    expr164=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr164.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cond"
+
+
+    public static class in_eval_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "in_eval"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:329:1: in_eval : ^( IN ( ^( IN_LHS expr ) ^( IN_RHS expr ) )+ ) ;
+    public final AliasMasker.in_eval_return in_eval() throws RecognitionException {
+        AliasMasker.in_eval_return retval = new AliasMasker.in_eval_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IN165=null;
+        CommonTree IN_LHS166=null;
+        CommonTree IN_RHS168=null;
+        AliasMasker.expr_return expr167 =null;
+
+        AliasMasker.expr_return expr169 =null;
+
+
+        CommonTree IN165_tree=null;
+        CommonTree IN_LHS166_tree=null;
+        CommonTree IN_RHS168_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:330:5: ( ^( IN ( ^( IN_LHS expr ) ^( IN_RHS expr ) )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:330:7: ^( IN ( ^( IN_LHS expr ) ^( IN_RHS expr ) )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            IN165=(CommonTree)match(input,IN,FOLLOW_IN_in_in_eval1603); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IN165_tree = (CommonTree)adaptor.dupNode(IN165);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(IN165_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:330:13: ( ^( IN_LHS expr ) ^( IN_RHS expr ) )+
+            int cnt49=0;
+            loop49:
+            do {
+                int alt49=2;
+                int LA49_0 = input.LA(1);
+
+                if ( (LA49_0==IN_LHS) ) {
+                    alt49=1;
+                }
+
+
+                switch (alt49) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:330:15: ^( IN_LHS expr ) ^( IN_RHS expr )
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    IN_LHS166=(CommonTree)match(input,IN_LHS,FOLLOW_IN_LHS_in_in_eval1609); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    IN_LHS166_tree = (CommonTree)adaptor.dupNode(IN_LHS166);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(IN_LHS166_tree, root_2);
+            	    }
+
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_in_eval1611);
+            	    expr167=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr167.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    IN_RHS168=(CommonTree)match(input,IN_RHS,FOLLOW_IN_RHS_in_in_eval1617); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    IN_RHS168_tree = (CommonTree)adaptor.dupNode(IN_RHS168);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(IN_RHS168_tree, root_2);
+            	    }
+
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_in_eval1619);
+            	    expr169=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr169.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt49 >= 1 ) break loop49;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(49, input);
+                        throw eee;
+                }
+                cnt49++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "in_eval"
+
+
+    public static class func_eval_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_eval"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:333:1: func_eval : ^( FUNC_EVAL func_name ( real_arg )* ) ;
+    public final AliasMasker.func_eval_return func_eval() throws RecognitionException {
+        AliasMasker.func_eval_return retval = new AliasMasker.func_eval_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FUNC_EVAL170=null;
+        AliasMasker.func_name_return func_name171 =null;
+
+        AliasMasker.real_arg_return real_arg172 =null;
+
+
+        CommonTree FUNC_EVAL170_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:334:5: ( ^( FUNC_EVAL func_name ( real_arg )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:334:7: ^( FUNC_EVAL func_name ( real_arg )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FUNC_EVAL170=(CommonTree)match(input,FUNC_EVAL,FOLLOW_FUNC_EVAL_in_func_eval1641); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FUNC_EVAL170_tree = (CommonTree)adaptor.dupNode(FUNC_EVAL170);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FUNC_EVAL170_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_func_name_in_func_eval1643);
+            func_name171=func_name();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, func_name171.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:334:30: ( real_arg )*
+            loop50:
+            do {
+                int alt50=2;
+                int LA50_0 = input.LA(1);
+
+                if ( (LA50_0==BIGDECIMALNUMBER||LA50_0==BIGINTEGERNUMBER||LA50_0==CUBE||LA50_0==DIV||LA50_0==DOLLARVAR||LA50_0==DOUBLENUMBER||LA50_0==FALSE||LA50_0==FLOATNUMBER||LA50_0==GROUP||LA50_0==IDENTIFIER||LA50_0==INTEGER||LA50_0==LONGINTEGER||LA50_0==MINUS||LA50_0==NULL||LA50_0==PERCENT||LA50_0==PLUS||LA50_0==QUOTEDSTRING||LA50_0==STAR||LA50_0==TRUE||(LA50_0 >= BAG_VAL && LA50_0 <= BIN_EXPR)||(LA50_0 >= CASE_COND && LA50_0 <= CASE_EXPR)||LA50_0==CAST_EXPR||LA50_0==EXPR_IN_PAREN||LA50_0==FUNC_EVAL||(LA50_0 >= MAP_VAL && LA50_0 <= NEG)||LA50_0==TUPLE_VAL) ) {
+                    alt50=1;
+                }
+
+
+                switch (alt50) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:334:30: real_arg
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_real_arg_in_func_eval1645);
+            	    real_arg172=real_arg();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, real_arg172.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop50;
+                }
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_eval"
+
+
+    public static class real_arg_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "real_arg"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:337:1: real_arg : ( expr | STAR );
+    public final AliasMasker.real_arg_return real_arg() throws RecognitionException {
+        AliasMasker.real_arg_return retval = new AliasMasker.real_arg_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR174=null;
+        AliasMasker.expr_return expr173 =null;
+
+
+        CommonTree STAR174_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:338:5: ( expr | STAR )
+            int alt51=2;
+            int LA51_0 = input.LA(1);
+
+            if ( (LA51_0==BIGDECIMALNUMBER||LA51_0==BIGINTEGERNUMBER||LA51_0==CUBE||LA51_0==DIV||LA51_0==DOLLARVAR||LA51_0==DOUBLENUMBER||LA51_0==FALSE||LA51_0==FLOATNUMBER||LA51_0==GROUP||LA51_0==IDENTIFIER||LA51_0==INTEGER||LA51_0==LONGINTEGER||LA51_0==MINUS||LA51_0==NULL||LA51_0==PERCENT||LA51_0==PLUS||LA51_0==QUOTEDSTRING||LA51_0==TRUE||(LA51_0 >= BAG_VAL && LA51_0 <= BIN_EXPR)||(LA51_0 >= CASE_COND && LA51_0 <= CASE_EXPR)||LA51_0==CAST_EXPR||LA51_0==EXPR_IN_PAREN||LA51_0==FUNC_EVAL||(LA51_0 >= MAP_VAL && LA51_0 <= NEG)||LA51_0==TUPLE_VAL) ) {
+                alt51=1;
+            }
+            else if ( (LA51_0==STAR) ) {
+                int LA51_2 = input.LA(2);
+
+                if ( (LA51_2==DOWN) ) {
+                    alt51=1;
+                }
+                else if ( (LA51_2==EOF||LA51_2==UP||LA51_2==BIGDECIMALNUMBER||LA51_2==BIGINTEGERNUMBER||LA51_2==CUBE||LA51_2==DIV||LA51_2==DOLLARVAR||LA51_2==DOUBLENUMBER||LA51_2==FALSE||LA51_2==FLOATNUMBER||LA51_2==GROUP||LA51_2==IDENTIFIER||LA51_2==INTEGER||LA51_2==LONGINTEGER||LA51_2==MINUS||LA51_2==NULL||LA51_2==PERCENT||LA51_2==PLUS||LA51_2==QUOTEDSTRING||LA51_2==STAR||LA51_2==TRUE||(LA51_2 >= BAG_VAL && LA51_2 <= BIN_EXPR)||(LA51_2 >= CASE_COND && LA51_2 <= CASE_EXPR)||LA51_2==CAST_EXPR||LA51_2==EXPR_IN_PAREN||LA51_2==FUNC_EVAL||(LA51_2 >= MAP_VAL && LA51_2 <= NEG)||LA51_2==TUPLE_VAL) ) {
+                    alt51=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 51, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 51, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt51) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:338:7: expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_real_arg1661);
+                    expr173=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr173.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:338:14: STAR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR174=(CommonTree)match(input,STAR,FOLLOW_STAR_in_real_arg1665); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR174_tree = (CommonTree)adaptor.dupNode(STAR174);
+
+
+                    adaptor.addChild(root_0, STAR174_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "real_arg"
+
+
+    public static class expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:341:1: expr : ( ^( PLUS expr expr ) | ^( MINUS expr expr ) | ^( STAR expr expr ) | ^( DIV expr expr ) | ^( PERCENT expr expr ) | ^( CAST_EXPR type expr ) | const_expr | var_expr | ^( NEG expr ) | ^( CAST_EXPR type_cast expr ) | ^( EXPR_IN_PAREN expr ) );
+    public final AliasMasker.expr_return expr() throws RecognitionException {
+        AliasMasker.expr_return retval = new AliasMasker.expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PLUS175=null;
+        CommonTree MINUS178=null;
+        CommonTree STAR181=null;
+        CommonTree DIV184=null;
+        CommonTree PERCENT187=null;
+        CommonTree CAST_EXPR190=null;
+        CommonTree NEG195=null;
+        CommonTree CAST_EXPR197=null;
+        CommonTree EXPR_IN_PAREN200=null;
+        AliasMasker.expr_return expr176 =null;
+
+        AliasMasker.expr_return expr177 =null;
+
+        AliasMasker.expr_return expr179 =null;
+
+        AliasMasker.expr_return expr180 =null;
+
+        AliasMasker.expr_return expr182 =null;
+
+        AliasMasker.expr_return expr183 =null;
+
+        AliasMasker.expr_return expr185 =null;
+
+        AliasMasker.expr_return expr186 =null;
+
+        AliasMasker.expr_return expr188 =null;
+
+        AliasMasker.expr_return expr189 =null;
+
+        AliasMasker.type_return type191 =null;
+
+        AliasMasker.expr_return expr192 =null;
+
+        AliasMasker.const_expr_return const_expr193 =null;
+
+        AliasMasker.var_expr_return var_expr194 =null;
+
+        AliasMasker.expr_return expr196 =null;
+
+        AliasMasker.type_cast_return type_cast198 =null;
+
+        AliasMasker.expr_return expr199 =null;
+
+        AliasMasker.expr_return expr201 =null;
+
+
+        CommonTree PLUS175_tree=null;
+        CommonTree MINUS178_tree=null;
+        CommonTree STAR181_tree=null;
+        CommonTree DIV184_tree=null;
+        CommonTree PERCENT187_tree=null;
+        CommonTree CAST_EXPR190_tree=null;
+        CommonTree NEG195_tree=null;
+        CommonTree CAST_EXPR197_tree=null;
+        CommonTree EXPR_IN_PAREN200_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:342:5: ( ^( PLUS expr expr ) | ^( MINUS expr expr ) | ^( STAR expr expr ) | ^( DIV expr expr ) | ^( PERCENT expr expr ) | ^( CAST_EXPR type expr ) | const_expr | var_expr | ^( NEG expr ) | ^( CAST_EXPR type_cast expr ) | ^( EXPR_IN_PAREN expr ) )
+            int alt52=11;
+            switch ( input.LA(1) ) {
+            case PLUS:
+                {
+                alt52=1;
+                }
+                break;
+            case MINUS:
+                {
+                int LA52_2 = input.LA(2);
+
+                if ( (synpred102_AliasMasker()) ) {
+                    alt52=2;
+                }
+                else if ( (synpred107_AliasMasker()) ) {
+                    alt52=7;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 52, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case STAR:
+                {
+                alt52=3;
+                }
+                break;
+            case DIV:
+                {
+                alt52=4;
+                }
+                break;
+            case PERCENT:
+                {
+                alt52=5;
+                }
+                break;
+            case CAST_EXPR:
+                {
+                int LA52_6 = input.LA(2);
+
+                if ( (synpred106_AliasMasker()) ) {
+                    alt52=6;
+                }
+                else if ( (synpred110_AliasMasker()) ) {
+                    alt52=10;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 52, 6, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case INTEGER:
+            case LONGINTEGER:
+            case NULL:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case MAP_VAL:
+            case TUPLE_VAL:
+                {
+                alt52=7;
+                }
+                break;
+            case CUBE:
+            case DOLLARVAR:
+            case GROUP:
+            case IDENTIFIER:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case FUNC_EVAL:
+                {
+                alt52=8;
+                }
+                break;
+            case NEG:
+                {
+                alt52=9;
+                }
+                break;
+            case EXPR_IN_PAREN:
+                {
+                alt52=11;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 52, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt52) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:342:7: ^( PLUS expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    PLUS175=(CommonTree)match(input,PLUS,FOLLOW_PLUS_in_expr1680); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PLUS175_tree = (CommonTree)adaptor.dupNode(PLUS175);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(PLUS175_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1682);
+                    expr176=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr176.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1684);
+                    expr177=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr177.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:343:7: ^( MINUS expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    MINUS178=(CommonTree)match(input,MINUS,FOLLOW_MINUS_in_expr1696); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MINUS178_tree = (CommonTree)adaptor.dupNode(MINUS178);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(MINUS178_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1698);
+                    expr179=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr179.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1700);
+                    expr180=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr180.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:344:7: ^( STAR expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    STAR181=(CommonTree)match(input,STAR,FOLLOW_STAR_in_expr1712); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR181_tree = (CommonTree)adaptor.dupNode(STAR181);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(STAR181_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1714);
+                    expr182=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr182.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1716);
+                    expr183=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr183.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:345:7: ^( DIV expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    DIV184=(CommonTree)match(input,DIV,FOLLOW_DIV_in_expr1728); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DIV184_tree = (CommonTree)adaptor.dupNode(DIV184);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(DIV184_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1730);
+                    expr185=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr185.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1732);
+                    expr186=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr186.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:346:7: ^( PERCENT expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    PERCENT187=(CommonTree)match(input,PERCENT,FOLLOW_PERCENT_in_expr1744); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PERCENT187_tree = (CommonTree)adaptor.dupNode(PERCENT187);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(PERCENT187_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1746);
+                    expr188=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr188.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1748);
+                    expr189=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr189.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:347:7: ^( CAST_EXPR type expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    CAST_EXPR190=(CommonTree)match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_expr1760); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CAST_EXPR190_tree = (CommonTree)adaptor.dupNode(CAST_EXPR190);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(CAST_EXPR190_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_in_expr1762);
+                    type191=type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type191.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1764);
+                    expr192=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr192.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:348:7: const_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_const_expr_in_expr1774);
+                    const_expr193=const_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, const_expr193.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:349:7: var_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_var_expr_in_expr1782);
+                    var_expr194=var_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, var_expr194.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:350:7: ^( NEG expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NEG195=(CommonTree)match(input,NEG,FOLLOW_NEG_in_expr1792); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NEG195_tree = (CommonTree)adaptor.dupNode(NEG195);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NEG195_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1794);
+                    expr196=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr196.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:351:7: ^( CAST_EXPR type_cast expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    CAST_EXPR197=(CommonTree)match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_expr1806); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CAST_EXPR197_tree = (CommonTree)adaptor.dupNode(CAST_EXPR197);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(CAST_EXPR197_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_cast_in_expr1808);
+                    type_cast198=type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type_cast198.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1810);
+                    expr199=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr199.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:352:7: ^( EXPR_IN_PAREN expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    EXPR_IN_PAREN200=(CommonTree)match(input,EXPR_IN_PAREN,FOLLOW_EXPR_IN_PAREN_in_expr1822); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EXPR_IN_PAREN200_tree = (CommonTree)adaptor.dupNode(EXPR_IN_PAREN200);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(EXPR_IN_PAREN200_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr1824);
+                    expr201=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr201.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "expr"
+
+
+    public static class type_cast_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "type_cast"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:355:1: type_cast : ( simple_type | map_type | tuple_type_cast | bag_type_cast );
+    public final AliasMasker.type_cast_return type_cast() throws RecognitionException {
+        AliasMasker.type_cast_return retval = new AliasMasker.type_cast_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.simple_type_return simple_type202 =null;
+
+        AliasMasker.map_type_return map_type203 =null;
+
+        AliasMasker.tuple_type_cast_return tuple_type_cast204 =null;
+
+        AliasMasker.bag_type_cast_return bag_type_cast205 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:356:5: ( simple_type | map_type | tuple_type_cast | bag_type_cast )
+            int alt53=4;
+            switch ( input.LA(1) ) {
+            case BIGDECIMAL:
+            case BIGINTEGER:
+            case BOOLEAN:
+            case BYTEARRAY:
+            case CHARARRAY:
+            case DATETIME:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+                {
+                alt53=1;
+                }
+                break;
+            case MAP_TYPE:
+                {
+                alt53=2;
+                }
+                break;
+            case TUPLE_TYPE_CAST:
+                {
+                alt53=3;
+                }
+                break;
+            case BAG_TYPE_CAST:
+                {
+                alt53=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 53, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt53) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:356:7: simple_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_simple_type_in_type_cast1839);
+                    simple_type202=simple_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, simple_type202.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:356:21: map_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_map_type_in_type_cast1843);
+                    map_type203=map_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, map_type203.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:356:32: tuple_type_cast
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_type_cast_in_type_cast1847);
+                    tuple_type_cast204=tuple_type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, tuple_type_cast204.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:356:50: bag_type_cast
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bag_type_cast_in_type_cast1851);
+                    bag_type_cast205=bag_type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bag_type_cast205.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "type_cast"
+
+
+    public static class tuple_type_cast_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tuple_type_cast"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:359:1: tuple_type_cast : ^( TUPLE_TYPE_CAST ( type_cast )* ) ;
+    public final AliasMasker.tuple_type_cast_return tuple_type_cast() throws RecognitionException {
+        AliasMasker.tuple_type_cast_return retval = new AliasMasker.tuple_type_cast_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree TUPLE_TYPE_CAST206=null;
+        AliasMasker.type_cast_return type_cast207 =null;
+
+
+        CommonTree TUPLE_TYPE_CAST206_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:360:5: ( ^( TUPLE_TYPE_CAST ( type_cast )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:360:7: ^( TUPLE_TYPE_CAST ( type_cast )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            TUPLE_TYPE_CAST206=(CommonTree)match(input,TUPLE_TYPE_CAST,FOLLOW_TUPLE_TYPE_CAST_in_tuple_type_cast1866); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            TUPLE_TYPE_CAST206_tree = (CommonTree)adaptor.dupNode(TUPLE_TYPE_CAST206);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_TYPE_CAST206_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:360:26: ( type_cast )*
+                loop54:
+                do {
+                    int alt54=2;
+                    int LA54_0 = input.LA(1);
+
+                    if ( (LA54_0==BIGDECIMAL||LA54_0==BIGINTEGER||LA54_0==BOOLEAN||LA54_0==BYTEARRAY||LA54_0==CHARARRAY||LA54_0==DATETIME||LA54_0==DOUBLE||LA54_0==FLOAT||LA54_0==INT||LA54_0==LONG||LA54_0==BAG_TYPE_CAST||LA54_0==MAP_TYPE||LA54_0==TUPLE_TYPE_CAST) ) {
+                        alt54=1;
+                    }
+
+
+                    switch (alt54) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:360:26: type_cast
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_type_cast_in_tuple_type_cast1868);
+                	    type_cast207=type_cast();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, type_cast207.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop54;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tuple_type_cast"
+
+
+    public static class bag_type_cast_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bag_type_cast"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:363:1: bag_type_cast : ^( BAG_TYPE_CAST ( tuple_type_cast )? ) ;
+    public final AliasMasker.bag_type_cast_return bag_type_cast() throws RecognitionException {
+        AliasMasker.bag_type_cast_return retval = new AliasMasker.bag_type_cast_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BAG_TYPE_CAST208=null;
+        AliasMasker.tuple_type_cast_return tuple_type_cast209 =null;
+
+
+        CommonTree BAG_TYPE_CAST208_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:364:5: ( ^( BAG_TYPE_CAST ( tuple_type_cast )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:364:7: ^( BAG_TYPE_CAST ( tuple_type_cast )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BAG_TYPE_CAST208=(CommonTree)match(input,BAG_TYPE_CAST,FOLLOW_BAG_TYPE_CAST_in_bag_type_cast1886); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BAG_TYPE_CAST208_tree = (CommonTree)adaptor.dupNode(BAG_TYPE_CAST208);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BAG_TYPE_CAST208_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:364:24: ( tuple_type_cast )?
+                int alt55=2;
+                int LA55_0 = input.LA(1);
+
+                if ( (LA55_0==TUPLE_TYPE_CAST) ) {
+                    alt55=1;
+                }
+                switch (alt55) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AliasMasker.g:364:24: tuple_type_cast
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_tuple_type_cast_in_bag_type_cast1888);
+                        tuple_type_cast209=tuple_type_cast();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, tuple_type_cast209.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bag_type_cast"
+
+
+    public static class var_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "var_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:367:1: var_expr : projectable_expr ( dot_proj | pound_proj )* ;
+    public final AliasMasker.var_expr_return var_expr() throws RecognitionException {
+        AliasMasker.var_expr_return retval = new AliasMasker.var_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.projectable_expr_return projectable_expr210 =null;
+
+        AliasMasker.dot_proj_return dot_proj211 =null;
+
+        AliasMasker.pound_proj_return pound_proj212 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:368:5: ( projectable_expr ( dot_proj | pound_proj )* )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:368:7: projectable_expr ( dot_proj | pound_proj )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_projectable_expr_in_var_expr1904);
+            projectable_expr210=projectable_expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, projectable_expr210.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:368:24: ( dot_proj | pound_proj )*
+            loop56:
+            do {
+                int alt56=3;
+                int LA56_0 = input.LA(1);
+
+                if ( (LA56_0==PERIOD) ) {
+                    alt56=1;
+                }
+                else if ( (LA56_0==POUND) ) {
+                    alt56=2;
+                }
+
+
+                switch (alt56) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:368:26: dot_proj
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_dot_proj_in_var_expr1908);
+            	    dot_proj211=dot_proj();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, dot_proj211.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:368:37: pound_proj
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_pound_proj_in_var_expr1912);
+            	    pound_proj212=pound_proj();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, pound_proj212.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop56;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "var_expr"
+
+
+    public static class projectable_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "projectable_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:371:1: projectable_expr : ( func_eval | col_ref | bin_expr | case_expr | case_cond );
+    public final AliasMasker.projectable_expr_return projectable_expr() throws RecognitionException {
+        AliasMasker.projectable_expr_return retval = new AliasMasker.projectable_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.func_eval_return func_eval213 =null;
+
+        AliasMasker.col_ref_return col_ref214 =null;
+
+        AliasMasker.bin_expr_return bin_expr215 =null;
+
+        AliasMasker.case_expr_return case_expr216 =null;
+
+        AliasMasker.case_cond_return case_cond217 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:372:5: ( func_eval | col_ref | bin_expr | case_expr | case_cond )
+            int alt57=5;
+            switch ( input.LA(1) ) {
+            case FUNC_EVAL:
+                {
+                alt57=1;
+                }
+                break;
+            case CUBE:
+            case DOLLARVAR:
+            case GROUP:
+            case IDENTIFIER:
+                {
+                alt57=2;
+                }
+                break;
+            case BIN_EXPR:
+                {
+                alt57=3;
+                }
+                break;
+            case CASE_EXPR:
+                {
+                alt57=4;
+                }
+                break;
+            case CASE_COND:
+                {
+                alt57=5;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 57, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt57) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:372:7: func_eval
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_eval_in_projectable_expr1928);
+                    func_eval213=func_eval();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, func_eval213.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:372:19: col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_projectable_expr1932);
+                    col_ref214=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref214.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:372:29: bin_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bin_expr_in_projectable_expr1936);
+                    bin_expr215=bin_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bin_expr215.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:372:40: case_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_case_expr_in_projectable_expr1940);
+                    case_expr216=case_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, case_expr216.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:372:52: case_cond
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_case_cond_in_projectable_expr1944);
+                    case_cond217=case_cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, case_cond217.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "projectable_expr"
+
+
+    public static class dot_proj_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "dot_proj"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:375:1: dot_proj : ^( PERIOD ( col_alias_or_index )+ ) ;
+    public final AliasMasker.dot_proj_return dot_proj() throws RecognitionException {
+        AliasMasker.dot_proj_return retval = new AliasMasker.dot_proj_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PERIOD218=null;
+        AliasMasker.col_alias_or_index_return col_alias_or_index219 =null;
+
+
+        CommonTree PERIOD218_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:376:5: ( ^( PERIOD ( col_alias_or_index )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:376:7: ^( PERIOD ( col_alias_or_index )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            PERIOD218=(CommonTree)match(input,PERIOD,FOLLOW_PERIOD_in_dot_proj1959); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            PERIOD218_tree = (CommonTree)adaptor.dupNode(PERIOD218);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(PERIOD218_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:376:17: ( col_alias_or_index )+
+            int cnt58=0;
+            loop58:
+            do {
+                int alt58=2;
+                int LA58_0 = input.LA(1);
+
+                if ( (LA58_0==CUBE||LA58_0==DOLLARVAR||LA58_0==GROUP||LA58_0==IDENTIFIER) ) {
+                    alt58=1;
+                }
+
+
+                switch (alt58) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:376:17: col_alias_or_index
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_col_alias_or_index_in_dot_proj1961);
+            	    col_alias_or_index219=col_alias_or_index();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, col_alias_or_index219.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt58 >= 1 ) break loop58;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(58, input);
+                        throw eee;
+                }
+                cnt58++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "dot_proj"
+
+
+    public static class col_alias_or_index_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_alias_or_index"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:379:1: col_alias_or_index : ( col_alias | col_index );
+    public final AliasMasker.col_alias_or_index_return col_alias_or_index() throws RecognitionException {
+        AliasMasker.col_alias_or_index_return retval = new AliasMasker.col_alias_or_index_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.col_alias_return col_alias220 =null;
+
+        AliasMasker.col_index_return col_index221 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:379:20: ( col_alias | col_index )
+            int alt59=2;
+            int LA59_0 = input.LA(1);
+
+            if ( (LA59_0==CUBE||LA59_0==GROUP||LA59_0==IDENTIFIER) ) {
+                alt59=1;
+            }
+            else if ( (LA59_0==DOLLARVAR) ) {
+                alt59=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 59, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt59) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:379:22: col_alias
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_alias_in_col_alias_or_index1973);
+                    col_alias220=col_alias();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_alias220.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:379:34: col_index
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_index_in_col_alias_or_index1977);
+                    col_index221=col_index();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_index221.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_alias_or_index"
+
+
+    public static class col_alias_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_alias"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:382:1: col_alias : ( GROUP | CUBE | IDENTIFIER );
+    public final AliasMasker.col_alias_return col_alias() throws RecognitionException {
+        AliasMasker.col_alias_return retval = new AliasMasker.col_alias_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set222=null;
+
+        CommonTree set222_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:383:5: ( GROUP | CUBE | IDENTIFIER )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set222=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==CUBE||input.LA(1)==GROUP||input.LA(1)==IDENTIFIER ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set222_tree = (CommonTree)adaptor.dupNode(set222);
+
+
+                adaptor.addChild(root_0, set222_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_alias"
+
+
+    public static class col_index_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_index"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:388:1: col_index : DOLLARVAR ;
+    public final AliasMasker.col_index_return col_index() throws RecognitionException {
+        AliasMasker.col_index_return retval = new AliasMasker.col_index_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DOLLARVAR223=null;
+
+        CommonTree DOLLARVAR223_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:389:5: ( DOLLARVAR )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:389:7: DOLLARVAR
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            DOLLARVAR223=(CommonTree)match(input,DOLLARVAR,FOLLOW_DOLLARVAR_in_col_index2019); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DOLLARVAR223_tree = (CommonTree)adaptor.dupNode(DOLLARVAR223);
+
+
+            adaptor.addChild(root_0, DOLLARVAR223_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_index"
+
+
+    public static class col_range_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_range"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:1: col_range : ^( COL_RANGE ( col_ref )? DOUBLE_PERIOD ( col_ref )? ) ;
+    public final AliasMasker.col_range_return col_range() throws RecognitionException {
+        AliasMasker.col_range_return retval = new AliasMasker.col_range_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree COL_RANGE224=null;
+        CommonTree DOUBLE_PERIOD226=null;
+        AliasMasker.col_ref_return col_ref225 =null;
+
+        AliasMasker.col_ref_return col_ref227 =null;
+
+
+        CommonTree COL_RANGE224_tree=null;
+        CommonTree DOUBLE_PERIOD226_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:11: ( ^( COL_RANGE ( col_ref )? DOUBLE_PERIOD ( col_ref )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:14: ^( COL_RANGE ( col_ref )? DOUBLE_PERIOD ( col_ref )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            COL_RANGE224=(CommonTree)match(input,COL_RANGE,FOLLOW_COL_RANGE_in_col_range2030); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            COL_RANGE224_tree = (CommonTree)adaptor.dupNode(COL_RANGE224);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(COL_RANGE224_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:26: ( col_ref )?
+            int alt60=2;
+            int LA60_0 = input.LA(1);
+
+            if ( (LA60_0==CUBE||LA60_0==DOLLARVAR||LA60_0==GROUP||LA60_0==IDENTIFIER) ) {
+                alt60=1;
+            }
+            switch (alt60) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:26: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_col_range2032);
+                    col_ref225=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, col_ref225.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            DOUBLE_PERIOD226=(CommonTree)match(input,DOUBLE_PERIOD,FOLLOW_DOUBLE_PERIOD_in_col_range2035); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DOUBLE_PERIOD226_tree = (CommonTree)adaptor.dupNode(DOUBLE_PERIOD226);
+
+
+            adaptor.addChild(root_1, DOUBLE_PERIOD226_tree);
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:49: ( col_ref )?
+            int alt61=2;
+            int LA61_0 = input.LA(1);
+
+            if ( (LA61_0==CUBE||LA61_0==DOLLARVAR||LA61_0==GROUP||LA61_0==IDENTIFIER) ) {
+                alt61=1;
+            }
+            switch (alt61) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:392:49: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_col_range2037);
+                    col_ref227=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, col_ref227.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_range"
+
+
+    public static class pound_proj_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "pound_proj"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:395:1: pound_proj : ^( POUND ( QUOTEDSTRING | NULL ) ) ;
+    public final AliasMasker.pound_proj_return pound_proj() throws RecognitionException {
+        AliasMasker.pound_proj_return retval = new AliasMasker.pound_proj_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree POUND228=null;
+        CommonTree set229=null;
+
+        CommonTree POUND228_tree=null;
+        CommonTree set229_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:396:5: ( ^( POUND ( QUOTEDSTRING | NULL ) ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:396:7: ^( POUND ( QUOTEDSTRING | NULL ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            POUND228=(CommonTree)match(input,POUND,FOLLOW_POUND_in_pound_proj2054); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            POUND228_tree = (CommonTree)adaptor.dupNode(POUND228);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(POUND228_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            set229=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NULL||input.LA(1)==QUOTEDSTRING ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set229_tree = (CommonTree)adaptor.dupNode(set229);
+
+
+                adaptor.addChild(root_1, set229_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "pound_proj"
+
+
+    public static class bin_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bin_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:399:1: bin_expr : ^( BIN_EXPR cond expr expr ) ;
+    public final AliasMasker.bin_expr_return bin_expr() throws RecognitionException {
+        AliasMasker.bin_expr_return retval = new AliasMasker.bin_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BIN_EXPR230=null;
+        AliasMasker.cond_return cond231 =null;
+
+        AliasMasker.expr_return expr232 =null;
+
+        AliasMasker.expr_return expr233 =null;
+
+
+        CommonTree BIN_EXPR230_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:400:5: ( ^( BIN_EXPR cond expr expr ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:400:7: ^( BIN_EXPR cond expr expr )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BIN_EXPR230=(CommonTree)match(input,BIN_EXPR,FOLLOW_BIN_EXPR_in_bin_expr2081); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BIN_EXPR230_tree = (CommonTree)adaptor.dupNode(BIN_EXPR230);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BIN_EXPR230_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_bin_expr2083);
+            cond231=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond231.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_bin_expr2085);
+            expr232=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, expr232.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_bin_expr2087);
+            expr233=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, expr233.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bin_expr"
+
+
+    public static class case_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "case_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:403:1: case_expr : ^( CASE_EXPR ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )+ ) ;
+    public final AliasMasker.case_expr_return case_expr() throws RecognitionException {
+        AliasMasker.case_expr_return retval = new AliasMasker.case_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CASE_EXPR234=null;
+        CommonTree CASE_EXPR_LHS235=null;
+        CommonTree CASE_EXPR_RHS237=null;
+        AliasMasker.expr_return expr236 =null;
+
+        AliasMasker.expr_return expr238 =null;
+
+
+        CommonTree CASE_EXPR234_tree=null;
+        CommonTree CASE_EXPR_LHS235_tree=null;
+        CommonTree CASE_EXPR_RHS237_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:404:5: ( ^( CASE_EXPR ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:404:7: ^( CASE_EXPR ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CASE_EXPR234=(CommonTree)match(input,CASE_EXPR,FOLLOW_CASE_EXPR_in_case_expr2104); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CASE_EXPR234_tree = (CommonTree)adaptor.dupNode(CASE_EXPR234);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CASE_EXPR234_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:404:20: ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )+
+            int cnt63=0;
+            loop63:
+            do {
+                int alt63=2;
+                int LA63_0 = input.LA(1);
+
+                if ( (LA63_0==CASE_EXPR_LHS) ) {
+                    alt63=1;
+                }
+
+
+                switch (alt63) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:404:22: ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    CASE_EXPR_LHS235=(CommonTree)match(input,CASE_EXPR_LHS,FOLLOW_CASE_EXPR_LHS_in_case_expr2110); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    CASE_EXPR_LHS235_tree = (CommonTree)adaptor.dupNode(CASE_EXPR_LHS235);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(CASE_EXPR_LHS235_tree, root_2);
+            	    }
+
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_case_expr2112);
+            	    expr236=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr236.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:404:46: ( ^( CASE_EXPR_RHS expr ) )+
+            	    int cnt62=0;
+            	    loop62:
+            	    do {
+            	        int alt62=2;
+            	        int LA62_0 = input.LA(1);
+
+            	        if ( (LA62_0==CASE_EXPR_RHS) ) {
+            	            alt62=1;
+            	        }
+
+
+            	        switch (alt62) {
+            	    	case 1 :
+            	    	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:404:48: ^( CASE_EXPR_RHS expr )
+            	    	    {
+            	    	    _last = (CommonTree)input.LT(1);
+            	    	    {
+            	    	    CommonTree _save_last_2 = _last;
+            	    	    CommonTree _first_2 = null;
+            	    	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    	    _last = (CommonTree)input.LT(1);
+            	    	    CASE_EXPR_RHS237=(CommonTree)match(input,CASE_EXPR_RHS,FOLLOW_CASE_EXPR_RHS_in_case_expr2120); if (state.failed) return retval;
+            	    	    if ( state.backtracking==0 ) {
+            	    	    CASE_EXPR_RHS237_tree = (CommonTree)adaptor.dupNode(CASE_EXPR_RHS237);
+
+
+            	    	    root_2 = (CommonTree)adaptor.becomeRoot(CASE_EXPR_RHS237_tree, root_2);
+            	    	    }
+
+
+            	    	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    	    _last = (CommonTree)input.LT(1);
+            	    	    pushFollow(FOLLOW_expr_in_case_expr2122);
+            	    	    expr238=expr();
+
+            	    	    state._fsp--;
+            	    	    if (state.failed) return retval;
+            	    	    if ( state.backtracking==0 ) 
+            	    	    adaptor.addChild(root_2, expr238.getTree());
+
+
+            	    	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    	    adaptor.addChild(root_1, root_2);
+            	    	    _last = _save_last_2;
+            	    	    }
+
+
+            	    	    if ( state.backtracking==0 ) {
+            	    	    }
+            	    	    }
+            	    	    break;
+
+            	    	default :
+            	    	    if ( cnt62 >= 1 ) break loop62;
+            	    	    if (state.backtracking>0) {state.failed=true; return retval;}
+            	                EarlyExitException eee =
+            	                    new EarlyExitException(62, input);
+            	                throw eee;
+            	        }
+            	        cnt62++;
+            	    } while (true);
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt63 >= 1 ) break loop63;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(63, input);
+                        throw eee;
+                }
+                cnt63++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "case_expr"
+
+
+    public static class case_cond_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "case_cond"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:407:1: case_cond : ^( CASE_COND ^( WHEN ( cond )+ ) ^( THEN ( expr )+ ) ) ;
+    public final AliasMasker.case_cond_return case_cond() throws RecognitionException {
+        AliasMasker.case_cond_return retval = new AliasMasker.case_cond_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CASE_COND239=null;
+        CommonTree WHEN240=null;
+        CommonTree THEN242=null;
+        AliasMasker.cond_return cond241 =null;
+
+        AliasMasker.expr_return expr243 =null;
+
+
+        CommonTree CASE_COND239_tree=null;
+        CommonTree WHEN240_tree=null;
+        CommonTree THEN242_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:408:5: ( ^( CASE_COND ^( WHEN ( cond )+ ) ^( THEN ( expr )+ ) ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:408:7: ^( CASE_COND ^( WHEN ( cond )+ ) ^( THEN ( expr )+ ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CASE_COND239=(CommonTree)match(input,CASE_COND,FOLLOW_CASE_COND_in_case_cond2146); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CASE_COND239_tree = (CommonTree)adaptor.dupNode(CASE_COND239);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CASE_COND239_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            WHEN240=(CommonTree)match(input,WHEN,FOLLOW_WHEN_in_case_cond2150); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            WHEN240_tree = (CommonTree)adaptor.dupNode(WHEN240);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(WHEN240_tree, root_2);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:408:28: ( cond )+
+            int cnt64=0;
+            loop64:
+            do {
+                int alt64=2;
+                int LA64_0 = input.LA(1);
+
+                if ( (LA64_0==AND||LA64_0==IN||(LA64_0 >= NOT && LA64_0 <= NUM_OP_NE)||LA64_0==OR||(LA64_0 >= STR_OP_EQ && LA64_0 <= STR_OP_NE)||LA64_0==BOOL_COND||LA64_0==FUNC_EVAL) ) {
+                    alt64=1;
+                }
+
+
+                switch (alt64) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:408:28: cond
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_cond_in_case_cond2152);
+            	    cond241=cond();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, cond241.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt64 >= 1 ) break loop64;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(64, input);
+                        throw eee;
+                }
+                cnt64++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            THEN242=(CommonTree)match(input,THEN,FOLLOW_THEN_in_case_cond2159); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            THEN242_tree = (CommonTree)adaptor.dupNode(THEN242);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(THEN242_tree, root_2);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:408:44: ( expr )+
+            int cnt65=0;
+            loop65:
+            do {
+                int alt65=2;
+                int LA65_0 = input.LA(1);
+
+                if ( (LA65_0==BIGDECIMALNUMBER||LA65_0==BIGINTEGERNUMBER||LA65_0==CUBE||LA65_0==DIV||LA65_0==DOLLARVAR||LA65_0==DOUBLENUMBER||LA65_0==FALSE||LA65_0==FLOATNUMBER||LA65_0==GROUP||LA65_0==IDENTIFIER||LA65_0==INTEGER||LA65_0==LONGINTEGER||LA65_0==MINUS||LA65_0==NULL||LA65_0==PERCENT||LA65_0==PLUS||LA65_0==QUOTEDSTRING||LA65_0==STAR||LA65_0==TRUE||(LA65_0 >= BAG_VAL && LA65_0 <= BIN_EXPR)||(LA65_0 >= CASE_COND && LA65_0 <= CASE_EXPR)||LA65_0==CAST_EXPR||LA65_0==EXPR_IN_PAREN||LA65_0==FUNC_EVAL||(LA65_0 >= MAP_VAL && LA65_0 <= NEG)||LA65_0==TUPLE_VAL) ) {
+                    alt65=1;
+                }
+
+
+                switch (alt65) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:408:44: expr
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_case_cond2161);
+            	    expr243=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr243.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt65 >= 1 ) break loop65;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(65, input);
+                        throw eee;
+                }
+                cnt65++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "case_cond"
+
+
+    public static class limit_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "limit_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:411:1: limit_clause : ^( LIMIT rel ( INTEGER | LONGINTEGER | expr ) ) ;
+    public final AliasMasker.limit_clause_return limit_clause() throws RecognitionException {
+        AliasMasker.limit_clause_return retval = new AliasMasker.limit_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LIMIT244=null;
+        CommonTree INTEGER246=null;
+        CommonTree LONGINTEGER247=null;
+        AliasMasker.rel_return rel245 =null;
+
+        AliasMasker.expr_return expr248 =null;
+
+
+        CommonTree LIMIT244_tree=null;
+        CommonTree INTEGER246_tree=null;
+        CommonTree LONGINTEGER247_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:5: ( ^( LIMIT rel ( INTEGER | LONGINTEGER | expr ) ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:7: ^( LIMIT rel ( INTEGER | LONGINTEGER | expr ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            LIMIT244=(CommonTree)match(input,LIMIT,FOLLOW_LIMIT_in_limit_clause2181); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            LIMIT244_tree = (CommonTree)adaptor.dupNode(LIMIT244);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(LIMIT244_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_limit_clause2183);
+            rel245=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel245.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:20: ( INTEGER | LONGINTEGER | expr )
+            int alt66=3;
+            switch ( input.LA(1) ) {
+            case INTEGER:
+                {
+                int LA66_1 = input.LA(2);
+
+                if ( (synpred133_AliasMasker()) ) {
+                    alt66=1;
+                }
+                else if ( (true) ) {
+                    alt66=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 66, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case LONGINTEGER:
+                {
+                int LA66_2 = input.LA(2);
+
+                if ( (synpred134_AliasMasker()) ) {
+                    alt66=2;
+                }
+                else if ( (true) ) {
+                    alt66=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 66, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case STAR:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt66=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 66, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt66) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:22: INTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    INTEGER246=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_limit_clause2187); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTEGER246_tree = (CommonTree)adaptor.dupNode(INTEGER246);
+
+
+                    adaptor.addChild(root_1, INTEGER246_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:32: LONGINTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    LONGINTEGER247=(CommonTree)match(input,LONGINTEGER,FOLLOW_LONGINTEGER_in_limit_clause2191); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LONGINTEGER247_tree = (CommonTree)adaptor.dupNode(LONGINTEGER247);
+
+
+                    adaptor.addChild(root_1, LONGINTEGER247_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:46: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_limit_clause2195);
+                    expr248=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr248.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "limit_clause"
+
+
+    public static class sample_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "sample_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:415:1: sample_clause : ^( SAMPLE rel ( DOUBLENUMBER | expr ) ) ;
+    public final AliasMasker.sample_clause_return sample_clause() throws RecognitionException {
+        AliasMasker.sample_clause_return retval = new AliasMasker.sample_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SAMPLE249=null;
+        CommonTree DOUBLENUMBER251=null;
+        AliasMasker.rel_return rel250 =null;
+
+        AliasMasker.expr_return expr252 =null;
+
+
+        CommonTree SAMPLE249_tree=null;
+        CommonTree DOUBLENUMBER251_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:5: ( ^( SAMPLE rel ( DOUBLENUMBER | expr ) ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:8: ^( SAMPLE rel ( DOUBLENUMBER | expr ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SAMPLE249=(CommonTree)match(input,SAMPLE,FOLLOW_SAMPLE_in_sample_clause2215); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SAMPLE249_tree = (CommonTree)adaptor.dupNode(SAMPLE249);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SAMPLE249_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_sample_clause2217);
+            rel250=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel250.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:22: ( DOUBLENUMBER | expr )
+            int alt67=2;
+            int LA67_0 = input.LA(1);
+
+            if ( (LA67_0==DOUBLENUMBER) ) {
+                int LA67_1 = input.LA(2);
+
+                if ( (synpred135_AliasMasker()) ) {
+                    alt67=1;
+                }
+                else if ( (true) ) {
+                    alt67=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 67, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA67_0==BIGDECIMALNUMBER||LA67_0==BIGINTEGERNUMBER||LA67_0==CUBE||LA67_0==DIV||LA67_0==DOLLARVAR||LA67_0==FALSE||LA67_0==FLOATNUMBER||LA67_0==GROUP||LA67_0==IDENTIFIER||LA67_0==INTEGER||LA67_0==LONGINTEGER||LA67_0==MINUS||LA67_0==NULL||LA67_0==PERCENT||LA67_0==PLUS||LA67_0==QUOTEDSTRING||LA67_0==STAR||LA67_0==TRUE||(LA67_0 >= BAG_VAL && LA67_0 <= BIN_EXPR)||(LA67_0 >= CASE_COND && LA67_0 <= CASE_EXPR)||LA67_0==CAST_EXPR||LA67_0==EXPR_IN_PAREN||LA67_0==FUNC_EVAL||(LA67_0 >= MAP_VAL && LA67_0 <= NEG)||LA67_0==TUPLE_VAL) ) {
+                alt67=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 67, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt67) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:24: DOUBLENUMBER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DOUBLENUMBER251=(CommonTree)match(input,DOUBLENUMBER,FOLLOW_DOUBLENUMBER_in_sample_clause2221); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DOUBLENUMBER251_tree = (CommonTree)adaptor.dupNode(DOUBLENUMBER251);
+
+
+                    adaptor.addChild(root_1, DOUBLENUMBER251_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:39: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_sample_clause2225);
+                    expr252=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr252.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "sample_clause"
+
+
+    public static class rank_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:419:1: rank_clause : ^( RANK rel ( rank_by_statement )? ) ;
+    public final AliasMasker.rank_clause_return rank_clause() throws RecognitionException {
+        AliasMasker.rank_clause_return retval = new AliasMasker.rank_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree RANK253=null;
+        AliasMasker.rel_return rel254 =null;
+
+        AliasMasker.rank_by_statement_return rank_by_statement255 =null;
+
+
+        CommonTree RANK253_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:420:2: ( ^( RANK rel ( rank_by_statement )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:420:4: ^( RANK rel ( rank_by_statement )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            RANK253=(CommonTree)match(input,RANK,FOLLOW_RANK_in_rank_clause2241); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            RANK253_tree = (CommonTree)adaptor.dupNode(RANK253);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(RANK253_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_rank_clause2243);
+            rel254=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel254.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:420:16: ( rank_by_statement )?
+            int alt68=2;
+            int LA68_0 = input.LA(1);
+
+            if ( (LA68_0==BY) ) {
+                alt68=1;
+            }
+            switch (alt68) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:420:18: rank_by_statement
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rank_by_statement_in_rank_clause2247);
+                    rank_by_statement255=rank_by_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, rank_by_statement255.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_clause"
+
+
+    public static class rank_by_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_by_statement"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:423:1: rank_by_statement : ^( BY rank_by_clause ( DENSE )? ) ;
+    public final AliasMasker.rank_by_statement_return rank_by_statement() throws RecognitionException {
+        AliasMasker.rank_by_statement_return retval = new AliasMasker.rank_by_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BY256=null;
+        CommonTree DENSE258=null;
+        AliasMasker.rank_by_clause_return rank_by_clause257 =null;
+
+
+        CommonTree BY256_tree=null;
+        CommonTree DENSE258_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:424:2: ( ^( BY rank_by_clause ( DENSE )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:424:4: ^( BY rank_by_clause ( DENSE )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BY256=(CommonTree)match(input,BY,FOLLOW_BY_in_rank_by_statement2264); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BY256_tree = (CommonTree)adaptor.dupNode(BY256);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BY256_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rank_by_clause_in_rank_by_statement2266);
+            rank_by_clause257=rank_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rank_by_clause257.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:424:25: ( DENSE )?
+            int alt69=2;
+            int LA69_0 = input.LA(1);
+
+            if ( (LA69_0==DENSE) ) {
+                alt69=1;
+            }
+            switch (alt69) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:424:27: DENSE
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DENSE258=(CommonTree)match(input,DENSE,FOLLOW_DENSE_in_rank_by_statement2270); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DENSE258_tree = (CommonTree)adaptor.dupNode(DENSE258);
+
+
+                    adaptor.addChild(root_1, DENSE258_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_by_statement"
+
+
+    public static class rank_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_by_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:427:1: rank_by_clause : ( STAR ( ASC | DESC )? | ( rank_col )+ );
+    public final AliasMasker.rank_by_clause_return rank_by_clause() throws RecognitionException {
+        AliasMasker.rank_by_clause_return retval = new AliasMasker.rank_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR259=null;
+        CommonTree set260=null;
+        AliasMasker.rank_col_return rank_col261 =null;
+
+
+        CommonTree STAR259_tree=null;
+        CommonTree set260_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:428:2: ( STAR ( ASC | DESC )? | ( rank_col )+ )
+            int alt72=2;
+            int LA72_0 = input.LA(1);
+
+            if ( (LA72_0==STAR) ) {
+                alt72=1;
+            }
+            else if ( (LA72_0==CUBE||LA72_0==DOLLARVAR||LA72_0==GROUP||LA72_0==IDENTIFIER||LA72_0==COL_RANGE) ) {
+                alt72=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 72, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt72) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:428:4: STAR ( ASC | DESC )?
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR259=(CommonTree)match(input,STAR,FOLLOW_STAR_in_rank_by_clause2285); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR259_tree = (CommonTree)adaptor.dupNode(STAR259);
+
+
+                    adaptor.addChild(root_0, STAR259_tree);
+                    }
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:428:9: ( ASC | DESC )?
+                    int alt70=2;
+                    int LA70_0 = input.LA(1);
+
+                    if ( (LA70_0==ASC||LA70_0==DESC) ) {
+                        alt70=1;
+                    }
+                    switch (alt70) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            set260=(CommonTree)input.LT(1);
+
+                            if ( input.LA(1)==ASC||input.LA(1)==DESC ) {
+                                input.consume();
+                                if ( state.backtracking==0 ) {
+                                set260_tree = (CommonTree)adaptor.dupNode(set260);
+
+
+                                adaptor.addChild(root_0, set260_tree);
+                                }
+
+                                state.errorRecovery=false;
+                                state.failed=false;
+                            }
+                            else {
+                                if (state.backtracking>0) {state.failed=true; return retval;}
+                                MismatchedSetException mse = new MismatchedSetException(null,input);
+                                throw mse;
+                            }
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:429:7: ( rank_col )+
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:429:7: ( rank_col )+
+                    int cnt71=0;
+                    loop71:
+                    do {
+                        int alt71=2;
+                        int LA71_0 = input.LA(1);
+
+                        if ( (LA71_0==CUBE||LA71_0==DOLLARVAR||LA71_0==GROUP||LA71_0==IDENTIFIER||LA71_0==COL_RANGE) ) {
+                            alt71=1;
+                        }
+
+
+                        switch (alt71) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:429:7: rank_col
+                    	    {
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_rank_col_in_rank_by_clause2304);
+                    	    rank_col261=rank_col();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, rank_col261.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt71 >= 1 ) break loop71;
+                    	    if (state.backtracking>0) {state.failed=true; return retval;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(71, input);
+                                throw eee;
+                        }
+                        cnt71++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_by_clause"
+
+
+    public static class rank_col_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_col"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:432:1: rank_col : ( col_range | col_ref ) ( ASC | DESC )? ;
+    public final AliasMasker.rank_col_return rank_col() throws RecognitionException {
+        AliasMasker.rank_col_return retval = new AliasMasker.rank_col_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set264=null;
+        AliasMasker.col_range_return col_range262 =null;
+
+        AliasMasker.col_ref_return col_ref263 =null;
+
+
+        CommonTree set264_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:433:2: ( ( col_range | col_ref ) ( ASC | DESC )? )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:433:4: ( col_range | col_ref ) ( ASC | DESC )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:433:4: ( col_range | col_ref )
+            int alt73=2;
+            int LA73_0 = input.LA(1);
+
+            if ( (LA73_0==COL_RANGE) ) {
+                alt73=1;
+            }
+            else if ( (LA73_0==CUBE||LA73_0==DOLLARVAR||LA73_0==GROUP||LA73_0==IDENTIFIER) ) {
+                alt73=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 73, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt73) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:433:6: col_range
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_rank_col2317);
+                    col_range262=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range262.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:433:18: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_rank_col2321);
+                    col_ref263=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref263.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:433:28: ( ASC | DESC )?
+            int alt74=2;
+            int LA74_0 = input.LA(1);
+
+            if ( (LA74_0==ASC||LA74_0==DESC) ) {
+                alt74=1;
+            }
+            switch (alt74) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    set264=(CommonTree)input.LT(1);
+
+                    if ( input.LA(1)==ASC||input.LA(1)==DESC ) {
+                        input.consume();
+                        if ( state.backtracking==0 ) {
+                        set264_tree = (CommonTree)adaptor.dupNode(set264);
+
+
+                        adaptor.addChild(root_0, set264_tree);
+                        }
+
+                        state.errorRecovery=false;
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_col"
+
+
+    public static class order_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "order_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:436:1: order_clause : ^( ORDER rel order_by_clause ( func_clause )? ) ;
+    public final AliasMasker.order_clause_return order_clause() throws RecognitionException {
+        AliasMasker.order_clause_return retval = new AliasMasker.order_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ORDER265=null;
+        AliasMasker.rel_return rel266 =null;
+
+        AliasMasker.order_by_clause_return order_by_clause267 =null;
+
+        AliasMasker.func_clause_return func_clause268 =null;
+
+
+        CommonTree ORDER265_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:437:5: ( ^( ORDER rel order_by_clause ( func_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:437:7: ^( ORDER rel order_by_clause ( func_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            ORDER265=(CommonTree)match(input,ORDER,FOLLOW_ORDER_in_order_clause2349); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            ORDER265_tree = (CommonTree)adaptor.dupNode(ORDER265);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(ORDER265_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_order_clause2351);
+            rel266=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel266.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_order_by_clause_in_order_clause2353);
+            order_by_clause267=order_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, order_by_clause267.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:437:36: ( func_clause )?
+            int alt75=2;
+            int LA75_0 = input.LA(1);
+
+            if ( (LA75_0==FUNC||LA75_0==FUNC_REF) ) {
+                alt75=1;
+            }
+            switch (alt75) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:437:36: func_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_order_clause2355);
+                    func_clause268=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause268.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "order_clause"
+
+
+    public static class order_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "order_by_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:440:1: order_by_clause : ( STAR ( ASC | DESC )? | ( order_col )+ );
+    public final AliasMasker.order_by_clause_return order_by_clause() throws RecognitionException {
+        AliasMasker.order_by_clause_return retval = new AliasMasker.order_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR269=null;
+        CommonTree set270=null;
+        AliasMasker.order_col_return order_col271 =null;
+
+
+        CommonTree STAR269_tree=null;
+        CommonTree set270_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:441:5: ( STAR ( ASC | DESC )? | ( order_col )+ )
+            int alt78=2;
+            int LA78_0 = input.LA(1);
+
+            if ( (LA78_0==STAR) ) {
+                alt78=1;
+            }
+            else if ( (LA78_0==CUBE||LA78_0==DOLLARVAR||LA78_0==GROUP||LA78_0==IDENTIFIER||LA78_0==COL_RANGE) ) {
+                alt78=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 78, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt78) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:441:7: STAR ( ASC | DESC )?
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR269=(CommonTree)match(input,STAR,FOLLOW_STAR_in_order_by_clause2371); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR269_tree = (CommonTree)adaptor.dupNode(STAR269);
+
+
+                    adaptor.addChild(root_0, STAR269_tree);
+                    }
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:441:12: ( ASC | DESC )?
+                    int alt76=2;
+                    int LA76_0 = input.LA(1);
+
+                    if ( (LA76_0==ASC||LA76_0==DESC) ) {
+                        alt76=1;
+                    }
+                    switch (alt76) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            set270=(CommonTree)input.LT(1);
+
+                            if ( input.LA(1)==ASC||input.LA(1)==DESC ) {
+                                input.consume();
+                                if ( state.backtracking==0 ) {
+                                set270_tree = (CommonTree)adaptor.dupNode(set270);
+
+
+                                adaptor.addChild(root_0, set270_tree);
+                                }
+
+                                state.errorRecovery=false;
+                                state.failed=false;
+                            }
+                            else {
+                                if (state.backtracking>0) {state.failed=true; return retval;}
+                                MismatchedSetException mse = new MismatchedSetException(null,input);
+                                throw mse;
+                            }
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:442:7: ( order_col )+
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:442:7: ( order_col )+
+                    int cnt77=0;
+                    loop77:
+                    do {
+                        int alt77=2;
+                        int LA77_0 = input.LA(1);
+
+                        if ( (LA77_0==CUBE||LA77_0==DOLLARVAR||LA77_0==GROUP||LA77_0==IDENTIFIER||LA77_0==COL_RANGE) ) {
+                            alt77=1;
+                        }
+
+
+                        switch (alt77) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:442:7: order_col
+                    	    {
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_order_col_in_order_by_clause2390);
+                    	    order_col271=order_col();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, order_col271.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt77 >= 1 ) break loop77;
+                    	    if (state.backtracking>0) {state.failed=true; return retval;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(77, input);
+                                throw eee;
+                        }
+                        cnt77++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "order_by_clause"
+
+
+    public static class order_col_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "order_col"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:445:1: order_col : ( col_range | col_ref ) ( ASC | DESC )? ;
+    public final AliasMasker.order_col_return order_col() throws RecognitionException {
+        AliasMasker.order_col_return retval = new AliasMasker.order_col_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set274=null;
+        AliasMasker.col_range_return col_range272 =null;
+
+        AliasMasker.col_ref_return col_ref273 =null;
+
+
+        CommonTree set274_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:446:5: ( ( col_range | col_ref ) ( ASC | DESC )? )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:446:7: ( col_range | col_ref ) ( ASC | DESC )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:446:7: ( col_range | col_ref )
+            int alt79=2;
+            int LA79_0 = input.LA(1);
+
+            if ( (LA79_0==COL_RANGE) ) {
+                alt79=1;
+            }
+            else if ( (LA79_0==CUBE||LA79_0==DOLLARVAR||LA79_0==GROUP||LA79_0==IDENTIFIER) ) {
+                alt79=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 79, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt79) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:446:8: col_range
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_order_col2405);
+                    col_range272=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range272.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:446:20: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_order_col2409);
+                    col_ref273=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref273.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:446:29: ( ASC | DESC )?
+            int alt80=2;
+            int LA80_0 = input.LA(1);
+
+            if ( (LA80_0==ASC||LA80_0==DESC) ) {
+                alt80=1;
+            }
+            switch (alt80) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    set274=(CommonTree)input.LT(1);
+
+                    if ( input.LA(1)==ASC||input.LA(1)==DESC ) {
+                        input.consume();
+                        if ( state.backtracking==0 ) {
+                        set274_tree = (CommonTree)adaptor.dupNode(set274);
+
+
+                        adaptor.addChild(root_0, set274_tree);
+                        }
+
+                        state.errorRecovery=false;
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "order_col"
+
+
+    public static class distinct_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "distinct_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:449:1: distinct_clause : ^( DISTINCT rel ( partition_clause )? ) ;
+    public final AliasMasker.distinct_clause_return distinct_clause() throws RecognitionException {
+        AliasMasker.distinct_clause_return retval = new AliasMasker.distinct_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DISTINCT275=null;
+        AliasMasker.rel_return rel276 =null;
+
+        AliasMasker.partition_clause_return partition_clause277 =null;
+
+
+        CommonTree DISTINCT275_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:450:5: ( ^( DISTINCT rel ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:450:7: ^( DISTINCT rel ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            DISTINCT275=(CommonTree)match(input,DISTINCT,FOLLOW_DISTINCT_in_distinct_clause2436); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DISTINCT275_tree = (CommonTree)adaptor.dupNode(DISTINCT275);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(DISTINCT275_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_distinct_clause2438);
+            rel276=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel276.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:450:23: ( partition_clause )?
+            int alt81=2;
+            int LA81_0 = input.LA(1);
+
+            if ( (LA81_0==PARTITION) ) {
+                alt81=1;
+            }
+            switch (alt81) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:450:23: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_distinct_clause2440);
+                    partition_clause277=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause277.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "distinct_clause"
+
+
+    public static class partition_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "partition_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:453:1: partition_clause : ^( PARTITION func_name ) ;
+    public final AliasMasker.partition_clause_return partition_clause() throws RecognitionException {
+        AliasMasker.partition_clause_return retval = new AliasMasker.partition_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PARTITION278=null;
+        AliasMasker.func_name_return func_name279 =null;
+
+
+        CommonTree PARTITION278_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:454:5: ( ^( PARTITION func_name ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:454:7: ^( PARTITION func_name )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            PARTITION278=(CommonTree)match(input,PARTITION,FOLLOW_PARTITION_in_partition_clause2458); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            PARTITION278_tree = (CommonTree)adaptor.dupNode(PARTITION278);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(PARTITION278_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_func_name_in_partition_clause2460);
+            func_name279=func_name();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, func_name279.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "partition_clause"
+
+
+    public static class cross_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cross_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:457:1: cross_clause : ^( CROSS rel_list ( partition_clause )? ) ;
+    public final AliasMasker.cross_clause_return cross_clause() throws RecognitionException {
+        AliasMasker.cross_clause_return retval = new AliasMasker.cross_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CROSS280=null;
+        AliasMasker.rel_list_return rel_list281 =null;
+
+        AliasMasker.partition_clause_return partition_clause282 =null;
+
+
+        CommonTree CROSS280_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:458:5: ( ^( CROSS rel_list ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:458:7: ^( CROSS rel_list ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CROSS280=(CommonTree)match(input,CROSS,FOLLOW_CROSS_in_cross_clause2477); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CROSS280_tree = (CommonTree)adaptor.dupNode(CROSS280);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CROSS280_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_list_in_cross_clause2479);
+            rel_list281=rel_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel_list281.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:458:25: ( partition_clause )?
+            int alt82=2;
+            int LA82_0 = input.LA(1);
+
+            if ( (LA82_0==PARTITION) ) {
+                alt82=1;
+            }
+            switch (alt82) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:458:25: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_cross_clause2481);
+                    partition_clause282=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause282.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cross_clause"
+
+
+    public static class rel_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_list"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:461:1: rel_list : ( rel )+ ;
+    public final AliasMasker.rel_list_return rel_list() throws RecognitionException {
+        AliasMasker.rel_list_return retval = new AliasMasker.rel_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.rel_return rel283 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:462:5: ( ( rel )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:462:7: ( rel )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:462:7: ( rel )+
+            int cnt83=0;
+            loop83:
+            do {
+                int alt83=2;
+                int LA83_0 = input.LA(1);
+
+                if ( (LA83_0==ASSERT||LA83_0==COGROUP||(LA83_0 >= CROSS && LA83_0 <= CUBE)||LA83_0==DEFINE||LA83_0==DISTINCT||LA83_0==FILTER||LA83_0==FOREACH||LA83_0==GROUP||LA83_0==IDENTIFIER||LA83_0==JOIN||(LA83_0 >= LIMIT && LA83_0 <= LOAD)||LA83_0==MAPREDUCE||LA83_0==ORDER||LA83_0==RANK||LA83_0==SAMPLE||LA83_0==SPLIT||(LA83_0 >= STORE && LA83_0 <= STREAM)||LA83_0==UNION) ) {
+                    alt83=1;
+                }
+
+
+                switch (alt83) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:462:7: rel
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_rel_in_rel_list2497);
+            	    rel283=rel();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, rel283.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt83 >= 1 ) break loop83;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(83, input);
+                        throw eee;
+                }
+                cnt83++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_list"
+
+
+    public static class join_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:465:1: join_clause : ^( JOIN join_sub_clause ( join_type )? ( partition_clause )? ) ;
+    public final AliasMasker.join_clause_return join_clause() throws RecognitionException {
+        AliasMasker.join_clause_return retval = new AliasMasker.join_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree JOIN284=null;
+        AliasMasker.join_sub_clause_return join_sub_clause285 =null;
+
+        AliasMasker.join_type_return join_type286 =null;
+
+        AliasMasker.partition_clause_return partition_clause287 =null;
+
+
+        CommonTree JOIN284_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:466:5: ( ^( JOIN join_sub_clause ( join_type )? ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:466:7: ^( JOIN join_sub_clause ( join_type )? ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            JOIN284=(CommonTree)match(input,JOIN,FOLLOW_JOIN_in_join_clause2513); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            JOIN284_tree = (CommonTree)adaptor.dupNode(JOIN284);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(JOIN284_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_join_sub_clause_in_join_clause2515);
+            join_sub_clause285=join_sub_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, join_sub_clause285.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:466:31: ( join_type )?
+            int alt84=2;
+            int LA84_0 = input.LA(1);
+
+            if ( (LA84_0==QUOTEDSTRING) ) {
+                alt84=1;
+            }
+            switch (alt84) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:466:31: join_type
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_type_in_join_clause2517);
+                    join_type286=join_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, join_type286.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:466:42: ( partition_clause )?
+            int alt85=2;
+            int LA85_0 = input.LA(1);
+
+            if ( (LA85_0==PARTITION) ) {
+                alt85=1;
+            }
+            switch (alt85) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:466:42: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_join_clause2520);
+                    partition_clause287=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause287.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_clause"
+
+
+    public static class join_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_type"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:469:1: join_type : QUOTEDSTRING ;
+    public final AliasMasker.join_type_return join_type() throws RecognitionException {
+        AliasMasker.join_type_return retval = new AliasMasker.join_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING288=null;
+
+        CommonTree QUOTEDSTRING288_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:469:11: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:469:13: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING288=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_join_type2532); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING288_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING288);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING288_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_type"
+
+
+    public static class join_sub_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_sub_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:472:1: join_sub_clause : ( join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item | ( join_item )+ );
+    public final AliasMasker.join_sub_clause_return join_sub_clause() throws RecognitionException {
+        AliasMasker.join_sub_clause_return retval = new AliasMasker.join_sub_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set290=null;
+        CommonTree OUTER291=null;
+        AliasMasker.join_item_return join_item289 =null;
+
+        AliasMasker.join_item_return join_item292 =null;
+
+        AliasMasker.join_item_return join_item293 =null;
+
+
+        CommonTree set290_tree=null;
+        CommonTree OUTER291_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:473:5: ( join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item | ( join_item )+ )
+            int alt88=2;
+            int LA88_0 = input.LA(1);
+
+            if ( (LA88_0==JOIN_ITEM) ) {
+                int LA88_1 = input.LA(2);
+
+                if ( (synpred161_AliasMasker()) ) {
+                    alt88=1;
+                }
+                else if ( (true) ) {
+                    alt88=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 88, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 88, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt88) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:473:7: join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_item_in_join_sub_clause2545);
+                    join_item289=join_item();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_item289.getTree());
+
+
+                    _last = (CommonTree)input.LT(1);
+                    set290=(CommonTree)input.LT(1);
+
+                    if ( input.LA(1)==FULL||input.LA(1)==LEFT||input.LA(1)==RIGHT ) {
+                        input.consume();
+                        if ( state.backtracking==0 ) {
+                        set290_tree = (CommonTree)adaptor.dupNode(set290);
+
+
+                        adaptor.addChild(root_0, set290_tree);
+                        }
+
+                        state.errorRecovery=false;
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        throw mse;
+                    }
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:476:16: ( OUTER )?
+                    int alt86=2;
+                    int LA86_0 = input.LA(1);
+
+                    if ( (LA86_0==OUTER) ) {
+                        alt86=1;
+                    }
+                    switch (alt86) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AliasMasker.g:476:16: OUTER
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            OUTER291=(CommonTree)match(input,OUTER,FOLLOW_OUTER_in_join_sub_clause2600); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            OUTER291_tree = (CommonTree)adaptor.dupNode(OUTER291);
+
+
+                            adaptor.addChild(root_0, OUTER291_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_item_in_join_sub_clause2603);
+                    join_item292=join_item();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_item292.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:477:7: ( join_item )+
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:477:7: ( join_item )+
+                    int cnt87=0;
+                    loop87:
+                    do {
+                        int alt87=2;
+                        int LA87_0 = input.LA(1);
+
+                        if ( (LA87_0==JOIN_ITEM) ) {
+                            alt87=1;
+                        }
+
+
+                        switch (alt87) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:477:7: join_item
+                    	    {
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_join_item_in_join_sub_clause2611);
+                    	    join_item293=join_item();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, join_item293.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt87 >= 1 ) break loop87;
+                    	    if (state.backtracking>0) {state.failed=true; return retval;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(87, input);
+                                throw eee;
+                        }
+                        cnt87++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_sub_clause"
+
+
+    public static class join_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_item"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:480:1: join_item : ^( JOIN_ITEM rel join_group_by_clause ) ;
+    public final AliasMasker.join_item_return join_item() throws RecognitionException {
+        AliasMasker.join_item_return retval = new AliasMasker.join_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree JOIN_ITEM294=null;
+        AliasMasker.rel_return rel295 =null;
+
+        AliasMasker.join_group_by_clause_return join_group_by_clause296 =null;
+
+
+        CommonTree JOIN_ITEM294_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:481:2: ( ^( JOIN_ITEM rel join_group_by_clause ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:481:4: ^( JOIN_ITEM rel join_group_by_clause )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            JOIN_ITEM294=(CommonTree)match(input,JOIN_ITEM,FOLLOW_JOIN_ITEM_in_join_item2624); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            JOIN_ITEM294_tree = (CommonTree)adaptor.dupNode(JOIN_ITEM294);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(JOIN_ITEM294_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_join_item2626);
+            rel295=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel295.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_join_group_by_clause_in_join_item2628);
+            join_group_by_clause296=join_group_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, join_group_by_clause296.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_item"
+
+
+    public static class join_group_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_group_by_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:484:1: join_group_by_clause : ^( BY ( join_group_by_expr )+ ) ;
+    public final AliasMasker.join_group_by_clause_return join_group_by_clause() throws RecognitionException {
+        AliasMasker.join_group_by_clause_return retval = new AliasMasker.join_group_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BY297=null;
+        AliasMasker.join_group_by_expr_return join_group_by_expr298 =null;
+
+
+        CommonTree BY297_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:485:5: ( ^( BY ( join_group_by_expr )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:485:7: ^( BY ( join_group_by_expr )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BY297=(CommonTree)match(input,BY,FOLLOW_BY_in_join_group_by_clause2645); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BY297_tree = (CommonTree)adaptor.dupNode(BY297);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BY297_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:485:13: ( join_group_by_expr )+
+            int cnt89=0;
+            loop89:
+            do {
+                int alt89=2;
+                int LA89_0 = input.LA(1);
+
+                if ( (LA89_0==BIGDECIMALNUMBER||LA89_0==BIGINTEGERNUMBER||LA89_0==CUBE||LA89_0==DIV||LA89_0==DOLLARVAR||LA89_0==DOUBLENUMBER||LA89_0==FALSE||LA89_0==FLOATNUMBER||LA89_0==GROUP||LA89_0==IDENTIFIER||LA89_0==INTEGER||LA89_0==LONGINTEGER||LA89_0==MINUS||LA89_0==NULL||LA89_0==PERCENT||LA89_0==PLUS||LA89_0==QUOTEDSTRING||LA89_0==STAR||LA89_0==TRUE||(LA89_0 >= BAG_VAL && LA89_0 <= BIN_EXPR)||(LA89_0 >= CASE_COND && LA89_0 <= CASE_EXPR)||(LA89_0 >= CAST_EXPR && LA89_0 <= EXPR_IN_PAREN)||LA89_0==FUNC_EVAL||(LA89_0 >= MAP_VAL && LA89_0 <= NEG)||LA89_0==TUPLE_VAL) ) {
+                    alt89=1;
+                }
+
+
+                switch (alt89) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:485:13: join_group_by_expr
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_join_group_by_expr_in_join_group_by_clause2647);
+            	    join_group_by_expr298=join_group_by_expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, join_group_by_expr298.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt89 >= 1 ) break loop89;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(89, input);
+                        throw eee;
+                }
+                cnt89++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_group_by_clause"
+
+
+    public static class join_group_by_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_group_by_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:488:1: join_group_by_expr : ( col_range | expr | STAR );
+    public final AliasMasker.join_group_by_expr_return join_group_by_expr() throws RecognitionException {
+        AliasMasker.join_group_by_expr_return retval = new AliasMasker.join_group_by_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR301=null;
+        AliasMasker.col_range_return col_range299 =null;
+
+        AliasMasker.expr_return expr300 =null;
+
+
+        CommonTree STAR301_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:489:5: ( col_range | expr | STAR )
+            int alt90=3;
+            switch ( input.LA(1) ) {
+            case COL_RANGE:
+                {
+                alt90=1;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt90=2;
+                }
+                break;
+            case STAR:
+                {
+                int LA90_3 = input.LA(2);
+
+                if ( (LA90_3==DOWN) ) {
+                    alt90=2;
+                }
+                else if ( (LA90_3==EOF||LA90_3==UP||LA90_3==BIGDECIMALNUMBER||LA90_3==BIGINTEGERNUMBER||LA90_3==CUBE||LA90_3==DIV||LA90_3==DOLLARVAR||LA90_3==DOUBLENUMBER||LA90_3==FALSE||LA90_3==FLOATNUMBER||LA90_3==GROUP||LA90_3==IDENTIFIER||LA90_3==INTEGER||LA90_3==LONGINTEGER||LA90_3==MINUS||LA90_3==NULL||LA90_3==PERCENT||LA90_3==PLUS||LA90_3==QUOTEDSTRING||LA90_3==STAR||LA90_3==TRUE||(LA90_3 >= BAG_VAL && LA90_3 <= BIN_EXPR)||(LA90_3 >= CASE_COND && LA90_3 <= CASE_EXPR)||(LA90_3 >= CAST_EXPR && LA90_3 <= EXPR_IN_PAREN)||LA90_3==FUNC_EVAL||(LA90_3 >= MAP_VAL && LA90_3 <= NEG)||LA90_3==TUPLE_VAL) ) {
+                    alt90=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 90, 3, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 90, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt90) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:489:7: col_range
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_join_group_by_expr2663);
+                    col_range299=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range299.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:489:19: expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_join_group_by_expr2667);
+                    expr300=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr300.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:489:26: STAR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR301=(CommonTree)match(input,STAR,FOLLOW_STAR_in_join_group_by_expr2671); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR301_tree = (CommonTree)adaptor.dupNode(STAR301);
+
+
+                    adaptor.addChild(root_0, STAR301_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_group_by_expr"
+
+
+    public static class union_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "union_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:492:1: union_clause : ^( UNION ( ONSCHEMA )? rel_list ) ;
+    public final AliasMasker.union_clause_return union_clause() throws RecognitionException {
+        AliasMasker.union_clause_return retval = new AliasMasker.union_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree UNION302=null;
+        CommonTree ONSCHEMA303=null;
+        AliasMasker.rel_list_return rel_list304 =null;
+
+
+        CommonTree UNION302_tree=null;
+        CommonTree ONSCHEMA303_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:493:5: ( ^( UNION ( ONSCHEMA )? rel_list ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:493:7: ^( UNION ( ONSCHEMA )? rel_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            UNION302=(CommonTree)match(input,UNION,FOLLOW_UNION_in_union_clause2686); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            UNION302_tree = (CommonTree)adaptor.dupNode(UNION302);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(UNION302_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:493:16: ( ONSCHEMA )?
+            int alt91=2;
+            int LA91_0 = input.LA(1);
+
+            if ( (LA91_0==ONSCHEMA) ) {
+                alt91=1;
+            }
+            switch (alt91) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:493:16: ONSCHEMA
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ONSCHEMA303=(CommonTree)match(input,ONSCHEMA,FOLLOW_ONSCHEMA_in_union_clause2688); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ONSCHEMA303_tree = (CommonTree)adaptor.dupNode(ONSCHEMA303);
+
+
+                    adaptor.addChild(root_1, ONSCHEMA303_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_list_in_union_clause2691);
+            rel_list304=rel_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel_list304.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "union_clause"
+
+
+    public static class foreach_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "foreach_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:496:1: foreach_clause : ^( FOREACH rel foreach_plan ) ;
+    public final AliasMasker.foreach_clause_return foreach_clause() throws RecognitionException {
+        AliasMasker.foreach_clause_return retval = new AliasMasker.foreach_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FOREACH305=null;
+        AliasMasker.rel_return rel306 =null;
+
+        AliasMasker.foreach_plan_return foreach_plan307 =null;
+
+
+        CommonTree FOREACH305_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:497:5: ( ^( FOREACH rel foreach_plan ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:497:7: ^( FOREACH rel foreach_plan )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FOREACH305=(CommonTree)match(input,FOREACH,FOLLOW_FOREACH_in_foreach_clause2708); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FOREACH305_tree = (CommonTree)adaptor.dupNode(FOREACH305);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FOREACH305_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_foreach_clause2710);
+            rel306=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel306.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_foreach_plan_in_foreach_clause2712);
+            foreach_plan307=foreach_plan();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, foreach_plan307.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "foreach_clause"
+
+
+    public static class foreach_plan_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "foreach_plan"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:500:1: foreach_plan : ( ^( FOREACH_PLAN_SIMPLE generate_clause ) | ^( FOREACH_PLAN_COMPLEX nested_blk ) );
+    public final AliasMasker.foreach_plan_return foreach_plan() throws RecognitionException {
+        AliasMasker.foreach_plan_return retval = new AliasMasker.foreach_plan_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FOREACH_PLAN_SIMPLE308=null;
+        CommonTree FOREACH_PLAN_COMPLEX310=null;
+        AliasMasker.generate_clause_return generate_clause309 =null;
+
+        AliasMasker.nested_blk_return nested_blk311 =null;
+
+
+        CommonTree FOREACH_PLAN_SIMPLE308_tree=null;
+        CommonTree FOREACH_PLAN_COMPLEX310_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:501:5: ( ^( FOREACH_PLAN_SIMPLE generate_clause ) | ^( FOREACH_PLAN_COMPLEX nested_blk ) )
+            int alt92=2;
+            int LA92_0 = input.LA(1);
+
+            if ( (LA92_0==FOREACH_PLAN_SIMPLE) ) {
+                alt92=1;
+            }
+            else if ( (LA92_0==FOREACH_PLAN_COMPLEX) ) {
+                alt92=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 92, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt92) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:501:7: ^( FOREACH_PLAN_SIMPLE generate_clause )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FOREACH_PLAN_SIMPLE308=(CommonTree)match(input,FOREACH_PLAN_SIMPLE,FOLLOW_FOREACH_PLAN_SIMPLE_in_foreach_plan2729); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FOREACH_PLAN_SIMPLE308_tree = (CommonTree)adaptor.dupNode(FOREACH_PLAN_SIMPLE308);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FOREACH_PLAN_SIMPLE308_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_generate_clause_in_foreach_plan2731);
+                    generate_clause309=generate_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, generate_clause309.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:502:7: ^( FOREACH_PLAN_COMPLEX nested_blk )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FOREACH_PLAN_COMPLEX310=(CommonTree)match(input,FOREACH_PLAN_COMPLEX,FOLLOW_FOREACH_PLAN_COMPLEX_in_foreach_plan2743); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FOREACH_PLAN_COMPLEX310_tree = (CommonTree)adaptor.dupNode(FOREACH_PLAN_COMPLEX310);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FOREACH_PLAN_COMPLEX310_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_blk_in_foreach_plan2745);
+                    nested_blk311=nested_blk();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, nested_blk311.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "foreach_plan"
+
+
+    public static class nested_blk_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_blk"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:505:1: nested_blk : ( nested_command )* generate_clause ;
+    public final AliasMasker.nested_blk_return nested_blk() throws RecognitionException {
+        AliasMasker.nested_blk_return retval = new AliasMasker.nested_blk_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.nested_command_return nested_command312 =null;
+
+        AliasMasker.generate_clause_return generate_clause313 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:506:5: ( ( nested_command )* generate_clause )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:506:7: ( nested_command )* generate_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:506:7: ( nested_command )*
+            loop93:
+            do {
+                int alt93=2;
+                int LA93_0 = input.LA(1);
+
+                if ( ((LA93_0 >= NESTED_CMD && LA93_0 <= NESTED_CMD_ASSI)) ) {
+                    alt93=1;
+                }
+
+
+                switch (alt93) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:506:7: nested_command
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_nested_command_in_nested_blk2760);
+            	    nested_command312=nested_command();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, nested_command312.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop93;
+                }
+            } while (true);
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_generate_clause_in_nested_blk2763);
+            generate_clause313=generate_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, generate_clause313.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_blk"
+
+
+    public static class generate_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "generate_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:509:1: generate_clause : ^( GENERATE ( flatten_generated_item )+ ) ;
+    public final AliasMasker.generate_clause_return generate_clause() throws RecognitionException {
+        AliasMasker.generate_clause_return retval = new AliasMasker.generate_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree GENERATE314=null;
+        AliasMasker.flatten_generated_item_return flatten_generated_item315 =null;
+
+
+        CommonTree GENERATE314_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:510:5: ( ^( GENERATE ( flatten_generated_item )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:510:7: ^( GENERATE ( flatten_generated_item )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            GENERATE314=(CommonTree)match(input,GENERATE,FOLLOW_GENERATE_in_generate_clause2778); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            GENERATE314_tree = (CommonTree)adaptor.dupNode(GENERATE314);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(GENERATE314_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:510:19: ( flatten_generated_item )+
+            int cnt94=0;
+            loop94:
+            do {
+                int alt94=2;
+                int LA94_0 = input.LA(1);
+
+                if ( (LA94_0==BIGDECIMALNUMBER||LA94_0==BIGINTEGERNUMBER||LA94_0==CUBE||LA94_0==DIV||LA94_0==DOLLARVAR||LA94_0==DOUBLENUMBER||LA94_0==FALSE||LA94_0==FLATTEN||LA94_0==FLOATNUMBER||LA94_0==GROUP||LA94_0==IDENTIFIER||LA94_0==INTEGER||LA94_0==LONGINTEGER||LA94_0==MINUS||LA94_0==NULL||LA94_0==PERCENT||LA94_0==PLUS||LA94_0==QUOTEDSTRING||LA94_0==STAR||LA94_0==TRUE||(LA94_0 >= BAG_VAL && LA94_0 <= BIN_EXPR)||(LA94_0 >= CASE_COND && LA94_0 <= CASE_EXPR)||(LA94_0 >= CAST_EXPR && LA94_0 <= EXPR_IN_PAREN)||LA94_0==FUNC_EVAL||(LA94_0 >= MAP_VAL && LA94_0 <= NEG)||LA94_0==TUPLE_VAL) ) {
+                    alt94=1;
+                }
+
+
+                switch (alt94) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:510:19: flatten_generated_item
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_flatten_generated_item_in_generate_clause2780);
+            	    flatten_generated_item315=flatten_generated_item();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, flatten_generated_item315.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt94 >= 1 ) break loop94;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(94, input);
+                        throw eee;
+                }
+                cnt94++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "generate_clause"
+
+
+    public static class nested_command_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_command"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:513:1: nested_command : ( ^( NESTED_CMD IDENTIFIER nested_op ) | ^( NESTED_CMD_ASSI IDENTIFIER expr ) );
+    public final AliasMasker.nested_command_return nested_command() throws RecognitionException {
+        AliasMasker.nested_command_return retval = new AliasMasker.nested_command_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree NESTED_CMD316=null;
+        CommonTree IDENTIFIER317=null;
+        CommonTree NESTED_CMD_ASSI319=null;
+        CommonTree IDENTIFIER320=null;
+        AliasMasker.nested_op_return nested_op318 =null;
+
+        AliasMasker.expr_return expr321 =null;
+
+
+        CommonTree NESTED_CMD316_tree=null;
+        CommonTree IDENTIFIER317_tree=null;
+        CommonTree NESTED_CMD_ASSI319_tree=null;
+        CommonTree IDENTIFIER320_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:514:5: ( ^( NESTED_CMD IDENTIFIER nested_op ) | ^( NESTED_CMD_ASSI IDENTIFIER expr ) )
+            int alt95=2;
+            int LA95_0 = input.LA(1);
+
+            if ( (LA95_0==NESTED_CMD) ) {
+                alt95=1;
+            }
+            else if ( (LA95_0==NESTED_CMD_ASSI) ) {
+                alt95=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 95, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt95) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:514:7: ^( NESTED_CMD IDENTIFIER nested_op )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NESTED_CMD316=(CommonTree)match(input,NESTED_CMD,FOLLOW_NESTED_CMD_in_nested_command2798); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NESTED_CMD316_tree = (CommonTree)adaptor.dupNode(NESTED_CMD316);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NESTED_CMD316_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER317=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_nested_command2800); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER317_tree = (CommonTree)adaptor.dupNode(IDENTIFIER317);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER317_tree);
+                    }
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_op_in_nested_command2802);
+                    nested_op318=nested_op();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, nested_op318.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:515:7: ^( NESTED_CMD_ASSI IDENTIFIER expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NESTED_CMD_ASSI319=(CommonTree)match(input,NESTED_CMD_ASSI,FOLLOW_NESTED_CMD_ASSI_in_nested_command2814); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NESTED_CMD_ASSI319_tree = (CommonTree)adaptor.dupNode(NESTED_CMD_ASSI319);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NESTED_CMD_ASSI319_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER320=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_nested_command2816); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER320_tree = (CommonTree)adaptor.dupNode(IDENTIFIER320);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER320_tree);
+                    }
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_nested_command2818);
+                    expr321=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr321.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_command"
+
+
+    public static class nested_op_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_op"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:518:1: nested_op : ( nested_proj | nested_filter | nested_sort | nested_distinct | nested_limit | nested_cross | nested_foreach );
+    public final AliasMasker.nested_op_return nested_op() throws RecognitionException {
+        AliasMasker.nested_op_return retval = new AliasMasker.nested_op_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.nested_proj_return nested_proj322 =null;
+
+        AliasMasker.nested_filter_return nested_filter323 =null;
+
+        AliasMasker.nested_sort_return nested_sort324 =null;
+
+        AliasMasker.nested_distinct_return nested_distinct325 =null;
+
+        AliasMasker.nested_limit_return nested_limit326 =null;
+
+        AliasMasker.nested_cross_return nested_cross327 =null;
+
+        AliasMasker.nested_foreach_return nested_foreach328 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:518:11: ( nested_proj | nested_filter | nested_sort | nested_distinct | nested_limit | nested_cross | nested_foreach )
+            int alt96=7;
+            switch ( input.LA(1) ) {
+            case NESTED_PROJ:
+                {
+                alt96=1;
+                }
+                break;
+            case FILTER:
+                {
+                alt96=2;
+                }
+                break;
+            case ORDER:
+                {
+                alt96=3;
+                }
+                break;
+            case DISTINCT:
+                {
+                alt96=4;
+                }
+                break;
+            case LIMIT:
+                {
+                alt96=5;
+                }
+                break;
+            case CROSS:
+                {
+                alt96=6;
+                }
+                break;
+            case FOREACH:
+                {
+                alt96=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 96, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt96) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:518:13: nested_proj
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_proj_in_nested_op2829);
+                    nested_proj322=nested_proj();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_proj322.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:519:13: nested_filter
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_filter_in_nested_op2843);
+                    nested_filter323=nested_filter();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_filter323.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:520:13: nested_sort
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_sort_in_nested_op2857);
+                    nested_sort324=nested_sort();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_sort324.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:521:13: nested_distinct
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_distinct_in_nested_op2871);
+                    nested_distinct325=nested_distinct();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_distinct325.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:522:13: nested_limit
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_limit_in_nested_op2885);
+                    nested_limit326=nested_limit();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_limit326.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:523:13: nested_cross
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_cross_in_nested_op2899);
+                    nested_cross327=nested_cross();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_cross327.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:524:13: nested_foreach
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_foreach_in_nested_op2913);
+                    nested_foreach328=nested_foreach();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_foreach328.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_op"
+
+
+    public static class nested_proj_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_proj"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:527:1: nested_proj : ^( NESTED_PROJ col_ref ( col_ref )+ ) ;
+    public final AliasMasker.nested_proj_return nested_proj() throws RecognitionException {
+        AliasMasker.nested_proj_return retval = new AliasMasker.nested_proj_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree NESTED_PROJ329=null;
+        AliasMasker.col_ref_return col_ref330 =null;
+
+        AliasMasker.col_ref_return col_ref331 =null;
+
+
+        CommonTree NESTED_PROJ329_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:528:5: ( ^( NESTED_PROJ col_ref ( col_ref )+ ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:528:7: ^( NESTED_PROJ col_ref ( col_ref )+ )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            NESTED_PROJ329=(CommonTree)match(input,NESTED_PROJ,FOLLOW_NESTED_PROJ_in_nested_proj2928); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            NESTED_PROJ329_tree = (CommonTree)adaptor.dupNode(NESTED_PROJ329);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(NESTED_PROJ329_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_col_ref_in_nested_proj2930);
+            col_ref330=col_ref();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, col_ref330.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:528:30: ( col_ref )+
+            int cnt97=0;
+            loop97:
+            do {
+                int alt97=2;
+                int LA97_0 = input.LA(1);
+
+                if ( (LA97_0==CUBE||LA97_0==DOLLARVAR||LA97_0==GROUP||LA97_0==IDENTIFIER) ) {
+                    alt97=1;
+                }
+
+
+                switch (alt97) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:528:30: col_ref
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_col_ref_in_nested_proj2932);
+            	    col_ref331=col_ref();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, col_ref331.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt97 >= 1 ) break loop97;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(97, input);
+                        throw eee;
+                }
+                cnt97++;
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_proj"
+
+
+    public static class nested_filter_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_filter"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:531:1: nested_filter : ^( FILTER nested_op_input cond ) ;
+    public final AliasMasker.nested_filter_return nested_filter() throws RecognitionException {
+        AliasMasker.nested_filter_return retval = new AliasMasker.nested_filter_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FILTER332=null;
+        AliasMasker.nested_op_input_return nested_op_input333 =null;
+
+        AliasMasker.cond_return cond334 =null;
+
+
+        CommonTree FILTER332_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:532:5: ( ^( FILTER nested_op_input cond ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:532:7: ^( FILTER nested_op_input cond )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FILTER332=(CommonTree)match(input,FILTER,FOLLOW_FILTER_in_nested_filter2950); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FILTER332_tree = (CommonTree)adaptor.dupNode(FILTER332);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FILTER332_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_filter2952);
+            nested_op_input333=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input333.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_nested_filter2954);
+            cond334=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond334.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_filter"
+
+
+    public static class nested_sort_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_sort"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:535:1: nested_sort : ^( ORDER nested_op_input order_by_clause ( func_clause )? ) ;
+    public final AliasMasker.nested_sort_return nested_sort() throws RecognitionException {
+        AliasMasker.nested_sort_return retval = new AliasMasker.nested_sort_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ORDER335=null;
+        AliasMasker.nested_op_input_return nested_op_input336 =null;
+
+        AliasMasker.order_by_clause_return order_by_clause337 =null;
+
+        AliasMasker.func_clause_return func_clause338 =null;
+
+
+        CommonTree ORDER335_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:536:5: ( ^( ORDER nested_op_input order_by_clause ( func_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:536:7: ^( ORDER nested_op_input order_by_clause ( func_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            ORDER335=(CommonTree)match(input,ORDER,FOLLOW_ORDER_in_nested_sort2971); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            ORDER335_tree = (CommonTree)adaptor.dupNode(ORDER335);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(ORDER335_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_sort2973);
+            nested_op_input336=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input336.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_order_by_clause_in_nested_sort2975);
+            order_by_clause337=order_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, order_by_clause337.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:536:48: ( func_clause )?
+            int alt98=2;
+            int LA98_0 = input.LA(1);
+
+            if ( (LA98_0==FUNC||LA98_0==FUNC_REF) ) {
+                alt98=1;
+            }
+            switch (alt98) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:536:48: func_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_nested_sort2977);
+                    func_clause338=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause338.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_sort"
+
+
+    public static class nested_distinct_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_distinct"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:539:1: nested_distinct : ^( DISTINCT nested_op_input ) ;
+    public final AliasMasker.nested_distinct_return nested_distinct() throws RecognitionException {
+        AliasMasker.nested_distinct_return retval = new AliasMasker.nested_distinct_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DISTINCT339=null;
+        AliasMasker.nested_op_input_return nested_op_input340 =null;
+
+
+        CommonTree DISTINCT339_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:540:5: ( ^( DISTINCT nested_op_input ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:540:7: ^( DISTINCT nested_op_input )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            DISTINCT339=(CommonTree)match(input,DISTINCT,FOLLOW_DISTINCT_in_nested_distinct2995); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DISTINCT339_tree = (CommonTree)adaptor.dupNode(DISTINCT339);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(DISTINCT339_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_distinct2997);
+            nested_op_input340=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input340.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_distinct"
+
+
+    public static class nested_limit_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_limit"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:543:1: nested_limit : ^( LIMIT nested_op_input ( INTEGER | expr ) ) ;
+    public final AliasMasker.nested_limit_return nested_limit() throws RecognitionException {
+        AliasMasker.nested_limit_return retval = new AliasMasker.nested_limit_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LIMIT341=null;
+        CommonTree INTEGER343=null;
+        AliasMasker.nested_op_input_return nested_op_input342 =null;
+
+        AliasMasker.expr_return expr344 =null;
+
+
+        CommonTree LIMIT341_tree=null;
+        CommonTree INTEGER343_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:5: ( ^( LIMIT nested_op_input ( INTEGER | expr ) ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:7: ^( LIMIT nested_op_input ( INTEGER | expr ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            LIMIT341=(CommonTree)match(input,LIMIT,FOLLOW_LIMIT_in_nested_limit3014); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            LIMIT341_tree = (CommonTree)adaptor.dupNode(LIMIT341);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(LIMIT341_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_limit3016);
+            nested_op_input342=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input342.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:32: ( INTEGER | expr )
+            int alt99=2;
+            int LA99_0 = input.LA(1);
+
+            if ( (LA99_0==INTEGER) ) {
+                int LA99_1 = input.LA(2);
+
+                if ( (synpred179_AliasMasker()) ) {
+                    alt99=1;
+                }
+                else if ( (true) ) {
+                    alt99=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 99, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA99_0==BIGDECIMALNUMBER||LA99_0==BIGINTEGERNUMBER||LA99_0==CUBE||LA99_0==DIV||LA99_0==DOLLARVAR||LA99_0==DOUBLENUMBER||LA99_0==FALSE||LA99_0==FLOATNUMBER||LA99_0==GROUP||LA99_0==IDENTIFIER||LA99_0==LONGINTEGER||LA99_0==MINUS||LA99_0==NULL||LA99_0==PERCENT||LA99_0==PLUS||LA99_0==QUOTEDSTRING||LA99_0==STAR||LA99_0==TRUE||(LA99_0 >= BAG_VAL && LA99_0 <= BIN_EXPR)||(LA99_0 >= CASE_COND && LA99_0 <= CASE_EXPR)||LA99_0==CAST_EXPR||LA99_0==EXPR_IN_PAREN||LA99_0==FUNC_EVAL||(LA99_0 >= MAP_VAL && LA99_0 <= NEG)||LA99_0==TUPLE_VAL) ) {
+                alt99=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 99, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt99) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:34: INTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    INTEGER343=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_nested_limit3020); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTEGER343_tree = (CommonTree)adaptor.dupNode(INTEGER343);
+
+
+                    adaptor.addChild(root_1, INTEGER343_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:44: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_nested_limit3024);
+                    expr344=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr344.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_limit"
+
+
+    public static class nested_cross_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_cross"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:547:1: nested_cross : ^( CROSS nested_op_input_list ) ;
+    public final AliasMasker.nested_cross_return nested_cross() throws RecognitionException {
+        AliasMasker.nested_cross_return retval = new AliasMasker.nested_cross_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CROSS345=null;
+        AliasMasker.nested_op_input_list_return nested_op_input_list346 =null;
+
+
+        CommonTree CROSS345_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:547:14: ( ^( CROSS nested_op_input_list ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:547:16: ^( CROSS nested_op_input_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CROSS345=(CommonTree)match(input,CROSS,FOLLOW_CROSS_in_nested_cross3039); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CROSS345_tree = (CommonTree)adaptor.dupNode(CROSS345);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CROSS345_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_list_in_nested_cross3041);
+            nested_op_input_list346=nested_op_input_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input_list346.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_cross"
+
+
+    public static class nested_foreach_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_foreach"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:550:1: nested_foreach : ^( FOREACH nested_op_input generate_clause ) ;
+    public final AliasMasker.nested_foreach_return nested_foreach() throws RecognitionException {
+        AliasMasker.nested_foreach_return retval = new AliasMasker.nested_foreach_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FOREACH347=null;
+        AliasMasker.nested_op_input_return nested_op_input348 =null;
+
+        AliasMasker.generate_clause_return generate_clause349 =null;
+
+
+        CommonTree FOREACH347_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:550:16: ( ^( FOREACH nested_op_input generate_clause ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:550:18: ^( FOREACH nested_op_input generate_clause )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FOREACH347=(CommonTree)match(input,FOREACH,FOLLOW_FOREACH_in_nested_foreach3054); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FOREACH347_tree = (CommonTree)adaptor.dupNode(FOREACH347);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FOREACH347_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_foreach3056);
+            nested_op_input348=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input348.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_generate_clause_in_nested_foreach3058);
+            generate_clause349=generate_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, generate_clause349.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_foreach"
+
+
+    public static class nested_op_input_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_op_input_list"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:553:1: nested_op_input_list : ( nested_op_input )+ ;
+    public final AliasMasker.nested_op_input_list_return nested_op_input_list() throws RecognitionException {
+        AliasMasker.nested_op_input_list_return retval = new AliasMasker.nested_op_input_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.nested_op_input_return nested_op_input350 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:553:22: ( ( nested_op_input )+ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:553:24: ( nested_op_input )+
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:553:24: ( nested_op_input )+
+            int cnt100=0;
+            loop100:
+            do {
+                int alt100=2;
+                int LA100_0 = input.LA(1);
+
+                if ( (LA100_0==CUBE||LA100_0==DOLLARVAR||LA100_0==GROUP||LA100_0==IDENTIFIER||LA100_0==NESTED_PROJ) ) {
+                    alt100=1;
+                }
+
+
+                switch (alt100) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:553:24: nested_op_input
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_nested_op_input_in_nested_op_input_list3069);
+            	    nested_op_input350=nested_op_input();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, nested_op_input350.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt100 >= 1 ) break loop100;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(100, input);
+                        throw eee;
+                }
+                cnt100++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_op_input_list"
+
+
+    public static class nested_op_input_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_op_input"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:556:1: nested_op_input : ( col_ref | nested_proj );
+    public final AliasMasker.nested_op_input_return nested_op_input() throws RecognitionException {
+        AliasMasker.nested_op_input_return retval = new AliasMasker.nested_op_input_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.col_ref_return col_ref351 =null;
+
+        AliasMasker.nested_proj_return nested_proj352 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:556:17: ( col_ref | nested_proj )
+            int alt101=2;
+            int LA101_0 = input.LA(1);
+
+            if ( (LA101_0==CUBE||LA101_0==DOLLARVAR||LA101_0==GROUP||LA101_0==IDENTIFIER) ) {
+                alt101=1;
+            }
+            else if ( (LA101_0==NESTED_PROJ) ) {
+                alt101=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 101, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt101) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:556:19: col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_nested_op_input3079);
+                    col_ref351=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref351.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:556:29: nested_proj
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_proj_in_nested_op_input3083);
+                    nested_proj352=nested_proj();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_proj352.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_op_input"
+
+
+    public static class stream_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "stream_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:559:1: stream_clause : ^( STREAM rel ( EXECCOMMAND | IDENTIFIER ) ( as_clause )? ) ;
+    public final AliasMasker.stream_clause_return stream_clause() throws RecognitionException {
+        AliasMasker.stream_clause_return retval = new AliasMasker.stream_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STREAM353=null;
+        CommonTree set355=null;
+        AliasMasker.rel_return rel354 =null;
+
+        AliasMasker.as_clause_return as_clause356 =null;
+
+
+        CommonTree STREAM353_tree=null;
+        CommonTree set355_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:560:5: ( ^( STREAM rel ( EXECCOMMAND | IDENTIFIER ) ( as_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:560:7: ^( STREAM rel ( EXECCOMMAND | IDENTIFIER ) ( as_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STREAM353=(CommonTree)match(input,STREAM,FOLLOW_STREAM_in_stream_clause3098); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STREAM353_tree = (CommonTree)adaptor.dupNode(STREAM353);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STREAM353_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_stream_clause3100);
+            rel354=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel354.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            set355=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==EXECCOMMAND||input.LA(1)==IDENTIFIER ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set355_tree = (CommonTree)adaptor.dupNode(set355);
+
+
+                adaptor.addChild(root_1, set355_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:560:50: ( as_clause )?
+            int alt102=2;
+            int LA102_0 = input.LA(1);
+
+            if ( (LA102_0==AS) ) {
+                alt102=1;
+            }
+            switch (alt102) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:560:50: as_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_as_clause_in_stream_clause3112);
+                    as_clause356=as_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, as_clause356.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "stream_clause"
+
+
+    public static class mr_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "mr_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:563:1: mr_clause : ^( MAPREDUCE QUOTEDSTRING ( path_list )? store_clause load_clause ( EXECCOMMAND )? ) ;
+    public final AliasMasker.mr_clause_return mr_clause() throws RecognitionException {
+        AliasMasker.mr_clause_return retval = new AliasMasker.mr_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MAPREDUCE357=null;
+        CommonTree QUOTEDSTRING358=null;
+        CommonTree EXECCOMMAND362=null;
+        AliasMasker.path_list_return path_list359 =null;
+
+        AliasMasker.store_clause_return store_clause360 =null;
+
+        AliasMasker.load_clause_return load_clause361 =null;
+
+
+        CommonTree MAPREDUCE357_tree=null;
+        CommonTree QUOTEDSTRING358_tree=null;
+        CommonTree EXECCOMMAND362_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:564:5: ( ^( MAPREDUCE QUOTEDSTRING ( path_list )? store_clause load_clause ( EXECCOMMAND )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:564:7: ^( MAPREDUCE QUOTEDSTRING ( path_list )? store_clause load_clause ( EXECCOMMAND )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            MAPREDUCE357=(CommonTree)match(input,MAPREDUCE,FOLLOW_MAPREDUCE_in_mr_clause3130); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            MAPREDUCE357_tree = (CommonTree)adaptor.dupNode(MAPREDUCE357);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(MAPREDUCE357_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING358=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_mr_clause3132); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING358_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING358);
+
+
+            adaptor.addChild(root_1, QUOTEDSTRING358_tree);
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:564:33: ( path_list )?
+            int alt103=2;
+            int LA103_0 = input.LA(1);
+
+            if ( (LA103_0==QUOTEDSTRING) ) {
+                alt103=1;
+            }
+            switch (alt103) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:564:33: path_list
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_path_list_in_mr_clause3134);
+                    path_list359=path_list();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, path_list359.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_store_clause_in_mr_clause3137);
+            store_clause360=store_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, store_clause360.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_load_clause_in_mr_clause3139);
+            load_clause361=load_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, load_clause361.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:564:69: ( EXECCOMMAND )?
+            int alt104=2;
+            int LA104_0 = input.LA(1);
+
+            if ( (LA104_0==EXECCOMMAND) ) {
+                alt104=1;
+            }
+            switch (alt104) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:564:69: EXECCOMMAND
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    EXECCOMMAND362=(CommonTree)match(input,EXECCOMMAND,FOLLOW_EXECCOMMAND_in_mr_clause3141); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EXECCOMMAND362_tree = (CommonTree)adaptor.dupNode(EXECCOMMAND362);
+
+
+                    adaptor.addChild(root_1, EXECCOMMAND362_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "mr_clause"
+
+
+    public static class split_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_clause"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:567:1: split_clause : ^( SPLIT rel ( split_branch )+ ( split_otherwise )? ) ;
+    public final AliasMasker.split_clause_return split_clause() throws RecognitionException {
+        AliasMasker.split_clause_return retval = new AliasMasker.split_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SPLIT363=null;
+        AliasMasker.rel_return rel364 =null;
+
+        AliasMasker.split_branch_return split_branch365 =null;
+
+        AliasMasker.split_otherwise_return split_otherwise366 =null;
+
+
+        CommonTree SPLIT363_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:568:5: ( ^( SPLIT rel ( split_branch )+ ( split_otherwise )? ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:568:7: ^( SPLIT rel ( split_branch )+ ( split_otherwise )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SPLIT363=(CommonTree)match(input,SPLIT,FOLLOW_SPLIT_in_split_clause3159); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SPLIT363_tree = (CommonTree)adaptor.dupNode(SPLIT363);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SPLIT363_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_split_clause3161);
+            rel364=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel364.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:568:20: ( split_branch )+
+            int cnt105=0;
+            loop105:
+            do {
+                int alt105=2;
+                int LA105_0 = input.LA(1);
+
+                if ( (LA105_0==SPLIT_BRANCH) ) {
+                    alt105=1;
+                }
+
+
+                switch (alt105) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:568:20: split_branch
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_split_branch_in_split_clause3163);
+            	    split_branch365=split_branch();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, split_branch365.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt105 >= 1 ) break loop105;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(105, input);
+                        throw eee;
+                }
+                cnt105++;
+            } while (true);
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:568:34: ( split_otherwise )?
+            int alt106=2;
+            int LA106_0 = input.LA(1);
+
+            if ( (LA106_0==OTHERWISE) ) {
+                alt106=1;
+            }
+            switch (alt106) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:568:34: split_otherwise
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_split_otherwise_in_split_clause3166);
+                    split_otherwise366=split_otherwise();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, split_otherwise366.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_clause"
+
+
+    public static class split_branch_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_branch"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:571:1: split_branch : ^( SPLIT_BRANCH alias cond ) ;
+    public final AliasMasker.split_branch_return split_branch() throws RecognitionException {
+        AliasMasker.split_branch_return retval = new AliasMasker.split_branch_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SPLIT_BRANCH367=null;
+        AliasMasker.alias_return alias368 =null;
+
+        AliasMasker.cond_return cond369 =null;
+
+
+        CommonTree SPLIT_BRANCH367_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:572:5: ( ^( SPLIT_BRANCH alias cond ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:572:7: ^( SPLIT_BRANCH alias cond )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SPLIT_BRANCH367=(CommonTree)match(input,SPLIT_BRANCH,FOLLOW_SPLIT_BRANCH_in_split_branch3184); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SPLIT_BRANCH367_tree = (CommonTree)adaptor.dupNode(SPLIT_BRANCH367);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SPLIT_BRANCH367_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_split_branch3186);
+            alias368=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias368.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_split_branch3188);
+            cond369=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond369.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_branch"
+
+
+    public static class split_otherwise_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_otherwise"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:575:1: split_otherwise : ^( OTHERWISE alias ) ;
+    public final AliasMasker.split_otherwise_return split_otherwise() throws RecognitionException {
+        AliasMasker.split_otherwise_return retval = new AliasMasker.split_otherwise_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree OTHERWISE370=null;
+        AliasMasker.alias_return alias371 =null;
+
+
+        CommonTree OTHERWISE370_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:576:5: ( ^( OTHERWISE alias ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:576:7: ^( OTHERWISE alias )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            OTHERWISE370=(CommonTree)match(input,OTHERWISE,FOLLOW_OTHERWISE_in_split_otherwise3205); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            OTHERWISE370_tree = (CommonTree)adaptor.dupNode(OTHERWISE370);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(OTHERWISE370_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_split_otherwise3207);
+            alias371=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias371.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_otherwise"
+
+
+    public static class col_ref_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_ref"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:579:1: col_ref : ( alias_col_ref | dollar_col_ref );
+    public final AliasMasker.col_ref_return col_ref() throws RecognitionException {
+        AliasMasker.col_ref_return retval = new AliasMasker.col_ref_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.alias_col_ref_return alias_col_ref372 =null;
+
+        AliasMasker.dollar_col_ref_return dollar_col_ref373 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:579:9: ( alias_col_ref | dollar_col_ref )
+            int alt107=2;
+            int LA107_0 = input.LA(1);
+
+            if ( (LA107_0==CUBE||LA107_0==GROUP||LA107_0==IDENTIFIER) ) {
+                alt107=1;
+            }
+            else if ( (LA107_0==DOLLARVAR) ) {
+                alt107=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 107, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt107) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:579:11: alias_col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_alias_col_ref_in_col_ref3218);
+                    alias_col_ref372=alias_col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, alias_col_ref372.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:579:27: dollar_col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_dollar_col_ref_in_col_ref3222);
+                    dollar_col_ref373=dollar_col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, dollar_col_ref373.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_ref"
+
+
+    public static class alias_col_ref_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "alias_col_ref"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:582:1: alias_col_ref : ( GROUP | CUBE | IDENTIFIER );
+    public final AliasMasker.alias_col_ref_return alias_col_ref() throws RecognitionException {
+        AliasMasker.alias_col_ref_return retval = new AliasMasker.alias_col_ref_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree GROUP374=null;
+        CommonTree CUBE375=null;
+        CommonTree IDENTIFIER376=null;
+
+        CommonTree GROUP374_tree=null;
+        CommonTree CUBE375_tree=null;
+        CommonTree IDENTIFIER376_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:583:5: ( GROUP | CUBE | IDENTIFIER )
+            int alt108=3;
+            switch ( input.LA(1) ) {
+            case GROUP:
+                {
+                alt108=1;
+                }
+                break;
+            case CUBE:
+                {
+                alt108=2;
+                }
+                break;
+            case IDENTIFIER:
+                {
+                alt108=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 108, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt108) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:583:7: GROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GROUP374=(CommonTree)match(input,GROUP,FOLLOW_GROUP_in_alias_col_ref3235); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GROUP374_tree = (CommonTree)adaptor.dupNode(GROUP374);
+
+
+                    adaptor.addChild(root_0, GROUP374_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:584:7: CUBE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CUBE375=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_alias_col_ref3243); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CUBE375_tree = (CommonTree)adaptor.dupNode(CUBE375);
+
+
+                    adaptor.addChild(root_0, CUBE375_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:585:7: IDENTIFIER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER376=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_alias_col_ref3251); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER376_tree = (CommonTree)adaptor.dupNode(IDENTIFIER376);
+
+
+                    adaptor.addChild(root_0, IDENTIFIER376_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                              String alias = (IDENTIFIER376!=null?IDENTIFIER376.getText():null);
+                              String[] names = alias.split( "::" );
+                              StringBuilder sb = new StringBuilder();
+                              for( int i = 0; i < names.length; i++ ) {
+                                  String name = names[i];
+                                  sb.append( aliasSeen.contains( name ) ? getMask( name ) : name );
+                                  if( i < names.length - 1 )
+                                      sb.append( "::" );
+                              }
+                              IDENTIFIER376.token.setText( sb.toString() );
+                          }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "alias_col_ref"
+
+
+    public static class dollar_col_ref_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "dollar_col_ref"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:600:1: dollar_col_ref : DOLLARVAR ;
+    public final AliasMasker.dollar_col_ref_return dollar_col_ref() throws RecognitionException {
+        AliasMasker.dollar_col_ref_return retval = new AliasMasker.dollar_col_ref_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DOLLARVAR377=null;
+
+        CommonTree DOLLARVAR377_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:601:5: ( DOLLARVAR )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:601:7: DOLLARVAR
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            DOLLARVAR377=(CommonTree)match(input,DOLLARVAR,FOLLOW_DOLLARVAR_in_dollar_col_ref3272); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DOLLARVAR377_tree = (CommonTree)adaptor.dupNode(DOLLARVAR377);
+
+
+            adaptor.addChild(root_0, DOLLARVAR377_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "dollar_col_ref"
+
+
+    public static class const_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "const_expr"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:604:1: const_expr : literal ;
+    public final AliasMasker.const_expr_return const_expr() throws RecognitionException {
+        AliasMasker.const_expr_return retval = new AliasMasker.const_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.literal_return literal378 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:604:12: ( literal )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:604:14: literal
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_literal_in_const_expr3281);
+            literal378=literal();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, literal378.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "const_expr"
+
+
+    public static class literal_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "literal"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:607:1: literal : ( scalar | map | bag | tuple );
+    public final AliasMasker.literal_return literal() throws RecognitionException {
+        AliasMasker.literal_return retval = new AliasMasker.literal_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AliasMasker.scalar_return scalar379 =null;
+
+        AliasMasker.map_return map380 =null;
+
+        AliasMasker.bag_return bag381 =null;
+
+        AliasMasker.tuple_return tuple382 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:607:9: ( scalar | map | bag | tuple )
+            int alt109=4;
+            switch ( input.LA(1) ) {
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case QUOTEDSTRING:
+            case TRUE:
+                {
+                alt109=1;
+                }
+                break;
+            case MAP_VAL:
+                {
+                alt109=2;
+                }
+                break;
+            case BAG_VAL:
+                {
+                alt109=3;
+                }
+                break;
+            case TUPLE_VAL:
+                {
+                alt109=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 109, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt109) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:607:11: scalar
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_scalar_in_literal3290);
+                    scalar379=scalar();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, scalar379.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:607:20: map
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_map_in_literal3294);
+                    map380=map();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, map380.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:607:26: bag
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bag_in_literal3298);
+                    bag381=bag();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bag381.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:607:32: tuple
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_in_literal3302);
+                    tuple382=tuple();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, tuple382.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "literal"
+
+
+    public static class scalar_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "scalar"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:1: scalar : ( num_scalar | QUOTEDSTRING | NULL | TRUE | FALSE );
+    public final AliasMasker.scalar_return scalar() throws RecognitionException {
+        AliasMasker.scalar_return retval = new AliasMasker.scalar_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING384=null;
+        CommonTree NULL385=null;
+        CommonTree TRUE386=null;
+        CommonTree FALSE387=null;
+        AliasMasker.num_scalar_return num_scalar383 =null;
+
+
+        CommonTree QUOTEDSTRING384_tree=null;
+        CommonTree NULL385_tree=null;
+        CommonTree TRUE386_tree=null;
+        CommonTree FALSE387_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:8: ( num_scalar | QUOTEDSTRING | NULL | TRUE | FALSE )
+            int alt110=5;
+            switch ( input.LA(1) ) {
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case DOUBLENUMBER:
+            case FLOATNUMBER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+                {
+                alt110=1;
+                }
+                break;
+            case QUOTEDSTRING:
+                {
+                alt110=2;
+                }
+                break;
+            case NULL:
+                {
+                alt110=3;
+                }
+                break;
+            case TRUE:
+                {
+                alt110=4;
+                }
+                break;
+            case FALSE:
+                {
+                alt110=5;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 110, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt110) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:10: num_scalar
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_num_scalar_in_scalar3311);
+                    num_scalar383=num_scalar();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, num_scalar383.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:23: QUOTEDSTRING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING384=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_scalar3315); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING384_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING384);
+
+
+                    adaptor.addChild(root_0, QUOTEDSTRING384_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:38: NULL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NULL385=(CommonTree)match(input,NULL,FOLLOW_NULL_in_scalar3319); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL385_tree = (CommonTree)adaptor.dupNode(NULL385);
+
+
+                    adaptor.addChild(root_0, NULL385_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:45: TRUE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TRUE386=(CommonTree)match(input,TRUE,FOLLOW_TRUE_in_scalar3323); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TRUE386_tree = (CommonTree)adaptor.dupNode(TRUE386);
+
+
+                    adaptor.addChild(root_0, TRUE386_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:610:52: FALSE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FALSE387=(CommonTree)match(input,FALSE,FOLLOW_FALSE_in_scalar3327); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FALSE387_tree = (CommonTree)adaptor.dupNode(FALSE387);
+
+
+                    adaptor.addChild(root_0, FALSE387_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "scalar"
+
+
+    public static class num_scalar_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "num_scalar"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:613:1: num_scalar : ( MINUS )? ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER ) ;
+    public final AliasMasker.num_scalar_return num_scalar() throws RecognitionException {
+        AliasMasker.num_scalar_return retval = new AliasMasker.num_scalar_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MINUS388=null;
+        CommonTree set389=null;
+
+        CommonTree MINUS388_tree=null;
+        CommonTree set389_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:613:12: ( ( MINUS )? ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:613:14: ( MINUS )? ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:613:14: ( MINUS )?
+            int alt111=2;
+            int LA111_0 = input.LA(1);
+
+            if ( (LA111_0==MINUS) ) {
+                alt111=1;
+            }
+            switch (alt111) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:613:14: MINUS
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    MINUS388=(CommonTree)match(input,MINUS,FOLLOW_MINUS_in_num_scalar3336); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MINUS388_tree = (CommonTree)adaptor.dupNode(MINUS388);
+
+
+                    adaptor.addChild(root_0, MINUS388_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            set389=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==BIGDECIMALNUMBER||input.LA(1)==BIGINTEGERNUMBER||input.LA(1)==DOUBLENUMBER||input.LA(1)==FLOATNUMBER||input.LA(1)==INTEGER||input.LA(1)==LONGINTEGER ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set389_tree = (CommonTree)adaptor.dupNode(set389);
+
+
+                adaptor.addChild(root_0, set389_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "num_scalar"
+
+
+    public static class map_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "map"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:616:1: map : ^( MAP_VAL ( keyvalue )* ) ;
+    public final AliasMasker.map_return map() throws RecognitionException {
+        AliasMasker.map_return retval = new AliasMasker.map_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MAP_VAL390=null;
+        AliasMasker.keyvalue_return keyvalue391 =null;
+
+
+        CommonTree MAP_VAL390_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:617:5: ( ^( MAP_VAL ( keyvalue )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:617:7: ^( MAP_VAL ( keyvalue )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            MAP_VAL390=(CommonTree)match(input,MAP_VAL,FOLLOW_MAP_VAL_in_map3378); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            MAP_VAL390_tree = (CommonTree)adaptor.dupNode(MAP_VAL390);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(MAP_VAL390_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:617:18: ( keyvalue )*
+                loop112:
+                do {
+                    int alt112=2;
+                    int LA112_0 = input.LA(1);
+
+                    if ( (LA112_0==KEY_VAL_PAIR) ) {
+                        alt112=1;
+                    }
+
+
+                    switch (alt112) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:617:18: keyvalue
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_keyvalue_in_map3380);
+                	    keyvalue391=keyvalue();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, keyvalue391.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop112;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "map"
+
+
+    public static class keyvalue_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "keyvalue"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:620:1: keyvalue : ^( KEY_VAL_PAIR map_key const_expr ) ;
+    public final AliasMasker.keyvalue_return keyvalue() throws RecognitionException {
+        AliasMasker.keyvalue_return retval = new AliasMasker.keyvalue_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree KEY_VAL_PAIR392=null;
+        AliasMasker.map_key_return map_key393 =null;
+
+        AliasMasker.const_expr_return const_expr394 =null;
+
+
+        CommonTree KEY_VAL_PAIR392_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:621:5: ( ^( KEY_VAL_PAIR map_key const_expr ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:621:7: ^( KEY_VAL_PAIR map_key const_expr )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            KEY_VAL_PAIR392=(CommonTree)match(input,KEY_VAL_PAIR,FOLLOW_KEY_VAL_PAIR_in_keyvalue3398); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            KEY_VAL_PAIR392_tree = (CommonTree)adaptor.dupNode(KEY_VAL_PAIR392);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(KEY_VAL_PAIR392_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_map_key_in_keyvalue3400);
+            map_key393=map_key();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, map_key393.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_const_expr_in_keyvalue3402);
+            const_expr394=const_expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, const_expr394.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "keyvalue"
+
+
+    public static class map_key_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "map_key"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:624:1: map_key : QUOTEDSTRING ;
+    public final AliasMasker.map_key_return map_key() throws RecognitionException {
+        AliasMasker.map_key_return retval = new AliasMasker.map_key_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING395=null;
+
+        CommonTree QUOTEDSTRING395_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:624:9: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:624:11: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING395=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_map_key3413); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING395_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING395);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING395_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "map_key"
+
+
+    public static class bag_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bag"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:627:1: bag : ^( BAG_VAL ( tuple )* ) ;
+    public final AliasMasker.bag_return bag() throws RecognitionException {
+        AliasMasker.bag_return retval = new AliasMasker.bag_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BAG_VAL396=null;
+        AliasMasker.tuple_return tuple397 =null;
+
+
+        CommonTree BAG_VAL396_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:628:5: ( ^( BAG_VAL ( tuple )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:628:7: ^( BAG_VAL ( tuple )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BAG_VAL396=(CommonTree)match(input,BAG_VAL,FOLLOW_BAG_VAL_in_bag3428); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BAG_VAL396_tree = (CommonTree)adaptor.dupNode(BAG_VAL396);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BAG_VAL396_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:628:18: ( tuple )*
+                loop113:
+                do {
+                    int alt113=2;
+                    int LA113_0 = input.LA(1);
+
+                    if ( (LA113_0==TUPLE_VAL) ) {
+                        alt113=1;
+                    }
+
+
+                    switch (alt113) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:628:18: tuple
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_tuple_in_bag3430);
+                	    tuple397=tuple();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, tuple397.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop113;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bag"
+
+
+    public static class tuple_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tuple"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:631:1: tuple : ^( TUPLE_VAL ( literal )* ) ;
+    public final AliasMasker.tuple_return tuple() throws RecognitionException {
+        AliasMasker.tuple_return retval = new AliasMasker.tuple_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree TUPLE_VAL398=null;
+        AliasMasker.literal_return literal399 =null;
+
+
+        CommonTree TUPLE_VAL398_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:632:5: ( ^( TUPLE_VAL ( literal )* ) )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:632:7: ^( TUPLE_VAL ( literal )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            TUPLE_VAL398=(CommonTree)match(input,TUPLE_VAL,FOLLOW_TUPLE_VAL_in_tuple3448); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            TUPLE_VAL398_tree = (CommonTree)adaptor.dupNode(TUPLE_VAL398);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_VAL398_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:632:20: ( literal )*
+                loop114:
+                do {
+                    int alt114=2;
+                    int LA114_0 = input.LA(1);
+
+                    if ( (LA114_0==BIGDECIMALNUMBER||LA114_0==BIGINTEGERNUMBER||LA114_0==DOUBLENUMBER||LA114_0==FALSE||LA114_0==FLOATNUMBER||LA114_0==INTEGER||LA114_0==LONGINTEGER||LA114_0==MINUS||LA114_0==NULL||LA114_0==QUOTEDSTRING||LA114_0==TRUE||LA114_0==BAG_VAL||LA114_0==MAP_VAL||LA114_0==TUPLE_VAL) ) {
+                        alt114=1;
+                    }
+
+
+                    switch (alt114) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AliasMasker.g:632:20: literal
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_literal_in_tuple3450);
+                	    literal399=literal();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, literal399.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop114;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tuple"
+
+
+    public static class eid_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "eid"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:636:1: eid : ( rel_str_op | IMPORT | RETURNS | DEFINE | LOAD | FILTER | FOREACH | CUBE | ROLLUP | MATCHES | ORDER | RANK | DISTINCT | COGROUP | JOIN | CROSS | UNION | SPLIT | INTO | IF | ALL | AS | BY | USING | INNER | OUTER | PARALLEL | PARTITION | GROUP | AND | OR | NOT | GENERATE | FLATTEN | EVAL | ASC | DESC | BOOLEAN | INT | LONG | FLOAT | DOUBLE | DATETIME | CHARARRAY | BIGINTEGER | BIGDECIMAL | BYTEARRAY | BAG | TUPLE | MAP | IS | NULL | TRUE | FALSE | STREAM | THROUGH | STORE | MAPREDUCE | SHIP | CACHE | INPUT | OUTPUT | STDERROR | STDIN | STDOUT | LIMIT | SAMPLE | LEFT | RIGHT | FULL | IDENTIFIER | TOBAG | TOMAP | TOTUPLE | ASSERT );
+    public final AliasMasker.eid_return eid() throws RecognitionException {
+        AliasMasker.eid_return retval = new AliasMasker.eid_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IMPORT401=null;
+        CommonTree RETURNS402=null;
+        CommonTree DEFINE403=null;
+        CommonTree LOAD404=null;
+        CommonTree FILTER405=null;
+        CommonTree FOREACH406=null;
+        CommonTree CUBE407=null;
+        CommonTree ROLLUP408=null;
+        CommonTree MATCHES409=null;
+        CommonTree ORDER410=null;
+        CommonTree RANK411=null;
+        CommonTree DISTINCT412=null;
+        CommonTree COGROUP413=null;
+        CommonTree JOIN414=null;
+        CommonTree CROSS415=null;
+        CommonTree UNION416=null;
+        CommonTree SPLIT417=null;
+        CommonTree INTO418=null;
+        CommonTree IF419=null;
+        CommonTree ALL420=null;
+        CommonTree AS421=null;
+        CommonTree BY422=null;
+        CommonTree USING423=null;
+        CommonTree INNER424=null;
+        CommonTree OUTER425=null;
+        CommonTree PARALLEL426=null;
+        CommonTree PARTITION427=null;
+        CommonTree GROUP428=null;
+        CommonTree AND429=null;
+        CommonTree OR430=null;
+        CommonTree NOT431=null;
+        CommonTree GENERATE432=null;
+        CommonTree FLATTEN433=null;
+        CommonTree EVAL434=null;
+        CommonTree ASC435=null;
+        CommonTree DESC436=null;
+        CommonTree BOOLEAN437=null;
+        CommonTree INT438=null;
+        CommonTree LONG439=null;
+        CommonTree FLOAT440=null;
+        CommonTree DOUBLE441=null;
+        CommonTree DATETIME442=null;
+        CommonTree CHARARRAY443=null;
+        CommonTree BIGINTEGER444=null;
+        CommonTree BIGDECIMAL445=null;
+        CommonTree BYTEARRAY446=null;
+        CommonTree BAG447=null;
+        CommonTree TUPLE448=null;
+        CommonTree MAP449=null;
+        CommonTree IS450=null;
+        CommonTree NULL451=null;
+        CommonTree TRUE452=null;
+        CommonTree FALSE453=null;
+        CommonTree STREAM454=null;
+        CommonTree THROUGH455=null;
+        CommonTree STORE456=null;
+        CommonTree MAPREDUCE457=null;
+        CommonTree SHIP458=null;
+        CommonTree CACHE459=null;
+        CommonTree INPUT460=null;
+        CommonTree OUTPUT461=null;
+        CommonTree STDERROR462=null;
+        CommonTree STDIN463=null;
+        CommonTree STDOUT464=null;
+        CommonTree LIMIT465=null;
+        CommonTree SAMPLE466=null;
+        CommonTree LEFT467=null;
+        CommonTree RIGHT468=null;
+        CommonTree FULL469=null;
+        CommonTree IDENTIFIER470=null;
+        CommonTree TOBAG471=null;
+        CommonTree TOMAP472=null;
+        CommonTree TOTUPLE473=null;
+        CommonTree ASSERT474=null;
+        AliasMasker.rel_str_op_return rel_str_op400 =null;
+
+
+        CommonTree IMPORT401_tree=null;
+        CommonTree RETURNS402_tree=null;
+        CommonTree DEFINE403_tree=null;
+        CommonTree LOAD404_tree=null;
+        CommonTree FILTER405_tree=null;
+        CommonTree FOREACH406_tree=null;
+        CommonTree CUBE407_tree=null;
+        CommonTree ROLLUP408_tree=null;
+        CommonTree MATCHES409_tree=null;
+        CommonTree ORDER410_tree=null;
+        CommonTree RANK411_tree=null;
+        CommonTree DISTINCT412_tree=null;
+        CommonTree COGROUP413_tree=null;
+        CommonTree JOIN414_tree=null;
+        CommonTree CROSS415_tree=null;
+        CommonTree UNION416_tree=null;
+        CommonTree SPLIT417_tree=null;
+        CommonTree INTO418_tree=null;
+        CommonTree IF419_tree=null;
+        CommonTree ALL420_tree=null;
+        CommonTree AS421_tree=null;
+        CommonTree BY422_tree=null;
+        CommonTree USING423_tree=null;
+        CommonTree INNER424_tree=null;
+        CommonTree OUTER425_tree=null;
+        CommonTree PARALLEL426_tree=null;
+        CommonTree PARTITION427_tree=null;
+        CommonTree GROUP428_tree=null;
+        CommonTree AND429_tree=null;
+        CommonTree OR430_tree=null;
+        CommonTree NOT431_tree=null;
+        CommonTree GENERATE432_tree=null;
+        CommonTree FLATTEN433_tree=null;
+        CommonTree EVAL434_tree=null;
+        CommonTree ASC435_tree=null;
+        CommonTree DESC436_tree=null;
+        CommonTree BOOLEAN437_tree=null;
+        CommonTree INT438_tree=null;
+        CommonTree LONG439_tree=null;
+        CommonTree FLOAT440_tree=null;
+        CommonTree DOUBLE441_tree=null;
+        CommonTree DATETIME442_tree=null;
+        CommonTree CHARARRAY443_tree=null;
+        CommonTree BIGINTEGER444_tree=null;
+        CommonTree BIGDECIMAL445_tree=null;
+        CommonTree BYTEARRAY446_tree=null;
+        CommonTree BAG447_tree=null;
+        CommonTree TUPLE448_tree=null;
+        CommonTree MAP449_tree=null;
+        CommonTree IS450_tree=null;
+        CommonTree NULL451_tree=null;
+        CommonTree TRUE452_tree=null;
+        CommonTree FALSE453_tree=null;
+        CommonTree STREAM454_tree=null;
+        CommonTree THROUGH455_tree=null;
+        CommonTree STORE456_tree=null;
+        CommonTree MAPREDUCE457_tree=null;
+        CommonTree SHIP458_tree=null;
+        CommonTree CACHE459_tree=null;
+        CommonTree INPUT460_tree=null;
+        CommonTree OUTPUT461_tree=null;
+        CommonTree STDERROR462_tree=null;
+        CommonTree STDIN463_tree=null;
+        CommonTree STDOUT464_tree=null;
+        CommonTree LIMIT465_tree=null;
+        CommonTree SAMPLE466_tree=null;
+        CommonTree LEFT467_tree=null;
+        CommonTree RIGHT468_tree=null;
+        CommonTree FULL469_tree=null;
+        CommonTree IDENTIFIER470_tree=null;
+        CommonTree TOBAG471_tree=null;
+        CommonTree TOMAP472_tree=null;
+        CommonTree TOTUPLE473_tree=null;
+        CommonTree ASSERT474_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:636:5: ( rel_str_op | IMPORT | RETURNS | DEFINE | LOAD | FILTER | FOREACH | CUBE | ROLLUP | MATCHES | ORDER | RANK | DISTINCT | COGROUP | JOIN | CROSS | UNION | SPLIT | INTO | IF | ALL | AS | BY | USING | INNER | OUTER | PARALLEL | PARTITION | GROUP | AND | OR | NOT | GENERATE | FLATTEN | EVAL | ASC | DESC | BOOLEAN | INT | LONG | FLOAT | DOUBLE | DATETIME | CHARARRAY | BIGINTEGER | BIGDECIMAL | BYTEARRAY | BAG | TUPLE | MAP | IS | NULL | TRUE | FALSE | STREAM | THROUGH | STORE | MAPREDUCE | SHIP | CACHE | INPUT | OUTPUT | STDERROR | STDIN | STDOUT | LIMIT | SAMPLE | LEFT | RIGHT | FULL | IDENTIFIER | TOBAG | TOMAP | TOTUPLE | ASSERT )
+            int alt115=75;
+            switch ( input.LA(1) ) {
+            case STR_OP_EQ:
+            case STR_OP_GT:
+            case STR_OP_GTE:
+            case STR_OP_LT:
+            case STR_OP_LTE:
+            case STR_OP_MATCHES:
+            case STR_OP_NE:
+                {
+                alt115=1;
+                }
+                break;
+            case IMPORT:
+                {
+                alt115=2;
+                }
+                break;
+            case RETURNS:
+                {
+                alt115=3;
+                }
+                break;
+            case DEFINE:
+                {
+                alt115=4;
+                }
+                break;
+            case LOAD:
+                {
+                alt115=5;
+                }
+                break;
+            case FILTER:
+                {
+                alt115=6;
+                }
+                break;
+            case FOREACH:
+                {
+                alt115=7;
+                }
+                break;
+            case CUBE:
+                {
+                alt115=8;
+                }
+                break;
+            case ROLLUP:
+                {
+                alt115=9;
+                }
+                break;
+            case MATCHES:
+                {
+                alt115=10;
+                }
+                break;
+            case ORDER:
+                {
+                alt115=11;
+                }
+                break;
+            case RANK:
+                {
+                alt115=12;
+                }
+                break;
+            case DISTINCT:
+                {
+                alt115=13;
+                }
+                break;
+            case COGROUP:
+                {
+                alt115=14;
+                }
+                break;
+            case JOIN:
+                {
+                alt115=15;
+                }
+                break;
+            case CROSS:
+                {
+                alt115=16;
+                }
+                break;
+            case UNION:
+                {
+                alt115=17;
+                }
+                break;
+            case SPLIT:
+                {
+                alt115=18;
+                }
+                break;
+            case INTO:
+                {
+                alt115=19;
+                }
+                break;
+            case IF:
+                {
+                alt115=20;
+                }
+                break;
+            case ALL:
+                {
+                alt115=21;
+                }
+                break;
+            case AS:
+                {
+                alt115=22;
+                }
+                break;
+            case BY:
+                {
+                alt115=23;
+                }
+                break;
+            case USING:
+                {
+                alt115=24;
+                }
+                break;
+            case INNER:
+                {
+                alt115=25;
+                }
+                break;
+            case OUTER:
+                {
+                alt115=26;
+                }
+                break;
+            case PARALLEL:
+                {
+                alt115=27;
+                }
+                break;
+            case PARTITION:
+                {
+                alt115=28;
+                }
+                break;
+            case GROUP:
+                {
+                alt115=29;
+                }
+                break;
+            case AND:
+                {
+                alt115=30;
+                }
+                break;
+            case OR:
+                {
+                alt115=31;
+                }
+                break;
+            case NOT:
+                {
+                alt115=32;
+                }
+                break;
+            case GENERATE:
+                {
+                alt115=33;
+                }
+                break;
+            case FLATTEN:
+                {
+                alt115=34;
+                }
+                break;
+            case EVAL:
+                {
+                alt115=35;
+                }
+                break;
+            case ASC:
+                {
+                alt115=36;
+                }
+                break;
+            case DESC:
+                {
+                alt115=37;
+                }
+                break;
+            case BOOLEAN:
+                {
+                alt115=38;
+                }
+                break;
+            case INT:
+                {
+                alt115=39;
+                }
+                break;
+            case LONG:
+                {
+                alt115=40;
+                }
+                break;
+            case FLOAT:
+                {
+                alt115=41;
+                }
+                break;
+            case DOUBLE:
+                {
+                alt115=42;
+                }
+                break;
+            case DATETIME:
+                {
+                alt115=43;
+                }
+                break;
+            case CHARARRAY:
+                {
+                alt115=44;
+                }
+                break;
+            case BIGINTEGER:
+                {
+                alt115=45;
+                }
+                break;
+            case BIGDECIMAL:
+                {
+                alt115=46;
+                }
+                break;
+            case BYTEARRAY:
+                {
+                alt115=47;
+                }
+                break;
+            case BAG:
+                {
+                alt115=48;
+                }
+                break;
+            case TUPLE:
+                {
+                alt115=49;
+                }
+                break;
+            case MAP:
+                {
+                alt115=50;
+                }
+                break;
+            case IS:
+                {
+                alt115=51;
+                }
+                break;
+            case NULL:
+                {
+                alt115=52;
+                }
+                break;
+            case TRUE:
+                {
+                alt115=53;
+                }
+                break;
+            case FALSE:
+                {
+                alt115=54;
+                }
+                break;
+            case STREAM:
+                {
+                alt115=55;
+                }
+                break;
+            case THROUGH:
+                {
+                alt115=56;
+                }
+                break;
+            case STORE:
+                {
+                alt115=57;
+                }
+                break;
+            case MAPREDUCE:
+                {
+                alt115=58;
+                }
+                break;
+            case SHIP:
+                {
+                alt115=59;
+                }
+                break;
+            case CACHE:
+                {
+                alt115=60;
+                }
+                break;
+            case INPUT:
+                {
+                alt115=61;
+                }
+                break;
+            case OUTPUT:
+                {
+                alt115=62;
+                }
+                break;
+            case STDERROR:
+                {
+                alt115=63;
+                }
+                break;
+            case STDIN:
+                {
+                alt115=64;
+                }
+                break;
+            case STDOUT:
+                {
+                alt115=65;
+                }
+                break;
+            case LIMIT:
+                {
+                alt115=66;
+                }
+                break;
+            case SAMPLE:
+                {
+                alt115=67;
+                }
+                break;
+            case LEFT:
+                {
+                alt115=68;
+                }
+                break;
+            case RIGHT:
+                {
+                alt115=69;
+                }
+                break;
+            case FULL:
+                {
+                alt115=70;
+                }
+                break;
+            case IDENTIFIER:
+                {
+                alt115=71;
+                }
+                break;
+            case TOBAG:
+                {
+                alt115=72;
+                }
+                break;
+            case TOMAP:
+                {
+                alt115=73;
+                }
+                break;
+            case TOTUPLE:
+                {
+                alt115=74;
+                }
+                break;
+            case ASSERT:
+                {
+                alt115=75;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 115, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt115) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:636:7: rel_str_op
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_str_op_in_eid3463);
+                    rel_str_op400=rel_str_op();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_str_op400.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:637:7: IMPORT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IMPORT401=(CommonTree)match(input,IMPORT,FOLLOW_IMPORT_in_eid3471); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IMPORT401_tree = (CommonTree)adaptor.dupNode(IMPORT401);
+
+
+                    adaptor.addChild(root_0, IMPORT401_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:638:7: RETURNS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    RETURNS402=(CommonTree)match(input,RETURNS,FOLLOW_RETURNS_in_eid3479); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    RETURNS402_tree = (CommonTree)adaptor.dupNode(RETURNS402);
+
+
+                    adaptor.addChild(root_0, RETURNS402_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:639:7: DEFINE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DEFINE403=(CommonTree)match(input,DEFINE,FOLLOW_DEFINE_in_eid3487); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DEFINE403_tree = (CommonTree)adaptor.dupNode(DEFINE403);
+
+
+                    adaptor.addChild(root_0, DEFINE403_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:640:7: LOAD
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LOAD404=(CommonTree)match(input,LOAD,FOLLOW_LOAD_in_eid3495); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LOAD404_tree = (CommonTree)adaptor.dupNode(LOAD404);
+
+
+                    adaptor.addChild(root_0, LOAD404_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:641:7: FILTER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FILTER405=(CommonTree)match(input,FILTER,FOLLOW_FILTER_in_eid3503); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FILTER405_tree = (CommonTree)adaptor.dupNode(FILTER405);
+
+
+                    adaptor.addChild(root_0, FILTER405_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:642:7: FOREACH
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FOREACH406=(CommonTree)match(input,FOREACH,FOLLOW_FOREACH_in_eid3511); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FOREACH406_tree = (CommonTree)adaptor.dupNode(FOREACH406);
+
+
+                    adaptor.addChild(root_0, FOREACH406_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:643:7: CUBE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CUBE407=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_eid3519); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CUBE407_tree = (CommonTree)adaptor.dupNode(CUBE407);
+
+
+                    adaptor.addChild(root_0, CUBE407_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:644:7: ROLLUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ROLLUP408=(CommonTree)match(input,ROLLUP,FOLLOW_ROLLUP_in_eid3527); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ROLLUP408_tree = (CommonTree)adaptor.dupNode(ROLLUP408);
+
+
+                    adaptor.addChild(root_0, ROLLUP408_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:645:7: MATCHES
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MATCHES409=(CommonTree)match(input,MATCHES,FOLLOW_MATCHES_in_eid3535); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MATCHES409_tree = (CommonTree)adaptor.dupNode(MATCHES409);
+
+
+                    adaptor.addChild(root_0, MATCHES409_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:646:7: ORDER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ORDER410=(CommonTree)match(input,ORDER,FOLLOW_ORDER_in_eid3543); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ORDER410_tree = (CommonTree)adaptor.dupNode(ORDER410);
+
+
+                    adaptor.addChild(root_0, ORDER410_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 12 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:647:7: RANK
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    RANK411=(CommonTree)match(input,RANK,FOLLOW_RANK_in_eid3551); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    RANK411_tree = (CommonTree)adaptor.dupNode(RANK411);
+
+
+                    adaptor.addChild(root_0, RANK411_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 13 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:648:7: DISTINCT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DISTINCT412=(CommonTree)match(input,DISTINCT,FOLLOW_DISTINCT_in_eid3559); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DISTINCT412_tree = (CommonTree)adaptor.dupNode(DISTINCT412);
+
+
+                    adaptor.addChild(root_0, DISTINCT412_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 14 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:649:7: COGROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    COGROUP413=(CommonTree)match(input,COGROUP,FOLLOW_COGROUP_in_eid3567); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    COGROUP413_tree = (CommonTree)adaptor.dupNode(COGROUP413);
+
+
+                    adaptor.addChild(root_0, COGROUP413_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 15 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:650:7: JOIN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    JOIN414=(CommonTree)match(input,JOIN,FOLLOW_JOIN_in_eid3575); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    JOIN414_tree = (CommonTree)adaptor.dupNode(JOIN414);
+
+
+                    adaptor.addChild(root_0, JOIN414_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 16 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:651:7: CROSS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CROSS415=(CommonTree)match(input,CROSS,FOLLOW_CROSS_in_eid3583); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CROSS415_tree = (CommonTree)adaptor.dupNode(CROSS415);
+
+
+                    adaptor.addChild(root_0, CROSS415_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 17 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:652:7: UNION
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    UNION416=(CommonTree)match(input,UNION,FOLLOW_UNION_in_eid3591); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    UNION416_tree = (CommonTree)adaptor.dupNode(UNION416);
+
+
+                    adaptor.addChild(root_0, UNION416_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 18 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:653:7: SPLIT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    SPLIT417=(CommonTree)match(input,SPLIT,FOLLOW_SPLIT_in_eid3599); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    SPLIT417_tree = (CommonTree)adaptor.dupNode(SPLIT417);
+
+
+                    adaptor.addChild(root_0, SPLIT417_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 19 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:654:7: INTO
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INTO418=(CommonTree)match(input,INTO,FOLLOW_INTO_in_eid3607); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTO418_tree = (CommonTree)adaptor.dupNode(INTO418);
+
+
+                    adaptor.addChild(root_0, INTO418_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 20 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:655:7: IF
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IF419=(CommonTree)match(input,IF,FOLLOW_IF_in_eid3615); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IF419_tree = (CommonTree)adaptor.dupNode(IF419);
+
+
+                    adaptor.addChild(root_0, IF419_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 21 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:656:7: ALL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ALL420=(CommonTree)match(input,ALL,FOLLOW_ALL_in_eid3623); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ALL420_tree = (CommonTree)adaptor.dupNode(ALL420);
+
+
+                    adaptor.addChild(root_0, ALL420_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 22 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:657:7: AS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    AS421=(CommonTree)match(input,AS,FOLLOW_AS_in_eid3631); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    AS421_tree = (CommonTree)adaptor.dupNode(AS421);
+
+
+                    adaptor.addChild(root_0, AS421_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 23 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:658:7: BY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BY422=(CommonTree)match(input,BY,FOLLOW_BY_in_eid3639); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BY422_tree = (CommonTree)adaptor.dupNode(BY422);
+
+
+                    adaptor.addChild(root_0, BY422_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 24 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:659:7: USING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    USING423=(CommonTree)match(input,USING,FOLLOW_USING_in_eid3647); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    USING423_tree = (CommonTree)adaptor.dupNode(USING423);
+
+
+                    adaptor.addChild(root_0, USING423_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 25 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:660:7: INNER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INNER424=(CommonTree)match(input,INNER,FOLLOW_INNER_in_eid3655); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INNER424_tree = (CommonTree)adaptor.dupNode(INNER424);
+
+
+                    adaptor.addChild(root_0, INNER424_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 26 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:661:7: OUTER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    OUTER425=(CommonTree)match(input,OUTER,FOLLOW_OUTER_in_eid3663); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OUTER425_tree = (CommonTree)adaptor.dupNode(OUTER425);
+
+
+                    adaptor.addChild(root_0, OUTER425_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 27 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:662:7: PARALLEL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    PARALLEL426=(CommonTree)match(input,PARALLEL,FOLLOW_PARALLEL_in_eid3671); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PARALLEL426_tree = (CommonTree)adaptor.dupNode(PARALLEL426);
+
+
+                    adaptor.addChild(root_0, PARALLEL426_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 28 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:663:7: PARTITION
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    PARTITION427=(CommonTree)match(input,PARTITION,FOLLOW_PARTITION_in_eid3679); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PARTITION427_tree = (CommonTree)adaptor.dupNode(PARTITION427);
+
+
+                    adaptor.addChild(root_0, PARTITION427_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 29 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:664:7: GROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GROUP428=(CommonTree)match(input,GROUP,FOLLOW_GROUP_in_eid3687); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GROUP428_tree = (CommonTree)adaptor.dupNode(GROUP428);
+
+
+                    adaptor.addChild(root_0, GROUP428_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 30 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:665:7: AND
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    AND429=(CommonTree)match(input,AND,FOLLOW_AND_in_eid3695); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    AND429_tree = (CommonTree)adaptor.dupNode(AND429);
+
+
+                    adaptor.addChild(root_0, AND429_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 31 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:666:7: OR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    OR430=(CommonTree)match(input,OR,FOLLOW_OR_in_eid3703); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OR430_tree = (CommonTree)adaptor.dupNode(OR430);
+
+
+                    adaptor.addChild(root_0, OR430_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 32 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:667:7: NOT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NOT431=(CommonTree)match(input,NOT,FOLLOW_NOT_in_eid3711); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NOT431_tree = (CommonTree)adaptor.dupNode(NOT431);
+
+
+                    adaptor.addChild(root_0, NOT431_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 33 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:668:7: GENERATE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GENERATE432=(CommonTree)match(input,GENERATE,FOLLOW_GENERATE_in_eid3719); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GENERATE432_tree = (CommonTree)adaptor.dupNode(GENERATE432);
+
+
+                    adaptor.addChild(root_0, GENERATE432_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 34 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:669:7: FLATTEN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FLATTEN433=(CommonTree)match(input,FLATTEN,FOLLOW_FLATTEN_in_eid3727); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FLATTEN433_tree = (CommonTree)adaptor.dupNode(FLATTEN433);
+
+
+                    adaptor.addChild(root_0, FLATTEN433_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 35 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:670:7: EVAL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    EVAL434=(CommonTree)match(input,EVAL,FOLLOW_EVAL_in_eid3735); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EVAL434_tree = (CommonTree)adaptor.dupNode(EVAL434);
+
+
+                    adaptor.addChild(root_0, EVAL434_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 36 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:671:7: ASC
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ASC435=(CommonTree)match(input,ASC,FOLLOW_ASC_in_eid3743); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ASC435_tree = (CommonTree)adaptor.dupNode(ASC435);
+
+
+                    adaptor.addChild(root_0, ASC435_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 37 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:672:7: DESC
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DESC436=(CommonTree)match(input,DESC,FOLLOW_DESC_in_eid3751); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DESC436_tree = (CommonTree)adaptor.dupNode(DESC436);
+
+
+                    adaptor.addChild(root_0, DESC436_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 38 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:673:7: BOOLEAN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BOOLEAN437=(CommonTree)match(input,BOOLEAN,FOLLOW_BOOLEAN_in_eid3759); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BOOLEAN437_tree = (CommonTree)adaptor.dupNode(BOOLEAN437);
+
+
+                    adaptor.addChild(root_0, BOOLEAN437_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 39 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:674:7: INT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INT438=(CommonTree)match(input,INT,FOLLOW_INT_in_eid3767); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INT438_tree = (CommonTree)adaptor.dupNode(INT438);
+
+
+                    adaptor.addChild(root_0, INT438_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 40 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:675:7: LONG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LONG439=(CommonTree)match(input,LONG,FOLLOW_LONG_in_eid3775); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LONG439_tree = (CommonTree)adaptor.dupNode(LONG439);
+
+
+                    adaptor.addChild(root_0, LONG439_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 41 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:676:7: FLOAT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FLOAT440=(CommonTree)match(input,FLOAT,FOLLOW_FLOAT_in_eid3783); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FLOAT440_tree = (CommonTree)adaptor.dupNode(FLOAT440);
+
+
+                    adaptor.addChild(root_0, FLOAT440_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 42 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:677:7: DOUBLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DOUBLE441=(CommonTree)match(input,DOUBLE,FOLLOW_DOUBLE_in_eid3791); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DOUBLE441_tree = (CommonTree)adaptor.dupNode(DOUBLE441);
+
+
+                    adaptor.addChild(root_0, DOUBLE441_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 43 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:678:7: DATETIME
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DATETIME442=(CommonTree)match(input,DATETIME,FOLLOW_DATETIME_in_eid3799); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DATETIME442_tree = (CommonTree)adaptor.dupNode(DATETIME442);
+
+
+                    adaptor.addChild(root_0, DATETIME442_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 44 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:679:7: CHARARRAY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CHARARRAY443=(CommonTree)match(input,CHARARRAY,FOLLOW_CHARARRAY_in_eid3807); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CHARARRAY443_tree = (CommonTree)adaptor.dupNode(CHARARRAY443);
+
+
+                    adaptor.addChild(root_0, CHARARRAY443_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 45 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:680:7: BIGINTEGER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BIGINTEGER444=(CommonTree)match(input,BIGINTEGER,FOLLOW_BIGINTEGER_in_eid3815); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGINTEGER444_tree = (CommonTree)adaptor.dupNode(BIGINTEGER444);
+
+
+                    adaptor.addChild(root_0, BIGINTEGER444_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 46 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:681:7: BIGDECIMAL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BIGDECIMAL445=(CommonTree)match(input,BIGDECIMAL,FOLLOW_BIGDECIMAL_in_eid3823); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGDECIMAL445_tree = (CommonTree)adaptor.dupNode(BIGDECIMAL445);
+
+
+                    adaptor.addChild(root_0, BIGDECIMAL445_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 47 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:682:7: BYTEARRAY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BYTEARRAY446=(CommonTree)match(input,BYTEARRAY,FOLLOW_BYTEARRAY_in_eid3831); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BYTEARRAY446_tree = (CommonTree)adaptor.dupNode(BYTEARRAY446);
+
+
+                    adaptor.addChild(root_0, BYTEARRAY446_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 48 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:683:7: BAG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BAG447=(CommonTree)match(input,BAG,FOLLOW_BAG_in_eid3839); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BAG447_tree = (CommonTree)adaptor.dupNode(BAG447);
+
+
+                    adaptor.addChild(root_0, BAG447_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 49 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:684:7: TUPLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TUPLE448=(CommonTree)match(input,TUPLE,FOLLOW_TUPLE_in_eid3847); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TUPLE448_tree = (CommonTree)adaptor.dupNode(TUPLE448);
+
+
+                    adaptor.addChild(root_0, TUPLE448_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 50 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:685:7: MAP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MAP449=(CommonTree)match(input,MAP,FOLLOW_MAP_in_eid3855); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MAP449_tree = (CommonTree)adaptor.dupNode(MAP449);
+
+
+                    adaptor.addChild(root_0, MAP449_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 51 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:686:7: IS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IS450=(CommonTree)match(input,IS,FOLLOW_IS_in_eid3863); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IS450_tree = (CommonTree)adaptor.dupNode(IS450);
+
+
+                    adaptor.addChild(root_0, IS450_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 52 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:687:7: NULL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NULL451=(CommonTree)match(input,NULL,FOLLOW_NULL_in_eid3871); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL451_tree = (CommonTree)adaptor.dupNode(NULL451);
+
+
+                    adaptor.addChild(root_0, NULL451_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 53 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:688:7: TRUE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TRUE452=(CommonTree)match(input,TRUE,FOLLOW_TRUE_in_eid3879); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TRUE452_tree = (CommonTree)adaptor.dupNode(TRUE452);
+
+
+                    adaptor.addChild(root_0, TRUE452_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 54 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:689:7: FALSE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FALSE453=(CommonTree)match(input,FALSE,FOLLOW_FALSE_in_eid3887); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FALSE453_tree = (CommonTree)adaptor.dupNode(FALSE453);
+
+
+                    adaptor.addChild(root_0, FALSE453_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 55 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:690:7: STREAM
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STREAM454=(CommonTree)match(input,STREAM,FOLLOW_STREAM_in_eid3895); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STREAM454_tree = (CommonTree)adaptor.dupNode(STREAM454);
+
+
+                    adaptor.addChild(root_0, STREAM454_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 56 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:691:7: THROUGH
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    THROUGH455=(CommonTree)match(input,THROUGH,FOLLOW_THROUGH_in_eid3903); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    THROUGH455_tree = (CommonTree)adaptor.dupNode(THROUGH455);
+
+
+                    adaptor.addChild(root_0, THROUGH455_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 57 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:692:7: STORE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STORE456=(CommonTree)match(input,STORE,FOLLOW_STORE_in_eid3911); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STORE456_tree = (CommonTree)adaptor.dupNode(STORE456);
+
+
+                    adaptor.addChild(root_0, STORE456_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 58 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:693:7: MAPREDUCE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MAPREDUCE457=(CommonTree)match(input,MAPREDUCE,FOLLOW_MAPREDUCE_in_eid3919); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MAPREDUCE457_tree = (CommonTree)adaptor.dupNode(MAPREDUCE457);
+
+
+                    adaptor.addChild(root_0, MAPREDUCE457_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 59 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:694:7: SHIP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    SHIP458=(CommonTree)match(input,SHIP,FOLLOW_SHIP_in_eid3927); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    SHIP458_tree = (CommonTree)adaptor.dupNode(SHIP458);
+
+
+                    adaptor.addChild(root_0, SHIP458_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 60 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:695:7: CACHE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CACHE459=(CommonTree)match(input,CACHE,FOLLOW_CACHE_in_eid3935); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CACHE459_tree = (CommonTree)adaptor.dupNode(CACHE459);
+
+
+                    adaptor.addChild(root_0, CACHE459_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 61 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:696:7: INPUT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INPUT460=(CommonTree)match(input,INPUT,FOLLOW_INPUT_in_eid3943); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INPUT460_tree = (CommonTree)adaptor.dupNode(INPUT460);
+
+
+                    adaptor.addChild(root_0, INPUT460_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 62 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:697:7: OUTPUT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    OUTPUT461=(CommonTree)match(input,OUTPUT,FOLLOW_OUTPUT_in_eid3951); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OUTPUT461_tree = (CommonTree)adaptor.dupNode(OUTPUT461);
+
+
+                    adaptor.addChild(root_0, OUTPUT461_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 63 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:698:7: STDERROR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STDERROR462=(CommonTree)match(input,STDERROR,FOLLOW_STDERROR_in_eid3959); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDERROR462_tree = (CommonTree)adaptor.dupNode(STDERROR462);
+
+
+                    adaptor.addChild(root_0, STDERROR462_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 64 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:699:7: STDIN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STDIN463=(CommonTree)match(input,STDIN,FOLLOW_STDIN_in_eid3967); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDIN463_tree = (CommonTree)adaptor.dupNode(STDIN463);
+
+
+                    adaptor.addChild(root_0, STDIN463_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 65 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:700:7: STDOUT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STDOUT464=(CommonTree)match(input,STDOUT,FOLLOW_STDOUT_in_eid3975); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDOUT464_tree = (CommonTree)adaptor.dupNode(STDOUT464);
+
+
+                    adaptor.addChild(root_0, STDOUT464_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 66 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:701:7: LIMIT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LIMIT465=(CommonTree)match(input,LIMIT,FOLLOW_LIMIT_in_eid3983); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LIMIT465_tree = (CommonTree)adaptor.dupNode(LIMIT465);
+
+
+                    adaptor.addChild(root_0, LIMIT465_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 67 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:702:7: SAMPLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    SAMPLE466=(CommonTree)match(input,SAMPLE,FOLLOW_SAMPLE_in_eid3991); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    SAMPLE466_tree = (CommonTree)adaptor.dupNode(SAMPLE466);
+
+
+                    adaptor.addChild(root_0, SAMPLE466_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 68 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:703:7: LEFT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LEFT467=(CommonTree)match(input,LEFT,FOLLOW_LEFT_in_eid3999); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LEFT467_tree = (CommonTree)adaptor.dupNode(LEFT467);
+
+
+                    adaptor.addChild(root_0, LEFT467_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 69 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:704:7: RIGHT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    RIGHT468=(CommonTree)match(input,RIGHT,FOLLOW_RIGHT_in_eid4007); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    RIGHT468_tree = (CommonTree)adaptor.dupNode(RIGHT468);
+
+
+                    adaptor.addChild(root_0, RIGHT468_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 70 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:705:7: FULL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FULL469=(CommonTree)match(input,FULL,FOLLOW_FULL_in_eid4015); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FULL469_tree = (CommonTree)adaptor.dupNode(FULL469);
+
+
+                    adaptor.addChild(root_0, FULL469_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 71 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:706:7: IDENTIFIER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER470=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_eid4023); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER470_tree = (CommonTree)adaptor.dupNode(IDENTIFIER470);
+
+
+                    adaptor.addChild(root_0, IDENTIFIER470_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 72 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:707:7: TOBAG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TOBAG471=(CommonTree)match(input,TOBAG,FOLLOW_TOBAG_in_eid4031); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TOBAG471_tree = (CommonTree)adaptor.dupNode(TOBAG471);
+
+
+                    adaptor.addChild(root_0, TOBAG471_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 73 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:708:7: TOMAP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TOMAP472=(CommonTree)match(input,TOMAP,FOLLOW_TOMAP_in_eid4039); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TOMAP472_tree = (CommonTree)adaptor.dupNode(TOMAP472);
+
+
+                    adaptor.addChild(root_0, TOMAP472_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 74 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:709:7: TOTUPLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TOTUPLE473=(CommonTree)match(input,TOTUPLE,FOLLOW_TOTUPLE_in_eid4047); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TOTUPLE473_tree = (CommonTree)adaptor.dupNode(TOTUPLE473);
+
+
+                    adaptor.addChild(root_0, TOTUPLE473_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 75 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:710:7: ASSERT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ASSERT474=(CommonTree)match(input,ASSERT,FOLLOW_ASSERT_in_eid4055); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ASSERT474_tree = (CommonTree)adaptor.dupNode(ASSERT474);
+
+
+                    adaptor.addChild(root_0, ASSERT474_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "eid"
+
+
+    public static class rel_op_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:714:1: rel_op : ( rel_op_eq | rel_op_ne | rel_op_gt | rel_op_gte | rel_op_lt | rel_op_lte | STR_OP_MATCHES );
+    public final AliasMasker.rel_op_return rel_op() throws RecognitionException {
+        AliasMasker.rel_op_return retval = new AliasMasker.rel_op_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_MATCHES481=null;
+        AliasMasker.rel_op_eq_return rel_op_eq475 =null;
+
+        AliasMasker.rel_op_ne_return rel_op_ne476 =null;
+
+        AliasMasker.rel_op_gt_return rel_op_gt477 =null;
+
+        AliasMasker.rel_op_gte_return rel_op_gte478 =null;
+
+        AliasMasker.rel_op_lt_return rel_op_lt479 =null;
+
+        AliasMasker.rel_op_lte_return rel_op_lte480 =null;
+
+
+        CommonTree STR_OP_MATCHES481_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:715:5: ( rel_op_eq | rel_op_ne | rel_op_gt | rel_op_gte | rel_op_lt | rel_op_lte | STR_OP_MATCHES )
+            int alt116=7;
+            switch ( input.LA(1) ) {
+            case NUM_OP_EQ:
+            case STR_OP_EQ:
+                {
+                alt116=1;
+                }
+                break;
+            case NUM_OP_NE:
+            case STR_OP_NE:
+                {
+                alt116=2;
+                }
+                break;
+            case NUM_OP_GT:
+            case STR_OP_GT:
+                {
+                alt116=3;
+                }
+                break;
+            case NUM_OP_GTE:
+            case STR_OP_GTE:
+                {
+                alt116=4;
+                }
+                break;
+            case NUM_OP_LT:
+            case STR_OP_LT:
+                {
+                alt116=5;
+                }
+                break;
+            case NUM_OP_LTE:
+            case STR_OP_LTE:
+                {
+                alt116=6;
+                }
+                break;
+            case STR_OP_MATCHES:
+                {
+                alt116=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 116, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt116) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:715:7: rel_op_eq
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_eq_in_rel_op4069);
+                    rel_op_eq475=rel_op_eq();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_eq475.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:716:7: rel_op_ne
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_ne_in_rel_op4077);
+                    rel_op_ne476=rel_op_ne();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_ne476.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:717:7: rel_op_gt
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_gt_in_rel_op4085);
+                    rel_op_gt477=rel_op_gt();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_gt477.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:718:7: rel_op_gte
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_gte_in_rel_op4093);
+                    rel_op_gte478=rel_op_gte();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_gte478.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:719:7: rel_op_lt
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_lt_in_rel_op4101);
+                    rel_op_lt479=rel_op_lt();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_lt479.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:720:7: rel_op_lte
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_lte_in_rel_op4109);
+                    rel_op_lte480=rel_op_lte();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_lte480.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AliasMasker.g:721:7: STR_OP_MATCHES
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_MATCHES481=(CommonTree)match(input,STR_OP_MATCHES,FOLLOW_STR_OP_MATCHES_in_rel_op4117); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_MATCHES481_tree = (CommonTree)adaptor.dupNode(STR_OP_MATCHES481);
+
+
+                    adaptor.addChild(root_0, STR_OP_MATCHES481_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op"
+
+
+    public static class rel_op_eq_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_eq"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:724:1: rel_op_eq : ( STR_OP_EQ | NUM_OP_EQ );
+    public final AliasMasker.rel_op_eq_return rel_op_eq() throws RecognitionException {
+        AliasMasker.rel_op_eq_return retval = new AliasMasker.rel_op_eq_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set482=null;
+
+        CommonTree set482_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:725:5: ( STR_OP_EQ | NUM_OP_EQ )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set482=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NUM_OP_EQ||input.LA(1)==STR_OP_EQ ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set482_tree = (CommonTree)adaptor.dupNode(set482);
+
+
+                adaptor.addChild(root_0, set482_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_eq"
+
+
+    public static class rel_op_ne_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_ne"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:729:1: rel_op_ne : ( STR_OP_NE | NUM_OP_NE );
+    public final AliasMasker.rel_op_ne_return rel_op_ne() throws RecognitionException {
+        AliasMasker.rel_op_ne_return retval = new AliasMasker.rel_op_ne_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set483=null;
+
+        CommonTree set483_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:730:5: ( STR_OP_NE | NUM_OP_NE )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set483=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NUM_OP_NE||input.LA(1)==STR_OP_NE ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set483_tree = (CommonTree)adaptor.dupNode(set483);
+
+
+                adaptor.addChild(root_0, set483_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_ne"
+
+
+    public static class rel_op_gt_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_gt"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:734:1: rel_op_gt : ( STR_OP_GT | NUM_OP_GT );
+    public final AliasMasker.rel_op_gt_return rel_op_gt() throws RecognitionException {
+        AliasMasker.rel_op_gt_return retval = new AliasMasker.rel_op_gt_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set484=null;
+
+        CommonTree set484_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:735:5: ( STR_OP_GT | NUM_OP_GT )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set484=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NUM_OP_GT||input.LA(1)==STR_OP_GT ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set484_tree = (CommonTree)adaptor.dupNode(set484);
+
+
+                adaptor.addChild(root_0, set484_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_gt"
+
+
+    public static class rel_op_gte_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_gte"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:739:1: rel_op_gte : ( STR_OP_GTE | NUM_OP_GTE );
+    public final AliasMasker.rel_op_gte_return rel_op_gte() throws RecognitionException {
+        AliasMasker.rel_op_gte_return retval = new AliasMasker.rel_op_gte_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set485=null;
+
+        CommonTree set485_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:740:5: ( STR_OP_GTE | NUM_OP_GTE )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set485=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NUM_OP_GTE||input.LA(1)==STR_OP_GTE ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set485_tree = (CommonTree)adaptor.dupNode(set485);
+
+
+                adaptor.addChild(root_0, set485_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_gte"
+
+
+    public static class rel_op_lt_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_lt"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:744:1: rel_op_lt : ( STR_OP_LT | NUM_OP_LT );
+    public final AliasMasker.rel_op_lt_return rel_op_lt() throws RecognitionException {
+        AliasMasker.rel_op_lt_return retval = new AliasMasker.rel_op_lt_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set486=null;
+
+        CommonTree set486_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:745:5: ( STR_OP_LT | NUM_OP_LT )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set486=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NUM_OP_LT||input.LA(1)==STR_OP_LT ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set486_tree = (CommonTree)adaptor.dupNode(set486);
+
+
+                adaptor.addChild(root_0, set486_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_lt"
+
+
+    public static class rel_op_lte_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_lte"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:749:1: rel_op_lte : ( STR_OP_LTE | NUM_OP_LTE );
+    public final AliasMasker.rel_op_lte_return rel_op_lte() throws RecognitionException {
+        AliasMasker.rel_op_lte_return retval = new AliasMasker.rel_op_lte_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set487=null;
+
+        CommonTree set487_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:750:5: ( STR_OP_LTE | NUM_OP_LTE )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set487=(CommonTree)input.LT(1);
+
+            if ( input.LA(1)==NUM_OP_LTE||input.LA(1)==STR_OP_LTE ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set487_tree = (CommonTree)adaptor.dupNode(set487);
+
+
+                adaptor.addChild(root_0, set487_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_lte"
+
+
+    public static class rel_str_op_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_str_op"
+    // /root/project/src/org/apache/pig/parser/AliasMasker.g:754:1: rel_str_op : ( STR_OP_EQ | STR_OP_NE | STR_OP_GT | STR_OP_LT | STR_OP_GTE | STR_OP_LTE | STR_OP_MATCHES );
+    public final AliasMasker.rel_str_op_return rel_str_op() throws RecognitionException {
+        AliasMasker.rel_str_op_return retval = new AliasMasker.rel_str_op_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree set488=null;
+
+        CommonTree set488_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:755:5: ( STR_OP_EQ | STR_OP_NE | STR_OP_GT | STR_OP_LT | STR_OP_GTE | STR_OP_LTE | STR_OP_MATCHES )
+            // /root/project/src/org/apache/pig/parser/AliasMasker.g:
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            set488=(CommonTree)input.LT(1);
+
+            if ( (input.LA(1) >= STR_OP_EQ && input.LA(1) <= STR_OP_NE) ) {
+                input.consume();
+                if ( state.backtracking==0 ) {
+                set488_tree = (CommonTree)adaptor.dupNode(set488);
+
+
+                adaptor.addChild(root_0, set488_tree);
+                }
+
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+            if ( state.backtracking==0 ) {
+            } 
+
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_str_op"
+
+    // $ANTLR start synpred102_AliasMasker
+    public final void synpred102_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:343:7: ( ^( MINUS expr expr ) )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:343:7: ^( MINUS expr expr )
+        {
+        match(input,MINUS,FOLLOW_MINUS_in_synpred102_AliasMasker1696); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_expr_in_synpred102_AliasMasker1698);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        pushFollow(FOLLOW_expr_in_synpred102_AliasMasker1700);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred102_AliasMasker
+
+    // $ANTLR start synpred106_AliasMasker
+    public final void synpred106_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:347:7: ( ^( CAST_EXPR type expr ) )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:347:7: ^( CAST_EXPR type expr )
+        {
+        match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_synpred106_AliasMasker1760); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_type_in_synpred106_AliasMasker1762);
+        type();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        pushFollow(FOLLOW_expr_in_synpred106_AliasMasker1764);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred106_AliasMasker
+
+    // $ANTLR start synpred107_AliasMasker
+    public final void synpred107_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:348:7: ( const_expr )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:348:7: const_expr
+        {
+        pushFollow(FOLLOW_const_expr_in_synpred107_AliasMasker1774);
+        const_expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred107_AliasMasker
+
+    // $ANTLR start synpred110_AliasMasker
+    public final void synpred110_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:351:7: ( ^( CAST_EXPR type_cast expr ) )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:351:7: ^( CAST_EXPR type_cast expr )
+        {
+        match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_synpred110_AliasMasker1806); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_type_cast_in_synpred110_AliasMasker1808);
+        type_cast();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        pushFollow(FOLLOW_expr_in_synpred110_AliasMasker1810);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred110_AliasMasker
+
+    // $ANTLR start synpred133_AliasMasker
+    public final void synpred133_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:22: ( INTEGER )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:22: INTEGER
+        {
+        match(input,INTEGER,FOLLOW_INTEGER_in_synpred133_AliasMasker2187); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred133_AliasMasker
+
+    // $ANTLR start synpred134_AliasMasker
+    public final void synpred134_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:32: ( LONGINTEGER )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:412:32: LONGINTEGER
+        {
+        match(input,LONGINTEGER,FOLLOW_LONGINTEGER_in_synpred134_AliasMasker2191); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred134_AliasMasker
+
+    // $ANTLR start synpred135_AliasMasker
+    public final void synpred135_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:24: ( DOUBLENUMBER )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:416:24: DOUBLENUMBER
+        {
+        match(input,DOUBLENUMBER,FOLLOW_DOUBLENUMBER_in_synpred135_AliasMasker2221); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred135_AliasMasker
+
+    // $ANTLR start synpred161_AliasMasker
+    public final void synpred161_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:473:7: ( join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:473:7: join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item
+        {
+        pushFollow(FOLLOW_join_item_in_synpred161_AliasMasker2545);
+        join_item();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        if ( input.LA(1)==FULL||input.LA(1)==LEFT||input.LA(1)==RIGHT ) {
+            input.consume();
+            state.errorRecovery=false;
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            throw mse;
+        }
+
+
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:476:16: ( OUTER )?
+        int alt125=2;
+        int LA125_0 = input.LA(1);
+
+        if ( (LA125_0==OUTER) ) {
+            alt125=1;
+        }
+        switch (alt125) {
+            case 1 :
+                // /root/project/src/org/apache/pig/parser/AliasMasker.g:476:16: OUTER
+                {
+                match(input,OUTER,FOLLOW_OUTER_in_synpred161_AliasMasker2600); if (state.failed) return ;
+
+                }
+                break;
+
+        }
+
+
+        pushFollow(FOLLOW_join_item_in_synpred161_AliasMasker2603);
+        join_item();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred161_AliasMasker
+
+    // $ANTLR start synpred179_AliasMasker
+    public final void synpred179_AliasMasker_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:34: ( INTEGER )
+        // /root/project/src/org/apache/pig/parser/AliasMasker.g:544:34: INTEGER
+        {
+        match(input,INTEGER,FOLLOW_INTEGER_in_synpred179_AliasMasker3020); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred179_AliasMasker
+
+    // Delegated rules
+
+    public final boolean synpred135_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred135_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred134_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred134_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred179_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred179_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred106_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred106_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred102_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred102_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred110_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred110_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred107_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred107_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred133_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred133_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred161_AliasMasker() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred161_AliasMasker_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+
+
+ 
+
+    public static final BitSet FOLLOW_QUERY_in_query80 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_statement_in_query82 = new BitSet(new long[]{0x0000000000000408L,0x0020000000000000L,0x0012000000000000L});
+    public static final BitSet FOLLOW_general_statement_in_statement94 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_split_statement_in_statement108 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_realias_statement_in_statement122 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assert_statement_in_statement136 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_split_clause_in_split_statement145 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assert_clause_in_assert_statement153 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_realias_clause_in_realias_statement162 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STATEMENT_in_general_statement178 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_general_statement182 = new BitSet(new long[]{0x0048400226400400L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_op_clause_in_general_statement195 = new BitSet(new long[]{0x0000000000000008L,0x0000000100000000L});
+    public static final BitSet FOLLOW_parallel_clause_in_general_statement197 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_REALIAS_in_realias_clause210 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_realias_clause212 = new BitSet(new long[]{0x0100000000000000L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_realias_clause214 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_PARALLEL_in_parallel_clause230 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_INTEGER_in_parallel_clause232 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_alias247 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_define_clause_in_op_clause266 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_load_clause_in_op_clause280 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_group_clause_in_op_clause294 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_store_clause_in_op_clause308 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_filter_clause_in_op_clause322 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_distinct_clause_in_op_clause336 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_limit_clause_in_op_clause350 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_sample_clause_in_op_clause364 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_order_clause_in_op_clause378 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rank_clause_in_op_clause392 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_cross_clause_in_op_clause406 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_clause_in_op_clause420 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_union_clause_in_op_clause434 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stream_clause_in_op_clause448 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_mr_clause_in_op_clause462 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_split_clause_in_op_clause476 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_foreach_clause_in_op_clause490 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_cube_clause_in_op_clause504 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assert_clause_in_op_clause518 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DEFINE_in_define_clause533 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_define_clause535 = new BitSet(new long[]{0x0000080000000000L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_cmd_in_define_clause540 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_func_clause_in_define_clause544 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_EXECCOMMAND_in_cmd563 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_ship_clause_in_cmd575 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_cache_clause_in_cmd579 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_input_clause_in_cmd583 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_output_clause_in_cmd587 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_error_clause_in_cmd591 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_SHIP_in_ship_clause611 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_path_list_in_ship_clause613 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_path_list629 = new BitSet(new long[]{0x0000000000000002L,0x0000008000000000L});
+    public static final BitSet FOLLOW_CACHE_in_cache_clause645 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_path_list_in_cache_clause647 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_INPUT_in_input_clause664 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_stream_cmd_in_input_clause666 = new BitSet(new long[]{0x0000000000000008L,0x0300008000000000L});
+    public static final BitSet FOLLOW_STDIN_in_stream_cmd684 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_clause_in_stream_cmd686 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STDOUT_in_stream_cmd699 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_clause_in_stream_cmd701 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_stream_cmd714 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_clause_in_stream_cmd716 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_OUTPUT_in_output_clause734 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_stream_cmd_in_output_clause736 = new BitSet(new long[]{0x0000000000000008L,0x0300008000000000L});
+    public static final BitSet FOLLOW_STDERROR_in_error_clause754 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_error_clause758 = new BitSet(new long[]{0x8000000000000008L});
+    public static final BitSet FOLLOW_INTEGER_in_error_clause760 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_LOAD_in_load_clause781 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_filename_in_load_clause783 = new BitSet(new long[]{0x0000000000000108L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_load_clause785 = new BitSet(new long[]{0x0000000000000108L});
+    public static final BitSet FOLLOW_as_clause_in_load_clause788 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_filename804 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AS_in_as_clause829 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_field_def_list_in_as_clause831 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FIELD_DEF_in_field_def848 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_field_def850 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0100020000002000L});
+    public static final BitSet FOLLOW_type_in_field_def852 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FIELD_DEF_WITHOUT_IDENTIFIER_in_field_def867 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_in_field_def869 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_field_def_in_field_def_list884 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x000000000C000000L});
+    public static final BitSet FOLLOW_simple_type_in_type894 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tuple_type_in_type898 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bag_type_in_type902 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_map_type_in_type906 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TUPLE_TYPE_in_tuple_type970 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_field_def_list_in_tuple_type972 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BAG_TYPE_in_bag_type990 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_bag_type992 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0100000000000000L});
+    public static final BitSet FOLLOW_tuple_type_in_bag_type995 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_MAP_TYPE_in_map_type1009 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_map_type1011 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0100020000002000L});
+    public static final BitSet FOLLOW_type_in_map_type1014 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FUNC_REF_in_func_clause1032 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_clause1034 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FUNC_in_func_clause1046 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_clause1048 = new BitSet(new long[]{0x0000000000000008L,0x0000008000000000L});
+    public static final BitSet FOLLOW_func_args_in_func_clause1050 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_eid_in_func_name1066 = new BitSet(new long[]{0x0000000800000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_set_in_func_name1070 = new BitSet(new long[]{0x7779D022AE6F5F50L,0xFFA58D03D80C6E1DL,0x18E00000000001F7L});
+    public static final BitSet FOLLOW_eid_in_func_name1080 = new BitSet(new long[]{0x0000000800000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_func_args1096 = new BitSet(new long[]{0x0000000000000002L,0x0000008000000000L});
+    public static final BitSet FOLLOW_CUBE_in_cube_clause1112 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cube_item_in_cube_clause1114 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_rel_in_cube_item1129 = new BitSet(new long[]{0x0000000000020000L});
+    public static final BitSet FOLLOW_cube_by_clause_in_cube_item1133 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BY_in_cube_by_clause1150 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cube_or_rollup_in_cube_by_clause1152 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_cube_rollup_list_in_cube_or_rollup1167 = new BitSet(new long[]{0x0000000004000002L,0x0000800000000000L});
+    public static final BitSet FOLLOW_set_in_cube_rollup_list1183 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cube_by_expr_list_in_cube_rollup_list1193 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_cube_by_expr_in_cube_by_expr_list1208 = new BitSet(new long[]{0x814410540400A002L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_col_range_in_cube_by_expr1222 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_cube_by_expr1226 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STAR_in_cube_by_expr1230 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_group_clause1245 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_group_item_in_group_clause1255 = new BitSet(new long[]{0x0148400226400408L,0x0C21018210004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_group_type_in_group_clause1258 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_group_clause1261 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_group_type1273 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_in_group_item1286 = new BitSet(new long[]{0x0000000000020010L,0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_join_group_by_clause_in_group_item1290 = new BitSet(new long[]{0x1000000000000002L,0x0000000040000000L});
+    public static final BitSet FOLLOW_ALL_in_group_item1294 = new BitSet(new long[]{0x1000000000000002L,0x0000000040000000L});
+    public static final BitSet FOLLOW_ANY_in_group_item1298 = new BitSet(new long[]{0x1000000000000002L,0x0000000040000000L});
+    public static final BitSet FOLLOW_alias_in_rel1324 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_op_clause_in_rel1330 = new BitSet(new long[]{0x0000000000000002L,0x0000000100000000L});
+    public static final BitSet FOLLOW_parallel_clause_in_rel1332 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_flatten_clause_in_flatten_generated_item1360 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x000000000C000000L});
+    public static final BitSet FOLLOW_col_range_in_flatten_generated_item1364 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x000000000C000000L});
+    public static final BitSet FOLLOW_expr_in_flatten_generated_item1368 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x000000000C000000L});
+    public static final BitSet FOLLOW_STAR_in_flatten_generated_item1372 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x000000000C000000L});
+    public static final BitSet FOLLOW_field_def_list_in_flatten_generated_item1376 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLATTEN_in_flatten_clause1392 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_flatten_clause1394 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STORE_in_store_clause1411 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_store_clause1413 = new BitSet(new long[]{0x0000000000000000L,0x0000008000000000L});
+    public static final BitSet FOLLOW_filename_in_store_clause1415 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_store_clause1417 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_ASSERT_in_assert_clause1435 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_assert_clause1437 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_assert_clause1439 = new BitSet(new long[]{0x0000000000000008L,0x0000008000000000L});
+    public static final BitSet FOLLOW_comment_in_assert_clause1441 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_comment1453 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FILTER_in_filter_clause1468 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_filter_clause1470 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_filter_clause1472 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_OR_in_cond1489 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_cond1491 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_cond1493 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_AND_in_cond1505 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_cond1507 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_cond1509 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NOT_in_cond1521 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_cond1523 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NULL_in_cond1535 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_cond1537 = new BitSet(new long[]{0x0000000000000008L,0x0000000000040000L});
+    public static final BitSet FOLLOW_NOT_in_cond1539 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_rel_op_in_cond1552 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_cond1554 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_cond1556 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_in_eval_in_cond1566 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_func_eval_in_cond1574 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOOL_COND_in_cond1584 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_cond1586 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IN_in_in_eval1603 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IN_LHS_in_in_eval1609 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_in_eval1611 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IN_RHS_in_in_eval1617 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_in_eval1619 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FUNC_EVAL_in_func_eval1641 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_eval1643 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_real_arg_in_func_eval1645 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_real_arg1661 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STAR_in_real_arg1665 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PLUS_in_expr1680 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1682 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1684 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_MINUS_in_expr1696 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1698 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1700 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STAR_in_expr1712 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1714 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1716 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_DIV_in_expr1728 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1730 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1732 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_PERCENT_in_expr1744 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1746 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1748 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_expr1760 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_in_expr1762 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1764 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_const_expr_in_expr1774 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_var_expr_in_expr1782 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NEG_in_expr1792 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1794 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_expr1806 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_expr1808 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr1810 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_EXPR_IN_PAREN_in_expr1822 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr1824 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_simple_type_in_type_cast1839 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_map_type_in_type_cast1843 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tuple_type_cast_in_type_cast1847 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bag_type_cast_in_type_cast1851 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TUPLE_TYPE_CAST_in_tuple_type_cast1866 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_tuple_type_cast1868 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0200020000004000L});
+    public static final BitSet FOLLOW_BAG_TYPE_CAST_in_bag_type_cast1886 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_tuple_type_cast_in_bag_type_cast1888 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_projectable_expr_in_var_expr1904 = new BitSet(new long[]{0x0000000000000002L,0x0000002800000000L});
+    public static final BitSet FOLLOW_dot_proj_in_var_expr1908 = new BitSet(new long[]{0x0000000000000002L,0x0000002800000000L});
+    public static final BitSet FOLLOW_pound_proj_in_var_expr1912 = new BitSet(new long[]{0x0000000000000002L,0x0000002800000000L});
+    public static final BitSet FOLLOW_func_eval_in_projectable_expr1928 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_col_ref_in_projectable_expr1932 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bin_expr_in_projectable_expr1936 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_case_expr_in_projectable_expr1940 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_case_cond_in_projectable_expr1944 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PERIOD_in_dot_proj1959 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_col_alias_or_index_in_dot_proj1961 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_col_alias_in_col_alias_or_index1973 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_col_index_in_col_alias_or_index1977 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOLLARVAR_in_col_index2019 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COL_RANGE_in_col_range2030 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_col_ref_in_col_range2032 = new BitSet(new long[]{0x0000008000000000L});
+    public static final BitSet FOLLOW_DOUBLE_PERIOD_in_col_range2035 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_col_ref_in_col_range2037 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_POUND_in_pound_proj2054 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_set_in_pound_proj2056 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BIN_EXPR_in_bin_expr2081 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_bin_expr2083 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_bin_expr2085 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_bin_expr2087 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_EXPR_in_case_expr2104 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_CASE_EXPR_LHS_in_case_expr2110 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_expr2112 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_EXPR_RHS_in_case_expr2120 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_expr2122 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_COND_in_case_cond2146 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_WHEN_in_case_cond2150 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_case_cond2152 = new BitSet(new long[]{0x0800000000000048L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_THEN_in_case_cond2159 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_cond2161 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_LIMIT_in_limit_clause2181 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_limit_clause2183 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_INTEGER_in_limit_clause2187 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_LONGINTEGER_in_limit_clause2191 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_limit_clause2195 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_SAMPLE_in_sample_clause2215 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_sample_clause2217 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_DOUBLENUMBER_in_sample_clause2221 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_sample_clause2225 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_RANK_in_rank_clause2241 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_rank_clause2243 = new BitSet(new long[]{0x0000000000020008L});
+    public static final BitSet FOLLOW_rank_by_statement_in_rank_clause2247 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BY_in_rank_by_statement2264 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rank_by_clause_in_rank_by_statement2266 = new BitSet(new long[]{0x0000000040000008L});
+    public static final BitSet FOLLOW_DENSE_in_rank_by_statement2270 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STAR_in_rank_by_clause2285 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_rank_col_in_rank_by_clause2304 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_col_range_in_rank_col2317 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_col_ref_in_rank_col2321 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_ORDER_in_order_clause2349 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_order_clause2351 = new BitSet(new long[]{0x0140001004000000L,0x0040000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_order_by_clause_in_order_clause2353 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_order_clause2355 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STAR_in_order_by_clause2371 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_order_col_in_order_by_clause2390 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_col_range_in_order_col2405 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_col_ref_in_order_col2409 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_DISTINCT_in_distinct_clause2436 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_distinct_clause2438 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_distinct_clause2440 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_PARTITION_in_partition_clause2458 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_partition_clause2460 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CROSS_in_cross_clause2477 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_list_in_cross_clause2479 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_cross_clause2481 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_rel_in_rel_list2497 = new BitSet(new long[]{0x0148400226400402L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_JOIN_in_join_clause2513 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_join_sub_clause_in_join_clause2515 = new BitSet(new long[]{0x0000000000000008L,0x0000008200000000L});
+    public static final BitSet FOLLOW_join_type_in_join_clause2517 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_join_clause2520 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_join_type2532 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause2545 = new BitSet(new long[]{0x0010000000000000L,0x0000080000000010L});
+    public static final BitSet FOLLOW_set_in_join_sub_clause2547 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_OUTER_in_join_sub_clause2600 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause2603 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause2611 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_JOIN_ITEM_in_join_item2624 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_join_item2626 = new BitSet(new long[]{0x0000000000020000L});
+    public static final BitSet FOLLOW_join_group_by_clause_in_join_item2628 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BY_in_join_group_by_clause2645 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_join_group_by_expr_in_join_group_by_clause2647 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_col_range_in_join_group_by_expr2663 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_join_group_by_expr2667 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STAR_in_join_group_by_expr2671 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNION_in_union_clause2686 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_ONSCHEMA_in_union_clause2688 = new BitSet(new long[]{0x0148400226400400L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_rel_list_in_union_clause2691 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_in_foreach_clause2708 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_foreach_clause2710 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000030000000L});
+    public static final BitSet FOLLOW_foreach_plan_in_foreach_clause2712 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_PLAN_SIMPLE_in_foreach_plan2729 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_generate_clause_in_foreach_plan2731 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_PLAN_COMPLEX_in_foreach_plan2743 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_blk_in_foreach_plan2745 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_nested_command_in_nested_blk2760 = new BitSet(new long[]{0x0020000000000000L,0x0000000000000000L,0x0000300000000000L});
+    public static final BitSet FOLLOW_generate_clause_in_nested_blk2763 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GENERATE_in_generate_clause2778 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_flatten_generated_item_in_generate_clause2780 = new BitSet(new long[]{0x814490540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_NESTED_CMD_in_nested_command2798 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_nested_command2800 = new BitSet(new long[]{0x0008400202000000L,0x0000000010000200L,0x0000400000000000L});
+    public static final BitSet FOLLOW_nested_op_in_nested_command2802 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NESTED_CMD_ASSI_in_nested_command2814 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_nested_command2816 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_nested_command2818 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_nested_proj_in_nested_op2829 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_filter_in_nested_op2843 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_sort_in_nested_op2857 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_distinct_in_nested_op2871 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_limit_in_nested_op2885 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_cross_in_nested_op2899 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_foreach_in_nested_op2913 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NESTED_PROJ_in_nested_proj2928 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_col_ref_in_nested_proj2930 = new BitSet(new long[]{0x0140001004000000L});
+    public static final BitSet FOLLOW_col_ref_in_nested_proj2932 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_FILTER_in_nested_filter2950 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_filter2952 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_nested_filter2954 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_ORDER_in_nested_sort2971 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_sort2973 = new BitSet(new long[]{0x0140001004000000L,0x0040000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_order_by_clause_in_nested_sort2975 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_nested_sort2977 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_DISTINCT_in_nested_distinct2995 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_distinct2997 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_LIMIT_in_nested_limit3014 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_limit3016 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_INTEGER_in_nested_limit3020 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_nested_limit3024 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CROSS_in_nested_cross3039 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_list_in_nested_cross3041 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_in_nested_foreach3054 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_foreach3056 = new BitSet(new long[]{0x0020000000000000L});
+    public static final BitSet FOLLOW_generate_clause_in_nested_foreach3058 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_op_input_list3069 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000400000000000L});
+    public static final BitSet FOLLOW_col_ref_in_nested_op_input3079 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_proj_in_nested_op_input3083 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STREAM_in_stream_clause3098 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_stream_clause3100 = new BitSet(new long[]{0x0100080000000000L});
+    public static final BitSet FOLLOW_set_in_stream_clause3102 = new BitSet(new long[]{0x0000000000000108L});
+    public static final BitSet FOLLOW_as_clause_in_stream_clause3112 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_MAPREDUCE_in_mr_clause3130 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_mr_clause3132 = new BitSet(new long[]{0x0000000000000000L,0x0400008000000000L});
+    public static final BitSet FOLLOW_path_list_in_mr_clause3134 = new BitSet(new long[]{0x0000000000000000L,0x0400000000000000L});
+    public static final BitSet FOLLOW_store_clause_in_mr_clause3137 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+    public static final BitSet FOLLOW_load_clause_in_mr_clause3139 = new BitSet(new long[]{0x0000080000000008L});
+    public static final BitSet FOLLOW_EXECCOMMAND_in_mr_clause3141 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_SPLIT_in_split_clause3159 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_split_clause3161 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0008000000000000L});
+    public static final BitSet FOLLOW_split_branch_in_split_clause3163 = new BitSet(new long[]{0x0000000000000008L,0x0000000020000000L,0x0008000000000000L});
+    public static final BitSet FOLLOW_split_otherwise_in_split_clause3166 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_SPLIT_BRANCH_in_split_branch3184 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_split_branch3186 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_split_branch3188 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_OTHERWISE_in_split_otherwise3205 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_split_otherwise3207 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_alias_col_ref_in_col_ref3218 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_dollar_col_ref_in_col_ref3222 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GROUP_in_alias_col_ref3235 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CUBE_in_alias_col_ref3243 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_alias_col_ref3251 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOLLARVAR_in_dollar_col_ref3272 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_literal_in_const_expr3281 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_scalar_in_literal3290 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_map_in_literal3294 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bag_in_literal3298 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tuple_in_literal3302 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_num_scalar_in_scalar3311 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_scalar3315 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NULL_in_scalar3319 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_scalar3323 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_scalar3327 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MINUS_in_num_scalar3336 = new BitSet(new long[]{0x800400400000A000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_set_in_num_scalar3339 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAP_VAL_in_map3378 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_keyvalue_in_map3380 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_KEY_VAL_PAIR_in_keyvalue3398 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_map_key_in_keyvalue3400 = new BitSet(new long[]{0x800410400000A000L,0x0000008000089000L,0x0400040000008020L});
+    public static final BitSet FOLLOW_const_expr_in_keyvalue3402 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_map_key3413 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BAG_VAL_in_bag3428 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_tuple_in_bag3430 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0400000000000000L});
+    public static final BitSet FOLLOW_TUPLE_VAL_in_tuple3448 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_literal_in_tuple3450 = new BitSet(new long[]{0x800410400000A008L,0x0000008000089000L,0x0400040000008020L});
+    public static final BitSet FOLLOW_rel_str_op_in_eid3463 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IMPORT_in_eid3471 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RETURNS_in_eid3479 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DEFINE_in_eid3487 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LOAD_in_eid3495 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FILTER_in_eid3503 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FOREACH_in_eid3511 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CUBE_in_eid3519 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ROLLUP_in_eid3527 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MATCHES_in_eid3535 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ORDER_in_eid3543 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RANK_in_eid3551 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DISTINCT_in_eid3559 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COGROUP_in_eid3567 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_JOIN_in_eid3575 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CROSS_in_eid3583 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNION_in_eid3591 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SPLIT_in_eid3599 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTO_in_eid3607 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IF_in_eid3615 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ALL_in_eid3623 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AS_in_eid3631 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BY_in_eid3639 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_USING_in_eid3647 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INNER_in_eid3655 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUTER_in_eid3663 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PARALLEL_in_eid3671 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PARTITION_in_eid3679 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GROUP_in_eid3687 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AND_in_eid3695 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OR_in_eid3703 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NOT_in_eid3711 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GENERATE_in_eid3719 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLATTEN_in_eid3727 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EVAL_in_eid3735 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASC_in_eid3743 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESC_in_eid3751 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOOLEAN_in_eid3759 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INT_in_eid3767 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LONG_in_eid3775 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_eid3783 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOUBLE_in_eid3791 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DATETIME_in_eid3799 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CHARARRAY_in_eid3807 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGINTEGER_in_eid3815 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGDECIMAL_in_eid3823 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BYTEARRAY_in_eid3831 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BAG_in_eid3839 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TUPLE_in_eid3847 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAP_in_eid3855 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IS_in_eid3863 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NULL_in_eid3871 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_eid3879 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_eid3887 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STREAM_in_eid3895 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_THROUGH_in_eid3903 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STORE_in_eid3911 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAPREDUCE_in_eid3919 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SHIP_in_eid3927 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CACHE_in_eid3935 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INPUT_in_eid3943 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUTPUT_in_eid3951 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STDERROR_in_eid3959 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STDIN_in_eid3967 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STDOUT_in_eid3975 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LIMIT_in_eid3983 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SAMPLE_in_eid3991 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LEFT_in_eid3999 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RIGHT_in_eid4007 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FULL_in_eid4015 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_eid4023 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TOBAG_in_eid4031 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TOMAP_in_eid4039 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TOTUPLE_in_eid4047 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASSERT_in_eid4055 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_eq_in_rel_op4069 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_ne_in_rel_op4077 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_gt_in_rel_op4085 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_gte_in_rel_op4093 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_lt_in_rel_op4101 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_lte_in_rel_op4109 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_MATCHES_in_rel_op4117 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MINUS_in_synpred102_AliasMasker1696 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_synpred102_AliasMasker1698 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_synpred102_AliasMasker1700 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_synpred106_AliasMasker1760 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_in_synpred106_AliasMasker1762 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_synpred106_AliasMasker1764 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_const_expr_in_synpred107_AliasMasker1774 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_synpred110_AliasMasker1806 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_synpred110_AliasMasker1808 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_synpred110_AliasMasker1810 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_INTEGER_in_synpred133_AliasMasker2187 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LONGINTEGER_in_synpred134_AliasMasker2191 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOUBLENUMBER_in_synpred135_AliasMasker2221 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_item_in_synpred161_AliasMasker2545 = new BitSet(new long[]{0x0010000000000000L,0x0000080000000010L});
+    public static final BitSet FOLLOW_set_in_synpred161_AliasMasker2547 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_OUTER_in_synpred161_AliasMasker2600 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_join_item_in_synpred161_AliasMasker2603 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTEGER_in_synpred179_AliasMasker3020 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
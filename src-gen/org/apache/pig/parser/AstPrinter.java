@@ -0,0 +1,25473 @@
+// $ANTLR 3.4 /root/project/src/org/apache/pig/parser/AstPrinter.g 2026-10-17 07:33:42
+
+package org.apache.pig.parser;
+
+
+import org.antlr.runtime.*;
+import org.antlr.runtime.tree.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+
+/**
+ * Grammar file for Pig tree parser (visitor for printing Pig script from Ast).
+ *
+ * NOTE: THIS FILE IS BASED ON QueryParser.g, SO IF YOU CHANGE THAT FILE, YOU WILL
+ *       PROBABLY NEED TO MAKE CORRESPONDING CHANGES TO THIS FILE AS WELL.
+ */
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class AstPrinter extends TreeParser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ALL", "AMPERSAND", "AND", "ARROBA", "AS", "ASC", "ASSERT", "BAG", "BIGDECIMAL", "BIGDECIMALNUMBER", "BIGINTEGER", "BIGINTEGERNUMBER", "BOOLEAN", "BY", "BYTEARRAY", "CACHE", "CASE", "CHARARRAY", "COGROUP", "COLON", "COMMA", "CROSS", "CUBE", "DATETIME", "DCOLON", "DEFINE", "DENSE", "DESC", "DIGIT", "DISTINCT", "DIV", "DOLLAR", "DOLLARVAR", "DOUBLE", "DOUBLENUMBER", "DOUBLE_PERIOD", "ELSE", "END", "EQUAL", "EXECCOMMAND", "FALSE", "FAT_ARROW", "FILTER", "FLATTEN", "FLOAT", "FLOATINGPOINT", "FLOATNUMBER", "FOREACH", "FULL", "GENERATE", "GROUP", "ID", "IDENTIFIER", "IF", "IMPORT", "IN", "INNER", "INPUT", "INT", "INTEGER", "INTO", "INVOKE", "IS", "JOIN", "LEFT", "LEFT_BRACKET", "LEFT_CURLY", "LEFT_PAREN", "LETTER", "LIMIT", "LOAD", "LONG", "LONGINTEGER", "MAP", "MAPREDUCE", "MINUS", "ML_COMMENT", "MULTILINE_QUOTEDSTRING", "NOT", "NULL", "NUM_OP_EQ", "NUM_OP_GT", "NUM_OP_GTE", "NUM_OP_LT", "NUM_OP_LTE", "NUM_OP_NE", "ONSCHEMA", "OR", "ORDER", "OTHERWISE", "OUTER", "OUTPUT", "PARALLEL", "PARTITION", "PERCENT", "PERIOD", "PLUS", "POUND", "QMARK", "QUOTEDSTRING", "RANK", "REGISTER", "RETURNS", "RIGHT", "RIGHT_BRACKET", "RIGHT_CURLY", "RIGHT_PAREN", "ROLLUP", "SAMPLE", "SEMI_COLON", "SHIP", "SL_COMMENT", "SPECIALCHAR", "SPLIT", "STAR", "STDERROR", "STDIN", "STDOUT", "STORE", "STREAM", "STR_OP_EQ", "STR_OP_GT", "STR_OP_GTE", "STR_OP_LT", "STR_OP_LTE", "STR_OP_MATCHES", "STR_OP_NE", "THEN", "THROUGH", "TRUE", "TUPLE", "UNION", "USING", "VOID", "WHEN", "WS", "ANY", "BAG_TYPE", "BAG_TYPE_CAST", "BAG_VAL", "BIN_EXPR", "BOOL", "BOOL_COND", "CASE_COND", "CASE_EXPR", "CASE_EXPR_LHS", "CASE_EXPR_RHS", "CAST_EXPR", "COL_RANGE", "EXPR_IN_PAREN", "FIELD_DEF", "FIELD_DEF_WITHOUT_IDENTIFIER", "FOREACH_PLAN_COMPLEX", "FOREACH_PLAN_SIMPLE", "FUNC", "FUNC_EVAL", "FUNC_REF", "INVOKER_FUNC_EVAL", "IN_LHS", "IN_RHS", "JOIN_ITEM", "KEY_VAL_PAIR", "MACRO_BODY", "MACRO_DEF", "MACRO_INLINE", "MAP_TYPE", "MAP_VAL", "NEG", "NESTED_CMD", "NESTED_CMD_ASSI", "NESTED_PROJ", "PARAMS", "QUERY", "REALIAS", "RETURN_VAL", "SPLIT_BRANCH", "STATEMENT", "TOBAG", "TOMAP", "TOTUPLE", "TUPLE_TYPE", "TUPLE_TYPE_CAST", "TUPLE_VAL", "EVAL", "MATCHES"
+    };
+
+    public static final int EOF=-1;
+    public static final int ALL=4;
+    public static final int AMPERSAND=5;
+    public static final int AND=6;
+    public static final int ARROBA=7;
+    public static final int AS=8;
+    public static final int ASC=9;
+    public static final int ASSERT=10;
+    public static final int BAG=11;
+    public static final int BIGDECIMAL=12;
+    public static final int BIGDECIMALNUMBER=13;
+    public static final int BIGINTEGER=14;
+    public static final int BIGINTEGERNUMBER=15;
+    public static final int BOOLEAN=16;
+    public static final int BY=17;
+    public static final int BYTEARRAY=18;
+    public static final int CACHE=19;
+    public static final int CASE=20;
+    public static final int CHARARRAY=21;
+    public static final int COGROUP=22;
+    public static final int COLON=23;
+    public static final int COMMA=24;
+    public static final int CROSS=25;
+    public static final int CUBE=26;
+    public static final int DATETIME=27;
+    public static final int DCOLON=28;
+    public static final int DEFINE=29;
+    public static final int DENSE=30;
+    public static final int DESC=31;
+    public static final int DIGIT=32;
+    public static final int DISTINCT=33;
+    public static final int DIV=34;
+    public static final int DOLLAR=35;
+    public static final int DOLLARVAR=36;
+    public static final int DOUBLE=37;
+    public static final int DOUBLENUMBER=38;
+    public static final int DOUBLE_PERIOD=39;
+    public static final int ELSE=40;
+    public static final int END=41;
+    public static final int EQUAL=42;
+    public static final int EXECCOMMAND=43;
+    public static final int FALSE=44;
+    public static final int FAT_ARROW=45;
+    public static final int FILTER=46;
+    public static final int FLATTEN=47;
+    public static final int FLOAT=48;
+    public static final int FLOATINGPOINT=49;
+    public static final int FLOATNUMBER=50;
+    public static final int FOREACH=51;
+    public static final int FULL=52;
+    public static final int GENERATE=53;
+    public static final int GROUP=54;
+    public static final int ID=55;
+    public static final int IDENTIFIER=56;
+    public static final int IF=57;
+    public static final int IMPORT=58;
+    public static final int IN=59;
+    public static final int INNER=60;
+    public static final int INPUT=61;
+    public static final int INT=62;
+    public static final int INTEGER=63;
+    public static final int INTO=64;
+    public static final int INVOKE=65;
+    public static final int IS=66;
+    public static final int JOIN=67;
+    public static final int LEFT=68;
+    public static final int LEFT_BRACKET=69;
+    public static final int LEFT_CURLY=70;
+    public static final int LEFT_PAREN=71;
+    public static final int LETTER=72;
+    public static final int LIMIT=73;
+    public static final int LOAD=74;
+    public static final int LONG=75;
+    public static final int LONGINTEGER=76;
+    public static final int MAP=77;
+    public static final int MAPREDUCE=78;
+    public static final int MINUS=79;
+    public static final int ML_COMMENT=80;
+    public static final int MULTILINE_QUOTEDSTRING=81;
+    public static final int NOT=82;
+    public static final int NULL=83;
+    public static final int NUM_OP_EQ=84;
+    public static final int NUM_OP_GT=85;
+    public static final int NUM_OP_GTE=86;
+    public static final int NUM_OP_LT=87;
+    public static final int NUM_OP_LTE=88;
+    public static final int NUM_OP_NE=89;
+    public static final int ONSCHEMA=90;
+    public static final int OR=91;
+    public static final int ORDER=92;
+    public static final int OTHERWISE=93;
+    public static final int OUTER=94;
+    public static final int OUTPUT=95;
+    public static final int PARALLEL=96;
+    public static final int PARTITION=97;
+    public static final int PERCENT=98;
+    public static final int PERIOD=99;
+    public static final int PLUS=100;
+    public static final int POUND=101;
+    public static final int QMARK=102;
+    public static final int QUOTEDSTRING=103;
+    public static final int RANK=104;
+    public static final int REGISTER=105;
+    public static final int RETURNS=106;
+    public static final int RIGHT=107;
+    public static final int RIGHT_BRACKET=108;
+    public static final int RIGHT_CURLY=109;
+    public static final int RIGHT_PAREN=110;
+    public static final int ROLLUP=111;
+    public static final int SAMPLE=112;
+    public static final int SEMI_COLON=113;
+    public static final int SHIP=114;
+    public static final int SL_COMMENT=115;
+    public static final int SPECIALCHAR=116;
+    public static final int SPLIT=117;
+    public static final int STAR=118;
+    public static final int STDERROR=119;
+    public static final int STDIN=120;
+    public static final int STDOUT=121;
+    public static final int STORE=122;
+    public static final int STREAM=123;
+    public static final int STR_OP_EQ=124;
+    public static final int STR_OP_GT=125;
+    public static final int STR_OP_GTE=126;
+    public static final int STR_OP_LT=127;
+    public static final int STR_OP_LTE=128;
+    public static final int STR_OP_MATCHES=129;
+    public static final int STR_OP_NE=130;
+    public static final int THEN=131;
+    public static final int THROUGH=132;
+    public static final int TRUE=133;
+    public static final int TUPLE=134;
+    public static final int UNION=135;
+    public static final int USING=136;
+    public static final int VOID=137;
+    public static final int WHEN=138;
+    public static final int WS=139;
+    public static final int ANY=140;
+    public static final int BAG_TYPE=141;
+    public static final int BAG_TYPE_CAST=142;
+    public static final int BAG_VAL=143;
+    public static final int BIN_EXPR=144;
+    public static final int BOOL=145;
+    public static final int BOOL_COND=146;
+    public static final int CASE_COND=147;
+    public static final int CASE_EXPR=148;
+    public static final int CASE_EXPR_LHS=149;
+    public static final int CASE_EXPR_RHS=150;
+    public static final int CAST_EXPR=151;
+    public static final int COL_RANGE=152;
+    public static final int EXPR_IN_PAREN=153;
+    public static final int FIELD_DEF=154;
+    public static final int FIELD_DEF_WITHOUT_IDENTIFIER=155;
+    public static final int FOREACH_PLAN_COMPLEX=156;
+    public static final int FOREACH_PLAN_SIMPLE=157;
+    public static final int FUNC=158;
+    public static final int FUNC_EVAL=159;
+    public static final int FUNC_REF=160;
+    public static final int INVOKER_FUNC_EVAL=161;
+    public static final int IN_LHS=162;
+    public static final int IN_RHS=163;
+    public static final int JOIN_ITEM=164;
+    public static final int KEY_VAL_PAIR=165;
+    public static final int MACRO_BODY=166;
+    public static final int MACRO_DEF=167;
+    public static final int MACRO_INLINE=168;
+    public static final int MAP_TYPE=169;
+    public static final int MAP_VAL=170;
+    public static final int NEG=171;
+    public static final int NESTED_CMD=172;
+    public static final int NESTED_CMD_ASSI=173;
+    public static final int NESTED_PROJ=174;
+    public static final int PARAMS=175;
+    public static final int QUERY=176;
+    public static final int REALIAS=177;
+    public static final int RETURN_VAL=178;
+    public static final int SPLIT_BRANCH=179;
+    public static final int STATEMENT=180;
+    public static final int TOBAG=181;
+    public static final int TOMAP=182;
+    public static final int TOTUPLE=183;
+    public static final int TUPLE_TYPE=184;
+    public static final int TUPLE_TYPE_CAST=185;
+    public static final int TUPLE_VAL=186;
+    public static final int EVAL=187;
+    public static final int MATCHES=188;
+
+    // delegates
+    public TreeParser[] getDelegates() {
+        return new TreeParser[] {};
+    }
+
+    // delegators
+
+
+    public AstPrinter(TreeNodeStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public AstPrinter(TreeNodeStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+protected TreeAdaptor adaptor = new CommonTreeAdaptor();
+
+public void setTreeAdaptor(TreeAdaptor adaptor) {
+    this.adaptor = adaptor;
+}
+public TreeAdaptor getTreeAdaptor() {
+    return adaptor;
+}
+    public String[] getTokenNames() { return AstPrinter.tokenNames; }
+    public String getGrammarFileName() { return "/root/project/src/org/apache/pig/parser/AstPrinter.g"; }
+
+
+
+    public String getResult() { return sb.toString(); }
+
+    private StringBuilder sb = new StringBuilder();
+
+
+
+    public static class query_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "query"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:53:1: query : ^( QUERY ( statement )* ) ;
+    public final AstPrinter.query_return query() throws RecognitionException {
+        AstPrinter.query_return retval = new AstPrinter.query_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUERY1=null;
+        AstPrinter.statement_return statement2 =null;
+
+
+        CommonTree QUERY1_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:53:7: ( ^( QUERY ( statement )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:53:9: ^( QUERY ( statement )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            QUERY1=(CommonTree)match(input,QUERY,FOLLOW_QUERY_in_query80); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUERY1_tree = (CommonTree)adaptor.dupNode(QUERY1);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(QUERY1_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:53:18: ( statement )*
+                loop1:
+                do {
+                    int alt1=2;
+                    int LA1_0 = input.LA(1);
+
+                    if ( (LA1_0==ASSERT||LA1_0==IMPORT||LA1_0==REGISTER||LA1_0==SPLIT||LA1_0==REALIAS||LA1_0==STATEMENT) ) {
+                        alt1=1;
+                    }
+
+
+                    switch (alt1) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:53:18: statement
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_statement_in_query82);
+                	    statement2=statement();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, statement2.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop1;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "query"
+
+
+    public static class statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:56:1: statement : ( general_statement | split_statement | import_statement | register_statement | assert_statement | realias_statement );
+    public final AstPrinter.statement_return statement() throws RecognitionException {
+        AstPrinter.statement_return retval = new AstPrinter.statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.general_statement_return general_statement3 =null;
+
+        AstPrinter.split_statement_return split_statement4 =null;
+
+        AstPrinter.import_statement_return import_statement5 =null;
+
+        AstPrinter.register_statement_return register_statement6 =null;
+
+        AstPrinter.assert_statement_return assert_statement7 =null;
+
+        AstPrinter.realias_statement_return realias_statement8 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:56:11: ( general_statement | split_statement | import_statement | register_statement | assert_statement | realias_statement )
+            int alt2=6;
+            switch ( input.LA(1) ) {
+            case STATEMENT:
+                {
+                alt2=1;
+                }
+                break;
+            case SPLIT:
+                {
+                alt2=2;
+                }
+                break;
+            case IMPORT:
+                {
+                alt2=3;
+                }
+                break;
+            case REGISTER:
+                {
+                alt2=4;
+                }
+                break;
+            case ASSERT:
+                {
+                alt2=5;
+                }
+                break;
+            case REALIAS:
+                {
+                alt2=6;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 2, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt2) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:56:13: general_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_general_statement_in_statement94);
+                    general_statement3=general_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, general_statement3.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:57:13: split_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_split_statement_in_statement108);
+                    split_statement4=split_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, split_statement4.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(";\n"); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:58:13: import_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_import_statement_in_statement124);
+                    import_statement5=import_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, import_statement5.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(";\n"); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:59:13: register_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_register_statement_in_statement140);
+                    register_statement6=register_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, register_statement6.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(";\n"); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:60:13: assert_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_assert_statement_in_statement156);
+                    assert_statement7=assert_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, assert_statement7.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(";\n"); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:61:13: realias_statement
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_realias_statement_in_statement172);
+                    realias_statement8=realias_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, realias_statement8.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "statement"
+
+
+    public static class split_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:64:1: split_statement : split_clause ;
+    public final AstPrinter.split_statement_return split_statement() throws RecognitionException {
+        AstPrinter.split_statement_return retval = new AstPrinter.split_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.split_clause_return split_clause9 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:64:17: ( split_clause )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:64:19: split_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_split_clause_in_split_statement181);
+            split_clause9=split_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, split_clause9.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_statement"
+
+
+    public static class realias_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "realias_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:67:1: realias_statement : realias_clause ;
+    public final AstPrinter.realias_statement_return realias_statement() throws RecognitionException {
+        AstPrinter.realias_statement_return retval = new AstPrinter.realias_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.realias_clause_return realias_clause10 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:67:19: ( realias_clause )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:67:21: realias_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_realias_clause_in_realias_statement190);
+            realias_clause10=realias_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, realias_clause10.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "realias_statement"
+
+
+    public static class import_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "import_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:70:1: import_statement : ^( IMPORT QUOTEDSTRING ) ;
+    public final AstPrinter.import_statement_return import_statement() throws RecognitionException {
+        AstPrinter.import_statement_return retval = new AstPrinter.import_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IMPORT11=null;
+        CommonTree QUOTEDSTRING12=null;
+
+        CommonTree IMPORT11_tree=null;
+        CommonTree QUOTEDSTRING12_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:70:18: ( ^( IMPORT QUOTEDSTRING ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:70:20: ^( IMPORT QUOTEDSTRING )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            IMPORT11=(CommonTree)match(input,IMPORT,FOLLOW_IMPORT_in_import_statement201); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IMPORT11_tree = (CommonTree)adaptor.dupNode(IMPORT11);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(IMPORT11_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING12=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_import_statement203); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING12_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING12);
+
+
+            adaptor.addChild(root_1, QUOTEDSTRING12_tree);
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+                                   sb.append(" ").append((IMPORT11!=null?IMPORT11.getText():null)).append(" ").append((QUOTEDSTRING12!=null?QUOTEDSTRING12.getText():null));
+                               }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "import_statement"
+
+
+    public static class register_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "register_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:75:1: register_statement : ^( REGISTER QUOTEDSTRING ( scripting_udf_clause )? ) ;
+    public final AstPrinter.register_statement_return register_statement() throws RecognitionException {
+        AstPrinter.register_statement_return retval = new AstPrinter.register_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree REGISTER13=null;
+        CommonTree QUOTEDSTRING14=null;
+        AstPrinter.scripting_udf_clause_return scripting_udf_clause15 =null;
+
+
+        CommonTree REGISTER13_tree=null;
+        CommonTree QUOTEDSTRING14_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:75:20: ( ^( REGISTER QUOTEDSTRING ( scripting_udf_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:75:22: ^( REGISTER QUOTEDSTRING ( scripting_udf_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            REGISTER13=(CommonTree)match(input,REGISTER,FOLLOW_REGISTER_in_register_statement218); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            REGISTER13_tree = (CommonTree)adaptor.dupNode(REGISTER13);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(REGISTER13_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING14=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_register_statement220); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING14_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING14);
+
+
+            adaptor.addChild(root_1, QUOTEDSTRING14_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+                                        sb.append((REGISTER13!=null?REGISTER13.getText():null)).append(" ").append((QUOTEDSTRING14!=null?QUOTEDSTRING14.getText():null));
+                                    }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:77:27: ( scripting_udf_clause )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==USING) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:77:27: scripting_udf_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_scripting_udf_clause_in_register_statement224);
+                    scripting_udf_clause15=scripting_udf_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, scripting_udf_clause15.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "register_statement"
+
+
+    public static class assert_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "assert_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:80:1: assert_statement : assert_clause ;
+    public final AstPrinter.assert_statement_return assert_statement() throws RecognitionException {
+        AstPrinter.assert_statement_return retval = new AstPrinter.assert_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.assert_clause_return assert_clause16 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:80:18: ( assert_clause )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:80:20: assert_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_assert_clause_in_assert_statement236);
+            assert_clause16=assert_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, assert_clause16.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "assert_statement"
+
+
+    public static class scripting_udf_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "scripting_udf_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:83:1: scripting_udf_clause : scripting_language_clause scripting_namespace_clause ;
+    public final AstPrinter.scripting_udf_clause_return scripting_udf_clause() throws RecognitionException {
+        AstPrinter.scripting_udf_clause_return retval = new AstPrinter.scripting_udf_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.scripting_language_clause_return scripting_language_clause17 =null;
+
+        AstPrinter.scripting_namespace_clause_return scripting_namespace_clause18 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:83:22: ( scripting_language_clause scripting_namespace_clause )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:83:24: scripting_language_clause scripting_namespace_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_scripting_language_clause_in_scripting_udf_clause245);
+            scripting_language_clause17=scripting_language_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, scripting_language_clause17.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_scripting_namespace_clause_in_scripting_udf_clause247);
+            scripting_namespace_clause18=scripting_namespace_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, scripting_namespace_clause18.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "scripting_udf_clause"
+
+
+    public static class scripting_language_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "scripting_language_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:86:1: scripting_language_clause : ( USING IDENTIFIER ) ;
+    public final AstPrinter.scripting_language_clause_return scripting_language_clause() throws RecognitionException {
+        AstPrinter.scripting_language_clause_return retval = new AstPrinter.scripting_language_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree USING19=null;
+        CommonTree IDENTIFIER20=null;
+
+        CommonTree USING19_tree=null;
+        CommonTree IDENTIFIER20_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:86:27: ( ( USING IDENTIFIER ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:86:29: ( USING IDENTIFIER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:86:29: ( USING IDENTIFIER )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:86:30: USING IDENTIFIER
+            {
+            _last = (CommonTree)input.LT(1);
+            USING19=(CommonTree)match(input,USING,FOLLOW_USING_in_scripting_language_clause257); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            USING19_tree = (CommonTree)adaptor.dupNode(USING19);
+
+
+            adaptor.addChild(root_0, USING19_tree);
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER20=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_scripting_language_clause259); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER20_tree = (CommonTree)adaptor.dupNode(IDENTIFIER20);
+
+
+            adaptor.addChild(root_0, IDENTIFIER20_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            if ( state.backtracking==0 ) {
+                                            sb.append(" ").append((USING19!=null?USING19.getText():null)).append(" ").append((IDENTIFIER20!=null?IDENTIFIER20.getText():null));
+                                        }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "scripting_language_clause"
+
+
+    public static class scripting_namespace_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "scripting_namespace_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:91:1: scripting_namespace_clause : ( AS IDENTIFIER ) ;
+    public final AstPrinter.scripting_namespace_clause_return scripting_namespace_clause() throws RecognitionException {
+        AstPrinter.scripting_namespace_clause_return retval = new AstPrinter.scripting_namespace_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree AS21=null;
+        CommonTree IDENTIFIER22=null;
+
+        CommonTree AS21_tree=null;
+        CommonTree IDENTIFIER22_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:91:28: ( ( AS IDENTIFIER ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:91:30: ( AS IDENTIFIER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:91:30: ( AS IDENTIFIER )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:91:31: AS IDENTIFIER
+            {
+            _last = (CommonTree)input.LT(1);
+            AS21=(CommonTree)match(input,AS,FOLLOW_AS_in_scripting_namespace_clause272); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            AS21_tree = (CommonTree)adaptor.dupNode(AS21);
+
+
+            adaptor.addChild(root_0, AS21_tree);
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER22=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_scripting_namespace_clause274); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER22_tree = (CommonTree)adaptor.dupNode(IDENTIFIER22);
+
+
+            adaptor.addChild(root_0, IDENTIFIER22_tree);
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            if ( state.backtracking==0 ) {
+                                             sb.append(" ").append((AS21!=null?AS21.getText():null)).append(" ").append((IDENTIFIER22!=null?IDENTIFIER22.getText():null));
+                                         }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "scripting_namespace_clause"
+
+
+    public static class general_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "general_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:97:1: general_statement : ^( STATEMENT ( alias )? op_clause ( parallel_clause )? ) ;
+    public final AstPrinter.general_statement_return general_statement() throws RecognitionException {
+        AstPrinter.general_statement_return retval = new AstPrinter.general_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STATEMENT23=null;
+        AstPrinter.alias_return alias24 =null;
+
+        AstPrinter.op_clause_return op_clause25 =null;
+
+        AstPrinter.parallel_clause_return parallel_clause26 =null;
+
+
+        CommonTree STATEMENT23_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:98:5: ( ^( STATEMENT ( alias )? op_clause ( parallel_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:98:7: ^( STATEMENT ( alias )? op_clause ( parallel_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STATEMENT23=(CommonTree)match(input,STATEMENT,FOLLOW_STATEMENT_in_general_statement293); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STATEMENT23_tree = (CommonTree)adaptor.dupNode(STATEMENT23);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STATEMENT23_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:98:20: ( alias )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==IDENTIFIER) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:98:22: alias
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_alias_in_general_statement297);
+                    alias24=alias();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, alias24.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" = "); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_op_clause_in_general_statement312);
+            op_clause25=op_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, op_clause25.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:99:19: ( parallel_clause )?
+            int alt5=2;
+            int LA5_0 = input.LA(1);
+
+            if ( (LA5_0==PARALLEL) ) {
+                alt5=1;
+            }
+            switch (alt5) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:99:19: parallel_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_parallel_clause_in_general_statement314);
+                    parallel_clause26=parallel_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, parallel_clause26.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(";\n"); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "general_statement"
+
+
+    public static class realias_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "realias_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:102:1: realias_clause : ^( REALIAS alias IDENTIFIER ) ;
+    public final AstPrinter.realias_clause_return realias_clause() throws RecognitionException {
+        AstPrinter.realias_clause_return retval = new AstPrinter.realias_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree REALIAS27=null;
+        CommonTree IDENTIFIER29=null;
+        AstPrinter.alias_return alias28 =null;
+
+
+        CommonTree REALIAS27_tree=null;
+        CommonTree IDENTIFIER29_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:102:16: ( ^( REALIAS alias IDENTIFIER ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:102:18: ^( REALIAS alias IDENTIFIER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            REALIAS27=(CommonTree)match(input,REALIAS,FOLLOW_REALIAS_in_realias_clause329); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            REALIAS27_tree = (CommonTree)adaptor.dupNode(REALIAS27);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(REALIAS27_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_realias_clause331);
+            alias28=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias28.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER29=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_realias_clause333); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER29_tree = (CommonTree)adaptor.dupNode(IDENTIFIER29);
+
+
+            adaptor.addChild(root_1, IDENTIFIER29_tree);
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "realias_clause"
+
+
+    public static class parallel_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "parallel_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:105:1: parallel_clause : ^( PARALLEL INTEGER ) ;
+    public final AstPrinter.parallel_clause_return parallel_clause() throws RecognitionException {
+        AstPrinter.parallel_clause_return retval = new AstPrinter.parallel_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PARALLEL30=null;
+        CommonTree INTEGER31=null;
+
+        CommonTree PARALLEL30_tree=null;
+        CommonTree INTEGER31_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:106:5: ( ^( PARALLEL INTEGER ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:106:7: ^( PARALLEL INTEGER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            PARALLEL30=(CommonTree)match(input,PARALLEL,FOLLOW_PARALLEL_in_parallel_clause349); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            PARALLEL30_tree = (CommonTree)adaptor.dupNode(PARALLEL30);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(PARALLEL30_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            INTEGER31=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_parallel_clause351); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            INTEGER31_tree = (CommonTree)adaptor.dupNode(INTEGER31);
+
+
+            adaptor.addChild(root_1, INTEGER31_tree);
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((PARALLEL30!=null?PARALLEL30.getText():null)).append(" ").append((INTEGER31!=null?INTEGER31.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "parallel_clause"
+
+
+    public static class alias_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "alias"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:109:1: alias : IDENTIFIER ;
+    public final AstPrinter.alias_return alias() throws RecognitionException {
+        AstPrinter.alias_return retval = new AstPrinter.alias_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IDENTIFIER32=null;
+
+        CommonTree IDENTIFIER32_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:110:5: ( IDENTIFIER )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:110:7: IDENTIFIER
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER32=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_alias368); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER32_tree = (CommonTree)adaptor.dupNode(IDENTIFIER32);
+
+
+            adaptor.addChild(root_0, IDENTIFIER32_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((IDENTIFIER32!=null?IDENTIFIER32.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "alias"
+
+
+    public static class op_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "op_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:113:1: op_clause : ( define_clause | load_clause | group_clause | store_clause | filter_clause | distinct_clause | limit_clause | sample_clause | order_clause | rank_clause | cross_clause | join_clause | union_clause | stream_clause | mr_clause | split_clause | foreach_clause | cube_clause | assert_clause );
+    public final AstPrinter.op_clause_return op_clause() throws RecognitionException {
+        AstPrinter.op_clause_return retval = new AstPrinter.op_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.define_clause_return define_clause33 =null;
+
+        AstPrinter.load_clause_return load_clause34 =null;
+
+        AstPrinter.group_clause_return group_clause35 =null;
+
+        AstPrinter.store_clause_return store_clause36 =null;
+
+        AstPrinter.filter_clause_return filter_clause37 =null;
+
+        AstPrinter.distinct_clause_return distinct_clause38 =null;
+
+        AstPrinter.limit_clause_return limit_clause39 =null;
+
+        AstPrinter.sample_clause_return sample_clause40 =null;
+
+        AstPrinter.order_clause_return order_clause41 =null;
+
+        AstPrinter.rank_clause_return rank_clause42 =null;
+
+        AstPrinter.cross_clause_return cross_clause43 =null;
+
+        AstPrinter.join_clause_return join_clause44 =null;
+
+        AstPrinter.union_clause_return union_clause45 =null;
+
+        AstPrinter.stream_clause_return stream_clause46 =null;
+
+        AstPrinter.mr_clause_return mr_clause47 =null;
+
+        AstPrinter.split_clause_return split_clause48 =null;
+
+        AstPrinter.foreach_clause_return foreach_clause49 =null;
+
+        AstPrinter.cube_clause_return cube_clause50 =null;
+
+        AstPrinter.assert_clause_return assert_clause51 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:113:11: ( define_clause | load_clause | group_clause | store_clause | filter_clause | distinct_clause | limit_clause | sample_clause | order_clause | rank_clause | cross_clause | join_clause | union_clause | stream_clause | mr_clause | split_clause | foreach_clause | cube_clause | assert_clause )
+            int alt6=19;
+            switch ( input.LA(1) ) {
+            case DEFINE:
+                {
+                alt6=1;
+                }
+                break;
+            case LOAD:
+                {
+                alt6=2;
+                }
+                break;
+            case COGROUP:
+            case GROUP:
+                {
+                alt6=3;
+                }
+                break;
+            case STORE:
+                {
+                alt6=4;
+                }
+                break;
+            case FILTER:
+                {
+                alt6=5;
+                }
+                break;
+            case DISTINCT:
+                {
+                alt6=6;
+                }
+                break;
+            case LIMIT:
+                {
+                alt6=7;
+                }
+                break;
+            case SAMPLE:
+                {
+                alt6=8;
+                }
+                break;
+            case ORDER:
+                {
+                alt6=9;
+                }
+                break;
+            case RANK:
+                {
+                alt6=10;
+                }
+                break;
+            case CROSS:
+                {
+                alt6=11;
+                }
+                break;
+            case JOIN:
+                {
+                alt6=12;
+                }
+                break;
+            case UNION:
+                {
+                alt6=13;
+                }
+                break;
+            case STREAM:
+                {
+                alt6=14;
+                }
+                break;
+            case MAPREDUCE:
+                {
+                alt6=15;
+                }
+                break;
+            case SPLIT:
+                {
+                alt6=16;
+                }
+                break;
+            case FOREACH:
+                {
+                alt6=17;
+                }
+                break;
+            case CUBE:
+                {
+                alt6=18;
+                }
+                break;
+            case ASSERT:
+                {
+                alt6=19;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 6, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt6) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:113:13: define_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_define_clause_in_op_clause379);
+                    define_clause33=define_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, define_clause33.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:114:13: load_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_load_clause_in_op_clause393);
+                    load_clause34=load_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, load_clause34.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:115:13: group_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_group_clause_in_op_clause407);
+                    group_clause35=group_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, group_clause35.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:116:13: store_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_store_clause_in_op_clause421);
+                    store_clause36=store_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, store_clause36.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:117:13: filter_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_filter_clause_in_op_clause435);
+                    filter_clause37=filter_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, filter_clause37.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:118:13: distinct_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_distinct_clause_in_op_clause449);
+                    distinct_clause38=distinct_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, distinct_clause38.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:119:13: limit_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_limit_clause_in_op_clause463);
+                    limit_clause39=limit_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, limit_clause39.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:120:13: sample_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_sample_clause_in_op_clause477);
+                    sample_clause40=sample_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, sample_clause40.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:121:13: order_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_order_clause_in_op_clause491);
+                    order_clause41=order_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, order_clause41.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:122:13: rank_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rank_clause_in_op_clause505);
+                    rank_clause42=rank_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rank_clause42.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:123:13: cross_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cross_clause_in_op_clause519);
+                    cross_clause43=cross_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, cross_clause43.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 12 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:124:13: join_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_clause_in_op_clause533);
+                    join_clause44=join_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_clause44.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 13 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:125:13: union_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_union_clause_in_op_clause547);
+                    union_clause45=union_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, union_clause45.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 14 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:126:13: stream_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_stream_clause_in_op_clause561);
+                    stream_clause46=stream_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, stream_clause46.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 15 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:127:13: mr_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_mr_clause_in_op_clause575);
+                    mr_clause47=mr_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, mr_clause47.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 16 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:128:13: split_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_split_clause_in_op_clause589);
+                    split_clause48=split_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, split_clause48.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 17 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:129:13: foreach_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_foreach_clause_in_op_clause603);
+                    foreach_clause49=foreach_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, foreach_clause49.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 18 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:130:13: cube_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cube_clause_in_op_clause617);
+                    cube_clause50=cube_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, cube_clause50.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 19 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:131:13: assert_clause
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_assert_clause_in_op_clause631);
+                    assert_clause51=assert_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, assert_clause51.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "op_clause"
+
+
+    public static class define_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "define_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:134:1: define_clause : ^( DEFINE IDENTIFIER ( cmd | func_clause ) ) ;
+    public final AstPrinter.define_clause_return define_clause() throws RecognitionException {
+        AstPrinter.define_clause_return retval = new AstPrinter.define_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DEFINE52=null;
+        CommonTree IDENTIFIER53=null;
+        AstPrinter.cmd_return cmd54 =null;
+
+        AstPrinter.func_clause_return func_clause55 =null;
+
+
+        CommonTree DEFINE52_tree=null;
+        CommonTree IDENTIFIER53_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:135:5: ( ^( DEFINE IDENTIFIER ( cmd | func_clause ) ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:135:7: ^( DEFINE IDENTIFIER ( cmd | func_clause ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            DEFINE52=(CommonTree)match(input,DEFINE,FOLLOW_DEFINE_in_define_clause646); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DEFINE52_tree = (CommonTree)adaptor.dupNode(DEFINE52);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(DEFINE52_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            IDENTIFIER53=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_define_clause648); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IDENTIFIER53_tree = (CommonTree)adaptor.dupNode(IDENTIFIER53);
+
+
+            adaptor.addChild(root_1, IDENTIFIER53_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((DEFINE52!=null?DEFINE52.getText():null)).append(" ").append((IDENTIFIER53!=null?IDENTIFIER53.getText():null)).append(" "); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:136:9: ( cmd | func_clause )
+            int alt7=2;
+            int LA7_0 = input.LA(1);
+
+            if ( (LA7_0==EXECCOMMAND) ) {
+                alt7=1;
+            }
+            else if ( (LA7_0==FUNC||LA7_0==FUNC_REF) ) {
+                alt7=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 7, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt7) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:136:11: cmd
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cmd_in_define_clause662);
+                    cmd54=cmd();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cmd54.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:136:17: func_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_define_clause666);
+                    func_clause55=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause55.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "define_clause"
+
+
+    public static class cmd_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cmd"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:139:1: cmd : ^( EXECCOMMAND ( ship_clause | cache_clause | input_clause | output_clause | error_clause )* ) ;
+    public final AstPrinter.cmd_return cmd() throws RecognitionException {
+        AstPrinter.cmd_return retval = new AstPrinter.cmd_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree EXECCOMMAND56=null;
+        AstPrinter.ship_clause_return ship_clause57 =null;
+
+        AstPrinter.cache_clause_return cache_clause58 =null;
+
+        AstPrinter.input_clause_return input_clause59 =null;
+
+        AstPrinter.output_clause_return output_clause60 =null;
+
+        AstPrinter.error_clause_return error_clause61 =null;
+
+
+        CommonTree EXECCOMMAND56_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:140:5: ( ^( EXECCOMMAND ( ship_clause | cache_clause | input_clause | output_clause | error_clause )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:140:7: ^( EXECCOMMAND ( ship_clause | cache_clause | input_clause | output_clause | error_clause )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            EXECCOMMAND56=(CommonTree)match(input,EXECCOMMAND,FOLLOW_EXECCOMMAND_in_cmd685); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            EXECCOMMAND56_tree = (CommonTree)adaptor.dupNode(EXECCOMMAND56);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(EXECCOMMAND56_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((EXECCOMMAND56!=null?EXECCOMMAND56.getText():null)); }
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:141:9: ( ship_clause | cache_clause | input_clause | output_clause | error_clause )*
+                loop8:
+                do {
+                    int alt8=6;
+                    switch ( input.LA(1) ) {
+                    case SHIP:
+                        {
+                        alt8=1;
+                        }
+                        break;
+                    case CACHE:
+                        {
+                        alt8=2;
+                        }
+                        break;
+                    case INPUT:
+                        {
+                        alt8=3;
+                        }
+                        break;
+                    case OUTPUT:
+                        {
+                        alt8=4;
+                        }
+                        break;
+                    case STDERROR:
+                        {
+                        alt8=5;
+                        }
+                        break;
+
+                    }
+
+                    switch (alt8) {
+                	case 1 :
+                	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:141:11: ship_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_ship_clause_in_cmd699);
+                	    ship_clause57=ship_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, ship_clause57.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 2 :
+                	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:141:25: cache_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_cache_clause_in_cmd703);
+                	    cache_clause58=cache_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, cache_clause58.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 3 :
+                	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:141:40: input_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_input_clause_in_cmd707);
+                	    input_clause59=input_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, input_clause59.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 4 :
+                	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:141:55: output_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_output_clause_in_cmd711);
+                	    output_clause60=output_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, output_clause60.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+                	case 5 :
+                	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:141:71: error_clause
+                	    {
+                	    _last = (CommonTree)input.LT(1);
+                	    pushFollow(FOLLOW_error_clause_in_cmd715);
+                	    error_clause61=error_clause();
+
+                	    state._fsp--;
+                	    if (state.failed) return retval;
+                	    if ( state.backtracking==0 ) 
+                	    adaptor.addChild(root_1, error_clause61.getTree());
+
+
+                	    if ( state.backtracking==0 ) {
+                	    }
+                	    }
+                	    break;
+
+                	default :
+                	    break loop8;
+                    }
+                } while (true);
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cmd"
+
+
+    public static class ship_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "ship_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:144:1: ship_clause : ^( SHIP ( path_list )? ) ;
+    public final AstPrinter.ship_clause_return ship_clause() throws RecognitionException {
+        AstPrinter.ship_clause_return retval = new AstPrinter.ship_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SHIP62=null;
+        AstPrinter.path_list_return path_list63 =null;
+
+
+        CommonTree SHIP62_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:145:5: ( ^( SHIP ( path_list )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:145:7: ^( SHIP ( path_list )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SHIP62=(CommonTree)match(input,SHIP,FOLLOW_SHIP_in_ship_clause735); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SHIP62_tree = (CommonTree)adaptor.dupNode(SHIP62);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SHIP62_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((SHIP62!=null?SHIP62.getText():null)).append(" ("); }
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:145:67: ( path_list )?
+                int alt9=2;
+                int LA9_0 = input.LA(1);
+
+                if ( (LA9_0==QUOTEDSTRING) ) {
+                    alt9=1;
+                }
+                switch (alt9) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:145:67: path_list
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_path_list_in_ship_clause739);
+                        path_list63=path_list();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, path_list63.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                if ( state.backtracking==0 ) { sb.append(")"); }
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "ship_clause"
+
+
+    public static class path_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "path_list"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:148:1: path_list : a= QUOTEDSTRING (b= QUOTEDSTRING )* ;
+    public final AstPrinter.path_list_return path_list() throws RecognitionException {
+        AstPrinter.path_list_return retval = new AstPrinter.path_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree a=null;
+        CommonTree b=null;
+
+        CommonTree a_tree=null;
+        CommonTree b_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:149:5: (a= QUOTEDSTRING (b= QUOTEDSTRING )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:149:7: a= QUOTEDSTRING (b= QUOTEDSTRING )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            a=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_path_list759); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            a_tree = (CommonTree)adaptor.dupNode(a);
+
+
+            adaptor.addChild(root_0, a_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((a!=null?a.getText():null)); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:150:9: (b= QUOTEDSTRING )*
+            loop10:
+            do {
+                int alt10=2;
+                int LA10_0 = input.LA(1);
+
+                if ( (LA10_0==QUOTEDSTRING) ) {
+                    alt10=1;
+                }
+
+
+                switch (alt10) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:150:10: b= QUOTEDSTRING
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    b=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_path_list774); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    b_tree = (CommonTree)adaptor.dupNode(b);
+
+
+            	    adaptor.addChild(root_0, b_tree);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) { sb.append(", ").append((b!=null?b.getText():null)); }
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop10;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "path_list"
+
+
+    public static class cache_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cache_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:153:1: cache_clause : ^( CACHE path_list ) ;
+    public final AstPrinter.cache_clause_return cache_clause() throws RecognitionException {
+        AstPrinter.cache_clause_return retval = new AstPrinter.cache_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CACHE64=null;
+        AstPrinter.path_list_return path_list65 =null;
+
+
+        CommonTree CACHE64_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:154:5: ( ^( CACHE path_list ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:154:7: ^( CACHE path_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CACHE64=(CommonTree)match(input,CACHE,FOLLOW_CACHE_in_cache_clause794); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CACHE64_tree = (CommonTree)adaptor.dupNode(CACHE64);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CACHE64_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((CACHE64!=null?CACHE64.getText():null)).append(" ("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_path_list_in_cache_clause798);
+            path_list65=path_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, path_list65.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cache_clause"
+
+
+    public static class input_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "input_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:157:1: input_clause : ^( INPUT stream_cmd ( stream_cmd )* ) ;
+    public final AstPrinter.input_clause_return input_clause() throws RecognitionException {
+        AstPrinter.input_clause_return retval = new AstPrinter.input_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree INPUT66=null;
+        AstPrinter.stream_cmd_return stream_cmd67 =null;
+
+        AstPrinter.stream_cmd_return stream_cmd68 =null;
+
+
+        CommonTree INPUT66_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:158:5: ( ^( INPUT stream_cmd ( stream_cmd )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:158:7: ^( INPUT stream_cmd ( stream_cmd )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            INPUT66=(CommonTree)match(input,INPUT,FOLLOW_INPUT_in_input_clause817); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            INPUT66_tree = (CommonTree)adaptor.dupNode(INPUT66);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(INPUT66_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((INPUT66!=null?INPUT66.getText():null)).append("("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_stream_cmd_in_input_clause829);
+            stream_cmd67=stream_cmd();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, stream_cmd67.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:159:20: ( stream_cmd )*
+            loop11:
+            do {
+                int alt11=2;
+                int LA11_0 = input.LA(1);
+
+                if ( (LA11_0==QUOTEDSTRING||(LA11_0 >= STDIN && LA11_0 <= STDOUT)) ) {
+                    alt11=1;
+                }
+
+
+                switch (alt11) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:159:22: stream_cmd
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_stream_cmd_in_input_clause835);
+            	    stream_cmd68=stream_cmd();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, stream_cmd68.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop11;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "input_clause"
+
+
+    public static class stream_cmd_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "stream_cmd"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:162:1: stream_cmd : ( ^( STDIN ( func_clause )? ) | ^( STDOUT ( func_clause )? ) | ^( QUOTEDSTRING ( func_clause )? ) );
+    public final AstPrinter.stream_cmd_return stream_cmd() throws RecognitionException {
+        AstPrinter.stream_cmd_return retval = new AstPrinter.stream_cmd_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STDIN69=null;
+        CommonTree STDOUT71=null;
+        CommonTree QUOTEDSTRING73=null;
+        AstPrinter.func_clause_return func_clause70 =null;
+
+        AstPrinter.func_clause_return func_clause72 =null;
+
+        AstPrinter.func_clause_return func_clause74 =null;
+
+
+        CommonTree STDIN69_tree=null;
+        CommonTree STDOUT71_tree=null;
+        CommonTree QUOTEDSTRING73_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:163:5: ( ^( STDIN ( func_clause )? ) | ^( STDOUT ( func_clause )? ) | ^( QUOTEDSTRING ( func_clause )? ) )
+            int alt15=3;
+            switch ( input.LA(1) ) {
+            case STDIN:
+                {
+                alt15=1;
+                }
+                break;
+            case STDOUT:
+                {
+                alt15=2;
+                }
+                break;
+            case QUOTEDSTRING:
+                {
+                alt15=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 15, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt15) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:163:7: ^( STDIN ( func_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    STDIN69=(CommonTree)match(input,STDIN,FOLLOW_STDIN_in_stream_cmd856); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDIN69_tree = (CommonTree)adaptor.dupNode(STDIN69);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(STDIN69_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STDIN69!=null?STDIN69.getText():null)).append(" USING "); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:163:62: ( func_clause )?
+                        int alt12=2;
+                        int LA12_0 = input.LA(1);
+
+                        if ( (LA12_0==FUNC||LA12_0==FUNC_REF) ) {
+                            alt12=1;
+                        }
+                        switch (alt12) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AstPrinter.g:163:62: func_clause
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_func_clause_in_stream_cmd860);
+                                func_clause70=func_clause();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, func_clause70.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:164:7: ^( STDOUT ( func_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    STDOUT71=(CommonTree)match(input,STDOUT,FOLLOW_STDOUT_in_stream_cmd873); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDOUT71_tree = (CommonTree)adaptor.dupNode(STDOUT71);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(STDOUT71_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STDOUT71!=null?STDOUT71.getText():null)).append(" USING "); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:164:64: ( func_clause )?
+                        int alt13=2;
+                        int LA13_0 = input.LA(1);
+
+                        if ( (LA13_0==FUNC||LA13_0==FUNC_REF) ) {
+                            alt13=1;
+                        }
+                        switch (alt13) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AstPrinter.g:164:64: func_clause
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_func_clause_in_stream_cmd877);
+                                func_clause72=func_clause();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, func_clause72.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:165:7: ^( QUOTEDSTRING ( func_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING73=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_stream_cmd890); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING73_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING73);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(QUOTEDSTRING73_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING73!=null?QUOTEDSTRING73.getText():null)).append(" USING "); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:165:76: ( func_clause )?
+                        int alt14=2;
+                        int LA14_0 = input.LA(1);
+
+                        if ( (LA14_0==FUNC||LA14_0==FUNC_REF) ) {
+                            alt14=1;
+                        }
+                        switch (alt14) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AstPrinter.g:165:76: func_clause
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_func_clause_in_stream_cmd894);
+                                func_clause74=func_clause();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, func_clause74.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "stream_cmd"
+
+
+    public static class output_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "output_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:168:1: output_clause : ^( OUTPUT stream_cmd ( stream_cmd )* ) ;
+    public final AstPrinter.output_clause_return output_clause() throws RecognitionException {
+        AstPrinter.output_clause_return retval = new AstPrinter.output_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree OUTPUT75=null;
+        AstPrinter.stream_cmd_return stream_cmd76 =null;
+
+        AstPrinter.stream_cmd_return stream_cmd77 =null;
+
+
+        CommonTree OUTPUT75_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:169:5: ( ^( OUTPUT stream_cmd ( stream_cmd )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:169:7: ^( OUTPUT stream_cmd ( stream_cmd )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            OUTPUT75=(CommonTree)match(input,OUTPUT,FOLLOW_OUTPUT_in_output_clause912); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            OUTPUT75_tree = (CommonTree)adaptor.dupNode(OUTPUT75);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(OUTPUT75_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((OUTPUT75!=null?OUTPUT75.getText():null)).append(" ("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_stream_cmd_in_output_clause925);
+            stream_cmd76=stream_cmd();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, stream_cmd76.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:170:20: ( stream_cmd )*
+            loop16:
+            do {
+                int alt16=2;
+                int LA16_0 = input.LA(1);
+
+                if ( (LA16_0==QUOTEDSTRING||(LA16_0 >= STDIN && LA16_0 <= STDOUT)) ) {
+                    alt16=1;
+                }
+
+
+                switch (alt16) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:170:22: stream_cmd
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(","); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_stream_cmd_in_output_clause931);
+            	    stream_cmd77=stream_cmd();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, stream_cmd77.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop16;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "output_clause"
+
+
+    public static class error_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "error_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:173:1: error_clause : ^( STDERROR ( QUOTEDSTRING ( INTEGER )? )? ) ;
+    public final AstPrinter.error_clause_return error_clause() throws RecognitionException {
+        AstPrinter.error_clause_return retval = new AstPrinter.error_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STDERROR78=null;
+        CommonTree QUOTEDSTRING79=null;
+        CommonTree INTEGER80=null;
+
+        CommonTree STDERROR78_tree=null;
+        CommonTree QUOTEDSTRING79_tree=null;
+        CommonTree INTEGER80_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:174:5: ( ^( STDERROR ( QUOTEDSTRING ( INTEGER )? )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:174:7: ^( STDERROR ( QUOTEDSTRING ( INTEGER )? )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STDERROR78=(CommonTree)match(input,STDERROR,FOLLOW_STDERROR_in_error_clause952); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STDERROR78_tree = (CommonTree)adaptor.dupNode(STDERROR78);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STDERROR78_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((STDERROR78!=null?STDERROR78.getText():null)).append(" ("); }
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:175:9: ( QUOTEDSTRING ( INTEGER )? )?
+                int alt18=2;
+                int LA18_0 = input.LA(1);
+
+                if ( (LA18_0==QUOTEDSTRING) ) {
+                    alt18=1;
+                }
+                switch (alt18) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:175:11: QUOTEDSTRING ( INTEGER )?
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        QUOTEDSTRING79=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_error_clause966); if (state.failed) return retval;
+                        if ( state.backtracking==0 ) {
+                        QUOTEDSTRING79_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING79);
+
+
+                        adaptor.addChild(root_1, QUOTEDSTRING79_tree);
+                        }
+
+
+                        if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING79!=null?QUOTEDSTRING79.getText():null)); }
+
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:175:59: ( INTEGER )?
+                        int alt17=2;
+                        int LA17_0 = input.LA(1);
+
+                        if ( (LA17_0==INTEGER) ) {
+                            alt17=1;
+                        }
+                        switch (alt17) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AstPrinter.g:175:60: INTEGER
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                INTEGER80=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_error_clause971); if (state.failed) return retval;
+                                if ( state.backtracking==0 ) {
+                                INTEGER80_tree = (CommonTree)adaptor.dupNode(INTEGER80);
+
+
+                                adaptor.addChild(root_1, INTEGER80_tree);
+                                }
+
+
+                                if ( state.backtracking==0 ) { sb.append(" LIMIT ").append(INTEGER80); }
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                if ( state.backtracking==0 ) { sb.append(")"); }
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "error_clause"
+
+
+    public static class load_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "load_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:178:1: load_clause : ^( LOAD filename ( func_clause )? ( as_clause )? ) ;
+    public final AstPrinter.load_clause_return load_clause() throws RecognitionException {
+        AstPrinter.load_clause_return retval = new AstPrinter.load_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LOAD81=null;
+        AstPrinter.filename_return filename82 =null;
+
+        AstPrinter.func_clause_return func_clause83 =null;
+
+        AstPrinter.as_clause_return as_clause84 =null;
+
+
+        CommonTree LOAD81_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:179:5: ( ^( LOAD filename ( func_clause )? ( as_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:179:7: ^( LOAD filename ( func_clause )? ( as_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            LOAD81=(CommonTree)match(input,LOAD,FOLLOW_LOAD_in_load_clause998); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            LOAD81_tree = (CommonTree)adaptor.dupNode(LOAD81);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(LOAD81_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((LOAD81!=null?LOAD81.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_filename_in_load_clause1002);
+            filename82=filename();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, filename82.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:180:9: ( func_clause )?
+            int alt19=2;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0==FUNC||LA19_0==FUNC_REF) ) {
+                alt19=1;
+            }
+            switch (alt19) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:180:11: func_clause
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" USING "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_load_clause1016);
+                    func_clause83=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause83.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:180:51: ( as_clause )?
+            int alt20=2;
+            int LA20_0 = input.LA(1);
+
+            if ( (LA20_0==AS) ) {
+                alt20=1;
+            }
+            switch (alt20) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:180:51: as_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_as_clause_in_load_clause1020);
+                    as_clause84=as_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, as_clause84.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "load_clause"
+
+
+    public static class filename_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "filename"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:183:1: filename : QUOTEDSTRING ;
+    public final AstPrinter.filename_return filename() throws RecognitionException {
+        AstPrinter.filename_return retval = new AstPrinter.filename_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING85=null;
+
+        CommonTree QUOTEDSTRING85_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:184:5: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:184:7: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING85=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_filename1036); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING85_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING85);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING85_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING85!=null?QUOTEDSTRING85.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "filename"
+
+
+    public static class as_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "as_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:187:1: as_clause : ^( AS field_def_list ) ;
+    public final AstPrinter.as_clause_return as_clause() throws RecognitionException {
+        AstPrinter.as_clause_return retval = new AstPrinter.as_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree AS86=null;
+        AstPrinter.field_def_list_return field_def_list87 =null;
+
+
+        CommonTree AS86_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:188:5: ( ^( AS field_def_list ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:188:7: ^( AS field_def_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            AS86=(CommonTree)match(input,AS,FOLLOW_AS_in_as_clause1053); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            AS86_tree = (CommonTree)adaptor.dupNode(AS86);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(AS86_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((AS86!=null?AS86.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_field_def_list_in_as_clause1057);
+            field_def_list87=field_def_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, field_def_list87.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "as_clause"
+
+
+    public static class field_def_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "field_def"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:191:1: field_def : ( ^( FIELD_DEF IDENTIFIER ( type )? ) | ^( FIELD_DEF type ) );
+    public final AstPrinter.field_def_return field_def() throws RecognitionException {
+        AstPrinter.field_def_return retval = new AstPrinter.field_def_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FIELD_DEF88=null;
+        CommonTree IDENTIFIER89=null;
+        CommonTree FIELD_DEF91=null;
+        AstPrinter.type_return type90 =null;
+
+        AstPrinter.type_return type92 =null;
+
+
+        CommonTree FIELD_DEF88_tree=null;
+        CommonTree IDENTIFIER89_tree=null;
+        CommonTree FIELD_DEF91_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:192:5: ( ^( FIELD_DEF IDENTIFIER ( type )? ) | ^( FIELD_DEF type ) )
+            int alt22=2;
+            int LA22_0 = input.LA(1);
+
+            if ( (LA22_0==FIELD_DEF) ) {
+                int LA22_1 = input.LA(2);
+
+                if ( (LA22_1==DOWN) ) {
+                    int LA22_2 = input.LA(3);
+
+                    if ( (LA22_2==IDENTIFIER) ) {
+                        alt22=1;
+                    }
+                    else if ( (LA22_2==BIGDECIMAL||LA22_2==BIGINTEGER||LA22_2==BOOLEAN||LA22_2==BYTEARRAY||LA22_2==CHARARRAY||LA22_2==DATETIME||LA22_2==DOUBLE||LA22_2==FLOAT||LA22_2==INT||LA22_2==LONG||LA22_2==BAG_TYPE||LA22_2==MAP_TYPE||LA22_2==TUPLE_TYPE) ) {
+                        alt22=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 22, 2, input);
+
+                        throw nvae;
+
+                    }
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 22, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 22, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt22) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:192:7: ^( FIELD_DEF IDENTIFIER ( type )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FIELD_DEF88=(CommonTree)match(input,FIELD_DEF,FOLLOW_FIELD_DEF_in_field_def1074); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FIELD_DEF88_tree = (CommonTree)adaptor.dupNode(FIELD_DEF88);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FIELD_DEF88_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER89=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_field_def1076); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER89_tree = (CommonTree)adaptor.dupNode(IDENTIFIER89);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER89_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER89!=null?IDENTIFIER89.getText():null)); }
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:192:65: ( type )?
+                    int alt21=2;
+                    int LA21_0 = input.LA(1);
+
+                    if ( (LA21_0==BIGDECIMAL||LA21_0==BIGINTEGER||LA21_0==BOOLEAN||LA21_0==BYTEARRAY||LA21_0==CHARARRAY||LA21_0==DATETIME||LA21_0==DOUBLE||LA21_0==FLOAT||LA21_0==INT||LA21_0==LONG||LA21_0==BAG_TYPE||LA21_0==MAP_TYPE||LA21_0==TUPLE_TYPE) ) {
+                        alt21=1;
+                    }
+                    switch (alt21) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:192:67: type
+                            {
+                            if ( state.backtracking==0 ) {sb.append(":"); }
+
+                            _last = (CommonTree)input.LT(1);
+                            pushFollow(FOLLOW_type_in_field_def1086);
+                            type90=type();
+
+                            state._fsp--;
+                            if (state.failed) return retval;
+                            if ( state.backtracking==0 ) 
+                            adaptor.addChild(root_1, type90.getTree());
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:193:7: ^( FIELD_DEF type )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FIELD_DEF91=(CommonTree)match(input,FIELD_DEF,FOLLOW_FIELD_DEF_in_field_def1100); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FIELD_DEF91_tree = (CommonTree)adaptor.dupNode(FIELD_DEF91);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FIELD_DEF91_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_in_field_def1102);
+                    type92=type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type92.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "field_def"
+
+
+    public static class field_def_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "field_def_list"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:196:1: field_def_list : ( field_def ( field_def )+ | field_def );
+    public final AstPrinter.field_def_list_return field_def_list() throws RecognitionException {
+        AstPrinter.field_def_list_return retval = new AstPrinter.field_def_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.field_def_return field_def93 =null;
+
+        AstPrinter.field_def_return field_def94 =null;
+
+        AstPrinter.field_def_return field_def95 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:5: ( field_def ( field_def )+ | field_def )
+            int alt24=2;
+            int LA24_0 = input.LA(1);
+
+            if ( (LA24_0==FIELD_DEF) ) {
+                int LA24_1 = input.LA(2);
+
+                if ( (synpred50_AstPrinter()) ) {
+                    alt24=1;
+                }
+                else if ( (true) ) {
+                    alt24=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 24, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 24, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt24) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:7: field_def ( field_def )+
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_field_def_in_field_def_list1119);
+                    field_def93=field_def();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, field_def93.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:37: ( field_def )+
+                    int cnt23=0;
+                    loop23:
+                    do {
+                        int alt23=2;
+                        int LA23_0 = input.LA(1);
+
+                        if ( (LA23_0==FIELD_DEF) ) {
+                            alt23=1;
+                        }
+
+
+                        switch (alt23) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:39: field_def
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_field_def_in_field_def_list1125);
+                    	    field_def94=field_def();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, field_def94.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt23 >= 1 ) break loop23;
+                    	    if (state.backtracking>0) {state.failed=true; return retval;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(23, input);
+                                throw eee;
+                        }
+                        cnt23++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:198:7: field_def
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_field_def_in_field_def_list1138);
+                    field_def95=field_def();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, field_def95.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "field_def_list"
+
+
+    public static class type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:201:1: type : ( simple_type | tuple_type | bag_type | map_type );
+    public final AstPrinter.type_return type() throws RecognitionException {
+        AstPrinter.type_return retval = new AstPrinter.type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.simple_type_return simple_type96 =null;
+
+        AstPrinter.tuple_type_return tuple_type97 =null;
+
+        AstPrinter.bag_type_return bag_type98 =null;
+
+        AstPrinter.map_type_return map_type99 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:201:6: ( simple_type | tuple_type | bag_type | map_type )
+            int alt25=4;
+            switch ( input.LA(1) ) {
+            case BIGDECIMAL:
+            case BIGINTEGER:
+            case BOOLEAN:
+            case BYTEARRAY:
+            case CHARARRAY:
+            case DATETIME:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+                {
+                alt25=1;
+                }
+                break;
+            case TUPLE_TYPE:
+                {
+                alt25=2;
+                }
+                break;
+            case BAG_TYPE:
+                {
+                alt25=3;
+                }
+                break;
+            case MAP_TYPE:
+                {
+                alt25=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 25, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt25) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:201:8: simple_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_simple_type_in_type1147);
+                    simple_type96=simple_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, simple_type96.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:201:22: tuple_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_type_in_type1151);
+                    tuple_type97=tuple_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, tuple_type97.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:201:35: bag_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bag_type_in_type1155);
+                    bag_type98=bag_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bag_type98.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:201:46: map_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_map_type_in_type1159);
+                    map_type99=map_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, map_type99.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "type"
+
+
+    public static class simple_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "simple_type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:204:1: simple_type : ( BOOLEAN | INT | LONG | FLOAT | DOUBLE | BIGINTEGER | BIGDECIMAL | DATETIME | CHARARRAY | BYTEARRAY );
+    public final AstPrinter.simple_type_return simple_type() throws RecognitionException {
+        AstPrinter.simple_type_return retval = new AstPrinter.simple_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BOOLEAN100=null;
+        CommonTree INT101=null;
+        CommonTree LONG102=null;
+        CommonTree FLOAT103=null;
+        CommonTree DOUBLE104=null;
+        CommonTree BIGINTEGER105=null;
+        CommonTree BIGDECIMAL106=null;
+        CommonTree DATETIME107=null;
+        CommonTree CHARARRAY108=null;
+        CommonTree BYTEARRAY109=null;
+
+        CommonTree BOOLEAN100_tree=null;
+        CommonTree INT101_tree=null;
+        CommonTree LONG102_tree=null;
+        CommonTree FLOAT103_tree=null;
+        CommonTree DOUBLE104_tree=null;
+        CommonTree BIGINTEGER105_tree=null;
+        CommonTree BIGDECIMAL106_tree=null;
+        CommonTree DATETIME107_tree=null;
+        CommonTree CHARARRAY108_tree=null;
+        CommonTree BYTEARRAY109_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:205:5: ( BOOLEAN | INT | LONG | FLOAT | DOUBLE | BIGINTEGER | BIGDECIMAL | DATETIME | CHARARRAY | BYTEARRAY )
+            int alt26=10;
+            switch ( input.LA(1) ) {
+            case BOOLEAN:
+                {
+                alt26=1;
+                }
+                break;
+            case INT:
+                {
+                alt26=2;
+                }
+                break;
+            case LONG:
+                {
+                alt26=3;
+                }
+                break;
+            case FLOAT:
+                {
+                alt26=4;
+                }
+                break;
+            case DOUBLE:
+                {
+                alt26=5;
+                }
+                break;
+            case BIGINTEGER:
+                {
+                alt26=6;
+                }
+                break;
+            case BIGDECIMAL:
+                {
+                alt26=7;
+                }
+                break;
+            case DATETIME:
+                {
+                alt26=8;
+                }
+                break;
+            case CHARARRAY:
+                {
+                alt26=9;
+                }
+                break;
+            case BYTEARRAY:
+                {
+                alt26=10;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 26, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt26) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:205:7: BOOLEAN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BOOLEAN100=(CommonTree)match(input,BOOLEAN,FOLLOW_BOOLEAN_in_simple_type1172); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BOOLEAN100_tree = (CommonTree)adaptor.dupNode(BOOLEAN100);
+
+
+                    adaptor.addChild(root_0, BOOLEAN100_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BOOLEAN100!=null?BOOLEAN100.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:206:7: INT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INT101=(CommonTree)match(input,INT,FOLLOW_INT_in_simple_type1182); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INT101_tree = (CommonTree)adaptor.dupNode(INT101);
+
+
+                    adaptor.addChild(root_0, INT101_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((INT101!=null?INT101.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:207:7: LONG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LONG102=(CommonTree)match(input,LONG,FOLLOW_LONG_in_simple_type1192); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LONG102_tree = (CommonTree)adaptor.dupNode(LONG102);
+
+
+                    adaptor.addChild(root_0, LONG102_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((LONG102!=null?LONG102.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:208:7: FLOAT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FLOAT103=(CommonTree)match(input,FLOAT,FOLLOW_FLOAT_in_simple_type1202); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FLOAT103_tree = (CommonTree)adaptor.dupNode(FLOAT103);
+
+
+                    adaptor.addChild(root_0, FLOAT103_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FLOAT103!=null?FLOAT103.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:209:7: DOUBLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DOUBLE104=(CommonTree)match(input,DOUBLE,FOLLOW_DOUBLE_in_simple_type1212); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DOUBLE104_tree = (CommonTree)adaptor.dupNode(DOUBLE104);
+
+
+                    adaptor.addChild(root_0, DOUBLE104_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DOUBLE104!=null?DOUBLE104.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:210:7: BIGINTEGER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BIGINTEGER105=(CommonTree)match(input,BIGINTEGER,FOLLOW_BIGINTEGER_in_simple_type1222); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGINTEGER105_tree = (CommonTree)adaptor.dupNode(BIGINTEGER105);
+
+
+                    adaptor.addChild(root_0, BIGINTEGER105_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BIGINTEGER105!=null?BIGINTEGER105.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:211:7: BIGDECIMAL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BIGDECIMAL106=(CommonTree)match(input,BIGDECIMAL,FOLLOW_BIGDECIMAL_in_simple_type1232); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGDECIMAL106_tree = (CommonTree)adaptor.dupNode(BIGDECIMAL106);
+
+
+                    adaptor.addChild(root_0, BIGDECIMAL106_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BIGDECIMAL106!=null?BIGDECIMAL106.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:212:7: DATETIME
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DATETIME107=(CommonTree)match(input,DATETIME,FOLLOW_DATETIME_in_simple_type1242); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DATETIME107_tree = (CommonTree)adaptor.dupNode(DATETIME107);
+
+
+                    adaptor.addChild(root_0, DATETIME107_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DATETIME107!=null?DATETIME107.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:213:7: CHARARRAY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CHARARRAY108=(CommonTree)match(input,CHARARRAY,FOLLOW_CHARARRAY_in_simple_type1252); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CHARARRAY108_tree = (CommonTree)adaptor.dupNode(CHARARRAY108);
+
+
+                    adaptor.addChild(root_0, CHARARRAY108_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CHARARRAY108!=null?CHARARRAY108.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:214:7: BYTEARRAY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BYTEARRAY109=(CommonTree)match(input,BYTEARRAY,FOLLOW_BYTEARRAY_in_simple_type1262); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BYTEARRAY109_tree = (CommonTree)adaptor.dupNode(BYTEARRAY109);
+
+
+                    adaptor.addChild(root_0, BYTEARRAY109_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BYTEARRAY109!=null?BYTEARRAY109.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "simple_type"
+
+
+    public static class tuple_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tuple_type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:217:1: tuple_type : ^( TUPLE_TYPE ( field_def_list )? ) ;
+    public final AstPrinter.tuple_type_return tuple_type() throws RecognitionException {
+        AstPrinter.tuple_type_return retval = new AstPrinter.tuple_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree TUPLE_TYPE110=null;
+        AstPrinter.field_def_list_return field_def_list111 =null;
+
+
+        CommonTree TUPLE_TYPE110_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:218:5: ( ^( TUPLE_TYPE ( field_def_list )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:218:7: ^( TUPLE_TYPE ( field_def_list )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            TUPLE_TYPE110=(CommonTree)match(input,TUPLE_TYPE,FOLLOW_TUPLE_TYPE_in_tuple_type1279); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            TUPLE_TYPE110_tree = (CommonTree)adaptor.dupNode(TUPLE_TYPE110);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_TYPE110_tree, root_1);
+            }
+
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:218:21: ( field_def_list )?
+                int alt27=2;
+                int LA27_0 = input.LA(1);
+
+                if ( (LA27_0==FIELD_DEF) ) {
+                    alt27=1;
+                }
+                switch (alt27) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:218:21: field_def_list
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_field_def_list_in_tuple_type1281);
+                        field_def_list111=field_def_list();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, field_def_list111.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tuple_type"
+
+
+    public static class bag_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bag_type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:221:1: bag_type : ^( BAG_TYPE ( ( IDENTIFIER )? tuple_type )? ) ;
+    public final AstPrinter.bag_type_return bag_type() throws RecognitionException {
+        AstPrinter.bag_type_return retval = new AstPrinter.bag_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BAG_TYPE112=null;
+        CommonTree IDENTIFIER113=null;
+        AstPrinter.tuple_type_return tuple_type114 =null;
+
+
+        CommonTree BAG_TYPE112_tree=null;
+        CommonTree IDENTIFIER113_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:222:5: ( ^( BAG_TYPE ( ( IDENTIFIER )? tuple_type )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:222:7: ^( BAG_TYPE ( ( IDENTIFIER )? tuple_type )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BAG_TYPE112=(CommonTree)match(input,BAG_TYPE,FOLLOW_BAG_TYPE_in_bag_type1299); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BAG_TYPE112_tree = (CommonTree)adaptor.dupNode(BAG_TYPE112);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BAG_TYPE112_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append("bag{"); }
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:222:42: ( ( IDENTIFIER )? tuple_type )?
+                int alt29=2;
+                int LA29_0 = input.LA(1);
+
+                if ( (LA29_0==IDENTIFIER||LA29_0==TUPLE_TYPE) ) {
+                    alt29=1;
+                }
+                switch (alt29) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:222:44: ( IDENTIFIER )? tuple_type
+                        {
+                        if ( state.backtracking==0 ) { sb.append("T:"); }
+
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:222:65: ( IDENTIFIER )?
+                        int alt28=2;
+                        int LA28_0 = input.LA(1);
+
+                        if ( (LA28_0==IDENTIFIER) ) {
+                            alt28=1;
+                        }
+                        switch (alt28) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AstPrinter.g:222:65: IDENTIFIER
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                IDENTIFIER113=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_bag_type1307); if (state.failed) return retval;
+                                if ( state.backtracking==0 ) {
+                                IDENTIFIER113_tree = (CommonTree)adaptor.dupNode(IDENTIFIER113);
+
+
+                                adaptor.addChild(root_1, IDENTIFIER113_tree);
+                                }
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_tuple_type_in_bag_type1310);
+                        tuple_type114=tuple_type();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, tuple_type114.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append("}"); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bag_type"
+
+
+    public static class map_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "map_type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:1: map_type : ^( MAP_TYPE ( IDENTIFIER )? ( type )? ) ;
+    public final AstPrinter.map_type_return map_type() throws RecognitionException {
+        AstPrinter.map_type_return retval = new AstPrinter.map_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MAP_TYPE115=null;
+        CommonTree IDENTIFIER116=null;
+        AstPrinter.type_return type117 =null;
+
+
+        CommonTree MAP_TYPE115_tree=null;
+        CommonTree IDENTIFIER116_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:10: ( ^( MAP_TYPE ( IDENTIFIER )? ( type )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:12: ^( MAP_TYPE ( IDENTIFIER )? ( type )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            MAP_TYPE115=(CommonTree)match(input,MAP_TYPE,FOLLOW_MAP_TYPE_in_map_type1328); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            MAP_TYPE115_tree = (CommonTree)adaptor.dupNode(MAP_TYPE115);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(MAP_TYPE115_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append("map["); }
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:47: ( IDENTIFIER )?
+                int alt30=2;
+                int LA30_0 = input.LA(1);
+
+                if ( (LA30_0==IDENTIFIER) ) {
+                    alt30=1;
+                }
+                switch (alt30) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:47: IDENTIFIER
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        IDENTIFIER116=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_map_type1332); if (state.failed) return retval;
+                        if ( state.backtracking==0 ) {
+                        IDENTIFIER116_tree = (CommonTree)adaptor.dupNode(IDENTIFIER116);
+
+
+                        adaptor.addChild(root_1, IDENTIFIER116_tree);
+                        }
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:59: ( type )?
+                int alt31=2;
+                int LA31_0 = input.LA(1);
+
+                if ( (LA31_0==BIGDECIMAL||LA31_0==BIGINTEGER||LA31_0==BOOLEAN||LA31_0==BYTEARRAY||LA31_0==CHARARRAY||LA31_0==DATETIME||LA31_0==DOUBLE||LA31_0==FLOAT||LA31_0==INT||LA31_0==LONG||LA31_0==BAG_TYPE||LA31_0==MAP_TYPE||LA31_0==TUPLE_TYPE) ) {
+                    alt31=1;
+                }
+                switch (alt31) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:225:59: type
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_type_in_map_type1335);
+                        type117=type();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, type117.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append("]"); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "map_type"
+
+
+    public static class func_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:228:1: func_clause : ( ^( FUNC_REF func_name ) | ^( FUNC func_name ( func_args )? ) );
+    public final AstPrinter.func_clause_return func_clause() throws RecognitionException {
+        AstPrinter.func_clause_return retval = new AstPrinter.func_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FUNC_REF118=null;
+        CommonTree FUNC120=null;
+        AstPrinter.func_name_return func_name119 =null;
+
+        AstPrinter.func_name_return func_name121 =null;
+
+        AstPrinter.func_args_return func_args122 =null;
+
+
+        CommonTree FUNC_REF118_tree=null;
+        CommonTree FUNC120_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:229:5: ( ^( FUNC_REF func_name ) | ^( FUNC func_name ( func_args )? ) )
+            int alt33=2;
+            int LA33_0 = input.LA(1);
+
+            if ( (LA33_0==FUNC_REF) ) {
+                alt33=1;
+            }
+            else if ( (LA33_0==FUNC) ) {
+                alt33=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 33, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt33) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:229:7: ^( FUNC_REF func_name )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FUNC_REF118=(CommonTree)match(input,FUNC_REF,FOLLOW_FUNC_REF_in_func_clause1355); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FUNC_REF118_tree = (CommonTree)adaptor.dupNode(FUNC_REF118);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FUNC_REF118_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_name_in_func_clause1357);
+                    func_name119=func_name();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_name119.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:230:7: ^( FUNC func_name ( func_args )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FUNC120=(CommonTree)match(input,FUNC,FOLLOW_FUNC_in_func_clause1369); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FUNC120_tree = (CommonTree)adaptor.dupNode(FUNC120);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FUNC120_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_name_in_func_clause1371);
+                    func_name121=func_name();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_name121.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:230:45: ( func_args )?
+                    int alt32=2;
+                    int LA32_0 = input.LA(1);
+
+                    if ( (LA32_0==MULTILINE_QUOTEDSTRING||LA32_0==QUOTEDSTRING) ) {
+                        alt32=1;
+                    }
+                    switch (alt32) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:230:45: func_args
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            pushFollow(FOLLOW_func_args_in_func_clause1375);
+                            func_args122=func_args();
+
+                            state._fsp--;
+                            if (state.failed) return retval;
+                            if ( state.backtracking==0 ) 
+                            adaptor.addChild(root_1, func_args122.getTree());
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_clause"
+
+
+    public static class func_name_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_name"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:233:1: func_name : eid ( ( PERIOD | DOLLAR ) eid )* ;
+    public final AstPrinter.func_name_return func_name() throws RecognitionException {
+        AstPrinter.func_name_return retval = new AstPrinter.func_name_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PERIOD124=null;
+        CommonTree DOLLAR125=null;
+        AstPrinter.eid_return eid123 =null;
+
+        AstPrinter.eid_return eid126 =null;
+
+
+        CommonTree PERIOD124_tree=null;
+        CommonTree DOLLAR125_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:5: ( eid ( ( PERIOD | DOLLAR ) eid )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:7: eid ( ( PERIOD | DOLLAR ) eid )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_eid_in_func_name1393);
+            eid123=eid();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, eid123.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:11: ( ( PERIOD | DOLLAR ) eid )*
+            loop35:
+            do {
+                int alt35=2;
+                int LA35_0 = input.LA(1);
+
+                if ( (LA35_0==DOLLAR||LA35_0==PERIOD) ) {
+                    alt35=1;
+                }
+
+
+                switch (alt35) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:13: ( PERIOD | DOLLAR ) eid
+            	    {
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:13: ( PERIOD | DOLLAR )
+            	    int alt34=2;
+            	    int LA34_0 = input.LA(1);
+
+            	    if ( (LA34_0==PERIOD) ) {
+            	        alt34=1;
+            	    }
+            	    else if ( (LA34_0==DOLLAR) ) {
+            	        alt34=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return retval;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 34, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt34) {
+            	        case 1 :
+            	            // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:15: PERIOD
+            	            {
+            	            _last = (CommonTree)input.LT(1);
+            	            PERIOD124=(CommonTree)match(input,PERIOD,FOLLOW_PERIOD_in_func_name1399); if (state.failed) return retval;
+            	            if ( state.backtracking==0 ) {
+            	            PERIOD124_tree = (CommonTree)adaptor.dupNode(PERIOD124);
+
+
+            	            adaptor.addChild(root_0, PERIOD124_tree);
+            	            }
+
+
+            	            if ( state.backtracking==0 ) { sb.append((PERIOD124!=null?PERIOD124.getText():null)); }
+
+            	            if ( state.backtracking==0 ) {
+            	            }
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/src/org/apache/pig/parser/AstPrinter.g:234:53: DOLLAR
+            	            {
+            	            _last = (CommonTree)input.LT(1);
+            	            DOLLAR125=(CommonTree)match(input,DOLLAR,FOLLOW_DOLLAR_in_func_name1405); if (state.failed) return retval;
+            	            if ( state.backtracking==0 ) {
+            	            DOLLAR125_tree = (CommonTree)adaptor.dupNode(DOLLAR125);
+
+
+            	            adaptor.addChild(root_0, DOLLAR125_tree);
+            	            }
+
+
+            	            if ( state.backtracking==0 ) { sb.append((DOLLAR125!=null?DOLLAR125.getText():null)); }
+
+            	            if ( state.backtracking==0 ) {
+            	            }
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_eid_in_func_name1411);
+            	    eid126=eid();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, eid126.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop35;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_name"
+
+
+    public static class func_args_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_args"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:237:1: func_args : func_first_arg_clause ( func_next_arg_clause )* ;
+    public final AstPrinter.func_args_return func_args() throws RecognitionException {
+        AstPrinter.func_args_return retval = new AstPrinter.func_args_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.func_first_arg_clause_return func_first_arg_clause127 =null;
+
+        AstPrinter.func_next_arg_clause_return func_next_arg_clause128 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:237:11: ( func_first_arg_clause ( func_next_arg_clause )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:237:13: func_first_arg_clause ( func_next_arg_clause )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_func_first_arg_clause_in_func_args1423);
+            func_first_arg_clause127=func_first_arg_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, func_first_arg_clause127.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:237:35: ( func_next_arg_clause )*
+            loop36:
+            do {
+                int alt36=2;
+                int LA36_0 = input.LA(1);
+
+                if ( (LA36_0==MULTILINE_QUOTEDSTRING||LA36_0==QUOTEDSTRING) ) {
+                    alt36=1;
+                }
+
+
+                switch (alt36) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:237:36: func_next_arg_clause
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_func_next_arg_clause_in_func_args1426);
+            	    func_next_arg_clause128=func_next_arg_clause();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, func_next_arg_clause128.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop36;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_args"
+
+
+    public static class func_first_arg_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_first_arg_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:240:1: func_first_arg_clause : ( QUOTEDSTRING | MULTILINE_QUOTEDSTRING );
+    public final AstPrinter.func_first_arg_clause_return func_first_arg_clause() throws RecognitionException {
+        AstPrinter.func_first_arg_clause_return retval = new AstPrinter.func_first_arg_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING129=null;
+        CommonTree MULTILINE_QUOTEDSTRING130=null;
+
+        CommonTree QUOTEDSTRING129_tree=null;
+        CommonTree MULTILINE_QUOTEDSTRING130_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:240:23: ( QUOTEDSTRING | MULTILINE_QUOTEDSTRING )
+            int alt37=2;
+            int LA37_0 = input.LA(1);
+
+            if ( (LA37_0==QUOTEDSTRING) ) {
+                alt37=1;
+            }
+            else if ( (LA37_0==MULTILINE_QUOTEDSTRING) ) {
+                alt37=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 37, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt37) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:240:27: QUOTEDSTRING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING129=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_func_first_arg_clause1439); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING129_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING129);
+
+
+                    adaptor.addChild(root_0, QUOTEDSTRING129_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING129!=null?QUOTEDSTRING129.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:241:27: MULTILINE_QUOTEDSTRING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MULTILINE_QUOTEDSTRING130=(CommonTree)match(input,MULTILINE_QUOTEDSTRING,FOLLOW_MULTILINE_QUOTEDSTRING_in_func_first_arg_clause1469); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MULTILINE_QUOTEDSTRING130_tree = (CommonTree)adaptor.dupNode(MULTILINE_QUOTEDSTRING130);
+
+
+                    adaptor.addChild(root_0, MULTILINE_QUOTEDSTRING130_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((MULTILINE_QUOTEDSTRING130!=null?MULTILINE_QUOTEDSTRING130.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_first_arg_clause"
+
+
+    public static class func_next_arg_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_next_arg_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:244:1: func_next_arg_clause : ( QUOTEDSTRING | MULTILINE_QUOTEDSTRING );
+    public final AstPrinter.func_next_arg_clause_return func_next_arg_clause() throws RecognitionException {
+        AstPrinter.func_next_arg_clause_return retval = new AstPrinter.func_next_arg_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING131=null;
+        CommonTree MULTILINE_QUOTEDSTRING132=null;
+
+        CommonTree QUOTEDSTRING131_tree=null;
+        CommonTree MULTILINE_QUOTEDSTRING132_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:244:22: ( QUOTEDSTRING | MULTILINE_QUOTEDSTRING )
+            int alt38=2;
+            int LA38_0 = input.LA(1);
+
+            if ( (LA38_0==QUOTEDSTRING) ) {
+                alt38=1;
+            }
+            else if ( (LA38_0==MULTILINE_QUOTEDSTRING) ) {
+                alt38=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 38, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt38) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:244:27: QUOTEDSTRING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING131=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_func_next_arg_clause1483); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING131_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING131);
+
+
+                    adaptor.addChild(root_0, QUOTEDSTRING131_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(", ").append((QUOTEDSTRING131!=null?QUOTEDSTRING131.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:245:27: MULTILINE_QUOTEDSTRING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MULTILINE_QUOTEDSTRING132=(CommonTree)match(input,MULTILINE_QUOTEDSTRING,FOLLOW_MULTILINE_QUOTEDSTRING_in_func_next_arg_clause1513); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MULTILINE_QUOTEDSTRING132_tree = (CommonTree)adaptor.dupNode(MULTILINE_QUOTEDSTRING132);
+
+
+                    adaptor.addChild(root_0, MULTILINE_QUOTEDSTRING132_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(", ").append((MULTILINE_QUOTEDSTRING132!=null?MULTILINE_QUOTEDSTRING132.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_next_arg_clause"
+
+
+    public static class cube_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:248:1: cube_clause : ^( CUBE cube_item ) ;
+    public final AstPrinter.cube_clause_return cube_clause() throws RecognitionException {
+        AstPrinter.cube_clause_return retval = new AstPrinter.cube_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CUBE133=null;
+        AstPrinter.cube_item_return cube_item134 =null;
+
+
+        CommonTree CUBE133_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:249:5: ( ^( CUBE cube_item ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:249:7: ^( CUBE cube_item )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CUBE133=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_cube_clause1530); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CUBE133_tree = (CommonTree)adaptor.dupNode(CUBE133);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CUBE133_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((CUBE133!=null?CUBE133.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_item_in_cube_clause1534);
+            cube_item134=cube_item();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cube_item134.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_clause"
+
+
+    public static class cube_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_item"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:252:1: cube_item : rel ( cube_by_clause ) ;
+    public final AstPrinter.cube_item_return cube_item() throws RecognitionException {
+        AstPrinter.cube_item_return retval = new AstPrinter.cube_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.rel_return rel135 =null;
+
+        AstPrinter.cube_by_clause_return cube_by_clause136 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:253:5: ( rel ( cube_by_clause ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:253:7: rel ( cube_by_clause )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_cube_item1549);
+            rel135=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, rel135.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:253:11: ( cube_by_clause )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:253:13: cube_by_clause
+            {
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_by_clause_in_cube_item1553);
+            cube_by_clause136=cube_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, cube_by_clause136.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_item"
+
+
+    public static class cube_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_by_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:256:1: cube_by_clause : ^( BY cube_or_rollup ) ;
+    public final AstPrinter.cube_by_clause_return cube_by_clause() throws RecognitionException {
+        AstPrinter.cube_by_clause_return retval = new AstPrinter.cube_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BY137=null;
+        AstPrinter.cube_or_rollup_return cube_or_rollup138 =null;
+
+
+        CommonTree BY137_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:257:5: ( ^( BY cube_or_rollup ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:257:7: ^( BY cube_or_rollup )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BY137=(CommonTree)match(input,BY,FOLLOW_BY_in_cube_by_clause1570); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BY137_tree = (CommonTree)adaptor.dupNode(BY137);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BY137_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((BY137!=null?BY137.getText():null)); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_or_rollup_in_cube_by_clause1574);
+            cube_or_rollup138=cube_or_rollup();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cube_or_rollup138.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_by_clause"
+
+
+    public static class cube_or_rollup_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_or_rollup"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:260:1: cube_or_rollup : cube_rollup_list ( cube_rollup_list )* ;
+    public final AstPrinter.cube_or_rollup_return cube_or_rollup() throws RecognitionException {
+        AstPrinter.cube_or_rollup_return retval = new AstPrinter.cube_or_rollup_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.cube_rollup_list_return cube_rollup_list139 =null;
+
+        AstPrinter.cube_rollup_list_return cube_rollup_list140 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:261:5: ( cube_rollup_list ( cube_rollup_list )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:261:7: cube_rollup_list ( cube_rollup_list )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_rollup_list_in_cube_or_rollup1589);
+            cube_rollup_list139=cube_rollup_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, cube_rollup_list139.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:261:24: ( cube_rollup_list )*
+            loop39:
+            do {
+                int alt39=2;
+                int LA39_0 = input.LA(1);
+
+                if ( (LA39_0==CUBE||LA39_0==ROLLUP) ) {
+                    alt39=1;
+                }
+
+
+                switch (alt39) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:261:26: cube_rollup_list
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_cube_rollup_list_in_cube_or_rollup1595);
+            	    cube_rollup_list140=cube_rollup_list();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, cube_rollup_list140.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop39;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_or_rollup"
+
+
+    public static class cube_rollup_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_rollup_list"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:264:1: cube_rollup_list : ^( ( CUBE | ROLLUP ) cube_by_expr_list ) ;
+    public final AstPrinter.cube_rollup_list_return cube_rollup_list() throws RecognitionException {
+        AstPrinter.cube_rollup_list_return retval = new AstPrinter.cube_rollup_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CUBE141=null;
+        CommonTree ROLLUP142=null;
+        AstPrinter.cube_by_expr_list_return cube_by_expr_list143 =null;
+
+
+        CommonTree CUBE141_tree=null;
+        CommonTree ROLLUP142_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:265:5: ( ^( ( CUBE | ROLLUP ) cube_by_expr_list ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:265:7: ^( ( CUBE | ROLLUP ) cube_by_expr_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:265:10: ( CUBE | ROLLUP )
+            int alt40=2;
+            int LA40_0 = input.LA(1);
+
+            if ( (LA40_0==CUBE) ) {
+                alt40=1;
+            }
+            else if ( (LA40_0==ROLLUP) ) {
+                alt40=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 40, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt40) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:265:12: CUBE
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    CUBE141=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_cube_rollup_list1615); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CUBE141_tree = (CommonTree)adaptor.dupNode(CUBE141);
+
+
+                    adaptor.addChild(root_1, CUBE141_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CUBE141!=null?CUBE141.getText():null)).append("("); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:265:58: ROLLUP
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ROLLUP142=(CommonTree)match(input,ROLLUP,FOLLOW_ROLLUP_in_cube_rollup_list1621); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ROLLUP142_tree = (CommonTree)adaptor.dupNode(ROLLUP142);
+
+
+                    adaptor.addChild(root_1, ROLLUP142_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ROLLUP142!=null?ROLLUP142.getText():null)).append("("); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_by_expr_list_in_cube_rollup_list1627);
+            cube_by_expr_list143=cube_by_expr_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cube_by_expr_list143.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_rollup_list"
+
+
+    public static class cube_by_expr_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_by_expr_list"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:268:1: cube_by_expr_list : ( cube_by_expr ( cube_by_expr )* ) ;
+    public final AstPrinter.cube_by_expr_list_return cube_by_expr_list() throws RecognitionException {
+        AstPrinter.cube_by_expr_list_return retval = new AstPrinter.cube_by_expr_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.cube_by_expr_return cube_by_expr144 =null;
+
+        AstPrinter.cube_by_expr_return cube_by_expr145 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:269:5: ( ( cube_by_expr ( cube_by_expr )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:269:7: ( cube_by_expr ( cube_by_expr )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:269:7: ( cube_by_expr ( cube_by_expr )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:269:9: cube_by_expr ( cube_by_expr )*
+            {
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cube_by_expr_in_cube_by_expr_list1645);
+            cube_by_expr144=cube_by_expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, cube_by_expr144.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:269:22: ( cube_by_expr )*
+            loop41:
+            do {
+                int alt41=2;
+                int LA41_0 = input.LA(1);
+
+                if ( (LA41_0==BIGDECIMALNUMBER||LA41_0==BIGINTEGERNUMBER||LA41_0==CUBE||LA41_0==DIV||LA41_0==DOLLARVAR||LA41_0==DOUBLENUMBER||LA41_0==FALSE||LA41_0==FLOATNUMBER||LA41_0==GROUP||LA41_0==IDENTIFIER||LA41_0==INTEGER||LA41_0==LONGINTEGER||LA41_0==MINUS||LA41_0==NULL||LA41_0==PERCENT||LA41_0==PLUS||LA41_0==QUOTEDSTRING||LA41_0==STAR||LA41_0==TRUE||(LA41_0 >= BAG_VAL && LA41_0 <= BIN_EXPR)||(LA41_0 >= CASE_COND && LA41_0 <= CASE_EXPR)||(LA41_0 >= CAST_EXPR && LA41_0 <= EXPR_IN_PAREN)||LA41_0==FUNC_EVAL||(LA41_0 >= MAP_VAL && LA41_0 <= NEG)||LA41_0==TUPLE_VAL) ) {
+                    alt41=1;
+                }
+
+
+                switch (alt41) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:269:24: cube_by_expr
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_cube_by_expr_in_cube_by_expr_list1651);
+            	    cube_by_expr145=cube_by_expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, cube_by_expr145.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop41;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_by_expr_list"
+
+
+    public static class cube_by_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cube_by_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:272:1: cube_by_expr : ( col_range | expr | STAR );
+    public final AstPrinter.cube_by_expr_return cube_by_expr() throws RecognitionException {
+        AstPrinter.cube_by_expr_return retval = new AstPrinter.cube_by_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR148=null;
+        AstPrinter.col_range_return col_range146 =null;
+
+        AstPrinter.expr_return expr147 =null;
+
+
+        CommonTree STAR148_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:273:5: ( col_range | expr | STAR )
+            int alt42=3;
+            switch ( input.LA(1) ) {
+            case COL_RANGE:
+                {
+                alt42=1;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt42=2;
+                }
+                break;
+            case STAR:
+                {
+                int LA42_3 = input.LA(2);
+
+                if ( (LA42_3==DOWN) ) {
+                    alt42=2;
+                }
+                else if ( (LA42_3==EOF||LA42_3==UP||LA42_3==BIGDECIMALNUMBER||LA42_3==BIGINTEGERNUMBER||LA42_3==CUBE||LA42_3==DIV||LA42_3==DOLLARVAR||LA42_3==DOUBLENUMBER||LA42_3==FALSE||LA42_3==FLOATNUMBER||LA42_3==GROUP||LA42_3==IDENTIFIER||LA42_3==INTEGER||LA42_3==LONGINTEGER||LA42_3==MINUS||LA42_3==NULL||LA42_3==PERCENT||LA42_3==PLUS||LA42_3==QUOTEDSTRING||LA42_3==STAR||LA42_3==TRUE||(LA42_3 >= BAG_VAL && LA42_3 <= BIN_EXPR)||(LA42_3 >= CASE_COND && LA42_3 <= CASE_EXPR)||(LA42_3 >= CAST_EXPR && LA42_3 <= EXPR_IN_PAREN)||LA42_3==FUNC_EVAL||(LA42_3 >= MAP_VAL && LA42_3 <= NEG)||LA42_3==TUPLE_VAL) ) {
+                    alt42=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 42, 3, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 42, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt42) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:273:7: col_range
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_cube_by_expr1669);
+                    col_range146=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range146.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:273:19: expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cube_by_expr1673);
+                    expr147=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr147.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:273:26: STAR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR148=(CommonTree)match(input,STAR,FOLLOW_STAR_in_cube_by_expr1677); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR148_tree = (CommonTree)adaptor.dupNode(STAR148);
+
+
+                    adaptor.addChild(root_0, STAR148_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STAR148!=null?STAR148.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cube_by_expr"
+
+
+    public static class group_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "group_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:276:1: group_clause : ^( ( GROUP | COGROUP ) group_item ( group_item )* ( group_type )? ( partition_clause )? ) ;
+    public final AstPrinter.group_clause_return group_clause() throws RecognitionException {
+        AstPrinter.group_clause_return retval = new AstPrinter.group_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree GROUP149=null;
+        CommonTree COGROUP150=null;
+        AstPrinter.group_item_return group_item151 =null;
+
+        AstPrinter.group_item_return group_item152 =null;
+
+        AstPrinter.group_type_return group_type153 =null;
+
+        AstPrinter.partition_clause_return partition_clause154 =null;
+
+
+        CommonTree GROUP149_tree=null;
+        CommonTree COGROUP150_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:277:5: ( ^( ( GROUP | COGROUP ) group_item ( group_item )* ( group_type )? ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:277:7: ^( ( GROUP | COGROUP ) group_item ( group_item )* ( group_type )? ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:277:10: ( GROUP | COGROUP )
+            int alt43=2;
+            int LA43_0 = input.LA(1);
+
+            if ( (LA43_0==GROUP) ) {
+                alt43=1;
+            }
+            else if ( (LA43_0==COGROUP) ) {
+                alt43=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 43, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt43) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:277:12: GROUP
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    GROUP149=(CommonTree)match(input,GROUP,FOLLOW_GROUP_in_group_clause1696); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GROUP149_tree = (CommonTree)adaptor.dupNode(GROUP149);
+
+
+                    adaptor.addChild(root_1, GROUP149_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((GROUP149!=null?GROUP149.getText():null)).append(" "); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:277:60: COGROUP
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    COGROUP150=(CommonTree)match(input,COGROUP,FOLLOW_COGROUP_in_group_clause1702); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    COGROUP150_tree = (CommonTree)adaptor.dupNode(COGROUP150);
+
+
+                    adaptor.addChild(root_1, COGROUP150_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((COGROUP150!=null?COGROUP150.getText():null)).append(" "); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_group_item_in_group_clause1716);
+            group_item151=group_item();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, group_item151.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:278:20: ( group_item )*
+            loop44:
+            do {
+                int alt44=2;
+                int LA44_0 = input.LA(1);
+
+                if ( (LA44_0==ASSERT||LA44_0==COGROUP||(LA44_0 >= CROSS && LA44_0 <= CUBE)||LA44_0==DEFINE||LA44_0==DISTINCT||LA44_0==FILTER||LA44_0==FOREACH||LA44_0==GROUP||LA44_0==IDENTIFIER||LA44_0==JOIN||(LA44_0 >= LIMIT && LA44_0 <= LOAD)||LA44_0==MAPREDUCE||LA44_0==ORDER||LA44_0==RANK||LA44_0==SAMPLE||LA44_0==SPLIT||(LA44_0 >= STORE && LA44_0 <= STREAM)||LA44_0==UNION) ) {
+                    alt44=1;
+                }
+
+
+                switch (alt44) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:278:22: group_item
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_group_item_in_group_clause1722);
+            	    group_item152=group_item();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, group_item152.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop44;
+                }
+            } while (true);
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:279:7: ( group_type )?
+            int alt45=2;
+            int LA45_0 = input.LA(1);
+
+            if ( (LA45_0==QUOTEDSTRING) ) {
+                alt45=1;
+            }
+            switch (alt45) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:279:9: group_type
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" USING "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_group_type_in_group_clause1737);
+                    group_type153=group_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, group_type153.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:280:7: ( partition_clause )?
+            int alt46=2;
+            int LA46_0 = input.LA(1);
+
+            if ( (LA46_0==PARTITION) ) {
+                alt46=1;
+            }
+            switch (alt46) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:280:7: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_group_clause1748);
+                    partition_clause154=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause154.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "group_clause"
+
+
+    public static class group_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "group_type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:284:1: group_type : QUOTEDSTRING ;
+    public final AstPrinter.group_type_return group_type() throws RecognitionException {
+        AstPrinter.group_type_return retval = new AstPrinter.group_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING155=null;
+
+        CommonTree QUOTEDSTRING155_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:284:12: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:284:14: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING155=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_group_type1764); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING155_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING155);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING155_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING155!=null?QUOTEDSTRING155.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "group_type"
+
+
+    public static class group_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "group_item"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:287:1: group_item : rel ( join_group_by_clause | ALL | ANY ) ( INNER | OUTER )? ;
+    public final AstPrinter.group_item_return group_item() throws RecognitionException {
+        AstPrinter.group_item_return retval = new AstPrinter.group_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ALL158=null;
+        CommonTree ANY159=null;
+        CommonTree INNER160=null;
+        CommonTree OUTER161=null;
+        AstPrinter.rel_return rel156 =null;
+
+        AstPrinter.join_group_by_clause_return join_group_by_clause157 =null;
+
+
+        CommonTree ALL158_tree=null;
+        CommonTree ANY159_tree=null;
+        CommonTree INNER160_tree=null;
+        CommonTree OUTER161_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:288:5: ( rel ( join_group_by_clause | ALL | ANY ) ( INNER | OUTER )? )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:288:7: rel ( join_group_by_clause | ALL | ANY ) ( INNER | OUTER )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_group_item1779);
+            rel156=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, rel156.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:288:11: ( join_group_by_clause | ALL | ANY )
+            int alt47=3;
+            switch ( input.LA(1) ) {
+            case BY:
+                {
+                alt47=1;
+                }
+                break;
+            case ALL:
+                {
+                alt47=2;
+                }
+                break;
+            case ANY:
+                {
+                alt47=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 47, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt47) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:288:13: join_group_by_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_group_by_clause_in_group_item1783);
+                    join_group_by_clause157=join_group_by_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_group_by_clause157.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:289:15: ALL
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ALL158=(CommonTree)match(input,ALL,FOLLOW_ALL_in_group_item1799); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ALL158_tree = (CommonTree)adaptor.dupNode(ALL158);
+
+
+                    adaptor.addChild(root_0, ALL158_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((ALL158!=null?ALL158.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:289:59: ANY
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ANY159=(CommonTree)match(input,ANY,FOLLOW_ANY_in_group_item1805); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ANY159_tree = (CommonTree)adaptor.dupNode(ANY159);
+
+
+                    adaptor.addChild(root_0, ANY159_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((ANY159!=null?ANY159.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:290:13: ( INNER | OUTER )?
+            int alt48=3;
+            int LA48_0 = input.LA(1);
+
+            if ( (LA48_0==INNER) ) {
+                alt48=1;
+            }
+            else if ( (LA48_0==OUTER) ) {
+                alt48=2;
+            }
+            switch (alt48) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:290:15: INNER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    INNER160=(CommonTree)match(input,INNER,FOLLOW_INNER_in_group_item1825); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INNER160_tree = (CommonTree)adaptor.dupNode(INNER160);
+
+
+                    adaptor.addChild(root_0, INNER160_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((INNER160!=null?INNER160.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:290:63: OUTER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    OUTER161=(CommonTree)match(input,OUTER,FOLLOW_OUTER_in_group_item1831); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OUTER161_tree = (CommonTree)adaptor.dupNode(OUTER161);
+
+
+                    adaptor.addChild(root_0, OUTER161_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((OUTER161!=null?OUTER161.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "group_item"
+
+
+    public static class rel_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:293:1: rel : ( alias | ( op_clause ( parallel_clause )? ) );
+    public final AstPrinter.rel_return rel() throws RecognitionException {
+        AstPrinter.rel_return retval = new AstPrinter.rel_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.alias_return alias162 =null;
+
+        AstPrinter.op_clause_return op_clause163 =null;
+
+        AstPrinter.parallel_clause_return parallel_clause164 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:294:5: ( alias | ( op_clause ( parallel_clause )? ) )
+            int alt50=2;
+            int LA50_0 = input.LA(1);
+
+            if ( (LA50_0==IDENTIFIER) ) {
+                alt50=1;
+            }
+            else if ( (LA50_0==ASSERT||LA50_0==COGROUP||(LA50_0 >= CROSS && LA50_0 <= CUBE)||LA50_0==DEFINE||LA50_0==DISTINCT||LA50_0==FILTER||LA50_0==FOREACH||LA50_0==GROUP||LA50_0==JOIN||(LA50_0 >= LIMIT && LA50_0 <= LOAD)||LA50_0==MAPREDUCE||LA50_0==ORDER||LA50_0==RANK||LA50_0==SAMPLE||LA50_0==SPLIT||(LA50_0 >= STORE && LA50_0 <= STREAM)||LA50_0==UNION) ) {
+                alt50=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 50, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt50) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:294:7: alias
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_alias_in_rel1849);
+                    alias162=alias();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, alias162.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:295:7: ( op_clause ( parallel_clause )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:295:7: ( op_clause ( parallel_clause )? )
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:295:9: op_clause ( parallel_clause )?
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" ("); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_op_clause_in_rel1861);
+                    op_clause163=op_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, op_clause163.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:295:40: ( parallel_clause )?
+                    int alt49=2;
+                    int LA49_0 = input.LA(1);
+
+                    if ( (LA49_0==PARALLEL) ) {
+                        alt49=1;
+                    }
+                    switch (alt49) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:295:40: parallel_clause
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            pushFollow(FOLLOW_parallel_clause_in_rel1863);
+                            parallel_clause164=parallel_clause();
+
+                            state._fsp--;
+                            if (state.failed) return retval;
+                            if ( state.backtracking==0 ) 
+                            adaptor.addChild(root_0, parallel_clause164.getTree());
+
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(") "); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel"
+
+
+    public static class flatten_generated_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "flatten_generated_item"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:298:1: flatten_generated_item : ( flatten_clause | col_range | expr | STAR ) ( field_def_list )? ;
+    public final AstPrinter.flatten_generated_item_return flatten_generated_item() throws RecognitionException {
+        AstPrinter.flatten_generated_item_return retval = new AstPrinter.flatten_generated_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR168=null;
+        AstPrinter.flatten_clause_return flatten_clause165 =null;
+
+        AstPrinter.col_range_return col_range166 =null;
+
+        AstPrinter.expr_return expr167 =null;
+
+        AstPrinter.field_def_list_return field_def_list169 =null;
+
+
+        CommonTree STAR168_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:5: ( ( flatten_clause | col_range | expr | STAR ) ( field_def_list )? )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:7: ( flatten_clause | col_range | expr | STAR ) ( field_def_list )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:7: ( flatten_clause | col_range | expr | STAR )
+            int alt51=4;
+            switch ( input.LA(1) ) {
+            case FLATTEN:
+                {
+                alt51=1;
+                }
+                break;
+            case COL_RANGE:
+                {
+                alt51=2;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt51=3;
+                }
+                break;
+            case STAR:
+                {
+                int LA51_4 = input.LA(2);
+
+                if ( (LA51_4==DOWN) ) {
+                    alt51=3;
+                }
+                else if ( (LA51_4==EOF||LA51_4==UP||LA51_4==BIGDECIMALNUMBER||LA51_4==BIGINTEGERNUMBER||LA51_4==CUBE||LA51_4==DIV||LA51_4==DOLLARVAR||LA51_4==DOUBLENUMBER||LA51_4==FALSE||LA51_4==FLATTEN||LA51_4==FLOATNUMBER||LA51_4==GROUP||LA51_4==IDENTIFIER||LA51_4==INTEGER||LA51_4==LONGINTEGER||LA51_4==MINUS||LA51_4==NULL||LA51_4==PERCENT||LA51_4==PLUS||LA51_4==QUOTEDSTRING||LA51_4==STAR||LA51_4==TRUE||(LA51_4 >= BAG_VAL && LA51_4 <= BIN_EXPR)||(LA51_4 >= CASE_COND && LA51_4 <= CASE_EXPR)||(LA51_4 >= CAST_EXPR && LA51_4 <= FIELD_DEF)||LA51_4==FUNC_EVAL||(LA51_4 >= MAP_VAL && LA51_4 <= NEG)||LA51_4==TUPLE_VAL) ) {
+                    alt51=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 51, 4, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 51, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt51) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:9: flatten_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_flatten_clause_in_flatten_generated_item1883);
+                    flatten_clause165=flatten_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, flatten_clause165.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:26: col_range
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_flatten_generated_item1887);
+                    col_range166=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range166.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:38: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_flatten_generated_item1891);
+                    expr167=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr167.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:45: STAR
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    STAR168=(CommonTree)match(input,STAR,FOLLOW_STAR_in_flatten_generated_item1895); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR168_tree = (CommonTree)adaptor.dupNode(STAR168);
+
+
+                    adaptor.addChild(root_0, STAR168_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((STAR168!=null?STAR168.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:91: ( field_def_list )?
+            int alt52=2;
+            int LA52_0 = input.LA(1);
+
+            if ( (LA52_0==FIELD_DEF) ) {
+                alt52=1;
+            }
+            switch (alt52) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:299:93: field_def_list
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" AS "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_field_def_list_in_flatten_generated_item1905);
+                    field_def_list169=field_def_list();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, field_def_list169.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "flatten_generated_item"
+
+
+    public static class flatten_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "flatten_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:302:1: flatten_clause : ^( FLATTEN expr ) ;
+    public final AstPrinter.flatten_clause_return flatten_clause() throws RecognitionException {
+        AstPrinter.flatten_clause_return retval = new AstPrinter.flatten_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FLATTEN170=null;
+        AstPrinter.expr_return expr171 =null;
+
+
+        CommonTree FLATTEN170_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:303:5: ( ^( FLATTEN expr ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:303:7: ^( FLATTEN expr )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FLATTEN170=(CommonTree)match(input,FLATTEN,FOLLOW_FLATTEN_in_flatten_clause1922); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FLATTEN170_tree = (CommonTree)adaptor.dupNode(FLATTEN170);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FLATTEN170_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((FLATTEN170!=null?FLATTEN170.getText():null)).append("("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_flatten_clause1926);
+            expr171=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, expr171.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(") "); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "flatten_clause"
+
+
+    public static class store_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "store_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:306:1: store_clause : ^( STORE rel filename ( func_clause )? ) ;
+    public final AstPrinter.store_clause_return store_clause() throws RecognitionException {
+        AstPrinter.store_clause_return retval = new AstPrinter.store_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STORE172=null;
+        AstPrinter.rel_return rel173 =null;
+
+        AstPrinter.filename_return filename174 =null;
+
+        AstPrinter.func_clause_return func_clause175 =null;
+
+
+        CommonTree STORE172_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:307:5: ( ^( STORE rel filename ( func_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:307:7: ^( STORE rel filename ( func_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STORE172=(CommonTree)match(input,STORE,FOLLOW_STORE_in_store_clause1945); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STORE172_tree = (CommonTree)adaptor.dupNode(STORE172);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STORE172_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((STORE172!=null?STORE172.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_store_clause1949);
+            rel173=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel173.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" INTO "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_filename_in_store_clause1953);
+            filename174=filename();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, filename174.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:307:94: ( func_clause )?
+            int alt53=2;
+            int LA53_0 = input.LA(1);
+
+            if ( (LA53_0==FUNC||LA53_0==FUNC_REF) ) {
+                alt53=1;
+            }
+            switch (alt53) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:307:96: func_clause
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" USING "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_store_clause1959);
+                    func_clause175=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause175.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "store_clause"
+
+
+    public static class comment_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "comment"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:310:1: comment : QUOTEDSTRING ;
+    public final AstPrinter.comment_return comment() throws RecognitionException {
+        AstPrinter.comment_return retval = new AstPrinter.comment_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING176=null;
+
+        CommonTree QUOTEDSTRING176_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:311:5: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:311:7: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING176=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_comment1976); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING176_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING176);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING176_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING176!=null?QUOTEDSTRING176.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "comment"
+
+
+    public static class assert_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "assert_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:314:1: assert_clause : ^( ASSERT rel cond ( comment )? ) ;
+    public final AstPrinter.assert_clause_return assert_clause() throws RecognitionException {
+        AstPrinter.assert_clause_return retval = new AstPrinter.assert_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ASSERT177=null;
+        AstPrinter.rel_return rel178 =null;
+
+        AstPrinter.cond_return cond179 =null;
+
+        AstPrinter.comment_return comment180 =null;
+
+
+        CommonTree ASSERT177_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:315:5: ( ^( ASSERT rel cond ( comment )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:315:7: ^( ASSERT rel cond ( comment )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            ASSERT177=(CommonTree)match(input,ASSERT,FOLLOW_ASSERT_in_assert_clause1993); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            ASSERT177_tree = (CommonTree)adaptor.dupNode(ASSERT177);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(ASSERT177_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((ASSERT177!=null?ASSERT177.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_assert_clause1997);
+            rel178=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel178.getTree());
+
+
+            if ( state.backtracking==0 ) {sb.append(" BY ("); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_assert_clause2001);
+            cond179=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond179.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:315:110: ( comment )?
+            int alt54=2;
+            int LA54_0 = input.LA(1);
+
+            if ( (LA54_0==QUOTEDSTRING) ) {
+                alt54=1;
+            }
+            switch (alt54) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:315:112: comment
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" comment: "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_comment_in_assert_clause2009);
+                    comment180=comment();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, comment180.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "assert_clause"
+
+
+    public static class filter_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "filter_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:318:1: filter_clause : ^( FILTER rel cond ) ;
+    public final AstPrinter.filter_clause_return filter_clause() throws RecognitionException {
+        AstPrinter.filter_clause_return retval = new AstPrinter.filter_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FILTER181=null;
+        AstPrinter.rel_return rel182 =null;
+
+        AstPrinter.cond_return cond183 =null;
+
+
+        CommonTree FILTER181_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:319:5: ( ^( FILTER rel cond ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:319:7: ^( FILTER rel cond )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FILTER181=(CommonTree)match(input,FILTER,FOLLOW_FILTER_in_filter_clause2029); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FILTER181_tree = (CommonTree)adaptor.dupNode(FILTER181);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FILTER181_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((FILTER181!=null?FILTER181.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_filter_clause2033);
+            rel182=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel182.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" BY ("); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_filter_clause2037);
+            cond183=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond183.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "filter_clause"
+
+
+    public static class cond_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cond"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:322:1: cond : ( ^( OR cond cond ) | ^( AND cond cond ) | ^( NOT cond ) | ^( NULL expr ( NOT )? ) | ^( rel_op expr expr ) | in_eval | func_eval | ^( BOOL_COND expr ) );
+    public final AstPrinter.cond_return cond() throws RecognitionException {
+        AstPrinter.cond_return retval = new AstPrinter.cond_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree OR184=null;
+        CommonTree AND187=null;
+        CommonTree NOT190=null;
+        CommonTree NULL192=null;
+        CommonTree NOT194=null;
+        CommonTree BOOL_COND200=null;
+        AstPrinter.cond_return cond185 =null;
+
+        AstPrinter.cond_return cond186 =null;
+
+        AstPrinter.cond_return cond188 =null;
+
+        AstPrinter.cond_return cond189 =null;
+
+        AstPrinter.cond_return cond191 =null;
+
+        AstPrinter.expr_return expr193 =null;
+
+        AstPrinter.rel_op_return rel_op195 =null;
+
+        AstPrinter.expr_return expr196 =null;
+
+        AstPrinter.expr_return expr197 =null;
+
+        AstPrinter.in_eval_return in_eval198 =null;
+
+        AstPrinter.func_eval_return func_eval199 =null;
+
+        AstPrinter.expr_return expr201 =null;
+
+
+        CommonTree OR184_tree=null;
+        CommonTree AND187_tree=null;
+        CommonTree NOT190_tree=null;
+        CommonTree NULL192_tree=null;
+        CommonTree NOT194_tree=null;
+        CommonTree BOOL_COND200_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:323:5: ( ^( OR cond cond ) | ^( AND cond cond ) | ^( NOT cond ) | ^( NULL expr ( NOT )? ) | ^( rel_op expr expr ) | in_eval | func_eval | ^( BOOL_COND expr ) )
+            int alt56=8;
+            switch ( input.LA(1) ) {
+            case OR:
+                {
+                alt56=1;
+                }
+                break;
+            case AND:
+                {
+                alt56=2;
+                }
+                break;
+            case NOT:
+                {
+                alt56=3;
+                }
+                break;
+            case NULL:
+                {
+                alt56=4;
+                }
+                break;
+            case NUM_OP_EQ:
+            case NUM_OP_GT:
+            case NUM_OP_GTE:
+            case NUM_OP_LT:
+            case NUM_OP_LTE:
+            case NUM_OP_NE:
+            case STR_OP_EQ:
+            case STR_OP_GT:
+            case STR_OP_GTE:
+            case STR_OP_LT:
+            case STR_OP_LTE:
+            case STR_OP_MATCHES:
+            case STR_OP_NE:
+                {
+                alt56=5;
+                }
+                break;
+            case IN:
+                {
+                alt56=6;
+                }
+                break;
+            case FUNC_EVAL:
+                {
+                alt56=7;
+                }
+                break;
+            case BOOL_COND:
+                {
+                alt56=8;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 56, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt56) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:323:7: ^( OR cond cond )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    OR184=(CommonTree)match(input,OR,FOLLOW_OR_in_cond2056); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OR184_tree = (CommonTree)adaptor.dupNode(OR184);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(OR184_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond2060);
+                    cond185=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond185.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(") ").append((OR184!=null?OR184.getText():null)).append(" ("); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond2064);
+                    cond186=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond186.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:324:7: ^( AND cond cond )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    AND187=(CommonTree)match(input,AND,FOLLOW_AND_in_cond2078); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    AND187_tree = (CommonTree)adaptor.dupNode(AND187);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(AND187_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond2082);
+                    cond188=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond188.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(") ").append((AND187!=null?AND187.getText():null)).append(" ("); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond2086);
+                    cond189=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond189.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:325:7: ^( NOT cond )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NOT190=(CommonTree)match(input,NOT,FOLLOW_NOT_in_cond2100); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NOT190_tree = (CommonTree)adaptor.dupNode(NOT190);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NOT190_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((NOT190!=null?NOT190.getText():null)).append(" ("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_cond_in_cond2104);
+                    cond191=cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, cond191.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:326:7: ^( NULL expr ( NOT )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NULL192=(CommonTree)match(input,NULL,FOLLOW_NULL_in_cond2118); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL192_tree = (CommonTree)adaptor.dupNode(NULL192);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NULL192_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond2120);
+                    expr193=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr193.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" IS "); }
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:326:43: ( NOT )?
+                    int alt55=2;
+                    int LA55_0 = input.LA(1);
+
+                    if ( (LA55_0==NOT) ) {
+                        alt55=1;
+                    }
+                    switch (alt55) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:326:44: NOT
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            NOT194=(CommonTree)match(input,NOT,FOLLOW_NOT_in_cond2125); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            NOT194_tree = (CommonTree)adaptor.dupNode(NOT194);
+
+
+                            adaptor.addChild(root_1, NOT194_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append((NOT194!=null?NOT194.getText():null)).append(" "); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((NULL192!=null?NULL192.getText():null)); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:327:7: ^( rel_op expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_in_cond2145);
+                    rel_op195=rel_op();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) root_1 = (CommonTree)adaptor.becomeRoot(rel_op195.getTree(), root_1);
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond2147);
+                    expr196=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr196.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((rel_op195!=null?rel_op195.result:null)).append(" "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond2151);
+                    expr197=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr197.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:328:7: in_eval
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_in_eval_in_cond2161);
+                    in_eval198=in_eval();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, in_eval198.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:329:7: func_eval
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_eval_in_cond2169);
+                    func_eval199=func_eval();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, func_eval199.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:330:7: ^( BOOL_COND expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    BOOL_COND200=(CommonTree)match(input,BOOL_COND,FOLLOW_BOOL_COND_in_cond2179); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BOOL_COND200_tree = (CommonTree)adaptor.dupNode(BOOL_COND200);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(BOOL_COND200_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_cond2181);
+                    expr201=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr201.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cond"
+
+
+    public static class in_eval_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "in_eval"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:333:1: in_eval : ^( IN ( ^( IN_LHS expr ) ^( IN_RHS expr ) ) ( ^( IN_LHS expr ) ^( IN_RHS expr ) )* ) ;
+    public final AstPrinter.in_eval_return in_eval() throws RecognitionException {
+        AstPrinter.in_eval_return retval = new AstPrinter.in_eval_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IN202=null;
+        CommonTree IN_LHS203=null;
+        CommonTree IN_RHS205=null;
+        CommonTree IN_LHS207=null;
+        CommonTree IN_RHS209=null;
+        AstPrinter.expr_return expr204 =null;
+
+        AstPrinter.expr_return expr206 =null;
+
+        AstPrinter.expr_return expr208 =null;
+
+        AstPrinter.expr_return expr210 =null;
+
+
+        CommonTree IN202_tree=null;
+        CommonTree IN_LHS203_tree=null;
+        CommonTree IN_RHS205_tree=null;
+        CommonTree IN_LHS207_tree=null;
+        CommonTree IN_RHS209_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:334:5: ( ^( IN ( ^( IN_LHS expr ) ^( IN_RHS expr ) ) ( ^( IN_LHS expr ) ^( IN_RHS expr ) )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:334:7: ^( IN ( ^( IN_LHS expr ) ^( IN_RHS expr ) ) ( ^( IN_LHS expr ) ^( IN_RHS expr ) )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            IN202=(CommonTree)match(input,IN,FOLLOW_IN_in_in_eval2198); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IN202_tree = (CommonTree)adaptor.dupNode(IN202);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(IN202_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" " + (IN202!=null?IN202.getText():null) + "("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:335:10: ( ^( IN_LHS expr ) ^( IN_RHS expr ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:335:12: ^( IN_LHS expr ) ^( IN_RHS expr )
+            {
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            IN_LHS203=(CommonTree)match(input,IN_LHS,FOLLOW_IN_LHS_in_in_eval2215); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IN_LHS203_tree = (CommonTree)adaptor.dupNode(IN_LHS203);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(IN_LHS203_tree, root_2);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_in_eval2217);
+            expr204=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_2, expr204.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            IN_RHS205=(CommonTree)match(input,IN_RHS,FOLLOW_IN_RHS_in_in_eval2223); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            IN_RHS205_tree = (CommonTree)adaptor.dupNode(IN_RHS205);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(IN_RHS205_tree, root_2);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(", "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_in_eval2227);
+            expr206=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_2, expr206.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:336:10: ( ^( IN_LHS expr ) ^( IN_RHS expr ) )*
+            loop57:
+            do {
+                int alt57=2;
+                int LA57_0 = input.LA(1);
+
+                if ( (LA57_0==IN_LHS) ) {
+                    alt57=1;
+                }
+
+
+                switch (alt57) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:336:12: ^( IN_LHS expr ) ^( IN_RHS expr )
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    IN_LHS207=(CommonTree)match(input,IN_LHS,FOLLOW_IN_LHS_in_in_eval2246); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    IN_LHS207_tree = (CommonTree)adaptor.dupNode(IN_LHS207);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(IN_LHS207_tree, root_2);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_in_eval2250);
+            	    expr208=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr208.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    IN_RHS209=(CommonTree)match(input,IN_RHS,FOLLOW_IN_RHS_in_in_eval2256); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    IN_RHS209_tree = (CommonTree)adaptor.dupNode(IN_RHS209);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(IN_RHS209_tree, root_2);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_in_eval2261);
+            	    expr210=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr210.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop57;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(") "); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "in_eval"
+
+
+    public static class func_eval_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func_eval"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:339:1: func_eval : ( ^( FUNC_EVAL func_name real_arg ( real_arg )* ) | ^( FUNC_EVAL func_name ) );
+    public final AstPrinter.func_eval_return func_eval() throws RecognitionException {
+        AstPrinter.func_eval_return retval = new AstPrinter.func_eval_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FUNC_EVAL211=null;
+        CommonTree FUNC_EVAL215=null;
+        AstPrinter.func_name_return func_name212 =null;
+
+        AstPrinter.real_arg_return real_arg213 =null;
+
+        AstPrinter.real_arg_return real_arg214 =null;
+
+        AstPrinter.func_name_return func_name216 =null;
+
+
+        CommonTree FUNC_EVAL211_tree=null;
+        CommonTree FUNC_EVAL215_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:340:5: ( ^( FUNC_EVAL func_name real_arg ( real_arg )* ) | ^( FUNC_EVAL func_name ) )
+            int alt59=2;
+            alt59 = dfa59.predict(input);
+            switch (alt59) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:340:7: ^( FUNC_EVAL func_name real_arg ( real_arg )* )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FUNC_EVAL211=(CommonTree)match(input,FUNC_EVAL,FOLLOW_FUNC_EVAL_in_func_eval2285); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FUNC_EVAL211_tree = (CommonTree)adaptor.dupNode(FUNC_EVAL211);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FUNC_EVAL211_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_name_in_func_eval2287);
+                    func_name212=func_name();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_name212.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_real_arg_in_func_eval2291);
+                    real_arg213=real_arg();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, real_arg213.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:340:59: ( real_arg )*
+                    loop58:
+                    do {
+                        int alt58=2;
+                        int LA58_0 = input.LA(1);
+
+                        if ( (LA58_0==BIGDECIMALNUMBER||LA58_0==BIGINTEGERNUMBER||LA58_0==CUBE||LA58_0==DIV||LA58_0==DOLLARVAR||LA58_0==DOUBLENUMBER||LA58_0==FALSE||LA58_0==FLOATNUMBER||LA58_0==GROUP||LA58_0==IDENTIFIER||LA58_0==INTEGER||LA58_0==LONGINTEGER||LA58_0==MINUS||LA58_0==NULL||LA58_0==PERCENT||LA58_0==PLUS||LA58_0==QUOTEDSTRING||LA58_0==STAR||LA58_0==TRUE||(LA58_0 >= BAG_VAL && LA58_0 <= BIN_EXPR)||(LA58_0 >= CASE_COND && LA58_0 <= CASE_EXPR)||(LA58_0 >= CAST_EXPR && LA58_0 <= EXPR_IN_PAREN)||LA58_0==FUNC_EVAL||(LA58_0 >= MAP_VAL && LA58_0 <= NEG)||LA58_0==TUPLE_VAL) ) {
+                            alt58=1;
+                        }
+
+
+                        switch (alt58) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:340:61: real_arg
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_real_arg_in_func_eval2297);
+                    	    real_arg214=real_arg();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_1, real_arg214.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop58;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:341:7: ^( FUNC_EVAL func_name )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FUNC_EVAL215=(CommonTree)match(input,FUNC_EVAL,FOLLOW_FUNC_EVAL_in_func_eval2313); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FUNC_EVAL215_tree = (CommonTree)adaptor.dupNode(FUNC_EVAL215);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FUNC_EVAL215_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_name_in_func_eval2315);
+                    func_name216=func_name();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_name216.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append("()"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func_eval"
+
+
+    public static class real_arg_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "real_arg"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:344:1: real_arg : ( expr | STAR | col_range );
+    public final AstPrinter.real_arg_return real_arg() throws RecognitionException {
+        AstPrinter.real_arg_return retval = new AstPrinter.real_arg_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR218=null;
+        AstPrinter.expr_return expr217 =null;
+
+        AstPrinter.col_range_return col_range219 =null;
+
+
+        CommonTree STAR218_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:345:5: ( expr | STAR | col_range )
+            int alt60=3;
+            switch ( input.LA(1) ) {
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt60=1;
+                }
+                break;
+            case STAR:
+                {
+                int LA60_2 = input.LA(2);
+
+                if ( (LA60_2==DOWN) ) {
+                    alt60=1;
+                }
+                else if ( (LA60_2==EOF||LA60_2==UP||LA60_2==BIGDECIMALNUMBER||LA60_2==BIGINTEGERNUMBER||LA60_2==CUBE||LA60_2==DIV||LA60_2==DOLLARVAR||LA60_2==DOUBLENUMBER||LA60_2==FALSE||LA60_2==FLOATNUMBER||LA60_2==GROUP||LA60_2==IDENTIFIER||LA60_2==INTEGER||LA60_2==LONGINTEGER||LA60_2==MINUS||LA60_2==NULL||LA60_2==PERCENT||LA60_2==PLUS||LA60_2==QUOTEDSTRING||LA60_2==STAR||LA60_2==TRUE||(LA60_2 >= BAG_VAL && LA60_2 <= BIN_EXPR)||(LA60_2 >= CASE_COND && LA60_2 <= CASE_EXPR)||(LA60_2 >= CAST_EXPR && LA60_2 <= EXPR_IN_PAREN)||LA60_2==FUNC_EVAL||(LA60_2 >= MAP_VAL && LA60_2 <= NEG)||LA60_2==TUPLE_VAL) ) {
+                    alt60=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 60, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case COL_RANGE:
+                {
+                alt60=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 60, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt60) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:345:7: expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_real_arg2333);
+                    expr217=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr217.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:345:14: STAR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR218=(CommonTree)match(input,STAR,FOLLOW_STAR_in_real_arg2337); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR218_tree = (CommonTree)adaptor.dupNode(STAR218);
+
+
+                    adaptor.addChild(root_0, STAR218_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STAR218!=null?STAR218.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:345:48: col_range
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_real_arg2343);
+                    col_range219=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range219.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "real_arg"
+
+
+    public static class expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:348:1: expr : ( ^( PLUS expr expr ) | ^( MINUS expr expr ) | ^( STAR expr expr ) | ^( DIV expr expr ) | ^( PERCENT expr expr ) | ^( CAST_EXPR type expr ) | const_expr | var_expr | ^( NEG expr ) | ^( CAST_EXPR type_cast expr ) | ^( EXPR_IN_PAREN expr ) );
+    public final AstPrinter.expr_return expr() throws RecognitionException {
+        AstPrinter.expr_return retval = new AstPrinter.expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PLUS220=null;
+        CommonTree MINUS223=null;
+        CommonTree STAR226=null;
+        CommonTree DIV229=null;
+        CommonTree PERCENT232=null;
+        CommonTree CAST_EXPR235=null;
+        CommonTree NEG240=null;
+        CommonTree CAST_EXPR242=null;
+        CommonTree EXPR_IN_PAREN245=null;
+        AstPrinter.expr_return expr221 =null;
+
+        AstPrinter.expr_return expr222 =null;
+
+        AstPrinter.expr_return expr224 =null;
+
+        AstPrinter.expr_return expr225 =null;
+
+        AstPrinter.expr_return expr227 =null;
+
+        AstPrinter.expr_return expr228 =null;
+
+        AstPrinter.expr_return expr230 =null;
+
+        AstPrinter.expr_return expr231 =null;
+
+        AstPrinter.expr_return expr233 =null;
+
+        AstPrinter.expr_return expr234 =null;
+
+        AstPrinter.type_return type236 =null;
+
+        AstPrinter.expr_return expr237 =null;
+
+        AstPrinter.const_expr_return const_expr238 =null;
+
+        AstPrinter.var_expr_return var_expr239 =null;
+
+        AstPrinter.expr_return expr241 =null;
+
+        AstPrinter.type_cast_return type_cast243 =null;
+
+        AstPrinter.expr_return expr244 =null;
+
+        AstPrinter.expr_return expr246 =null;
+
+
+        CommonTree PLUS220_tree=null;
+        CommonTree MINUS223_tree=null;
+        CommonTree STAR226_tree=null;
+        CommonTree DIV229_tree=null;
+        CommonTree PERCENT232_tree=null;
+        CommonTree CAST_EXPR235_tree=null;
+        CommonTree NEG240_tree=null;
+        CommonTree CAST_EXPR242_tree=null;
+        CommonTree EXPR_IN_PAREN245_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:349:5: ( ^( PLUS expr expr ) | ^( MINUS expr expr ) | ^( STAR expr expr ) | ^( DIV expr expr ) | ^( PERCENT expr expr ) | ^( CAST_EXPR type expr ) | const_expr | var_expr | ^( NEG expr ) | ^( CAST_EXPR type_cast expr ) | ^( EXPR_IN_PAREN expr ) )
+            int alt61=11;
+            switch ( input.LA(1) ) {
+            case PLUS:
+                {
+                alt61=1;
+                }
+                break;
+            case MINUS:
+                {
+                int LA61_2 = input.LA(2);
+
+                if ( (synpred110_AstPrinter()) ) {
+                    alt61=2;
+                }
+                else if ( (synpred115_AstPrinter()) ) {
+                    alt61=7;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 61, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case STAR:
+                {
+                alt61=3;
+                }
+                break;
+            case DIV:
+                {
+                alt61=4;
+                }
+                break;
+            case PERCENT:
+                {
+                alt61=5;
+                }
+                break;
+            case CAST_EXPR:
+                {
+                int LA61_6 = input.LA(2);
+
+                if ( (synpred114_AstPrinter()) ) {
+                    alt61=6;
+                }
+                else if ( (synpred118_AstPrinter()) ) {
+                    alt61=10;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 61, 6, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case INTEGER:
+            case LONGINTEGER:
+            case NULL:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case MAP_VAL:
+            case TUPLE_VAL:
+                {
+                alt61=7;
+                }
+                break;
+            case CUBE:
+            case DOLLARVAR:
+            case GROUP:
+            case IDENTIFIER:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case FUNC_EVAL:
+                {
+                alt61=8;
+                }
+                break;
+            case NEG:
+                {
+                alt61=9;
+                }
+                break;
+            case EXPR_IN_PAREN:
+                {
+                alt61=11;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 61, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt61) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:349:7: ^( PLUS expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    PLUS220=(CommonTree)match(input,PLUS,FOLLOW_PLUS_in_expr2358); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PLUS220_tree = (CommonTree)adaptor.dupNode(PLUS220);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(PLUS220_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2360);
+                    expr221=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr221.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((PLUS220!=null?PLUS220.getText():null)).append(" "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2364);
+                    expr222=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr222.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:350:7: ^( MINUS expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    MINUS223=(CommonTree)match(input,MINUS,FOLLOW_MINUS_in_expr2376); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MINUS223_tree = (CommonTree)adaptor.dupNode(MINUS223);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(MINUS223_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2378);
+                    expr224=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr224.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((MINUS223!=null?MINUS223.getText():null)).append(" "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2382);
+                    expr225=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr225.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:351:7: ^( STAR expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    STAR226=(CommonTree)match(input,STAR,FOLLOW_STAR_in_expr2394); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR226_tree = (CommonTree)adaptor.dupNode(STAR226);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(STAR226_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2396);
+                    expr227=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr227.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((STAR226!=null?STAR226.getText():null)).append(" "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2400);
+                    expr228=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr228.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:352:7: ^( DIV expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    DIV229=(CommonTree)match(input,DIV,FOLLOW_DIV_in_expr2412); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DIV229_tree = (CommonTree)adaptor.dupNode(DIV229);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(DIV229_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2414);
+                    expr230=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr230.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((DIV229!=null?DIV229.getText():null)).append(" "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2418);
+                    expr231=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr231.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:353:7: ^( PERCENT expr expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    PERCENT232=(CommonTree)match(input,PERCENT,FOLLOW_PERCENT_in_expr2430); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PERCENT232_tree = (CommonTree)adaptor.dupNode(PERCENT232);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(PERCENT232_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2432);
+                    expr233=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr233.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((PERCENT232!=null?PERCENT232.getText():null)).append(" "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2436);
+                    expr234=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr234.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:354:7: ^( CAST_EXPR type expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    CAST_EXPR235=(CommonTree)match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_expr2448); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CAST_EXPR235_tree = (CommonTree)adaptor.dupNode(CAST_EXPR235);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(CAST_EXPR235_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_in_expr2452);
+                    type236=type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type236.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2456);
+                    expr237=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr237.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:355:7: const_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_const_expr_in_expr2466);
+                    const_expr238=const_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, const_expr238.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:356:7: var_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_var_expr_in_expr2474);
+                    var_expr239=var_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, var_expr239.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:357:7: ^( NEG expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NEG240=(CommonTree)match(input,NEG,FOLLOW_NEG_in_expr2484); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NEG240_tree = (CommonTree)adaptor.dupNode(NEG240);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NEG240_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((NEG240!=null?NEG240.getText():null)); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2488);
+                    expr241=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr241.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:358:7: ^( CAST_EXPR type_cast expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    CAST_EXPR242=(CommonTree)match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_expr2500); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CAST_EXPR242_tree = (CommonTree)adaptor.dupNode(CAST_EXPR242);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(CAST_EXPR242_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_cast_in_expr2504);
+                    type_cast243=type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type_cast243.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2508);
+                    expr244=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr244.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:359:7: ^( EXPR_IN_PAREN expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    EXPR_IN_PAREN245=(CommonTree)match(input,EXPR_IN_PAREN,FOLLOW_EXPR_IN_PAREN_in_expr2520); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EXPR_IN_PAREN245_tree = (CommonTree)adaptor.dupNode(EXPR_IN_PAREN245);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(EXPR_IN_PAREN245_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_expr2524);
+                    expr246=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr246.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "expr"
+
+
+    public static class type_cast_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "type_cast"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:362:1: type_cast : ( simple_type | map_type | tuple_type_cast | bag_type_cast );
+    public final AstPrinter.type_cast_return type_cast() throws RecognitionException {
+        AstPrinter.type_cast_return retval = new AstPrinter.type_cast_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.simple_type_return simple_type247 =null;
+
+        AstPrinter.map_type_return map_type248 =null;
+
+        AstPrinter.tuple_type_cast_return tuple_type_cast249 =null;
+
+        AstPrinter.bag_type_cast_return bag_type_cast250 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:363:5: ( simple_type | map_type | tuple_type_cast | bag_type_cast )
+            int alt62=4;
+            switch ( input.LA(1) ) {
+            case BIGDECIMAL:
+            case BIGINTEGER:
+            case BOOLEAN:
+            case BYTEARRAY:
+            case CHARARRAY:
+            case DATETIME:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+                {
+                alt62=1;
+                }
+                break;
+            case MAP_TYPE:
+                {
+                alt62=2;
+                }
+                break;
+            case TUPLE_TYPE_CAST:
+                {
+                alt62=3;
+                }
+                break;
+            case BAG_TYPE_CAST:
+                {
+                alt62=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 62, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt62) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:363:7: simple_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_simple_type_in_type_cast2541);
+                    simple_type247=simple_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, simple_type247.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:363:21: map_type
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_map_type_in_type_cast2545);
+                    map_type248=map_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, map_type248.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:363:32: tuple_type_cast
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_type_cast_in_type_cast2549);
+                    tuple_type_cast249=tuple_type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, tuple_type_cast249.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:363:50: bag_type_cast
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bag_type_cast_in_type_cast2553);
+                    bag_type_cast250=bag_type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bag_type_cast250.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "type_cast"
+
+
+    public static class tuple_type_cast_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tuple_type_cast"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:366:1: tuple_type_cast : ( ^( TUPLE_TYPE_CAST type_cast ( type_cast )* ) | ^( TUPLE_TYPE_CAST ( type_cast )? ) );
+    public final AstPrinter.tuple_type_cast_return tuple_type_cast() throws RecognitionException {
+        AstPrinter.tuple_type_cast_return retval = new AstPrinter.tuple_type_cast_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree TUPLE_TYPE_CAST251=null;
+        CommonTree TUPLE_TYPE_CAST254=null;
+        AstPrinter.type_cast_return type_cast252 =null;
+
+        AstPrinter.type_cast_return type_cast253 =null;
+
+        AstPrinter.type_cast_return type_cast255 =null;
+
+
+        CommonTree TUPLE_TYPE_CAST251_tree=null;
+        CommonTree TUPLE_TYPE_CAST254_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:5: ( ^( TUPLE_TYPE_CAST type_cast ( type_cast )* ) | ^( TUPLE_TYPE_CAST ( type_cast )? ) )
+            int alt65=2;
+            int LA65_0 = input.LA(1);
+
+            if ( (LA65_0==TUPLE_TYPE_CAST) ) {
+                int LA65_1 = input.LA(2);
+
+                if ( (synpred123_AstPrinter()) ) {
+                    alt65=1;
+                }
+                else if ( (true) ) {
+                    alt65=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 65, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 65, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt65) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:7: ^( TUPLE_TYPE_CAST type_cast ( type_cast )* )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    TUPLE_TYPE_CAST251=(CommonTree)match(input,TUPLE_TYPE_CAST,FOLLOW_TUPLE_TYPE_CAST_in_tuple_type_cast2568); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TUPLE_TYPE_CAST251_tree = (CommonTree)adaptor.dupNode(TUPLE_TYPE_CAST251);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_TYPE_CAST251_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("tuple("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_type_cast_in_tuple_type_cast2572);
+                    type_cast252=type_cast();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, type_cast252.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:61: ( type_cast )*
+                    loop63:
+                    do {
+                        int alt63=2;
+                        int LA63_0 = input.LA(1);
+
+                        if ( (LA63_0==BIGDECIMAL||LA63_0==BIGINTEGER||LA63_0==BOOLEAN||LA63_0==BYTEARRAY||LA63_0==CHARARRAY||LA63_0==DATETIME||LA63_0==DOUBLE||LA63_0==FLOAT||LA63_0==INT||LA63_0==LONG||LA63_0==BAG_TYPE_CAST||LA63_0==MAP_TYPE||LA63_0==TUPLE_TYPE_CAST) ) {
+                            alt63=1;
+                        }
+
+
+                        switch (alt63) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:63: type_cast
+                    	    {
+                    	    if ( state.backtracking==0 ) {sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_type_cast_in_tuple_type_cast2578);
+                    	    type_cast253=type_cast();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_1, type_cast253.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop63;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:368:7: ^( TUPLE_TYPE_CAST ( type_cast )? )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    TUPLE_TYPE_CAST254=(CommonTree)match(input,TUPLE_TYPE_CAST,FOLLOW_TUPLE_TYPE_CAST_in_tuple_type_cast2594); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TUPLE_TYPE_CAST254_tree = (CommonTree)adaptor.dupNode(TUPLE_TYPE_CAST254);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_TYPE_CAST254_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("tuple("); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:368:51: ( type_cast )?
+                        int alt64=2;
+                        int LA64_0 = input.LA(1);
+
+                        if ( (LA64_0==BIGDECIMAL||LA64_0==BIGINTEGER||LA64_0==BOOLEAN||LA64_0==BYTEARRAY||LA64_0==CHARARRAY||LA64_0==DATETIME||LA64_0==DOUBLE||LA64_0==FLOAT||LA64_0==INT||LA64_0==LONG||LA64_0==BAG_TYPE_CAST||LA64_0==MAP_TYPE||LA64_0==TUPLE_TYPE_CAST) ) {
+                            alt64=1;
+                        }
+                        switch (alt64) {
+                            case 1 :
+                                // /root/project/src/org/apache/pig/parser/AstPrinter.g:368:51: type_cast
+                                {
+                                _last = (CommonTree)input.LT(1);
+                                pushFollow(FOLLOW_type_cast_in_tuple_type_cast2598);
+                                type_cast255=type_cast();
+
+                                state._fsp--;
+                                if (state.failed) return retval;
+                                if ( state.backtracking==0 ) 
+                                adaptor.addChild(root_1, type_cast255.getTree());
+
+
+                                if ( state.backtracking==0 ) {
+                                }
+                                }
+                                break;
+
+                        }
+
+
+                        if ( state.backtracking==0 ) {sb.append(")"); }
+
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tuple_type_cast"
+
+
+    public static class bag_type_cast_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bag_type_cast"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:371:1: bag_type_cast : ^( BAG_TYPE_CAST ( tuple_type_cast )? ) ;
+    public final AstPrinter.bag_type_cast_return bag_type_cast() throws RecognitionException {
+        AstPrinter.bag_type_cast_return retval = new AstPrinter.bag_type_cast_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BAG_TYPE_CAST256=null;
+        AstPrinter.tuple_type_cast_return tuple_type_cast257 =null;
+
+
+        CommonTree BAG_TYPE_CAST256_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:372:5: ( ^( BAG_TYPE_CAST ( tuple_type_cast )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:372:7: ^( BAG_TYPE_CAST ( tuple_type_cast )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BAG_TYPE_CAST256=(CommonTree)match(input,BAG_TYPE_CAST,FOLLOW_BAG_TYPE_CAST_in_bag_type_cast2618); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BAG_TYPE_CAST256_tree = (CommonTree)adaptor.dupNode(BAG_TYPE_CAST256);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BAG_TYPE_CAST256_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append("bag{"); }
+
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); if (state.failed) return retval;
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:372:47: ( tuple_type_cast )?
+                int alt66=2;
+                int LA66_0 = input.LA(1);
+
+                if ( (LA66_0==TUPLE_TYPE_CAST) ) {
+                    alt66=1;
+                }
+                switch (alt66) {
+                    case 1 :
+                        // /root/project/src/org/apache/pig/parser/AstPrinter.g:372:47: tuple_type_cast
+                        {
+                        _last = (CommonTree)input.LT(1);
+                        pushFollow(FOLLOW_tuple_type_cast_in_bag_type_cast2622);
+                        tuple_type_cast257=tuple_type_cast();
+
+                        state._fsp--;
+                        if (state.failed) return retval;
+                        if ( state.backtracking==0 ) 
+                        adaptor.addChild(root_1, tuple_type_cast257.getTree());
+
+
+                        if ( state.backtracking==0 ) {
+                        }
+                        }
+                        break;
+
+                }
+
+
+                if ( state.backtracking==0 ) {sb.append("}"); }
+
+                match(input, Token.UP, null); if (state.failed) return retval;
+            }
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bag_type_cast"
+
+
+    public static class var_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "var_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:375:1: var_expr : projectable_expr ( dot_proj | pound_proj )* ;
+    public final AstPrinter.var_expr_return var_expr() throws RecognitionException {
+        AstPrinter.var_expr_return retval = new AstPrinter.var_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.projectable_expr_return projectable_expr258 =null;
+
+        AstPrinter.dot_proj_return dot_proj259 =null;
+
+        AstPrinter.pound_proj_return pound_proj260 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:376:5: ( projectable_expr ( dot_proj | pound_proj )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:376:7: projectable_expr ( dot_proj | pound_proj )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_projectable_expr_in_var_expr2640);
+            projectable_expr258=projectable_expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, projectable_expr258.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:376:24: ( dot_proj | pound_proj )*
+            loop67:
+            do {
+                int alt67=3;
+                int LA67_0 = input.LA(1);
+
+                if ( (LA67_0==PERIOD) ) {
+                    alt67=1;
+                }
+                else if ( (LA67_0==POUND) ) {
+                    alt67=2;
+                }
+
+
+                switch (alt67) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:376:26: dot_proj
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_dot_proj_in_var_expr2644);
+            	    dot_proj259=dot_proj();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, dot_proj259.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:376:37: pound_proj
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_pound_proj_in_var_expr2648);
+            	    pound_proj260=pound_proj();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, pound_proj260.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop67;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "var_expr"
+
+
+    public static class projectable_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "projectable_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:379:1: projectable_expr : ( func_eval | col_ref | bin_expr | case_expr | case_cond );
+    public final AstPrinter.projectable_expr_return projectable_expr() throws RecognitionException {
+        AstPrinter.projectable_expr_return retval = new AstPrinter.projectable_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.func_eval_return func_eval261 =null;
+
+        AstPrinter.col_ref_return col_ref262 =null;
+
+        AstPrinter.bin_expr_return bin_expr263 =null;
+
+        AstPrinter.case_expr_return case_expr264 =null;
+
+        AstPrinter.case_cond_return case_cond265 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:380:5: ( func_eval | col_ref | bin_expr | case_expr | case_cond )
+            int alt68=5;
+            switch ( input.LA(1) ) {
+            case FUNC_EVAL:
+                {
+                alt68=1;
+                }
+                break;
+            case CUBE:
+            case DOLLARVAR:
+            case GROUP:
+            case IDENTIFIER:
+                {
+                alt68=2;
+                }
+                break;
+            case BIN_EXPR:
+                {
+                alt68=3;
+                }
+                break;
+            case CASE_EXPR:
+                {
+                alt68=4;
+                }
+                break;
+            case CASE_COND:
+                {
+                alt68=5;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 68, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt68) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:380:7: func_eval
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_eval_in_projectable_expr2664);
+                    func_eval261=func_eval();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, func_eval261.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:380:19: col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_projectable_expr2668);
+                    col_ref262=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref262.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:380:29: bin_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bin_expr_in_projectable_expr2672);
+                    bin_expr263=bin_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bin_expr263.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:380:40: case_expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_case_expr_in_projectable_expr2676);
+                    case_expr264=case_expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, case_expr264.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:380:52: case_cond
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_case_cond_in_projectable_expr2680);
+                    case_cond265=case_cond();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, case_cond265.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "projectable_expr"
+
+
+    public static class dot_proj_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "dot_proj"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:383:1: dot_proj : ^( PERIOD col_alias_or_index ( col_alias_or_index )* ) ;
+    public final AstPrinter.dot_proj_return dot_proj() throws RecognitionException {
+        AstPrinter.dot_proj_return retval = new AstPrinter.dot_proj_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PERIOD266=null;
+        AstPrinter.col_alias_or_index_return col_alias_or_index267 =null;
+
+        AstPrinter.col_alias_or_index_return col_alias_or_index268 =null;
+
+
+        CommonTree PERIOD266_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:384:5: ( ^( PERIOD col_alias_or_index ( col_alias_or_index )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:384:7: ^( PERIOD col_alias_or_index ( col_alias_or_index )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            PERIOD266=(CommonTree)match(input,PERIOD,FOLLOW_PERIOD_in_dot_proj2695); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            PERIOD266_tree = (CommonTree)adaptor.dupNode(PERIOD266);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(PERIOD266_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(".("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_col_alias_or_index_in_dot_proj2699);
+            col_alias_or_index267=col_alias_or_index();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, col_alias_or_index267.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:384:57: ( col_alias_or_index )*
+            loop69:
+            do {
+                int alt69=2;
+                int LA69_0 = input.LA(1);
+
+                if ( (LA69_0==CUBE||LA69_0==DOLLARVAR||LA69_0==GROUP||LA69_0==IDENTIFIER) ) {
+                    alt69=1;
+                }
+
+
+                switch (alt69) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:384:59: col_alias_or_index
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_col_alias_or_index_in_dot_proj2705);
+            	    col_alias_or_index268=col_alias_or_index();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, col_alias_or_index268.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop69;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "dot_proj"
+
+
+    public static class col_alias_or_index_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_alias_or_index"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:387:1: col_alias_or_index : ( col_alias | col_index );
+    public final AstPrinter.col_alias_or_index_return col_alias_or_index() throws RecognitionException {
+        AstPrinter.col_alias_or_index_return retval = new AstPrinter.col_alias_or_index_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.col_alias_return col_alias269 =null;
+
+        AstPrinter.col_index_return col_index270 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:387:20: ( col_alias | col_index )
+            int alt70=2;
+            int LA70_0 = input.LA(1);
+
+            if ( (LA70_0==CUBE||LA70_0==GROUP||LA70_0==IDENTIFIER) ) {
+                alt70=1;
+            }
+            else if ( (LA70_0==DOLLARVAR) ) {
+                alt70=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 70, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt70) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:387:22: col_alias
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_alias_in_col_alias_or_index2721);
+                    col_alias269=col_alias();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_alias269.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:387:34: col_index
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_index_in_col_alias_or_index2725);
+                    col_index270=col_index();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_index270.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_alias_or_index"
+
+
+    public static class col_alias_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_alias"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:390:1: col_alias : ( GROUP | CUBE | IDENTIFIER );
+    public final AstPrinter.col_alias_return col_alias() throws RecognitionException {
+        AstPrinter.col_alias_return retval = new AstPrinter.col_alias_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree GROUP271=null;
+        CommonTree CUBE272=null;
+        CommonTree IDENTIFIER273=null;
+
+        CommonTree GROUP271_tree=null;
+        CommonTree CUBE272_tree=null;
+        CommonTree IDENTIFIER273_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:391:5: ( GROUP | CUBE | IDENTIFIER )
+            int alt71=3;
+            switch ( input.LA(1) ) {
+            case GROUP:
+                {
+                alt71=1;
+                }
+                break;
+            case CUBE:
+                {
+                alt71=2;
+                }
+                break;
+            case IDENTIFIER:
+                {
+                alt71=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 71, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt71) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:391:7: GROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GROUP271=(CommonTree)match(input,GROUP,FOLLOW_GROUP_in_col_alias2738); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GROUP271_tree = (CommonTree)adaptor.dupNode(GROUP271);
+
+
+                    adaptor.addChild(root_0, GROUP271_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((GROUP271!=null?GROUP271.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:392:7: CUBE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CUBE272=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_col_alias2748); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CUBE272_tree = (CommonTree)adaptor.dupNode(CUBE272);
+
+
+                    adaptor.addChild(root_0, CUBE272_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CUBE272!=null?CUBE272.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:393:7: IDENTIFIER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER273=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_col_alias2758); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER273_tree = (CommonTree)adaptor.dupNode(IDENTIFIER273);
+
+
+                    adaptor.addChild(root_0, IDENTIFIER273_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER273!=null?IDENTIFIER273.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_alias"
+
+
+    public static class col_index_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_index"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:396:1: col_index : DOLLARVAR ;
+    public final AstPrinter.col_index_return col_index() throws RecognitionException {
+        AstPrinter.col_index_return retval = new AstPrinter.col_index_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DOLLARVAR274=null;
+
+        CommonTree DOLLARVAR274_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:397:5: ( DOLLARVAR )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:397:7: DOLLARVAR
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            DOLLARVAR274=(CommonTree)match(input,DOLLARVAR,FOLLOW_DOLLARVAR_in_col_index2773); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DOLLARVAR274_tree = (CommonTree)adaptor.dupNode(DOLLARVAR274);
+
+
+            adaptor.addChild(root_0, DOLLARVAR274_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((DOLLARVAR274!=null?DOLLARVAR274.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_index"
+
+
+    public static class col_range_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_range"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:1: col_range : ^( COL_RANGE ( col_ref )? DOUBLE_PERIOD ( col_ref )? ) ;
+    public final AstPrinter.col_range_return col_range() throws RecognitionException {
+        AstPrinter.col_range_return retval = new AstPrinter.col_range_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree COL_RANGE275=null;
+        CommonTree DOUBLE_PERIOD277=null;
+        AstPrinter.col_ref_return col_ref276 =null;
+
+        AstPrinter.col_ref_return col_ref278 =null;
+
+
+        CommonTree COL_RANGE275_tree=null;
+        CommonTree DOUBLE_PERIOD277_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:11: ( ^( COL_RANGE ( col_ref )? DOUBLE_PERIOD ( col_ref )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:14: ^( COL_RANGE ( col_ref )? DOUBLE_PERIOD ( col_ref )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            COL_RANGE275=(CommonTree)match(input,COL_RANGE,FOLLOW_COL_RANGE_in_col_range2786); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            COL_RANGE275_tree = (CommonTree)adaptor.dupNode(COL_RANGE275);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(COL_RANGE275_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:26: ( col_ref )?
+            int alt72=2;
+            int LA72_0 = input.LA(1);
+
+            if ( (LA72_0==CUBE||LA72_0==DOLLARVAR||LA72_0==GROUP||LA72_0==IDENTIFIER) ) {
+                alt72=1;
+            }
+            switch (alt72) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:26: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_col_range2788);
+                    col_ref276=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, col_ref276.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(".."); }
+
+            _last = (CommonTree)input.LT(1);
+            DOUBLE_PERIOD277=(CommonTree)match(input,DOUBLE_PERIOD,FOLLOW_DOUBLE_PERIOD_in_col_range2793); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DOUBLE_PERIOD277_tree = (CommonTree)adaptor.dupNode(DOUBLE_PERIOD277);
+
+
+            adaptor.addChild(root_1, DOUBLE_PERIOD277_tree);
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:70: ( col_ref )?
+            int alt73=2;
+            int LA73_0 = input.LA(1);
+
+            if ( (LA73_0==CUBE||LA73_0==DOLLARVAR||LA73_0==GROUP||LA73_0==IDENTIFIER) ) {
+                alt73=1;
+            }
+            switch (alt73) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:400:70: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_col_range2795);
+                    col_ref278=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, col_ref278.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_range"
+
+
+    public static class pound_proj_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "pound_proj"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:403:1: pound_proj : ^( POUND ( QUOTEDSTRING | NULL ) ) ;
+    public final AstPrinter.pound_proj_return pound_proj() throws RecognitionException {
+        AstPrinter.pound_proj_return retval = new AstPrinter.pound_proj_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree POUND279=null;
+        CommonTree QUOTEDSTRING280=null;
+        CommonTree NULL281=null;
+
+        CommonTree POUND279_tree=null;
+        CommonTree QUOTEDSTRING280_tree=null;
+        CommonTree NULL281_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:404:5: ( ^( POUND ( QUOTEDSTRING | NULL ) ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:404:7: ^( POUND ( QUOTEDSTRING | NULL ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            POUND279=(CommonTree)match(input,POUND,FOLLOW_POUND_in_pound_proj2812); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            POUND279_tree = (CommonTree)adaptor.dupNode(POUND279);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(POUND279_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((POUND279!=null?POUND279.getText():null)); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:405:9: ( QUOTEDSTRING | NULL )
+            int alt74=2;
+            int LA74_0 = input.LA(1);
+
+            if ( (LA74_0==QUOTEDSTRING) ) {
+                alt74=1;
+            }
+            else if ( (LA74_0==NULL) ) {
+                alt74=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 74, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt74) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:405:11: QUOTEDSTRING
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING280=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_pound_proj2826); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING280_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING280);
+
+
+                    adaptor.addChild(root_1, QUOTEDSTRING280_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING280!=null?QUOTEDSTRING280.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:405:61: NULL
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    NULL281=(CommonTree)match(input,NULL,FOLLOW_NULL_in_pound_proj2832); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL281_tree = (CommonTree)adaptor.dupNode(NULL281);
+
+
+                    adaptor.addChild(root_1, NULL281_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((NULL281!=null?NULL281.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "pound_proj"
+
+
+    public static class bin_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bin_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:408:1: bin_expr : ^( BIN_EXPR cond expr expr ) ;
+    public final AstPrinter.bin_expr_return bin_expr() throws RecognitionException {
+        AstPrinter.bin_expr_return retval = new AstPrinter.bin_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BIN_EXPR282=null;
+        AstPrinter.cond_return cond283 =null;
+
+        AstPrinter.expr_return expr284 =null;
+
+        AstPrinter.expr_return expr285 =null;
+
+
+        CommonTree BIN_EXPR282_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:409:5: ( ^( BIN_EXPR cond expr expr ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:409:7: ^( BIN_EXPR cond expr expr )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BIN_EXPR282=(CommonTree)match(input,BIN_EXPR,FOLLOW_BIN_EXPR_in_bin_expr2853); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BIN_EXPR282_tree = (CommonTree)adaptor.dupNode(BIN_EXPR282);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BIN_EXPR282_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_bin_expr2857);
+            cond283=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond283.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" ? "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_bin_expr2861);
+            expr284=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, expr284.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" : "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_bin_expr2865);
+            expr285=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, expr285.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(") "); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bin_expr"
+
+
+    public static class case_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "case_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:412:1: case_expr : ^( CASE_EXPR ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ ) ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )* ) ;
+    public final AstPrinter.case_expr_return case_expr() throws RecognitionException {
+        AstPrinter.case_expr_return retval = new AstPrinter.case_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CASE_EXPR286=null;
+        CommonTree CASE_EXPR_LHS287=null;
+        CommonTree CASE_EXPR_RHS289=null;
+        CommonTree CASE_EXPR_LHS291=null;
+        CommonTree CASE_EXPR_RHS293=null;
+        AstPrinter.expr_return expr288 =null;
+
+        AstPrinter.expr_return expr290 =null;
+
+        AstPrinter.expr_return expr292 =null;
+
+        AstPrinter.expr_return expr294 =null;
+
+
+        CommonTree CASE_EXPR286_tree=null;
+        CommonTree CASE_EXPR_LHS287_tree=null;
+        CommonTree CASE_EXPR_RHS289_tree=null;
+        CommonTree CASE_EXPR_LHS291_tree=null;
+        CommonTree CASE_EXPR_RHS293_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:413:5: ( ^( CASE_EXPR ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ ) ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:413:7: ^( CASE_EXPR ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ ) ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CASE_EXPR286=(CommonTree)match(input,CASE_EXPR,FOLLOW_CASE_EXPR_in_case_expr2884); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CASE_EXPR286_tree = (CommonTree)adaptor.dupNode(CASE_EXPR286);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CASE_EXPR286_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" CASE ("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:414:10: ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:414:12: ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+
+            {
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CASE_EXPR_LHS287=(CommonTree)match(input,CASE_EXPR_LHS,FOLLOW_CASE_EXPR_LHS_in_case_expr2901); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CASE_EXPR_LHS287_tree = (CommonTree)adaptor.dupNode(CASE_EXPR_LHS287);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(CASE_EXPR_LHS287_tree, root_2);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_case_expr2903);
+            expr288=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_2, expr288.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:414:36: ( ^( CASE_EXPR_RHS expr ) )+
+            int cnt75=0;
+            loop75:
+            do {
+                int alt75=2;
+                int LA75_0 = input.LA(1);
+
+                if ( (LA75_0==CASE_EXPR_RHS) ) {
+                    alt75=1;
+                }
+
+
+                switch (alt75) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:414:38: ^( CASE_EXPR_RHS expr )
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    CASE_EXPR_RHS289=(CommonTree)match(input,CASE_EXPR_RHS,FOLLOW_CASE_EXPR_RHS_in_case_expr2911); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    CASE_EXPR_RHS289_tree = (CommonTree)adaptor.dupNode(CASE_EXPR_RHS289);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(CASE_EXPR_RHS289_tree, root_2);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_case_expr2915);
+            	    expr290=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr290.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt75 >= 1 ) break loop75;
+            	    if (state.backtracking>0) {state.failed=true; return retval;}
+                        EarlyExitException eee =
+                            new EarlyExitException(75, input);
+                        throw eee;
+                }
+                cnt75++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:415:10: ( ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+ )*
+            loop77:
+            do {
+                int alt77=2;
+                int LA77_0 = input.LA(1);
+
+                if ( (LA77_0==CASE_EXPR_LHS) ) {
+                    alt77=1;
+                }
+
+
+                switch (alt77) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:415:12: ^( CASE_EXPR_LHS expr ) ( ^( CASE_EXPR_RHS expr ) )+
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    {
+            	    CommonTree _save_last_2 = _last;
+            	    CommonTree _first_2 = null;
+            	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    _last = (CommonTree)input.LT(1);
+            	    CASE_EXPR_LHS291=(CommonTree)match(input,CASE_EXPR_LHS,FOLLOW_CASE_EXPR_LHS_in_case_expr2937); if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) {
+            	    CASE_EXPR_LHS291_tree = (CommonTree)adaptor.dupNode(CASE_EXPR_LHS291);
+
+
+            	    root_2 = (CommonTree)adaptor.becomeRoot(CASE_EXPR_LHS291_tree, root_2);
+            	    }
+
+
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_case_expr2941);
+            	    expr292=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr292.getTree());
+
+
+            	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    adaptor.addChild(root_1, root_2);
+            	    _last = _save_last_2;
+            	    }
+
+
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:415:57: ( ^( CASE_EXPR_RHS expr ) )+
+            	    int cnt76=0;
+            	    loop76:
+            	    do {
+            	        int alt76=2;
+            	        int LA76_0 = input.LA(1);
+
+            	        if ( (LA76_0==CASE_EXPR_RHS) ) {
+            	            alt76=1;
+            	        }
+
+
+            	        switch (alt76) {
+            	    	case 1 :
+            	    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:415:59: ^( CASE_EXPR_RHS expr )
+            	    	    {
+            	    	    _last = (CommonTree)input.LT(1);
+            	    	    {
+            	    	    CommonTree _save_last_2 = _last;
+            	    	    CommonTree _first_2 = null;
+            	    	    CommonTree root_2 = (CommonTree)adaptor.nil();
+            	    	    _last = (CommonTree)input.LT(1);
+            	    	    CASE_EXPR_RHS293=(CommonTree)match(input,CASE_EXPR_RHS,FOLLOW_CASE_EXPR_RHS_in_case_expr2949); if (state.failed) return retval;
+            	    	    if ( state.backtracking==0 ) {
+            	    	    CASE_EXPR_RHS293_tree = (CommonTree)adaptor.dupNode(CASE_EXPR_RHS293);
+
+
+            	    	    root_2 = (CommonTree)adaptor.becomeRoot(CASE_EXPR_RHS293_tree, root_2);
+            	    	    }
+
+
+            	    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    	    match(input, Token.DOWN, null); if (state.failed) return retval;
+            	    	    _last = (CommonTree)input.LT(1);
+            	    	    pushFollow(FOLLOW_expr_in_case_expr2953);
+            	    	    expr294=expr();
+
+            	    	    state._fsp--;
+            	    	    if (state.failed) return retval;
+            	    	    if ( state.backtracking==0 ) 
+            	    	    adaptor.addChild(root_2, expr294.getTree());
+
+
+            	    	    match(input, Token.UP, null); if (state.failed) return retval;
+            	    	    adaptor.addChild(root_1, root_2);
+            	    	    _last = _save_last_2;
+            	    	    }
+
+
+            	    	    if ( state.backtracking==0 ) {
+            	    	    }
+            	    	    }
+            	    	    break;
+
+            	    	default :
+            	    	    if ( cnt76 >= 1 ) break loop76;
+            	    	    if (state.backtracking>0) {state.failed=true; return retval;}
+            	                EarlyExitException eee =
+            	                    new EarlyExitException(76, input);
+            	                throw eee;
+            	        }
+            	        cnt76++;
+            	    } while (true);
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop77;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "case_expr"
+
+
+    public static class case_cond_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "case_cond"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:418:1: case_cond : ^( CASE_COND ^( WHEN cond ( cond )* ) ^( THEN expr ( expr )* ) ) ;
+    public final AstPrinter.case_cond_return case_cond() throws RecognitionException {
+        AstPrinter.case_cond_return retval = new AstPrinter.case_cond_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CASE_COND295=null;
+        CommonTree WHEN296=null;
+        CommonTree THEN299=null;
+        AstPrinter.cond_return cond297 =null;
+
+        AstPrinter.cond_return cond298 =null;
+
+        AstPrinter.expr_return expr300 =null;
+
+        AstPrinter.expr_return expr301 =null;
+
+
+        CommonTree CASE_COND295_tree=null;
+        CommonTree WHEN296_tree=null;
+        CommonTree THEN299_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:419:5: ( ^( CASE_COND ^( WHEN cond ( cond )* ) ^( THEN expr ( expr )* ) ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:419:7: ^( CASE_COND ^( WHEN cond ( cond )* ) ^( THEN expr ( expr )* ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CASE_COND295=(CommonTree)match(input,CASE_COND,FOLLOW_CASE_COND_in_case_cond2980); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CASE_COND295_tree = (CommonTree)adaptor.dupNode(CASE_COND295);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CASE_COND295_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" CASE ("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            WHEN296=(CommonTree)match(input,WHEN,FOLLOW_WHEN_in_case_cond2994); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            WHEN296_tree = (CommonTree)adaptor.dupNode(WHEN296);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(WHEN296_tree, root_2);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_case_cond2996);
+            cond297=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_2, cond297.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:420:22: ( cond )*
+            loop78:
+            do {
+                int alt78=2;
+                int LA78_0 = input.LA(1);
+
+                if ( (LA78_0==AND||LA78_0==IN||(LA78_0 >= NOT && LA78_0 <= NUM_OP_NE)||LA78_0==OR||(LA78_0 >= STR_OP_EQ && LA78_0 <= STR_OP_NE)||LA78_0==BOOL_COND||LA78_0==FUNC_EVAL) ) {
+                    alt78=1;
+                }
+
+
+                switch (alt78) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:420:24: cond
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_cond_in_case_cond3002);
+            	    cond298=cond();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, cond298.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop78;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(", "); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_2 = _last;
+            CommonTree _first_2 = null;
+            CommonTree root_2 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            THEN299=(CommonTree)match(input,THEN,FOLLOW_THEN_in_case_cond3021); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            THEN299_tree = (CommonTree)adaptor.dupNode(THEN299);
+
+
+            root_2 = (CommonTree)adaptor.becomeRoot(THEN299_tree, root_2);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_expr_in_case_cond3023);
+            expr300=expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_2, expr300.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:421:22: ( expr )*
+            loop79:
+            do {
+                int alt79=2;
+                int LA79_0 = input.LA(1);
+
+                if ( (LA79_0==BIGDECIMALNUMBER||LA79_0==BIGINTEGERNUMBER||LA79_0==CUBE||LA79_0==DIV||LA79_0==DOLLARVAR||LA79_0==DOUBLENUMBER||LA79_0==FALSE||LA79_0==FLOATNUMBER||LA79_0==GROUP||LA79_0==IDENTIFIER||LA79_0==INTEGER||LA79_0==LONGINTEGER||LA79_0==MINUS||LA79_0==NULL||LA79_0==PERCENT||LA79_0==PLUS||LA79_0==QUOTEDSTRING||LA79_0==STAR||LA79_0==TRUE||(LA79_0 >= BAG_VAL && LA79_0 <= BIN_EXPR)||(LA79_0 >= CASE_COND && LA79_0 <= CASE_EXPR)||LA79_0==CAST_EXPR||LA79_0==EXPR_IN_PAREN||LA79_0==FUNC_EVAL||(LA79_0 >= MAP_VAL && LA79_0 <= NEG)||LA79_0==TUPLE_VAL) ) {
+                    alt79=1;
+                }
+
+
+                switch (alt79) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:421:24: expr
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_expr_in_case_cond3029);
+            	    expr301=expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_2, expr301.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop79;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(") "); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_1, root_2);
+            _last = _save_last_2;
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "case_cond"
+
+
+    public static class limit_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "limit_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:424:1: limit_clause : ^( LIMIT rel ( INTEGER | LONGINTEGER | expr ) ) ;
+    public final AstPrinter.limit_clause_return limit_clause() throws RecognitionException {
+        AstPrinter.limit_clause_return retval = new AstPrinter.limit_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LIMIT302=null;
+        CommonTree INTEGER304=null;
+        CommonTree LONGINTEGER305=null;
+        AstPrinter.rel_return rel303 =null;
+
+        AstPrinter.expr_return expr306 =null;
+
+
+        CommonTree LIMIT302_tree=null;
+        CommonTree INTEGER304_tree=null;
+        CommonTree LONGINTEGER305_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:425:5: ( ^( LIMIT rel ( INTEGER | LONGINTEGER | expr ) ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:425:7: ^( LIMIT rel ( INTEGER | LONGINTEGER | expr ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            LIMIT302=(CommonTree)match(input,LIMIT,FOLLOW_LIMIT_in_limit_clause3053); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            LIMIT302_tree = (CommonTree)adaptor.dupNode(LIMIT302);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(LIMIT302_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((LIMIT302!=null?LIMIT302.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_limit_clause3057);
+            rel303=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel303.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:9: ( INTEGER | LONGINTEGER | expr )
+            int alt80=3;
+            switch ( input.LA(1) ) {
+            case INTEGER:
+                {
+                int LA80_1 = input.LA(2);
+
+                if ( (synpred144_AstPrinter()) ) {
+                    alt80=1;
+                }
+                else if ( (true) ) {
+                    alt80=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 80, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case LONGINTEGER:
+                {
+                int LA80_2 = input.LA(2);
+
+                if ( (synpred145_AstPrinter()) ) {
+                    alt80=2;
+                }
+                else if ( (true) ) {
+                    alt80=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 80, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case STAR:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt80=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 80, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt80) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:11: INTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    INTEGER304=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_limit_clause3069); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTEGER304_tree = (CommonTree)adaptor.dupNode(INTEGER304);
+
+
+                    adaptor.addChild(root_1, INTEGER304_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((INTEGER304!=null?INTEGER304.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:63: LONGINTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    LONGINTEGER305=(CommonTree)match(input,LONGINTEGER,FOLLOW_LONGINTEGER_in_limit_clause3075); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LONGINTEGER305_tree = (CommonTree)adaptor.dupNode(LONGINTEGER305);
+
+
+                    adaptor.addChild(root_1, LONGINTEGER305_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((LONGINTEGER305!=null?LONGINTEGER305.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:123: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_limit_clause3081);
+                    expr306=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr306.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "limit_clause"
+
+
+    public static class sample_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "sample_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:429:1: sample_clause : ^( SAMPLE rel ( DOUBLENUMBER | expr ) ) ;
+    public final AstPrinter.sample_clause_return sample_clause() throws RecognitionException {
+        AstPrinter.sample_clause_return retval = new AstPrinter.sample_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SAMPLE307=null;
+        CommonTree DOUBLENUMBER309=null;
+        AstPrinter.rel_return rel308 =null;
+
+        AstPrinter.expr_return expr310 =null;
+
+
+        CommonTree SAMPLE307_tree=null;
+        CommonTree DOUBLENUMBER309_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:5: ( ^( SAMPLE rel ( DOUBLENUMBER | expr ) ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:7: ^( SAMPLE rel ( DOUBLENUMBER | expr ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SAMPLE307=(CommonTree)match(input,SAMPLE,FOLLOW_SAMPLE_in_sample_clause3100); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SAMPLE307_tree = (CommonTree)adaptor.dupNode(SAMPLE307);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SAMPLE307_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((SAMPLE307!=null?SAMPLE307.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_sample_clause3104);
+            rel308=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel308.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:62: ( DOUBLENUMBER | expr )
+            int alt81=2;
+            int LA81_0 = input.LA(1);
+
+            if ( (LA81_0==DOUBLENUMBER) ) {
+                int LA81_1 = input.LA(2);
+
+                if ( (synpred146_AstPrinter()) ) {
+                    alt81=1;
+                }
+                else if ( (true) ) {
+                    alt81=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 81, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA81_0==BIGDECIMALNUMBER||LA81_0==BIGINTEGERNUMBER||LA81_0==CUBE||LA81_0==DIV||LA81_0==DOLLARVAR||LA81_0==FALSE||LA81_0==FLOATNUMBER||LA81_0==GROUP||LA81_0==IDENTIFIER||LA81_0==INTEGER||LA81_0==LONGINTEGER||LA81_0==MINUS||LA81_0==NULL||LA81_0==PERCENT||LA81_0==PLUS||LA81_0==QUOTEDSTRING||LA81_0==STAR||LA81_0==TRUE||(LA81_0 >= BAG_VAL && LA81_0 <= BIN_EXPR)||(LA81_0 >= CASE_COND && LA81_0 <= CASE_EXPR)||LA81_0==CAST_EXPR||LA81_0==EXPR_IN_PAREN||LA81_0==FUNC_EVAL||(LA81_0 >= MAP_VAL && LA81_0 <= NEG)||LA81_0==TUPLE_VAL) ) {
+                alt81=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 81, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt81) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:64: DOUBLENUMBER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DOUBLENUMBER309=(CommonTree)match(input,DOUBLENUMBER,FOLLOW_DOUBLENUMBER_in_sample_clause3108); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DOUBLENUMBER309_tree = (CommonTree)adaptor.dupNode(DOUBLENUMBER309);
+
+
+                    adaptor.addChild(root_1, DOUBLENUMBER309_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((DOUBLENUMBER309!=null?DOUBLENUMBER309.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:126: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_sample_clause3114);
+                    expr310=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr310.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "sample_clause"
+
+
+    public static class rank_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:433:1: rank_clause : ^( RANK rel ( rank_by_statement )? ) ;
+    public final AstPrinter.rank_clause_return rank_clause() throws RecognitionException {
+        AstPrinter.rank_clause_return retval = new AstPrinter.rank_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree RANK311=null;
+        AstPrinter.rel_return rel312 =null;
+
+        AstPrinter.rank_by_statement_return rank_by_statement313 =null;
+
+
+        CommonTree RANK311_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:434:5: ( ^( RANK rel ( rank_by_statement )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:434:7: ^( RANK rel ( rank_by_statement )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            RANK311=(CommonTree)match(input,RANK,FOLLOW_RANK_in_rank_clause3133); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            RANK311_tree = (CommonTree)adaptor.dupNode(RANK311);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(RANK311_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((RANK311!=null?RANK311.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_rank_clause3137);
+            rel312=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel312.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:434:58: ( rank_by_statement )?
+            int alt82=2;
+            int LA82_0 = input.LA(1);
+
+            if ( (LA82_0==BY) ) {
+                alt82=1;
+            }
+            switch (alt82) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:434:60: rank_by_statement
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rank_by_statement_in_rank_clause3141);
+                    rank_by_statement313=rank_by_statement();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, rank_by_statement313.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_clause"
+
+
+    public static class rank_by_statement_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_by_statement"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:437:1: rank_by_statement : ^( BY rank_by_clause ( DENSE )? ) ;
+    public final AstPrinter.rank_by_statement_return rank_by_statement() throws RecognitionException {
+        AstPrinter.rank_by_statement_return retval = new AstPrinter.rank_by_statement_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BY314=null;
+        CommonTree DENSE316=null;
+        AstPrinter.rank_by_clause_return rank_by_clause315 =null;
+
+
+        CommonTree BY314_tree=null;
+        CommonTree DENSE316_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:438:2: ( ^( BY rank_by_clause ( DENSE )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:438:4: ^( BY rank_by_clause ( DENSE )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BY314=(CommonTree)match(input,BY,FOLLOW_BY_in_rank_by_statement3158); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BY314_tree = (CommonTree)adaptor.dupNode(BY314);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BY314_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((BY314!=null?BY314.getText():null)); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rank_by_clause_in_rank_by_statement3162);
+            rank_by_clause315=rank_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rank_by_clause315.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:438:62: ( DENSE )?
+            int alt83=2;
+            int LA83_0 = input.LA(1);
+
+            if ( (LA83_0==DENSE) ) {
+                alt83=1;
+            }
+            switch (alt83) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:438:64: DENSE
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DENSE316=(CommonTree)match(input,DENSE,FOLLOW_DENSE_in_rank_by_statement3166); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DENSE316_tree = (CommonTree)adaptor.dupNode(DENSE316);
+
+
+                    adaptor.addChild(root_1, DENSE316_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((DENSE316!=null?DENSE316.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_by_statement"
+
+
+    public static class rank_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_by_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:441:1: rank_by_clause : ( STAR ( ASC | DESC )? | rank_col ( rank_col )* );
+    public final AstPrinter.rank_by_clause_return rank_by_clause() throws RecognitionException {
+        AstPrinter.rank_by_clause_return retval = new AstPrinter.rank_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR317=null;
+        CommonTree ASC318=null;
+        CommonTree DESC319=null;
+        AstPrinter.rank_col_return rank_col320 =null;
+
+        AstPrinter.rank_col_return rank_col321 =null;
+
+
+        CommonTree STAR317_tree=null;
+        CommonTree ASC318_tree=null;
+        CommonTree DESC319_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:442:2: ( STAR ( ASC | DESC )? | rank_col ( rank_col )* )
+            int alt86=2;
+            int LA86_0 = input.LA(1);
+
+            if ( (LA86_0==STAR) ) {
+                alt86=1;
+            }
+            else if ( (LA86_0==CUBE||LA86_0==DOLLARVAR||LA86_0==GROUP||LA86_0==IDENTIFIER||LA86_0==COL_RANGE) ) {
+                alt86=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 86, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt86) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:442:4: STAR ( ASC | DESC )?
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR317=(CommonTree)match(input,STAR,FOLLOW_STAR_in_rank_by_clause3183); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR317_tree = (CommonTree)adaptor.dupNode(STAR317);
+
+
+                    adaptor.addChild(root_0, STAR317_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STAR317!=null?STAR317.getText():null)); }
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:442:36: ( ASC | DESC )?
+                    int alt84=3;
+                    int LA84_0 = input.LA(1);
+
+                    if ( (LA84_0==ASC) ) {
+                        alt84=1;
+                    }
+                    else if ( (LA84_0==DESC) ) {
+                        alt84=2;
+                    }
+                    switch (alt84) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:442:38: ASC
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            ASC318=(CommonTree)match(input,ASC,FOLLOW_ASC_in_rank_by_clause3189); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            ASC318_tree = (CommonTree)adaptor.dupNode(ASC318);
+
+
+                            adaptor.addChild(root_0, ASC318_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((ASC318!=null?ASC318.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:442:82: DESC
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            DESC319=(CommonTree)match(input,DESC,FOLLOW_DESC_in_rank_by_clause3195); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            DESC319_tree = (CommonTree)adaptor.dupNode(DESC319);
+
+
+                            adaptor.addChild(root_0, DESC319_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((DESC319!=null?DESC319.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:443:7: rank_col ( rank_col )*
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rank_col_in_rank_by_clause3208);
+                    rank_col320=rank_col();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rank_col320.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:443:16: ( rank_col )*
+                    loop85:
+                    do {
+                        int alt85=2;
+                        int LA85_0 = input.LA(1);
+
+                        if ( (LA85_0==CUBE||LA85_0==DOLLARVAR||LA85_0==GROUP||LA85_0==IDENTIFIER||LA85_0==COL_RANGE) ) {
+                            alt85=1;
+                        }
+
+
+                        switch (alt85) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:443:18: rank_col
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_rank_col_in_rank_by_clause3214);
+                    	    rank_col321=rank_col();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, rank_col321.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop85;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_by_clause"
+
+
+    public static class rank_col_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rank_col"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:446:1: rank_col : ( col_range | col_ref ) ( ASC | DESC )? ;
+    public final AstPrinter.rank_col_return rank_col() throws RecognitionException {
+        AstPrinter.rank_col_return retval = new AstPrinter.rank_col_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ASC324=null;
+        CommonTree DESC325=null;
+        AstPrinter.col_range_return col_range322 =null;
+
+        AstPrinter.col_ref_return col_ref323 =null;
+
+
+        CommonTree ASC324_tree=null;
+        CommonTree DESC325_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:2: ( ( col_range | col_ref ) ( ASC | DESC )? )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:4: ( col_range | col_ref ) ( ASC | DESC )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:4: ( col_range | col_ref )
+            int alt87=2;
+            int LA87_0 = input.LA(1);
+
+            if ( (LA87_0==COL_RANGE) ) {
+                alt87=1;
+            }
+            else if ( (LA87_0==CUBE||LA87_0==DOLLARVAR||LA87_0==GROUP||LA87_0==IDENTIFIER) ) {
+                alt87=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 87, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt87) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:6: col_range
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_rank_col3229);
+                    col_range322=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range322.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:18: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_rank_col3233);
+                    col_ref323=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref323.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:28: ( ASC | DESC )?
+            int alt88=3;
+            int LA88_0 = input.LA(1);
+
+            if ( (LA88_0==ASC) ) {
+                alt88=1;
+            }
+            else if ( (LA88_0==DESC) ) {
+                alt88=2;
+            }
+            switch (alt88) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:30: ASC
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ASC324=(CommonTree)match(input,ASC,FOLLOW_ASC_in_rank_col3239); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ASC324_tree = (CommonTree)adaptor.dupNode(ASC324);
+
+
+                    adaptor.addChild(root_0, ASC324_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((ASC324!=null?ASC324.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:447:74: DESC
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DESC325=(CommonTree)match(input,DESC,FOLLOW_DESC_in_rank_col3245); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DESC325_tree = (CommonTree)adaptor.dupNode(DESC325);
+
+
+                    adaptor.addChild(root_0, DESC325_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((DESC325!=null?DESC325.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rank_col"
+
+
+    public static class order_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "order_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:450:1: order_clause : ^( ORDER rel order_by_clause ( func_clause )? ) ;
+    public final AstPrinter.order_clause_return order_clause() throws RecognitionException {
+        AstPrinter.order_clause_return retval = new AstPrinter.order_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ORDER326=null;
+        AstPrinter.rel_return rel327 =null;
+
+        AstPrinter.order_by_clause_return order_by_clause328 =null;
+
+        AstPrinter.func_clause_return func_clause329 =null;
+
+
+        CommonTree ORDER326_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:451:5: ( ^( ORDER rel order_by_clause ( func_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:451:7: ^( ORDER rel order_by_clause ( func_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            ORDER326=(CommonTree)match(input,ORDER,FOLLOW_ORDER_in_order_clause3265); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            ORDER326_tree = (CommonTree)adaptor.dupNode(ORDER326);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(ORDER326_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((ORDER326!=null?ORDER326.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_order_clause3269);
+            rel327=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel327.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" BY "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_order_by_clause_in_order_clause3281);
+            order_by_clause328=order_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, order_by_clause328.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:453:9: ( func_clause )?
+            int alt89=2;
+            int LA89_0 = input.LA(1);
+
+            if ( (LA89_0==FUNC||LA89_0==FUNC_REF) ) {
+                alt89=1;
+            }
+            switch (alt89) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:453:11: func_clause
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" USING "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_order_clause3295);
+                    func_clause329=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause329.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "order_clause"
+
+
+    public static class order_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "order_by_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:456:1: order_by_clause : ( STAR ( ASC | DESC )? | order_col ( order_col )* );
+    public final AstPrinter.order_by_clause_return order_by_clause() throws RecognitionException {
+        AstPrinter.order_by_clause_return retval = new AstPrinter.order_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR330=null;
+        CommonTree ASC331=null;
+        CommonTree DESC332=null;
+        AstPrinter.order_col_return order_col333 =null;
+
+        AstPrinter.order_col_return order_col334 =null;
+
+
+        CommonTree STAR330_tree=null;
+        CommonTree ASC331_tree=null;
+        CommonTree DESC332_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:457:5: ( STAR ( ASC | DESC )? | order_col ( order_col )* )
+            int alt92=2;
+            int LA92_0 = input.LA(1);
+
+            if ( (LA92_0==STAR) ) {
+                alt92=1;
+            }
+            else if ( (LA92_0==CUBE||LA92_0==DOLLARVAR||LA92_0==GROUP||LA92_0==IDENTIFIER||LA92_0==COL_RANGE) ) {
+                alt92=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 92, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt92) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:457:7: STAR ( ASC | DESC )?
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR330=(CommonTree)match(input,STAR,FOLLOW_STAR_in_order_by_clause3313); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR330_tree = (CommonTree)adaptor.dupNode(STAR330);
+
+
+                    adaptor.addChild(root_0, STAR330_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STAR330!=null?STAR330.getText():null)); }
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:457:39: ( ASC | DESC )?
+                    int alt90=3;
+                    int LA90_0 = input.LA(1);
+
+                    if ( (LA90_0==ASC) ) {
+                        alt90=1;
+                    }
+                    else if ( (LA90_0==DESC) ) {
+                        alt90=2;
+                    }
+                    switch (alt90) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:457:41: ASC
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            ASC331=(CommonTree)match(input,ASC,FOLLOW_ASC_in_order_by_clause3319); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            ASC331_tree = (CommonTree)adaptor.dupNode(ASC331);
+
+
+                            adaptor.addChild(root_0, ASC331_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((ASC331!=null?ASC331.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:457:85: DESC
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            DESC332=(CommonTree)match(input,DESC,FOLLOW_DESC_in_order_by_clause3325); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            DESC332_tree = (CommonTree)adaptor.dupNode(DESC332);
+
+
+                            adaptor.addChild(root_0, DESC332_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((DESC332!=null?DESC332.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:458:7: order_col ( order_col )*
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_order_col_in_order_by_clause3338);
+                    order_col333=order_col();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, order_col333.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:458:17: ( order_col )*
+                    loop91:
+                    do {
+                        int alt91=2;
+                        int LA91_0 = input.LA(1);
+
+                        if ( (LA91_0==CUBE||LA91_0==DOLLARVAR||LA91_0==GROUP||LA91_0==IDENTIFIER||LA91_0==COL_RANGE) ) {
+                            alt91=1;
+                        }
+
+
+                        switch (alt91) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:458:19: order_col
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_order_col_in_order_by_clause3344);
+                    	    order_col334=order_col();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, order_col334.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop91;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "order_by_clause"
+
+
+    public static class order_col_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "order_col"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:461:1: order_col : ( col_range | col_ref ) ( ASC | DESC )? ;
+    public final AstPrinter.order_col_return order_col() throws RecognitionException {
+        AstPrinter.order_col_return retval = new AstPrinter.order_col_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ASC337=null;
+        CommonTree DESC338=null;
+        AstPrinter.col_range_return col_range335 =null;
+
+        AstPrinter.col_ref_return col_ref336 =null;
+
+
+        CommonTree ASC337_tree=null;
+        CommonTree DESC338_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:5: ( ( col_range | col_ref ) ( ASC | DESC )? )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:7: ( col_range | col_ref ) ( ASC | DESC )?
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:7: ( col_range | col_ref )
+            int alt93=2;
+            int LA93_0 = input.LA(1);
+
+            if ( (LA93_0==COL_RANGE) ) {
+                alt93=1;
+            }
+            else if ( (LA93_0==CUBE||LA93_0==DOLLARVAR||LA93_0==GROUP||LA93_0==IDENTIFIER) ) {
+                alt93=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 93, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt93) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:8: col_range
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_order_col3360);
+                    col_range335=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range335.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:20: col_ref
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_order_col3364);
+                    col_ref336=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref336.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:29: ( ASC | DESC )?
+            int alt94=3;
+            int LA94_0 = input.LA(1);
+
+            if ( (LA94_0==ASC) ) {
+                alt94=1;
+            }
+            else if ( (LA94_0==DESC) ) {
+                alt94=2;
+            }
+            switch (alt94) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:31: ASC
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ASC337=(CommonTree)match(input,ASC,FOLLOW_ASC_in_order_col3369); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ASC337_tree = (CommonTree)adaptor.dupNode(ASC337);
+
+
+                    adaptor.addChild(root_0, ASC337_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((ASC337!=null?ASC337.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:462:75: DESC
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DESC338=(CommonTree)match(input,DESC,FOLLOW_DESC_in_order_col3375); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DESC338_tree = (CommonTree)adaptor.dupNode(DESC338);
+
+
+                    adaptor.addChild(root_0, DESC338_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((DESC338!=null?DESC338.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "order_col"
+
+
+    public static class distinct_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "distinct_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:465:1: distinct_clause : ^( DISTINCT rel ( partition_clause )? ) ;
+    public final AstPrinter.distinct_clause_return distinct_clause() throws RecognitionException {
+        AstPrinter.distinct_clause_return retval = new AstPrinter.distinct_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DISTINCT339=null;
+        AstPrinter.rel_return rel340 =null;
+
+        AstPrinter.partition_clause_return partition_clause341 =null;
+
+
+        CommonTree DISTINCT339_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:466:5: ( ^( DISTINCT rel ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:466:7: ^( DISTINCT rel ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            DISTINCT339=(CommonTree)match(input,DISTINCT,FOLLOW_DISTINCT_in_distinct_clause3395); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DISTINCT339_tree = (CommonTree)adaptor.dupNode(DISTINCT339);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(DISTINCT339_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((DISTINCT339!=null?DISTINCT339.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_distinct_clause3399);
+            rel340=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel340.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:466:66: ( partition_clause )?
+            int alt95=2;
+            int LA95_0 = input.LA(1);
+
+            if ( (LA95_0==PARTITION) ) {
+                alt95=1;
+            }
+            switch (alt95) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:466:66: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_distinct_clause3401);
+                    partition_clause341=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause341.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "distinct_clause"
+
+
+    public static class partition_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "partition_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:469:1: partition_clause : ^( PARTITION func_name ) ;
+    public final AstPrinter.partition_clause_return partition_clause() throws RecognitionException {
+        AstPrinter.partition_clause_return retval = new AstPrinter.partition_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree PARTITION342=null;
+        AstPrinter.func_name_return func_name343 =null;
+
+
+        CommonTree PARTITION342_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:470:5: ( ^( PARTITION func_name ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:470:7: ^( PARTITION func_name )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            PARTITION342=(CommonTree)match(input,PARTITION,FOLLOW_PARTITION_in_partition_clause3419); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            PARTITION342_tree = (CommonTree)adaptor.dupNode(PARTITION342);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(PARTITION342_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((PARTITION342!=null?PARTITION342.getText():null)).append(" BY "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_func_name_in_partition_clause3423);
+            func_name343=func_name();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, func_name343.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "partition_clause"
+
+
+    public static class cross_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "cross_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:473:1: cross_clause : ^( CROSS rel_list ( partition_clause )? ) ;
+    public final AstPrinter.cross_clause_return cross_clause() throws RecognitionException {
+        AstPrinter.cross_clause_return retval = new AstPrinter.cross_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CROSS344=null;
+        AstPrinter.rel_list_return rel_list345 =null;
+
+        AstPrinter.partition_clause_return partition_clause346 =null;
+
+
+        CommonTree CROSS344_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:474:5: ( ^( CROSS rel_list ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:474:7: ^( CROSS rel_list ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CROSS344=(CommonTree)match(input,CROSS,FOLLOW_CROSS_in_cross_clause3440); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CROSS344_tree = (CommonTree)adaptor.dupNode(CROSS344);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CROSS344_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((CROSS344!=null?CROSS344.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_list_in_cross_clause3444);
+            rel_list345=rel_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel_list345.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:474:65: ( partition_clause )?
+            int alt96=2;
+            int LA96_0 = input.LA(1);
+
+            if ( (LA96_0==PARTITION) ) {
+                alt96=1;
+            }
+            switch (alt96) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:474:65: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_cross_clause3446);
+                    partition_clause346=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause346.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "cross_clause"
+
+
+    public static class rel_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_list"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:477:1: rel_list : rel ( rel )* ;
+    public final AstPrinter.rel_list_return rel_list() throws RecognitionException {
+        AstPrinter.rel_list_return retval = new AstPrinter.rel_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.rel_return rel347 =null;
+
+        AstPrinter.rel_return rel348 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:478:5: ( rel ( rel )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:478:7: rel ( rel )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_rel_list3462);
+            rel347=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, rel347.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:478:11: ( rel )*
+            loop97:
+            do {
+                int alt97=2;
+                int LA97_0 = input.LA(1);
+
+                if ( (LA97_0==ASSERT||LA97_0==COGROUP||(LA97_0 >= CROSS && LA97_0 <= CUBE)||LA97_0==DEFINE||LA97_0==DISTINCT||LA97_0==FILTER||LA97_0==FOREACH||LA97_0==GROUP||LA97_0==IDENTIFIER||LA97_0==JOIN||(LA97_0 >= LIMIT && LA97_0 <= LOAD)||LA97_0==MAPREDUCE||LA97_0==ORDER||LA97_0==RANK||LA97_0==SAMPLE||LA97_0==SPLIT||(LA97_0 >= STORE && LA97_0 <= STREAM)||LA97_0==UNION) ) {
+                    alt97=1;
+                }
+
+
+                switch (alt97) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:478:13: rel
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_rel_in_rel_list3468);
+            	    rel348=rel();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, rel348.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop97;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_list"
+
+
+    public static class join_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:481:1: join_clause : ^( JOIN join_sub_clause ( join_type )? ( partition_clause )? ) ;
+    public final AstPrinter.join_clause_return join_clause() throws RecognitionException {
+        AstPrinter.join_clause_return retval = new AstPrinter.join_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree JOIN349=null;
+        AstPrinter.join_sub_clause_return join_sub_clause350 =null;
+
+        AstPrinter.join_type_return join_type351 =null;
+
+        AstPrinter.partition_clause_return partition_clause352 =null;
+
+
+        CommonTree JOIN349_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:482:5: ( ^( JOIN join_sub_clause ( join_type )? ( partition_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:482:7: ^( JOIN join_sub_clause ( join_type )? ( partition_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            JOIN349=(CommonTree)match(input,JOIN,FOLLOW_JOIN_in_join_clause3485); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            JOIN349_tree = (CommonTree)adaptor.dupNode(JOIN349);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(JOIN349_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((JOIN349!=null?JOIN349.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_join_sub_clause_in_join_clause3489);
+            join_sub_clause350=join_sub_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, join_sub_clause350.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:482:70: ( join_type )?
+            int alt98=2;
+            int LA98_0 = input.LA(1);
+
+            if ( (LA98_0==QUOTEDSTRING) ) {
+                alt98=1;
+            }
+            switch (alt98) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:482:72: join_type
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" USING "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_type_in_join_clause3495);
+                    join_type351=join_type();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, join_type351.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:483:5: ( partition_clause )?
+            int alt99=2;
+            int LA99_0 = input.LA(1);
+
+            if ( (LA99_0==PARTITION) ) {
+                alt99=1;
+            }
+            switch (alt99) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:483:7: partition_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_partition_clause_in_join_clause3506);
+                    partition_clause352=partition_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, partition_clause352.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_clause"
+
+
+    public static class join_type_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_type"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:486:1: join_type : QUOTEDSTRING ;
+    public final AstPrinter.join_type_return join_type() throws RecognitionException {
+        AstPrinter.join_type_return retval = new AstPrinter.join_type_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING353=null;
+
+        CommonTree QUOTEDSTRING353_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:486:11: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:486:13: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING353=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_join_type3520); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING353_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING353);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING353_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING353!=null?QUOTEDSTRING353.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_type"
+
+
+    public static class join_sub_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_sub_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:489:1: join_sub_clause : ( join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item | join_item ( join_item )* );
+    public final AstPrinter.join_sub_clause_return join_sub_clause() throws RecognitionException {
+        AstPrinter.join_sub_clause_return retval = new AstPrinter.join_sub_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LEFT355=null;
+        CommonTree RIGHT356=null;
+        CommonTree FULL357=null;
+        CommonTree OUTER358=null;
+        AstPrinter.join_item_return join_item354 =null;
+
+        AstPrinter.join_item_return join_item359 =null;
+
+        AstPrinter.join_item_return join_item360 =null;
+
+        AstPrinter.join_item_return join_item361 =null;
+
+
+        CommonTree LEFT355_tree=null;
+        CommonTree RIGHT356_tree=null;
+        CommonTree FULL357_tree=null;
+        CommonTree OUTER358_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:490:5: ( join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item | join_item ( join_item )* )
+            int alt103=2;
+            int LA103_0 = input.LA(1);
+
+            if ( (LA103_0==JOIN_ITEM) ) {
+                int LA103_1 = input.LA(2);
+
+                if ( (synpred172_AstPrinter()) ) {
+                    alt103=1;
+                }
+                else if ( (true) ) {
+                    alt103=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 103, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 103, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt103) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:490:7: join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_item_in_join_sub_clause3535);
+                    join_item354=join_item();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_item354.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:490:17: ( LEFT | RIGHT | FULL )
+                    int alt100=3;
+                    switch ( input.LA(1) ) {
+                    case LEFT:
+                        {
+                        alt100=1;
+                        }
+                        break;
+                    case RIGHT:
+                        {
+                        alt100=2;
+                        }
+                        break;
+                    case FULL:
+                        {
+                        alt100=3;
+                        }
+                        break;
+                    default:
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 100, 0, input);
+
+                        throw nvae;
+
+                    }
+
+                    switch (alt100) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:490:19: LEFT
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            LEFT355=(CommonTree)match(input,LEFT,FOLLOW_LEFT_in_join_sub_clause3539); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            LEFT355_tree = (CommonTree)adaptor.dupNode(LEFT355);
+
+
+                            adaptor.addChild(root_0, LEFT355_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((LEFT355!=null?LEFT355.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:491:16: RIGHT
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            RIGHT356=(CommonTree)match(input,RIGHT,FOLLOW_RIGHT_in_join_sub_clause3558); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            RIGHT356_tree = (CommonTree)adaptor.dupNode(RIGHT356);
+
+
+                            adaptor.addChild(root_0, RIGHT356_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((RIGHT356!=null?RIGHT356.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+                        case 3 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:492:16: FULL
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            FULL357=(CommonTree)match(input,FULL,FOLLOW_FULL_in_join_sub_clause3577); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            FULL357_tree = (CommonTree)adaptor.dupNode(FULL357);
+
+
+                            adaptor.addChild(root_0, FULL357_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((FULL357!=null?FULL357.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:493:16: ( OUTER )?
+                    int alt101=2;
+                    int LA101_0 = input.LA(1);
+
+                    if ( (LA101_0==OUTER) ) {
+                        alt101=1;
+                    }
+                    switch (alt101) {
+                        case 1 :
+                            // /root/project/src/org/apache/pig/parser/AstPrinter.g:493:17: OUTER
+                            {
+                            _last = (CommonTree)input.LT(1);
+                            OUTER358=(CommonTree)match(input,OUTER,FOLLOW_OUTER_in_join_sub_clause3597); if (state.failed) return retval;
+                            if ( state.backtracking==0 ) {
+                            OUTER358_tree = (CommonTree)adaptor.dupNode(OUTER358);
+
+
+                            adaptor.addChild(root_0, OUTER358_tree);
+                            }
+
+
+                            if ( state.backtracking==0 ) { sb.append(" ").append((OUTER358!=null?OUTER358.getText():null)); }
+
+                            if ( state.backtracking==0 ) {
+                            }
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_item_in_join_sub_clause3606);
+                    join_item359=join_item();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_item359.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:494:7: join_item ( join_item )*
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_join_item_in_join_sub_clause3614);
+                    join_item360=join_item();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, join_item360.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:494:17: ( join_item )*
+                    loop102:
+                    do {
+                        int alt102=2;
+                        int LA102_0 = input.LA(1);
+
+                        if ( (LA102_0==JOIN_ITEM) ) {
+                            alt102=1;
+                        }
+
+
+                        switch (alt102) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:494:19: join_item
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_join_item_in_join_sub_clause3620);
+                    	    join_item361=join_item();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_0, join_item361.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop102;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_sub_clause"
+
+
+    public static class join_item_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_item"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:497:1: join_item : ^( JOIN_ITEM rel join_group_by_clause ) ;
+    public final AstPrinter.join_item_return join_item() throws RecognitionException {
+        AstPrinter.join_item_return retval = new AstPrinter.join_item_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree JOIN_ITEM362=null;
+        AstPrinter.rel_return rel363 =null;
+
+        AstPrinter.join_group_by_clause_return join_group_by_clause364 =null;
+
+
+        CommonTree JOIN_ITEM362_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:498:5: ( ^( JOIN_ITEM rel join_group_by_clause ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:498:7: ^( JOIN_ITEM rel join_group_by_clause )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            JOIN_ITEM362=(CommonTree)match(input,JOIN_ITEM,FOLLOW_JOIN_ITEM_in_join_item3638); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            JOIN_ITEM362_tree = (CommonTree)adaptor.dupNode(JOIN_ITEM362);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(JOIN_ITEM362_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_join_item3640);
+            rel363=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel363.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_join_group_by_clause_in_join_item3642);
+            join_group_by_clause364=join_group_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, join_group_by_clause364.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_item"
+
+
+    public static class join_group_by_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_group_by_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:501:1: join_group_by_clause : ^( BY join_group_by_expr ( join_group_by_expr )* ) ;
+    public final AstPrinter.join_group_by_clause_return join_group_by_clause() throws RecognitionException {
+        AstPrinter.join_group_by_clause_return retval = new AstPrinter.join_group_by_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BY365=null;
+        AstPrinter.join_group_by_expr_return join_group_by_expr366 =null;
+
+        AstPrinter.join_group_by_expr_return join_group_by_expr367 =null;
+
+
+        CommonTree BY365_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:502:5: ( ^( BY join_group_by_expr ( join_group_by_expr )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:502:7: ^( BY join_group_by_expr ( join_group_by_expr )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            BY365=(CommonTree)match(input,BY,FOLLOW_BY_in_join_group_by_clause3659); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            BY365_tree = (CommonTree)adaptor.dupNode(BY365);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(BY365_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((BY365!=null?BY365.getText():null)).append(" ("); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_join_group_by_expr_in_join_group_by_clause3667);
+            join_group_by_expr366=join_group_by_expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, join_group_by_expr366.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:503:24: ( join_group_by_expr )*
+            loop104:
+            do {
+                int alt104=2;
+                int LA104_0 = input.LA(1);
+
+                if ( (LA104_0==BIGDECIMALNUMBER||LA104_0==BIGINTEGERNUMBER||LA104_0==CUBE||LA104_0==DIV||LA104_0==DOLLARVAR||LA104_0==DOUBLENUMBER||LA104_0==FALSE||LA104_0==FLOATNUMBER||LA104_0==GROUP||LA104_0==IDENTIFIER||LA104_0==INTEGER||LA104_0==LONGINTEGER||LA104_0==MINUS||LA104_0==NULL||LA104_0==PERCENT||LA104_0==PLUS||LA104_0==QUOTEDSTRING||LA104_0==STAR||LA104_0==TRUE||(LA104_0 >= BAG_VAL && LA104_0 <= BIN_EXPR)||(LA104_0 >= CASE_COND && LA104_0 <= CASE_EXPR)||(LA104_0 >= CAST_EXPR && LA104_0 <= EXPR_IN_PAREN)||LA104_0==FUNC_EVAL||(LA104_0 >= MAP_VAL && LA104_0 <= NEG)||LA104_0==TUPLE_VAL) ) {
+                    alt104=1;
+                }
+
+
+                switch (alt104) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:503:26: join_group_by_expr
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_join_group_by_expr_in_join_group_by_clause3673);
+            	    join_group_by_expr367=join_group_by_expr();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, join_group_by_expr367.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop104;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_group_by_clause"
+
+
+    public static class join_group_by_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "join_group_by_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:506:1: join_group_by_expr : ( col_range | expr | STAR );
+    public final AstPrinter.join_group_by_expr_return join_group_by_expr() throws RecognitionException {
+        AstPrinter.join_group_by_expr_return retval = new AstPrinter.join_group_by_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STAR370=null;
+        AstPrinter.col_range_return col_range368 =null;
+
+        AstPrinter.expr_return expr369 =null;
+
+
+        CommonTree STAR370_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:507:5: ( col_range | expr | STAR )
+            int alt105=3;
+            switch ( input.LA(1) ) {
+            case COL_RANGE:
+                {
+                alt105=1;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case CUBE:
+            case DIV:
+            case DOLLARVAR:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case GROUP:
+            case IDENTIFIER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case PERCENT:
+            case PLUS:
+            case QUOTEDSTRING:
+            case TRUE:
+            case BAG_VAL:
+            case BIN_EXPR:
+            case CASE_COND:
+            case CASE_EXPR:
+            case CAST_EXPR:
+            case EXPR_IN_PAREN:
+            case FUNC_EVAL:
+            case MAP_VAL:
+            case NEG:
+            case TUPLE_VAL:
+                {
+                alt105=2;
+                }
+                break;
+            case STAR:
+                {
+                int LA105_3 = input.LA(2);
+
+                if ( (LA105_3==DOWN) ) {
+                    alt105=2;
+                }
+                else if ( (LA105_3==EOF||LA105_3==UP||LA105_3==BIGDECIMALNUMBER||LA105_3==BIGINTEGERNUMBER||LA105_3==CUBE||LA105_3==DIV||LA105_3==DOLLARVAR||LA105_3==DOUBLENUMBER||LA105_3==FALSE||LA105_3==FLOATNUMBER||LA105_3==GROUP||LA105_3==IDENTIFIER||LA105_3==INTEGER||LA105_3==LONGINTEGER||LA105_3==MINUS||LA105_3==NULL||LA105_3==PERCENT||LA105_3==PLUS||LA105_3==QUOTEDSTRING||LA105_3==STAR||LA105_3==TRUE||(LA105_3 >= BAG_VAL && LA105_3 <= BIN_EXPR)||(LA105_3 >= CASE_COND && LA105_3 <= CASE_EXPR)||(LA105_3 >= CAST_EXPR && LA105_3 <= EXPR_IN_PAREN)||LA105_3==FUNC_EVAL||(LA105_3 >= MAP_VAL && LA105_3 <= NEG)||LA105_3==TUPLE_VAL) ) {
+                    alt105=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 105, 3, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 105, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt105) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:507:7: col_range
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_range_in_join_group_by_expr3693);
+                    col_range368=col_range();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_range368.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:507:19: expr
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_join_group_by_expr3697);
+                    expr369=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, expr369.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:507:26: STAR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STAR370=(CommonTree)match(input,STAR,FOLLOW_STAR_in_join_group_by_expr3701); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STAR370_tree = (CommonTree)adaptor.dupNode(STAR370);
+
+
+                    adaptor.addChild(root_0, STAR370_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STAR370!=null?STAR370.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "join_group_by_expr"
+
+
+    public static class union_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "union_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:510:1: union_clause : ^( UNION ( ONSCHEMA )? rel_list ) ;
+    public final AstPrinter.union_clause_return union_clause() throws RecognitionException {
+        AstPrinter.union_clause_return retval = new AstPrinter.union_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree UNION371=null;
+        CommonTree ONSCHEMA372=null;
+        AstPrinter.rel_list_return rel_list373 =null;
+
+
+        CommonTree UNION371_tree=null;
+        CommonTree ONSCHEMA372_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:511:5: ( ^( UNION ( ONSCHEMA )? rel_list ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:511:7: ^( UNION ( ONSCHEMA )? rel_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            UNION371=(CommonTree)match(input,UNION,FOLLOW_UNION_in_union_clause3718); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            UNION371_tree = (CommonTree)adaptor.dupNode(UNION371);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(UNION371_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((UNION371!=null?UNION371.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:511:56: ( ONSCHEMA )?
+            int alt106=2;
+            int LA106_0 = input.LA(1);
+
+            if ( (LA106_0==ONSCHEMA) ) {
+                alt106=1;
+            }
+            switch (alt106) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:511:57: ONSCHEMA
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ONSCHEMA372=(CommonTree)match(input,ONSCHEMA,FOLLOW_ONSCHEMA_in_union_clause3723); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ONSCHEMA372_tree = (CommonTree)adaptor.dupNode(ONSCHEMA372);
+
+
+                    adaptor.addChild(root_1, ONSCHEMA372_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ONSCHEMA372!=null?ONSCHEMA372.getText():null)).append(" "); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_list_in_union_clause3730);
+            rel_list373=rel_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel_list373.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "union_clause"
+
+
+    public static class foreach_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "foreach_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:514:1: foreach_clause : ^( FOREACH rel foreach_plan ) ;
+    public final AstPrinter.foreach_clause_return foreach_clause() throws RecognitionException {
+        AstPrinter.foreach_clause_return retval = new AstPrinter.foreach_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FOREACH374=null;
+        AstPrinter.rel_return rel375 =null;
+
+        AstPrinter.foreach_plan_return foreach_plan376 =null;
+
+
+        CommonTree FOREACH374_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:515:5: ( ^( FOREACH rel foreach_plan ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:515:7: ^( FOREACH rel foreach_plan )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FOREACH374=(CommonTree)match(input,FOREACH,FOLLOW_FOREACH_in_foreach_clause3747); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FOREACH374_tree = (CommonTree)adaptor.dupNode(FOREACH374);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FOREACH374_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((FOREACH374!=null?FOREACH374.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_foreach_clause3751);
+            rel375=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel375.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_foreach_plan_in_foreach_clause3753);
+            foreach_plan376=foreach_plan();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, foreach_plan376.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "foreach_clause"
+
+
+    public static class foreach_plan_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "foreach_plan"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:518:1: foreach_plan : ( ^( FOREACH_PLAN_SIMPLE generate_clause ) | ^( FOREACH_PLAN_COMPLEX nested_blk ) );
+    public final AstPrinter.foreach_plan_return foreach_plan() throws RecognitionException {
+        AstPrinter.foreach_plan_return retval = new AstPrinter.foreach_plan_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FOREACH_PLAN_SIMPLE377=null;
+        CommonTree FOREACH_PLAN_COMPLEX379=null;
+        AstPrinter.generate_clause_return generate_clause378 =null;
+
+        AstPrinter.nested_blk_return nested_blk380 =null;
+
+
+        CommonTree FOREACH_PLAN_SIMPLE377_tree=null;
+        CommonTree FOREACH_PLAN_COMPLEX379_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:519:5: ( ^( FOREACH_PLAN_SIMPLE generate_clause ) | ^( FOREACH_PLAN_COMPLEX nested_blk ) )
+            int alt107=2;
+            int LA107_0 = input.LA(1);
+
+            if ( (LA107_0==FOREACH_PLAN_SIMPLE) ) {
+                alt107=1;
+            }
+            else if ( (LA107_0==FOREACH_PLAN_COMPLEX) ) {
+                alt107=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 107, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt107) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:519:7: ^( FOREACH_PLAN_SIMPLE generate_clause )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FOREACH_PLAN_SIMPLE377=(CommonTree)match(input,FOREACH_PLAN_SIMPLE,FOLLOW_FOREACH_PLAN_SIMPLE_in_foreach_plan3770); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FOREACH_PLAN_SIMPLE377_tree = (CommonTree)adaptor.dupNode(FOREACH_PLAN_SIMPLE377);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FOREACH_PLAN_SIMPLE377_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_generate_clause_in_foreach_plan3772);
+                    generate_clause378=generate_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, generate_clause378.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:520:7: ^( FOREACH_PLAN_COMPLEX nested_blk )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    FOREACH_PLAN_COMPLEX379=(CommonTree)match(input,FOREACH_PLAN_COMPLEX,FOLLOW_FOREACH_PLAN_COMPLEX_in_foreach_plan3784); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FOREACH_PLAN_COMPLEX379_tree = (CommonTree)adaptor.dupNode(FOREACH_PLAN_COMPLEX379);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(FOREACH_PLAN_COMPLEX379_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_blk_in_foreach_plan3786);
+                    nested_blk380=nested_blk();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, nested_blk380.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "foreach_plan"
+
+
+    public static class nested_blk_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_blk"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:523:1: nested_blk : ( nested_command )* generate_clause ;
+    public final AstPrinter.nested_blk_return nested_blk() throws RecognitionException {
+        AstPrinter.nested_blk_return retval = new AstPrinter.nested_blk_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.nested_command_return nested_command381 =null;
+
+        AstPrinter.generate_clause_return generate_clause382 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:524:5: ( ( nested_command )* generate_clause )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:524:7: ( nested_command )* generate_clause
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            if ( state.backtracking==0 ) { sb.append(" { "); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:524:29: ( nested_command )*
+            loop108:
+            do {
+                int alt108=2;
+                int LA108_0 = input.LA(1);
+
+                if ( ((LA108_0 >= NESTED_CMD && LA108_0 <= NESTED_CMD_ASSI)) ) {
+                    alt108=1;
+                }
+
+
+                switch (alt108) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:524:30: nested_command
+            	    {
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_nested_command_in_nested_blk3804);
+            	    nested_command381=nested_command();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, nested_command381.getTree());
+
+
+            	    if ( state.backtracking==0 ) { sb.append("; "); }
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop108;
+                }
+            } while (true);
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_generate_clause_in_nested_blk3811);
+            generate_clause382=generate_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, generate_clause382.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append("; } "); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_blk"
+
+
+    public static class generate_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "generate_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:527:1: generate_clause : ^( GENERATE flatten_generated_item ( flatten_generated_item )* ) ;
+    public final AstPrinter.generate_clause_return generate_clause() throws RecognitionException {
+        AstPrinter.generate_clause_return retval = new AstPrinter.generate_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree GENERATE383=null;
+        AstPrinter.flatten_generated_item_return flatten_generated_item384 =null;
+
+        AstPrinter.flatten_generated_item_return flatten_generated_item385 =null;
+
+
+        CommonTree GENERATE383_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:528:5: ( ^( GENERATE flatten_generated_item ( flatten_generated_item )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:528:7: ^( GENERATE flatten_generated_item ( flatten_generated_item )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            GENERATE383=(CommonTree)match(input,GENERATE,FOLLOW_GENERATE_in_generate_clause3828); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            GENERATE383_tree = (CommonTree)adaptor.dupNode(GENERATE383);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(GENERATE383_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append(" ").append((GENERATE383!=null?GENERATE383.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_flatten_generated_item_in_generate_clause3840);
+            flatten_generated_item384=flatten_generated_item();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, flatten_generated_item384.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:529:32: ( flatten_generated_item )*
+            loop109:
+            do {
+                int alt109=2;
+                int LA109_0 = input.LA(1);
+
+                if ( (LA109_0==BIGDECIMALNUMBER||LA109_0==BIGINTEGERNUMBER||LA109_0==CUBE||LA109_0==DIV||LA109_0==DOLLARVAR||LA109_0==DOUBLENUMBER||LA109_0==FALSE||LA109_0==FLATTEN||LA109_0==FLOATNUMBER||LA109_0==GROUP||LA109_0==IDENTIFIER||LA109_0==INTEGER||LA109_0==LONGINTEGER||LA109_0==MINUS||LA109_0==NULL||LA109_0==PERCENT||LA109_0==PLUS||LA109_0==QUOTEDSTRING||LA109_0==STAR||LA109_0==TRUE||(LA109_0 >= BAG_VAL && LA109_0 <= BIN_EXPR)||(LA109_0 >= CASE_COND && LA109_0 <= CASE_EXPR)||(LA109_0 >= CAST_EXPR && LA109_0 <= EXPR_IN_PAREN)||LA109_0==FUNC_EVAL||(LA109_0 >= MAP_VAL && LA109_0 <= NEG)||LA109_0==TUPLE_VAL) ) {
+                    alt109=1;
+                }
+
+
+                switch (alt109) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:529:34: flatten_generated_item
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_flatten_generated_item_in_generate_clause3846);
+            	    flatten_generated_item385=flatten_generated_item();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, flatten_generated_item385.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop109;
+                }
+            } while (true);
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "generate_clause"
+
+
+    public static class nested_command_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_command"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:532:1: nested_command : ( ^( NESTED_CMD IDENTIFIER nested_op ) | ^( NESTED_CMD_ASSI IDENTIFIER expr ) );
+    public final AstPrinter.nested_command_return nested_command() throws RecognitionException {
+        AstPrinter.nested_command_return retval = new AstPrinter.nested_command_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree NESTED_CMD386=null;
+        CommonTree IDENTIFIER387=null;
+        CommonTree NESTED_CMD_ASSI389=null;
+        CommonTree IDENTIFIER390=null;
+        AstPrinter.nested_op_return nested_op388 =null;
+
+        AstPrinter.expr_return expr391 =null;
+
+
+        CommonTree NESTED_CMD386_tree=null;
+        CommonTree IDENTIFIER387_tree=null;
+        CommonTree NESTED_CMD_ASSI389_tree=null;
+        CommonTree IDENTIFIER390_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:533:5: ( ^( NESTED_CMD IDENTIFIER nested_op ) | ^( NESTED_CMD_ASSI IDENTIFIER expr ) )
+            int alt110=2;
+            int LA110_0 = input.LA(1);
+
+            if ( (LA110_0==NESTED_CMD) ) {
+                alt110=1;
+            }
+            else if ( (LA110_0==NESTED_CMD_ASSI) ) {
+                alt110=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 110, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt110) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:533:7: ^( NESTED_CMD IDENTIFIER nested_op )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NESTED_CMD386=(CommonTree)match(input,NESTED_CMD,FOLLOW_NESTED_CMD_in_nested_command3865); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NESTED_CMD386_tree = (CommonTree)adaptor.dupNode(NESTED_CMD386);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NESTED_CMD386_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER387=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_nested_command3867); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER387_tree = (CommonTree)adaptor.dupNode(IDENTIFIER387);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER387_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER387!=null?IDENTIFIER387.getText():null)).append(" = "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_op_in_nested_command3871);
+                    nested_op388=nested_op();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, nested_op388.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:534:7: ^( NESTED_CMD_ASSI IDENTIFIER expr )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    NESTED_CMD_ASSI389=(CommonTree)match(input,NESTED_CMD_ASSI,FOLLOW_NESTED_CMD_ASSI_in_nested_command3883); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NESTED_CMD_ASSI389_tree = (CommonTree)adaptor.dupNode(NESTED_CMD_ASSI389);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(NESTED_CMD_ASSI389_tree, root_1);
+                    }
+
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER390=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_nested_command3885); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER390_tree = (CommonTree)adaptor.dupNode(IDENTIFIER390);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER390_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER390!=null?IDENTIFIER390.getText():null)).append(" = "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_nested_command3889);
+                    expr391=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr391.getTree());
+
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_command"
+
+
+    public static class nested_op_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_op"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:537:1: nested_op : ( nested_proj | nested_filter | nested_sort | nested_distinct | nested_limit | nested_cross | nested_foreach );
+    public final AstPrinter.nested_op_return nested_op() throws RecognitionException {
+        AstPrinter.nested_op_return retval = new AstPrinter.nested_op_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.nested_proj_return nested_proj392 =null;
+
+        AstPrinter.nested_filter_return nested_filter393 =null;
+
+        AstPrinter.nested_sort_return nested_sort394 =null;
+
+        AstPrinter.nested_distinct_return nested_distinct395 =null;
+
+        AstPrinter.nested_limit_return nested_limit396 =null;
+
+        AstPrinter.nested_cross_return nested_cross397 =null;
+
+        AstPrinter.nested_foreach_return nested_foreach398 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:537:11: ( nested_proj | nested_filter | nested_sort | nested_distinct | nested_limit | nested_cross | nested_foreach )
+            int alt111=7;
+            switch ( input.LA(1) ) {
+            case NESTED_PROJ:
+                {
+                alt111=1;
+                }
+                break;
+            case FILTER:
+                {
+                alt111=2;
+                }
+                break;
+            case ORDER:
+                {
+                alt111=3;
+                }
+                break;
+            case DISTINCT:
+                {
+                alt111=4;
+                }
+                break;
+            case LIMIT:
+                {
+                alt111=5;
+                }
+                break;
+            case CROSS:
+                {
+                alt111=6;
+                }
+                break;
+            case FOREACH:
+                {
+                alt111=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 111, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt111) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:537:13: nested_proj
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_proj_in_nested_op3900);
+                    nested_proj392=nested_proj();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_proj392.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:538:13: nested_filter
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_filter_in_nested_op3914);
+                    nested_filter393=nested_filter();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_filter393.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:539:13: nested_sort
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_sort_in_nested_op3928);
+                    nested_sort394=nested_sort();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_sort394.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:540:13: nested_distinct
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_distinct_in_nested_op3942);
+                    nested_distinct395=nested_distinct();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_distinct395.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:541:13: nested_limit
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_limit_in_nested_op3956);
+                    nested_limit396=nested_limit();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_limit396.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:542:13: nested_cross
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_cross_in_nested_op3970);
+                    nested_cross397=nested_cross();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_cross397.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:543:13: nested_foreach
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_foreach_in_nested_op3984);
+                    nested_foreach398=nested_foreach();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_foreach398.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_op"
+
+
+    public static class nested_proj_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_proj"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:546:1: nested_proj : ^( NESTED_PROJ col_ref col_ref ( col_ref )* ) ;
+    public final AstPrinter.nested_proj_return nested_proj() throws RecognitionException {
+        AstPrinter.nested_proj_return retval = new AstPrinter.nested_proj_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree NESTED_PROJ399=null;
+        AstPrinter.col_ref_return col_ref400 =null;
+
+        AstPrinter.col_ref_return col_ref401 =null;
+
+        AstPrinter.col_ref_return col_ref402 =null;
+
+
+        CommonTree NESTED_PROJ399_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:547:5: ( ^( NESTED_PROJ col_ref col_ref ( col_ref )* ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:547:7: ^( NESTED_PROJ col_ref col_ref ( col_ref )* )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            NESTED_PROJ399=(CommonTree)match(input,NESTED_PROJ,FOLLOW_NESTED_PROJ_in_nested_proj3999); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            NESTED_PROJ399_tree = (CommonTree)adaptor.dupNode(NESTED_PROJ399);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(NESTED_PROJ399_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_col_ref_in_nested_proj4001);
+            col_ref400=col_ref();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, col_ref400.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(".("); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_col_ref_in_nested_proj4005);
+            col_ref401=col_ref();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, col_ref401.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:547:59: ( col_ref )*
+            loop112:
+            do {
+                int alt112=2;
+                int LA112_0 = input.LA(1);
+
+                if ( (LA112_0==CUBE||LA112_0==DOLLARVAR||LA112_0==GROUP||LA112_0==IDENTIFIER) ) {
+                    alt112=1;
+                }
+
+
+                switch (alt112) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:547:61: col_ref
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_col_ref_in_nested_proj4011);
+            	    col_ref402=col_ref();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, col_ref402.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop112;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) { sb.append(")"); }
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_proj"
+
+
+    public static class nested_filter_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_filter"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:550:1: nested_filter : ^( FILTER nested_op_input cond ) ;
+    public final AstPrinter.nested_filter_return nested_filter() throws RecognitionException {
+        AstPrinter.nested_filter_return retval = new AstPrinter.nested_filter_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FILTER403=null;
+        AstPrinter.nested_op_input_return nested_op_input404 =null;
+
+        AstPrinter.cond_return cond405 =null;
+
+
+        CommonTree FILTER403_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:551:5: ( ^( FILTER nested_op_input cond ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:551:7: ^( FILTER nested_op_input cond )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FILTER403=(CommonTree)match(input,FILTER,FOLLOW_FILTER_in_nested_filter4032); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FILTER403_tree = (CommonTree)adaptor.dupNode(FILTER403);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FILTER403_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((FILTER403!=null?FILTER403.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_filter4036);
+            nested_op_input404=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input404.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" BY "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_nested_filter4040);
+            cond405=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond405.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_filter"
+
+
+    public static class nested_sort_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_sort"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:554:1: nested_sort : ^( ORDER nested_op_input order_by_clause ( func_clause )? ) ;
+    public final AstPrinter.nested_sort_return nested_sort() throws RecognitionException {
+        AstPrinter.nested_sort_return retval = new AstPrinter.nested_sort_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree ORDER406=null;
+        AstPrinter.nested_op_input_return nested_op_input407 =null;
+
+        AstPrinter.order_by_clause_return order_by_clause408 =null;
+
+        AstPrinter.func_clause_return func_clause409 =null;
+
+
+        CommonTree ORDER406_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:555:5: ( ^( ORDER nested_op_input order_by_clause ( func_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:555:7: ^( ORDER nested_op_input order_by_clause ( func_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            ORDER406=(CommonTree)match(input,ORDER,FOLLOW_ORDER_in_nested_sort4057); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            ORDER406_tree = (CommonTree)adaptor.dupNode(ORDER406);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(ORDER406_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((ORDER406!=null?ORDER406.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_sort4061);
+            nested_op_input407=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input407.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" BY "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_order_by_clause_in_nested_sort4073);
+            order_by_clause408=order_by_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, order_by_clause408.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:556:48: ( func_clause )?
+            int alt113=2;
+            int LA113_0 = input.LA(1);
+
+            if ( (LA113_0==FUNC||LA113_0==FUNC_REF) ) {
+                alt113=1;
+            }
+            switch (alt113) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:556:50: func_clause
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" USING "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_func_clause_in_nested_sort4079);
+                    func_clause409=func_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, func_clause409.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_sort"
+
+
+    public static class nested_distinct_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_distinct"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:559:1: nested_distinct : ^( DISTINCT nested_op_input ) ;
+    public final AstPrinter.nested_distinct_return nested_distinct() throws RecognitionException {
+        AstPrinter.nested_distinct_return retval = new AstPrinter.nested_distinct_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DISTINCT410=null;
+        AstPrinter.nested_op_input_return nested_op_input411 =null;
+
+
+        CommonTree DISTINCT410_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:560:5: ( ^( DISTINCT nested_op_input ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:560:7: ^( DISTINCT nested_op_input )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            DISTINCT410=(CommonTree)match(input,DISTINCT,FOLLOW_DISTINCT_in_nested_distinct4098); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DISTINCT410_tree = (CommonTree)adaptor.dupNode(DISTINCT410);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(DISTINCT410_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((DISTINCT410!=null?DISTINCT410.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_distinct4103);
+            nested_op_input411=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input411.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_distinct"
+
+
+    public static class nested_limit_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_limit"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:563:1: nested_limit : ^( LIMIT nested_op_input ( INTEGER | expr ) ) ;
+    public final AstPrinter.nested_limit_return nested_limit() throws RecognitionException {
+        AstPrinter.nested_limit_return retval = new AstPrinter.nested_limit_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree LIMIT412=null;
+        CommonTree INTEGER414=null;
+        AstPrinter.nested_op_input_return nested_op_input413 =null;
+
+        AstPrinter.expr_return expr415 =null;
+
+
+        CommonTree LIMIT412_tree=null;
+        CommonTree INTEGER414_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:5: ( ^( LIMIT nested_op_input ( INTEGER | expr ) ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:7: ^( LIMIT nested_op_input ( INTEGER | expr ) )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            LIMIT412=(CommonTree)match(input,LIMIT,FOLLOW_LIMIT_in_nested_limit4120); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            LIMIT412_tree = (CommonTree)adaptor.dupNode(LIMIT412);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(LIMIT412_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((LIMIT412!=null?LIMIT412.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_limit4125);
+            nested_op_input413=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input413.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:73: ( INTEGER | expr )
+            int alt114=2;
+            int LA114_0 = input.LA(1);
+
+            if ( (LA114_0==INTEGER) ) {
+                int LA114_1 = input.LA(2);
+
+                if ( (synpred190_AstPrinter()) ) {
+                    alt114=1;
+                }
+                else if ( (true) ) {
+                    alt114=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 114, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA114_0==BIGDECIMALNUMBER||LA114_0==BIGINTEGERNUMBER||LA114_0==CUBE||LA114_0==DIV||LA114_0==DOLLARVAR||LA114_0==DOUBLENUMBER||LA114_0==FALSE||LA114_0==FLOATNUMBER||LA114_0==GROUP||LA114_0==IDENTIFIER||LA114_0==LONGINTEGER||LA114_0==MINUS||LA114_0==NULL||LA114_0==PERCENT||LA114_0==PLUS||LA114_0==QUOTEDSTRING||LA114_0==STAR||LA114_0==TRUE||(LA114_0 >= BAG_VAL && LA114_0 <= BIN_EXPR)||(LA114_0 >= CASE_COND && LA114_0 <= CASE_EXPR)||LA114_0==CAST_EXPR||LA114_0==EXPR_IN_PAREN||LA114_0==FUNC_EVAL||(LA114_0 >= MAP_VAL && LA114_0 <= NEG)||LA114_0==TUPLE_VAL) ) {
+                alt114=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 114, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt114) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:75: INTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    INTEGER414=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_nested_limit4129); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTEGER414_tree = (CommonTree)adaptor.dupNode(INTEGER414);
+
+
+                    adaptor.addChild(root_1, INTEGER414_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((INTEGER414!=null?INTEGER414.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:127: expr
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_expr_in_nested_limit4135);
+                    expr415=expr();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, expr415.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_limit"
+
+
+    public static class nested_cross_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_cross"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:567:1: nested_cross : ^( CROSS nested_op_input_list ) ;
+    public final AstPrinter.nested_cross_return nested_cross() throws RecognitionException {
+        AstPrinter.nested_cross_return retval = new AstPrinter.nested_cross_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree CROSS416=null;
+        AstPrinter.nested_op_input_list_return nested_op_input_list417 =null;
+
+
+        CommonTree CROSS416_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:568:5: ( ^( CROSS nested_op_input_list ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:568:7: ^( CROSS nested_op_input_list )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            CROSS416=(CommonTree)match(input,CROSS,FOLLOW_CROSS_in_nested_cross4154); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            CROSS416_tree = (CommonTree)adaptor.dupNode(CROSS416);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(CROSS416_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((CROSS416!=null?CROSS416.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_list_in_nested_cross4159);
+            nested_op_input_list417=nested_op_input_list();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input_list417.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_cross"
+
+
+    public static class nested_foreach_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_foreach"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:571:1: nested_foreach : ^( FOREACH nested_op_input generate_clause ) ;
+    public final AstPrinter.nested_foreach_return nested_foreach() throws RecognitionException {
+        AstPrinter.nested_foreach_return retval = new AstPrinter.nested_foreach_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree FOREACH418=null;
+        AstPrinter.nested_op_input_return nested_op_input419 =null;
+
+        AstPrinter.generate_clause_return generate_clause420 =null;
+
+
+        CommonTree FOREACH418_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:572:2: ( ^( FOREACH nested_op_input generate_clause ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:572:4: ^( FOREACH nested_op_input generate_clause )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            FOREACH418=(CommonTree)match(input,FOREACH,FOLLOW_FOREACH_in_nested_foreach4173); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            FOREACH418_tree = (CommonTree)adaptor.dupNode(FOREACH418);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(FOREACH418_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((FOREACH418!=null?FOREACH418.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_foreach4178);
+            nested_op_input419=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, nested_op_input419.getTree());
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_generate_clause_in_nested_foreach4180);
+            generate_clause420=generate_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, generate_clause420.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_foreach"
+
+
+    public static class nested_op_input_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_op_input"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:575:1: nested_op_input : ( col_ref | nested_proj );
+    public final AstPrinter.nested_op_input_return nested_op_input() throws RecognitionException {
+        AstPrinter.nested_op_input_return retval = new AstPrinter.nested_op_input_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.col_ref_return col_ref421 =null;
+
+        AstPrinter.nested_proj_return nested_proj422 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:575:17: ( col_ref | nested_proj )
+            int alt115=2;
+            int LA115_0 = input.LA(1);
+
+            if ( (LA115_0==CUBE||LA115_0==DOLLARVAR||LA115_0==GROUP||LA115_0==IDENTIFIER) ) {
+                alt115=1;
+            }
+            else if ( (LA115_0==NESTED_PROJ) ) {
+                alt115=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 115, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt115) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:575:19: col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_col_ref_in_nested_op_input4191);
+                    col_ref421=col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, col_ref421.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:575:29: nested_proj
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_nested_proj_in_nested_op_input4195);
+                    nested_proj422=nested_proj();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, nested_proj422.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_op_input"
+
+
+    public static class nested_op_input_list_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "nested_op_input_list"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:578:1: nested_op_input_list : nested_op_input ( nested_op_input )* ;
+    public final AstPrinter.nested_op_input_list_return nested_op_input_list() throws RecognitionException {
+        AstPrinter.nested_op_input_list_return retval = new AstPrinter.nested_op_input_list_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.nested_op_input_return nested_op_input423 =null;
+
+        AstPrinter.nested_op_input_return nested_op_input424 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:579:5: ( nested_op_input ( nested_op_input )* )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:579:7: nested_op_input ( nested_op_input )*
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_nested_op_input_in_nested_op_input_list4208);
+            nested_op_input423=nested_op_input();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, nested_op_input423.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:579:23: ( nested_op_input )*
+            loop116:
+            do {
+                int alt116=2;
+                int LA116_0 = input.LA(1);
+
+                if ( (LA116_0==CUBE||LA116_0==DOLLARVAR||LA116_0==GROUP||LA116_0==IDENTIFIER||LA116_0==NESTED_PROJ) ) {
+                    alt116=1;
+                }
+
+
+                switch (alt116) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:579:25: nested_op_input
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_nested_op_input_in_nested_op_input_list4214);
+            	    nested_op_input424=nested_op_input();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_0, nested_op_input424.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop116;
+                }
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "nested_op_input_list"
+
+
+    public static class stream_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "stream_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:582:1: stream_clause : ^( STREAM rel ( EXECCOMMAND | IDENTIFIER ) ( as_clause )? ) ;
+    public final AstPrinter.stream_clause_return stream_clause() throws RecognitionException {
+        AstPrinter.stream_clause_return retval = new AstPrinter.stream_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STREAM425=null;
+        CommonTree EXECCOMMAND427=null;
+        CommonTree IDENTIFIER428=null;
+        AstPrinter.rel_return rel426 =null;
+
+        AstPrinter.as_clause_return as_clause429 =null;
+
+
+        CommonTree STREAM425_tree=null;
+        CommonTree EXECCOMMAND427_tree=null;
+        CommonTree IDENTIFIER428_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:583:5: ( ^( STREAM rel ( EXECCOMMAND | IDENTIFIER ) ( as_clause )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:583:7: ^( STREAM rel ( EXECCOMMAND | IDENTIFIER ) ( as_clause )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            STREAM425=(CommonTree)match(input,STREAM,FOLLOW_STREAM_in_stream_clause4231); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            STREAM425_tree = (CommonTree)adaptor.dupNode(STREAM425);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(STREAM425_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((STREAM425!=null?STREAM425.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_stream_clause4235);
+            rel426=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel426.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" THROUGH "); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:584:9: ( EXECCOMMAND | IDENTIFIER )
+            int alt117=2;
+            int LA117_0 = input.LA(1);
+
+            if ( (LA117_0==EXECCOMMAND) ) {
+                alt117=1;
+            }
+            else if ( (LA117_0==IDENTIFIER) ) {
+                alt117=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 117, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt117) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:584:11: EXECCOMMAND
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    EXECCOMMAND427=(CommonTree)match(input,EXECCOMMAND,FOLLOW_EXECCOMMAND_in_stream_clause4249); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EXECCOMMAND427_tree = (CommonTree)adaptor.dupNode(EXECCOMMAND427);
+
+
+                    adaptor.addChild(root_1, EXECCOMMAND427_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((EXECCOMMAND427!=null?EXECCOMMAND427.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:585:11: IDENTIFIER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER428=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_stream_clause4263); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER428_tree = (CommonTree)adaptor.dupNode(IDENTIFIER428);
+
+
+                    adaptor.addChild(root_1, IDENTIFIER428_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER428!=null?IDENTIFIER428.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:585:57: ( as_clause )?
+            int alt118=2;
+            int LA118_0 = input.LA(1);
+
+            if ( (LA118_0==AS) ) {
+                alt118=1;
+            }
+            switch (alt118) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:585:57: as_clause
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_as_clause_in_stream_clause4269);
+                    as_clause429=as_clause();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, as_clause429.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "stream_clause"
+
+
+    public static class mr_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "mr_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:588:1: mr_clause : ^( MAPREDUCE QUOTEDSTRING ( path_list )? store_clause load_clause ( EXECCOMMAND )? ) ;
+    public final AstPrinter.mr_clause_return mr_clause() throws RecognitionException {
+        AstPrinter.mr_clause_return retval = new AstPrinter.mr_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MAPREDUCE430=null;
+        CommonTree QUOTEDSTRING431=null;
+        CommonTree EXECCOMMAND435=null;
+        AstPrinter.path_list_return path_list432 =null;
+
+        AstPrinter.store_clause_return store_clause433 =null;
+
+        AstPrinter.load_clause_return load_clause434 =null;
+
+
+        CommonTree MAPREDUCE430_tree=null;
+        CommonTree QUOTEDSTRING431_tree=null;
+        CommonTree EXECCOMMAND435_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:589:5: ( ^( MAPREDUCE QUOTEDSTRING ( path_list )? store_clause load_clause ( EXECCOMMAND )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:589:7: ^( MAPREDUCE QUOTEDSTRING ( path_list )? store_clause load_clause ( EXECCOMMAND )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            MAPREDUCE430=(CommonTree)match(input,MAPREDUCE,FOLLOW_MAPREDUCE_in_mr_clause4287); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            MAPREDUCE430_tree = (CommonTree)adaptor.dupNode(MAPREDUCE430);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(MAPREDUCE430_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING431=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_mr_clause4289); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING431_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING431);
+
+
+            adaptor.addChild(root_1, QUOTEDSTRING431_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((MAPREDUCE430!=null?MAPREDUCE430.getText():null)).append(" ").append((QUOTEDSTRING431!=null?QUOTEDSTRING431.getText():null)).append(" "); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:590:9: ( path_list )?
+            int alt119=2;
+            int LA119_0 = input.LA(1);
+
+            if ( (LA119_0==QUOTEDSTRING) ) {
+                alt119=1;
+            }
+            switch (alt119) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:590:10: path_list
+                    {
+                    if ( state.backtracking==0 ) { sb.append(" ("); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_path_list_in_mr_clause4304);
+                    path_list432=path_list();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, path_list432.getTree());
+
+
+                    if ( state.backtracking==0 ) { sb.append(") "); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_store_clause_in_mr_clause4311);
+            store_clause433=store_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, store_clause433.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_load_clause_in_mr_clause4315);
+            load_clause434=load_clause();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, load_clause434.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:591:9: ( EXECCOMMAND )?
+            int alt120=2;
+            int LA120_0 = input.LA(1);
+
+            if ( (LA120_0==EXECCOMMAND) ) {
+                alt120=1;
+            }
+            switch (alt120) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:591:10: EXECCOMMAND
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    EXECCOMMAND435=(CommonTree)match(input,EXECCOMMAND,FOLLOW_EXECCOMMAND_in_mr_clause4326); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EXECCOMMAND435_tree = (CommonTree)adaptor.dupNode(EXECCOMMAND435);
+
+
+                    adaptor.addChild(root_1, EXECCOMMAND435_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" ").append((EXECCOMMAND435!=null?EXECCOMMAND435.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "mr_clause"
+
+
+    public static class split_clause_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_clause"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:594:1: split_clause : ^( SPLIT rel split_branch ( split_branch )* ( split_otherwise )? ) ;
+    public final AstPrinter.split_clause_return split_clause() throws RecognitionException {
+        AstPrinter.split_clause_return retval = new AstPrinter.split_clause_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SPLIT436=null;
+        AstPrinter.rel_return rel437 =null;
+
+        AstPrinter.split_branch_return split_branch438 =null;
+
+        AstPrinter.split_branch_return split_branch439 =null;
+
+        AstPrinter.split_otherwise_return split_otherwise440 =null;
+
+
+        CommonTree SPLIT436_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:595:5: ( ^( SPLIT rel split_branch ( split_branch )* ( split_otherwise )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:595:7: ^( SPLIT rel split_branch ( split_branch )* ( split_otherwise )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SPLIT436=(CommonTree)match(input,SPLIT,FOLLOW_SPLIT_in_split_clause4348); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SPLIT436_tree = (CommonTree)adaptor.dupNode(SPLIT436);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SPLIT436_tree, root_1);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((SPLIT436!=null?SPLIT436.getText():null)).append(" "); }
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_rel_in_split_clause4361);
+            rel437=rel();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, rel437.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" INTO "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_split_branch_in_split_clause4365);
+            split_branch438=split_branch();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, split_branch438.getTree());
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:596:51: ( split_branch )*
+            loop121:
+            do {
+                int alt121=2;
+                int LA121_0 = input.LA(1);
+
+                if ( (LA121_0==SPLIT_BRANCH) ) {
+                    alt121=1;
+                }
+
+
+                switch (alt121) {
+            	case 1 :
+            	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:596:53: split_branch
+            	    {
+            	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+            	    _last = (CommonTree)input.LT(1);
+            	    pushFollow(FOLLOW_split_branch_in_split_clause4371);
+            	    split_branch439=split_branch();
+
+            	    state._fsp--;
+            	    if (state.failed) return retval;
+            	    if ( state.backtracking==0 ) 
+            	    adaptor.addChild(root_1, split_branch439.getTree());
+
+
+            	    if ( state.backtracking==0 ) {
+            	    }
+            	    }
+            	    break;
+
+            	default :
+            	    break loop121;
+                }
+            } while (true);
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:596:90: ( split_otherwise )?
+            int alt122=2;
+            int LA122_0 = input.LA(1);
+
+            if ( (LA122_0==OTHERWISE) ) {
+                alt122=1;
+            }
+            switch (alt122) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:596:92: split_otherwise
+                    {
+                    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_split_otherwise_in_split_clause4380);
+                    split_otherwise440=split_otherwise();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, split_otherwise440.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_clause"
+
+
+    public static class split_branch_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_branch"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:599:1: split_branch : ^( SPLIT_BRANCH alias cond ) ;
+    public final AstPrinter.split_branch_return split_branch() throws RecognitionException {
+        AstPrinter.split_branch_return retval = new AstPrinter.split_branch_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree SPLIT_BRANCH441=null;
+        AstPrinter.alias_return alias442 =null;
+
+        AstPrinter.cond_return cond443 =null;
+
+
+        CommonTree SPLIT_BRANCH441_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:600:5: ( ^( SPLIT_BRANCH alias cond ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:600:7: ^( SPLIT_BRANCH alias cond )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            SPLIT_BRANCH441=(CommonTree)match(input,SPLIT_BRANCH,FOLLOW_SPLIT_BRANCH_in_split_branch4400); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            SPLIT_BRANCH441_tree = (CommonTree)adaptor.dupNode(SPLIT_BRANCH441);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(SPLIT_BRANCH441_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_split_branch4402);
+            alias442=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias442.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" IF "); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_cond_in_split_branch4406);
+            cond443=cond();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, cond443.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_branch"
+
+
+    public static class split_otherwise_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "split_otherwise"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:603:1: split_otherwise : ^( OTHERWISE alias ( ALL )? ) ;
+    public final AstPrinter.split_otherwise_return split_otherwise() throws RecognitionException {
+        AstPrinter.split_otherwise_return retval = new AstPrinter.split_otherwise_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree OTHERWISE444=null;
+        CommonTree ALL446=null;
+        AstPrinter.alias_return alias445 =null;
+
+
+        CommonTree OTHERWISE444_tree=null;
+        CommonTree ALL446_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:604:5: ( ^( OTHERWISE alias ( ALL )? ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:604:7: ^( OTHERWISE alias ( ALL )? )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            OTHERWISE444=(CommonTree)match(input,OTHERWISE,FOLLOW_OTHERWISE_in_split_otherwise4423); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            OTHERWISE444_tree = (CommonTree)adaptor.dupNode(OTHERWISE444);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(OTHERWISE444_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_alias_in_split_otherwise4425);
+            alias445=alias();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, alias445.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append(" " + (OTHERWISE444!=null?OTHERWISE444.getText():null)); }
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:604:64: ( ALL )?
+            int alt123=2;
+            int LA123_0 = input.LA(1);
+
+            if ( (LA123_0==ALL) ) {
+                alt123=1;
+            }
+            switch (alt123) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:604:66: ALL
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    ALL446=(CommonTree)match(input,ALL,FOLLOW_ALL_in_split_otherwise4431); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ALL446_tree = (CommonTree)adaptor.dupNode(ALL446);
+
+
+                    adaptor.addChild(root_1, ALL446_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append(" " + (ALL446!=null?ALL446.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "split_otherwise"
+
+
+    public static class col_ref_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "col_ref"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:607:1: col_ref : ( alias_col_ref | dollar_col_ref );
+    public final AstPrinter.col_ref_return col_ref() throws RecognitionException {
+        AstPrinter.col_ref_return retval = new AstPrinter.col_ref_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.alias_col_ref_return alias_col_ref447 =null;
+
+        AstPrinter.dollar_col_ref_return dollar_col_ref448 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:607:9: ( alias_col_ref | dollar_col_ref )
+            int alt124=2;
+            int LA124_0 = input.LA(1);
+
+            if ( (LA124_0==CUBE||LA124_0==GROUP||LA124_0==IDENTIFIER) ) {
+                alt124=1;
+            }
+            else if ( (LA124_0==DOLLARVAR) ) {
+                alt124=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 124, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt124) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:607:11: alias_col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_alias_col_ref_in_col_ref4447);
+                    alias_col_ref447=alias_col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, alias_col_ref447.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:607:27: dollar_col_ref
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_dollar_col_ref_in_col_ref4451);
+                    dollar_col_ref448=dollar_col_ref();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, dollar_col_ref448.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "col_ref"
+
+
+    public static class alias_col_ref_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "alias_col_ref"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:610:1: alias_col_ref : ( GROUP | CUBE | IDENTIFIER );
+    public final AstPrinter.alias_col_ref_return alias_col_ref() throws RecognitionException {
+        AstPrinter.alias_col_ref_return retval = new AstPrinter.alias_col_ref_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree GROUP449=null;
+        CommonTree CUBE450=null;
+        CommonTree IDENTIFIER451=null;
+
+        CommonTree GROUP449_tree=null;
+        CommonTree CUBE450_tree=null;
+        CommonTree IDENTIFIER451_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:611:5: ( GROUP | CUBE | IDENTIFIER )
+            int alt125=3;
+            switch ( input.LA(1) ) {
+            case GROUP:
+                {
+                alt125=1;
+                }
+                break;
+            case CUBE:
+                {
+                alt125=2;
+                }
+                break;
+            case IDENTIFIER:
+                {
+                alt125=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 125, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt125) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:611:7: GROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GROUP449=(CommonTree)match(input,GROUP,FOLLOW_GROUP_in_alias_col_ref4464); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GROUP449_tree = (CommonTree)adaptor.dupNode(GROUP449);
+
+
+                    adaptor.addChild(root_0, GROUP449_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((GROUP449!=null?GROUP449.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:612:7: CUBE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CUBE450=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_alias_col_ref4474); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CUBE450_tree = (CommonTree)adaptor.dupNode(CUBE450);
+
+
+                    adaptor.addChild(root_0, CUBE450_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CUBE450!=null?CUBE450.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:613:7: IDENTIFIER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER451=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_alias_col_ref4484); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER451_tree = (CommonTree)adaptor.dupNode(IDENTIFIER451);
+
+
+                    adaptor.addChild(root_0, IDENTIFIER451_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER451!=null?IDENTIFIER451.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "alias_col_ref"
+
+
+    public static class dollar_col_ref_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "dollar_col_ref"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:616:1: dollar_col_ref : DOLLARVAR ;
+    public final AstPrinter.dollar_col_ref_return dollar_col_ref() throws RecognitionException {
+        AstPrinter.dollar_col_ref_return retval = new AstPrinter.dollar_col_ref_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree DOLLARVAR452=null;
+
+        CommonTree DOLLARVAR452_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:617:5: ( DOLLARVAR )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:617:7: DOLLARVAR
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            DOLLARVAR452=(CommonTree)match(input,DOLLARVAR,FOLLOW_DOLLARVAR_in_dollar_col_ref4499); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            DOLLARVAR452_tree = (CommonTree)adaptor.dupNode(DOLLARVAR452);
+
+
+            adaptor.addChild(root_0, DOLLARVAR452_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((DOLLARVAR452!=null?DOLLARVAR452.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "dollar_col_ref"
+
+
+    public static class const_expr_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "const_expr"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:620:1: const_expr : literal ;
+    public final AstPrinter.const_expr_return const_expr() throws RecognitionException {
+        AstPrinter.const_expr_return retval = new AstPrinter.const_expr_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.literal_return literal453 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:620:12: ( literal )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:620:14: literal
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_literal_in_const_expr4510);
+            literal453=literal();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_0, literal453.getTree());
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "const_expr"
+
+
+    public static class literal_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "literal"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:623:1: literal : ( scalar | map | bag | tuple );
+    public final AstPrinter.literal_return literal() throws RecognitionException {
+        AstPrinter.literal_return retval = new AstPrinter.literal_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        AstPrinter.scalar_return scalar454 =null;
+
+        AstPrinter.map_return map455 =null;
+
+        AstPrinter.bag_return bag456 =null;
+
+        AstPrinter.tuple_return tuple457 =null;
+
+
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:623:9: ( scalar | map | bag | tuple )
+            int alt126=4;
+            switch ( input.LA(1) ) {
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case DOUBLENUMBER:
+            case FALSE:
+            case FLOATNUMBER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+            case NULL:
+            case QUOTEDSTRING:
+            case TRUE:
+                {
+                alt126=1;
+                }
+                break;
+            case MAP_VAL:
+                {
+                alt126=2;
+                }
+                break;
+            case BAG_VAL:
+                {
+                alt126=3;
+                }
+                break;
+            case TUPLE_VAL:
+                {
+                alt126=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 126, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt126) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:623:11: scalar
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_scalar_in_literal4519);
+                    scalar454=scalar();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, scalar454.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:623:20: map
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_map_in_literal4523);
+                    map455=map();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, map455.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:623:26: bag
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_bag_in_literal4527);
+                    bag456=bag();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, bag456.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:623:32: tuple
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_in_literal4531);
+                    tuple457=tuple();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, tuple457.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "literal"
+
+
+    public static class scalar_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "scalar"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:626:1: scalar : ( num_scalar | QUOTEDSTRING | NULL | TRUE | FALSE );
+    public final AstPrinter.scalar_return scalar() throws RecognitionException {
+        AstPrinter.scalar_return retval = new AstPrinter.scalar_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING459=null;
+        CommonTree NULL460=null;
+        CommonTree TRUE461=null;
+        CommonTree FALSE462=null;
+        AstPrinter.num_scalar_return num_scalar458 =null;
+
+
+        CommonTree QUOTEDSTRING459_tree=null;
+        CommonTree NULL460_tree=null;
+        CommonTree TRUE461_tree=null;
+        CommonTree FALSE462_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:626:8: ( num_scalar | QUOTEDSTRING | NULL | TRUE | FALSE )
+            int alt127=5;
+            switch ( input.LA(1) ) {
+            case BIGDECIMALNUMBER:
+            case BIGINTEGERNUMBER:
+            case DOUBLENUMBER:
+            case FLOATNUMBER:
+            case INTEGER:
+            case LONGINTEGER:
+            case MINUS:
+                {
+                alt127=1;
+                }
+                break;
+            case QUOTEDSTRING:
+                {
+                alt127=2;
+                }
+                break;
+            case NULL:
+                {
+                alt127=3;
+                }
+                break;
+            case TRUE:
+                {
+                alt127=4;
+                }
+                break;
+            case FALSE:
+                {
+                alt127=5;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 127, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt127) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:626:10: num_scalar
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_num_scalar_in_scalar4540);
+                    num_scalar458=num_scalar();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, num_scalar458.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:627:10: QUOTEDSTRING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    QUOTEDSTRING459=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_scalar4551); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    QUOTEDSTRING459_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING459);
+
+
+                    adaptor.addChild(root_0, QUOTEDSTRING459_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING459!=null?QUOTEDSTRING459.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:628:10: NULL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NULL460=(CommonTree)match(input,NULL,FOLLOW_NULL_in_scalar4564); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL460_tree = (CommonTree)adaptor.dupNode(NULL460);
+
+
+                    adaptor.addChild(root_0, NULL460_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((NULL460!=null?NULL460.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:629:10: TRUE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TRUE461=(CommonTree)match(input,TRUE,FOLLOW_TRUE_in_scalar4577); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TRUE461_tree = (CommonTree)adaptor.dupNode(TRUE461);
+
+
+                    adaptor.addChild(root_0, TRUE461_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((TRUE461!=null?TRUE461.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:630:10: FALSE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FALSE462=(CommonTree)match(input,FALSE,FOLLOW_FALSE_in_scalar4590); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FALSE462_tree = (CommonTree)adaptor.dupNode(FALSE462);
+
+
+                    adaptor.addChild(root_0, FALSE462_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FALSE462!=null?FALSE462.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "scalar"
+
+
+    public static class num_scalar_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "num_scalar"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:633:1: num_scalar : ( MINUS )? ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER ) ;
+    public final AstPrinter.num_scalar_return num_scalar() throws RecognitionException {
+        AstPrinter.num_scalar_return retval = new AstPrinter.num_scalar_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MINUS463=null;
+        CommonTree INTEGER464=null;
+        CommonTree LONGINTEGER465=null;
+        CommonTree FLOATNUMBER466=null;
+        CommonTree DOUBLENUMBER467=null;
+        CommonTree BIGINTEGERNUMBER468=null;
+        CommonTree BIGDECIMALNUMBER469=null;
+
+        CommonTree MINUS463_tree=null;
+        CommonTree INTEGER464_tree=null;
+        CommonTree LONGINTEGER465_tree=null;
+        CommonTree FLOATNUMBER466_tree=null;
+        CommonTree DOUBLENUMBER467_tree=null;
+        CommonTree BIGINTEGERNUMBER468_tree=null;
+        CommonTree BIGDECIMALNUMBER469_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:633:12: ( ( MINUS )? ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:633:14: ( MINUS )? ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:633:14: ( MINUS )?
+            int alt128=2;
+            int LA128_0 = input.LA(1);
+
+            if ( (LA128_0==MINUS) ) {
+                alt128=1;
+            }
+            switch (alt128) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:633:16: MINUS
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    MINUS463=(CommonTree)match(input,MINUS,FOLLOW_MINUS_in_num_scalar4603); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MINUS463_tree = (CommonTree)adaptor.dupNode(MINUS463);
+
+
+                    adaptor.addChild(root_0, MINUS463_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append( "-" ); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:634:14: ( INTEGER | LONGINTEGER | FLOATNUMBER | DOUBLENUMBER | BIGINTEGERNUMBER | BIGDECIMALNUMBER )
+            int alt129=6;
+            switch ( input.LA(1) ) {
+            case INTEGER:
+                {
+                alt129=1;
+                }
+                break;
+            case LONGINTEGER:
+                {
+                alt129=2;
+                }
+                break;
+            case FLOATNUMBER:
+                {
+                alt129=3;
+                }
+                break;
+            case DOUBLENUMBER:
+                {
+                alt129=4;
+                }
+                break;
+            case BIGINTEGERNUMBER:
+                {
+                alt129=5;
+                }
+                break;
+            case BIGDECIMALNUMBER:
+                {
+                alt129=6;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 129, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt129) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:634:16: INTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    INTEGER464=(CommonTree)match(input,INTEGER,FOLLOW_INTEGER_in_num_scalar4625); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTEGER464_tree = (CommonTree)adaptor.dupNode(INTEGER464);
+
+
+                    adaptor.addChild(root_0, INTEGER464_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((INTEGER464!=null?INTEGER464.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:635:16: LONGINTEGER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    LONGINTEGER465=(CommonTree)match(input,LONGINTEGER,FOLLOW_LONGINTEGER_in_num_scalar4644); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LONGINTEGER465_tree = (CommonTree)adaptor.dupNode(LONGINTEGER465);
+
+
+                    adaptor.addChild(root_0, LONGINTEGER465_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((LONGINTEGER465!=null?LONGINTEGER465.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:636:16: FLOATNUMBER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    FLOATNUMBER466=(CommonTree)match(input,FLOATNUMBER,FOLLOW_FLOATNUMBER_in_num_scalar4663); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FLOATNUMBER466_tree = (CommonTree)adaptor.dupNode(FLOATNUMBER466);
+
+
+                    adaptor.addChild(root_0, FLOATNUMBER466_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FLOATNUMBER466!=null?FLOATNUMBER466.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:637:16: DOUBLENUMBER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    DOUBLENUMBER467=(CommonTree)match(input,DOUBLENUMBER,FOLLOW_DOUBLENUMBER_in_num_scalar4682); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DOUBLENUMBER467_tree = (CommonTree)adaptor.dupNode(DOUBLENUMBER467);
+
+
+                    adaptor.addChild(root_0, DOUBLENUMBER467_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DOUBLENUMBER467!=null?DOUBLENUMBER467.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:638:16: BIGINTEGERNUMBER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    BIGINTEGERNUMBER468=(CommonTree)match(input,BIGINTEGERNUMBER,FOLLOW_BIGINTEGERNUMBER_in_num_scalar4701); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGINTEGERNUMBER468_tree = (CommonTree)adaptor.dupNode(BIGINTEGERNUMBER468);
+
+
+                    adaptor.addChild(root_0, BIGINTEGERNUMBER468_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BIGINTEGERNUMBER468!=null?BIGINTEGERNUMBER468.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:639:16: BIGDECIMALNUMBER
+                    {
+                    _last = (CommonTree)input.LT(1);
+                    BIGDECIMALNUMBER469=(CommonTree)match(input,BIGDECIMALNUMBER,FOLLOW_BIGDECIMALNUMBER_in_num_scalar4720); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGDECIMALNUMBER469_tree = (CommonTree)adaptor.dupNode(BIGDECIMALNUMBER469);
+
+
+                    adaptor.addChild(root_0, BIGDECIMALNUMBER469_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BIGDECIMALNUMBER469!=null?BIGDECIMALNUMBER469.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "num_scalar"
+
+
+    public static class map_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "map"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:643:1: map : ( ^( MAP_VAL keyvalue ( keyvalue )* ) | ^( MAP_VAL ) );
+    public final AstPrinter.map_return map() throws RecognitionException {
+        AstPrinter.map_return retval = new AstPrinter.map_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree MAP_VAL470=null;
+        CommonTree MAP_VAL473=null;
+        AstPrinter.keyvalue_return keyvalue471 =null;
+
+        AstPrinter.keyvalue_return keyvalue472 =null;
+
+
+        CommonTree MAP_VAL470_tree=null;
+        CommonTree MAP_VAL473_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:644:5: ( ^( MAP_VAL keyvalue ( keyvalue )* ) | ^( MAP_VAL ) )
+            int alt131=2;
+            int LA131_0 = input.LA(1);
+
+            if ( (LA131_0==MAP_VAL) ) {
+                int LA131_1 = input.LA(2);
+
+                if ( (LA131_1==DOWN) ) {
+                    int LA131_2 = input.LA(3);
+
+                    if ( (LA131_2==KEY_VAL_PAIR) ) {
+                        alt131=1;
+                    }
+                    else if ( (LA131_2==UP) ) {
+                        alt131=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 131, 2, input);
+
+                        throw nvae;
+
+                    }
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 131, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 131, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt131) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:644:7: ^( MAP_VAL keyvalue ( keyvalue )* )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    MAP_VAL470=(CommonTree)match(input,MAP_VAL,FOLLOW_MAP_VAL_in_map4752); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MAP_VAL470_tree = (CommonTree)adaptor.dupNode(MAP_VAL470);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(MAP_VAL470_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("["); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_keyvalue_in_map4756);
+                    keyvalue471=keyvalue();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, keyvalue471.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:644:47: ( keyvalue )*
+                    loop130:
+                    do {
+                        int alt130=2;
+                        int LA130_0 = input.LA(1);
+
+                        if ( (LA130_0==KEY_VAL_PAIR) ) {
+                            alt130=1;
+                        }
+
+
+                        switch (alt130) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:644:49: keyvalue
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_keyvalue_in_map4762);
+                    	    keyvalue472=keyvalue();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_1, keyvalue472.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop130;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { sb.append("]"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:645:7: ^( MAP_VAL )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    MAP_VAL473=(CommonTree)match(input,MAP_VAL,FOLLOW_MAP_VAL_in_map4778); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MAP_VAL473_tree = (CommonTree)adaptor.dupNode(MAP_VAL473);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(MAP_VAL473_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("[]"); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "map"
+
+
+    public static class keyvalue_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "keyvalue"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:648:1: keyvalue : ^( KEY_VAL_PAIR map_key const_expr ) ;
+    public final AstPrinter.keyvalue_return keyvalue() throws RecognitionException {
+        AstPrinter.keyvalue_return retval = new AstPrinter.keyvalue_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree KEY_VAL_PAIR474=null;
+        AstPrinter.map_key_return map_key475 =null;
+
+        AstPrinter.const_expr_return const_expr476 =null;
+
+
+        CommonTree KEY_VAL_PAIR474_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:649:5: ( ^( KEY_VAL_PAIR map_key const_expr ) )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:649:7: ^( KEY_VAL_PAIR map_key const_expr )
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            {
+            CommonTree _save_last_1 = _last;
+            CommonTree _first_1 = null;
+            CommonTree root_1 = (CommonTree)adaptor.nil();
+            _last = (CommonTree)input.LT(1);
+            KEY_VAL_PAIR474=(CommonTree)match(input,KEY_VAL_PAIR,FOLLOW_KEY_VAL_PAIR_in_keyvalue4797); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            KEY_VAL_PAIR474_tree = (CommonTree)adaptor.dupNode(KEY_VAL_PAIR474);
+
+
+            root_1 = (CommonTree)adaptor.becomeRoot(KEY_VAL_PAIR474_tree, root_1);
+            }
+
+
+            match(input, Token.DOWN, null); if (state.failed) return retval;
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_map_key_in_keyvalue4799);
+            map_key475=map_key();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, map_key475.getTree());
+
+
+            if ( state.backtracking==0 ) { sb.append("#"); }
+
+            _last = (CommonTree)input.LT(1);
+            pushFollow(FOLLOW_const_expr_in_keyvalue4803);
+            const_expr476=const_expr();
+
+            state._fsp--;
+            if (state.failed) return retval;
+            if ( state.backtracking==0 ) 
+            adaptor.addChild(root_1, const_expr476.getTree());
+
+
+            match(input, Token.UP, null); if (state.failed) return retval;
+            adaptor.addChild(root_0, root_1);
+            _last = _save_last_1;
+            }
+
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "keyvalue"
+
+
+    public static class map_key_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "map_key"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:652:1: map_key : QUOTEDSTRING ;
+    public final AstPrinter.map_key_return map_key() throws RecognitionException {
+        AstPrinter.map_key_return retval = new AstPrinter.map_key_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree QUOTEDSTRING477=null;
+
+        CommonTree QUOTEDSTRING477_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:652:9: ( QUOTEDSTRING )
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:652:11: QUOTEDSTRING
+            {
+            root_0 = (CommonTree)adaptor.nil();
+
+
+            _last = (CommonTree)input.LT(1);
+            QUOTEDSTRING477=(CommonTree)match(input,QUOTEDSTRING,FOLLOW_QUOTEDSTRING_in_map_key4814); if (state.failed) return retval;
+            if ( state.backtracking==0 ) {
+            QUOTEDSTRING477_tree = (CommonTree)adaptor.dupNode(QUOTEDSTRING477);
+
+
+            adaptor.addChild(root_0, QUOTEDSTRING477_tree);
+            }
+
+
+            if ( state.backtracking==0 ) { sb.append((QUOTEDSTRING477!=null?QUOTEDSTRING477.getText():null)); }
+
+            if ( state.backtracking==0 ) {
+            }
+            }
+
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "map_key"
+
+
+    public static class bag_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bag"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:655:1: bag : ( ^( BAG_VAL tuple ( tuple )* ) | ^( BAG_VAL ) );
+    public final AstPrinter.bag_return bag() throws RecognitionException {
+        AstPrinter.bag_return retval = new AstPrinter.bag_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree BAG_VAL478=null;
+        CommonTree BAG_VAL481=null;
+        AstPrinter.tuple_return tuple479 =null;
+
+        AstPrinter.tuple_return tuple480 =null;
+
+
+        CommonTree BAG_VAL478_tree=null;
+        CommonTree BAG_VAL481_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:656:5: ( ^( BAG_VAL tuple ( tuple )* ) | ^( BAG_VAL ) )
+            int alt133=2;
+            int LA133_0 = input.LA(1);
+
+            if ( (LA133_0==BAG_VAL) ) {
+                int LA133_1 = input.LA(2);
+
+                if ( (LA133_1==DOWN) ) {
+                    int LA133_2 = input.LA(3);
+
+                    if ( (LA133_2==TUPLE_VAL) ) {
+                        alt133=1;
+                    }
+                    else if ( (LA133_2==UP) ) {
+                        alt133=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 133, 2, input);
+
+                        throw nvae;
+
+                    }
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 133, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 133, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt133) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:656:7: ^( BAG_VAL tuple ( tuple )* )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    BAG_VAL478=(CommonTree)match(input,BAG_VAL,FOLLOW_BAG_VAL_in_bag4831); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BAG_VAL478_tree = (CommonTree)adaptor.dupNode(BAG_VAL478);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(BAG_VAL478_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("{"); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_tuple_in_bag4835);
+                    tuple479=tuple();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, tuple479.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:656:44: ( tuple )*
+                    loop132:
+                    do {
+                        int alt132=2;
+                        int LA132_0 = input.LA(1);
+
+                        if ( (LA132_0==TUPLE_VAL) ) {
+                            alt132=1;
+                        }
+
+
+                        switch (alt132) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:656:46: tuple
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_tuple_in_bag4841);
+                    	    tuple480=tuple();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_1, tuple480.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop132;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { sb.append("}"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:657:7: ^( BAG_VAL )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    BAG_VAL481=(CommonTree)match(input,BAG_VAL,FOLLOW_BAG_VAL_in_bag4857); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BAG_VAL481_tree = (CommonTree)adaptor.dupNode(BAG_VAL481);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(BAG_VAL481_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("{}"); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bag"
+
+
+    public static class tuple_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tuple"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:660:1: tuple : ( ^( TUPLE_VAL literal ( literal )* ) | ^( TUPLE_VAL ) );
+    public final AstPrinter.tuple_return tuple() throws RecognitionException {
+        AstPrinter.tuple_return retval = new AstPrinter.tuple_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree TUPLE_VAL482=null;
+        CommonTree TUPLE_VAL485=null;
+        AstPrinter.literal_return literal483 =null;
+
+        AstPrinter.literal_return literal484 =null;
+
+
+        CommonTree TUPLE_VAL482_tree=null;
+        CommonTree TUPLE_VAL485_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:661:5: ( ^( TUPLE_VAL literal ( literal )* ) | ^( TUPLE_VAL ) )
+            int alt135=2;
+            int LA135_0 = input.LA(1);
+
+            if ( (LA135_0==TUPLE_VAL) ) {
+                int LA135_1 = input.LA(2);
+
+                if ( (LA135_1==DOWN) ) {
+                    int LA135_2 = input.LA(3);
+
+                    if ( (LA135_2==BIGDECIMALNUMBER||LA135_2==BIGINTEGERNUMBER||LA135_2==DOUBLENUMBER||LA135_2==FALSE||LA135_2==FLOATNUMBER||LA135_2==INTEGER||LA135_2==LONGINTEGER||LA135_2==MINUS||LA135_2==NULL||LA135_2==QUOTEDSTRING||LA135_2==TRUE||LA135_2==BAG_VAL||LA135_2==MAP_VAL||LA135_2==TUPLE_VAL) ) {
+                        alt135=1;
+                    }
+                    else if ( (LA135_2==UP) ) {
+                        alt135=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return retval;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 135, 2, input);
+
+                        throw nvae;
+
+                    }
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return retval;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 135, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 135, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt135) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:661:7: ^( TUPLE_VAL literal ( literal )* )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    TUPLE_VAL482=(CommonTree)match(input,TUPLE_VAL,FOLLOW_TUPLE_VAL_in_tuple4876); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TUPLE_VAL482_tree = (CommonTree)adaptor.dupNode(TUPLE_VAL482);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_VAL482_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("("); }
+
+                    match(input, Token.DOWN, null); if (state.failed) return retval;
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_literal_in_tuple4880);
+                    literal483=literal();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_1, literal483.getTree());
+
+
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:661:48: ( literal )*
+                    loop134:
+                    do {
+                        int alt134=2;
+                        int LA134_0 = input.LA(1);
+
+                        if ( (LA134_0==BIGDECIMALNUMBER||LA134_0==BIGINTEGERNUMBER||LA134_0==DOUBLENUMBER||LA134_0==FALSE||LA134_0==FLOATNUMBER||LA134_0==INTEGER||LA134_0==LONGINTEGER||LA134_0==MINUS||LA134_0==NULL||LA134_0==QUOTEDSTRING||LA134_0==TRUE||LA134_0==BAG_VAL||LA134_0==MAP_VAL||LA134_0==TUPLE_VAL) ) {
+                            alt134=1;
+                        }
+
+
+                        switch (alt134) {
+                    	case 1 :
+                    	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:661:50: literal
+                    	    {
+                    	    if ( state.backtracking==0 ) { sb.append(", "); }
+
+                    	    _last = (CommonTree)input.LT(1);
+                    	    pushFollow(FOLLOW_literal_in_tuple4887);
+                    	    literal484=literal();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return retval;
+                    	    if ( state.backtracking==0 ) 
+                    	    adaptor.addChild(root_1, literal484.getTree());
+
+
+                    	    if ( state.backtracking==0 ) {
+                    	    }
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop134;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { sb.append(")"); }
+
+                    match(input, Token.UP, null); if (state.failed) return retval;
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:662:7: ^( TUPLE_VAL )
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    {
+                    CommonTree _save_last_1 = _last;
+                    CommonTree _first_1 = null;
+                    CommonTree root_1 = (CommonTree)adaptor.nil();
+                    _last = (CommonTree)input.LT(1);
+                    TUPLE_VAL485=(CommonTree)match(input,TUPLE_VAL,FOLLOW_TUPLE_VAL_in_tuple4903); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TUPLE_VAL485_tree = (CommonTree)adaptor.dupNode(TUPLE_VAL485);
+
+
+                    root_1 = (CommonTree)adaptor.becomeRoot(TUPLE_VAL485_tree, root_1);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append("()"); }
+
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); if (state.failed) return retval;
+                        match(input, Token.UP, null); if (state.failed) return retval;
+                    }
+                    adaptor.addChild(root_0, root_1);
+                    _last = _save_last_1;
+                    }
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tuple"
+
+
+    public static class eid_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "eid"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:666:1: eid : ( rel_str_op | IMPORT | RETURNS | DEFINE | LOAD | FILTER | FOREACH | CUBE | ROLLUP | MATCHES | ORDER | RANK | DISTINCT | COGROUP | JOIN | CROSS | UNION | SPLIT | INTO | IF | ALL | AS | BY | USING | INNER | OUTER | PARALLEL | PARTITION | GROUP | AND | OR | NOT | GENERATE | FLATTEN | EVAL | ASC | DESC | BOOLEAN | INT | LONG | FLOAT | DOUBLE | BIGINTEGER | BIGDECIMAL | DATETIME | CHARARRAY | BYTEARRAY | BAG | TUPLE | MAP | IS | NULL | TRUE | FALSE | STREAM | THROUGH | STORE | MAPREDUCE | SHIP | CACHE | INPUT | OUTPUT | STDERROR | STDIN | STDOUT | LIMIT | SAMPLE | LEFT | RIGHT | FULL | IDENTIFIER | TOBAG | TOMAP | TOTUPLE | IN | CASE | ASSERT );
+    public final AstPrinter.eid_return eid() throws RecognitionException {
+        AstPrinter.eid_return retval = new AstPrinter.eid_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree IMPORT487=null;
+        CommonTree RETURNS488=null;
+        CommonTree DEFINE489=null;
+        CommonTree LOAD490=null;
+        CommonTree FILTER491=null;
+        CommonTree FOREACH492=null;
+        CommonTree CUBE493=null;
+        CommonTree ROLLUP494=null;
+        CommonTree MATCHES495=null;
+        CommonTree ORDER496=null;
+        CommonTree RANK497=null;
+        CommonTree DISTINCT498=null;
+        CommonTree COGROUP499=null;
+        CommonTree JOIN500=null;
+        CommonTree CROSS501=null;
+        CommonTree UNION502=null;
+        CommonTree SPLIT503=null;
+        CommonTree INTO504=null;
+        CommonTree IF505=null;
+        CommonTree ALL506=null;
+        CommonTree AS507=null;
+        CommonTree BY508=null;
+        CommonTree USING509=null;
+        CommonTree INNER510=null;
+        CommonTree OUTER511=null;
+        CommonTree PARALLEL512=null;
+        CommonTree PARTITION513=null;
+        CommonTree GROUP514=null;
+        CommonTree AND515=null;
+        CommonTree OR516=null;
+        CommonTree NOT517=null;
+        CommonTree GENERATE518=null;
+        CommonTree FLATTEN519=null;
+        CommonTree EVAL520=null;
+        CommonTree ASC521=null;
+        CommonTree DESC522=null;
+        CommonTree BOOLEAN523=null;
+        CommonTree INT524=null;
+        CommonTree LONG525=null;
+        CommonTree FLOAT526=null;
+        CommonTree DOUBLE527=null;
+        CommonTree BIGINTEGER528=null;
+        CommonTree BIGDECIMAL529=null;
+        CommonTree DATETIME530=null;
+        CommonTree CHARARRAY531=null;
+        CommonTree BYTEARRAY532=null;
+        CommonTree BAG533=null;
+        CommonTree TUPLE534=null;
+        CommonTree MAP535=null;
+        CommonTree IS536=null;
+        CommonTree NULL537=null;
+        CommonTree TRUE538=null;
+        CommonTree FALSE539=null;
+        CommonTree STREAM540=null;
+        CommonTree THROUGH541=null;
+        CommonTree STORE542=null;
+        CommonTree MAPREDUCE543=null;
+        CommonTree SHIP544=null;
+        CommonTree CACHE545=null;
+        CommonTree INPUT546=null;
+        CommonTree OUTPUT547=null;
+        CommonTree STDERROR548=null;
+        CommonTree STDIN549=null;
+        CommonTree STDOUT550=null;
+        CommonTree LIMIT551=null;
+        CommonTree SAMPLE552=null;
+        CommonTree LEFT553=null;
+        CommonTree RIGHT554=null;
+        CommonTree FULL555=null;
+        CommonTree IDENTIFIER556=null;
+        CommonTree TOBAG557=null;
+        CommonTree TOMAP558=null;
+        CommonTree TOTUPLE559=null;
+        CommonTree IN560=null;
+        CommonTree CASE561=null;
+        CommonTree ASSERT562=null;
+        AstPrinter.rel_str_op_return rel_str_op486 =null;
+
+
+        CommonTree IMPORT487_tree=null;
+        CommonTree RETURNS488_tree=null;
+        CommonTree DEFINE489_tree=null;
+        CommonTree LOAD490_tree=null;
+        CommonTree FILTER491_tree=null;
+        CommonTree FOREACH492_tree=null;
+        CommonTree CUBE493_tree=null;
+        CommonTree ROLLUP494_tree=null;
+        CommonTree MATCHES495_tree=null;
+        CommonTree ORDER496_tree=null;
+        CommonTree RANK497_tree=null;
+        CommonTree DISTINCT498_tree=null;
+        CommonTree COGROUP499_tree=null;
+        CommonTree JOIN500_tree=null;
+        CommonTree CROSS501_tree=null;
+        CommonTree UNION502_tree=null;
+        CommonTree SPLIT503_tree=null;
+        CommonTree INTO504_tree=null;
+        CommonTree IF505_tree=null;
+        CommonTree ALL506_tree=null;
+        CommonTree AS507_tree=null;
+        CommonTree BY508_tree=null;
+        CommonTree USING509_tree=null;
+        CommonTree INNER510_tree=null;
+        CommonTree OUTER511_tree=null;
+        CommonTree PARALLEL512_tree=null;
+        CommonTree PARTITION513_tree=null;
+        CommonTree GROUP514_tree=null;
+        CommonTree AND515_tree=null;
+        CommonTree OR516_tree=null;
+        CommonTree NOT517_tree=null;
+        CommonTree GENERATE518_tree=null;
+        CommonTree FLATTEN519_tree=null;
+        CommonTree EVAL520_tree=null;
+        CommonTree ASC521_tree=null;
+        CommonTree DESC522_tree=null;
+        CommonTree BOOLEAN523_tree=null;
+        CommonTree INT524_tree=null;
+        CommonTree LONG525_tree=null;
+        CommonTree FLOAT526_tree=null;
+        CommonTree DOUBLE527_tree=null;
+        CommonTree BIGINTEGER528_tree=null;
+        CommonTree BIGDECIMAL529_tree=null;
+        CommonTree DATETIME530_tree=null;
+        CommonTree CHARARRAY531_tree=null;
+        CommonTree BYTEARRAY532_tree=null;
+        CommonTree BAG533_tree=null;
+        CommonTree TUPLE534_tree=null;
+        CommonTree MAP535_tree=null;
+        CommonTree IS536_tree=null;
+        CommonTree NULL537_tree=null;
+        CommonTree TRUE538_tree=null;
+        CommonTree FALSE539_tree=null;
+        CommonTree STREAM540_tree=null;
+        CommonTree THROUGH541_tree=null;
+        CommonTree STORE542_tree=null;
+        CommonTree MAPREDUCE543_tree=null;
+        CommonTree SHIP544_tree=null;
+        CommonTree CACHE545_tree=null;
+        CommonTree INPUT546_tree=null;
+        CommonTree OUTPUT547_tree=null;
+        CommonTree STDERROR548_tree=null;
+        CommonTree STDIN549_tree=null;
+        CommonTree STDOUT550_tree=null;
+        CommonTree LIMIT551_tree=null;
+        CommonTree SAMPLE552_tree=null;
+        CommonTree LEFT553_tree=null;
+        CommonTree RIGHT554_tree=null;
+        CommonTree FULL555_tree=null;
+        CommonTree IDENTIFIER556_tree=null;
+        CommonTree TOBAG557_tree=null;
+        CommonTree TOMAP558_tree=null;
+        CommonTree TOTUPLE559_tree=null;
+        CommonTree IN560_tree=null;
+        CommonTree CASE561_tree=null;
+        CommonTree ASSERT562_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:666:5: ( rel_str_op | IMPORT | RETURNS | DEFINE | LOAD | FILTER | FOREACH | CUBE | ROLLUP | MATCHES | ORDER | RANK | DISTINCT | COGROUP | JOIN | CROSS | UNION | SPLIT | INTO | IF | ALL | AS | BY | USING | INNER | OUTER | PARALLEL | PARTITION | GROUP | AND | OR | NOT | GENERATE | FLATTEN | EVAL | ASC | DESC | BOOLEAN | INT | LONG | FLOAT | DOUBLE | BIGINTEGER | BIGDECIMAL | DATETIME | CHARARRAY | BYTEARRAY | BAG | TUPLE | MAP | IS | NULL | TRUE | FALSE | STREAM | THROUGH | STORE | MAPREDUCE | SHIP | CACHE | INPUT | OUTPUT | STDERROR | STDIN | STDOUT | LIMIT | SAMPLE | LEFT | RIGHT | FULL | IDENTIFIER | TOBAG | TOMAP | TOTUPLE | IN | CASE | ASSERT )
+            int alt136=77;
+            switch ( input.LA(1) ) {
+            case STR_OP_EQ:
+            case STR_OP_GT:
+            case STR_OP_GTE:
+            case STR_OP_LT:
+            case STR_OP_LTE:
+            case STR_OP_MATCHES:
+            case STR_OP_NE:
+                {
+                alt136=1;
+                }
+                break;
+            case IMPORT:
+                {
+                alt136=2;
+                }
+                break;
+            case RETURNS:
+                {
+                alt136=3;
+                }
+                break;
+            case DEFINE:
+                {
+                alt136=4;
+                }
+                break;
+            case LOAD:
+                {
+                alt136=5;
+                }
+                break;
+            case FILTER:
+                {
+                alt136=6;
+                }
+                break;
+            case FOREACH:
+                {
+                alt136=7;
+                }
+                break;
+            case CUBE:
+                {
+                alt136=8;
+                }
+                break;
+            case ROLLUP:
+                {
+                alt136=9;
+                }
+                break;
+            case MATCHES:
+                {
+                alt136=10;
+                }
+                break;
+            case ORDER:
+                {
+                alt136=11;
+                }
+                break;
+            case RANK:
+                {
+                alt136=12;
+                }
+                break;
+            case DISTINCT:
+                {
+                alt136=13;
+                }
+                break;
+            case COGROUP:
+                {
+                alt136=14;
+                }
+                break;
+            case JOIN:
+                {
+                alt136=15;
+                }
+                break;
+            case CROSS:
+                {
+                alt136=16;
+                }
+                break;
+            case UNION:
+                {
+                alt136=17;
+                }
+                break;
+            case SPLIT:
+                {
+                alt136=18;
+                }
+                break;
+            case INTO:
+                {
+                alt136=19;
+                }
+                break;
+            case IF:
+                {
+                alt136=20;
+                }
+                break;
+            case ALL:
+                {
+                alt136=21;
+                }
+                break;
+            case AS:
+                {
+                alt136=22;
+                }
+                break;
+            case BY:
+                {
+                alt136=23;
+                }
+                break;
+            case USING:
+                {
+                alt136=24;
+                }
+                break;
+            case INNER:
+                {
+                alt136=25;
+                }
+                break;
+            case OUTER:
+                {
+                alt136=26;
+                }
+                break;
+            case PARALLEL:
+                {
+                alt136=27;
+                }
+                break;
+            case PARTITION:
+                {
+                alt136=28;
+                }
+                break;
+            case GROUP:
+                {
+                alt136=29;
+                }
+                break;
+            case AND:
+                {
+                alt136=30;
+                }
+                break;
+            case OR:
+                {
+                alt136=31;
+                }
+                break;
+            case NOT:
+                {
+                alt136=32;
+                }
+                break;
+            case GENERATE:
+                {
+                alt136=33;
+                }
+                break;
+            case FLATTEN:
+                {
+                alt136=34;
+                }
+                break;
+            case EVAL:
+                {
+                alt136=35;
+                }
+                break;
+            case ASC:
+                {
+                alt136=36;
+                }
+                break;
+            case DESC:
+                {
+                alt136=37;
+                }
+                break;
+            case BOOLEAN:
+                {
+                alt136=38;
+                }
+                break;
+            case INT:
+                {
+                alt136=39;
+                }
+                break;
+            case LONG:
+                {
+                alt136=40;
+                }
+                break;
+            case FLOAT:
+                {
+                alt136=41;
+                }
+                break;
+            case DOUBLE:
+                {
+                alt136=42;
+                }
+                break;
+            case BIGINTEGER:
+                {
+                alt136=43;
+                }
+                break;
+            case BIGDECIMAL:
+                {
+                alt136=44;
+                }
+                break;
+            case DATETIME:
+                {
+                alt136=45;
+                }
+                break;
+            case CHARARRAY:
+                {
+                alt136=46;
+                }
+                break;
+            case BYTEARRAY:
+                {
+                alt136=47;
+                }
+                break;
+            case BAG:
+                {
+                alt136=48;
+                }
+                break;
+            case TUPLE:
+                {
+                alt136=49;
+                }
+                break;
+            case MAP:
+                {
+                alt136=50;
+                }
+                break;
+            case IS:
+                {
+                alt136=51;
+                }
+                break;
+            case NULL:
+                {
+                alt136=52;
+                }
+                break;
+            case TRUE:
+                {
+                alt136=53;
+                }
+                break;
+            case FALSE:
+                {
+                alt136=54;
+                }
+                break;
+            case STREAM:
+                {
+                alt136=55;
+                }
+                break;
+            case THROUGH:
+                {
+                alt136=56;
+                }
+                break;
+            case STORE:
+                {
+                alt136=57;
+                }
+                break;
+            case MAPREDUCE:
+                {
+                alt136=58;
+                }
+                break;
+            case SHIP:
+                {
+                alt136=59;
+                }
+                break;
+            case CACHE:
+                {
+                alt136=60;
+                }
+                break;
+            case INPUT:
+                {
+                alt136=61;
+                }
+                break;
+            case OUTPUT:
+                {
+                alt136=62;
+                }
+                break;
+            case STDERROR:
+                {
+                alt136=63;
+                }
+                break;
+            case STDIN:
+                {
+                alt136=64;
+                }
+                break;
+            case STDOUT:
+                {
+                alt136=65;
+                }
+                break;
+            case LIMIT:
+                {
+                alt136=66;
+                }
+                break;
+            case SAMPLE:
+                {
+                alt136=67;
+                }
+                break;
+            case LEFT:
+                {
+                alt136=68;
+                }
+                break;
+            case RIGHT:
+                {
+                alt136=69;
+                }
+                break;
+            case FULL:
+                {
+                alt136=70;
+                }
+                break;
+            case IDENTIFIER:
+                {
+                alt136=71;
+                }
+                break;
+            case TOBAG:
+                {
+                alt136=72;
+                }
+                break;
+            case TOMAP:
+                {
+                alt136=73;
+                }
+                break;
+            case TOTUPLE:
+                {
+                alt136=74;
+                }
+                break;
+            case IN:
+                {
+                alt136=75;
+                }
+                break;
+            case CASE:
+                {
+                alt136=76;
+                }
+                break;
+            case ASSERT:
+                {
+                alt136=77;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 136, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt136) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:666:7: rel_str_op
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_str_op_in_eid4917);
+                    rel_str_op486=rel_str_op();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_str_op486.getTree());
+
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:667:7: IMPORT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IMPORT487=(CommonTree)match(input,IMPORT,FOLLOW_IMPORT_in_eid4925); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IMPORT487_tree = (CommonTree)adaptor.dupNode(IMPORT487);
+
+
+                    adaptor.addChild(root_0, IMPORT487_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IMPORT487!=null?IMPORT487.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:668:7: RETURNS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    RETURNS488=(CommonTree)match(input,RETURNS,FOLLOW_RETURNS_in_eid4938); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    RETURNS488_tree = (CommonTree)adaptor.dupNode(RETURNS488);
+
+
+                    adaptor.addChild(root_0, RETURNS488_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((RETURNS488!=null?RETURNS488.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:669:7: DEFINE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DEFINE489=(CommonTree)match(input,DEFINE,FOLLOW_DEFINE_in_eid4950); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DEFINE489_tree = (CommonTree)adaptor.dupNode(DEFINE489);
+
+
+                    adaptor.addChild(root_0, DEFINE489_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DEFINE489!=null?DEFINE489.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:670:7: LOAD
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LOAD490=(CommonTree)match(input,LOAD,FOLLOW_LOAD_in_eid4963); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LOAD490_tree = (CommonTree)adaptor.dupNode(LOAD490);
+
+
+                    adaptor.addChild(root_0, LOAD490_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((LOAD490!=null?LOAD490.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:671:7: FILTER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FILTER491=(CommonTree)match(input,FILTER,FOLLOW_FILTER_in_eid4978); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FILTER491_tree = (CommonTree)adaptor.dupNode(FILTER491);
+
+
+                    adaptor.addChild(root_0, FILTER491_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FILTER491!=null?FILTER491.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:672:7: FOREACH
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FOREACH492=(CommonTree)match(input,FOREACH,FOLLOW_FOREACH_in_eid4991); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FOREACH492_tree = (CommonTree)adaptor.dupNode(FOREACH492);
+
+
+                    adaptor.addChild(root_0, FOREACH492_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FOREACH492!=null?FOREACH492.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:673:7: CUBE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CUBE493=(CommonTree)match(input,CUBE,FOLLOW_CUBE_in_eid5003); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CUBE493_tree = (CommonTree)adaptor.dupNode(CUBE493);
+
+
+                    adaptor.addChild(root_0, CUBE493_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CUBE493!=null?CUBE493.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:674:7: ROLLUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ROLLUP494=(CommonTree)match(input,ROLLUP,FOLLOW_ROLLUP_in_eid5018); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ROLLUP494_tree = (CommonTree)adaptor.dupNode(ROLLUP494);
+
+
+                    adaptor.addChild(root_0, ROLLUP494_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ROLLUP494!=null?ROLLUP494.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:675:7: MATCHES
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MATCHES495=(CommonTree)match(input,MATCHES,FOLLOW_MATCHES_in_eid5031); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MATCHES495_tree = (CommonTree)adaptor.dupNode(MATCHES495);
+
+
+                    adaptor.addChild(root_0, MATCHES495_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((MATCHES495!=null?MATCHES495.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:676:7: ORDER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ORDER496=(CommonTree)match(input,ORDER,FOLLOW_ORDER_in_eid5043); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ORDER496_tree = (CommonTree)adaptor.dupNode(ORDER496);
+
+
+                    adaptor.addChild(root_0, ORDER496_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ORDER496!=null?ORDER496.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 12 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:677:7: RANK
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    RANK497=(CommonTree)match(input,RANK,FOLLOW_RANK_in_eid5057); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    RANK497_tree = (CommonTree)adaptor.dupNode(RANK497);
+
+
+                    adaptor.addChild(root_0, RANK497_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((RANK497!=null?RANK497.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 13 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:678:7: DISTINCT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DISTINCT498=(CommonTree)match(input,DISTINCT,FOLLOW_DISTINCT_in_eid5072); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DISTINCT498_tree = (CommonTree)adaptor.dupNode(DISTINCT498);
+
+
+                    adaptor.addChild(root_0, DISTINCT498_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DISTINCT498!=null?DISTINCT498.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 14 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:679:7: COGROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    COGROUP499=(CommonTree)match(input,COGROUP,FOLLOW_COGROUP_in_eid5083); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    COGROUP499_tree = (CommonTree)adaptor.dupNode(COGROUP499);
+
+
+                    adaptor.addChild(root_0, COGROUP499_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((COGROUP499!=null?COGROUP499.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 15 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:680:7: JOIN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    JOIN500=(CommonTree)match(input,JOIN,FOLLOW_JOIN_in_eid5095); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    JOIN500_tree = (CommonTree)adaptor.dupNode(JOIN500);
+
+
+                    adaptor.addChild(root_0, JOIN500_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((JOIN500!=null?JOIN500.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 16 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:681:7: CROSS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CROSS501=(CommonTree)match(input,CROSS,FOLLOW_CROSS_in_eid5110); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CROSS501_tree = (CommonTree)adaptor.dupNode(CROSS501);
+
+
+                    adaptor.addChild(root_0, CROSS501_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CROSS501!=null?CROSS501.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 17 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:682:7: UNION
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    UNION502=(CommonTree)match(input,UNION,FOLLOW_UNION_in_eid5124); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    UNION502_tree = (CommonTree)adaptor.dupNode(UNION502);
+
+
+                    adaptor.addChild(root_0, UNION502_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((UNION502!=null?UNION502.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 18 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:683:7: SPLIT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    SPLIT503=(CommonTree)match(input,SPLIT,FOLLOW_SPLIT_in_eid5138); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    SPLIT503_tree = (CommonTree)adaptor.dupNode(SPLIT503);
+
+
+                    adaptor.addChild(root_0, SPLIT503_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((SPLIT503!=null?SPLIT503.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 19 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:684:7: INTO
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INTO504=(CommonTree)match(input,INTO,FOLLOW_INTO_in_eid5152); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INTO504_tree = (CommonTree)adaptor.dupNode(INTO504);
+
+
+                    adaptor.addChild(root_0, INTO504_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((INTO504!=null?INTO504.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 20 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:685:7: IF
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IF505=(CommonTree)match(input,IF,FOLLOW_IF_in_eid5167); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IF505_tree = (CommonTree)adaptor.dupNode(IF505);
+
+
+                    adaptor.addChild(root_0, IF505_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IF505!=null?IF505.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 21 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:686:7: ALL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ALL506=(CommonTree)match(input,ALL,FOLLOW_ALL_in_eid5184); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ALL506_tree = (CommonTree)adaptor.dupNode(ALL506);
+
+
+                    adaptor.addChild(root_0, ALL506_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ALL506!=null?ALL506.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 22 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:687:7: AS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    AS507=(CommonTree)match(input,AS,FOLLOW_AS_in_eid5200); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    AS507_tree = (CommonTree)adaptor.dupNode(AS507);
+
+
+                    adaptor.addChild(root_0, AS507_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((AS507!=null?AS507.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 23 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:688:7: BY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BY508=(CommonTree)match(input,BY,FOLLOW_BY_in_eid5217); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BY508_tree = (CommonTree)adaptor.dupNode(BY508);
+
+
+                    adaptor.addChild(root_0, BY508_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BY508!=null?BY508.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 24 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:689:7: USING
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    USING509=(CommonTree)match(input,USING,FOLLOW_USING_in_eid5234); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    USING509_tree = (CommonTree)adaptor.dupNode(USING509);
+
+
+                    adaptor.addChild(root_0, USING509_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((USING509!=null?USING509.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 25 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:690:7: INNER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INNER510=(CommonTree)match(input,INNER,FOLLOW_INNER_in_eid5248); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INNER510_tree = (CommonTree)adaptor.dupNode(INNER510);
+
+
+                    adaptor.addChild(root_0, INNER510_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((INNER510!=null?INNER510.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 26 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:691:7: OUTER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    OUTER511=(CommonTree)match(input,OUTER,FOLLOW_OUTER_in_eid5262); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OUTER511_tree = (CommonTree)adaptor.dupNode(OUTER511);
+
+
+                    adaptor.addChild(root_0, OUTER511_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((OUTER511!=null?OUTER511.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 27 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:692:7: PARALLEL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    PARALLEL512=(CommonTree)match(input,PARALLEL,FOLLOW_PARALLEL_in_eid5276); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PARALLEL512_tree = (CommonTree)adaptor.dupNode(PARALLEL512);
+
+
+                    adaptor.addChild(root_0, PARALLEL512_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((PARALLEL512!=null?PARALLEL512.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 28 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:693:7: PARTITION
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    PARTITION513=(CommonTree)match(input,PARTITION,FOLLOW_PARTITION_in_eid5287); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    PARTITION513_tree = (CommonTree)adaptor.dupNode(PARTITION513);
+
+
+                    adaptor.addChild(root_0, PARTITION513_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((PARTITION513!=null?PARTITION513.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 29 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:694:7: GROUP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GROUP514=(CommonTree)match(input,GROUP,FOLLOW_GROUP_in_eid5297); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GROUP514_tree = (CommonTree)adaptor.dupNode(GROUP514);
+
+
+                    adaptor.addChild(root_0, GROUP514_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((GROUP514!=null?GROUP514.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 30 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:695:7: AND
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    AND515=(CommonTree)match(input,AND,FOLLOW_AND_in_eid5311); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    AND515_tree = (CommonTree)adaptor.dupNode(AND515);
+
+
+                    adaptor.addChild(root_0, AND515_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((AND515!=null?AND515.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 31 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:696:7: OR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    OR516=(CommonTree)match(input,OR,FOLLOW_OR_in_eid5327); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OR516_tree = (CommonTree)adaptor.dupNode(OR516);
+
+
+                    adaptor.addChild(root_0, OR516_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((OR516!=null?OR516.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 32 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:697:7: NOT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NOT517=(CommonTree)match(input,NOT,FOLLOW_NOT_in_eid5344); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NOT517_tree = (CommonTree)adaptor.dupNode(NOT517);
+
+
+                    adaptor.addChild(root_0, NOT517_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((NOT517!=null?NOT517.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 33 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:698:7: GENERATE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    GENERATE518=(CommonTree)match(input,GENERATE,FOLLOW_GENERATE_in_eid5360); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    GENERATE518_tree = (CommonTree)adaptor.dupNode(GENERATE518);
+
+
+                    adaptor.addChild(root_0, GENERATE518_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((GENERATE518!=null?GENERATE518.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 34 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:699:7: FLATTEN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FLATTEN519=(CommonTree)match(input,FLATTEN,FOLLOW_FLATTEN_in_eid5371); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FLATTEN519_tree = (CommonTree)adaptor.dupNode(FLATTEN519);
+
+
+                    adaptor.addChild(root_0, FLATTEN519_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FLATTEN519!=null?FLATTEN519.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 35 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:700:7: EVAL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    EVAL520=(CommonTree)match(input,EVAL,FOLLOW_EVAL_in_eid5383); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    EVAL520_tree = (CommonTree)adaptor.dupNode(EVAL520);
+
+
+                    adaptor.addChild(root_0, EVAL520_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((EVAL520!=null?EVAL520.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 36 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:701:7: ASC
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ASC521=(CommonTree)match(input,ASC,FOLLOW_ASC_in_eid5398); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ASC521_tree = (CommonTree)adaptor.dupNode(ASC521);
+
+
+                    adaptor.addChild(root_0, ASC521_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ASC521!=null?ASC521.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 37 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:702:7: DESC
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DESC522=(CommonTree)match(input,DESC,FOLLOW_DESC_in_eid5414); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DESC522_tree = (CommonTree)adaptor.dupNode(DESC522);
+
+
+                    adaptor.addChild(root_0, DESC522_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DESC522!=null?DESC522.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 38 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:703:7: BOOLEAN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BOOLEAN523=(CommonTree)match(input,BOOLEAN,FOLLOW_BOOLEAN_in_eid5429); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BOOLEAN523_tree = (CommonTree)adaptor.dupNode(BOOLEAN523);
+
+
+                    adaptor.addChild(root_0, BOOLEAN523_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BOOLEAN523!=null?BOOLEAN523.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 39 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:704:7: INT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INT524=(CommonTree)match(input,INT,FOLLOW_INT_in_eid5441); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INT524_tree = (CommonTree)adaptor.dupNode(INT524);
+
+
+                    adaptor.addChild(root_0, INT524_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((INT524!=null?INT524.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 40 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:705:7: LONG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LONG525=(CommonTree)match(input,LONG,FOLLOW_LONG_in_eid5457); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LONG525_tree = (CommonTree)adaptor.dupNode(LONG525);
+
+
+                    adaptor.addChild(root_0, LONG525_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((LONG525!=null?LONG525.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 41 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:706:7: FLOAT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FLOAT526=(CommonTree)match(input,FLOAT,FOLLOW_FLOAT_in_eid5472); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FLOAT526_tree = (CommonTree)adaptor.dupNode(FLOAT526);
+
+
+                    adaptor.addChild(root_0, FLOAT526_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FLOAT526!=null?FLOAT526.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 42 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:707:7: DOUBLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DOUBLE527=(CommonTree)match(input,DOUBLE,FOLLOW_DOUBLE_in_eid5486); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DOUBLE527_tree = (CommonTree)adaptor.dupNode(DOUBLE527);
+
+
+                    adaptor.addChild(root_0, DOUBLE527_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DOUBLE527!=null?DOUBLE527.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 43 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:708:7: BIGINTEGER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BIGINTEGER528=(CommonTree)match(input,BIGINTEGER,FOLLOW_BIGINTEGER_in_eid5499); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGINTEGER528_tree = (CommonTree)adaptor.dupNode(BIGINTEGER528);
+
+
+                    adaptor.addChild(root_0, BIGINTEGER528_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BIGINTEGER528!=null?BIGINTEGER528.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 44 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:709:7: BIGDECIMAL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BIGDECIMAL529=(CommonTree)match(input,BIGDECIMAL,FOLLOW_BIGDECIMAL_in_eid5508); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BIGDECIMAL529_tree = (CommonTree)adaptor.dupNode(BIGDECIMAL529);
+
+
+                    adaptor.addChild(root_0, BIGDECIMAL529_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BIGDECIMAL529!=null?BIGDECIMAL529.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 45 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:710:7: DATETIME
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    DATETIME530=(CommonTree)match(input,DATETIME,FOLLOW_DATETIME_in_eid5517); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    DATETIME530_tree = (CommonTree)adaptor.dupNode(DATETIME530);
+
+
+                    adaptor.addChild(root_0, DATETIME530_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((DATETIME530!=null?DATETIME530.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 46 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:711:7: CHARARRAY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CHARARRAY531=(CommonTree)match(input,CHARARRAY,FOLLOW_CHARARRAY_in_eid5528); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CHARARRAY531_tree = (CommonTree)adaptor.dupNode(CHARARRAY531);
+
+
+                    adaptor.addChild(root_0, CHARARRAY531_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CHARARRAY531!=null?CHARARRAY531.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 47 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:712:7: BYTEARRAY
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BYTEARRAY532=(CommonTree)match(input,BYTEARRAY,FOLLOW_BYTEARRAY_in_eid5538); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BYTEARRAY532_tree = (CommonTree)adaptor.dupNode(BYTEARRAY532);
+
+
+                    adaptor.addChild(root_0, BYTEARRAY532_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BYTEARRAY532!=null?BYTEARRAY532.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 48 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:713:7: BAG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    BAG533=(CommonTree)match(input,BAG,FOLLOW_BAG_in_eid5548); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    BAG533_tree = (CommonTree)adaptor.dupNode(BAG533);
+
+
+                    adaptor.addChild(root_0, BAG533_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((BAG533!=null?BAG533.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 49 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:714:7: TUPLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TUPLE534=(CommonTree)match(input,TUPLE,FOLLOW_TUPLE_in_eid5564); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TUPLE534_tree = (CommonTree)adaptor.dupNode(TUPLE534);
+
+
+                    adaptor.addChild(root_0, TUPLE534_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((TUPLE534!=null?TUPLE534.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 50 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:715:7: MAP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MAP535=(CommonTree)match(input,MAP,FOLLOW_MAP_in_eid5578); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MAP535_tree = (CommonTree)adaptor.dupNode(MAP535);
+
+
+                    adaptor.addChild(root_0, MAP535_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((MAP535!=null?MAP535.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 51 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:716:7: IS
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IS536=(CommonTree)match(input,IS,FOLLOW_IS_in_eid5594); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IS536_tree = (CommonTree)adaptor.dupNode(IS536);
+
+
+                    adaptor.addChild(root_0, IS536_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IS536!=null?IS536.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 52 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:717:7: NULL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NULL537=(CommonTree)match(input,NULL,FOLLOW_NULL_in_eid5611); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NULL537_tree = (CommonTree)adaptor.dupNode(NULL537);
+
+
+                    adaptor.addChild(root_0, NULL537_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((NULL537!=null?NULL537.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 53 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:718:7: TRUE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TRUE538=(CommonTree)match(input,TRUE,FOLLOW_TRUE_in_eid5626); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TRUE538_tree = (CommonTree)adaptor.dupNode(TRUE538);
+
+
+                    adaptor.addChild(root_0, TRUE538_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((TRUE538!=null?TRUE538.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 54 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:719:7: FALSE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FALSE539=(CommonTree)match(input,FALSE,FOLLOW_FALSE_in_eid5641); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FALSE539_tree = (CommonTree)adaptor.dupNode(FALSE539);
+
+
+                    adaptor.addChild(root_0, FALSE539_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FALSE539!=null?FALSE539.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 55 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:720:7: STREAM
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STREAM540=(CommonTree)match(input,STREAM,FOLLOW_STREAM_in_eid5655); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STREAM540_tree = (CommonTree)adaptor.dupNode(STREAM540);
+
+
+                    adaptor.addChild(root_0, STREAM540_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STREAM540!=null?STREAM540.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 56 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:721:7: THROUGH
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    THROUGH541=(CommonTree)match(input,THROUGH,FOLLOW_THROUGH_in_eid5668); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    THROUGH541_tree = (CommonTree)adaptor.dupNode(THROUGH541);
+
+
+                    adaptor.addChild(root_0, THROUGH541_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((THROUGH541!=null?THROUGH541.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 57 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:722:7: STORE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STORE542=(CommonTree)match(input,STORE,FOLLOW_STORE_in_eid5680); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STORE542_tree = (CommonTree)adaptor.dupNode(STORE542);
+
+
+                    adaptor.addChild(root_0, STORE542_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STORE542!=null?STORE542.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 58 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:723:7: MAPREDUCE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    MAPREDUCE543=(CommonTree)match(input,MAPREDUCE,FOLLOW_MAPREDUCE_in_eid5694); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    MAPREDUCE543_tree = (CommonTree)adaptor.dupNode(MAPREDUCE543);
+
+
+                    adaptor.addChild(root_0, MAPREDUCE543_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((MAPREDUCE543!=null?MAPREDUCE543.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 59 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:724:7: SHIP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    SHIP544=(CommonTree)match(input,SHIP,FOLLOW_SHIP_in_eid5704); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    SHIP544_tree = (CommonTree)adaptor.dupNode(SHIP544);
+
+
+                    adaptor.addChild(root_0, SHIP544_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((SHIP544!=null?SHIP544.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 60 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:725:7: CACHE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CACHE545=(CommonTree)match(input,CACHE,FOLLOW_CACHE_in_eid5719); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CACHE545_tree = (CommonTree)adaptor.dupNode(CACHE545);
+
+
+                    adaptor.addChild(root_0, CACHE545_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CACHE545!=null?CACHE545.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 61 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:726:7: INPUT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    INPUT546=(CommonTree)match(input,INPUT,FOLLOW_INPUT_in_eid5733); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    INPUT546_tree = (CommonTree)adaptor.dupNode(INPUT546);
+
+
+                    adaptor.addChild(root_0, INPUT546_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((INPUT546!=null?INPUT546.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 62 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:727:7: OUTPUT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    OUTPUT547=(CommonTree)match(input,OUTPUT,FOLLOW_OUTPUT_in_eid5747); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    OUTPUT547_tree = (CommonTree)adaptor.dupNode(OUTPUT547);
+
+
+                    adaptor.addChild(root_0, OUTPUT547_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((OUTPUT547!=null?OUTPUT547.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 63 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:728:7: STDERROR
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STDERROR548=(CommonTree)match(input,STDERROR,FOLLOW_STDERROR_in_eid5760); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDERROR548_tree = (CommonTree)adaptor.dupNode(STDERROR548);
+
+
+                    adaptor.addChild(root_0, STDERROR548_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STDERROR548!=null?STDERROR548.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 64 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:729:7: STDIN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STDIN549=(CommonTree)match(input,STDIN,FOLLOW_STDIN_in_eid5771); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDIN549_tree = (CommonTree)adaptor.dupNode(STDIN549);
+
+
+                    adaptor.addChild(root_0, STDIN549_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STDIN549!=null?STDIN549.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 65 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:730:7: STDOUT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STDOUT550=(CommonTree)match(input,STDOUT,FOLLOW_STDOUT_in_eid5785); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STDOUT550_tree = (CommonTree)adaptor.dupNode(STDOUT550);
+
+
+                    adaptor.addChild(root_0, STDOUT550_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STDOUT550!=null?STDOUT550.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 66 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:731:7: LIMIT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LIMIT551=(CommonTree)match(input,LIMIT,FOLLOW_LIMIT_in_eid5798); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LIMIT551_tree = (CommonTree)adaptor.dupNode(LIMIT551);
+
+
+                    adaptor.addChild(root_0, LIMIT551_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((LIMIT551!=null?LIMIT551.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 67 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:732:7: SAMPLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    SAMPLE552=(CommonTree)match(input,SAMPLE,FOLLOW_SAMPLE_in_eid5812); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    SAMPLE552_tree = (CommonTree)adaptor.dupNode(SAMPLE552);
+
+
+                    adaptor.addChild(root_0, SAMPLE552_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((SAMPLE552!=null?SAMPLE552.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 68 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:733:7: LEFT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    LEFT553=(CommonTree)match(input,LEFT,FOLLOW_LEFT_in_eid5825); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    LEFT553_tree = (CommonTree)adaptor.dupNode(LEFT553);
+
+
+                    adaptor.addChild(root_0, LEFT553_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((LEFT553!=null?LEFT553.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 69 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:734:7: RIGHT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    RIGHT554=(CommonTree)match(input,RIGHT,FOLLOW_RIGHT_in_eid5840); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    RIGHT554_tree = (CommonTree)adaptor.dupNode(RIGHT554);
+
+
+                    adaptor.addChild(root_0, RIGHT554_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((RIGHT554!=null?RIGHT554.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 70 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:735:7: FULL
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    FULL555=(CommonTree)match(input,FULL,FOLLOW_FULL_in_eid5854); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    FULL555_tree = (CommonTree)adaptor.dupNode(FULL555);
+
+
+                    adaptor.addChild(root_0, FULL555_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((FULL555!=null?FULL555.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 71 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:736:7: IDENTIFIER
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IDENTIFIER556=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_eid5869); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IDENTIFIER556_tree = (CommonTree)adaptor.dupNode(IDENTIFIER556);
+
+
+                    adaptor.addChild(root_0, IDENTIFIER556_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IDENTIFIER556!=null?IDENTIFIER556.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 72 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:737:7: TOBAG
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TOBAG557=(CommonTree)match(input,TOBAG,FOLLOW_TOBAG_in_eid5879); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TOBAG557_tree = (CommonTree)adaptor.dupNode(TOBAG557);
+
+
+                    adaptor.addChild(root_0, TOBAG557_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((TOBAG557!=null?TOBAG557.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 73 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:738:7: TOMAP
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TOMAP558=(CommonTree)match(input,TOMAP,FOLLOW_TOMAP_in_eid5894); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TOMAP558_tree = (CommonTree)adaptor.dupNode(TOMAP558);
+
+
+                    adaptor.addChild(root_0, TOMAP558_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((TOMAP558!=null?TOMAP558.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 74 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:739:7: TOTUPLE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    TOTUPLE559=(CommonTree)match(input,TOTUPLE,FOLLOW_TOTUPLE_in_eid5909); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    TOTUPLE559_tree = (CommonTree)adaptor.dupNode(TOTUPLE559);
+
+
+                    adaptor.addChild(root_0, TOTUPLE559_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((TOTUPLE559!=null?TOTUPLE559.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 75 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:740:7: IN
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    IN560=(CommonTree)match(input,IN,FOLLOW_IN_in_eid5922); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    IN560_tree = (CommonTree)adaptor.dupNode(IN560);
+
+
+                    adaptor.addChild(root_0, IN560_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((IN560!=null?IN560.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 76 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:741:7: CASE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    CASE561=(CommonTree)match(input,CASE,FOLLOW_CASE_in_eid5940); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    CASE561_tree = (CommonTree)adaptor.dupNode(CASE561);
+
+
+                    adaptor.addChild(root_0, CASE561_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((CASE561!=null?CASE561.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 77 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:742:7: ASSERT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    ASSERT562=(CommonTree)match(input,ASSERT,FOLLOW_ASSERT_in_eid5956); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    ASSERT562_tree = (CommonTree)adaptor.dupNode(ASSERT562);
+
+
+                    adaptor.addChild(root_0, ASSERT562_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((ASSERT562!=null?ASSERT562.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "eid"
+
+
+    public static class rel_op_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:746:1: rel_op returns [String result] : ( rel_op_eq | rel_op_ne | rel_op_gt | rel_op_gte | rel_op_lt | rel_op_lte | STR_OP_MATCHES );
+    public final AstPrinter.rel_op_return rel_op() throws RecognitionException {
+        AstPrinter.rel_op_return retval = new AstPrinter.rel_op_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_MATCHES569=null;
+        AstPrinter.rel_op_eq_return rel_op_eq563 =null;
+
+        AstPrinter.rel_op_ne_return rel_op_ne564 =null;
+
+        AstPrinter.rel_op_gt_return rel_op_gt565 =null;
+
+        AstPrinter.rel_op_gte_return rel_op_gte566 =null;
+
+        AstPrinter.rel_op_lt_return rel_op_lt567 =null;
+
+        AstPrinter.rel_op_lte_return rel_op_lte568 =null;
+
+
+        CommonTree STR_OP_MATCHES569_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:747:5: ( rel_op_eq | rel_op_ne | rel_op_gt | rel_op_gte | rel_op_lt | rel_op_lte | STR_OP_MATCHES )
+            int alt137=7;
+            switch ( input.LA(1) ) {
+            case NUM_OP_EQ:
+            case STR_OP_EQ:
+                {
+                alt137=1;
+                }
+                break;
+            case NUM_OP_NE:
+            case STR_OP_NE:
+                {
+                alt137=2;
+                }
+                break;
+            case NUM_OP_GT:
+            case STR_OP_GT:
+                {
+                alt137=3;
+                }
+                break;
+            case NUM_OP_GTE:
+            case STR_OP_GTE:
+                {
+                alt137=4;
+                }
+                break;
+            case NUM_OP_LT:
+            case STR_OP_LT:
+                {
+                alt137=5;
+                }
+                break;
+            case NUM_OP_LTE:
+            case STR_OP_LTE:
+                {
+                alt137=6;
+                }
+                break;
+            case STR_OP_MATCHES:
+                {
+                alt137=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 137, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt137) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:747:7: rel_op_eq
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_eq_in_rel_op5979);
+                    rel_op_eq563=rel_op_eq();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_eq563.getTree());
+
+
+                    if ( state.backtracking==0 ) { retval.result = (rel_op_eq563!=null?rel_op_eq563.result:null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:748:7: rel_op_ne
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_ne_in_rel_op5993);
+                    rel_op_ne564=rel_op_ne();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_ne564.getTree());
+
+
+                    if ( state.backtracking==0 ) { retval.result = (rel_op_ne564!=null?rel_op_ne564.result:null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:749:7: rel_op_gt
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_gt_in_rel_op6007);
+                    rel_op_gt565=rel_op_gt();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_gt565.getTree());
+
+
+                    if ( state.backtracking==0 ) { retval.result = (rel_op_gt565!=null?rel_op_gt565.result:null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:750:7: rel_op_gte
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_gte_in_rel_op6021);
+                    rel_op_gte566=rel_op_gte();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_gte566.getTree());
+
+
+                    if ( state.backtracking==0 ) { retval.result = (rel_op_gte566!=null?rel_op_gte566.result:null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:751:7: rel_op_lt
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_lt_in_rel_op6034);
+                    rel_op_lt567=rel_op_lt();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_lt567.getTree());
+
+
+                    if ( state.backtracking==0 ) { retval.result = (rel_op_lt567!=null?rel_op_lt567.result:null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:752:7: rel_op_lte
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    pushFollow(FOLLOW_rel_op_lte_in_rel_op6048);
+                    rel_op_lte568=rel_op_lte();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+                    if ( state.backtracking==0 ) 
+                    adaptor.addChild(root_0, rel_op_lte568.getTree());
+
+
+                    if ( state.backtracking==0 ) { retval.result = (rel_op_lte568!=null?rel_op_lte568.result:null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:753:7: STR_OP_MATCHES
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_MATCHES569=(CommonTree)match(input,STR_OP_MATCHES,FOLLOW_STR_OP_MATCHES_in_rel_op6061); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_MATCHES569_tree = (CommonTree)adaptor.dupNode(STR_OP_MATCHES569);
+
+
+                    adaptor.addChild(root_0, STR_OP_MATCHES569_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_MATCHES569!=null?STR_OP_MATCHES569.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op"
+
+
+    public static class rel_op_eq_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_eq"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:756:1: rel_op_eq returns [String result] : ( STR_OP_EQ | NUM_OP_EQ );
+    public final AstPrinter.rel_op_eq_return rel_op_eq() throws RecognitionException {
+        AstPrinter.rel_op_eq_return retval = new AstPrinter.rel_op_eq_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_EQ570=null;
+        CommonTree NUM_OP_EQ571=null;
+
+        CommonTree STR_OP_EQ570_tree=null;
+        CommonTree NUM_OP_EQ571_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:757:5: ( STR_OP_EQ | NUM_OP_EQ )
+            int alt138=2;
+            int LA138_0 = input.LA(1);
+
+            if ( (LA138_0==STR_OP_EQ) ) {
+                alt138=1;
+            }
+            else if ( (LA138_0==NUM_OP_EQ) ) {
+                alt138=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 138, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt138) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:757:7: STR_OP_EQ
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_EQ570=(CommonTree)match(input,STR_OP_EQ,FOLLOW_STR_OP_EQ_in_rel_op_eq6080); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_EQ570_tree = (CommonTree)adaptor.dupNode(STR_OP_EQ570);
+
+
+                    adaptor.addChild(root_0, STR_OP_EQ570_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_EQ570!=null?STR_OP_EQ570.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:758:7: NUM_OP_EQ
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NUM_OP_EQ571=(CommonTree)match(input,NUM_OP_EQ,FOLLOW_NUM_OP_EQ_in_rel_op_eq6090); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NUM_OP_EQ571_tree = (CommonTree)adaptor.dupNode(NUM_OP_EQ571);
+
+
+                    adaptor.addChild(root_0, NUM_OP_EQ571_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (NUM_OP_EQ571!=null?NUM_OP_EQ571.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_eq"
+
+
+    public static class rel_op_ne_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_ne"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:761:1: rel_op_ne returns [String result] : ( STR_OP_NE | NUM_OP_NE );
+    public final AstPrinter.rel_op_ne_return rel_op_ne() throws RecognitionException {
+        AstPrinter.rel_op_ne_return retval = new AstPrinter.rel_op_ne_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_NE572=null;
+        CommonTree NUM_OP_NE573=null;
+
+        CommonTree STR_OP_NE572_tree=null;
+        CommonTree NUM_OP_NE573_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:762:5: ( STR_OP_NE | NUM_OP_NE )
+            int alt139=2;
+            int LA139_0 = input.LA(1);
+
+            if ( (LA139_0==STR_OP_NE) ) {
+                alt139=1;
+            }
+            else if ( (LA139_0==NUM_OP_NE) ) {
+                alt139=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 139, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt139) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:762:7: STR_OP_NE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_NE572=(CommonTree)match(input,STR_OP_NE,FOLLOW_STR_OP_NE_in_rel_op_ne6108); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_NE572_tree = (CommonTree)adaptor.dupNode(STR_OP_NE572);
+
+
+                    adaptor.addChild(root_0, STR_OP_NE572_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_NE572!=null?STR_OP_NE572.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:763:7: NUM_OP_NE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NUM_OP_NE573=(CommonTree)match(input,NUM_OP_NE,FOLLOW_NUM_OP_NE_in_rel_op_ne6118); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NUM_OP_NE573_tree = (CommonTree)adaptor.dupNode(NUM_OP_NE573);
+
+
+                    adaptor.addChild(root_0, NUM_OP_NE573_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (NUM_OP_NE573!=null?NUM_OP_NE573.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_ne"
+
+
+    public static class rel_op_gt_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_gt"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:766:1: rel_op_gt returns [String result] : ( STR_OP_GT | NUM_OP_GT );
+    public final AstPrinter.rel_op_gt_return rel_op_gt() throws RecognitionException {
+        AstPrinter.rel_op_gt_return retval = new AstPrinter.rel_op_gt_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_GT574=null;
+        CommonTree NUM_OP_GT575=null;
+
+        CommonTree STR_OP_GT574_tree=null;
+        CommonTree NUM_OP_GT575_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:767:5: ( STR_OP_GT | NUM_OP_GT )
+            int alt140=2;
+            int LA140_0 = input.LA(1);
+
+            if ( (LA140_0==STR_OP_GT) ) {
+                alt140=1;
+            }
+            else if ( (LA140_0==NUM_OP_GT) ) {
+                alt140=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 140, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt140) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:767:7: STR_OP_GT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_GT574=(CommonTree)match(input,STR_OP_GT,FOLLOW_STR_OP_GT_in_rel_op_gt6136); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_GT574_tree = (CommonTree)adaptor.dupNode(STR_OP_GT574);
+
+
+                    adaptor.addChild(root_0, STR_OP_GT574_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_GT574!=null?STR_OP_GT574.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:768:7: NUM_OP_GT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NUM_OP_GT575=(CommonTree)match(input,NUM_OP_GT,FOLLOW_NUM_OP_GT_in_rel_op_gt6146); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NUM_OP_GT575_tree = (CommonTree)adaptor.dupNode(NUM_OP_GT575);
+
+
+                    adaptor.addChild(root_0, NUM_OP_GT575_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (NUM_OP_GT575!=null?NUM_OP_GT575.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_gt"
+
+
+    public static class rel_op_gte_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_gte"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:771:1: rel_op_gte returns [String result] : ( STR_OP_GTE | NUM_OP_GTE );
+    public final AstPrinter.rel_op_gte_return rel_op_gte() throws RecognitionException {
+        AstPrinter.rel_op_gte_return retval = new AstPrinter.rel_op_gte_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_GTE576=null;
+        CommonTree NUM_OP_GTE577=null;
+
+        CommonTree STR_OP_GTE576_tree=null;
+        CommonTree NUM_OP_GTE577_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:772:5: ( STR_OP_GTE | NUM_OP_GTE )
+            int alt141=2;
+            int LA141_0 = input.LA(1);
+
+            if ( (LA141_0==STR_OP_GTE) ) {
+                alt141=1;
+            }
+            else if ( (LA141_0==NUM_OP_GTE) ) {
+                alt141=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 141, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt141) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:772:7: STR_OP_GTE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_GTE576=(CommonTree)match(input,STR_OP_GTE,FOLLOW_STR_OP_GTE_in_rel_op_gte6164); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_GTE576_tree = (CommonTree)adaptor.dupNode(STR_OP_GTE576);
+
+
+                    adaptor.addChild(root_0, STR_OP_GTE576_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_GTE576!=null?STR_OP_GTE576.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:773:7: NUM_OP_GTE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NUM_OP_GTE577=(CommonTree)match(input,NUM_OP_GTE,FOLLOW_NUM_OP_GTE_in_rel_op_gte6174); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NUM_OP_GTE577_tree = (CommonTree)adaptor.dupNode(NUM_OP_GTE577);
+
+
+                    adaptor.addChild(root_0, NUM_OP_GTE577_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (NUM_OP_GTE577!=null?NUM_OP_GTE577.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_gte"
+
+
+    public static class rel_op_lt_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_lt"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:776:1: rel_op_lt returns [String result] : ( STR_OP_LT | NUM_OP_LT );
+    public final AstPrinter.rel_op_lt_return rel_op_lt() throws RecognitionException {
+        AstPrinter.rel_op_lt_return retval = new AstPrinter.rel_op_lt_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_LT578=null;
+        CommonTree NUM_OP_LT579=null;
+
+        CommonTree STR_OP_LT578_tree=null;
+        CommonTree NUM_OP_LT579_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:777:5: ( STR_OP_LT | NUM_OP_LT )
+            int alt142=2;
+            int LA142_0 = input.LA(1);
+
+            if ( (LA142_0==STR_OP_LT) ) {
+                alt142=1;
+            }
+            else if ( (LA142_0==NUM_OP_LT) ) {
+                alt142=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 142, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt142) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:777:7: STR_OP_LT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_LT578=(CommonTree)match(input,STR_OP_LT,FOLLOW_STR_OP_LT_in_rel_op_lt6192); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_LT578_tree = (CommonTree)adaptor.dupNode(STR_OP_LT578);
+
+
+                    adaptor.addChild(root_0, STR_OP_LT578_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_LT578!=null?STR_OP_LT578.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:778:7: NUM_OP_LT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NUM_OP_LT579=(CommonTree)match(input,NUM_OP_LT,FOLLOW_NUM_OP_LT_in_rel_op_lt6202); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NUM_OP_LT579_tree = (CommonTree)adaptor.dupNode(NUM_OP_LT579);
+
+
+                    adaptor.addChild(root_0, NUM_OP_LT579_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (NUM_OP_LT579!=null?NUM_OP_LT579.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_lt"
+
+
+    public static class rel_op_lte_return extends TreeRuleReturnScope {
+        public String result;
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_op_lte"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:781:1: rel_op_lte returns [String result] : ( STR_OP_LTE | NUM_OP_LTE );
+    public final AstPrinter.rel_op_lte_return rel_op_lte() throws RecognitionException {
+        AstPrinter.rel_op_lte_return retval = new AstPrinter.rel_op_lte_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_LTE580=null;
+        CommonTree NUM_OP_LTE581=null;
+
+        CommonTree STR_OP_LTE580_tree=null;
+        CommonTree NUM_OP_LTE581_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:782:5: ( STR_OP_LTE | NUM_OP_LTE )
+            int alt143=2;
+            int LA143_0 = input.LA(1);
+
+            if ( (LA143_0==STR_OP_LTE) ) {
+                alt143=1;
+            }
+            else if ( (LA143_0==NUM_OP_LTE) ) {
+                alt143=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 143, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt143) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:782:7: STR_OP_LTE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_LTE580=(CommonTree)match(input,STR_OP_LTE,FOLLOW_STR_OP_LTE_in_rel_op_lte6220); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_LTE580_tree = (CommonTree)adaptor.dupNode(STR_OP_LTE580);
+
+
+                    adaptor.addChild(root_0, STR_OP_LTE580_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (STR_OP_LTE580!=null?STR_OP_LTE580.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:783:7: NUM_OP_LTE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    NUM_OP_LTE581=(CommonTree)match(input,NUM_OP_LTE,FOLLOW_NUM_OP_LTE_in_rel_op_lte6230); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    NUM_OP_LTE581_tree = (CommonTree)adaptor.dupNode(NUM_OP_LTE581);
+
+
+                    adaptor.addChild(root_0, NUM_OP_LTE581_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { retval.result = (NUM_OP_LTE581!=null?NUM_OP_LTE581.getText():null); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_op_lte"
+
+
+    public static class rel_str_op_return extends TreeRuleReturnScope {
+        CommonTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rel_str_op"
+    // /root/project/src/org/apache/pig/parser/AstPrinter.g:786:1: rel_str_op : ( STR_OP_EQ | STR_OP_NE | STR_OP_GT | STR_OP_LT | STR_OP_GTE | STR_OP_LTE | STR_OP_MATCHES );
+    public final AstPrinter.rel_str_op_return rel_str_op() throws RecognitionException {
+        AstPrinter.rel_str_op_return retval = new AstPrinter.rel_str_op_return();
+        retval.start = input.LT(1);
+
+
+        CommonTree root_0 = null;
+
+        CommonTree _first_0 = null;
+        CommonTree _last = null;
+
+        CommonTree STR_OP_EQ582=null;
+        CommonTree STR_OP_NE583=null;
+        CommonTree STR_OP_GT584=null;
+        CommonTree STR_OP_LT585=null;
+        CommonTree STR_OP_GTE586=null;
+        CommonTree STR_OP_LTE587=null;
+        CommonTree STR_OP_MATCHES588=null;
+
+        CommonTree STR_OP_EQ582_tree=null;
+        CommonTree STR_OP_NE583_tree=null;
+        CommonTree STR_OP_GT584_tree=null;
+        CommonTree STR_OP_LT585_tree=null;
+        CommonTree STR_OP_GTE586_tree=null;
+        CommonTree STR_OP_LTE587_tree=null;
+        CommonTree STR_OP_MATCHES588_tree=null;
+
+        try {
+            // /root/project/src/org/apache/pig/parser/AstPrinter.g:787:5: ( STR_OP_EQ | STR_OP_NE | STR_OP_GT | STR_OP_LT | STR_OP_GTE | STR_OP_LTE | STR_OP_MATCHES )
+            int alt144=7;
+            switch ( input.LA(1) ) {
+            case STR_OP_EQ:
+                {
+                alt144=1;
+                }
+                break;
+            case STR_OP_NE:
+                {
+                alt144=2;
+                }
+                break;
+            case STR_OP_GT:
+                {
+                alt144=3;
+                }
+                break;
+            case STR_OP_LT:
+                {
+                alt144=4;
+                }
+                break;
+            case STR_OP_GTE:
+                {
+                alt144=5;
+                }
+                break;
+            case STR_OP_LTE:
+                {
+                alt144=6;
+                }
+                break;
+            case STR_OP_MATCHES:
+                {
+                alt144=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 144, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt144) {
+                case 1 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:787:7: STR_OP_EQ
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_EQ582=(CommonTree)match(input,STR_OP_EQ,FOLLOW_STR_OP_EQ_in_rel_str_op6245); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_EQ582_tree = (CommonTree)adaptor.dupNode(STR_OP_EQ582);
+
+
+                    adaptor.addChild(root_0, STR_OP_EQ582_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_EQ582!=null?STR_OP_EQ582.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:788:7: STR_OP_NE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_NE583=(CommonTree)match(input,STR_OP_NE,FOLLOW_STR_OP_NE_in_rel_str_op6255); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_NE583_tree = (CommonTree)adaptor.dupNode(STR_OP_NE583);
+
+
+                    adaptor.addChild(root_0, STR_OP_NE583_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_NE583!=null?STR_OP_NE583.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:789:7: STR_OP_GT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_GT584=(CommonTree)match(input,STR_OP_GT,FOLLOW_STR_OP_GT_in_rel_str_op6265); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_GT584_tree = (CommonTree)adaptor.dupNode(STR_OP_GT584);
+
+
+                    adaptor.addChild(root_0, STR_OP_GT584_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_GT584!=null?STR_OP_GT584.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:790:7: STR_OP_LT
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_LT585=(CommonTree)match(input,STR_OP_LT,FOLLOW_STR_OP_LT_in_rel_str_op6275); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_LT585_tree = (CommonTree)adaptor.dupNode(STR_OP_LT585);
+
+
+                    adaptor.addChild(root_0, STR_OP_LT585_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_LT585!=null?STR_OP_LT585.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:791:7: STR_OP_GTE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_GTE586=(CommonTree)match(input,STR_OP_GTE,FOLLOW_STR_OP_GTE_in_rel_str_op6285); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_GTE586_tree = (CommonTree)adaptor.dupNode(STR_OP_GTE586);
+
+
+                    adaptor.addChild(root_0, STR_OP_GTE586_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_GTE586!=null?STR_OP_GTE586.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:792:7: STR_OP_LTE
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_LTE587=(CommonTree)match(input,STR_OP_LTE,FOLLOW_STR_OP_LTE_in_rel_str_op6295); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_LTE587_tree = (CommonTree)adaptor.dupNode(STR_OP_LTE587);
+
+
+                    adaptor.addChild(root_0, STR_OP_LTE587_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_LTE587!=null?STR_OP_LTE587.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/org/apache/pig/parser/AstPrinter.g:793:7: STR_OP_MATCHES
+                    {
+                    root_0 = (CommonTree)adaptor.nil();
+
+
+                    _last = (CommonTree)input.LT(1);
+                    STR_OP_MATCHES588=(CommonTree)match(input,STR_OP_MATCHES,FOLLOW_STR_OP_MATCHES_in_rel_str_op6305); if (state.failed) return retval;
+                    if ( state.backtracking==0 ) {
+                    STR_OP_MATCHES588_tree = (CommonTree)adaptor.dupNode(STR_OP_MATCHES588);
+
+
+                    adaptor.addChild(root_0, STR_OP_MATCHES588_tree);
+                    }
+
+
+                    if ( state.backtracking==0 ) { sb.append((STR_OP_MATCHES588!=null?STR_OP_MATCHES588.getText():null)); }
+
+                    if ( state.backtracking==0 ) {
+                    }
+                    }
+                    break;
+
+            }
+            if ( state.backtracking==0 ) {
+
+            retval.tree = (CommonTree)adaptor.rulePostProcessing(root_0);
+            }
+
+        }
+
+        catch(RecognitionException re) {
+            throw re;
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rel_str_op"
+
+    // $ANTLR start synpred50_AstPrinter
+    public final void synpred50_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:7: ( field_def ( field_def )+ )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:7: field_def ( field_def )+
+        {
+        pushFollow(FOLLOW_field_def_in_synpred50_AstPrinter1119);
+        field_def();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:37: ( field_def )+
+        int cnt149=0;
+        loop149:
+        do {
+            int alt149=2;
+            int LA149_0 = input.LA(1);
+
+            if ( (LA149_0==FIELD_DEF) ) {
+                alt149=1;
+            }
+
+
+            switch (alt149) {
+        	case 1 :
+        	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:197:39: field_def
+        	    {
+        	    pushFollow(FOLLOW_field_def_in_synpred50_AstPrinter1125);
+        	    field_def();
+
+        	    state._fsp--;
+        	    if (state.failed) return ;
+
+        	    }
+        	    break;
+
+        	default :
+        	    if ( cnt149 >= 1 ) break loop149;
+        	    if (state.backtracking>0) {state.failed=true; return ;}
+                    EarlyExitException eee =
+                        new EarlyExitException(149, input);
+                    throw eee;
+            }
+            cnt149++;
+        } while (true);
+
+
+        }
+
+    }
+    // $ANTLR end synpred50_AstPrinter
+
+    // $ANTLR start synpred110_AstPrinter
+    public final void synpred110_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:350:7: ( ^( MINUS expr expr ) )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:350:7: ^( MINUS expr expr )
+        {
+        match(input,MINUS,FOLLOW_MINUS_in_synpred110_AstPrinter2376); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_expr_in_synpred110_AstPrinter2378);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        pushFollow(FOLLOW_expr_in_synpred110_AstPrinter2382);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred110_AstPrinter
+
+    // $ANTLR start synpred114_AstPrinter
+    public final void synpred114_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:354:7: ( ^( CAST_EXPR type expr ) )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:354:7: ^( CAST_EXPR type expr )
+        {
+        match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_synpred114_AstPrinter2448); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_type_in_synpred114_AstPrinter2452);
+        type();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        pushFollow(FOLLOW_expr_in_synpred114_AstPrinter2456);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred114_AstPrinter
+
+    // $ANTLR start synpred115_AstPrinter
+    public final void synpred115_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:355:7: ( const_expr )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:355:7: const_expr
+        {
+        pushFollow(FOLLOW_const_expr_in_synpred115_AstPrinter2466);
+        const_expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred115_AstPrinter
+
+    // $ANTLR start synpred118_AstPrinter
+    public final void synpred118_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:358:7: ( ^( CAST_EXPR type_cast expr ) )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:358:7: ^( CAST_EXPR type_cast expr )
+        {
+        match(input,CAST_EXPR,FOLLOW_CAST_EXPR_in_synpred118_AstPrinter2500); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_type_cast_in_synpred118_AstPrinter2504);
+        type_cast();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        pushFollow(FOLLOW_expr_in_synpred118_AstPrinter2508);
+        expr();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred118_AstPrinter
+
+    // $ANTLR start synpred123_AstPrinter
+    public final void synpred123_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:7: ( ^( TUPLE_TYPE_CAST type_cast ( type_cast )* ) )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:7: ^( TUPLE_TYPE_CAST type_cast ( type_cast )* )
+        {
+        match(input,TUPLE_TYPE_CAST,FOLLOW_TUPLE_TYPE_CAST_in_synpred123_AstPrinter2568); if (state.failed) return ;
+
+        match(input, Token.DOWN, null); if (state.failed) return ;
+        pushFollow(FOLLOW_type_cast_in_synpred123_AstPrinter2572);
+        type_cast();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:61: ( type_cast )*
+        loop153:
+        do {
+            int alt153=2;
+            int LA153_0 = input.LA(1);
+
+            if ( (LA153_0==BIGDECIMAL||LA153_0==BIGINTEGER||LA153_0==BOOLEAN||LA153_0==BYTEARRAY||LA153_0==CHARARRAY||LA153_0==DATETIME||LA153_0==DOUBLE||LA153_0==FLOAT||LA153_0==INT||LA153_0==LONG||LA153_0==BAG_TYPE_CAST||LA153_0==MAP_TYPE||LA153_0==TUPLE_TYPE_CAST) ) {
+                alt153=1;
+            }
+
+
+            switch (alt153) {
+        	case 1 :
+        	    // /root/project/src/org/apache/pig/parser/AstPrinter.g:367:63: type_cast
+        	    {
+        	    pushFollow(FOLLOW_type_cast_in_synpred123_AstPrinter2578);
+        	    type_cast();
+
+        	    state._fsp--;
+        	    if (state.failed) return ;
+
+        	    }
+        	    break;
+
+        	default :
+        	    break loop153;
+            }
+        } while (true);
+
+
+        match(input, Token.UP, null); if (state.failed) return ;
+
+
+        }
+
+    }
+    // $ANTLR end synpred123_AstPrinter
+
+    // $ANTLR start synpred144_AstPrinter
+    public final void synpred144_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:11: ( INTEGER )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:11: INTEGER
+        {
+        match(input,INTEGER,FOLLOW_INTEGER_in_synpred144_AstPrinter3069); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred144_AstPrinter
+
+    // $ANTLR start synpred145_AstPrinter
+    public final void synpred145_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:63: ( LONGINTEGER )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:426:63: LONGINTEGER
+        {
+        match(input,LONGINTEGER,FOLLOW_LONGINTEGER_in_synpred145_AstPrinter3075); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred145_AstPrinter
+
+    // $ANTLR start synpred146_AstPrinter
+    public final void synpred146_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:64: ( DOUBLENUMBER )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:430:64: DOUBLENUMBER
+        {
+        match(input,DOUBLENUMBER,FOLLOW_DOUBLENUMBER_in_synpred146_AstPrinter3108); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred146_AstPrinter
+
+    // $ANTLR start synpred172_AstPrinter
+    public final void synpred172_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:490:7: ( join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:490:7: join_item ( LEFT | RIGHT | FULL ) ( OUTER )? join_item
+        {
+        pushFollow(FOLLOW_join_item_in_synpred172_AstPrinter3535);
+        join_item();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        if ( input.LA(1)==FULL||input.LA(1)==LEFT||input.LA(1)==RIGHT ) {
+            input.consume();
+            state.errorRecovery=false;
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            throw mse;
+        }
+
+
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:493:16: ( OUTER )?
+        int alt157=2;
+        int LA157_0 = input.LA(1);
+
+        if ( (LA157_0==OUTER) ) {
+            alt157=1;
+        }
+        switch (alt157) {
+            case 1 :
+                // /root/project/src/org/apache/pig/parser/AstPrinter.g:493:17: OUTER
+                {
+                match(input,OUTER,FOLLOW_OUTER_in_synpred172_AstPrinter3597); if (state.failed) return ;
+
+                }
+                break;
+
+        }
+
+
+        pushFollow(FOLLOW_join_item_in_synpred172_AstPrinter3606);
+        join_item();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred172_AstPrinter
+
+    // $ANTLR start synpred190_AstPrinter
+    public final void synpred190_AstPrinter_fragment() throws RecognitionException {
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:75: ( INTEGER )
+        // /root/project/src/org/apache/pig/parser/AstPrinter.g:564:75: INTEGER
+        {
+        match(input,INTEGER,FOLLOW_INTEGER_in_synpred190_AstPrinter4129); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred190_AstPrinter
+
+    // Delegated rules
+
+    public final boolean synpred118_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred118_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred145_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred145_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred146_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred146_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred144_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred144_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred172_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred172_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred50_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred50_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred110_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred110_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred190_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred190_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred123_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred123_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred114_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred114_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred115_AstPrinter() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred115_AstPrinter_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+
+
+    protected DFA59 dfa59 = new DFA59(this);
+    static final String DFA59_eotS =
+        "\u00ad\uffff";
+    static final String DFA59_eofS =
+        "\u00ad\uffff";
+    static final String DFA59_minS =
+        "\1\u009f\1\2\1\4\123\3\2\4\2\uffff\123\3";
+    static final String DFA59_maxS =
+        "\1\u009f\1\2\1\u00bc\123\u00ba\2\u00bc\2\uffff\123\u00ba";
+    static final String DFA59_acceptS =
+        "\130\uffff\1\1\1\2\123\uffff";
+    static final String DFA59_specialS =
+        "\u00ad\uffff}>";
+    static final String[] DFA59_transitionS = {
+            "\1\1",
+            "\1\2",
+            "\1\35\1\uffff\1\46\1\uffff\1\36\1\54\1\125\1\70\1\64\1\uffff"+
+            "\1\63\1\uffff\1\56\1\37\1\67\1\104\1\124\1\66\1\26\2\uffff\1"+
+            "\30\1\20\1\65\1\uffff\1\14\1\uffff\1\55\1\uffff\1\25\3\uffff"+
+            "\1\62\6\uffff\1\76\1\uffff\1\16\1\52\1\61\2\uffff\1\17\1\116"+
+            "\1\51\1\45\1\uffff\1\117\1\34\1\12\1\123\1\41\1\105\1\57\1\uffff"+
+            "\1\33\1\uffff\1\73\1\27\1\114\4\uffff\1\112\1\15\1\60\1\uffff"+
+            "\1\72\1\102\3\uffff\1\50\1\74\7\uffff\1\47\1\23\1\uffff\1\42"+
+            "\1\106\1\43\1\44\6\uffff\1\24\1\uffff\1\13\1\115\3\uffff\1\21"+
+            "\1\113\1\uffff\1\103\2\uffff\1\32\1\uffff\1\107\1\110\1\111"+
+            "\1\101\1\77\1\3\1\5\1\7\1\6\1\10\1\11\1\4\1\uffff\1\100\1\75"+
+            "\1\71\1\31\1\40\54\uffff\1\120\1\121\1\122\3\uffff\1\53\1\22",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\164\1\uffff\1\175\1\uffff\1\165\1\u0083\1\u00ac\1\u008f"+
+            "\1\u008b\1\uffff\1\u008a\1\uffff\1\u0085\1\166\1\u008e\1\u009b"+
+            "\1\u00ab\1\u008d\1\155\2\uffff\1\157\1\147\1\u008c\1\uffff\1"+
+            "\143\1\uffff\1\u0084\1\uffff\1\154\3\uffff\1\u0089\6\uffff\1"+
+            "\u0095\1\uffff\1\145\1\u0081\1\u0088\2\uffff\1\146\1\u00a5\1"+
+            "\u0080\1\174\1\uffff\1\u00a6\1\163\1\141\1\u00aa\1\170\1\u009c"+
+            "\1\u0086\1\uffff\1\162\1\uffff\1\u0092\1\156\1\u00a3\4\uffff"+
+            "\1\u00a1\1\144\1\u0087\1\uffff\1\u0091\1\u0099\3\uffff\1\177"+
+            "\1\u0093\7\uffff\1\176\1\152\1\uffff\1\171\1\u009d\1\172\1\173"+
+            "\6\uffff\1\153\1\uffff\1\142\1\u00a4\3\uffff\1\150\1\u00a2\1"+
+            "\uffff\1\u009a\2\uffff\1\161\1\uffff\1\u009e\1\u009f\1\u00a0"+
+            "\1\u0098\1\u0096\1\132\1\134\1\136\1\135\1\137\1\140\1\133\1"+
+            "\uffff\1\u0097\1\u0094\1\u0090\1\160\1\167\54\uffff\1\u00a7"+
+            "\1\u00a8\1\u00a9\3\uffff\1\u0082\1\151",
+            "\1\164\1\uffff\1\175\1\uffff\1\165\1\u0083\1\u00ac\1\u008f"+
+            "\1\u008b\1\uffff\1\u008a\1\uffff\1\u0085\1\166\1\u008e\1\u009b"+
+            "\1\u00ab\1\u008d\1\155\2\uffff\1\157\1\147\1\u008c\1\uffff\1"+
+            "\143\1\uffff\1\u0084\1\uffff\1\154\3\uffff\1\u0089\6\uffff\1"+
+            "\u0095\1\uffff\1\145\1\u0081\1\u0088\2\uffff\1\146\1\u00a5\1"+
+            "\u0080\1\174\1\uffff\1\u00a6\1\163\1\141\1\u00aa\1\170\1\u009c"+
+            "\1\u0086\1\uffff\1\162\1\uffff\1\u0092\1\156\1\u00a3\4\uffff"+
+            "\1\u00a1\1\144\1\u0087\1\uffff\1\u0091\1\u0099\3\uffff\1\177"+
+            "\1\u0093\7\uffff\1\176\1\152\1\uffff\1\171\1\u009d\1\172\1\173"+
+            "\6\uffff\1\153\1\uffff\1\142\1\u00a4\3\uffff\1\150\1\u00a2\1"+
+            "\uffff\1\u009a\2\uffff\1\161\1\uffff\1\u009e\1\u009f\1\u00a0"+
+            "\1\u0098\1\u0096\1\132\1\134\1\136\1\135\1\137\1\140\1\133\1"+
+            "\uffff\1\u0097\1\u0094\1\u0090\1\160\1\167\54\uffff\1\u00a7"+
+            "\1\u00a8\1\u00a9\3\uffff\1\u0082\1\151",
+            "",
+            "",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130",
+            "\1\131\11\uffff\1\130\1\uffff\1\130\12\uffff\1\130\7\uffff"+
+            "\1\130\1\127\1\130\1\uffff\1\130\5\uffff\1\130\5\uffff\1\130"+
+            "\3\uffff\1\130\1\uffff\1\130\6\uffff\1\130\14\uffff\1\130\2"+
+            "\uffff\1\130\3\uffff\1\130\16\uffff\1\130\1\126\1\130\2\uffff"+
+            "\1\130\16\uffff\1\130\16\uffff\1\130\11\uffff\2\130\2\uffff"+
+            "\2\130\2\uffff\3\130\5\uffff\1\130\12\uffff\2\130\16\uffff\1"+
+            "\130"
+    };
+
+    static final short[] DFA59_eot = DFA.unpackEncodedString(DFA59_eotS);
+    static final short[] DFA59_eof = DFA.unpackEncodedString(DFA59_eofS);
+    static final char[] DFA59_min = DFA.unpackEncodedStringToUnsignedChars(DFA59_minS);
+    static final char[] DFA59_max = DFA.unpackEncodedStringToUnsignedChars(DFA59_maxS);
+    static final short[] DFA59_accept = DFA.unpackEncodedString(DFA59_acceptS);
+    static final short[] DFA59_special = DFA.unpackEncodedString(DFA59_specialS);
+    static final short[][] DFA59_transition;
+
+    static {
+        int numStates = DFA59_transitionS.length;
+        DFA59_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA59_transition[i] = DFA.unpackEncodedString(DFA59_transitionS[i]);
+        }
+    }
+
+    class DFA59 extends DFA {
+
+        public DFA59(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 59;
+            this.eot = DFA59_eot;
+            this.eof = DFA59_eof;
+            this.min = DFA59_min;
+            this.max = DFA59_max;
+            this.accept = DFA59_accept;
+            this.special = DFA59_special;
+            this.transition = DFA59_transition;
+        }
+        public String getDescription() {
+            return "339:1: func_eval : ( ^( FUNC_EVAL func_name real_arg ( real_arg )* ) | ^( FUNC_EVAL func_name ) );";
+        }
+    }
+ 
+
+    public static final BitSet FOLLOW_QUERY_in_query80 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_statement_in_query82 = new BitSet(new long[]{0x0400000000000408L,0x0020020000000000L,0x0012000000000000L});
+    public static final BitSet FOLLOW_general_statement_in_statement94 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_split_statement_in_statement108 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_import_statement_in_statement124 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_register_statement_in_statement140 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assert_statement_in_statement156 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_realias_statement_in_statement172 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_split_clause_in_split_statement181 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_realias_clause_in_realias_statement190 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IMPORT_in_import_statement201 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_import_statement203 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_REGISTER_in_register_statement218 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_register_statement220 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000000000100L});
+    public static final BitSet FOLLOW_scripting_udf_clause_in_register_statement224 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_assert_clause_in_assert_statement236 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_scripting_language_clause_in_scripting_udf_clause245 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_scripting_namespace_clause_in_scripting_udf_clause247 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_USING_in_scripting_language_clause257 = new BitSet(new long[]{0x0100000000000000L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_scripting_language_clause259 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AS_in_scripting_namespace_clause272 = new BitSet(new long[]{0x0100000000000000L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_scripting_namespace_clause274 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STATEMENT_in_general_statement293 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_general_statement297 = new BitSet(new long[]{0x0048400226400400L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_op_clause_in_general_statement312 = new BitSet(new long[]{0x0000000000000008L,0x0000000100000000L});
+    public static final BitSet FOLLOW_parallel_clause_in_general_statement314 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_REALIAS_in_realias_clause329 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_realias_clause331 = new BitSet(new long[]{0x0100000000000000L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_realias_clause333 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_PARALLEL_in_parallel_clause349 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_INTEGER_in_parallel_clause351 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_alias368 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_define_clause_in_op_clause379 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_load_clause_in_op_clause393 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_group_clause_in_op_clause407 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_store_clause_in_op_clause421 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_filter_clause_in_op_clause435 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_distinct_clause_in_op_clause449 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_limit_clause_in_op_clause463 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_sample_clause_in_op_clause477 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_order_clause_in_op_clause491 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rank_clause_in_op_clause505 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_cross_clause_in_op_clause519 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_clause_in_op_clause533 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_union_clause_in_op_clause547 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stream_clause_in_op_clause561 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_mr_clause_in_op_clause575 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_split_clause_in_op_clause589 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_foreach_clause_in_op_clause603 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_cube_clause_in_op_clause617 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assert_clause_in_op_clause631 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DEFINE_in_define_clause646 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_define_clause648 = new BitSet(new long[]{0x0000080000000000L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_cmd_in_define_clause662 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_func_clause_in_define_clause666 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_EXECCOMMAND_in_cmd685 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_ship_clause_in_cmd699 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_cache_clause_in_cmd703 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_input_clause_in_cmd707 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_output_clause_in_cmd711 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_error_clause_in_cmd715 = new BitSet(new long[]{0x2000000000080008L,0x0084000080000000L});
+    public static final BitSet FOLLOW_SHIP_in_ship_clause735 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_path_list_in_ship_clause739 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_path_list759 = new BitSet(new long[]{0x0000000000000002L,0x0000008000000000L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_path_list774 = new BitSet(new long[]{0x0000000000000002L,0x0000008000000000L});
+    public static final BitSet FOLLOW_CACHE_in_cache_clause794 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_path_list_in_cache_clause798 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_INPUT_in_input_clause817 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_stream_cmd_in_input_clause829 = new BitSet(new long[]{0x0000000000000008L,0x0300008000000000L});
+    public static final BitSet FOLLOW_stream_cmd_in_input_clause835 = new BitSet(new long[]{0x0000000000000008L,0x0300008000000000L});
+    public static final BitSet FOLLOW_STDIN_in_stream_cmd856 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_clause_in_stream_cmd860 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STDOUT_in_stream_cmd873 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_clause_in_stream_cmd877 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_stream_cmd890 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_clause_in_stream_cmd894 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_OUTPUT_in_output_clause912 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_stream_cmd_in_output_clause925 = new BitSet(new long[]{0x0000000000000008L,0x0300008000000000L});
+    public static final BitSet FOLLOW_stream_cmd_in_output_clause931 = new BitSet(new long[]{0x0000000000000008L,0x0300008000000000L});
+    public static final BitSet FOLLOW_STDERROR_in_error_clause952 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_error_clause966 = new BitSet(new long[]{0x8000000000000008L});
+    public static final BitSet FOLLOW_INTEGER_in_error_clause971 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_LOAD_in_load_clause998 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_filename_in_load_clause1002 = new BitSet(new long[]{0x0000000000000108L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_load_clause1016 = new BitSet(new long[]{0x0000000000000108L});
+    public static final BitSet FOLLOW_as_clause_in_load_clause1020 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_filename1036 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AS_in_as_clause1053 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_field_def_list_in_as_clause1057 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FIELD_DEF_in_field_def1074 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_field_def1076 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0100020000002000L});
+    public static final BitSet FOLLOW_type_in_field_def1086 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FIELD_DEF_in_field_def1100 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_in_field_def1102 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_field_def_in_field_def_list1119 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_field_def_in_field_def_list1125 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_field_def_in_field_def_list1138 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_simple_type_in_type1147 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tuple_type_in_type1151 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bag_type_in_type1155 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_map_type_in_type1159 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOOLEAN_in_simple_type1172 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INT_in_simple_type1182 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LONG_in_simple_type1192 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_simple_type1202 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOUBLE_in_simple_type1212 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGINTEGER_in_simple_type1222 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGDECIMAL_in_simple_type1232 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DATETIME_in_simple_type1242 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CHARARRAY_in_simple_type1252 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BYTEARRAY_in_simple_type1262 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TUPLE_TYPE_in_tuple_type1279 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_field_def_list_in_tuple_type1281 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BAG_TYPE_in_bag_type1299 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_bag_type1307 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0100000000000000L});
+    public static final BitSet FOLLOW_tuple_type_in_bag_type1310 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_MAP_TYPE_in_map_type1328 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_map_type1332 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0100020000002000L});
+    public static final BitSet FOLLOW_type_in_map_type1335 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FUNC_REF_in_func_clause1355 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_clause1357 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FUNC_in_func_clause1369 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_clause1371 = new BitSet(new long[]{0x0000000000000008L,0x0000008000020000L});
+    public static final BitSet FOLLOW_func_args_in_func_clause1375 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_eid_in_func_name1393 = new BitSet(new long[]{0x0000000800000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_PERIOD_in_func_name1399 = new BitSet(new long[]{0x7F79D022AE7F5F50L,0xFFA58D03D80C6E1DL,0x18E00000000001F7L});
+    public static final BitSet FOLLOW_DOLLAR_in_func_name1405 = new BitSet(new long[]{0x7F79D022AE7F5F50L,0xFFA58D03D80C6E1DL,0x18E00000000001F7L});
+    public static final BitSet FOLLOW_eid_in_func_name1411 = new BitSet(new long[]{0x0000000800000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_func_first_arg_clause_in_func_args1423 = new BitSet(new long[]{0x0000000000000002L,0x0000008000020000L});
+    public static final BitSet FOLLOW_func_next_arg_clause_in_func_args1426 = new BitSet(new long[]{0x0000000000000002L,0x0000008000020000L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_func_first_arg_clause1439 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MULTILINE_QUOTEDSTRING_in_func_first_arg_clause1469 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_func_next_arg_clause1483 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MULTILINE_QUOTEDSTRING_in_func_next_arg_clause1513 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CUBE_in_cube_clause1530 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cube_item_in_cube_clause1534 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_rel_in_cube_item1549 = new BitSet(new long[]{0x0000000000020000L});
+    public static final BitSet FOLLOW_cube_by_clause_in_cube_item1553 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BY_in_cube_by_clause1570 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cube_or_rollup_in_cube_by_clause1574 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_cube_rollup_list_in_cube_or_rollup1589 = new BitSet(new long[]{0x0000000004000002L,0x0000800000000000L});
+    public static final BitSet FOLLOW_cube_rollup_list_in_cube_or_rollup1595 = new BitSet(new long[]{0x0000000004000002L,0x0000800000000000L});
+    public static final BitSet FOLLOW_CUBE_in_cube_rollup_list1615 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_ROLLUP_in_cube_rollup_list1621 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cube_by_expr_list_in_cube_rollup_list1627 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_cube_by_expr_in_cube_by_expr_list1645 = new BitSet(new long[]{0x814410540400A002L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_cube_by_expr_in_cube_by_expr_list1651 = new BitSet(new long[]{0x814410540400A002L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_col_range_in_cube_by_expr1669 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_cube_by_expr1673 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STAR_in_cube_by_expr1677 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GROUP_in_group_clause1696 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_COGROUP_in_group_clause1702 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_group_item_in_group_clause1716 = new BitSet(new long[]{0x0148400226400408L,0x0C21018210004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_group_item_in_group_clause1722 = new BitSet(new long[]{0x0148400226400408L,0x0C21018210004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_group_type_in_group_clause1737 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_group_clause1748 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_group_type1764 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_in_group_item1779 = new BitSet(new long[]{0x0000000000020010L,0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_join_group_by_clause_in_group_item1783 = new BitSet(new long[]{0x1000000000000002L,0x0000000040000000L});
+    public static final BitSet FOLLOW_ALL_in_group_item1799 = new BitSet(new long[]{0x1000000000000002L,0x0000000040000000L});
+    public static final BitSet FOLLOW_ANY_in_group_item1805 = new BitSet(new long[]{0x1000000000000002L,0x0000000040000000L});
+    public static final BitSet FOLLOW_INNER_in_group_item1825 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUTER_in_group_item1831 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_alias_in_rel1849 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_op_clause_in_rel1861 = new BitSet(new long[]{0x0000000000000002L,0x0000000100000000L});
+    public static final BitSet FOLLOW_parallel_clause_in_rel1863 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_flatten_clause_in_flatten_generated_item1883 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_col_range_in_flatten_generated_item1887 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_expr_in_flatten_generated_item1891 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_STAR_in_flatten_generated_item1895 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_field_def_list_in_flatten_generated_item1905 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLATTEN_in_flatten_clause1922 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_flatten_clause1926 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STORE_in_store_clause1945 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_store_clause1949 = new BitSet(new long[]{0x0000000000000000L,0x0000008000000000L});
+    public static final BitSet FOLLOW_filename_in_store_clause1953 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_store_clause1959 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_comment1976 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASSERT_in_assert_clause1993 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_assert_clause1997 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_assert_clause2001 = new BitSet(new long[]{0x0000000000000008L,0x0000008000000000L});
+    public static final BitSet FOLLOW_comment_in_assert_clause2009 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FILTER_in_filter_clause2029 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_filter_clause2033 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_filter_clause2037 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_OR_in_cond2056 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_cond2060 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_cond2064 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_AND_in_cond2078 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_cond2082 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_cond2086 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NOT_in_cond2100 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_cond2104 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NULL_in_cond2118 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_cond2120 = new BitSet(new long[]{0x0000000000000008L,0x0000000000040000L});
+    public static final BitSet FOLLOW_NOT_in_cond2125 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_rel_op_in_cond2145 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_cond2147 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_cond2151 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_in_eval_in_cond2161 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_func_eval_in_cond2169 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOOL_COND_in_cond2179 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_cond2181 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IN_in_in_eval2198 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IN_LHS_in_in_eval2215 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_in_eval2217 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IN_RHS_in_in_eval2223 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_in_eval2227 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IN_LHS_in_in_eval2246 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_in_eval2250 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_IN_RHS_in_in_eval2256 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_in_eval2261 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FUNC_EVAL_in_func_eval2285 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_eval2287 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_real_arg_in_func_eval2291 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_real_arg_in_func_eval2297 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_FUNC_EVAL_in_func_eval2313 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_func_eval2315 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_real_arg2333 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STAR_in_real_arg2337 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_col_range_in_real_arg2343 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PLUS_in_expr2358 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2360 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2364 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_MINUS_in_expr2376 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2378 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2382 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STAR_in_expr2394 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2396 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2400 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_DIV_in_expr2412 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2414 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2418 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_PERCENT_in_expr2430 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2432 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2436 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_expr2448 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_in_expr2452 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2456 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_const_expr_in_expr2466 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_var_expr_in_expr2474 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NEG_in_expr2484 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2488 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_expr2500 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_expr2504 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_expr2508 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_EXPR_IN_PAREN_in_expr2520 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_expr2524 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_simple_type_in_type_cast2541 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_map_type_in_type_cast2545 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tuple_type_cast_in_type_cast2549 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bag_type_cast_in_type_cast2553 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TUPLE_TYPE_CAST_in_tuple_type_cast2568 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_tuple_type_cast2572 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0200020000004000L});
+    public static final BitSet FOLLOW_type_cast_in_tuple_type_cast2578 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0200020000004000L});
+    public static final BitSet FOLLOW_TUPLE_TYPE_CAST_in_tuple_type_cast2594 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_tuple_type_cast2598 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BAG_TYPE_CAST_in_bag_type_cast2618 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_tuple_type_cast_in_bag_type_cast2622 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_projectable_expr_in_var_expr2640 = new BitSet(new long[]{0x0000000000000002L,0x0000002800000000L});
+    public static final BitSet FOLLOW_dot_proj_in_var_expr2644 = new BitSet(new long[]{0x0000000000000002L,0x0000002800000000L});
+    public static final BitSet FOLLOW_pound_proj_in_var_expr2648 = new BitSet(new long[]{0x0000000000000002L,0x0000002800000000L});
+    public static final BitSet FOLLOW_func_eval_in_projectable_expr2664 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_col_ref_in_projectable_expr2668 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bin_expr_in_projectable_expr2672 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_case_expr_in_projectable_expr2676 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_case_cond_in_projectable_expr2680 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PERIOD_in_dot_proj2695 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_col_alias_or_index_in_dot_proj2699 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_col_alias_or_index_in_dot_proj2705 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_col_alias_in_col_alias_or_index2721 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_col_index_in_col_alias_or_index2725 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GROUP_in_col_alias2738 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CUBE_in_col_alias2748 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_col_alias2758 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOLLARVAR_in_col_index2773 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COL_RANGE_in_col_range2786 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_col_ref_in_col_range2788 = new BitSet(new long[]{0x0000008000000000L});
+    public static final BitSet FOLLOW_DOUBLE_PERIOD_in_col_range2793 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_col_ref_in_col_range2795 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_POUND_in_pound_proj2812 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_pound_proj2826 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NULL_in_pound_proj2832 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BIN_EXPR_in_bin_expr2853 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_bin_expr2857 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_bin_expr2861 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_bin_expr2865 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_EXPR_in_case_expr2884 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_CASE_EXPR_LHS_in_case_expr2901 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_expr2903 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_EXPR_RHS_in_case_expr2911 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_expr2915 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_EXPR_LHS_in_case_expr2937 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_expr2941 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_EXPR_RHS_in_case_expr2949 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_expr2953 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CASE_COND_in_case_cond2980 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_WHEN_in_case_cond2994 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_cond_in_case_cond2996 = new BitSet(new long[]{0x0800000000000048L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_case_cond3002 = new BitSet(new long[]{0x0800000000000048L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_THEN_in_case_cond3021 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_case_cond3023 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_case_cond3029 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_LIMIT_in_limit_clause3053 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_limit_clause3057 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_INTEGER_in_limit_clause3069 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_LONGINTEGER_in_limit_clause3075 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_limit_clause3081 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_SAMPLE_in_sample_clause3100 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_sample_clause3104 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_DOUBLENUMBER_in_sample_clause3108 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_sample_clause3114 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_RANK_in_rank_clause3133 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_rank_clause3137 = new BitSet(new long[]{0x0000000000020008L});
+    public static final BitSet FOLLOW_rank_by_statement_in_rank_clause3141 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BY_in_rank_by_statement3158 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rank_by_clause_in_rank_by_statement3162 = new BitSet(new long[]{0x0000000040000008L});
+    public static final BitSet FOLLOW_DENSE_in_rank_by_statement3166 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STAR_in_rank_by_clause3183 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_ASC_in_rank_by_clause3189 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESC_in_rank_by_clause3195 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rank_col_in_rank_by_clause3208 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_rank_col_in_rank_by_clause3214 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_col_range_in_rank_col3229 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_col_ref_in_rank_col3233 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_ASC_in_rank_col3239 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESC_in_rank_col3245 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ORDER_in_order_clause3265 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_order_clause3269 = new BitSet(new long[]{0x0140001004000000L,0x0040000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_order_by_clause_in_order_clause3281 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_order_clause3295 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_STAR_in_order_by_clause3313 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_ASC_in_order_by_clause3319 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESC_in_order_by_clause3325 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_order_col_in_order_by_clause3338 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_order_col_in_order_by_clause3344 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_col_range_in_order_col3360 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_col_ref_in_order_col3364 = new BitSet(new long[]{0x0000000080000202L});
+    public static final BitSet FOLLOW_ASC_in_order_col3369 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESC_in_order_col3375 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DISTINCT_in_distinct_clause3395 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_distinct_clause3399 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_distinct_clause3401 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_PARTITION_in_partition_clause3419 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_func_name_in_partition_clause3423 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CROSS_in_cross_clause3440 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_list_in_cross_clause3444 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_cross_clause3446 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_rel_in_rel_list3462 = new BitSet(new long[]{0x0148400226400402L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_rel_in_rel_list3468 = new BitSet(new long[]{0x0148400226400402L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_JOIN_in_join_clause3485 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_join_sub_clause_in_join_clause3489 = new BitSet(new long[]{0x0000000000000008L,0x0000008200000000L});
+    public static final BitSet FOLLOW_join_type_in_join_clause3495 = new BitSet(new long[]{0x0000000000000008L,0x0000000200000000L});
+    public static final BitSet FOLLOW_partition_clause_in_join_clause3506 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_join_type3520 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause3535 = new BitSet(new long[]{0x0010000000000000L,0x0000080000000010L});
+    public static final BitSet FOLLOW_LEFT_in_join_sub_clause3539 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_RIGHT_in_join_sub_clause3558 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_FULL_in_join_sub_clause3577 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_OUTER_in_join_sub_clause3597 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause3606 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause3614 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_join_item_in_join_sub_clause3620 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_JOIN_ITEM_in_join_item3638 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_join_item3640 = new BitSet(new long[]{0x0000000000020000L});
+    public static final BitSet FOLLOW_join_group_by_clause_in_join_item3642 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_BY_in_join_group_by_clause3659 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_join_group_by_expr_in_join_group_by_clause3667 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_join_group_by_expr_in_join_group_by_clause3673 = new BitSet(new long[]{0x814410540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_col_range_in_join_group_by_expr3693 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_join_group_by_expr3697 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STAR_in_join_group_by_expr3701 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNION_in_union_clause3718 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_ONSCHEMA_in_union_clause3723 = new BitSet(new long[]{0x0148400226400400L,0x0C21010010004608L,0x0000000000000080L});
+    public static final BitSet FOLLOW_rel_list_in_union_clause3730 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_in_foreach_clause3747 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_foreach_clause3751 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000030000000L});
+    public static final BitSet FOLLOW_foreach_plan_in_foreach_clause3753 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_PLAN_SIMPLE_in_foreach_plan3770 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_generate_clause_in_foreach_plan3772 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_PLAN_COMPLEX_in_foreach_plan3784 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_blk_in_foreach_plan3786 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_nested_command_in_nested_blk3804 = new BitSet(new long[]{0x0020000000000000L,0x0000000000000000L,0x0000300000000000L});
+    public static final BitSet FOLLOW_generate_clause_in_nested_blk3811 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GENERATE_in_generate_clause3828 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_flatten_generated_item_in_generate_clause3840 = new BitSet(new long[]{0x814490540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_flatten_generated_item_in_generate_clause3846 = new BitSet(new long[]{0x814490540400A008L,0x0040009400089000L,0x04000C0083998020L});
+    public static final BitSet FOLLOW_NESTED_CMD_in_nested_command3865 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_nested_command3867 = new BitSet(new long[]{0x0008400202000000L,0x0000000010000200L,0x0000400000000000L});
+    public static final BitSet FOLLOW_nested_op_in_nested_command3871 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_NESTED_CMD_ASSI_in_nested_command3883 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_nested_command3885 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_nested_command3889 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_nested_proj_in_nested_op3900 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_filter_in_nested_op3914 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_sort_in_nested_op3928 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_distinct_in_nested_op3942 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_limit_in_nested_op3956 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_cross_in_nested_op3970 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_foreach_in_nested_op3984 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NESTED_PROJ_in_nested_proj3999 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_col_ref_in_nested_proj4001 = new BitSet(new long[]{0x0140001004000000L});
+    public static final BitSet FOLLOW_col_ref_in_nested_proj4005 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_col_ref_in_nested_proj4011 = new BitSet(new long[]{0x0140001004000008L});
+    public static final BitSet FOLLOW_FILTER_in_nested_filter4032 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_filter4036 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_nested_filter4040 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_ORDER_in_nested_sort4057 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_sort4061 = new BitSet(new long[]{0x0140001004000000L,0x0040000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_order_by_clause_in_nested_sort4073 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000000140000000L});
+    public static final BitSet FOLLOW_func_clause_in_nested_sort4079 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_DISTINCT_in_nested_distinct4098 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_distinct4103 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_LIMIT_in_nested_limit4120 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_limit4125 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_INTEGER_in_nested_limit4129 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_expr_in_nested_limit4135 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CROSS_in_nested_cross4154 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_list_in_nested_cross4159 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_FOREACH_in_nested_foreach4173 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_foreach4178 = new BitSet(new long[]{0x0020000000000000L});
+    public static final BitSet FOLLOW_generate_clause_in_nested_foreach4180 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_col_ref_in_nested_op_input4191 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_proj_in_nested_op_input4195 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_op_input_list4208 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000400000000000L});
+    public static final BitSet FOLLOW_nested_op_input_in_nested_op_input_list4214 = new BitSet(new long[]{0x0140001004000002L,0x0000000000000000L,0x0000400000000000L});
+    public static final BitSet FOLLOW_STREAM_in_stream_clause4231 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_stream_clause4235 = new BitSet(new long[]{0x0100080000000000L});
+    public static final BitSet FOLLOW_EXECCOMMAND_in_stream_clause4249 = new BitSet(new long[]{0x0000000000000108L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_stream_clause4263 = new BitSet(new long[]{0x0000000000000108L});
+    public static final BitSet FOLLOW_as_clause_in_stream_clause4269 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_MAPREDUCE_in_mr_clause4287 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_mr_clause4289 = new BitSet(new long[]{0x0000000000000000L,0x0400008000000000L});
+    public static final BitSet FOLLOW_path_list_in_mr_clause4304 = new BitSet(new long[]{0x0000000000000000L,0x0400000000000000L});
+    public static final BitSet FOLLOW_store_clause_in_mr_clause4311 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+    public static final BitSet FOLLOW_load_clause_in_mr_clause4315 = new BitSet(new long[]{0x0000080000000008L});
+    public static final BitSet FOLLOW_EXECCOMMAND_in_mr_clause4326 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_SPLIT_in_split_clause4348 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_in_split_clause4361 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0008000000000000L});
+    public static final BitSet FOLLOW_split_branch_in_split_clause4365 = new BitSet(new long[]{0x0000000000000008L,0x0000000020000000L,0x0008000000000000L});
+    public static final BitSet FOLLOW_split_branch_in_split_clause4371 = new BitSet(new long[]{0x0000000000000008L,0x0000000020000000L,0x0008000000000000L});
+    public static final BitSet FOLLOW_split_otherwise_in_split_clause4380 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_SPLIT_BRANCH_in_split_branch4400 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_split_branch4402 = new BitSet(new long[]{0x0800000000000040L,0xF00000000BFC0000L,0x0000000080040007L});
+    public static final BitSet FOLLOW_cond_in_split_branch4406 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_OTHERWISE_in_split_otherwise4423 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_alias_in_split_otherwise4425 = new BitSet(new long[]{0x0000000000000018L});
+    public static final BitSet FOLLOW_ALL_in_split_otherwise4431 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_alias_col_ref_in_col_ref4447 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_dollar_col_ref_in_col_ref4451 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GROUP_in_alias_col_ref4464 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CUBE_in_alias_col_ref4474 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_alias_col_ref4484 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOLLARVAR_in_dollar_col_ref4499 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_literal_in_const_expr4510 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_scalar_in_literal4519 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_map_in_literal4523 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bag_in_literal4527 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tuple_in_literal4531 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_num_scalar_in_scalar4540 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_scalar4551 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NULL_in_scalar4564 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_scalar4577 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_scalar4590 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MINUS_in_num_scalar4603 = new BitSet(new long[]{0x800400400000A000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_INTEGER_in_num_scalar4625 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LONGINTEGER_in_num_scalar4644 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOATNUMBER_in_num_scalar4663 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOUBLENUMBER_in_num_scalar4682 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGINTEGERNUMBER_in_num_scalar4701 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGDECIMALNUMBER_in_num_scalar4720 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAP_VAL_in_map4752 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_keyvalue_in_map4756 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_keyvalue_in_map4762 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_MAP_VAL_in_map4778 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_KEY_VAL_PAIR_in_keyvalue4797 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_map_key_in_keyvalue4799 = new BitSet(new long[]{0x800410400000A000L,0x0000008000089000L,0x0400040000008020L});
+    public static final BitSet FOLLOW_const_expr_in_keyvalue4803 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_QUOTEDSTRING_in_map_key4814 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BAG_VAL_in_bag4831 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_tuple_in_bag4835 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0400000000000000L});
+    public static final BitSet FOLLOW_tuple_in_bag4841 = new BitSet(new long[]{0x0000000000000008L,0x0000000000000000L,0x0400000000000000L});
+    public static final BitSet FOLLOW_BAG_VAL_in_bag4857 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_TUPLE_VAL_in_tuple4876 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_literal_in_tuple4880 = new BitSet(new long[]{0x800410400000A008L,0x0000008000089000L,0x0400040000008020L});
+    public static final BitSet FOLLOW_literal_in_tuple4887 = new BitSet(new long[]{0x800410400000A008L,0x0000008000089000L,0x0400040000008020L});
+    public static final BitSet FOLLOW_TUPLE_VAL_in_tuple4903 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_rel_str_op_in_eid4917 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IMPORT_in_eid4925 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RETURNS_in_eid4938 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DEFINE_in_eid4950 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LOAD_in_eid4963 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FILTER_in_eid4978 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FOREACH_in_eid4991 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CUBE_in_eid5003 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ROLLUP_in_eid5018 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MATCHES_in_eid5031 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ORDER_in_eid5043 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RANK_in_eid5057 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DISTINCT_in_eid5072 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COGROUP_in_eid5083 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_JOIN_in_eid5095 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CROSS_in_eid5110 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNION_in_eid5124 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SPLIT_in_eid5138 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTO_in_eid5152 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IF_in_eid5167 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ALL_in_eid5184 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AS_in_eid5200 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BY_in_eid5217 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_USING_in_eid5234 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INNER_in_eid5248 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUTER_in_eid5262 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PARALLEL_in_eid5276 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PARTITION_in_eid5287 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GROUP_in_eid5297 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AND_in_eid5311 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OR_in_eid5327 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NOT_in_eid5344 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GENERATE_in_eid5360 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLATTEN_in_eid5371 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EVAL_in_eid5383 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASC_in_eid5398 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESC_in_eid5414 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOOLEAN_in_eid5429 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INT_in_eid5441 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LONG_in_eid5457 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_eid5472 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOUBLE_in_eid5486 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGINTEGER_in_eid5499 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BIGDECIMAL_in_eid5508 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DATETIME_in_eid5517 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CHARARRAY_in_eid5528 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BYTEARRAY_in_eid5538 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BAG_in_eid5548 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TUPLE_in_eid5564 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAP_in_eid5578 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IS_in_eid5594 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NULL_in_eid5611 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_eid5626 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_eid5641 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STREAM_in_eid5655 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_THROUGH_in_eid5668 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STORE_in_eid5680 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAPREDUCE_in_eid5694 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SHIP_in_eid5704 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CACHE_in_eid5719 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INPUT_in_eid5733 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUTPUT_in_eid5747 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STDERROR_in_eid5760 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STDIN_in_eid5771 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STDOUT_in_eid5785 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LIMIT_in_eid5798 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SAMPLE_in_eid5812 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LEFT_in_eid5825 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RIGHT_in_eid5840 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FULL_in_eid5854 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_eid5869 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TOBAG_in_eid5879 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TOMAP_in_eid5894 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TOTUPLE_in_eid5909 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IN_in_eid5922 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CASE_in_eid5940 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASSERT_in_eid5956 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_eq_in_rel_op5979 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_ne_in_rel_op5993 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_gt_in_rel_op6007 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_gte_in_rel_op6021 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_lt_in_rel_op6034 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rel_op_lte_in_rel_op6048 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_MATCHES_in_rel_op6061 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_EQ_in_rel_op_eq6080 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_OP_EQ_in_rel_op_eq6090 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_NE_in_rel_op_ne6108 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_OP_NE_in_rel_op_ne6118 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_GT_in_rel_op_gt6136 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_OP_GT_in_rel_op_gt6146 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_GTE_in_rel_op_gte6164 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_OP_GTE_in_rel_op_gte6174 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_LT_in_rel_op_lt6192 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_OP_LT_in_rel_op_lt6202 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_LTE_in_rel_op_lte6220 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_OP_LTE_in_rel_op_lte6230 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_EQ_in_rel_str_op6245 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_NE_in_rel_str_op6255 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_GT_in_rel_str_op6265 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_LT_in_rel_str_op6275 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_GTE_in_rel_str_op6285 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_LTE_in_rel_str_op6295 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STR_OP_MATCHES_in_rel_str_op6305 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_field_def_in_synpred50_AstPrinter1119 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_field_def_in_synpred50_AstPrinter1125 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_MINUS_in_synpred110_AstPrinter2376 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_expr_in_synpred110_AstPrinter2378 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_synpred110_AstPrinter2382 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_synpred114_AstPrinter2448 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_in_synpred114_AstPrinter2452 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_synpred114_AstPrinter2456 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_const_expr_in_synpred115_AstPrinter2466 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CAST_EXPR_in_synpred118_AstPrinter2500 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_synpred118_AstPrinter2504 = new BitSet(new long[]{0x814410540400A000L,0x0040009400089000L,0x04000C0082998020L});
+    public static final BitSet FOLLOW_expr_in_synpred118_AstPrinter2508 = new BitSet(new long[]{0x0000000000000008L});
+    public static final BitSet FOLLOW_TUPLE_TYPE_CAST_in_synpred123_AstPrinter2568 = new BitSet(new long[]{0x0000000000000004L});
+    public static final BitSet FOLLOW_type_cast_in_synpred123_AstPrinter2572 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0200020000004000L});
+    public static final BitSet FOLLOW_type_cast_in_synpred123_AstPrinter2578 = new BitSet(new long[]{0x4001002008255008L,0x0000000000000800L,0x0200020000004000L});
+    public static final BitSet FOLLOW_INTEGER_in_synpred144_AstPrinter3069 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LONGINTEGER_in_synpred145_AstPrinter3075 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOUBLENUMBER_in_synpred146_AstPrinter3108 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_join_item_in_synpred172_AstPrinter3535 = new BitSet(new long[]{0x0010000000000000L,0x0000080000000010L});
+    public static final BitSet FOLLOW_set_in_synpred172_AstPrinter3537 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_OUTER_in_synpred172_AstPrinter3597 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+    public static final BitSet FOLLOW_join_item_in_synpred172_AstPrinter3606 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTEGER_in_synpred190_AstPrinter4129 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/* Generated By:JavaCC: Do not edit this line. ParamLoaderConstants.java */
+package org.apache.pig.tools.parameters;
+
+
+/**
+ * Token literal values and constants.
+ * Generated by org.javacc.parser.OtherFilesGen#start()
+ */
+public interface ParamLoaderConstants {
+
+  /** End of File. */
+  int EOF = 0;
+  /** RegularExpression Id. */
+  int LETTER = 5;
+  /** RegularExpression Id. */
+  int DIGIT = 6;
+  /** RegularExpression Id. */
+  int SPECIALCHAR = 7;
+  /** RegularExpression Id. */
+  int IDENTIFIER = 8;
+  /** RegularExpression Id. */
+  int OTHER = 9;
+  /** RegularExpression Id. */
+  int SHELLCMD = 10;
+  /** RegularExpression Id. */
+  int EQUALS = 11;
+  /** RegularExpression Id. */
+  int COMMENT = 12;
+  /** RegularExpression Id. */
+  int DOUBLE_QUOTE_START = 13;
+  /** RegularExpression Id. */
+  int SINGLE_QUOTE_START = 14;
+  /** RegularExpression Id. */
+  int DOUBLE_QUOTE_LITERAL = 15;
+  /** RegularExpression Id. */
+  int SINGLE_QUOTE_LITERAL = 16;
+  /** RegularExpression Id. */
+  int ESCAPED_DOUBLE_QUOTE = 17;
+  /** RegularExpression Id. */
+  int ESCAPED_SINGLE_QUOTE = 18;
+
+  /** Lexical state. */
+  int DEFAULT = 0;
+  /** Lexical state. */
+  int DOUBLE_QUOTE = 1;
+  /** Lexical state. */
+  int SINGLE_QUOTE = 2;
+
+  /** Literal token values. */
+  String[] tokenImage = {
+    "<EOF>",
+    "\"\\n\"",
+    "\"\\r\"",
+    "\" \"",
+    "\"\\t\"",
+    "<LETTER>",
+    "<DIGIT>",
+    "<SPECIALCHAR>",
+    "<IDENTIFIER>",
+    "<OTHER>",
+    "<SHELLCMD>",
+    "\"=\"",
+    "<COMMENT>",
+    "\"\\\"\"",
+    "\"\\\'\"",
+    "\"\\\"\"",
+    "\"\\\'\"",
+    "\"\\\\\\\"\"",
+    "\"\\\\\\\'\"",
+    "<token of kind 19>",
+  };
+
+}
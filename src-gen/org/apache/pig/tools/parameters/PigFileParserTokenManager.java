@@ -0,0 +1,3197 @@
+/* Generated By:JavaCC: Do not edit this line. PigFileParserTokenManager.java */
+package org.apache.pig.tools.parameters;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Hashtable;
+import java.util.Stack;
+import java.io.Writer;
+import java.lang.StringBuilder;
+
+/** Token Manager. */
+public class PigFileParserTokenManager implements PigFileParserConstants
+{
+    int pigBlockLevel = 0;
+    int funcBlockLevel = 0;
+    int tupleSchemaLevel = 0;
+    int bagSchemaLevel = 0;
+    int bagConstantLevel = 0;
+    int prevState = DEFAULT;
+
+    Stack<Integer> stack = new Stack<Integer>();
+
+    public int getState(int state) {
+        if(!stack.empty()) return stack.pop();
+        return state;
+    }
+
+    public void saveState(int state) {
+        stack.push(state);
+    }
+
+  /** Debug output. */
+  public  java.io.PrintStream debugStream = System.out;
+  /** Set debug output. */
+  public  void setDebugStream(java.io.PrintStream ds) { debugStream = ds; }
+private final int jjStopStringLiteralDfa_15(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_15(int pos, long active0, long active1)
+{
+   return jjMoveNfa_15(jjStopStringLiteralDfa_15(pos, active0, active1), pos + 1);
+}
+private int jjStopAtPos(int pos, int kind)
+{
+   jjmatchedKind = kind;
+   jjmatchedPos = pos;
+   return pos + 1;
+}
+private int jjMoveStringLiteralDfa0_15()
+{
+   switch(curChar)
+   {
+      case 9:
+         return jjStopAtPos(0, 82);
+      case 10:
+         return jjStopAtPos(0, 84);
+      case 13:
+         return jjStopAtPos(0, 83);
+      case 32:
+         return jjStopAtPos(0, 81);
+      default :
+         return jjMoveNfa_15(0, 0);
+   }
+}
+static final long[] jjbitVec0 = {
+   0xfffffffffffffffeL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+static final long[] jjbitVec2 = {
+   0x0L, 0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+private int jjMoveNfa_15(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 1;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0xf7fffcfeffffd9ffL & l) == 0L)
+                     break;
+                  kind = 85;
+                  jjstateSet[jjnewStateCnt++] = 0;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  kind = 85;
+                  jjstateSet[jjnewStateCnt++] = 0;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 85)
+                     kind = 85;
+                  jjstateSet[jjnewStateCnt++] = 0;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 1 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_10(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_10(int pos, long active0)
+{
+   return jjMoveNfa_10(jjStopStringLiteralDfa_10(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_10()
+{
+   switch(curChar)
+   {
+      case 34:
+         return jjStopAtPos(0, 54);
+      case 92:
+         return jjMoveStringLiteralDfa1_10(0x20000000000000L);
+      default :
+         return jjMoveNfa_10(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_10(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_10(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 34:
+         if ((active0 & 0x20000000000000L) != 0L)
+            return jjStopAtPos(1, 53);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_10(0, active0);
+}
+private int jjMoveNfa_10(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 55)
+                        kind = 55;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 55)
+                     kind = 55;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_6(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_6(int pos, long active0)
+{
+   return jjMoveNfa_6(jjStopStringLiteralDfa_6(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_6()
+{
+   switch(curChar)
+   {
+      case 59:
+         return jjStopAtPos(0, 28);
+      case 123:
+         return jjStopAtPos(0, 26);
+      default :
+         return jjMoveNfa_6(4, 0);
+   }
+}
+private int jjMoveNfa_6(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 7;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 4:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 29)
+                        kind = 29;
+                  }
+                  else if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(0, 1);
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 5;
+                  break;
+               case 0:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(0, 1);
+                  break;
+               case 3:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 27)
+                     kind = 27;
+                  jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 5:
+                  if (curChar == 10 && kind > 29)
+                     kind = 29;
+                  break;
+               case 6:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 5;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 1:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 2;
+                  break;
+               case 2:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 7 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_9(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_9(int pos, long active0)
+{
+   return jjMoveNfa_9(jjStopStringLiteralDfa_9(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_9()
+{
+   switch(curChar)
+   {
+      case 34:
+         return jjStopAtPos(0, 42);
+      case 39:
+         return jjStopAtPos(0, 47);
+      case 45:
+         return jjMoveStringLiteralDfa1_9(0x2000000000000L);
+      case 47:
+         return jjMoveStringLiteralDfa1_9(0x4000000000000L);
+      case 96:
+         return jjStopAtPos(0, 48);
+      case 123:
+         return jjStopAtPos(0, 45);
+      default :
+         return jjMoveNfa_9(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_9(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_9(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 42:
+         if ((active0 & 0x4000000000000L) != 0L)
+            return jjStopAtPos(1, 50);
+         break;
+      case 45:
+         if ((active0 & 0x2000000000000L) != 0L)
+            return jjStopAtPos(1, 49);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_9(0, active0);
+}
+private int jjMoveNfa_9(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 20;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(0, 3);
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 51)
+                        kind = 51;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 1:
+                  if (curChar == 59)
+                     kind = 46;
+                  break;
+               case 2:
+                  if ((0x2400L & l) != 0L && kind > 51)
+                     kind = 51;
+                  break;
+               case 3:
+                  if (curChar == 10 && kind > 51)
+                     kind = 51;
+                  break;
+               case 4:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 5:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(0, 3);
+                  break;
+               case 6:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(6, 7);
+                  break;
+               case 9:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 43)
+                     kind = 43;
+                  jjstateSet[jjnewStateCnt++] = 9;
+                  break;
+               case 10:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(10, 11);
+                  break;
+               case 19:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 44)
+                     kind = 44;
+                  jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if (curChar != 125)
+                     break;
+                  kind = 46;
+                  jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 7:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 8;
+                  break;
+               case 8:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 9;
+                  break;
+               case 11:
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 12;
+                  break;
+               case 12:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 13;
+                  break;
+               case 13:
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 14:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 15;
+                  break;
+               case 15:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 16:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               case 17:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 18;
+                  break;
+               case 18:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 20 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_7(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_7(int pos, long active0)
+{
+   return jjMoveNfa_7(jjStopStringLiteralDfa_7(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_7()
+{
+   switch(curChar)
+   {
+      case 40:
+         return jjStopAtPos(0, 31);
+      case 41:
+         return jjStopAtPos(0, 32);
+      case 123:
+         return jjStopAtPos(0, 33);
+      case 125:
+         return jjStopAtPos(0, 34);
+      default :
+         return jjMoveNfa_7(0, 0);
+   }
+}
+private int jjMoveNfa_7(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 4;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 36)
+                        kind = 36;
+                  }
+                  else if ((0x800100000000000L & l) != 0L)
+                  {
+                     if (kind > 35)
+                        kind = 35;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 2;
+                  break;
+               case 1:
+                  if ((0x2400L & l) != 0L && kind > 36)
+                     kind = 36;
+                  break;
+               case 2:
+                  if (curChar == 10 && kind > 36)
+                     kind = 36;
+                  break;
+               case 3:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 2;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 4 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_5(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_5(int pos, long active0)
+{
+   return jjMoveNfa_5(jjStopStringLiteralDfa_5(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_5()
+{
+   switch(curChar)
+   {
+      case 92:
+         return jjMoveStringLiteralDfa1_5(0x400000L);
+      case 96:
+         return jjStopAtPos(0, 23);
+      default :
+         return jjMoveNfa_5(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_5(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_5(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 96:
+         if ((active0 & 0x400000L) != 0L)
+            return jjStopAtPos(1, 22);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_5(0, active0);
+}
+private int jjMoveNfa_5(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 24)
+                        kind = 24;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 24)
+                     kind = 24;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      case 0:
+         if ((active1 & 0xcL) != 0L)
+         {
+            jjmatchedKind = 75;
+            return -1;
+         }
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            return 40;
+         }
+         return -1;
+      case 1:
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            jjmatchedPos = 1;
+            return 40;
+         }
+         if ((active1 & 0xcL) != 0L)
+         {
+            if (jjmatchedPos == 0)
+            {
+               jjmatchedKind = 75;
+               jjmatchedPos = 0;
+            }
+            return -1;
+         }
+         return -1;
+      case 2:
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            jjmatchedPos = 2;
+            return 40;
+         }
+         if ((active1 & 0xcL) != 0L)
+         {
+            if (jjmatchedPos == 0)
+            {
+               jjmatchedKind = 75;
+               jjmatchedPos = 0;
+            }
+            return -1;
+         }
+         return -1;
+      case 3:
+         if ((active1 & 0xcL) != 0L)
+         {
+            if (jjmatchedPos == 0)
+            {
+               jjmatchedKind = 75;
+               jjmatchedPos = 0;
+            }
+            return -1;
+         }
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            jjmatchedPos = 3;
+            return 40;
+         }
+         return -1;
+      case 4:
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            jjmatchedPos = 4;
+            return 40;
+         }
+         if ((active1 & 0xcL) != 0L)
+         {
+            if (jjmatchedPos == 0)
+            {
+               jjmatchedKind = 75;
+               jjmatchedPos = 0;
+            }
+            return -1;
+         }
+         return -1;
+      case 5:
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            jjmatchedPos = 5;
+            return 40;
+         }
+         if ((active1 & 0xcL) != 0L)
+         {
+            if (jjmatchedPos == 0)
+            {
+               jjmatchedKind = 75;
+               jjmatchedPos = 0;
+            }
+            return -1;
+         }
+         return -1;
+      case 6:
+         if ((active1 & 0x10L) != 0L)
+         {
+            jjmatchedKind = 70;
+            jjmatchedPos = 6;
+            return 40;
+         }
+         if ((active1 & 0xcL) != 0L)
+         {
+            if (jjmatchedPos == 0)
+            {
+               jjmatchedKind = 75;
+               jjmatchedPos = 0;
+            }
+            return -1;
+         }
+         return -1;
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_0(int pos, long active0, long active1)
+{
+   return jjMoveNfa_0(jjStopStringLiteralDfa_0(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_0()
+{
+   switch(curChar)
+   {
+      case 37:
+         return jjMoveStringLiteralDfa1_0(0xcL);
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa1_0(0x10L);
+      default :
+         return jjMoveNfa_0(11, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_0(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(0, 0L, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 68:
+      case 100:
+         return jjMoveStringLiteralDfa2_0(active1, 0xcL);
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa2_0(active1, 0x10L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(0, 0L, active1);
+}
+private int jjMoveStringLiteralDfa2_0(long old1, long active1)
+{
+   if (((active1 &= old1)) == 0L)
+      return jjStartNfa_0(0, 0L, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(1, 0L, active1);
+      return 2;
+   }
+   switch(curChar)
+   {
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa3_0(active1, 0xcL);
+      case 71:
+      case 103:
+         return jjMoveStringLiteralDfa3_0(active1, 0x10L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(1, 0L, active1);
+}
+private int jjMoveStringLiteralDfa3_0(long old1, long active1)
+{
+   if (((active1 &= old1)) == 0L)
+      return jjStartNfa_0(1, 0L, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(2, 0L, active1);
+      return 3;
+   }
+   switch(curChar)
+   {
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa4_0(active1, 0x4L);
+      case 70:
+      case 102:
+         return jjMoveStringLiteralDfa4_0(active1, 0x8L);
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa4_0(active1, 0x10L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(2, 0L, active1);
+}
+private int jjMoveStringLiteralDfa4_0(long old1, long active1)
+{
+   if (((active1 &= old1)) == 0L)
+      return jjStartNfa_0(2, 0L, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(3, 0L, active1);
+      return 4;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa5_0(active1, 0x8L);
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa5_0(active1, 0x4L);
+      case 83:
+      case 115:
+         return jjMoveStringLiteralDfa5_0(active1, 0x10L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(3, 0L, active1);
+}
+private int jjMoveStringLiteralDfa5_0(long old1, long active1)
+{
+   if (((active1 &= old1)) == 0L)
+      return jjStartNfa_0(3, 0L, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(4, 0L, active1);
+      return 5;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa6_0(active1, 0x4L);
+      case 84:
+      case 116:
+         return jjMoveStringLiteralDfa6_0(active1, 0x10L);
+      case 85:
+      case 117:
+         return jjMoveStringLiteralDfa6_0(active1, 0x8L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(4, 0L, active1);
+}
+private int jjMoveStringLiteralDfa6_0(long old1, long active1)
+{
+   if (((active1 &= old1)) == 0L)
+      return jjStartNfa_0(4, 0L, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(5, 0L, active1);
+      return 6;
+   }
+   switch(curChar)
+   {
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa7_0(active1, 0x10L);
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa7_0(active1, 0x8L);
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa7_0(active1, 0x4L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(5, 0L, active1);
+}
+private int jjMoveStringLiteralDfa7_0(long old1, long active1)
+{
+   if (((active1 &= old1)) == 0L)
+      return jjStartNfa_0(5, 0L, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(6, 0L, active1);
+      return 7;
+   }
+   switch(curChar)
+   {
+      case 69:
+      case 101:
+         if ((active1 & 0x4L) != 0L)
+            return jjStopAtPos(7, 66);
+         break;
+      case 82:
+      case 114:
+         if ((active1 & 0x10L) != 0L)
+            return jjStartNfaWithStates_0(7, 68, 40);
+         break;
+      case 84:
+      case 116:
+         if ((active1 & 0x8L) != 0L)
+            return jjStopAtPos(7, 67);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(6, 0L, active1);
+}
+private int jjStartNfaWithStates_0(int pos, int kind, int state)
+{
+   jjmatchedKind = kind;
+   jjmatchedPos = pos;
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) { return pos + 1; }
+   return jjMoveNfa_0(state, pos + 1);
+}
+private int jjMoveNfa_0(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 46;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 11:
+                  if ((0xdfff5f42ffffd9ffL & l) != 0L)
+                  {
+                     if (kind > 74)
+                        kind = 74;
+                     jjCheckNAdd(44);
+                  }
+                  else if ((0x2000a0bd00002600L & l) != 0L)
+                  {
+                     if (kind > 75)
+                        kind = 75;
+                  }
+                  if ((0x100002600L & l) != 0L)
+                  {
+                     if (kind > 60)
+                        kind = 60;
+                  }
+                  else if (curChar == 39)
+                     jjCheckNAddStates(4, 6);
+                  else if (curChar == 34)
+                     jjCheckNAddStates(7, 9);
+                  else if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 21;
+                  else if (curChar == 35)
+                     jjstateSet[jjnewStateCnt++] = 18;
+                  else if (curChar == 45)
+                     jjstateSet[jjnewStateCnt++] = 15;
+                  if ((0x100000200L & l) != 0L)
+                  {
+                     if (kind > 59)
+                        kind = 59;
+                  }
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 58)
+                        kind = 58;
+                  }
+                  break;
+               case 1:
+                  if ((0x100002600L & l) != 0L)
+                     jjAddStates(10, 12);
+                  break;
+               case 4:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(13, 15);
+                  break;
+               case 5:
+                  if ((0x100002600L & l) != 0L)
+                     jjCheckNAddTwoStates(5, 6);
+                  break;
+               case 6:
+                  if (curChar == 40 && kind > 1)
+                     kind = 1;
+                  break;
+               case 12:
+                  if ((0x2400L & l) != 0L && kind > 58)
+                     kind = 58;
+                  break;
+               case 13:
+                  if ((0x100000200L & l) != 0L && kind > 59)
+                     kind = 59;
+                  break;
+               case 14:
+                  if ((0x100002600L & l) != 0L && kind > 60)
+                     kind = 60;
+                  break;
+               case 15:
+                  if (curChar != 45)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(16);
+                  break;
+               case 16:
+                  if ((0xffffffffffffdbffL & l) == 0L)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(16);
+                  break;
+               case 17:
+                  if (curChar == 45)
+                     jjstateSet[jjnewStateCnt++] = 15;
+                  break;
+               case 18:
+                  if (curChar != 33)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(19);
+                  break;
+               case 19:
+                  if ((0xffffffffffffdbffL & l) == 0L)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(19);
+                  break;
+               case 20:
+                  if (curChar == 35)
+                     jjstateSet[jjnewStateCnt++] = 18;
+                  break;
+               case 21:
+                  if (curChar == 42)
+                     jjCheckNAddTwoStates(22, 23);
+                  break;
+               case 22:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(22, 23);
+                  break;
+               case 23:
+                  if (curChar == 42)
+                     jjCheckNAddStates(16, 18);
+                  break;
+               case 24:
+                  if ((0xffff7bffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(25, 23);
+                  break;
+               case 25:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(25, 23);
+                  break;
+               case 26:
+                  if (curChar == 47 && kind > 61)
+                     kind = 61;
+                  break;
+               case 27:
+                  if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 21;
+                  break;
+               case 28:
+               case 30:
+                  if (curChar == 34)
+                     jjCheckNAddStates(7, 9);
+                  break;
+               case 29:
+                  if ((0xfffffffbffffffffL & l) != 0L)
+                     jjCheckNAddStates(7, 9);
+                  break;
+               case 32:
+                  if (curChar == 34 && kind > 69)
+                     kind = 69;
+                  break;
+               case 33:
+               case 35:
+                  if (curChar == 39)
+                     jjCheckNAddStates(4, 6);
+                  break;
+               case 34:
+                  if ((0xffffff7fffffffffL & l) != 0L)
+                     jjCheckNAddStates(4, 6);
+                  break;
+               case 37:
+                  if (curChar == 39 && kind > 69)
+                     kind = 69;
+                  break;
+               case 40:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 70)
+                     kind = 70;
+                  jjstateSet[jjnewStateCnt++] = 40;
+                  break;
+               case 42:
+                  jjAddStates(19, 20);
+                  break;
+               case 44:
+                  if ((0xdfff5f42ffffd9ffL & l) == 0L)
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  jjCheckNAdd(44);
+                  break;
+               case 45:
+                  if ((0x2000a0bd00002600L & l) != 0L && kind > 75)
+                     kind = 75;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 11:
+                  if ((0x7ffffff87fffffeL & l) != 0L)
+                  {
+                     if (kind > 75)
+                        kind = 75;
+                  }
+                  else if ((0xf800000078000001L & l) != 0L)
+                  {
+                     if (kind > 74)
+                        kind = 74;
+                     jjCheckNAdd(44);
+                  }
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                  {
+                     if (kind > 70)
+                        kind = 70;
+                     jjCheckNAdd(40);
+                  }
+                  else if (curChar == 96)
+                     jjCheckNAddTwoStates(42, 43);
+                  else if (curChar == 95)
+                     jjCheckNAddTwoStates(38, 39);
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 10;
+                  break;
+               case 0:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 2:
+                  if (curChar == 95)
+                     jjAddStates(21, 22);
+                  break;
+               case 3:
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(13, 15);
+                  break;
+               case 4:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(13, 15);
+                  break;
+               case 7:
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 0;
+                  break;
+               case 8:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 9:
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 8;
+                  break;
+               case 10:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 9;
+                  break;
+               case 16:
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 19:
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               case 22:
+                  jjCheckNAddTwoStates(22, 23);
+                  break;
+               case 24:
+               case 25:
+                  jjCheckNAddTwoStates(25, 23);
+                  break;
+               case 29:
+                  jjAddStates(7, 9);
+                  break;
+               case 31:
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 30;
+                  break;
+               case 34:
+                  jjAddStates(4, 6);
+                  break;
+               case 36:
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 35;
+                  break;
+               case 38:
+                  if (curChar == 95)
+                     jjCheckNAddTwoStates(38, 39);
+                  break;
+               case 39:
+                  if ((0x7fffffe07fffffeL & l) == 0L)
+                     break;
+                  if (kind > 70)
+                     kind = 70;
+                  jjCheckNAdd(40);
+                  break;
+               case 40:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 70)
+                     kind = 70;
+                  jjCheckNAdd(40);
+                  break;
+               case 41:
+                  if (curChar == 96)
+                     jjCheckNAddTwoStates(42, 43);
+                  break;
+               case 42:
+                  if ((0xfffffffeffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(42, 43);
+                  break;
+               case 43:
+                  if (curChar == 96 && kind > 71)
+                     kind = 71;
+                  break;
+               case 44:
+                  if ((0xf800000078000001L & l) == 0L)
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  jjCheckNAdd(44);
+                  break;
+               case 45:
+                  if ((0x7ffffff87fffffeL & l) != 0L && kind > 75)
+                     kind = 75;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 11:
+               case 44:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  jjCheckNAdd(44);
+                  break;
+               case 16:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 19:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               case 22:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddTwoStates(22, 23);
+                  break;
+               case 24:
+               case 25:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddTwoStates(25, 23);
+                  break;
+               case 29:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjAddStates(7, 9);
+                  break;
+               case 34:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjAddStates(4, 6);
+                  break;
+               case 42:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjAddStates(19, 20);
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 46 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_12(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_12(int pos, long active0, long active1)
+{
+   return jjMoveNfa_12(jjStopStringLiteralDfa_12(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_12()
+{
+   switch(curChar)
+   {
+      case 34:
+         return jjStopAtPos(0, 72);
+      case 39:
+         return jjStopAtPos(0, 73);
+      default :
+         return jjMoveNfa_12(0, 0);
+   }
+}
+private int jjMoveNfa_12(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 24;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0xdfff5f42ffffd9ffL & l) != 0L)
+                  {
+                     if (kind > 74)
+                        kind = 74;
+                     jjCheckNAdd(22);
+                  }
+                  else if ((0x2000a0bd00002600L & l) != 0L)
+                  {
+                     if (kind > 75)
+                        kind = 75;
+                  }
+                  if ((0x100002600L & l) != 0L)
+                  {
+                     if (kind > 60)
+                        kind = 60;
+                  }
+                  else if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 9;
+                  else if (curChar == 35)
+                     jjstateSet[jjnewStateCnt++] = 6;
+                  else if (curChar == 45)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  if ((0x100000200L & l) != 0L)
+                  {
+                     if (kind > 59)
+                        kind = 59;
+                  }
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 58)
+                        kind = 58;
+                  }
+                  break;
+               case 1:
+                  if ((0x100000200L & l) != 0L && kind > 59)
+                     kind = 59;
+                  break;
+               case 2:
+                  if ((0x100002600L & l) != 0L && kind > 60)
+                     kind = 60;
+                  break;
+               case 3:
+                  if (curChar != 45)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(4);
+                  break;
+               case 4:
+                  if ((0xffffffffffffdbffL & l) == 0L)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(4);
+                  break;
+               case 5:
+                  if (curChar == 45)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 6:
+                  if (curChar != 33)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(7);
+                  break;
+               case 7:
+                  if ((0xffffffffffffdbffL & l) == 0L)
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjCheckNAdd(7);
+                  break;
+               case 8:
+                  if (curChar == 35)
+                     jjstateSet[jjnewStateCnt++] = 6;
+                  break;
+               case 9:
+                  if (curChar == 42)
+                     jjCheckNAddTwoStates(10, 11);
+                  break;
+               case 10:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(10, 11);
+                  break;
+               case 11:
+                  if (curChar == 42)
+                     jjCheckNAddStates(23, 25);
+                  break;
+               case 12:
+                  if ((0xffff7bffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(13, 11);
+                  break;
+               case 13:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(13, 11);
+                  break;
+               case 14:
+                  if (curChar == 47 && kind > 61)
+                     kind = 61;
+                  break;
+               case 15:
+                  if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 9;
+                  break;
+               case 18:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 70)
+                     kind = 70;
+                  jjstateSet[jjnewStateCnt++] = 18;
+                  break;
+               case 20:
+                  jjAddStates(26, 27);
+                  break;
+               case 22:
+                  if ((0xdfff5f42ffffd9ffL & l) == 0L)
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  jjCheckNAdd(22);
+                  break;
+               case 23:
+                  if ((0x2000a0bd00002600L & l) != 0L && kind > 75)
+                     kind = 75;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x7ffffff87fffffeL & l) != 0L)
+                  {
+                     if (kind > 75)
+                        kind = 75;
+                  }
+                  else if ((0xf800000078000001L & l) != 0L)
+                  {
+                     if (kind > 74)
+                        kind = 74;
+                     jjCheckNAdd(22);
+                  }
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                  {
+                     if (kind > 70)
+                        kind = 70;
+                     jjCheckNAdd(18);
+                  }
+                  else if (curChar == 96)
+                     jjCheckNAddTwoStates(20, 21);
+                  else if (curChar == 95)
+                     jjCheckNAddTwoStates(16, 17);
+                  break;
+               case 4:
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 4;
+                  break;
+               case 7:
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 10:
+                  jjCheckNAddTwoStates(10, 11);
+                  break;
+               case 12:
+               case 13:
+                  jjCheckNAddTwoStates(13, 11);
+                  break;
+               case 16:
+                  if (curChar == 95)
+                     jjCheckNAddTwoStates(16, 17);
+                  break;
+               case 17:
+                  if ((0x7fffffe07fffffeL & l) == 0L)
+                     break;
+                  if (kind > 70)
+                     kind = 70;
+                  jjCheckNAdd(18);
+                  break;
+               case 18:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 70)
+                     kind = 70;
+                  jjCheckNAdd(18);
+                  break;
+               case 19:
+                  if (curChar == 96)
+                     jjCheckNAddTwoStates(20, 21);
+                  break;
+               case 20:
+                  if ((0xfffffffeffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(20, 21);
+                  break;
+               case 21:
+                  if (curChar == 96 && kind > 71)
+                     kind = 71;
+                  break;
+               case 22:
+                  if ((0xf800000078000001L & l) == 0L)
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  jjCheckNAdd(22);
+                  break;
+               case 23:
+                  if ((0x7ffffff87fffffeL & l) != 0L && kind > 75)
+                     kind = 75;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+               case 22:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  jjCheckNAdd(22);
+                  break;
+               case 4:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 4;
+                  break;
+               case 7:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 61)
+                     kind = 61;
+                  jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 10:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddTwoStates(10, 11);
+                  break;
+               case 12:
+               case 13:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddTwoStates(13, 11);
+                  break;
+               case 20:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjAddStates(26, 27);
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 24 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_4(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_4(int pos, long active0)
+{
+   return jjMoveNfa_4(jjStopStringLiteralDfa_4(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_4()
+{
+   switch(curChar)
+   {
+      case 39:
+         return jjStopAtPos(0, 19);
+      case 92:
+         return jjMoveStringLiteralDfa1_4(0x40000L);
+      default :
+         return jjMoveNfa_4(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_4(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_4(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 39:
+         if ((active0 & 0x40000L) != 0L)
+            return jjStopAtPos(1, 18);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_4(0, active0);
+}
+private int jjMoveNfa_4(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 20)
+                        kind = 20;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 20)
+                     kind = 20;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_8(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_8(int pos, long active0)
+{
+   return jjMoveNfa_8(jjStopStringLiteralDfa_8(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_8()
+{
+   switch(curChar)
+   {
+      case 123:
+         return jjStopAtPos(0, 38);
+      case 125:
+         return jjStopAtPos(0, 39);
+      default :
+         return jjMoveNfa_8(0, 0);
+   }
+}
+private int jjMoveNfa_8(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 40)
+                        kind = 40;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 40)
+                     kind = 40;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_13()
+{
+   switch(curChar)
+   {
+      case 34:
+         return jjStopAtPos(0, 76);
+      case 92:
+         return jjMoveStringLiteralDfa1_13(0x4000L);
+      default :
+         return 1;
+   }
+}
+private int jjMoveStringLiteralDfa1_13(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 34:
+         if ((active1 & 0x4000L) != 0L)
+            return jjStopAtPos(1, 78);
+         break;
+      default :
+         return 2;
+   }
+   return 2;
+}
+private final int jjStopStringLiteralDfa_3(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_3(int pos, long active0)
+{
+   return jjMoveNfa_3(jjStopStringLiteralDfa_3(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_3()
+{
+   switch(curChar)
+   {
+      case 42:
+         return jjMoveStringLiteralDfa1_3(0x8000L);
+      default :
+         return jjMoveNfa_3(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_3(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_3(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 47:
+         if ((active0 & 0x8000L) != 0L)
+            return jjStopAtPos(1, 15);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_3(0, active0);
+}
+private int jjMoveNfa_3(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 16)
+                        kind = 16;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 16)
+                     kind = 16;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_2()
+{
+   return jjMoveNfa_2(0, 0);
+}
+private int jjMoveNfa_2(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 13)
+                        kind = 13;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 13)
+                     kind = 13;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_14()
+{
+   switch(curChar)
+   {
+      case 39:
+         return jjStopAtPos(0, 77);
+      case 92:
+         return jjMoveStringLiteralDfa1_14(0x8000L);
+      default :
+         return 1;
+   }
+}
+private int jjMoveStringLiteralDfa1_14(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 39:
+         if ((active1 & 0x8000L) != 0L)
+            return jjStopAtPos(1, 79);
+         break;
+      default :
+         return 2;
+   }
+   return 2;
+}
+private int jjMoveStringLiteralDfa0_11()
+{
+   return 1;
+}
+private final int jjStopStringLiteralDfa_1(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_1(int pos, long active0)
+{
+   return jjMoveNfa_1(jjStopStringLiteralDfa_1(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_1()
+{
+   switch(curChar)
+   {
+      case 39:
+         return jjStopAtPos(0, 2);
+      case 45:
+         return jjMoveStringLiteralDfa1_1(0x200L);
+      case 47:
+         return jjMoveStringLiteralDfa1_1(0x400L);
+      case 59:
+         return jjStopAtPos(0, 8);
+      case 96:
+         return jjStopAtPos(0, 3);
+      case 123:
+         return jjStopAtPos(0, 6);
+      case 125:
+         return jjStopAtPos(0, 7);
+      default :
+         return jjMoveNfa_1(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_1(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_1(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 42:
+         if ((active0 & 0x400L) != 0L)
+            return jjStopAtPos(1, 10);
+         break;
+      case 45:
+         if ((active0 & 0x200L) != 0L)
+            return jjStopAtPos(1, 9);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_1(0, active0);
+}
+private int jjMoveNfa_1(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 18;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(28, 31);
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 11)
+                        kind = 11;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 11)
+                     kind = 11;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 3:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(28, 31);
+                  break;
+               case 4:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(4, 5);
+                  break;
+               case 7:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 4)
+                     kind = 4;
+                  jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 8:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(8, 9);
+                  break;
+               case 17:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 5)
+                     kind = 5;
+                  jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 5:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 6;
+                  break;
+               case 6:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 9:
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 10;
+                  break;
+               case 10:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 11;
+                  break;
+               case 11:
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 12;
+                  break;
+               case 12:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 13;
+                  break;
+               case 13:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 14:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 15;
+                  break;
+               case 15:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 16:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 18 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+static final int[] jjnextStates = {
+   6, 7, 10, 11, 34, 36, 37, 29, 31, 32, 1, 2, 3, 4, 5, 6, 
+   23, 24, 26, 42, 43, 2, 3, 11, 12, 14, 20, 21, 4, 5, 8, 9, 
+};
+private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2)
+{
+   switch(hiByte)
+   {
+      case 0:
+         return ((jjbitVec2[i2] & l2) != 0L);
+      default :
+         if ((jjbitVec0[i1] & l1) != 0L)
+            return true;
+         return false;
+   }
+}
+
+/** Token literal values. */
+public static final String[] jjstrLiteralImages = {
+"", null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, };
+
+/** Lexer state names. */
+public static final String[] lexStateNames = {
+   "DEFAULT",
+   "PIG_START",
+   "SINGLE_LINE_COMMENT",
+   "MULTI_LINE_COMMENT",
+   "IN_STRING",
+   "IN_COMMAND",
+   "GENERATE",
+   "SCHEMA_DEFINITION",
+   "BAG_CONSTANT",
+   "IN_BLOCK",
+   "IN_DOUBLE_QUOTED_STRING",
+   "PIG_END",
+   "IN_DECLARE",
+   "DOUBLE_QUOTE",
+   "SINGLE_QUOTE",
+   "IN_REGISTER",
+};
+
+/** Lex State array. */
+public static final int[] jjnewLexState = {
+   -1, 1, 4, 5, 7, 6, 9, -1, 11, 2, 3, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, 8, 7, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 10, 7, 6, -1, -1, 4, 5, 2, 
+   3, -1, -1, -1, -1, -1, -1, 0, 0, -1, -1, -1, -1, -1, -1, -1, 12, 12, 15, -1, -1, 0, 13, 14, -1, 
+   -1, 0, 0, -1, -1, -1, -1, -1, -1, -1, 0, 
+};
+static final long[] jjtoToken = {
+   0x3e00000000000001L, 0x203cfcL, 
+};
+static final long[] jjtoMore = {
+   0x1fffffffffffffeL, 0x1fc300L, 
+};
+protected JavaCharStream input_stream;
+private final int[] jjrounds = new int[46];
+private final int[] jjstateSet = new int[92];
+private final StringBuffer jjimage = new StringBuffer();
+private StringBuffer image = jjimage;
+private int jjimageLen;
+private int lengthOfMatch;
+protected char curChar;
+/** Constructor. */
+public PigFileParserTokenManager(JavaCharStream stream){
+   if (JavaCharStream.staticFlag)
+      throw new Error("ERROR: Cannot use a static CharStream class with a non-static lexical analyzer.");
+   input_stream = stream;
+}
+
+/** Constructor. */
+public PigFileParserTokenManager(JavaCharStream stream, int lexState){
+   this(stream);
+   SwitchTo(lexState);
+}
+
+/** Reinitialise parser. */
+public void ReInit(JavaCharStream stream)
+{
+   jjmatchedPos = jjnewStateCnt = 0;
+   curLexState = defaultLexState;
+   input_stream = stream;
+   ReInitRounds();
+}
+private void ReInitRounds()
+{
+   int i;
+   jjround = 0x80000001;
+   for (i = 46; i-- > 0;)
+      jjrounds[i] = 0x80000000;
+}
+
+/** Reinitialise parser. */
+public void ReInit(JavaCharStream stream, int lexState)
+{
+   ReInit(stream);
+   SwitchTo(lexState);
+}
+
+/** Switch to specified lex state. */
+public void SwitchTo(int lexState)
+{
+   if (lexState >= 16 || lexState < 0)
+      throw new TokenMgrError("Error: Ignoring invalid lexical state : " + lexState + ". State unchanged.", TokenMgrError.INVALID_LEXICAL_STATE);
+   else
+      curLexState = lexState;
+}
+
+protected Token jjFillToken()
+{
+   final Token t;
+   final String curTokenImage;
+   final int beginLine;
+   final int endLine;
+   final int beginColumn;
+   final int endColumn;
+   if (jjmatchedPos < 0)
+   {
+      if (image == null)
+         curTokenImage = "";
+      else
+         curTokenImage = image.toString();
+      beginLine = endLine = input_stream.getBeginLine();
+      beginColumn = endColumn = input_stream.getBeginColumn();
+   }
+   else
+   {
+      String im = jjstrLiteralImages[jjmatchedKind];
+      curTokenImage = (im == null) ? input_stream.GetImage() : im;
+      beginLine = input_stream.getBeginLine();
+      beginColumn = input_stream.getBeginColumn();
+      endLine = input_stream.getEndLine();
+      endColumn = input_stream.getEndColumn();
+   }
+   t = Token.newToken(jjmatchedKind, curTokenImage);
+
+   t.beginLine = beginLine;
+   t.endLine = endLine;
+   t.beginColumn = beginColumn;
+   t.endColumn = endColumn;
+
+   return t;
+}
+
+int curLexState = 0;
+int defaultLexState = 0;
+int jjnewStateCnt;
+int jjround;
+int jjmatchedPos;
+int jjmatchedKind;
+
+/** Get the next Token. */
+public Token getNextToken() 
+{
+  Token matchedToken;
+  int curPos = 0;
+
+  EOFLoop :
+  for (;;)
+  {
+   try
+   {
+      curChar = input_stream.BeginToken();
+   }
+   catch(java.io.IOException e)
+   {
+      jjmatchedKind = 0;
+      matchedToken = jjFillToken();
+      return matchedToken;
+   }
+   image = jjimage;
+   image.setLength(0);
+   jjimageLen = 0;
+
+   for (;;)
+   {
+     switch(curLexState)
+     {
+       case 0:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_0();
+         break;
+       case 1:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_1();
+         if (jjmatchedPos == 0 && jjmatchedKind > 12)
+         {
+            jjmatchedKind = 12;
+         }
+         break;
+       case 2:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_2();
+         if (jjmatchedPos == 0 && jjmatchedKind > 14)
+         {
+            jjmatchedKind = 14;
+         }
+         break;
+       case 3:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_3();
+         if (jjmatchedPos == 0 && jjmatchedKind > 17)
+         {
+            jjmatchedKind = 17;
+         }
+         break;
+       case 4:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_4();
+         if (jjmatchedPos == 0 && jjmatchedKind > 21)
+         {
+            jjmatchedKind = 21;
+         }
+         break;
+       case 5:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_5();
+         if (jjmatchedPos == 0 && jjmatchedKind > 25)
+         {
+            jjmatchedKind = 25;
+         }
+         break;
+       case 6:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_6();
+         if (jjmatchedPos == 0 && jjmatchedKind > 30)
+         {
+            jjmatchedKind = 30;
+         }
+         break;
+       case 7:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_7();
+         if (jjmatchedPos == 0 && jjmatchedKind > 37)
+         {
+            jjmatchedKind = 37;
+         }
+         break;
+       case 8:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_8();
+         if (jjmatchedPos == 0 && jjmatchedKind > 41)
+         {
+            jjmatchedKind = 41;
+         }
+         break;
+       case 9:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_9();
+         if (jjmatchedPos == 0 && jjmatchedKind > 52)
+         {
+            jjmatchedKind = 52;
+         }
+         break;
+       case 10:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_10();
+         if (jjmatchedPos == 0 && jjmatchedKind > 56)
+         {
+            jjmatchedKind = 56;
+         }
+         break;
+       case 11:
+         jjmatchedKind = 57;
+         jjmatchedPos = -1;
+         curPos = 0;
+         curPos = jjMoveStringLiteralDfa0_11();
+         break;
+       case 12:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_12();
+         break;
+       case 13:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_13();
+         if (jjmatchedPos == 0 && jjmatchedKind > 80)
+         {
+            jjmatchedKind = 80;
+         }
+         break;
+       case 14:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_14();
+         if (jjmatchedPos == 0 && jjmatchedKind > 80)
+         {
+            jjmatchedKind = 80;
+         }
+         break;
+       case 15:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_15();
+         break;
+     }
+     if (jjmatchedKind != 0x7fffffff)
+     {
+        if (jjmatchedPos + 1 < curPos)
+           input_stream.backup(curPos - jjmatchedPos - 1);
+        if ((jjtoToken[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L)
+        {
+           matchedToken = jjFillToken();
+           TokenLexicalActions(matchedToken);
+       if (jjnewLexState[jjmatchedKind] != -1)
+         curLexState = jjnewLexState[jjmatchedKind];
+           return matchedToken;
+        }
+        MoreLexicalActions();
+      if (jjnewLexState[jjmatchedKind] != -1)
+        curLexState = jjnewLexState[jjmatchedKind];
+        curPos = 0;
+        jjmatchedKind = 0x7fffffff;
+        try {
+           curChar = input_stream.readChar();
+           continue;
+        }
+        catch (java.io.IOException e1) { }
+     }
+     int error_line = input_stream.getEndLine();
+     int error_column = input_stream.getEndColumn();
+     String error_after = null;
+     boolean EOFSeen = false;
+     try { input_stream.readChar(); input_stream.backup(1); }
+     catch (java.io.IOException e1) {
+        EOFSeen = true;
+        error_after = curPos <= 1 ? "" : input_stream.GetImage();
+        if (curChar == '\n' || curChar == '\r') {
+           error_line++;
+           error_column = 0;
+        }
+        else
+           error_column++;
+     }
+     if (!EOFSeen) {
+        input_stream.backup(1);
+        error_after = curPos <= 1 ? "" : input_stream.GetImage();
+     }
+     throw new TokenMgrError(EOFSeen, curLexState, error_line, error_column, error_after, curChar, TokenMgrError.LEXICAL_ERROR);
+   }
+  }
+}
+
+void MoreLexicalActions()
+{
+   jjimageLen += (lengthOfMatch = jjmatchedPos + 1);
+   switch(jjmatchedKind)
+   {
+      case 2 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           prevState = PIG_START;
+         break;
+      case 3 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           prevState = PIG_START;
+         break;
+      case 4 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                     prevState = PIG_START;
+         break;
+      case 5 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                                                                           prevState = PIG_START;
+         break;
+      case 6 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           pigBlockLevel = 1;
+         break;
+      case 7 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           if (true) throw new TokenMgrError("Unmatched '}'", TokenMgrError.LEXICAL_ERROR);
+         break;
+      case 9 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            prevState = PIG_START;
+         break;
+      case 10 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            prevState = PIG_START;
+         break;
+      case 13 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                              SwitchTo(prevState);
+         break;
+      case 15 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            SwitchTo(prevState);
+         break;
+      case 19 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            SwitchTo(prevState);
+         break;
+      case 23 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            SwitchTo(prevState);
+         break;
+      case 26 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        bagConstantLevel++;
+        prevState = getState(prevState);
+        saveState(prevState);
+        prevState = GENERATE;
+         break;
+      case 27 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        prevState = getState(prevState);
+        saveState(prevState);
+        prevState = GENERATE;
+         break;
+      case 28 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        prevState = getState(prevState);
+        if(prevState == PIG_START) {
+            input_stream.backup(1);
+            image.deleteCharAt(image.length()-1);
+        }
+        SwitchTo(prevState);
+         break;
+      case 31 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           tupleSchemaLevel++;
+         break;
+      case 32 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           tupleSchemaLevel--; if ((tupleSchemaLevel == 0) && (bagSchemaLevel == 0)) SwitchTo(prevState);
+         break;
+      case 33 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagSchemaLevel++;
+         break;
+      case 34 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagSchemaLevel--; if ((tupleSchemaLevel == 0) && (bagSchemaLevel == 0)) SwitchTo(prevState);
+         break;
+      case 35 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        if ((tupleSchemaLevel == 0) && (bagSchemaLevel == 0)) {
+            input_stream.backup(1);
+            image.deleteCharAt(image.length()-1);
+            SwitchTo(prevState);
+        }
+         break;
+      case 38 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagConstantLevel++;
+         break;
+      case 39 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagConstantLevel--; if (bagConstantLevel == 0) SwitchTo(prevState);
+         break;
+      case 42 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            prevState = IN_BLOCK;
+         break;
+      case 43 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                     prevState = IN_BLOCK;
+         break;
+      case 44 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                                                                          prevState = IN_BLOCK;
+         break;
+      case 45 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           pigBlockLevel++;
+         break;
+      case 46 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                     pigBlockLevel--; if (pigBlockLevel == 0) SwitchTo(PIG_END);
+         break;
+      case 47 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           prevState = IN_BLOCK;
+         break;
+      case 48 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           prevState = IN_BLOCK;
+         break;
+      case 49 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            prevState = IN_BLOCK;
+         break;
+      case 50 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+            prevState = IN_BLOCK;
+         break;
+      case 54 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+             SwitchTo(prevState);
+         break;
+      case 78 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                       image.replace(image.length()-2, image.length(), "\u005c"");
+         break;
+      case 79 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                      image.replace(image.length()-2, image.length(), "'");
+         break;
+      default :
+         break;
+   }
+}
+void TokenLexicalActions(Token matchedToken)
+{
+   switch(jjmatchedKind)
+   {
+      case 57 :
+        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
+        matchedToken.image = image.toString();
+         break;
+      case 76 :
+        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
+        image.deleteCharAt(image.length()-1);
+        image.deleteCharAt(0);
+        matchedToken.image = image.toString();
+         break;
+      case 77 :
+        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
+        image.deleteCharAt(image.length()-1);
+        image.deleteCharAt(0);
+        matchedToken.image = image.toString();
+         break;
+      case 85 :
+        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
+        matchedToken.image = image.toString();
+         break;
+      default :
+         break;
+   }
+}
+private void jjCheckNAdd(int state)
+{
+   if (jjrounds[state] != jjround)
+   {
+      jjstateSet[jjnewStateCnt++] = state;
+      jjrounds[state] = jjround;
+   }
+}
+private void jjAddStates(int start, int end)
+{
+   do {
+      jjstateSet[jjnewStateCnt++] = jjnextStates[start];
+   } while (start++ != end);
+}
+private void jjCheckNAddTwoStates(int state1, int state2)
+{
+   jjCheckNAdd(state1);
+   jjCheckNAdd(state2);
+}
+
+private void jjCheckNAddStates(int start, int end)
+{
+   do {
+      jjCheckNAdd(jjnextStates[start]);
+   } while (start++ != end);
+}
+
+}
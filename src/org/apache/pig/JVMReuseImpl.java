@@ -28,8 +28,10 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigGenericMa
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.data.SpillFileFormat;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.util.SpillableMemoryManager;
+import org.apache.pig.impl.util.TaskMemoryPool;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
 
 @InterfaceAudience.Private
@@ -43,6 +45,8 @@ public class JVMReuseImpl {
         // Calling Pig builtin ones directly without reflection for optimization
         // and to reduce probability of NPE in PIG-4418
         SpillableMemoryManager.staticDataCleanup();
+        SpillFileFormat.staticDataCleanup();
+        TaskMemoryPool.staticDataCleanup();
         PhysicalOperator.staticDataCleanup();
         PigContext.staticDataCleanup();
         PigGenericMapReduce.staticDataCleanup();
@@ -39,6 +39,13 @@ public class PigConfiguration {
      * Controls the max threshold size to convert jobs to run in local mode
      */
     public static final String PIG_AUTO_LOCAL_INPUT_MAXBYTES = "pig.auto.local.input.maxbytes";
+    /**
+     * Number of map tasks and of reduce tasks run concurrently by a job in
+     * local mode. When greater than 1, jobs that do not set a parallelism are
+     * also given that many reducers. Jobs of RANK and of merge cogroup always
+     * run one task at a time. Default is 1.
+     */
+    public static final String PIG_LOCAL_PARALLELISM = "pig.local.parallelism";
 
 
     /**
@@ -113,6 +120,32 @@ public class PigConfiguration {
      */
     public static final String PIG_EXEC_MAP_PARTAGG_MINREDUCTION = "pig.exec.mapPartAgg.minReduction";
 
+    /**
+     * Boolean value to drop the duplicates of DISTINCT in map, before they
+     * are sorted and combined, with a hash set of the serialized tuples that is
+     * emptied when it is full. Disabled by default
+     */
+    public static final String PIG_EXEC_MAP_DISTINCT = "pig.exec.mapDistinct";
+
+    /**
+     * Number of bytes in-mapper Partial Aggregation may use for its hash table. When set,
+     * the table holds int and long keys unboxed, combines the rows of a key as they arrive
+     * and emits its contents when this budget is used up, instead of sizing its buffers
+     * from {@link #PIG_CACHEDBAG_MEMUSAGE}. Not set by default
+     */
+    public static final String PIG_EXEC_MAP_PARTAGG_MEMORY = "pig.exec.mapPartAgg.memory";
+
+    /**
+     * Boolean value to enable or disable batch-at-a-time evaluation of filters and
+     * foreach statements that read directly from a loader. Disabled by default
+     */
+    public static final String PIG_EXEC_VECTORIZED = "pig.exec.vectorized";
+
+    /**
+     * Number of rows per batch when {@link #PIG_EXEC_VECTORIZED} is on. Default is 1024
+     */
+    public static final String PIG_EXEC_VECTORIZED_BATCH_SIZE = "pig.exec.vectorized.batch.size";
+
     /**
      * Boolean value to enable or disable use of combiners in MapReduce jobs. Enabled by default
      */
@@ -131,6 +164,13 @@ public class PigConfiguration {
      */
     public static final String PIG_EXEC_NO_SECONDARY_KEY = "pig.exec.nosecondarykey";
 
+    /**
+     * When true, multi-column ORDER BY keys are shuffled along with an order preserving
+     * byte string and sorted by comparing bytes instead of deserializing the tuples.
+     * Applies to MapReduce and Tez. Default is false
+     */
+    public static final String PIG_EXEC_NORMALIZED_SORT_KEYS = "pig.exec.normalizedsortkeys";
+
     // Pig memory usage control settings
     /**
      * Controls the fraction of total memory that is allowed to be used by
@@ -138,6 +178,14 @@ public class PigConfiguration {
      */
     public static final String PIG_CACHEDBAG_MEMUSAGE = "pig.cachedbag.memusage";
 
+    /**
+     * Fraction of the heap, or number of bytes if greater than 1, that the internal bags and
+     * partial aggregation tables of a task share as a byte budget. When set, they reserve the bytes they hold from this pool as
+     * they grow and spill as soon as a reservation can not be satisfied, instead of each
+     * taking {@link #PIG_CACHEDBAG_MEMUSAGE} divided by the number of bags. Not set by default
+     */
+    public static final String PIG_TASK_MEMORY_POOL = "pig.task.memory.pool";
+
     /**
      * % of memory available for the input data. This is currently equal to the
      * memory available for the skewed join
@@ -213,17 +261,123 @@ public class PigConfiguration {
      */
     public static final String PIG_JOIN_REPLICATED_MAX_BYTES = "pig.join.replicated.max.bytes";
 
+    /**
+     * Boolean value to keep the replicated inputs of a fragment-replicated join serialized
+     * in a compact hash table and deserialize only the rows that match. Uses much less
+     * memory than the default HashMap of tuples at the cost of deserializing on every
+     * match. Default is false
+     */
+    public static final String PIG_JOIN_REPLICATED_COMPACT = "pig.join.replicated.compact";
+
+    /**
+     * Number of bytes of fragment-replicated join hash tables to keep in a JVM wide cache,
+     * so that MapReduce and Spark tasks sharing a JVM build the replicated side only once.
+     * Tables no task is using are evicted when memory runs low. Default is 0, no caching.
+     * Tez caches the tables in its ObjectRegistry instead
+     */
+    public static final String PIG_JOIN_REPLICATED_CACHE_BYTES = "pig.join.replicated.cache.bytes";
+
+    /**
+     * Boolean value to let the optimizer choose the strategy of joins that have no USING
+     * clause from the sizes and statistics of their inputs: replicated when all inputs but
+     * one are small, skewed when loader statistics show a hot key, and otherwise a hash join
+     * that streams its largest input. Default is false
+     */
+    public static final String PIG_JOIN_COST_BASED = "pig.join.cost.based";
+
+    /**
+     * Most bytes of inputs to replicate when {@link #PIG_JOIN_COST_BASED} turns a join into a
+     * fragment-replicated join. Never more than {@link #PIG_JOIN_REPLICATED_MAX_BYTES}.
+     * Default is 104857600 (100MB)
+     */
+    public static final String PIG_JOIN_COST_BASED_REPLICATED_BYTES = "pig.join.cost.based.replicated.bytes";
+
+    /**
+     * Fraction of the records of a join input that a single key has to reach, according to
+     * the field statistics of the loader, for {@link #PIG_JOIN_COST_BASED} to pick a skewed
+     * join. Default is 0.1
+     */
+    public static final String PIG_JOIN_COST_BASED_SKEW_FRACTION = "pig.join.cost.based.skew.fraction";
+
+    /**
+     * Boolean value to prune the partitions, or with a loader that supports predicate pushdown
+     * the row groups, that the fragment of a replicated join reads to the join keys of its
+     * replicated input once that input is materialized. Only applies to inner joins whose
+     * fragment key is a column of the loader, in mapreduce mode. Default is false
+     */
+    public static final String PIG_DYNAMIC_PARTITION_PRUNING = "pig.dynamic.partition.pruning";
+
+    /**
+     * Most distinct join keys {@link #PIG_DYNAMIC_PARTITION_PRUNING} passes to the loader of the
+     * fragment. Beyond it the fragment is read in full. Default is 1000
+     */
+    public static final String PIG_DYNAMIC_PARTITION_PRUNING_MAX_KEYS = "pig.dynamic.partition.pruning.max.keys";
+
     // Pig cached bag type settings
     /**
      * Configurations for specifying alternate implementations for cached bags. Rarely used
      */
     public static final String PIG_CACHEDBAG_TYPE = "pig.cachedbag.type";
+    /**
+     * Bag used by DISTINCT in nested foreach and by the Distinct function of
+     * the combiner. "default" for the old DistinctDataBag, "hash" for a bag of
+     * serialized tuples spilled by hash partitions, which does not return its
+     * tuples sorted. Sorted spills by default
+     */
     public static final String PIG_CACHEDBAG_DISTINCT_TYPE = "pig.cachedbag.distinct.type";
     public static final String PIG_CACHEDBAG_SORT_TYPE = "pig.cachedbag.sort.type";
 
+    /**
+     * When true, sorted bags that spill sort their chunks with a fork-join pool, write spill
+     * files in the background while new tuples are buffered, and run the merges of each
+     * pre-merge pass in parallel. Only applies to bags sorted on natural order or on sort
+     * columns. Default is false
+     */
+    public static final String PIG_SORTEDBAG_PARALLEL = "pig.sortedbag.parallel";
+
+    /**
+     * Most spill files a sorted bag merges at once. More files are first merged in
+     * passes of this many files. Default is 100
+     */
+    public static final String PIG_SORTEDBAG_MERGE_FANIN = "pig.sortedbag.merge.fanin";
+
     // Pig reducer parallelism estimation settings
     public static final String PIG_EXEC_REDUCER_ESTIMATOR = "pig.exec.reducer.estimator";
     public static final String PIG_EXEC_REDUCER_ESTIMATOR_CONSTRUCTOR_ARG_KEY =  "pig.exec.reducer.estimator.arg";
+    /**
+     * Path of a local file where the sizes of inputs and outputs and the selectivity of the
+     * jobs of each run are recorded, for the reducer estimators and cost based join selection
+     * of the next runs to use. Not set by default
+     */
+    public static final String PIG_STATS_CATALOG = "pig.stats.catalog";
+
+    /**
+     * Directory, on the default file system, where the results of the joins, distincts, crosses
+     * and aggregations of a script are cached for the next runs to load instead of recomputing
+     * them as long as their inputs do not change. Not set by default, which disables the cache
+     */
+    public static final String PIG_SUBPLAN_CACHE_DIR = "pig.subplan.cache.dir";
+
+    /**
+     * Seconds a result stays in {@link #PIG_SUBPLAN_CACHE_DIR} after it was computed. Default is
+     * 86400
+     */
+    public static final String PIG_SUBPLAN_CACHE_TTL = "pig.subplan.cache.ttl";
+
+    /**
+     * Most bytes of results {@link #PIG_SUBPLAN_CACHE_DIR} holds. Beyond it the least recently
+     * used results are removed. Default is 10737418240
+     */
+    public static final String PIG_SUBPLAN_CACHE_MAX_BYTES = "pig.subplan.cache.max.bytes";
+
+    /**
+     * Turns on saving the index merge joins build of their right input in the
+     * _pig_mergejoin_index directory of the input, so that the next merge joins on the same
+     * keys skip the indexing job as long as the files of the input do not change. Default is
+     * false
+     */
+    public static final String PIG_MERGEJOIN_INDEX_PERSIST = "pig.mergejoin.index.persist";
+
     /**
      * This key is used to configure auto parallelism in tez. Default is true.
      */
@@ -232,6 +386,14 @@ public class PigConfiguration {
      * This key is used to configure grace parallelism in tez. Default is true.
      */
     public static final String PIG_TEZ_GRACE_PARALLELISM = "pig.tez.grace.parallelism";
+    /**
+     * This key is used to turn on splitting of skewed partitions of hash joins in tez.
+     * The join vertex waits for the record counts of all its partitions, and spreads
+     * each partition that holds several times the average across extra tasks, sending
+     * the matching records of the other inputs to all of them. Join vertices using it
+     * keep their estimated parallelism instead of being auto reduced. Default is false.
+     */
+    public static final String PIG_TEZ_SKEW_SPLIT = "pig.tez.skew.split";
     /**
      * This key is used to turn off dag recovery if there is auto parallelism.
      * Default is false. Useful when running with Tez versions before Tez 0.8
@@ -289,12 +451,54 @@ public class PigConfiguration {
      */
     public static final String PIG_STREAMING_ENVIRONMENT = "pig.streaming.environment";
 
+    /**
+     * Size in bytes of the buffers of the stdin and stdout of the processes of
+     * STREAM statements. Default is 65536.
+     */
+    public static final String PIG_STREAMING_BUFFER_SIZE = "pig.streaming.buffer.size";
+
+    /**
+     * Number of tuples that can be queued between a STREAM statement and the
+     * threads writing to and reading from its process before the pipeline
+     * blocks. Default is 1.
+     */
+    public static final String PIG_STREAMING_QUEUE_SIZE = "pig.streaming.queue.size";
+
+    /**
+     * Number of processes started per task for a STREAM statement that uses
+     * stdin and stdout, the input tuples being sent to them in turn. The order
+     * of the output tuples is then not kept. Default is 1.
+     */
+    public static final String PIG_STREAMING_PROCESSES = "pig.streaming.processes";
+
     /**
      * This key can be used to configure the python command for python streaming
      * udf. For eg, python2.7.
      */
     public static final String PIG_STREAMING_UDF_PYTHON_COMMAND = "pig.streaming.udf.python.command";
 
+    /**
+     * Number of tuples sent to a streaming udf in a single binary frame. 0, the
+     * default, keeps the delimited text protocol with one tuple per round trip.
+     * Foreach statements that are executed vectorized send a whole batch of
+     * rows at a time, other operators still send one tuple per frame.
+     */
+    public static final String PIG_STREAMING_UDF_BATCH_SIZE = "pig.streaming.udf.batch.size";
+
+    /**
+     * Number of frames sent to a streaming udf process before the results of
+     * the first one have been read back, so that tuples keep being serialized
+     * while the process computes. Only used with a batch size. Default is 2.
+     */
+    public static final String PIG_STREAMING_UDF_MAX_INFLIGHT = "pig.streaming.udf.max.inflight";
+
+    /**
+     * Number of processes started per streaming udf in a task, the frames of a
+     * batch being sent to them in turn. Useful for cpu bound functions. Only
+     * used with a batch size. Default is 1.
+     */
+    public static final String PIG_STREAMING_UDF_WORKERS = "pig.streaming.udf.workers";
+
     // Pig input format settings
     /**
      * Turns combine split files on or off
@@ -457,6 +661,13 @@ public class PigConfiguration {
      */
     public static final String PIG_BZIP_USE_HADOOP_INPUTFORMAT = "pig.bzip.use.hadoop.inputformat";
 
+    /**
+     * When true, PigStorage loads without a .pig_schema file read their fields straight
+     * into the types declared in the AS clause, skipping the columns that are not used,
+     * instead of loading bytearrays and casting them. Default is false
+     */
+    public static final String PIG_STORAGE_TYPED_LOAD = "pig.storage.typed.load";
+
     /**
      * This key is used to set the download location when registering an artifact using ivy coordinate
      */
@@ -498,6 +709,32 @@ public class PigConfiguration {
      */
     public static final String PIG_SPILL_UNUSED_MEMORY_THRESHOLD_SIZE = "pig.spill.unused.memory.threshold.size";
 
+    /**
+     * Codec the files spilled by bags are compressed with, as the name of a Hadoop
+     * compression codec, for instance default, gzip, snappy or lz4, or its class name.
+     * Default is none
+     */
+    public static final String PIG_SPILL_CODEC = "pig.spill.codec";
+
+    /**
+     * Comma separated list of local directories bags spill to in turn.
+     * Default is java.io.tmpdir
+     */
+    public static final String PIG_SPILL_DIRS = "pig.spill.dirs";
+
+    /**
+     * When true, the blocks of spill files are written in the background while the
+     * next one is filled, and read ahead while the previous one is consumed.
+     * Default is false
+     */
+    public static final String PIG_SPILL_ASYNC = "pig.spill.async";
+
+    /**
+     * Size in bytes of the checksummed blocks of spill files, which is also the size
+     * of the buffers used to write and read them. Default is 65536
+     */
+    public static final String PIG_SPILL_BLOCK_SIZE = "pig.spill.block.size";
+
     /**
      * Log tracing id that can be used by upstream clients for tracking respective logs
      */
@@ -508,6 +745,14 @@ public class PigConfiguration {
      */
     public static final String PIG_SPARK_USE_NETTY_FILESERVER = "pig.spark.rpc.useNettyFileServer";
 
+    /**
+     * Use Kryo as spark.serializer for Pig on Spark, with serializers that write
+     * tuples, bags and keys in Pig's binary format, true or false, default value
+     * is false. Ignored if spark.serializer is set. Needs the Kryo version of the
+     * Spark in use on the classpath.
+     */
+    public static final String PIG_SPARK_KRYO_ENABLED = "pig.spark.kryo.enabled";
+
     /**
      * Enable ATS for Pig
      */
@@ -28,5 +28,12 @@ public enum PigCounters {
     PROACTIVE_SPILL_COUNT_BAGS, 
     
     //total number of records that have been spilled to disk
-    PROACTIVE_SPILL_COUNT_RECS;
+    PROACTIVE_SPILL_COUNT_RECS,
+
+    // number of times a bag or aggregation table could not grow its
+    // reservation from the task memory pool and had to spill or emit
+    MEMORY_POOL_DENIED_RESERVATIONS,
+
+    // most bytes reserved from the task memory pool at once
+    MEMORY_POOL_PEAK_BYTES;
 }
\ No newline at end of file
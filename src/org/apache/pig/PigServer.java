@@ -82,6 +82,7 @@ import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
 import org.apache.pig.newplan.logical.expression.LogicalExpressionVisitor;
 import org.apache.pig.newplan.logical.expression.ScalarExpression;
 import org.apache.pig.newplan.logical.optimizer.AllExpressionVisitor;
+import org.apache.pig.newplan.logical.optimizer.SubPlanCache;
 import org.apache.pig.newplan.logical.relational.LOForEach;
 import org.apache.pig.newplan.logical.relational.LOLoad;
 import org.apache.pig.newplan.logical.relational.LOStore;
@@ -100,6 +101,7 @@ import org.apache.pig.tools.pigstats.OutputStats;
 import org.apache.pig.tools.pigstats.PigStats;
 import org.apache.pig.tools.pigstats.PigStats.JobGraph;
 import org.apache.pig.tools.pigstats.ScriptState;
+import org.apache.pig.tools.pigstats.StatisticsCatalog;
 import org.apache.pig.validator.BlackAndWhitelistFilter;
 import org.apache.pig.validator.PigCommandFilter;
 
@@ -1489,6 +1491,24 @@ public class PigServer {
             throw new ExecException(msg, errCode, PigException.BUG, e);
         }
 
+        StatisticsCatalog catalog = StatisticsCatalog.get(pigContext.getProperties());
+        if (catalog != null && stats != null) {
+            try {
+                catalog.record(stats);
+            } catch (IOException e) {
+                log.warn("Unable to update the statistics catalog", e);
+            }
+        }
+
+        SubPlanCache cache = SubPlanCache.get(pigContext);
+        if (cache != null && stats != null) {
+            try {
+                cache.commit(lp, stats);
+            } catch (IOException e) {
+                log.warn("Unable to update the sub-plan cache", e);
+            }
+        }
+
         return stats;
     }
 
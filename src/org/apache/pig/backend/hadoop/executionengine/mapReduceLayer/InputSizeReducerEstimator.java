@@ -18,6 +18,7 @@
 package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -34,6 +35,8 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
 import org.apache.pig.impl.util.UriUtil;
+import org.apache.pig.tools.pigstats.StatisticsCatalog;
+import org.apache.pig.tools.pigstats.mapreduce.MRScriptState;
 
 /**
  * Class that estimates the number of reducers based on input size.
@@ -85,6 +88,18 @@ public class InputSizeReducerEstimator implements PigReducerEstimator {
         // if totalInputFileSize == -1, we couldn't get the input size so we can't estimate.
         if (totalInputFileSize == -1) { return -1; }
 
+        StatisticsCatalog catalog = StatisticsCatalog.get(conf);
+        MRScriptState ss = MRScriptState.get();
+        if (catalog != null && ss != null) {
+            double selectivity = catalog.getSelectivity(StatisticsCatalog.getSignature(
+                    ss.getAlias(mapReduceOper), getLocations(poLoads)));
+            if (selectivity >= 0) {
+                // size of the map output in the last run
+                totalInputFileSize = (long) Math.ceil(totalInputFileSize * selectivity);
+                log.info("Map output size estimated from the statistics catalog=" + totalInputFileSize);
+            }
+        }
+
         int reducers = (int)Math.ceil((double)totalInputFileSize / bytesPerReducer);
         reducers = Math.max(1, reducers);
         reducers = Math.min(maxReducers, reducers);
@@ -99,7 +114,9 @@ public class InputSizeReducerEstimator implements PigReducerEstimator {
 
     /**
      * Get the input size for as many inputs as possible. Inputs that do not report
-     * their size nor can pig look that up itself are excluded from this size.
+     * their size nor can pig look that up itself count with the size last recorded
+     * for them in the statistics catalog, or are excluded from this size if there
+     * is none.
      *
      * @param conf Configuration
      * @param lds List of POLoads
@@ -114,6 +131,7 @@ public class InputSizeReducerEstimator implements PigReducerEstimator {
     static long getTotalInputFileSize(Configuration conf,
             List<POLoad> lds, Job job, long max) throws IOException {
         long totalInputFileSize = 0;
+        StatisticsCatalog catalog = StatisticsCatalog.get(conf);
         for (POLoad ld : lds) {
             long size = getInputSizeFromLoader(ld, job);
             if (size > -1) {
@@ -136,11 +154,15 @@ public class InputSizeReducerEstimator implements PigReducerEstimator {
                                 }
                             }
                         } else {
-                            // If file is not found, we should report -1
+                            // If file is not found, use the size recorded in the
+                            // statistics catalog, if any
+                            totalInputFileSize += getInputSizeFromCatalog(location, catalog);
                             continue;
                         }
                     } else {
-                        // If we cannot estimate size of a location, we should report -1
+                        // If we cannot estimate size of a location, use the size
+                        // recorded in the statistics catalog, if any
+                        totalInputFileSize += getInputSizeFromCatalog(location, catalog);
                         continue;
                     }
                 }
@@ -149,6 +171,22 @@ public class InputSizeReducerEstimator implements PigReducerEstimator {
         return totalInputFileSize;
     }
 
+    // Size last recorded in the statistics catalog, or 0 if unknown
+    private static long getInputSizeFromCatalog(String location, StatisticsCatalog catalog) {
+        long size = catalog == null ? -1 : catalog.getBytes(location);
+        return Math.max(size, 0);
+    }
+
+    private static List<String> getLocations(List<POLoad> lds) {
+        List<String> locations = new ArrayList<String>();
+        for (POLoad ld : lds) {
+            if (ld.getLFile() != null) {
+                locations.add(ld.getLFile().getFileName());
+            }
+        }
+        return locations;
+    }
+
     /**
      * Get the total input size in bytes by looking at statistics provided by
      * loaders that implement @{link LoadMetadata}.
@@ -113,6 +113,7 @@ import org.apache.pig.impl.io.NullableDoubleWritable;
 import org.apache.pig.impl.io.NullableFloatWritable;
 import org.apache.pig.impl.io.NullableIntWritable;
 import org.apache.pig.impl.io.NullableLongWritable;
+import org.apache.pig.impl.io.NullableNormalizedTuple;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableText;
 import org.apache.pig.impl.io.NullableTuple;
@@ -548,6 +549,14 @@ public class JobControlCompiler{
             //Process the POLoads
             List<POLoad> lds = PlanHelper.getPhysicalOperators(mro.mapPlan, POLoad.class);
 
+            // The replicated inputs of the replicated joins of the job are
+            // materialized by now, so the fragment can be pruned to their keys
+            for (POFRJoin join : PlanHelper.getPhysicalOperators(mro.mapPlan, POFRJoin.class)) {
+                if (join.getPartitionFilter() != null) {
+                    join.getPartitionFilter().apply(join, lds, conf);
+                }
+            }
+
             if(lds!=null && lds.size()>0){
                 for (POLoad ld : lds) {
                     LoadFunc lf = ld.getLoadFunc();
@@ -717,6 +726,11 @@ public class JobControlCompiler{
             if(Utils.isLocal(pigContext, conf)) {
                 ConfigurationUtil.replaceConfigForLocalMode(conf);
             }
+            int localParallelism = getLocalParallelism(mro);
+            if (localParallelism > 1) {
+                conf.setInt(MRConfiguration.LOCAL_MAP_TASKS_MAXIMUM, localParallelism);
+                conf.setInt(MRConfiguration.LOCAL_REDUCE_TASKS_MAXIMUM, localParallelism);
+            }
             conf.set(PigInputFormat.PIG_LOADS, ObjectSerializer.serialize(inp));
             conf.set(PigInputFormat.PIG_INPUT_TARGETS, ObjectSerializer.serialize(inpTargets));
             conf.set(PigInputFormat.PIG_INPUT_SIGNATURES, ObjectSerializer.serialize(inpSignatureLists));
@@ -960,6 +974,12 @@ public class JobControlCompiler{
                 } else {
                     conf.set("pig.sortOrder",
                             ObjectSerializer.serialize(mro.getSortOrder()));
+                    if (useNormalizedSortKeys(mro, pack, conf)) {
+                        // PigMapReduce.Map writes keys of this class
+                        nwJob.setMapOutputKeyClass(NullableNormalizedTuple.class);
+                        nwJob.setSortComparatorClass(PigNormalizedTupleSortComparator.class);
+                        log.info("Sorting on normalized keys");
+                    }
                 }
             }
 
@@ -1101,6 +1121,26 @@ public class JobControlCompiler{
         conf.setInt(MRConfiguration.REDUCE_TASKS, jobParallelism);
     }
 
+    /**
+     * Returns the number of tasks of the job run concurrently in local mode,
+     * see {@link PigConfiguration#PIG_LOCAL_PARALLELISM}. RANK and merge cogroup
+     * keep state of the running task in static fields, so their jobs run one
+     * task at a time.
+     */
+    private int getLocalParallelism(MapReduceOper mro) throws IOException {
+        if (!pigContext.getExecType().isLocal() || mro.isRankOperation() || mro.isCounterOperation()) {
+            return 1;
+        }
+        int parallelism = Integer.parseInt(pigContext.getProperties().getProperty(
+                PigConfiguration.PIG_LOCAL_PARALLELISM, "1"));
+        if (parallelism > 1
+                && (PlanHelper.containsPhysicalOperator(mro.mapPlan, POMergeCogroup.class)
+                || PlanHelper.containsPhysicalOperator(mro.reducePlan, POMergeCogroup.class))) {
+            return 1;
+        }
+        return parallelism;
+    }
+
     /**
      * Calculate the runtime #reducers based on the default_parallel, requested parallel and estimated
      * parallel, and save it to MapReduceOper's runtimeParallelism.
@@ -1130,6 +1170,8 @@ public class JobControlCompiler{
                         "parallelism set. Defaulting to 1 reducer.");
                 jobParallelism = 1;
             }
+            // reducers of a local job run concurrently, use as many as there are threads
+            jobParallelism = Math.max(jobParallelism, getLocalParallelism(mro));
         }
 
         // save it
@@ -1378,6 +1420,19 @@ public class JobControlCompiler{
         }
     }
 
+    /**
+     * Tuple sort keys are normalized for plain map reduce ORDER BY jobs. Jobs
+     * with a combiner, secondary key, skewed join or counter keep their keys.
+     */
+    private boolean useNormalizedSortKeys(MapReduceOper mro, POPackage pack, Configuration conf) {
+        return conf.getBoolean(PigConfiguration.PIG_EXEC_NORMALIZED_SORT_KEYS, false)
+                && !pigContext.inIllustrator
+                && pack != null && pack.getPkgr().getKeyType() == DataType.TUPLE
+                && mro.combinePlan.isEmpty() && !mro.needsDistinctCombiner()
+                && !mro.getUseSecondaryKey() && !mro.isSkewedJoin()
+                && !mro.isCounterOperation();
+    }
+
     private void selectComparator(
             MapReduceOper mro,
             byte keyType,
@@ -87,6 +87,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
 import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
+import org.apache.pig.backend.hadoop.executionengine.util.PersistedMergeJoinIndex;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.builtin.DefaultIndexableLoader;
@@ -1101,6 +1102,7 @@ public class MRCompiler extends PhyPlanVisitor {
     @Override
     public void visitGlobalRearrange(POGlobalRearrange op) throws VisitorException{
         try{
+            addBloomToJoin(op);
             blocking(op);
             curMROp.customPartitioner = op.getCustomPartitioner();
             phyToMROpMap.put(op, curMROp);
@@ -1111,6 +1113,104 @@ public class MRCompiler extends PhyPlanVisitor {
         }
     }
 
+    /**
+     * Bloom join. The bloom filter is built from the join keys of one input
+     * in a group all job that runs before the join, and the records of the
+     * other inputs whose key is not in it are dropped before their local
+     * rearrange. If the inputs can not be told apart in the map plans, it
+     * falls back to a regular join.
+     * @param op global rearrange of the join
+     */
+    private void addBloomToJoin(POGlobalRearrange op) throws IOException, PlanException, VisitorException {
+        List<PhysicalOperator> succs = plan.getSuccessors(op);
+        if (succs == null || !(succs.get(0) instanceof POPackage)
+                || ((POPackage) succs.get(0)).getPkgr().getPackageType() != PackageType.BLOOMJOIN) {
+            return;
+        }
+        boolean[] inner = ((POPackage) succs.get(0)).getPkgr().getInner();
+        POLocalRearrange[] lrs = new POLocalRearrange[inner.length];
+        MapReduceOper[] mros = new MapReduceOper[inner.length];
+        for (MapReduceOper mro : compiledInputs) {
+            if (mro.isMapDone()) {
+                continue;
+            }
+            for (PhysicalOperator leaf : mro.mapPlan.getLeaves()) {
+                if (leaf instanceof POLocalRearrange && op.getInputs().contains(leaf)) {
+                    int index = ((POLocalRearrange) leaf).getIndex();
+                    lrs[index] = (POLocalRearrange) leaf;
+                    mros[index] = mro;
+                }
+            }
+        }
+        int build = CompilerUtils.getBloomJoinBuildInput(inner);
+        MapReduceOper buildMROp = mros[build];
+        boolean supported = buildMROp != null && buildMROp.mapPlan.getLeaves().size() == 1
+                && buildMROp.scalars.isEmpty();
+        for (int i = 0; i < mros.length; i++) {
+            if (i != build && (mros[i] == null || mros[i] == buildMROp)) {
+                supported = false;
+            }
+        }
+        if (!supported) {
+            LOG.info("Bloom filter can not be added to the join, falling back to regular join");
+            return;
+        }
+
+        // Job building the bloom filter from a copy of the map plan of the input
+        PhysicalPlan buildPlan;
+        try {
+            buildPlan = buildMROp.mapPlan.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new PlanException("Error cloning the map plan of the bloom join input", e);
+        }
+        buildPlan.remove(buildPlan.getLeaves().get(0));
+        buildPlan.addAsLeaf(CompilerUtils.getBloomJoinKeys(lrs[build]));
+        buildPlan.addAsLeaf(CompilerUtils.getGroupAllRearrange(scope));
+        MapReduceOper bloomMROp = getMROp();
+        bloomMROp.mapPlan = buildPlan;
+        bloomMROp.setMapDone(true);
+        bloomMROp.reducePlan.add(CompilerUtils.getGroupAllPackage(scope));
+        POForEach fe = CompilerUtils.getBuildJoinBloom(pigContext.getProperties(), scope);
+        bloomMROp.reducePlan.addAsLeaf(fe);
+        FileSpec bloomFile = getTempFileSpec();
+        POStore st = getStore();
+        st.setSFile(bloomFile);
+        bloomMROp.reducePlan.addAsLeaf(st);
+        bloomMROp.setReduceDone(true);
+        bloomMROp.requestedParallelism = 1;
+        bloomMROp.UDFs.addAll(buildMROp.UDFs);
+        MapReduceOper prevMROp = curMROp;
+        curMROp = bloomMROp;
+        processUDFs(fe.getInputPlans().get(0));
+        MRPlan.add(bloomMROp);
+        List<MapReduceOper> preds = MRPlan.getPredecessors(buildMROp);
+        if (preds != null) {
+            for (MapReduceOper pred : preds) {
+                MRPlan.connect(pred, bloomMROp);
+            }
+        }
+
+        // Filter the other inputs with it
+        for (int i = 0; i < mros.length; i++) {
+            if (i == build) {
+                continue;
+            }
+            MapReduceOper mro = mros[i];
+            POFilter filter = CompilerUtils.getBloomJoinFilter(lrs[i], bloomFile.getFileName());
+            PhysicalOperator pred = mro.mapPlan.getPredecessors(lrs[i]).get(0);
+            mro.mapPlan.add(filter);
+            mro.mapPlan.disconnect(pred, lrs[i]);
+            mro.mapPlan.connect(pred, filter);
+            mro.mapPlan.connect(filter, lrs[i]);
+            curMROp = mro;
+            processUDFs(filter.getPlan());
+            if (!MRPlan.pathExists(bloomMROp, mro)) {
+                MRPlan.connect(bloomMROp, mro);
+            }
+        }
+        curMROp = prevMROp;
+    }
+
     @Override
     public void visitPackage(POPackage op) throws VisitorException{
         try{
@@ -1118,7 +1218,7 @@ public class MRCompiler extends PhyPlanVisitor {
             phyToMROpMap.put(op, curMROp);
             if (op.getPkgr().getPackageType() == PackageType.JOIN
                     || op.getPkgr().getPackageType() == PackageType.BLOOMJOIN) {
-                // Bloom join is not implemented in mapreduce mode and falls back to regular join
+                // The bloom filter of a bloom join is added in visitGlobalRearrange
                 curMROp.markRegularJoin();
             } else if (op.getPkgr().getPackageType() == PackageType.GROUP) {
                 if (op.getNumInps() == 1) {
@@ -1659,31 +1759,59 @@ public class MRCompiler extends PhyPlanVisitor {
                     throw new MRCompilerException(errMsg,errCode);
                 }
 
-                String[] indexerArgs = new String[6];
                 List<PhysicalPlan> rightInpPlans = joinOp.getInnerPlansOf(1);
                 FileSpec origRightLoaderFileSpec = rightLoader.getLFile();
 
-                indexerArgs[0] = origRightLoaderFileSpec.getFuncSpec().toString();
-                indexerArgs[1] = ObjectSerializer.serialize((Serializable)rightInpPlans);
-                indexerArgs[2] = ObjectSerializer.serialize(rightPipelinePlan);
-                indexerArgs[3] = rightLoader.getSignature();
-                indexerArgs[4] = rightLoader.getOperatorKey().scope;
-                indexerArgs[5] = Boolean.toString(true);
-
-                FileSpec lFile = new FileSpec(rightLoader.getLFile().getFileName(),new FuncSpec(MergeJoinIndexer.class.getName(), indexerArgs));
-                rightLoader.setLFile(lFile);
-
-                // Loader of mro will return a tuple of form -
-                // (keyFirst1, keyFirst2, .. , position, splitIndex) See MergeJoinIndexer
-
-                MRUtil.simpleConnectMapToReduce(rightMROpr, scope, nig);
-                rightMROpr.useTypedComparator(true);
+                // An index saved by an earlier run can only be trusted if nothing
+                // in this script writes the right input before the join
+                PersistedMergeJoinIndex persistedIndex = null;
+                if (MRPlan.getPredecessors(rightMROpr) == null) {
+                    persistedIndex = PersistedMergeJoinIndex.get(pigContext, rightLoader,
+                            rightInpPlans, rightPipelinePlan);
+                }
 
-                POStore st = getStore();
-                FileSpec strFile = getTempFileSpec();
-                st.setSFile(strFile);
-                rightMROpr.reducePlan.addAsLeaf(st);
-                rightMROpr.setReduceDone(true);
+                FileSpec strFile;
+                if (persistedIndex != null && persistedIndex.isComplete()) {
+                    // The index of the current right input is already there,
+                    // there is no need of the indexing job.
+                    strFile = persistedIndex.getFileSpec();
+                    LOG.info("Using merge join index " + strFile.getFileName());
+                    MRPlan.remove(rightMROpr);
+                    if(rightMROpr == compiledInputs[0]) {
+                        compiledInputs[0] = null;
+                    } else if(rightMROpr == compiledInputs[1]) {
+                        compiledInputs[1] = null;
+                    }
+                    rightMROpr = null;
+                } else {
+                    String[] indexerArgs = new String[6];
+                    indexerArgs[0] = origRightLoaderFileSpec.getFuncSpec().toString();
+                    indexerArgs[1] = ObjectSerializer.serialize((Serializable)rightInpPlans);
+                    indexerArgs[2] = ObjectSerializer.serialize(rightPipelinePlan);
+                    indexerArgs[3] = rightLoader.getSignature();
+                    indexerArgs[4] = rightLoader.getOperatorKey().scope;
+                    indexerArgs[5] = Boolean.toString(true);
+
+                    FileSpec lFile = new FileSpec(rightLoader.getLFile().getFileName(),new FuncSpec(MergeJoinIndexer.class.getName(), indexerArgs));
+                    rightLoader.setLFile(lFile);
+
+                    // Loader of mro will return a tuple of form -
+                    // (keyFirst1, keyFirst2, .. , position, splitIndex) See MergeJoinIndexer
+
+                    MRUtil.simpleConnectMapToReduce(rightMROpr, scope, nig);
+                    rightMROpr.useTypedComparator(true);
+
+                    POStore st = getStore();
+                    if (persistedIndex != null) {
+                        // published by MapReduceLauncher once the job succeeded
+                        strFile = persistedIndex.getPendingFileSpec();
+                    } else {
+                        strFile = getTempFileSpec();
+                    }
+                    st.setSFile(strFile);
+                    rightMROpr.reducePlan.addAsLeaf(st);
+                    rightMROpr.setReduceDone(true);
+                }
 
                 // set up the DefaultIndexableLoader for the join operator
                 String[] defaultIndexableLoaderArgs = new String[5];
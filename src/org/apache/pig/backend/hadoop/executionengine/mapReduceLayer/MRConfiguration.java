@@ -42,6 +42,8 @@ public class MRConfiguration {
     public static final String JOB_TRACKER_HTTP_ADDRESS = "mapred.job.tracker.http.address";
     public static final String JOB_REDUCES = "mapreduce.job.reduces";
     public static final String LINERECORDREADER_MAXLENGTH = "mapred.linerecordreader.maxlength";
+    public static final String LOCAL_MAP_TASKS_MAXIMUM = "mapreduce.local.map.tasks.maximum";
+    public static final String LOCAL_REDUCE_TASKS_MAXIMUM = "mapreduce.local.reduce.tasks.maximum";
     public static final String MAP_MAX_ATTEMPTS = "mapred.map.max.attempts";
     public static final String MAP_TASKS = "mapred.map.tasks";
     public static final String MAPPER_NEW_API = "mapred.mapper.new-api";
@@ -68,6 +68,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.Physica
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.JoinPackager;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
+import org.apache.pig.backend.hadoop.executionengine.util.PersistedMergeJoinIndex;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.PigImplConstants;
 import org.apache.pig.impl.io.FileLocalizer;
@@ -474,6 +475,9 @@ public class MapReduceLauncher extends Launcher {
                 List<POStore> sts = jcc.getStores(fj);
                 for (POStore st: sts) {
                     failureMap.put(st.getSFile(), backendException);
+                    if (PersistedMergeJoinIndex.isPending(st.getSFile().getFileName())) {
+                        PersistedMergeJoinIndex.discard(st.getSFile().getFileName(), conf);
+                    }
                 }
                 MRPigStatsUtil.setBackendException(fj, backendException);
             }
@@ -500,6 +504,9 @@ public class MapReduceLauncher extends Launcher {
                     } else {
                         log.debug("Successfully stored result in: \""
                                 + st.getSFile().getFileName() + "\"");
+                        if (PersistedMergeJoinIndex.isPending(st.getSFile().getFileName())) {
+                            PersistedMergeJoinIndex.publish(st.getSFile().getFileName(), conf);
+                        }
                     }
                 }
 
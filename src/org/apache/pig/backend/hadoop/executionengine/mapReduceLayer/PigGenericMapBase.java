@@ -38,6 +38,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLimit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
@@ -92,6 +93,9 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
 
     private volatile boolean initialized = false;
 
+    // Limits all the output of the map plan goes through
+    private List<POLimit> limits;
+
     /**
      * for local map/reduce simulation
      * @param plan the map plan
@@ -210,6 +214,7 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             }
             roots = targetOpsAsList.toArray(new PhysicalOperator[1]);
             leaf = mp.getLeaves().get(0);
+            limits = PlanHelper.getLimitsBoundingOutput(mp);
         }
 
         PigStatusReporter pigStatusReporter = PigStatusReporter.getInstance();
@@ -220,6 +225,23 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
         Utils.setDefaultTimeZone(PigMapReduce.sJobConfInternal.get());
     }
 
+    /**
+     * Runs the map function on the records of the split, until the split is
+     * done or all the limits the output of the map plan goes through are
+     * reached. The rest of the split is not read then.
+     */
+    @Override
+    public void run(Context context) throws IOException, InterruptedException {
+        setup(context);
+        try {
+            while ((inIllustrator || !PlanHelper.allLimitsReached(limits)) && context.nextKeyValue()) {
+                map(context.getCurrentKey(), context.getCurrentValue(), context);
+            }
+        } finally {
+            cleanup(context);
+        }
+    }
+
     /**
      * The map function that attaches the inpTuple appropriately
      * and executes the map plan if its not empty. Collects the
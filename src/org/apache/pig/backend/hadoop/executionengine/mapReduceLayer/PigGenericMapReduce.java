@@ -29,6 +29,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.mapred.jobcontrol.Job;
 import org.apache.hadoop.mapreduce.JobContext;
+import org.apache.hadoop.mapreduce.ReduceContext;
 import org.apache.hadoop.mapreduce.Reducer;
 import org.apache.pig.PigConstants;
 import org.apache.pig.PigException;
@@ -39,6 +40,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOpera
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.JoinPackager;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLimit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
@@ -48,6 +50,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.data.SchemaTupleBackend;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.NullableNormalizedTuple;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
@@ -109,13 +112,29 @@ public class PigGenericMapReduce {
 
     public static class Map extends PigMapBase {
 
+        // Sort order of ORDER BY keys that are written normalized
+        private boolean[] normalizedSortOrder;
+
+        @Override
+        public void setup(Context context) throws IOException, InterruptedException {
+            super.setup(context);
+            if (context.getMapOutputKeyClass() == NullableNormalizedTuple.class) {
+                normalizedSortOrder = (boolean[]) ObjectSerializer.deserialize(
+                        context.getConfiguration().get("pig.sortOrder"));
+            }
+        }
+
         @Override
         public void collect(Context oc, Tuple tuple)
                 throws InterruptedException, IOException {
 
             Byte index = (Byte)tuple.get(0);
-            PigNullableWritable key =
-                HDataType.getWritableComparableTypes(tuple.get(1), keyType);
+            PigNullableWritable key;
+            if (normalizedSortOrder != null) {
+                key = new NullableNormalizedTuple((Tuple)tuple.get(1), normalizedSortOrder);
+            } else {
+                key = HDataType.getWritableComparableTypes(tuple.get(1), keyType);
+            }
             NullableTuple val = new NullableTuple((Tuple)tuple.get(2));
 
             // Both the key and the value need the index.  The key needs it so
@@ -291,6 +310,9 @@ public class PigGenericMapReduce {
 
         private boolean inIllustrator = false;
 
+        // Limits all the output of the reduce plan goes through
+        private List<POLimit> limits;
+
         /**
          * Set the reduce plan: to be used by local runner for illustrator
          * @param plan Reduce plan
@@ -341,6 +363,7 @@ public class PigGenericMapReduce {
                 if(!(rp.isEmpty())) {
                     roots = rp.getRoots().toArray(new PhysicalOperator[1]);
                     leaf = rp.getLeaves().get(0);
+                    limits = PlanHelper.getLimitsBoundingOutput(rp);
                 }
 
                 // Get the UDF specific context
@@ -356,6 +379,29 @@ public class PigGenericMapReduce {
             Utils.setDefaultTimeZone(PigMapReduce.sJobConfInternal.get());
         }
 
+        /**
+         * Runs the reduce function on the keys of the partition, until the
+         * partition is done or all the limits the output of the reduce plan
+         * goes through are reached. The rest of the keys are not read then.
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public void run(Context context) throws IOException, InterruptedException {
+            setup(context);
+            try {
+                while ((inIllustrator || !PlanHelper.allLimitsReached(limits)) && context.nextKey()) {
+                    reduce(context.getCurrentKey(), context.getValues(), context);
+                    // If a back up store is used, reset it
+                    Iterator<NullableTuple> iter = context.getValues().iterator();
+                    if (iter instanceof ReduceContext.ValueIterator) {
+                        ((ReduceContext.ValueIterator<NullableTuple>) iter).resetBackupStore();
+                    }
+                }
+            } finally {
+                cleanup(context);
+            }
+        }
+
         /**
          * The reduce function which packages the key and List&lt;Tuple&gt;
          * into key, Bag&lt;Tuple&gt; after converting Hadoop type key into Pig type.
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
+
+import org.apache.pig.impl.io.NullableNormalizedTuple;
+
+/**
+ * Sort comparator for {@link NullableNormalizedTuple} keys. Keys that both
+ * have a normalized form are compared byte by byte on it, others are compared
+ * as tuples like {@link PigTupleSortComparator} does.
+ */
+public class PigNormalizedTupleSortComparator extends PigTupleSortComparator {
+
+    // null flag and length of the normalized form
+    private static final int HEADER = 5;
+
+    @Override
+    public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+        int n1 = readInt(b1, s1 + 1);
+        int n2 = readInt(b2, s2 + 1);
+        if (n1 >= 0 && n2 >= 0) {
+            return compareBytes(b1, s1 + HEADER, n1, b2, s2 + HEADER, n2);
+        }
+        if (b1[s1] != 0 || b2[s2] != 0) {
+            // null keys are always normalized, so only one is null and
+            // the null flags decide
+            return super.compare(b1, s1, l1, b2, s2, l2);
+        }
+        int t1 = s1 + HEADER + Math.max(n1, 0);
+        int t2 = s2 + HEADER + Math.max(n2, 0);
+        // skip the index
+        return compareTuples(b1, t1, s1 + l1 - 1 - t1, b2, t2, s2 + l2 - 1 - t2);
+    }
+}
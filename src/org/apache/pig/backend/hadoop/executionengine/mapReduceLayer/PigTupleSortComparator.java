@@ -118,6 +118,13 @@ public class PigTupleSortComparator extends WritableComparator implements Config
         return rc;
     }
 
+    /**
+     * Compare two serialized tuples that are not null.
+     */
+    protected int compareTuples(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+        return mComparator.compare(b1, s1, l1, b2, s2, l2);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public int compare(Object o1, Object o2) {
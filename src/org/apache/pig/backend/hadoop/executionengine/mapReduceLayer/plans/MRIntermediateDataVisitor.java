@@ -25,6 +25,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOpera
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.util.PersistedMergeJoinIndex;
 import org.apache.pig.impl.plan.DepthFirstWalker;
 import org.apache.pig.impl.plan.VisitorException;
 
@@ -58,7 +59,8 @@ public class MRIntermediateDataVisitor extends MROpPlanVisitor {
 
         @Override
         public void visitStore(POStore store) {
-            if (store.isTmpStore()) {
+            if (store.isTmpStore()
+                    && !PersistedMergeJoinIndex.isIndex(store.getSFile().getFileName())) {
                 intermediate.add(store.getSFile().getFileName());
             }
         }
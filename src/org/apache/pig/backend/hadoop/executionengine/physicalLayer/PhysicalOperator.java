@@ -27,6 +27,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorBatch;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
@@ -424,6 +425,49 @@ public abstract class PhysicalOperator extends Operator<PhyPlanVisitor> implemen
         return res;
     }
 
+    /**
+     * Fills the batch with the next tuples of this operator. The default
+     * implementation calls {@link #getNextTuple()} until the batch is full or
+     * the input is exhausted, in which case the batch is marked
+     * {@link VectorBatch#endOfInput} and the next call returns EOP without
+     * asking for more tuples, unless input has been attached again since.
+     * Operators that can produce or transform whole batches should override
+     * this along with {@link #supportsBatch()}.
+     *
+     * @return STATUS_OK with the batch as result, STATUS_EOP if no rows are
+     *         left or STATUS_ERR
+     * @throws ExecException
+     */
+    public Result getNextBatch(VectorBatch batch) throws ExecException {
+        if (batch.endOfInput && !isInputAttached()) {
+            return RESULT_EOP;
+        }
+        batch.reset();
+        while (!batch.isFull()) {
+            Result r = getNextTuple();
+            if (r.returnStatus == POStatus.STATUS_OK) {
+                batch.addRow((Tuple) r.result);
+            } else if (r.returnStatus == POStatus.STATUS_EOP) {
+                batch.endOfInput = true;
+                break;
+            } else if (r.returnStatus == POStatus.STATUS_ERR) {
+                return r;
+            }
+        }
+        if (batch.size == 0) {
+            return RESULT_EOP;
+        }
+        return new Result(POStatus.STATUS_OK, batch);
+    }
+
+    /**
+     * @return true if {@link #getNextBatch(VectorBatch)} is the preferred way
+     *         for a successor to pull from this operator
+     */
+    public boolean supportsBatch() {
+        return false;
+    }
+
     public Result getNextDataBag() throws ExecException {
         Result val = new Result();
         DataBag tmpBag = mBagFactory.newDefaultBag();
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer;
+
+import org.apache.pig.data.DataType;
+
+/**
+ * Unboxed counterpart of {@link Result} for int, long, float and double
+ * values. Each expression operator owns one instance and overwrites it on
+ * every call, so the value must be consumed before the operator is asked
+ * for its next result.
+ * <p>
+ * int values are held in longValue and float values in doubleValue, already
+ * rounded to the precision of their type.
+ */
+public class PrimitiveResult {
+
+    public byte returnStatus = POStatus.STATUS_ERR;
+
+    public boolean isNull;
+
+    public long longValue;
+
+    public double doubleValue;
+
+    /**
+     * @return true for the types that have a primitive representation
+     */
+    public static boolean isPrimitiveType(byte dataType) {
+        switch (dataType) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * @return true if values of the type are held in longValue, false if
+     * they are held in doubleValue
+     */
+    public static boolean isIntegralType(byte dataType) {
+        return dataType == DataType.INTEGER || dataType == DataType.LONG;
+    }
+
+    /**
+     * Unboxes a value of the given type. Like the casts done by the boxed
+     * operators, this throws ClassCastException if the value is of another
+     * type.
+     */
+    public void set(Object o, byte dataType) {
+        returnStatus = POStatus.STATUS_OK;
+        if (o == null) {
+            isNull = true;
+            return;
+        }
+        isNull = false;
+        switch (dataType) {
+        case DataType.INTEGER:
+            longValue = (Integer) o;
+            break;
+        case DataType.LONG:
+            longValue = (Long) o;
+            break;
+        case DataType.FLOAT:
+            doubleValue = (Float) o;
+            break;
+        default:
+            doubleValue = (Double) o;
+        }
+    }
+
+    /**
+     * @return the value boxed into the object type Pig uses for dataType, or
+     * null
+     */
+    public Object box(byte dataType) {
+        if (isNull) {
+            return null;
+        }
+        switch (dataType) {
+        case DataType.INTEGER:
+            return Integer.valueOf((int) longValue);
+        case DataType.LONG:
+            return Long.valueOf(longValue);
+        case DataType.FLOAT:
+            return Float.valueOf((float) doubleValue);
+        default:
+            return Double.valueOf(doubleValue);
+        }
+    }
+}
@@ -17,6 +17,10 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators;
 
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PrimitiveResult;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
 
@@ -35,6 +39,9 @@ public abstract class BinaryComparisonOperator extends BinaryExpressionOperator
     private static final long serialVersionUID = -1711987060802103390L;
 
     protected byte operandType;
+
+    // holder for the result of comparePrimitive()
+    private transient Result comparisonResult;
     
     public BinaryComparisonOperator(OperatorKey k) {
         this(k,-1);
@@ -52,6 +59,48 @@ public abstract class BinaryComparisonOperator extends BinaryExpressionOperator
         this.operandType = operandType;
     }
 
+    /**
+     * Compares int, long, float or double operands without boxing them. Only
+     * to be called when hasPrimitiveOperands(operandType) is true. Values are
+     * ordered the way compareTo orders their boxed form and a null operand
+     * gives a null result.
+     */
+    protected Result comparePrimitive() throws ExecException {
+        PrimitiveResult left = lhs.getNextPrimitive(operandType);
+        PrimitiveResult right = rhs.getNextPrimitive(operandType);
+        if (comparisonResult == null) {
+            comparisonResult = new Result();
+        }
+        Result res = comparisonResult;
+        res.result = null;
+        if (left.returnStatus != POStatus.STATUS_OK) {
+            res.returnStatus = left.returnStatus;
+            return res;
+        }
+        if (right.returnStatus != POStatus.STATUS_OK) {
+            res.returnStatus = right.returnStatus;
+            return res;
+        }
+        res.returnStatus = POStatus.STATUS_OK;
+        if (left.isNull || right.isNull) {
+            return res;
+        }
+        int c = PrimitiveResult.isIntegralType(operandType)
+                ? Long.compare(left.longValue, right.longValue)
+                : Double.compare(left.doubleValue, right.doubleValue);
+        res.result = isTrue(c) ? Boolean.TRUE : Boolean.FALSE;
+        return res;
+    }
+
+    /**
+     * Maps the result of comparing the two operands to the value of this
+     * operator. Operators that call {@link #comparePrimitive()} override it.
+     */
+    protected boolean isTrue(int compareResult) {
+        throw new UnsupportedOperationException(getClass().getSimpleName()
+                + " does not compare primitive operands");
+    }
+
     protected void cloneHelper(BinaryComparisonOperator op) {
         operandType = op.operandType;
         super.cloneHelper(op);
@@ -20,6 +20,7 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.util.IdentityHashSet;
@@ -37,6 +38,10 @@ public abstract class BinaryExpressionOperator extends ExpressionOperator {
     protected ExpressionOperator lhs;
     protected ExpressionOperator rhs;
     private transient List<ExpressionOperator> child;
+
+    // cached answer of hasPrimitiveOperands for primitiveCheckType
+    private transient byte primitiveCheckType = DataType.UNKNOWN;
+    private transient boolean primitiveOperands;
     
     public BinaryExpressionOperator(OperatorKey k) {
         this(k,-1);
@@ -69,6 +74,7 @@ public abstract class BinaryExpressionOperator extends ExpressionOperator {
 
     public void setLhs(ExpressionOperator lhs) {
         this.lhs = lhs;
+        primitiveCheckType = DataType.UNKNOWN;
     }
 
     public ExpressionOperator getRhs() {
@@ -77,6 +83,20 @@ public abstract class BinaryExpressionOperator extends ExpressionOperator {
 
     public void setRhs(ExpressionOperator rhs) {
         this.rhs = rhs;
+        primitiveCheckType = DataType.UNKNOWN;
+    }
+
+    /**
+     * @return true if both operands can be evaluated with getNextPrimitive
+     * for the given type, so that this operator need not box anything
+     */
+    protected boolean hasPrimitiveOperands(byte dataType) {
+        if (dataType != primitiveCheckType) {
+            primitiveOperands = canUsePrimitive(dataType)
+                    && lhs.supportsPrimitive(dataType) && rhs.supportsPrimitive(dataType);
+            primitiveCheckType = dataType;
+        }
+        return primitiveOperands;
     }
 
     protected void cloneHelper(BinaryExpressionOperator op) {
@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PrimitiveResult;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
@@ -103,6 +104,23 @@ public class ConstantExpression extends ExpressionOperator {
         return res;
     }
 
+    @Override
+    public boolean supportsPrimitive(byte dataType) {
+        return canUsePrimitive(dataType);
+    }
+
+    @Override
+    public PrimitiveResult getNextPrimitive(byte dataType) throws ExecException {
+        PrimitiveResult primitiveRes = getPrimitiveResult();
+        Result inp = processInput();
+        if (inp.returnStatus != POStatus.STATUS_OK) {
+            primitiveRes.returnStatus = inp.returnStatus;
+            return primitiveRes;
+        }
+        primitiveRes.set(value, dataType);
+        return primitiveRes;
+    }
+
     @Override
     public Result getNextDataBag() throws ExecException {
         return genericGetNext(DataType.BAG);
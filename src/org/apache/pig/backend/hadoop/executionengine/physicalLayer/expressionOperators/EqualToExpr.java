@@ -58,6 +58,11 @@ public class EqualToExpr extends BinaryComparisonOperator {
         v.visitEqualTo(this);
     }
 
+    @Override
+    protected boolean isTrue(int compareResult) {
+        return compareResult == 0;
+    }
+
     @Override
     public Result getNextBoolean() throws ExecException {
       try {
@@ -80,6 +85,9 @@ public class EqualToExpr extends BinaryComparisonOperator {
             if (r != null) {
                 return r;
             }
+            if (hasPrimitiveOperands(operandType)) {
+                return comparePrimitive();
+            }
             left = lhs.getNext(operandType);
             right = rhs.getNext(operandType);
             return doComparison(left, right);
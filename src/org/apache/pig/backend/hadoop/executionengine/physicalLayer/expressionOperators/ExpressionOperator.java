@@ -22,11 +22,15 @@ import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PigProgressable;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PrimitiveResult;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
 import org.apache.pig.pen.Illustrator;
@@ -41,6 +45,12 @@ public abstract class ExpressionOperator extends PhysicalOperator {
     private static final Log log = LogFactory.getLog(ExpressionOperator.class);
     private static final long serialVersionUID = 1L;
 
+    // Holders reused on every call instead of allocating a Result or boxing
+    // a number per tuple, see processInput() for what callers may keep.
+    private transient Result inputResult;
+    private transient Result boxedResult;
+    private transient PrimitiveResult primitiveResult;
+
     public ExpressionOperator(OperatorKey k) {
         this(k,-1);
     }
@@ -64,6 +74,81 @@ public abstract class ExpressionOperator extends PhysicalOperator {
         return new Result();
     }
 
+    /**
+     * Same as {@link PhysicalOperator#processInput()}, except that an attached
+     * input is handed back in a Result owned by this operator.
+     * <p>
+     * Expression operators reuse the Result they return, so a returned Result
+     * is only valid until the next call to the operator. A caller that
+     * evaluates the same operator again before it is done with a value, as
+     * comparators evaluating a plan on two tuples do, must copy the status
+     * and value out of the Result first.
+     */
+    @Override
+    public Result processInput() throws ExecException {
+        if (input == null || !isInputAttached()) {
+            return super.processInput();
+        }
+        PigProgressable progRep = getReporter();
+        if (progRep != null) {
+            progRep.progress();
+        }
+        if (inputResult == null) {
+            inputResult = new Result();
+        }
+        inputResult.returnStatus = POStatus.STATUS_OK;
+        inputResult.result = input;
+        detachInput();
+        return inputResult;
+    }
+
+    /**
+     * Whether {@link #getNextPrimitive(byte)} can be used in place of
+     * {@link #getNext(byte)} for the given type. Operators that support it
+     * return true only for int, long, float or double, and only when not
+     * in accumulative or illustrate mode.
+     */
+    public boolean supportsPrimitive(byte dataType) {
+        return false;
+    }
+
+    /**
+     * Evaluates the expression without boxing its value. The returned holder
+     * belongs to the operator and is overwritten by the next call.
+     */
+    public PrimitiveResult getNextPrimitive(byte dataType) throws ExecException {
+        int errCode = 2067;
+        String msg = this.getClass().getSimpleName() + " does not produce primitive values of type "
+                + DataType.findTypeName(dataType);
+        throw new ExecException(msg, errCode, PigException.BUG);
+    }
+
+    /**
+     * @return true if the primitive path may be used on this operator at all
+     */
+    protected boolean canUsePrimitive(byte dataType) {
+        return PrimitiveResult.isPrimitiveType(dataType) && illustrator == null && !isAccumulative();
+    }
+
+    protected PrimitiveResult getPrimitiveResult() {
+        if (primitiveResult == null) {
+            primitiveResult = new PrimitiveResult();
+        }
+        return primitiveResult;
+    }
+
+    /**
+     * Boxes a primitive result into a Result owned by this operator.
+     */
+    protected Result toResult(PrimitiveResult pr, byte dataType) {
+        if (boxedResult == null) {
+            boxedResult = new Result();
+        }
+        boxedResult.returnStatus = pr.returnStatus;
+        boxedResult.result = pr.returnStatus == POStatus.STATUS_OK ? pr.box(dataType) : null;
+        return boxedResult;
+    }
+
     @Override
     public abstract void visit(PhyPlanVisitor v) throws VisitorException;
 
@@ -53,6 +53,11 @@ public class GreaterThanExpr extends BinaryComparisonOperator {
         v.visitGreaterThan(this);
     }
 
+    @Override
+    protected boolean isTrue(int compareResult) {
+        return compareResult > 0;
+    }
+
     @Override
     public Result getNextBoolean() throws ExecException {
         Result left, right;
@@ -71,6 +76,9 @@ public class GreaterThanExpr extends BinaryComparisonOperator {
             if (r != null) {
                 return r;
             }
+            if (hasPrimitiveOperands(operandType)) {
+                return comparePrimitive();
+            }
             left = lhs.getNext(operandType);
             right = rhs.getNext(operandType);
             return doComparison(left, right);
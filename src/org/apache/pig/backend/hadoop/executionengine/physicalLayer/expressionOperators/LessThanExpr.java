@@ -56,6 +56,11 @@ public class LessThanExpr extends BinaryComparisonOperator {
         v.visitLessThan(this);
     }
 
+    @Override
+    protected boolean isTrue(int compareResult) {
+        return compareResult < 0;
+    }
+
     @Override
     public Result getNextBoolean() throws ExecException {
         Result left, right;
@@ -74,6 +79,9 @@ public class LessThanExpr extends BinaryComparisonOperator {
             if (r != null) {
                 return r;
             }
+            if (hasPrimitiveOperands(operandType)) {
+                return comparePrimitive();
+            }
             left = lhs.getNext(operandType);
             right = rhs.getNext(operandType);
             return doComparison(left, right);
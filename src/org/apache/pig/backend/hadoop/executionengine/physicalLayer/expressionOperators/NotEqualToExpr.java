@@ -58,6 +58,11 @@ public class NotEqualToExpr extends BinaryComparisonOperator {
         v.visitNotEqualTo(this);
     }
 
+    @Override
+    protected boolean isTrue(int compareResult) {
+        return compareResult != 0;
+    }
+
     @Override
     public Result getNextBoolean() throws ExecException {
         Result left, right;
@@ -79,6 +84,9 @@ public class NotEqualToExpr extends BinaryComparisonOperator {
             if (r != null) {
                 return r;
             }
+            if (hasPrimitiveOperands(operandType)) {
+                return comparePrimitive();
+            }
             left = lhs.getNext(operandType);
             right = rhs.getNext(operandType);
             return doComparison(left, right);
@@ -40,6 +40,7 @@ import org.apache.pig.StreamToPig;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PrimitiveResult;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.builtin.ToDate;
@@ -105,6 +106,52 @@ public class POCast extends ExpressionOperator {
         return res;
     }
 
+    /**
+     * Casts between int, long, float and double can be done without boxing
+     * when the operand can be evaluated that way.
+     */
+    @Override
+    public boolean supportsPrimitive(byte dataType) {
+        if (!canUsePrimitive(dataType) || inputs == null || inputs.size() != 1
+                || !(inputs.get(0) instanceof ExpressionOperator)) {
+            return false;
+        }
+        ExpressionOperator in = (ExpressionOperator) inputs.get(0);
+        byte inType = in.getResultType();
+        return PrimitiveResult.isPrimitiveType(inType) && in.supportsPrimitive(inType);
+    }
+
+    @Override
+    public PrimitiveResult getNextPrimitive(byte dataType) throws ExecException {
+        ExpressionOperator in = (ExpressionOperator) inputs.get(0);
+        byte inType = in.getResultType();
+        PrimitiveResult val = in.getNextPrimitive(inType);
+        if (val.returnStatus != POStatus.STATUS_OK || val.isNull || inType == dataType) {
+            return val;
+        }
+        PrimitiveResult res = getPrimitiveResult();
+        res.returnStatus = POStatus.STATUS_OK;
+        res.isNull = false;
+        if (PrimitiveResult.isIntegralType(inType)) {
+            long l = val.longValue;
+            switch (dataType) {
+            case DataType.INTEGER: res.longValue = (int) l; break;
+            case DataType.LONG: res.longValue = l; break;
+            case DataType.FLOAT: res.doubleValue = (float) l; break;
+            default: res.doubleValue = l;
+            }
+        } else {
+            double d = val.doubleValue;
+            switch (dataType) {
+            case DataType.INTEGER: res.longValue = (int) d; break;
+            case DataType.LONG: res.longValue = (long) d; break;
+            case DataType.FLOAT: res.doubleValue = (float) d; break;
+            default: res.doubleValue = d;
+            }
+        }
+        return res;
+    }
+
     public void setFuncSpec(FuncSpec lf) throws IOException {
         this.funcSpec = lf;
         instantiateFunc();
@@ -25,6 +25,7 @@ import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PrimitiveResult;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataBag;
@@ -188,6 +189,40 @@ public class POProject extends ExpressionOperator {
         return res;
     }
 
+    @Override
+    public boolean supportsPrimitive(byte dataType) {
+        return canUsePrimitive(dataType) && !isProjectToEnd && columns.size() == 1 && !overloaded;
+    }
+
+    /**
+     * Same as {@link #getNext()} for a single column, but unboxes the value
+     * into the operator's {@link PrimitiveResult}.
+     */
+    @Override
+    public PrimitiveResult getNextPrimitive(byte dataType) throws ExecException {
+        PrimitiveResult res = getPrimitiveResult();
+        Result inp = processInput();
+        if (inp.returnStatus != POStatus.STATUS_OK) {
+            res.returnStatus = inp.returnStatus;
+            return res;
+        }
+        Tuple inpValue = (Tuple) inp.result;
+        int column = columns.get(0);
+        if (inpValue == null) {
+            // the tuple is null, so a dereference should also produce a null
+            res.set(null, dataType);
+        } else if (inpValue.size() > column) {
+            res.set(inpValue.get(column), dataType);
+        } else {
+            if (pigLogger != null) {
+                pigLogger.warn(this,"Attempt to access field " +
+                        "which was not found in the input", PigWarning.ACCESSING_NON_EXISTENT_FIELD);
+            }
+            res.set(null, dataType);
+        }
+        return res;
+    }
+
     private boolean isRangeInvalid(int lastColIdx) {
         if(startCol > lastColIdx){
             // this must be happening because tuple is smaller than startCol
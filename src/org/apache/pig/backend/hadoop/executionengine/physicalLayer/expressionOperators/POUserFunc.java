@@ -144,6 +144,10 @@ public class POUserFunc extends ExpressionOperator {
         this.func.setPigLogger(pigLogger);
     }
 
+    // holder for the argument tuple and then the value of the function,
+    // reused for every call
+    private transient Result udfResult;
+
     private transient TupleMaker inputTupleMaker;
     private boolean usingSchemaTupleFactory;
 
@@ -192,9 +196,13 @@ public class POUserFunc extends ExpressionOperator {
             initialized = true;
         }
 
-        Result res = new Result();
+        if (udfResult == null) {
+            udfResult = new Result();
+        }
+        Result res = udfResult;
         if (input == null && (inputs == null || inputs.size()==0)) {
             res.returnStatus = POStatus.STATUS_EOP;
+            res.result = null;
             return res;
         }
 
@@ -22,6 +22,7 @@ import java.math.BigInteger;
 
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PrimitiveResult;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.data.DataType;
@@ -83,6 +84,10 @@ public class Subtract extends BinaryExpressionOperator {
             return r;
         }
 
+        if (hasPrimitiveOperands(dataType)) {
+            return toResult(getNextPrimitive(dataType), dataType);
+        }
+
         byte status;
         Result res;
         res = lhs.getNext(dataType);
@@ -103,6 +108,40 @@ public class Subtract extends BinaryExpressionOperator {
         return res;
     }
 
+    @Override
+    public boolean supportsPrimitive(byte dataType) {
+        return hasPrimitiveOperands(dataType);
+    }
+
+    @Override
+    public PrimitiveResult getNextPrimitive(byte dataType) throws ExecException {
+        PrimitiveResult left = lhs.getNextPrimitive(dataType);
+        if (left.returnStatus != POStatus.STATUS_OK || left.isNull) {
+            return left;
+        }
+        PrimitiveResult right = rhs.getNextPrimitive(dataType);
+        if (right.returnStatus != POStatus.STATUS_OK || right.isNull) {
+            return right;
+        }
+        PrimitiveResult res = getPrimitiveResult();
+        res.returnStatus = POStatus.STATUS_OK;
+        res.isNull = false;
+        switch (dataType) {
+        case DataType.INTEGER:
+            res.longValue = (int) (left.longValue - right.longValue);
+            break;
+        case DataType.LONG:
+            res.longValue = left.longValue - right.longValue;
+            break;
+        case DataType.FLOAT:
+            res.doubleValue = (float) (left.doubleValue - right.doubleValue);
+            break;
+        default:
+            res.doubleValue = left.doubleValue - right.doubleValue;
+        }
+        return res;
+    }
+
     @Override
     public Result getNextDouble() throws ExecException {
         return genericGetNext(DataType.DOUBLE);
@@ -17,21 +17,23 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class CompiledRegex implements RegexImpl {
 
-    private Matcher m = null;
+    private RegexMatcher m = null;
     
     public CompiledRegex( Pattern rhsPattern ) {
-        this.m = rhsPattern.matcher("");
+        this(Regex.compile(rhsPattern.pattern()));
+    }
+
+    public CompiledRegex( Regex rhsRegex ) {
+        this.m = rhsRegex.booleanMatcher();
     }
     
     @Override
     public boolean match(String lhs, String rhs) {
-        m.reset(lhs);            
-        return m.matches();
+        return m.matches(lhs);
     }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Matcher of the patterns {@link LinearRegex} does not support, backed by
+ * java.util.regex. Bytes are decoded to a string first.
+ */
+class JavaRegexMatcher extends RegexMatcher {
+
+    private final Matcher m;
+
+    JavaRegexMatcher(Pattern pattern) {
+        this.m = pattern.matcher("");
+    }
+
+    @Override
+    public boolean matches(String s) {
+        return m.reset(s).matches();
+    }
+
+    @Override
+    public boolean matches(byte[] utf8, int off, int len) {
+        return matches(new String(utf8, off, len, Charsets.UTF_8));
+    }
+
+    @Override
+    public boolean find(String s) {
+        return m.reset(s).find();
+    }
+
+    @Override
+    public boolean find(byte[] utf8, int off, int len) {
+        return find(new String(utf8, off, len, Charsets.UTF_8));
+    }
+
+    @Override
+    public boolean find() {
+        return m.find();
+    }
+
+    @Override
+    public int groupCount() {
+        return m.groupCount();
+    }
+
+    @Override
+    public String group(int group) {
+        return m.group(group);
+    }
+
+    @Override
+    public String replaceAll(String s, String replacement) {
+        return m.reset(s).replaceAll(replacement);
+    }
+}
@@ -0,0 +1,1293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Regular expressions run by a Pike VM, a simulation of the NFA of the
+ * pattern that follows all the threads of the match in lockstep. Matching
+ * takes time linear in the size of the input, whatever the pattern, and the
+ * threads are kept in priority order so that matches and groups are the ones
+ * java.util.regex would return.
+ * <p>
+ * Only the regular subset of the java.util.regex syntax is supported:
+ * literals and escapes, character classes without unions or intersections,
+ * the predefined classes, ^ $ \A \z \Z \b \B, capturing and non capturing
+ * groups, alternation and greedy or reluctant quantifiers. {@link #compile}
+ * returns null for the other patterns, which are left to java.util.regex.
+ * Inputs are either strings, matched by char index, or UTF-8 bytes, matched
+ * by byte offset without decoding them.
+ */
+public final class LinearRegex {
+
+    // opcodes
+    private static final int CHAR = 0;
+    private static final int CLASS = 1;
+    private static final int SPLIT = 2;
+    private static final int JMP = 3;
+    private static final int SAVE = 4;
+    private static final int ASSERT = 5;
+    private static final int MATCH = 6;
+
+    // assertions
+    private static final int BEGIN = 0;
+    private static final int DOLLAR = 1;
+    private static final int END = 2;
+    private static final int WORD_BOUNDARY = 3;
+    private static final int NOT_WORD_BOUNDARY = 4;
+
+    /** Larger programs, usually from big counted repetitions, are left to java.util.regex */
+    static final int MAX_PROGRAM_SIZE = 10000;
+
+    private static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+    private static final int[] DIGIT = { '0', '9' };
+    private static final int[] SPACE = { '\t', '\r', ' ', ' ' };
+    private static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+    private static final int[] DOT = complement(new int[] { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029 });
+
+    private final int[] op;
+    private final int[] arg;
+    private final int[] arg2;
+    private final int[][] classes;
+    private final int groups;
+
+    private LinearRegex(int[] op, int[] arg, int[] arg2, int[][] classes, int groups) {
+        this.op = op;
+        this.arg = arg;
+        this.arg2 = arg2;
+        this.classes = classes;
+        this.groups = groups;
+    }
+
+    /**
+     * @param pattern a pattern java.util.regex accepts
+     * @return the compiled pattern, or null if it uses constructs that are not supported
+     */
+    public static LinearRegex compile(String pattern) {
+        try {
+            Parser parser = new Parser(pattern);
+            Node root = parser.parse();
+            Compiler compiler = new Compiler();
+            compiler.emit(SAVE, 0, 0);
+            compiler.compile(root);
+            compiler.emit(SAVE, 1, 0);
+            compiler.emit(MATCH, 0, 0);
+            return new LinearRegex(Arrays.copyOf(compiler.op, compiler.size),
+                    Arrays.copyOf(compiler.arg, compiler.size),
+                    Arrays.copyOf(compiler.arg2, compiler.size),
+                    compiler.classes.toArray(new int[compiler.classes.size()][]),
+                    parser.groups);
+        } catch (UnsupportedException e) {
+            return null;
+        }
+    }
+
+    public int groupCount() {
+        return groups;
+    }
+
+    /**
+     * @param captures whether to keep the groups of the matches
+     */
+    public RegexMatcher matcher(boolean captures) {
+        return new LinearMatcher(this, captures);
+    }
+
+    private static boolean inClass(int[] ranges, int c) {
+        int lo = 0;
+        int hi = ranges.length / 2 - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c < ranges[2 * mid]) {
+                hi = mid - 1;
+            } else if (c > ranges[2 * mid + 1]) {
+                lo = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorts and merges ranges given as pairs of inclusive bounds.
+     */
+    private static int[] normalize(List<int[]> ranges) {
+        int[][] sorted = ranges.toArray(new int[ranges.size()][]);
+        Arrays.sort(sorted, new java.util.Comparator<int[]>() {
+            @Override
+            public int compare(int[] a, int[] b) {
+                return a[0] < b[0] ? -1 : (a[0] == b[0] ? 0 : 1);
+            }
+        });
+        int[] out = new int[sorted.length * 2];
+        int n = 0;
+        for (int[] r : sorted) {
+            if (n > 0 && r[0] <= out[n - 1] + 1) {
+                out[n - 1] = Math.max(out[n - 1], r[1]);
+            } else {
+                out[n++] = r[0];
+                out[n++] = r[1];
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int[] complement(int[] ranges) {
+        int[] out = new int[ranges.length + 2];
+        int n = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                out[n++] = next;
+                out[n++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= MAX_CODE_POINT) {
+            out[n++] = next;
+            out[n++] = MAX_CODE_POINT;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static void addRanges(List<int[]> to, int[] ranges) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            to.add(new int[] { ranges[i], ranges[i + 1] });
+        }
+    }
+
+    /**
+     * Thrown by the parser for the constructs left to java.util.regex.
+     */
+    private static class UnsupportedException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final UnsupportedException UNSUPPORTED = new UnsupportedException();
+
+    private static final int N_EMPTY = 0;
+    private static final int N_CHAR = 1;
+    private static final int N_CLASS = 2;
+    private static final int N_ASSERT = 3;
+    private static final int N_GROUP = 4;
+    private static final int N_CONCAT = 5;
+    private static final int N_ALT = 6;
+    private static final int N_REPEAT = 7;
+
+    private static class Node {
+        final int type;
+        int value;
+        int[] ranges;
+        List<Node> children;
+        int min;
+        int max;
+        boolean greedy;
+
+        Node(int type) {
+            this.type = type;
+        }
+
+        Node child() {
+            return children.get(0);
+        }
+
+        boolean nullable() {
+            switch (type) {
+            case N_CHAR:
+            case N_CLASS:
+                return false;
+            case N_GROUP:
+                return child().nullable();
+            case N_CONCAT:
+                for (Node n : children) {
+                    if (!n.nullable()) {
+                        return false;
+                    }
+                }
+                return true;
+            case N_ALT:
+                for (Node n : children) {
+                    if (n.nullable()) {
+                        return true;
+                    }
+                }
+                return false;
+            case N_REPEAT:
+                return min == 0 || child().nullable();
+            default:
+                return true;
+            }
+        }
+
+        boolean hasGroup() {
+            if (type == N_GROUP) {
+                return true;
+            }
+            if (children != null) {
+                for (Node n : children) {
+                    if (n.hasGroup()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static Node single(int type, Node child) {
+        Node n = new Node(type);
+        n.children = new ArrayList<Node>(1);
+        n.children.add(child);
+        return n;
+    }
+
+    /**
+     * Recursive descent parser of the supported subset of the java.util.regex
+     * syntax. Anything unexpected is reported as unsupported, since the
+     * pattern is known to be valid for java.util.regex.
+     */
+    private static class Parser {
+        private final String s;
+        private int pos;
+        int groups;
+
+        Parser(String s) {
+            this.s = s;
+        }
+
+        Node parse() throws UnsupportedException {
+            Node n = parseAlt();
+            if (pos != s.length()) {
+                throw UNSUPPORTED;
+            }
+            return n;
+        }
+
+        private boolean more() {
+            return pos < s.length();
+        }
+
+        private int peek() {
+            return s.codePointAt(pos);
+        }
+
+        private int next() throws UnsupportedException {
+            if (!more()) {
+                throw UNSUPPORTED;
+            }
+            int c = s.codePointAt(pos);
+            pos += Character.charCount(c);
+            return c;
+        }
+
+        private Node parseAlt() throws UnsupportedException {
+            Node first = parseConcat();
+            if (!more() || peek() != '|') {
+                return first;
+            }
+            Node alt = new Node(N_ALT);
+            alt.children = new ArrayList<Node>();
+            alt.children.add(first);
+            while (more() && peek() == '|') {
+                pos++;
+                alt.children.add(parseConcat());
+            }
+            return alt;
+        }
+
+        private Node parseConcat() throws UnsupportedException {
+            Node concat = new Node(N_CONCAT);
+            concat.children = new ArrayList<Node>();
+            while (more() && peek() != '|' && peek() != ')') {
+                parseRepeat(concat.children);
+            }
+            return concat;
+        }
+
+        private void parseRepeat(List<Node> to) throws UnsupportedException {
+            int start = to.size();
+            parseAtom(to);
+            if (!more()) {
+                return;
+            }
+            int c = peek();
+            int min, max;
+            if (c == '*') {
+                min = 0;
+                max = -1;
+                pos++;
+            } else if (c == '+') {
+                min = 1;
+                max = -1;
+                pos++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                pos++;
+            } else if (c == '{') {
+                pos++;
+                min = parseInt();
+                max = min;
+                if (more() && peek() == ',') {
+                    pos++;
+                    max = more() && peek() == '}' ? -1 : parseInt();
+                }
+                if (next() != '}' || (max != -1 && max < min)) {
+                    throw UNSUPPORTED;
+                }
+            } else {
+                return;
+            }
+            boolean greedy = true;
+            if (more() && peek() == '?') {
+                greedy = false;
+                pos++;
+            } else if (more() && peek() == '+') {
+                // possessive
+                throw UNSUPPORTED;
+            }
+            if (more() && (peek() == '*' || peek() == '+' || peek() == '?' || peek() == '{')) {
+                throw UNSUPPORTED;
+            }
+            if (to.size() != start + 1) {
+                // quantified \Q...\E sequence
+                throw UNSUPPORTED;
+            }
+            Node atom = to.remove(to.size() - 1);
+            if (atom.type == N_ASSERT || atom.type == N_EMPTY) {
+                throw UNSUPPORTED;
+            }
+            if (max == -1 && atom.hasGroup() && atom.nullable()) {
+                // java.util.regex sets the groups of empty iterations
+                throw UNSUPPORTED;
+            }
+            Node rep = single(N_REPEAT, atom);
+            rep.min = min;
+            rep.max = max;
+            rep.greedy = greedy;
+            to.add(rep);
+        }
+
+        private int parseInt() throws UnsupportedException {
+            int start = pos;
+            long v = 0;
+            while (more() && peek() >= '0' && peek() <= '9') {
+                v = v * 10 + (s.charAt(pos++) - '0');
+                if (v > MAX_PROGRAM_SIZE) {
+                    throw UNSUPPORTED;
+                }
+            }
+            if (pos == start) {
+                throw UNSUPPORTED;
+            }
+            return (int) v;
+        }
+
+        private void parseAtom(List<Node> to) throws UnsupportedException {
+            int c = next();
+            switch (c) {
+            case '(': {
+                Node group;
+                if (more() && peek() == '?') {
+                    pos++;
+                    if (next() != ':') {
+                        // lookaround, named groups and flags
+                        throw UNSUPPORTED;
+                    }
+                    group = parseAlt();
+                } else {
+                    int index = ++groups;
+                    group = single(N_GROUP, parseAlt());
+                    group.value = index;
+                }
+                if (next() != ')') {
+                    throw UNSUPPORTED;
+                }
+                to.add(group);
+                return;
+            }
+            case '[':
+                to.add(classNode(parseClass()));
+                return;
+            case '.':
+                to.add(classNode(DOT));
+                return;
+            case '^':
+                to.add(assertNode(BEGIN));
+                return;
+            case '$':
+                to.add(assertNode(DOLLAR));
+                return;
+            case '\\':
+                parseEscape(to);
+                return;
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+            case ')':
+                throw UNSUPPORTED;
+            default:
+                to.add(charNode(c));
+            }
+        }
+
+        private void parseEscape(List<Node> to) throws UnsupportedException {
+            int c = next();
+            switch (c) {
+            case 'd':
+                to.add(classNode(DIGIT));
+                return;
+            case 'D':
+                to.add(classNode(complement(DIGIT)));
+                return;
+            case 's':
+                to.add(classNode(SPACE));
+                return;
+            case 'S':
+                to.add(classNode(complement(SPACE)));
+                return;
+            case 'w':
+                to.add(classNode(WORD));
+                return;
+            case 'W':
+                to.add(classNode(complement(WORD)));
+                return;
+            case 'b':
+                to.add(assertNode(WORD_BOUNDARY));
+                return;
+            case 'B':
+                to.add(assertNode(NOT_WORD_BOUNDARY));
+                return;
+            case 'A':
+                to.add(assertNode(BEGIN));
+                return;
+            case 'z':
+                to.add(assertNode(END));
+                return;
+            case 'Z':
+                to.add(assertNode(DOLLAR));
+                return;
+            case 'Q': {
+                int end = s.indexOf("\\E", pos);
+                String quoted = end < 0 ? s.substring(pos) : s.substring(pos, end);
+                pos = end < 0 ? s.length() : end + 2;
+                if (quoted.isEmpty()) {
+                    to.add(new Node(N_EMPTY));
+                }
+                for (int i = 0; i < quoted.length(); ) {
+                    int q = quoted.codePointAt(i);
+                    to.add(charNode(q));
+                    i += Character.charCount(q);
+                }
+                return;
+            }
+            default:
+                to.add(charNode(escapedChar(c)));
+            }
+        }
+
+        /**
+         * @return the char of an escape sequence that stands for a single char
+         */
+        private int escapedChar(int c) throws UnsupportedException {
+            switch (c) {
+            case '0':
+                return octal();
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return 0x07;
+            case 'e':
+                return 0x1b;
+            case 'c':
+                return next() ^ 64;
+            case 'x':
+                if (more() && peek() == '{') {
+                    pos++;
+                    int end = s.indexOf('}', pos);
+                    if (end < 0) {
+                        throw UNSUPPORTED;
+                    }
+                    int v = hex(end - pos);
+                    pos++;
+                    return v;
+                }
+                return hex(2);
+            case 'u': {
+                int v = hex(4);
+                // a surrogate pair written as two escapes is a single code point
+                if (Character.isHighSurrogate((char) v) && s.startsWith("\\u", pos)) {
+                    int save = pos;
+                    pos += 2;
+                    int low = hex(4);
+                    if (Character.isLowSurrogate((char) low)) {
+                        return Character.toCodePoint((char) v, (char) low);
+                    }
+                    pos = save;
+                }
+                return v;
+            }
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    // back references, \p, \h, \R, \G...
+                    throw UNSUPPORTED;
+                }
+                return c;
+            }
+        }
+
+        private int octal() throws UnsupportedException {
+            int n = next() - '0';
+            if (n < 0 || n > 7) {
+                throw UNSUPPORTED;
+            }
+            if (!more() || peek() < '0' || peek() > '7') {
+                return n;
+            }
+            int m = next() - '0';
+            if (n <= 3 && more() && peek() >= '0' && peek() <= '7') {
+                return n * 64 + m * 8 + (next() - '0');
+            }
+            return n * 8 + m;
+        }
+
+        private int hex(int digits) throws UnsupportedException {
+            if (digits <= 0 || digits > 8 || pos + digits > s.length()) {
+                throw UNSUPPORTED;
+            }
+            int v;
+            try {
+                v = Integer.parseInt(s.substring(pos, pos + digits), 16);
+            } catch (NumberFormatException e) {
+                throw UNSUPPORTED;
+            }
+            if (v < 0 || v > MAX_CODE_POINT) {
+                throw UNSUPPORTED;
+            }
+            pos += digits;
+            return v;
+        }
+
+        private int[] parseClass() throws UnsupportedException {
+            boolean negate = false;
+            if (more() && peek() == '^') {
+                negate = true;
+                pos++;
+            }
+            if (more() && peek() == ']') {
+                throw UNSUPPORTED;
+            }
+            List<int[]> ranges = new ArrayList<int[]>();
+            while (true) {
+                int c = next();
+                if (c == ']') {
+                    break;
+                }
+                if (c == '[' || (c == '&' && more() && peek() == '&')) {
+                    // unions and intersections
+                    throw UNSUPPORTED;
+                }
+                int lo;
+                if (c == '\\') {
+                    int e = next();
+                    int[] predefined = predefinedClass(e);
+                    if (predefined != null) {
+                        addRanges(ranges, predefined);
+                        if (more() && peek() == '-' && !s.startsWith("-]", pos)) {
+                            throw UNSUPPORTED;
+                        }
+                        continue;
+                    }
+                    if (e == 'Q' || e == 'b' || e == 'B') {
+                        throw UNSUPPORTED;
+                    }
+                    lo = escapedChar(e);
+                } else {
+                    lo = c;
+                }
+                int hi = lo;
+                if (more() && peek() == '-' && !s.startsWith("-]", pos)) {
+                    pos++;
+                    int d = next();
+                    if (d == '[' || d == ']') {
+                        throw UNSUPPORTED;
+                    }
+                    if (d == '\\') {
+                        int e = next();
+                        if (predefinedClass(e) != null || e == 'Q' || e == 'b' || e == 'B') {
+                            throw UNSUPPORTED;
+                        }
+                        hi = escapedChar(e);
+                    } else {
+                        hi = d;
+                    }
+                    if (hi < lo) {
+                        throw UNSUPPORTED;
+                    }
+                }
+                ranges.add(new int[] { lo, hi });
+            }
+            int[] normalized = normalize(ranges);
+            return negate ? complement(normalized) : normalized;
+        }
+
+        private int[] predefinedClass(int c) {
+            switch (c) {
+            case 'd':
+                return DIGIT;
+            case 'D':
+                return complement(DIGIT);
+            case 's':
+                return SPACE;
+            case 'S':
+                return complement(SPACE);
+            case 'w':
+                return WORD;
+            case 'W':
+                return complement(WORD);
+            default:
+                return null;
+            }
+        }
+
+        private static Node charNode(int c) {
+            Node n = new Node(N_CHAR);
+            n.value = c;
+            return n;
+        }
+
+        private static Node classNode(int[] ranges) {
+            Node n = new Node(N_CLASS);
+            n.ranges = ranges;
+            return n;
+        }
+
+        private static Node assertNode(int kind) {
+            Node n = new Node(N_ASSERT);
+            n.value = kind;
+            return n;
+        }
+    }
+
+    /**
+     * Compiles the parse tree to the instructions of the Pike VM. The first
+     * branch of a SPLIT has priority over the second.
+     */
+    private static class Compiler {
+        int[] op = new int[64];
+        int[] arg = new int[64];
+        int[] arg2 = new int[64];
+        int size;
+        List<int[]> classes = new ArrayList<int[]>();
+
+        int emit(int code, int a, int b) throws UnsupportedException {
+            if (size == MAX_PROGRAM_SIZE) {
+                throw UNSUPPORTED;
+            }
+            if (size == op.length) {
+                op = Arrays.copyOf(op, size * 2);
+                arg = Arrays.copyOf(arg, size * 2);
+                arg2 = Arrays.copyOf(arg2, size * 2);
+            }
+            op[size] = code;
+            arg[size] = a;
+            arg2[size] = b;
+            return size++;
+        }
+
+        void compile(Node n) throws UnsupportedException {
+            switch (n.type) {
+            case N_EMPTY:
+                break;
+            case N_CHAR:
+                emit(CHAR, n.value, 0);
+                break;
+            case N_CLASS:
+                classes.add(n.ranges);
+                emit(CLASS, classes.size() - 1, 0);
+                break;
+            case N_ASSERT:
+                emit(ASSERT, n.value, 0);
+                break;
+            case N_GROUP:
+                emit(SAVE, 2 * n.value, 0);
+                compile(n.child());
+                emit(SAVE, 2 * n.value + 1, 0);
+                break;
+            case N_CONCAT:
+                for (Node c : n.children) {
+                    compile(c);
+                }
+                break;
+            case N_ALT: {
+                List<Integer> jumps = new ArrayList<Integer>();
+                for (int i = 0; i < n.children.size(); i++) {
+                    if (i == n.children.size() - 1) {
+                        compile(n.children.get(i));
+                    } else {
+                        int split = emit(SPLIT, 0, 0);
+                        arg[split] = size;
+                        compile(n.children.get(i));
+                        jumps.add(emit(JMP, 0, 0));
+                        arg2[split] = size;
+                    }
+                }
+                for (int j : jumps) {
+                    arg[j] = size;
+                }
+                break;
+            }
+            case N_REPEAT:
+                compileRepeat(n);
+                break;
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
+        private void compileRepeat(Node n) throws UnsupportedException {
+            for (int i = 0; i < n.min; i++) {
+                compile(n.child());
+            }
+            if (n.max == -1) {
+                int split = emit(SPLIT, 0, 0);
+                compile(n.child());
+                emit(JMP, split, 0);
+                branch(split, split + 1, size, n.greedy);
+            } else {
+                List<Integer> splits = new ArrayList<Integer>();
+                for (int i = n.min; i < n.max; i++) {
+                    splits.add(emit(SPLIT, 0, 0));
+                    compile(n.child());
+                }
+                for (int split : splits) {
+                    branch(split, split + 1, size, n.greedy);
+                }
+            }
+        }
+
+        private void branch(int split, int body, int out, boolean greedy) {
+            arg[split] = greedy ? body : out;
+            arg2[split] = greedy ? out : body;
+        }
+    }
+
+    /**
+     * Set of the threads at one position of the input, in priority order.
+     */
+    private static class Threads {
+        final int[] sparse;
+        final int[] dense;
+        final int[][] caps;
+        int size;
+
+        Threads(int n) {
+            sparse = new int[n];
+            dense = new int[n];
+            caps = new int[n][];
+        }
+
+        boolean contains(int pc) {
+            int i = sparse[pc];
+            return i < size && dense[i] == pc;
+        }
+
+        void add(int pc, int[] c) {
+            sparse[pc] = size;
+            dense[size] = pc;
+            caps[size++] = c;
+        }
+
+        void clear() {
+            // drop the captures so they can be collected
+            Arrays.fill(caps, 0, size, null);
+            size = 0;
+        }
+    }
+
+    private static class LinearMatcher extends RegexMatcher {
+        private final LinearRegex re;
+        private final boolean captures;
+        private final int[] noCaptures;
+
+        private Threads clist;
+        private Threads nlist;
+        private final int[] stackPc;
+        private final int[][] stackCaps;
+
+        // the input
+        private String str;
+        private byte[] bytes;
+        private int begin;
+        private int end;
+        private int width;
+
+        // the last match, with positions in the input
+        private int[] match;
+        private int first = -1;
+        private int last;
+
+        LinearMatcher(LinearRegex re, boolean captures) {
+            this.re = re;
+            this.captures = captures;
+            int n = re.op.length;
+            clist = new Threads(n);
+            nlist = new Threads(n);
+            stackPc = new int[2 * n + 2];
+            stackCaps = new int[2 * n + 2][];
+            noCaptures = new int[2 * (re.groups + 1)];
+            Arrays.fill(noCaptures, -1);
+        }
+
+        private void reset(String s) {
+            str = s;
+            bytes = null;
+            begin = 0;
+            end = s.length();
+            match = null;
+            first = -1;
+            last = begin;
+        }
+
+        private void reset(byte[] b, int off, int len) {
+            str = null;
+            bytes = b;
+            begin = off;
+            end = off + len;
+            match = null;
+            first = -1;
+            last = begin;
+        }
+
+        @Override
+        public boolean matches(String s) {
+            reset(s);
+            return run(begin, true);
+        }
+
+        @Override
+        public boolean matches(byte[] utf8, int off, int len) {
+            reset(utf8, off, len);
+            return run(begin, true);
+        }
+
+        @Override
+        public boolean find(String s) {
+            reset(s);
+            return find();
+        }
+
+        @Override
+        public boolean find(byte[] utf8, int off, int len) {
+            reset(utf8, off, len);
+            return find();
+        }
+
+        @Override
+        public boolean find() {
+            if (str == null && bytes == null) {
+                return false;
+            }
+            int from = last;
+            if (from == first) {
+                // step over the empty match
+                if (from < end) {
+                    codePointAt(from);
+                    from += str != null ? 1 : width;
+                } else {
+                    from++;
+                }
+            }
+            if (from > end) {
+                match = null;
+                return false;
+            }
+            return run(from, false);
+        }
+
+        @Override
+        public int groupCount() {
+            return re.groups;
+        }
+
+        @Override
+        public String group(int group) {
+            if (match == null) {
+                throw new IllegalStateException("No match found");
+            }
+            if (!captures) {
+                throw new IllegalStateException("Groups are not kept by this matcher");
+            }
+            if (group < 0 || group > re.groups) {
+                throw new IndexOutOfBoundsException("No group " + group);
+            }
+            int s = match[2 * group];
+            int e = match[2 * group + 1];
+            if (s == -1 || e == -1) {
+                return null;
+            }
+            return str != null ? str.substring(s, e) : new String(bytes, s, e - s, Charsets.UTF_8);
+        }
+
+        @Override
+        public String replaceAll(String s, String replacement) {
+            if (!captures) {
+                throw new IllegalStateException("Groups are not kept by this matcher");
+            }
+            reset(s);
+            if (!find()) {
+                return s;
+            }
+            StringBuilder sb = new StringBuilder();
+            int tail = 0;
+            do {
+                sb.append(s, tail, match[0]);
+                appendReplacement(sb, replacement);
+                tail = match[1];
+            } while (find());
+            sb.append(s, tail, s.length());
+            return sb.toString();
+        }
+
+        /**
+         * Same syntax as {@link java.util.regex.Matcher#appendReplacement}:
+         * $n is a group and \ escapes the next char.
+         */
+        private void appendReplacement(StringBuilder sb, String replacement) {
+            int cursor = 0;
+            while (cursor < replacement.length()) {
+                char c = replacement.charAt(cursor);
+                if (c == '\\') {
+                    cursor++;
+                    if (cursor == replacement.length()) {
+                        throw new IllegalArgumentException("character to be escaped is missing");
+                    }
+                    sb.append(replacement.charAt(cursor++));
+                } else if (c == '$') {
+                    cursor++;
+                    if (cursor == replacement.length()) {
+                        throw new IllegalArgumentException("Illegal group reference: group index is missing");
+                    }
+                    char d = replacement.charAt(cursor);
+                    if (d == '{') {
+                        // there are no named groups in the patterns this class runs
+                        int close = replacement.indexOf('}', cursor);
+                        throw new IllegalArgumentException("No group with name "
+                                + (close < 0 ? replacement.substring(cursor) : replacement.substring(cursor, close + 1)));
+                    }
+                    int ref = d - '0';
+                    if (ref < 0 || ref > 9) {
+                        throw new IllegalArgumentException("Illegal group reference");
+                    }
+                    cursor++;
+                    while (cursor < replacement.length()) {
+                        int digit = replacement.charAt(cursor) - '0';
+                        if (digit < 0 || digit > 9 || ref * 10 + digit > re.groups) {
+                            break;
+                        }
+                        ref = ref * 10 + digit;
+                        cursor++;
+                    }
+                    String g = group(ref);
+                    if (g != null) {
+                        sb.append(g);
+                    }
+                } else {
+                    sb.append(c);
+                    cursor++;
+                }
+            }
+        }
+
+        /**
+         * Runs the threads from the given position.
+         * @param full whether the match has to span the whole input, from begin
+         */
+        private boolean run(int from, boolean full) {
+            int[] op = re.op;
+            int[] arg = re.arg;
+            int[][] classes = re.classes;
+            int[] initial = captures || !full ? noCaptures : null;
+            int[] matched = null;
+            clist.clear();
+            int pos = from;
+            while (true) {
+                if (matched == null && (!full || pos == from)) {
+                    // the lowest priority thread is the one that starts here
+                    addThread(clist, 0, initial, pos);
+                }
+                if (clist.size == 0) {
+                    break;
+                }
+                int c = -1;
+                int w = 0;
+                if (pos < end) {
+                    c = codePointAt(pos);
+                    w = width;
+                }
+                nlist.clear();
+                for (int i = 0; i < clist.size; i++) {
+                    int pc = clist.dense[i];
+                    switch (op[pc]) {
+                    case CHAR:
+                        if (c == arg[pc]) {
+                            addThread(nlist, pc + 1, clist.caps[i], pos + w);
+                        }
+                        break;
+                    case CLASS:
+                        if (c >= 0 && inClass(classes[arg[pc]], c)) {
+                            addThread(nlist, pc + 1, clist.caps[i], pos + w);
+                        }
+                        break;
+                    case MATCH:
+                        if (full && pos != end) {
+                            break;
+                        }
+                        matched = clist.caps[i] != null ? clist.caps[i] : noCaptures;
+                        // the threads left have a lower priority
+                        i = clist.size;
+                        break;
+                    default:
+                        // the other instructions were followed when the thread was added
+                    }
+                }
+                Threads t = clist;
+                clist = nlist;
+                nlist = t;
+                if (pos >= end) {
+                    break;
+                }
+                pos += w;
+            }
+            clist.clear();
+            nlist.clear();
+            match = matched;
+            if (matched != null && matched != noCaptures) {
+                first = matched[0];
+                last = matched[1];
+            }
+            return matched != null;
+        }
+
+        /**
+         * Adds the thread to the list and follows the instructions that do
+         * not consume input from it, depth first so that priorities are kept.
+         */
+        private void addThread(Threads list, int pc0, int[] caps0, int pos) {
+            int[] op = re.op;
+            int[] arg = re.arg;
+            int[] arg2 = re.arg2;
+            int sp = 0;
+            stackPc[sp] = pc0;
+            stackCaps[sp++] = caps0;
+            while (sp > 0) {
+                int pc = stackPc[--sp];
+                int[] caps = stackCaps[sp];
+                stackCaps[sp] = null;
+                while (!list.contains(pc)) {
+                    list.add(pc, caps);
+                    int code = op[pc];
+                    if (code == JMP) {
+                        pc = arg[pc];
+                    } else if (code == SPLIT) {
+                        stackPc[sp] = arg2[pc];
+                        stackCaps[sp++] = caps;
+                        pc = arg[pc];
+                    } else if (code == SAVE) {
+                        if (caps != null && (captures || arg[pc] < 2)) {
+                            caps = caps.clone();
+                            caps[arg[pc]] = pos;
+                        }
+                        pc++;
+                    } else if (code == ASSERT) {
+                        if (!check(arg[pc], pos)) {
+                            break;
+                        }
+                        pc++;
+                    } else {
+                        break;
+                    }
+                }
+            }
+        }
+
+        private boolean check(int kind, int pos) {
+            switch (kind) {
+            case BEGIN:
+                return pos == begin;
+            case END:
+                return pos == end;
+            case DOLLAR:
+                return dollar(pos);
+            case WORD_BOUNDARY:
+                return isWordAfter(pos) != isWordBefore(pos);
+            case NOT_WORD_BOUNDARY:
+                return isWordAfter(pos) == isWordBefore(pos);
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
+        /**
+         * $ without MULTILINE: at the end, or before a line terminator that
+         * ends the input.
+         */
+        private boolean dollar(int pos) {
+            if (pos == end) {
+                return true;
+            }
+            int c = codePointAt(pos);
+            if (pos + width == end) {
+                if (c == '\n') {
+                    return !(pos > begin && unitAt(pos - 1) == '\r');
+                }
+                return c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
+            }
+            return c == '\r' && pos + 2 == end && unitAt(pos + 1) == '\n';
+        }
+
+        private boolean isWordAfter(int pos) {
+            if (pos >= end) {
+                return false;
+            }
+            int c = codePointAt(pos);
+            return isWord(c) || (Character.getType(c) == Character.NON_SPACING_MARK && hasBaseCharacter(pos));
+        }
+
+        private boolean isWordBefore(int pos) {
+            if (pos <= begin) {
+                return false;
+            }
+            int p = previous(pos);
+            int c = codePointAt(p);
+            return isWord(c) || (Character.getType(c) == Character.NON_SPACING_MARK
+                    && hasBaseCharacter(str != null ? pos - 1 : p));
+        }
+
+        private boolean hasBaseCharacter(int pos) {
+            for (int x = pos; x >= begin; x = str != null ? x - 1 : previous(x)) {
+                int c = codePointAt(x);
+                if (Character.isLetterOrDigit(c)) {
+                    return true;
+                }
+                if (Character.getType(c) != Character.NON_SPACING_MARK || x == begin) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isWord(int c) {
+            return c == '_' || Character.isLetterOrDigit(c);
+        }
+
+        private int unitAt(int pos) {
+            return str != null ? str.charAt(pos) : bytes[pos] & 0xff;
+        }
+
+        /**
+         * @return the start of the code point before the position
+         */
+        private int previous(int pos) {
+            if (str != null) {
+                return pos - Character.charCount(Character.codePointBefore(str, pos));
+            }
+            int p = pos - 1;
+            while (p > begin && pos - p < 4 && (bytes[p] & 0xc0) == 0x80) {
+                p--;
+            }
+            codePointAt(p);
+            return p + width == pos ? p : pos - 1;
+        }
+
+        /**
+         * Decodes the code point at the position and sets its width in chars
+         * or bytes. Malformed UTF-8 is read one byte at a time, as U+FFFD.
+         */
+        private int codePointAt(int pos) {
+            if (str != null) {
+                char c = str.charAt(pos);
+                if (Character.isHighSurrogate(c) && pos + 1 < end) {
+                    char d = str.charAt(pos + 1);
+                    if (Character.isLowSurrogate(d)) {
+                        width = 2;
+                        return Character.toCodePoint(c, d);
+                    }
+                }
+                width = 1;
+                return c;
+            }
+            int b = bytes[pos] & 0xff;
+            if (b < 0x80) {
+                width = 1;
+                return b;
+            }
+            int n;
+            int c;
+            int min;
+            if ((b & 0xe0) == 0xc0) {
+                n = 2;
+                c = b & 0x1f;
+                min = 0x80;
+            } else if ((b & 0xf0) == 0xe0) {
+                n = 3;
+                c = b & 0x0f;
+                min = 0x800;
+            } else if ((b & 0xf8) == 0xf0) {
+                n = 4;
+                c = b & 0x07;
+                min = 0x10000;
+            } else {
+                width = 1;
+                return 0xfffd;
+            }
+            if (pos + n > end) {
+                width = 1;
+                return 0xfffd;
+            }
+            for (int i = 1; i < n; i++) {
+                int cb = bytes[pos + i] & 0xff;
+                if ((cb & 0xc0) != 0x80) {
+                    width = 1;
+                    return 0xfffd;
+                }
+                c = (c << 6) | (cb & 0x3f);
+            }
+            if (c < min || c > MAX_CODE_POINT || (c >= 0xd800 && c <= 0xdfff)) {
+                width = 1;
+                return 0xfffd;
+            }
+            width = n;
+            return c;
+        }
+    }
+}
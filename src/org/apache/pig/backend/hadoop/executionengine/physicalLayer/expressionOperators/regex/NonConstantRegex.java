@@ -17,16 +17,15 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
+/**
+ * Matches against patterns that change from tuple to tuple. Compiled
+ * patterns come from the cache of {@link Regex}.
+ */
 public class NonConstantRegex implements RegexImpl {
 
-    private Pattern pattern = null;
-    
     private String oldString = null;
     
-    private Matcher matcher = null;
+    private RegexMatcher matcher = null;
 
     @Override
     public boolean match(String lhs, String rhs) {
@@ -38,12 +37,9 @@ public class NonConstantRegex implements RegexImpl {
                 || rhs.length() != oldString.length() 
                 || rhs.compareTo(oldString) != 0 ) {
             oldString = rhs;
-            pattern = Pattern.compile(oldString);
-            matcher = pattern.matcher(lhs);
-        } else {
-            matcher.reset( lhs );
+            matcher = Regex.compile(oldString).booleanMatcher();
         }
-        return matcher.matches();
+        return matcher.matches(lhs);
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A compiled regular expression with the syntax and semantics of
+ * java.util.regex. Patterns are run by {@link LinearRegex} in time linear in
+ * the size of the input when it supports them, and by java.util.regex
+ * otherwise (backreferences, lookaround, possessive quantifiers, flags...).
+ * <p>
+ * Compiled patterns are immutable and kept in a bounded LRU cache shared by
+ * the MATCHES operator and the REGEX_* functions, so that patterns that
+ * change from row to row are not compiled again each time.
+ */
+public final class Regex {
+
+    static final int CACHE_SIZE = 256;
+
+    private static final Map<String, Regex> cache =
+            new LinkedHashMap<String, Regex>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Regex> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    private final String pattern;
+    private final Pattern javaPattern;
+    private final LinearRegex linear;
+
+    private Regex(String pattern) {
+        this.pattern = pattern;
+        // java.util.regex validates the pattern and reports syntax errors
+        this.javaPattern = Pattern.compile(pattern);
+        this.linear = LinearRegex.compile(pattern);
+    }
+
+    /**
+     * Returns the compiled pattern, from the cache if it was compiled recently.
+     * @throws PatternSyntaxException if the pattern is not valid
+     */
+    public static Regex compile(String pattern) {
+        synchronized (cache) {
+            Regex regex = cache.get(pattern);
+            if (regex != null) {
+                return regex;
+            }
+        }
+        Regex regex = new Regex(pattern);
+        synchronized (cache) {
+            cache.put(pattern, regex);
+        }
+        return regex;
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * @return whether the pattern runs in linear time
+     */
+    public boolean isLinear() {
+        return linear != null;
+    }
+
+    /**
+     * @return a new matcher that keeps the groups of its matches
+     */
+    public RegexMatcher matcher() {
+        return linear != null ? linear.matcher(true) : new JavaRegexMatcher(javaPattern);
+    }
+
+    /**
+     * @return a new matcher that only tells whether the input matches, which
+     *         is cheaper when the pattern has groups
+     */
+    public RegexMatcher booleanMatcher() {
+        return linear != null ? linear.matcher(false) : new JavaRegexMatcher(javaPattern);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
 
 import java.io.Serializable;
-import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,7 +48,8 @@ public class RegexInit implements RegexImpl, Serializable {
      * This function determines the type of pattern we are working with
      * The return value of the function determines the type we are expecting
      * @param pattern
-     * @return int, 0 means this is java.util.regex,
+     * @return int, 0 means this is {@link Regex}, run by LinearRegex
+     * or java.util.regex,
      * 1 means this is dk.brics.automaton
      */
     private int determineBestRegexMethod( String pattern ) {
@@ -181,7 +181,7 @@ public class RegexInit implements RegexImpl, Serializable {
         int regexMethod = determineBestRegexMethod(pattern);
         switch( regexMethod ) {
         case 0:
-            impl = new CompiledRegex(Pattern.compile(pattern));
+            impl = new CompiledRegex(Regex.compile(pattern));
             break;
         case 1:
             try {
@@ -191,7 +191,7 @@ public class RegexInit implements RegexImpl, Serializable {
                 log.debug("Got an IllegalArgumentException for Pattern: " + pattern );
                 log.debug(e.getMessage());
                 log.debug("Switching to java.util.regex" );
-                impl = new CompiledRegex(Pattern.compile(pattern));
+                impl = new CompiledRegex(Regex.compile(pattern));
             }
             break;
         default:
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex;
+
+import org.apache.pig.data.DataByteArray;
+
+/**
+ * Matches a {@link Regex} against strings or UTF-8 bytes, with the semantics
+ * of {@link java.util.regex.Matcher}. A matcher keeps the state of the last
+ * match and is not thread safe.
+ */
+public abstract class RegexMatcher {
+
+    /**
+     * @return whether the whole string matches
+     */
+    public abstract boolean matches(String s);
+
+    /**
+     * @return whether the whole UTF-8 encoded input matches
+     */
+    public abstract boolean matches(byte[] utf8, int off, int len);
+
+    /**
+     * Looks for the first match in the string.
+     */
+    public abstract boolean find(String s);
+
+    /**
+     * Looks for the first match in the UTF-8 encoded input.
+     */
+    public abstract boolean find(byte[] utf8, int off, int len);
+
+    /**
+     * Matches a chararray, or the UTF-8 bytes of a bytearray as they are.
+     * @throws ClassCastException if the input is of another type
+     */
+    public boolean matches(Object input) {
+        if (input instanceof DataByteArray) {
+            DataByteArray b = (DataByteArray) input;
+            return matches(b.get(), 0, b.size());
+        }
+        return matches((String) input);
+    }
+
+    /**
+     * Looks for the first match in a chararray, or in the UTF-8 bytes of a
+     * bytearray as they are.
+     * @throws ClassCastException if the input is of another type
+     */
+    public boolean find(Object input) {
+        if (input instanceof DataByteArray) {
+            DataByteArray b = (DataByteArray) input;
+            return find(b.get(), 0, b.size());
+        }
+        return find((String) input);
+    }
+
+    /**
+     * Looks for the next match in the input of the last call to find.
+     */
+    public abstract boolean find();
+
+    /**
+     * @return number of capturing groups of the pattern
+     */
+    public abstract int groupCount();
+
+    /**
+     * @return the input captured by the group in the last match, null if the
+     *         group did not take part in it
+     */
+    public abstract String group(int group);
+
+    /**
+     * Replaces every match in the string, as {@link java.util.regex.Matcher#replaceAll}
+     * does.
+     */
+    public abstract String replaceAll(String s, String replacement);
+}
@@ -33,6 +33,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlan
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.InternalDistinctBag;
+import org.apache.pig.data.InternalHashDistinctBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.NodeIdGenerator;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -52,6 +53,7 @@ public class PODistinct extends PhysicalOperator implements Cloneable {
     private transient DataBag distinctBag;
     private transient boolean initialized;
     private transient boolean useDefaultBag;
+    private transient boolean useHashBag;
     private transient Iterator<Tuple> it;
 
     // PIG-3385: Since GlobalRearrange is not used by PODistinct, passing the
@@ -97,11 +99,18 @@ public class PODistinct extends PhysicalOperator implements Cloneable {
                      String bagType = PigMapReduce.sJobConfInternal.get().get(PigConfiguration.PIG_CACHEDBAG_DISTINCT_TYPE);
                      if (bagType != null && bagType.equalsIgnoreCase("default")) {
                          useDefaultBag = true;
+                     } else if (bagType != null && bagType.equalsIgnoreCase("hash")) {
+                         useHashBag = true;
                      }
                  }
              }
-             distinctBag = useDefaultBag ? mBagFactory.newDistinctBag()
-                     : new InternalDistinctBag(3);
+             if (useDefaultBag) {
+                 distinctBag = mBagFactory.newDistinctBag();
+             } else if (useHashBag) {
+                 distinctBag = new InternalHashDistinctBag(3);
+             } else {
+                 distinctBag = new InternalDistinctBag(3);
+             }
 
             Result in = processInput();
             while (in.returnStatus != POStatus.STATUS_EOP) {
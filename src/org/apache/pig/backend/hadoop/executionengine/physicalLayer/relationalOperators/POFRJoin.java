@@ -28,10 +28,13 @@ import java.util.Properties;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
@@ -39,6 +42,9 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin.TuplesToSchemaTupleList;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.DynamicPartitionFilter;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinCache;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinTable;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.NonSpillableDataBag;
@@ -94,6 +100,8 @@ public class POFRJoin extends PhysicalOperator {
     protected DataBag nullBag;
     protected Schema[] inputSchemas;
     protected Schema[] keySchemas;
+    // Prunes what the fragment reads to the keys of a replicated input
+    protected transient DynamicPartitionFilter partitionFilter;
 
     // The array of Hashtables one per replicated input. replicates[fragment] =
     // null fragment is the input which is fragmented and not replicated.
@@ -160,6 +168,7 @@ public class POFRJoin extends PhysicalOperator {
         this.isLeftOuterJoin = copy.isLeftOuterJoin;
         this.inputSchemas = copy.inputSchemas;
         this.keySchemas = copy.keySchemas;
+        this.partitionFilter = copy.partitionFilter;
     }
 
     private OperatorKey genKey(OperatorKey old) {
@@ -234,12 +243,8 @@ public class POFRJoin extends PhysicalOperator {
         Result res = null;
         Result inp = null;
         if (!setUp) {
-            replicates = new ArrayList<Map<? extends Object, ? extends List<Tuple>>>(phyPlanLists.size());
-            for (int i = 0 ; i < phyPlanLists.size(); i++) {
-                replicates.add(null);
-            }
+            setUpReplicates();
             dumTup = mTupleFactory.newTuple(1);
-            setUpHashMap();
             setUp = true;
         }
         if (processingPlan) {
@@ -299,14 +304,15 @@ public class POFRJoin extends PhysicalOperator {
                     continue;
                 }
                 Map<? extends Object, ? extends List<Tuple>> replicate = replicates.get(i);
-                if (replicate.get(key) == null) {
+                List<Tuple> values = replicate.get(key);
+                if (values == null) {
                     if (isLeftOuterJoin) {
                         ce.setValue(nullBag);
                     }
                     noMatch = true;
                     break;
                 }
-                ce.setValue(new NonSpillableDataBag(replicate.get(key)));
+                ce.setValue(new NonSpillableDataBag(values));
             }
 
             // If this is not LeftOuter Join and there was no match we
@@ -354,6 +360,63 @@ public class POFRJoin extends PhysicalOperator {
         }
     }
 
+    /**
+     * Sets up the replicated tables, taking them from the
+     * {@link ReplicatedJoinCache} if another task in this JVM built them
+     *
+     * @throws ExecException
+     */
+    protected void setUpReplicates() throws ExecException {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        long cacheBytes = conf == null ? 0
+                : conf.getLong(PigConfiguration.PIG_JOIN_REPLICATED_CACHE_BYTES, 0);
+        String cacheKey = cacheBytes > 0 ? getReplicatedCacheKey() : null;
+        if (cacheKey != null) {
+            List<Map<? extends Object, ? extends List<Tuple>>> cached =
+                    ReplicatedJoinCache.getInstance().get(cacheKey, this);
+            if (cached != null) {
+                replicates = cached;
+                return;
+            }
+        }
+        replicates = new ArrayList<Map<? extends Object, ? extends List<Tuple>>>(phyPlanLists.size());
+        for (int i = 0 ; i < phyPlanLists.size(); i++) {
+            replicates.add(null);
+        }
+        setUpHashMap();
+        if (cacheKey != null) {
+            replicates = ReplicatedJoinCache.getInstance().put(cacheKey, replicates, this, cacheBytes);
+        }
+    }
+
+    /**
+     * @return key of the replicated tables in the {@link ReplicatedJoinCache},
+     *         made of the replicated files and the plans of their keys, or
+     *         null if they are not to be cached
+     */
+    protected String getReplicatedCacheKey() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(fragment).append(',').append(useCompactTable());
+        for (int i = 0; i < replFiles.length; i++) {
+            if (i == fragment) {
+                continue;
+            }
+            sb.append('\n').append(replFiles[i].getFileName());
+            sb.append('\n').append(LRs[i].getPlans());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return true if the replicated inputs are to be kept in
+     *         {@link ReplicatedJoinTable}s instead of HashMaps of tuples
+     */
+    protected boolean useCompactTable() {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        return conf != null
+                && conf.getBoolean(PigConfiguration.PIG_JOIN_REPLICATED_COMPACT, false);
+    }
+
     /**
      * Builds the HashMaps by reading each replicated input from the DFS using a
      * Load operator
@@ -376,6 +439,7 @@ public class POFRJoin extends PhysicalOperator {
             }
         }
 
+        boolean compact = useCompactTable();
         int i = -1;
         long time1 = System.currentTimeMillis();
         for (FileSpec replFile : replFiles) {
@@ -404,8 +468,11 @@ public class POFRJoin extends PhysicalOperator {
             POLocalRearrange lr = LRs[i];
             lr.setInputs(Arrays.asList((PhysicalOperator) ld));
 
-            Map<Object, ArrayList<Tuple>> replicate;
-            if (keySchemaTupleFactory == null) {
+            ReplicatedJoinTable table = null;
+            Map<Object, ArrayList<Tuple>> replicate = null;
+            if (compact) {
+                table = new ReplicatedJoinTable();
+            } else if (keySchemaTupleFactory == null) {
                 replicate = new HashMap<Object, ArrayList<Tuple>>(1000);
             } else {
                 replicate = new TupleToMapKey(1000, keySchemaTupleFactory);
@@ -419,6 +486,10 @@ public class POFRJoin extends PhysicalOperator {
                 Object key = tuple.get(1);
                 if (isKeyNull(key)) continue;
                 Tuple value = getValueTuple(lr, tuple);
+                if (table != null) {
+                    table.add(key, value);
+                    continue;
+                }
 
                 ArrayList<Tuple> values = replicate.get(key);
                 if (values == null) {
@@ -431,7 +502,14 @@ public class POFRJoin extends PhysicalOperator {
                 }
                 values.add(value);
             }
-            replicates.set(i, replicate);
+            if (table != null) {
+                table.trimToSize();
+                log.info("Replicated input " + replFile.getFileName() + " holds "
+                        + table.getNumValues() + " rows in " + table.getMemorySize() + " bytes");
+                replicates.set(i, table);
+            } else {
+                replicates.set(i, replicate);
+            }
         }
         long time2 = System.currentTimeMillis();
         log.debug("Hash Table built. Time taken: " + (time2 - time1));
@@ -539,6 +617,14 @@ public class POFRJoin extends PhysicalOperator {
         this.replFiles = replFiles;
     }
 
+    public DynamicPartitionFilter getPartitionFilter() {
+        return partitionFilter;
+    }
+
+    public void setPartitionFilter(DynamicPartitionFilter partitionFilter) {
+        this.partitionFilter = partitionFilter;
+    }
+
     @Override
     public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
         // no op: all handled by the preceding POForEach
@@ -21,6 +21,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinTable;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.SchemaTupleBackend;
 import org.apache.pig.data.SchemaTupleClassGenerator;
@@ -35,6 +36,7 @@ public class POFRJoinSpark extends POFRJoin {
     private static final Log log = LogFactory.getLog(POFRJoinSpark.class);
 
     private Map<String, List<Tuple>> broadcasts;
+    private String broadcastsKey;
 
     public POFRJoinSpark(POFRJoin copy) throws ExecException {
         super(copy);
@@ -52,6 +54,7 @@ public class POFRJoinSpark extends POFRJoin {
         }
 
         replicates.set(fragment, null);
+        boolean compact = useCompactTable();
         int i = -1;
         long start = System.currentTimeMillis();
         for (int k = 0; k < inputSchemas.length; ++k) {
@@ -65,7 +68,8 @@ public class POFRJoinSpark extends POFRJoin {
                 continue;
             }
 
-            TupleToMapKey replicate = new TupleToMapKey(1000, keySchemaTupleFactory);
+            ReplicatedJoinTable table = compact ? new ReplicatedJoinTable() : null;
+            TupleToMapKey replicate = compact ? null : new TupleToMapKey(1000, keySchemaTupleFactory);
 
             log.debug("Completed setup. Trying to build replication hash table");
             List<Tuple> tuples = broadcasts.get(parentPlan.getPredecessors(this).get(i).getOperatorKey().toString());
@@ -82,6 +86,10 @@ public class POFRJoinSpark extends POFRJoin {
                 if (isKeyNull(tuple.get(1))) continue;
                 Object key = tuple.get(1);
                 Tuple value = getValueTuple(localRearrange, tuple);
+                if (table != null) {
+                    table.add(key, value);
+                    continue;
+                }
 
                 if (replicate.get(key) == null) {
                     replicate.put(key, new POMergeJoin.TuplesToSchemaTupleList(1, inputSchemaTupleFactory));
@@ -90,7 +98,14 @@ public class POFRJoinSpark extends POFRJoin {
                 replicate.get(key).add(value);
 
             }
-            replicates.set(i, replicate);
+            if (table != null) {
+                table.trimToSize();
+                log.info("Replicated input " + i + " holds " + table.getNumValues()
+                        + " rows in " + table.getMemorySize() + " bytes");
+                replicates.set(i, table);
+            } else {
+                replicates.set(i, replicate);
+            }
         }
         long end = System.currentTimeMillis();
         log.debug("Hash Table built. Time taken: " + (end - start));
@@ -110,6 +125,25 @@ public class POFRJoinSpark extends POFRJoin {
     }
 
     public void attachInputs(Map<String, List<Tuple>> broadcasts) {
+        attachInputs(broadcasts, null);
+    }
+
+    /**
+     * @param broadcasts replicated inputs by the operator key of their
+     *        predecessor
+     * @param broadcastsKey identifies the broadcast variables holding them,
+     *        tables are only shared across tasks when it is set
+     */
+    public void attachInputs(Map<String, List<Tuple>> broadcasts, String broadcastsKey) {
         this.broadcasts = broadcasts;
+        this.broadcastsKey = broadcastsKey;
+    }
+
+    @Override
+    protected String getReplicatedCacheKey() {
+        if (broadcastsKey == null) {
+            return null;
+        }
+        return mKey.toString() + "," + fragment + "," + useCompactTable() + "," + broadcastsKey;
     }
 }
@@ -25,6 +25,10 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOpera
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.LongColumnVector;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorExpressionBuilder;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -60,6 +64,14 @@ public class POFilter extends PhysicalOperator {
     // appropriate type
     // private byte compOperandType;
 
+    // Vectorized form of the plan, see isVectorized()
+    private transient boolean vectorChecked;
+    private transient VectorExpression vectorExpr;
+
+    // batch tuples are handed out from in getNextTuple when vectorized
+    private transient VectorBatch outBatch;
+    private transient int outPos;
+
     public POFilter(OperatorKey k) {
         this(k, -1, null);
     }
@@ -84,6 +96,9 @@ public class POFilter extends PhysicalOperator {
      */
     @Override
     public Result getNextTuple() throws ExecException {
+        if (isVectorized()) {
+            return getNextTupleFromBatch();
+        }
         Result res = null;
         Result inp = null;
         while (true) {
@@ -154,6 +169,71 @@ public class POFilter extends PhysicalOperator {
         return inp;
     }
 
+    /**
+     * Pulls batches from the input and narrows their selection to the rows
+     * the vectorized condition holds for, skipping batches where none do.
+     */
+    @Override
+    public Result getNextBatch(VectorBatch batch) throws ExecException {
+        if (!isVectorized()) {
+            return super.getNextBatch(batch);
+        }
+        while (true) {
+            if (getReporter() != null) {
+                getReporter().progress();
+            }
+            Result inp = inputs.get(0).getNextBatch(batch);
+            if (inp.returnStatus != POStatus.STATUS_OK) {
+                return inp;
+            }
+            batch.filter((LongColumnVector) vectorExpr.evaluate(batch));
+            if (batch.selectedCount > 0) {
+                return inp;
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsBatch() {
+        try {
+            return isVectorized();
+        } catch (ExecException e) {
+            return false;
+        }
+    }
+
+    private Result getNextTupleFromBatch() throws ExecException {
+        while (outPos >= outBatch.selectedCount) {
+            Result inp = getNextBatch(outBatch);
+            if (inp.returnStatus != POStatus.STATUS_OK) {
+                return inp;
+            }
+            outPos = 0;
+        }
+        return new Result(POStatus.STATUS_OK, outBatch.getRow(outBatch.selected[outPos++]));
+    }
+
+    /**
+     * The filter runs on batches when pig.exec.vectorized is set, its input
+     * can hand out batches and the condition only uses expressions that have
+     * a vectorized form.
+     */
+    private boolean isVectorized() throws ExecException {
+        if (!vectorChecked) {
+            vectorChecked = true;
+            int batchSize = VectorBatch.getConfiguredSize();
+            if (batchSize > 0 && illustrator == null && !isInputAttached()
+                    && inputs != null && inputs.size() == 1 && inputs.get(0).supportsBatch()) {
+                VectorExpression expr = VectorExpressionBuilder.build(plan, batchSize);
+                if (expr != null && expr.getResultType() == DataType.BOOLEAN) {
+                    vectorExpr = expr;
+                    outBatch = new VectorBatch(batchSize);
+                }
+            }
+        }
+        return vectorExpr != null;
+    }
+
     @Override
     public String name() {
         return getAliasString() + "Filter" + "["
@@ -179,6 +259,8 @@ public class POFilter extends PhysicalOperator {
     public void setPlan(PhysicalPlan plan) {
         this.plan = plan;
         comOp = plan.getLeaves().get(0);
+        vectorChecked = false;
+        vectorExpr = null;
 //        compOperandType = comOp.getOperandType();
     }
 
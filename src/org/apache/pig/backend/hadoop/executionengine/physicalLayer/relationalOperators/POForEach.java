@@ -35,6 +35,10 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PORelationToExprProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.ColumnVector;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector.VectorExpressionBuilder;
 import org.apache.pig.data.AccumulativeBag;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
@@ -112,6 +116,16 @@ public class POForEach extends PhysicalOperator {
 
     private Schema schema;
 
+    // Vectorized form of the plans, see isVectorized()
+    private transient boolean vectorChecked;
+    private transient VectorExpression[] vectorExprs;
+    private transient ColumnVector[] vectorCols;
+    private transient VectorBatch inputBatch;
+
+    // batch tuples are handed out from in getNextTuple when vectorized
+    private transient VectorBatch outBatch;
+    private transient int outPos;
+
     public POForEach(OperatorKey k) {
         this(k,-1,null,null);
     }
@@ -224,6 +238,9 @@ public class POForEach extends PhysicalOperator {
      */
     @Override
     public Result getNextTuple() throws ExecException {
+        if (isVectorized()) {
+            return getNextTupleFromBatch();
+        }
         try {
             Result res = null;
             Result inp = null;
@@ -346,7 +363,103 @@ public class POForEach extends PhysicalOperator {
         isEarlyTerminated = true;
     }
 
-    protected Result processPlan() throws ExecException{
+    /**
+     * Evaluates the vectorized plans over the next input batch, making the
+     * output batch carry one column per plan.
+     */
+    @Override
+    public Result getNextBatch(VectorBatch batch) throws ExecException {
+        if (!isVectorized()) {
+            return super.getNextBatch(batch);
+        }
+        if (getReporter() != null) {
+            getReporter().progress();
+        }
+        Result inp = inputs.get(0).getNextBatch(inputBatch);
+        if (inp.returnStatus != POStatus.STATUS_OK) {
+            return inp;
+        }
+        try {
+            for (int i = 0; i < noItems; i++) {
+                vectorCols[i] = vectorExprs[i].evaluate(inputBatch);
+            }
+        } catch (RuntimeException e) {
+            throw new ExecException("Error while executing ForEach at " + this.getOriginalLocations(), e);
+        }
+        batch.setColumns(inputBatch, vectorCols);
+        return new Result(POStatus.STATUS_OK, batch);
+    }
+
+    @Override
+    public boolean supportsBatch() {
+        try {
+            return isVectorized();
+        } catch (ExecException e) {
+            return false;
+        }
+    }
+
+    private Result getNextTupleFromBatch() throws ExecException {
+        while (outPos >= outBatch.selectedCount) {
+            Result inp = getNextBatch(outBatch);
+            if (inp.returnStatus != POStatus.STATUS_OK) {
+                return inp;
+            }
+            outPos = 0;
+        }
+        int row = outBatch.selected[outPos++];
+        if (data == null) {
+            data = new Object[noItems];
+        }
+        for (int i = 0; i < noItems; i++) {
+            data[i] = outBatch.getColumnVector(i).getObject(row);
+        }
+        initTupleMaker();
+        return new Result(POStatus.STATUS_OK, createTuple(data));
+    }
+
+    /**
+     * Subclasses that change how input is pulled or plans are run should
+     * return false so that they are never evaluated a batch at a time.
+     */
+    protected boolean canVectorize() {
+        return true;
+    }
+
+    /**
+     * The foreach runs on batches when pig.exec.vectorized is set, its input
+     * can hand out batches, nothing is flattened or accumulated and every
+     * plan has a vectorized form.
+     */
+    private boolean isVectorized() throws ExecException {
+        if (!vectorChecked) {
+            vectorChecked = true;
+            int batchSize = VectorBatch.getConfiguredSize();
+            if (batchSize <= 0 || !canVectorize() || illustrator != null || isInputAttached()
+                    || inputs == null || inputs.size() != 1 || !inputs.get(0).supportsBatch()
+                    || isAccumulative() || endOfAllInputProcessing || !opsToBeReset.isEmpty()
+                    || inputPlans == null || noItems == 0) {
+                return false;
+            }
+            VectorExpression[] exprs = new VectorExpression[noItems];
+            for (int i = 0; i < noItems; i++) {
+                if (isToBeFlattenedArray[i]) {
+                    return false;
+                }
+                exprs[i] = VectorExpressionBuilder.build(inputPlans.get(i), batchSize);
+                if (exprs[i] == null) {
+                    return false;
+                }
+            }
+            vectorExprs = exprs;
+            vectorCols = new ColumnVector[noItems];
+            inputBatch = new VectorBatch(batchSize);
+            outBatch = new VectorBatch(batchSize);
+        }
+        return vectorExprs != null;
+    }
+
+    private void initTupleMaker() {
         if (schema != null && tupleMaker == null) {
             // Note here that if SchemaTuple is currently turned on, then any UDF's in the chain
             // must follow good practices. Namely, they should not append to the Tuple that comes
@@ -359,6 +472,10 @@ public class POForEach extends PhysicalOperator {
         if (tupleMaker == null) {
             tupleMaker = TupleFactory.getInstance();
         }
+    }
+
+    protected Result processPlan() throws ExecException{
+        initTupleMaker();
 
         Result res = new Result();
 
@@ -624,6 +741,8 @@ public class POForEach extends PhysicalOperator {
     }
 
     private void reInitialize() {
+        vectorChecked = false;
+        vectorExprs = null;
         if(planLeafOps != null) {
             noItems = planLeafOps.length;
             resultTypes = new byte[noItems];
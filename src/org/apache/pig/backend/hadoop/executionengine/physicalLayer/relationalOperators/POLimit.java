@@ -70,6 +70,15 @@ public class POLimit extends PhysicalOperator {
     	return mLimit;
     }
 
+    /**
+     * @return whether as many tuples as the limit have been returned, after
+     *         which no more input is read
+     */
+    public boolean isLimitReached() {
+        return mLimit >= 0 && soFar >= mLimit
+                && (illustrator == null || illustrator.getOriginalLimit() != -1);
+    }
+
     public PhysicalPlan getLimitPlan() {
         return expressionPlan;
     }
@@ -131,6 +140,19 @@ public class POLimit extends PhysicalOperator {
         return inp;
     }
 
+    /**
+     * The limit is pushed up right after the load, so this lets a foreach
+     * below it, as in fetch mode, still pull its input a batch at a time.
+     * Batches are filled from {@link #getNextTuple()}, which keeps counting.
+     * Only a limit fed by a loader qualifies, never one in a plan that gets
+     * its input attached, such as a reduce plan after the package.
+     */
+    @Override
+    public boolean supportsBatch() {
+        return illustrator == null && !isInputAttached() && inputs != null
+                && inputs.size() == 1 && inputs.get(0).supportsBatch();
+    }
+
     @Override
     public String name() {
         return getAliasString() + "Limit - " + mKey.toString();
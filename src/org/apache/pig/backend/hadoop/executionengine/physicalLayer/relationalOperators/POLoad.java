@@ -153,6 +153,11 @@ public class POLoad extends PhysicalOperator {
         return res;
     }
 
+    @Override
+    public boolean supportsBatch() {
+        return illustrator == null;
+    }
+
     @Override
     public String name() {
         return (lFile != null) ? getAliasString() + "Load" + "(" + lFile.toString()
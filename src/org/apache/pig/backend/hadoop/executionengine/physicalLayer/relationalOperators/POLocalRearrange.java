@@ -17,6 +17,7 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,8 +25,11 @@ import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
@@ -34,6 +38,8 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataType;
+import org.apache.pig.data.SelfSpillBag;
+import org.apache.pig.data.SerializedTupleSet;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -129,6 +135,11 @@ public class POLocalRearrange extends PhysicalOperator {
 
     protected transient Result inp;
 
+    // keys of distinct already emitted, when dropping duplicates in map
+    private transient boolean mapDistinctChecked;
+    private transient SerializedTupleSet emittedKeys;
+    private transient SelfSpillBag.MemoryLimits emittedKeysLimit;
+
     public POLocalRearrange(OperatorKey k) {
         this(k, -1, null);
     }
@@ -384,6 +395,10 @@ public class POLocalRearrange extends PhysicalOperator {
                 detachPlans(secondaryPlans);
             }
 
+            if (mIsDistinct && illustrator == null && isEmitted(((Tuple) res.result).get(1))) {
+                continue;
+            }
+
             res.result = illustratorMarkup(inp.result, res.result, 0);
             return res;
         }
@@ -391,6 +406,45 @@ public class POLocalRearrange extends PhysicalOperator {
     }
 
 
+    /**
+     * Remembers the keys of distinct emitted by the task when
+     * {@link PigConfiguration#PIG_EXEC_MAP_DISTINCT} is set. The keys are
+     * forgotten whenever they fill the memory they may use, duplicates left
+     * are dropped by the combiner and the reducer.
+     * @return whether the key was emitted before
+     */
+    private boolean isEmitted(Object key) throws ExecException {
+        if (!mapDistinctChecked) {
+            mapDistinctChecked = true;
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            if (conf != null && conf.getBoolean(PigConfiguration.PIG_EXEC_MAP_DISTINCT, false)) {
+                emittedKeys = new SerializedTupleSet();
+                emittedKeysLimit = new SelfSpillBag.MemoryLimits(1, -1);
+            }
+        }
+        if (emittedKeys == null || !(key instanceof Tuple)) {
+            return false;
+        }
+        try {
+            if (!emittedKeysLimit.canHold(emittedKeys.size() + 1)) {
+                emittedKeys.clear();
+                emittedKeysLimit.release();
+            }
+            if (!emittedKeys.add((Tuple) key)) {
+                return true;
+            }
+            if (emittedKeys.size() <= 100) {
+                emittedKeysLimit.addNewObjSize(emittedKeys.getLength(emittedKeys.size() - 1)
+                        + SerializedTupleSet.ENTRY_OVERHEAD);
+            }
+            return false;
+        } catch (IOException e) {
+            int errCode = 2232;
+            String msg = "Unable to keep the keys of distinct in memory";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
     private void detachPlans(List<PhysicalPlan> plans) {
         for (PhysicalPlan ep : plans) {
             ep.detachInput();
@@ -71,6 +71,11 @@ public class POOptimizedForEach extends POForEach {
         v.visitPOOptimizedForEach(this);
     }
 
+    @Override
+    protected boolean canVectorize() {
+        return false;
+    }
+
     @Override
     public String name() {
         String fString = getFlatStr();
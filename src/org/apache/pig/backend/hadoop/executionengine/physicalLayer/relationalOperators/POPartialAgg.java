@@ -18,6 +18,7 @@
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,9 +37,11 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PartialAggTable;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.NonSpillableDataBag;
 import org.apache.pig.data.SelfSpillBag.MemoryLimits;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -46,6 +49,7 @@ import org.apache.pig.impl.plan.VisitorException;
 import org.apache.pig.impl.util.GroupingSpillable;
 import org.apache.pig.impl.util.Spillable;
 import org.apache.pig.impl.util.SpillableMemoryManager;
+import org.apache.pig.impl.util.TaskMemoryPool;
 
 import com.google.common.collect.Maps;
 
@@ -55,6 +59,12 @@ import com.google.common.collect.Maps;
  * are fed these buffered up inputs, and results stored in a secondary
  * map. Once that map fills up or all input has been seen, results are
  * piped out into the next operator (caller of getNext()).
+ * <p>
+ * If pig.exec.mapPartAgg.memory is set, inputs go into a
+ * {@link PartialAggTable} instead, which combines the inputs of a key every
+ * few records and is piped out once it has used up that many bytes. With a
+ * {@link TaskMemoryPool} the table is always used, and is also piped out
+ * when the pool can not cover its bytes.
  */
 public class POPartialAgg extends PhysicalOperator implements Spillable, GroupingSpillable {
     private static final Log LOG = LogFactory.getLog(POPartialAgg.class);
@@ -89,7 +99,9 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
     private static final int FIRST_TIER_THRESHOLD = 20000;
     private static final int SECOND_TIER_THRESHOLD = FIRST_TIER_THRESHOLD / DEFAULT_MIN_REDUCTION;
 
-    private static final WeakHashMap<POPartialAgg, Byte> ALL_POPARTS = new WeakHashMap<POPartialAgg, Byte>();
+    // Synchronized as the map tasks of a local job may run concurrently
+    private static final Map<POPartialAgg, Byte> ALL_POPARTS =
+            Collections.synchronizedMap(new WeakHashMap<POPartialAgg, Byte>());
 
     private PhysicalPlan keyPlan;
     private ExpressionOperator keyLeaf;
@@ -131,6 +143,14 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
     private transient int avgTupleSize;
     private transient Iterator<Entry<Object, List<Tuple>>> spillingIterator;
 
+    // Used instead of the two maps when pig.exec.mapPartAgg.memory is set
+    private transient PartialAggTable aggTable;
+    private transient boolean drainingTable;
+    private transient volatile boolean tableSpillRequested;
+    // Bytes of aggTable taken from the task memory pool, if there is one
+    private transient TaskMemoryPool.Reservation tableReservation;
+    private transient int numRecsInTable;
+
     public POPartialAgg(OperatorKey k) {
         this(k, false);
     }
@@ -152,6 +172,7 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         avgTupleSize = 0;
         percentUsage = 0.2F;
         spillLock = new Object();
+        long tableMemory = 0;
         if (PigMapReduce.sJobConfInternal.get() != null) {
             String usage = PigMapReduce.sJobConfInternal.get().get(
                     PigConfiguration.PIG_CACHEDBAG_MEMUSAGE);
@@ -165,8 +186,32 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
                         DEFAULT_MIN_REDUCTION);
                 minOutputReduction = DEFAULT_MIN_REDUCTION;
             }
+            tableMemory = PigMapReduce.sJobConfInternal.get().getLong(
+                    PigConfiguration.PIG_EXEC_MAP_PARTAGG_MEMORY, 0);
+        }
+        TaskMemoryPool pool = TaskMemoryPool.getInstance();
+        if (pool != null) {
+            // The pool bounds the table, along with the other consumers
+            if (tableMemory <= 0 || tableMemory > pool.getCapacity()) {
+                tableMemory = pool.getCapacity();
+            }
+            tableReservation = pool.newReservation();
         }
-        if (percentUsage <= 0) {
+        if (tableMemory > 0) {
+            LOG.info("Using a partial aggregation table of " + tableMemory + " bytes.");
+            aggTable = new PartialAggTable(keyLeaf.getResultType(), tableMemory,
+                    new PartialAggTable.Combiner() {
+                        @Override
+                        public Tuple combine(Object key, Tuple[] rows, int count) throws ExecException {
+                            return combineRows(key, rows, count);
+                        }
+                    });
+            // The table has its own budget, no need to estimate thresholds
+            estimatedMemThresholds = true;
+            SpillableMemoryManager.getInstance().registerSpillable(this);
+            initialized = true;
+            return;
+        } else if (percentUsage <= 0) {
             LOG.info("No memory allocated to intermediate memory buffers. Turning off partial aggregation.");
             disableMapAgg = true;
             // Set them to true instead of adding another check for !disableMapAgg
@@ -208,6 +253,9 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         if (!initialized) {
             init();
         }
+        if (aggTable != null) {
+            return getNextFromTable();
+        }
 
         while (true) {
             if (!sizeReductionChecked && numRecsInRawMap >= numRecordsToSample) {
@@ -298,6 +346,120 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
         }
     }
 
+    /**
+     * getNextTuple() when inputs are aggregated in aggTable. Once the table
+     * is full it is folded, and if that does not free enough memory, its
+     * contents are returned one key at a time before more input is read.
+     */
+    private Result getNextFromTable() throws ExecException {
+        while (true) {
+            if (drainingTable) {
+                Tuple out = aggTable.poll();
+                if (out != null) {
+                    return new Result(POStatus.STATUS_OK, out);
+                }
+                drainingTable = false;
+                if (tableReservation != null) {
+                    tableReservation.shrink(aggTable.getMemorySize());
+                }
+                if (inputsExhausted) {
+                    return EOP_RESULT;
+                }
+            }
+            if (mapAggDisabled()) {
+                // The table has been emitted. Free it, getNextTuple() passes
+                // the records through from now on.
+                aggTable = null;
+                if (tableReservation != null) {
+                    tableReservation.release();
+                    tableReservation = null;
+                }
+                return processInput();
+            }
+            if (tableSpillRequested) {
+                tableSpillRequested = false;
+                LOG.info("Emitting " + aggTable.size() + " keys from partial aggregation table"
+                        + " for SpillableMemoryManager.");
+                drainingTable = true;
+                continue;
+            }
+            Result inp = processInput();
+            if (inp.returnStatus == POStatus.STATUS_ERR) {
+                return inp;
+            } else if (inp.returnStatus == POStatus.STATUS_EOP) {
+                if (parentPlan.endOfAllInput) {
+                    inputsExhausted = true;
+                    drainingTable = true;
+                    continue;
+                }
+                return EOP_RESULT;
+            } else if (inp.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            }
+            Tuple inpTuple = (Tuple) inp.result;
+            keyPlan.attachInput(inpTuple);
+            Result keyRes = getResult(keyLeaf);
+            if (keyRes.returnStatus != POStatus.STATUS_OK) {
+                return keyRes;
+            }
+            Object key = keyRes.result;
+            keyPlan.detachInput();
+            numRecsInTable++;
+            boolean full = !aggTable.add(key, inpTuple) || !reserveTable();
+            if (full) {
+                aggTable.foldAll();
+                full = aggTable.isFull() || !reserveTable();
+            }
+            if (!sizeReductionChecked && (full || numRecsInTable >= numRecordsToSample)) {
+                checkTableReduction();
+            }
+            if (full && !drainingTable) {
+                LOG.info("Partial aggregation table is full with " + aggTable.size() + " keys and "
+                        + aggTable.getMemorySize() + " bytes. Emitting it.");
+                drainingTable = true;
+            }
+        }
+    }
+
+    private boolean reserveTable() {
+        return tableReservation == null || tableReservation.reserve(aggTable.getMemorySize());
+    }
+
+    private void checkTableReduction() {
+        int reduction = numRecsInTable / Math.max(1, aggTable.size());
+        LOG.info("Observed reduction factor: from " + numRecsInTable + " to " + aggTable.size()
+                + " => " + reduction + ".");
+        if (reduction < minOutputReduction) {
+            LOG.info("Disabling in-memory aggregation, since observed reduction is less than "
+                    + minOutputReduction);
+            disableMapAgg = true;
+            drainingTable = true;
+        }
+        sizeReduction = reduction;
+        sizeReductionChecked = true;
+    }
+
+    /**
+     * Runs the value plans over records of the same key, the way
+     * createValueTuple and getOutput do for the lists in the hash maps.
+     */
+    private Tuple combineRows(Object key, Tuple[] rows, int count) throws ExecException {
+        Tuple valueTuple = mTupleFactory.newTuple(valuePlans.size() + 1);
+        valueTuple.set(0, key);
+        for (int i = 0; i < valuePlans.size(); i++) {
+            List<Tuple> values = new ArrayList<Tuple>(count);
+            for (int j = 0; j < count; j++) {
+                values.add((Tuple) rows[j].get(i + 1));
+            }
+            valueTuple.set(i + 1, new NonSpillableDataBag(values));
+        }
+        Result res = getOutput(key, valueTuple);
+        if (res.returnStatus != POStatus.STATUS_OK) {
+            throw new ExecException("Partial aggregation failed for key " + key);
+        }
+        return getAggResultTuple(res.result);
+    }
+
     private void freeMemory() throws ExecException {
         if (rawInputMap != null && !rawInputMap.isEmpty()) {
             throw new ExecException("Illegal state. Trying to free up partial aggregation maps when they are not empty");
@@ -684,6 +846,13 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
     public long spill() {
         if (mapAggDisabled()) {
             return 0;
+        } else if (aggTable != null) {
+            // The table cannot be emitted from this thread. Ask the main
+            // thread to do it the next time it gets to this operator.
+            if (!aggTable.isEmpty()) {
+                tableSpillRequested = true;
+            }
+            return 0;
         } else {
             if (doContingentSpill && !startedContingentSpill) {
                 LOG.info("Spill triggered by SpillableMemoryManager, but previous spill call is still not processed. Skipping");
@@ -733,6 +902,9 @@ public class POPartialAgg extends PhysicalOperator implements Spillable, Groupin
 
     @Override
     public long getMemorySize() {
+        if (aggTable != null) {
+            return aggTable.getMemorySize();
+        }
         return avgTupleSize * (numRecsInProcessedMap + numRecsInRawMap);
     }
 
@@ -33,12 +33,14 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserComparisonFunc;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.InternalSortedBag;
+import org.apache.pig.data.SortedSpillBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
@@ -80,6 +82,8 @@ public class POSort extends PhysicalOperator {
     private transient Iterator<Tuple> it;
     private transient boolean initialized;
     private transient boolean useDefaultBag;
+    // Comparator of the InternalSortedBag
+    private transient Comparator<Tuple> bagComparator;
 
 	public POSort(
             OperatorKey k,
@@ -148,13 +152,16 @@ public class POSort extends PhysicalOperator {
 				try {
 					plan.attachInput(o1);
 					Result res1 = getResult(plan, ExprOutputTypes.get(count));
+					// the leaf may hand back the same Result for o2
+					byte status1 = res1.returnStatus;
+					Object result1 = res1.result;
 					plan.attachInput(o2);
 					Result res2 = getResult(plan, ExprOutputTypes.get(count));
-					if(res1.returnStatus != POStatus.STATUS_OK || res2.returnStatus != POStatus.STATUS_OK) {
+					if(status1 != POStatus.STATUS_OK || res2.returnStatus != POStatus.STATUS_OK) {
 						log.error("Error processing the input in the expression plan : " + plan.toString());
 					} else {
 						if(mAscCols.get(count++)) {
-							ret = DataType.compare(res1.result, res2.result);
+							ret = DataType.compare(result1, res2.result);
                             // If they are not equal, return
                             // Otherwise, keep comparing the next one
                             if (ret != 0) {
@@ -162,7 +169,7 @@ public class POSort extends PhysicalOperator {
                             }
                         }
                         else {
-                            ret = DataType.compare(res2.result, res1.result);
+                            ret = DataType.compare(res2.result, result1);
                             if (ret != 0) {
                                 return ret ;
                             }
@@ -209,6 +216,84 @@ public class POSort extends PhysicalOperator {
 		}
 	}
 
+	/**
+	 * Compares tuples on the columns projected by the sort plans without
+	 * running the plans, so that it can be called from several threads.
+	 */
+	private static class ColumnSortComparator implements SortedSpillBag.ThreadSafeComparator {
+        private final int[] columns;
+        private final boolean[] asc;
+
+        ColumnSortComparator(int[] columns, boolean[] asc) {
+            this.columns = columns;
+            this.asc = asc;
+        }
+
+        @Override
+        public int compare(Tuple t1, Tuple t2) {
+            try {
+                for (int i = 0; i < columns.length; i++) {
+                    Object o1 = get(t1, columns[i]);
+                    Object o2 = get(t2, columns[i]);
+                    int ret = asc[i] ? DataType.compare(o1, o2) : DataType.compare(o2, o1);
+                    if (ret != 0) {
+                        return ret;
+                    }
+                }
+            } catch (ExecException e) {
+                log.error("Invalid result while comparing columns of " + t1 + " and " + t2 + "\n" + e.getMessage());
+            }
+            return 0;
+        }
+
+        private static Object get(Tuple t, int column) throws ExecException {
+            // like POProject, a missing column is null
+            return column < t.size() ? t.get(column) : null;
+        }
+	}
+
+	/**
+	 * @return a {@link ColumnSortComparator} if every sort plan projects a
+	 *         single column of a type the sort supports, otherwise mComparator
+	 */
+	private Comparator<Tuple> getBagComparator() throws ExecException {
+        if (mSortFunc != null || sortPlans == null || sortPlans.isEmpty()) {
+            return mComparator;
+        }
+        int[] columns = new int[sortPlans.size()];
+        boolean[] asc = new boolean[sortPlans.size()];
+        for (int i = 0; i < columns.length; i++) {
+            PhysicalPlan plan = sortPlans.get(i);
+            if (plan.size() != 1 || !(plan.getLeaves().get(0) instanceof POProject)) {
+                return mComparator;
+            }
+            POProject project = (POProject) plan.getLeaves().get(0);
+            if (project.isProjectToEnd() || project.isOverloaded() || project.getColumns().size() != 1) {
+                return mComparator;
+            }
+            switch (ExprOutputTypes.get(i)) {
+            case DataType.BYTEARRAY:
+            case DataType.CHARARRAY:
+            case DataType.DOUBLE:
+            case DataType.FLOAT:
+            case DataType.BOOLEAN:
+            case DataType.INTEGER:
+            case DataType.LONG:
+            case DataType.BIGINTEGER:
+            case DataType.BIGDECIMAL:
+            case DataType.DATETIME:
+            case DataType.TUPLE:
+                break;
+            default:
+                // SortComparator fails on these
+                return mComparator;
+            }
+            columns[i] = project.getColumn();
+            asc[i] = mAscCols.get(i);
+        }
+        return new ColumnSortComparator(columns, asc);
+	}
+
 	public class UDFSortComparator implements Comparator<Tuple>,Serializable {
 
 		/**
@@ -266,6 +351,12 @@ public class POSort extends PhysicalOperator {
                         useDefaultBag = true;
                     }
                 }
+                bagComparator = mComparator;
+                if (!useDefaultBag && PigMapReduce.sJobConfInternal.get() != null
+                        && PigMapReduce.sJobConfInternal.get().getBoolean(PigConfiguration.PIG_SORTEDBAG_PARALLEL, false)) {
+                    // lets the bag sort in parallel
+                    bagComparator = getBagComparator();
+                }
             }
 
             if (isLimited()) {
@@ -274,7 +365,7 @@ public class POSort extends PhysicalOperator {
                 // by default, we create InternalSortedBag, unless user configures
                 // explicitly to use old bag
 	            sortedBag = useDefaultBag ? mBagFactory.newSortedBag(mComparator)
-	                    : new InternalSortedBag(3, mComparator);
+	                    : new InternalSortedBag(3, bagComparator);
             }
 
             while (inp.returnStatus != POStatus.STATUS_EOP) {
@@ -25,6 +25,7 @@ import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.fetch.FetchLauncher;
@@ -46,6 +47,7 @@ public class POStream extends PhysicalOperator {
     private String executableManagerStr;            // String representing ExecutableManager to use
     private StreamingCommand command;               // Actual command to be run
     private Properties properties;
+    private int queueSize = 1;                      // Capacity of the queues to and from the binary
 
     protected BlockingQueue<Result> binaryOutputQueue = new ArrayBlockingQueue<Result>(1);
 
@@ -73,6 +75,10 @@ public class POStream extends PhysicalOperator {
         this.executableManagerStr = executableManager.getClass().getName();
         this.command = command;
         this.properties = properties;
+        this.queueSize = Math.max(1, Integer.parseInt(
+                properties.getProperty(PigConfiguration.PIG_STREAMING_QUEUE_SIZE, "1")));
+        this.binaryOutputQueue = new ArrayBlockingQueue<Result>(queueSize);
+        this.binaryInputQueue = new ArrayBlockingQueue<Result>(queueSize);
 
         // Setup streaming-specific properties
         if (command.getShipFiles()) {
@@ -385,8 +391,8 @@ public class POStream extends PhysicalOperator {
     @Override
     public PhysicalOperator clone() throws CloneNotSupportedException {
         POStream clone = (POStream)super.clone();
-        clone.binaryOutputQueue = new ArrayBlockingQueue<Result>(1);
-        clone.binaryInputQueue = new ArrayBlockingQueue<Result>(1);
+        clone.binaryOutputQueue = new ArrayBlockingQueue<Result>(queueSize);
+        clone.binaryInputQueue = new ArrayBlockingQueue<Result>(queueSize);
         //Not cloning StreamingCommand as it is read only
         return clone;
     }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.BinaryExpression;
+import org.apache.pig.Expression.Column;
+import org.apache.pig.Expression.Const;
+import org.apache.pig.Expression.InExpression;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPredicatePushdown;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFRJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.ReadToEndLoader;
+import org.apache.pig.impl.util.Utils;
+
+/**
+ * Dynamic partition pruning of a replicated join. The join key of the
+ * fragment is a column of its loader, either a partition key of a
+ * {@link LoadMetadata} or a predicate field of a {@link LoadPredicatePushdown}.
+ * Once the replicated input has been materialized, its distinct join keys are
+ * passed to the loader of the fragment as a filter on that column, and'ed with
+ * the filter the optimizer pushed down, before the splits of the fragment are
+ * computed.
+ * <p>
+ * It is set on the {@link POFRJoin} when the plan is translated and applied
+ * by the mapreduce launcher when it compiles the job of the join.
+ */
+public class DynamicPartitionFilter {
+
+    private static final Log LOG = LogFactory.getLog(DynamicPartitionFilter.class);
+
+    public static final int DEFAULT_MAX_KEYS = 1000;
+
+    private final String loadSignature;
+    private final String column;
+    private final byte type;
+    private final boolean partitionKey;
+    private final boolean supportsIn;
+    private final Expression pushedFilter;
+    private final int input;
+
+    /**
+     * @param loadSignature signature of the load of the fragment
+     * @param column name of the column in the schema of the loader
+     * @param type type of the column
+     * @param partitionKey whether the column is a partition key, otherwise it
+     *        is a predicate field
+     * @param supportsIn whether the loader supports {@link OpType#OP_IN}
+     * @param pushedFilter filter already set on the loader, or null
+     * @param input replicated input the keys are read from
+     */
+    public DynamicPartitionFilter(String loadSignature, String column, byte type,
+            boolean partitionKey, boolean supportsIn, Expression pushedFilter, int input) {
+        this.loadSignature = loadSignature;
+        this.column = column;
+        this.type = type;
+        this.partitionKey = partitionKey;
+        this.supportsIn = supportsIn;
+        this.pushedFilter = pushedFilter;
+        this.input = input;
+    }
+
+    /**
+     * Sets the filter on the loader of the fragment of the join if it is one
+     * of the loads and there are not too many keys.
+     * @param join replicated join whose replicated inputs are materialized
+     * @param lds loads of the job of the join
+     * @param conf configuration of the job
+     * @return the filter set, or null
+     */
+    public Expression apply(POFRJoin join, List<POLoad> lds, Configuration conf) throws IOException {
+        POLoad load = null;
+        for (POLoad ld : lds) {
+            if (loadSignature.equals(ld.getSignature())) {
+                load = ld;
+            }
+        }
+        List<PhysicalPlan> keyPlans = join.getJoinPlans().get(input);
+        if (load == null || join.getReplFiles() == null || keyPlans.size() != 1
+                || keyPlans.get(0).size() != 1) {
+            return null;
+        }
+        PhysicalOperator key = keyPlans.get(0).getLeaves().get(0);
+        if (!(key instanceof POProject) || ((POProject) key).isProjectToEnd()
+                || ((POProject) key).isStar() || ((POProject) key).getColumns().size() != 1) {
+            return null;
+        }
+        int col = ((POProject) key).getColumn();
+
+        int maxKeys = conf.getInt(PigConfiguration.PIG_DYNAMIC_PARTITION_PRUNING_MAX_KEYS,
+                DEFAULT_MAX_KEYS);
+        Set<Object> keys = new LinkedHashSet<Object>();
+        ReadToEndLoader loader = new ReadToEndLoader(Utils.getTmpFileStorageObject(conf), conf,
+                join.getReplFiles()[input].getFileName(), 0);
+        Tuple t;
+        while ((t = loader.getNext()) != null) {
+            Object value = col < t.size() ? t.get(col) : null;
+            // null keys never match
+            if (value != null && keys.add(value) && keys.size() > maxKeys) {
+                LOG.info("More than " + maxKeys + " join keys, not pruning the partitions of "
+                        + load.getLFile().getFileName());
+                return null;
+            }
+        }
+        if (keys.isEmpty()) {
+            return null;
+        }
+
+        Expression filter = getFilter(keys);
+        LoadFunc lf = load.getLoadFunc();
+        LOG.info("Setting dynamic partition filter [" + filter + "] on loader " + lf
+                + " of " + load.getLFile().getFileName());
+        if (partitionKey) {
+            ((LoadMetadata) lf).setPartitionFilter(filter);
+        } else {
+            ((LoadPredicatePushdown) lf).setPushdownPredicate(filter);
+        }
+        return filter;
+    }
+
+    Expression getFilter(Set<Object> keys) {
+        Expression filter;
+        if (supportsIn) {
+            filter = new BinaryExpression(new Column(column, type),
+                    new InExpression(new ArrayList<Object>(keys)), OpType.OP_IN);
+        } else {
+            filter = null;
+            for (Object key : keys) {
+                Expression eq = new BinaryExpression(new Column(column, type), new Const(key),
+                        OpType.OP_EQ);
+                filter = filter == null ? eq : new BinaryExpression(filter, eq, OpType.OP_OR);
+            }
+        }
+        if (pushedFilter != null) {
+            filter = new BinaryExpression(pushedFilter, filter, OpType.OP_AND);
+        }
+        return filter;
+    }
+}
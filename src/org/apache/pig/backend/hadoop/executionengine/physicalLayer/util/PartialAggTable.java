@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.util;
+
+import java.util.Arrays;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.SizeUtil;
+import org.apache.pig.data.Tuple;
+
+/**
+ * Hash table used by POPartialAgg to hold partial aggregates per group key.
+ * <p>
+ * Keys are kept in open addressing arrays with linear probing. int and long
+ * keys are stored unboxed in a long[]; chararray and other keys are stored
+ * as Objects next to their spread hash codes, so most probes do not call
+ * equals. If a key of an unexpected class shows up, for example a chararray
+ * under a key plan typed as int, the table converts itself to Object keys.
+ * <p>
+ * Each key holds at most {@link #FOLD_SIZE} rows. When that is reached the
+ * rows are folded into one by the {@link Combiner}, which replaces them in
+ * place, so a key never holds more than one partial aggregate plus a few
+ * rows waiting to be combined.
+ * <p>
+ * The table keeps an account of the bytes it uses: its arrays are counted
+ * exactly, keys and rows with {@link SizeUtil} and {@link Tuple#getMemorySize()}.
+ * It never grows its arrays past the byte budget; {@link #add(Object, Tuple)}
+ * returns false once the budget is used up, and the caller is expected to
+ * {@link #foldAll()} and, if the table is still full, drain it with
+ * {@link #poll()} before adding more rows.
+ */
+public class PartialAggTable {
+
+    /**
+     * Combines rows that share a key into a single row.
+     */
+    public interface Combiner {
+        /**
+         * @param key the group key
+         * @param rows rows of the form (key, value1, value2, ...)
+         * @param count number of rows to use from the start of rows
+         * @return one row of the same form
+         */
+        Tuple combine(Object key, Tuple[] rows, int count) throws ExecException;
+    }
+
+    /** Rows held per key before they are combined. */
+    public static final int FOLD_SIZE = 16;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // Sizes assumed for a 64 bit JVM without compressed references
+    private static final int REF_SIZE = 8;
+    private static final int ARRAY_HEADER = 16;
+
+    private static final byte LONG_KEYS = 0;
+    private static final byte STRING_KEYS = 1;
+    private static final byte OBJECT_KEYS = 2;
+
+    private final byte keyType;
+    private final long budget;
+    private final Combiner combiner;
+
+    private byte keyKind;
+    private int capacity;
+    // number of keys, and number of them held in the arrays (all but null)
+    private int size;
+    private int used;
+
+    private long[] longKeys;
+    private Object[] keys;
+    private int[] hashes;
+    private Tuple[][] rows;
+    private int[] counts;
+    // bytes used by the key object, the rows and the rows array of each slot
+    private long[] slotBytes;
+
+    private Tuple[] nullKeyRows;
+    private int nullKeyCount;
+    private long nullKeyBytes;
+
+    private long arrayBytes;
+    private long entryBytes;
+
+    // next slot to look at in poll(); -1 means the null key
+    private int pollPos = -1;
+    private boolean draining;
+
+    /**
+     * @param keyType Pig type of the group key, used to pick the key storage
+     * @param budget maximum number of bytes the table should take
+     * @param combiner folds rows of the same key
+     */
+    public PartialAggTable(byte keyType, long budget, Combiner combiner) {
+        this.keyType = keyType;
+        this.budget = budget;
+        this.combiner = combiner;
+        switch (keyType) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+            keyKind = LONG_KEYS;
+            break;
+        case DataType.CHARARRAY:
+            keyKind = STRING_KEYS;
+            break;
+        default:
+            keyKind = OBJECT_KEYS;
+        }
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds a row of the form (key, value1, value2, ...) under key.
+     *
+     * @return false if the table is full, in which case it has to be folded
+     * and, if it is still full, drained before anything else is added
+     */
+    public boolean add(Object key, Tuple row) throws ExecException {
+        if (draining) {
+            throw new IllegalStateException("Cannot add to a table that is being drained");
+        }
+        long rowBytes = row.getMemorySize();
+        if (key == null) {
+            if (nullKeyRows == null) {
+                nullKeyRows = new Tuple[2];
+                nullKeyBytes = rowsArrayBytes(2);
+                entryBytes += nullKeyBytes;
+                size++;
+            } else if (nullKeyCount == nullKeyRows.length) {
+                long grown = rowsArrayBytes(nullKeyRows.length * 2) - rowsArrayBytes(nullKeyRows.length);
+                nullKeyRows = Arrays.copyOf(nullKeyRows, nullKeyRows.length * 2);
+                nullKeyBytes += grown;
+                entryBytes += grown;
+            }
+            nullKeyRows[nullKeyCount++] = row;
+            nullKeyBytes += rowBytes;
+            entryBytes += rowBytes;
+            if (nullKeyCount == FOLD_SIZE) {
+                foldNullKey();
+            }
+            return !isFull();
+        }
+
+        if (!acceptsKey(key)) {
+            convertToObjectKeys();
+        }
+        int slot = findSlot(key);
+        if (rows[slot] == null) {
+            if (used + 1 > capacity * LOAD_FACTOR && canGrow()) {
+                resize(capacity * 2);
+                slot = findSlot(key);
+            }
+            if (used + 1 >= capacity) {
+                // linear probing needs at least one empty slot
+                throw new IllegalStateException("Partial aggregation table is full");
+            }
+            insertKey(slot, key);
+        }
+        Tuple[] r = rows[slot];
+        if (counts[slot] == r.length) {
+            long grown = rowsArrayBytes(r.length * 2) - rowsArrayBytes(r.length);
+            r = rows[slot] = Arrays.copyOf(r, r.length * 2);
+            slotBytes[slot] += grown;
+            entryBytes += grown;
+        }
+        r[counts[slot]++] = row;
+        slotBytes[slot] += rowBytes;
+        entryBytes += rowBytes;
+        if (counts[slot] == FOLD_SIZE) {
+            fold(slot);
+        }
+        return !isFull();
+    }
+
+    /**
+     * Combines the rows of every key that holds more than one.
+     */
+    public void foldAll() throws ExecException {
+        if (nullKeyCount > 1) {
+            foldNullKey();
+        }
+        for (int i = 0; i < capacity; i++) {
+            if (rows[i] != null && counts[i] > 1) {
+                fold(i);
+            }
+        }
+    }
+
+    /**
+     * Removes one key from the table and returns its combined row, or null
+     * once the table is empty. After the first call the table must be
+     * drained completely before rows are added again.
+     */
+    public Tuple poll() throws ExecException {
+        draining = true;
+        if (pollPos == -1) {
+            pollPos = 0;
+            if (nullKeyRows != null) {
+                if (nullKeyCount > 1) {
+                    foldNullKey();
+                }
+                Tuple t = nullKeyRows[0];
+                entryBytes -= nullKeyBytes;
+                nullKeyRows = null;
+                nullKeyCount = 0;
+                nullKeyBytes = 0;
+                size--;
+                return t;
+            }
+        }
+        while (pollPos < capacity) {
+            int slot = pollPos++;
+            if (rows[slot] != null) {
+                if (counts[slot] > 1) {
+                    fold(slot);
+                }
+                Tuple t = rows[slot][0];
+                clearSlot(slot);
+                size--;
+                used--;
+                return t;
+            }
+        }
+        // drained; keep the arrays for the next round
+        pollPos = -1;
+        draining = false;
+        return null;
+    }
+
+    /**
+     * @return true once the bytes in use reach the budget, or the key arrays
+     * are as large as the budget allows and have no room left
+     */
+    public boolean isFull() {
+        return getMemorySize() >= budget || (used + 2 >= capacity && !canGrow());
+    }
+
+    /**
+     * @return number of distinct keys, null included
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return bytes taken by the table's arrays, keys and rows
+     */
+    public long getMemorySize() {
+        return arrayBytes + entryBytes;
+    }
+
+    private boolean acceptsKey(Object key) {
+        switch (keyKind) {
+        case LONG_KEYS:
+            return keyType == DataType.INTEGER ? key instanceof Integer : key instanceof Long;
+        case STRING_KEYS:
+            return key instanceof String;
+        default:
+            return true;
+        }
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int hashLong(long l) {
+        return spread((int) (l ^ (l >>> 32)));
+    }
+
+    private int findSlot(Object key) {
+        int mask = capacity - 1;
+        if (keyKind == LONG_KEYS) {
+            long k = ((Number) key).longValue();
+            int i = hashLong(k) & mask;
+            while (rows[i] != null && longKeys[i] != k) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+        int h = spread(key.hashCode());
+        int i = h & mask;
+        while (rows[i] != null && (hashes[i] != h || !keys[i].equals(key))) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void insertKey(int slot, Object key) {
+        long bytes = rowsArrayBytes(2);
+        if (keyKind == LONG_KEYS) {
+            longKeys[slot] = ((Number) key).longValue();
+        } else {
+            keys[slot] = key;
+            hashes[slot] = spread(key.hashCode());
+            bytes += SizeUtil.getPigObjMemSize(key);
+        }
+        rows[slot] = new Tuple[2];
+        counts[slot] = 0;
+        slotBytes[slot] = bytes;
+        entryBytes += bytes;
+        size++;
+        used++;
+    }
+
+    private Object keyAt(int slot) {
+        if (keyKind != LONG_KEYS) {
+            return keys[slot];
+        }
+        long k = longKeys[slot];
+        return keyType == DataType.INTEGER ? (Object) Integer.valueOf((int) k) : (Object) Long.valueOf(k);
+    }
+
+    private void clearSlot(int slot) {
+        entryBytes -= slotBytes[slot];
+        rows[slot] = null;
+        counts[slot] = 0;
+        slotBytes[slot] = 0;
+        if (keys != null) {
+            keys[slot] = null;
+        }
+    }
+
+    private void fold(int slot) throws ExecException {
+        Tuple[] r = rows[slot];
+        Tuple folded = combiner.combine(keyAt(slot), r, counts[slot]);
+        long before = slotBytes[slot];
+        long after = before - rowsArrayBytes(r.length) + rowsArrayBytes(2);
+        for (int i = 0; i < counts[slot]; i++) {
+            after -= r[i].getMemorySize();
+        }
+        after += folded.getMemorySize();
+        Tuple[] n = new Tuple[2];
+        n[0] = folded;
+        rows[slot] = n;
+        counts[slot] = 1;
+        slotBytes[slot] = after;
+        entryBytes += after - before;
+    }
+
+    private void foldNullKey() throws ExecException {
+        Tuple folded = combiner.combine(null, nullKeyRows, nullKeyCount);
+        entryBytes -= nullKeyBytes;
+        nullKeyRows = new Tuple[2];
+        nullKeyRows[0] = folded;
+        nullKeyCount = 1;
+        nullKeyBytes = rowsArrayBytes(2) + folded.getMemorySize();
+        entryBytes += nullKeyBytes;
+    }
+
+    private static long rowsArrayBytes(int length) {
+        return SizeUtil.roundToEight(ARRAY_HEADER + (long) length * REF_SIZE);
+    }
+
+    private long arrayBytesFor(int cap) {
+        long perSlot;
+        if (keyKind == LONG_KEYS) {
+            perSlot = 8;
+        } else {
+            perSlot = REF_SIZE + 4;
+        }
+        // rows, counts and slotBytes
+        perSlot += REF_SIZE + 4 + 8;
+        // each array has its own header
+        return perSlot * cap + 5 * ARRAY_HEADER;
+    }
+
+    private boolean canGrow() {
+        return getMemorySize() - arrayBytes + arrayBytesFor(capacity * 2) < budget;
+    }
+
+    private void allocate(int cap) {
+        capacity = cap;
+        if (keyKind == LONG_KEYS) {
+            longKeys = new long[cap];
+            keys = null;
+            hashes = null;
+        } else {
+            longKeys = null;
+            keys = new Object[cap];
+            hashes = new int[cap];
+        }
+        rows = new Tuple[cap][];
+        counts = new int[cap];
+        slotBytes = new long[cap];
+        arrayBytes = arrayBytesFor(cap);
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldLongKeys = longKeys;
+        Object[] oldKeys = keys;
+        Tuple[][] oldRows = rows;
+        int[] oldCounts = counts;
+        long[] oldSlotBytes = slotBytes;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            if (oldRows[i] == null) {
+                continue;
+            }
+            Object key;
+            if (oldLongKeys != null) {
+                long k = oldLongKeys[i];
+                key = keyType == DataType.INTEGER ? (Object) Integer.valueOf((int) k) : (Object) Long.valueOf(k);
+            } else {
+                key = oldKeys[i];
+            }
+            int slot = findSlot(key);
+            if (keyKind == LONG_KEYS) {
+                longKeys[slot] = oldLongKeys[i];
+            } else {
+                keys[slot] = key;
+                hashes[slot] = spread(key.hashCode());
+            }
+            rows[slot] = oldRows[i];
+            counts[slot] = oldCounts[i];
+            slotBytes[slot] = oldSlotBytes[i];
+        }
+    }
+
+    /**
+     * Falls back to Object keys, boxing the keys held so far.
+     */
+    private void convertToObjectKeys() {
+        if (keyKind == STRING_KEYS) {
+            // String keys are held the same way as Object keys
+            keyKind = OBJECT_KEYS;
+            return;
+        }
+        long[] oldLongKeys = longKeys;
+        Tuple[][] oldRows = rows;
+        int[] oldCounts = counts;
+        long[] oldSlotBytes = slotBytes;
+        int oldCapacity = capacity;
+        keyKind = OBJECT_KEYS;
+        allocate(oldCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            if (oldRows[i] == null) {
+                continue;
+            }
+            long k = oldLongKeys[i];
+            Object key = keyType == DataType.INTEGER ? (Object) Integer.valueOf((int) k) : (Object) Long.valueOf(k);
+            int slot = findSlot(key);
+            long keyBytes = SizeUtil.getPigObjMemSize(key);
+            keys[slot] = key;
+            hashes[slot] = spread(key.hashCode());
+            rows[slot] = oldRows[i];
+            counts[slot] = oldCounts[i];
+            slotBytes[slot] = oldSlotBytes[i] + keyBytes;
+            entryBytes += keyBytes;
+        }
+    }
+}
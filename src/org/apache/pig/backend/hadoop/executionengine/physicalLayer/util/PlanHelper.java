@@ -18,6 +18,8 @@
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.util;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -132,6 +134,64 @@ public class PlanHelper {
         return finder.getFoundOps();
     }
 
+    /**
+     * Finds the limits that all the output of a plan goes through. Once all of
+     * them are reached, the plan outputs nothing more whatever its input, so
+     * the task running it can stop reading.
+     * @param plan physical plan
+     * @return the limits, or an empty list if some output of the plan does not
+     *         go through a limit
+     */
+    public static List<POLimit> getLimitsBoundingOutput(PhysicalPlan plan) {
+        List<POLimit> limits = new ArrayList<POLimit>();
+        for (PhysicalOperator leaf : plan.getLeaves()) {
+            if (!findBoundingLimits(plan, leaf, limits)) {
+                return Collections.emptyList();
+            }
+        }
+        return limits;
+    }
+
+    /**
+     * Tells whether all the limits found by {@link #getLimitsBoundingOutput}
+     * are reached, so the task can stop reading its input.
+     * @param limits limits bounding the output of a plan
+     * @return true if there are limits and all of them are reached
+     */
+    public static boolean allLimitsReached(List<POLimit> limits) {
+        if (limits == null || limits.isEmpty()) {
+            return false;
+        }
+        for (POLimit limit : limits) {
+            if (!limit.isLimitReached()) {
+                return false;
+            }
+        }
+        log.info("Limit reached, the rest of the input is not read");
+        return true;
+    }
+
+    private static boolean findBoundingLimits(PhysicalPlan plan, PhysicalOperator op,
+            List<POLimit> limits) {
+        if (op instanceof POLimit) {
+            if (!limits.contains(op)) {
+                limits.add((POLimit) op);
+            }
+            return true;
+        }
+        List<PhysicalOperator> preds = plan.getPredecessors(op);
+        if (preds == null || preds.isEmpty()) {
+            // a root reached by a path without limit
+            return false;
+        }
+        for (PhysicalOperator pred : preds) {
+            if (!findBoundingLimits(plan, pred, limits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Finds POLocalRearrange from POSplit sub-plan
      * @param plan physical plan
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.JVMReuseManager;
+import org.apache.pig.StaticDataCleanup;
+import org.apache.pig.data.SizeUtil;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.Spillable;
+import org.apache.pig.impl.util.SpillableMemoryManager;
+
+/**
+ * JVM wide cache of the hash tables built by fragment replicate joins, so
+ * that tasks running one after the other or side by side in the same JVM
+ * (local mode, Spark executors, MapReduce with JVM reuse) build the
+ * replicated side only once.
+ * <p>
+ * The cache holds up to a number of bytes of tables and evicts the least
+ * recently used ones to make room. An entry is referenced for as long as an
+ * operator that got it from the cache is reachable. Entries that are no
+ * longer referenced are dropped when the {@link SpillableMemoryManager}
+ * asks for memory.
+ */
+public class ReplicatedJoinCache {
+
+    private static final Log log = LogFactory.getLog(ReplicatedJoinCache.class);
+
+    private static final ReplicatedJoinCache instance = new ReplicatedJoinCache();
+
+    // Estimated bytes of a HashMap entry and of the ArrayList holding its values
+    private static final long ENTRY_OVERHEAD = 48 + 40;
+
+    private static class Entry {
+        final List<Map<? extends Object, ? extends List<Tuple>>> tables;
+        final long size;
+        final List<WeakReference<Object>> holders = new ArrayList<WeakReference<Object>>(1);
+
+        Entry(List<Map<? extends Object, ? extends List<Tuple>>> tables, long size) {
+            this.tables = tables;
+            this.size = size;
+        }
+
+        void addHolder(Object holder) {
+            holders.add(new WeakReference<Object>(holder));
+        }
+
+        boolean isReferenced() {
+            for (Iterator<WeakReference<Object>> it = holders.iterator(); it.hasNext();) {
+                if (it.next().get() == null) {
+                    it.remove();
+                }
+            }
+            return !holders.isEmpty();
+        }
+    }
+
+    /**
+     * The memory manager forgets what it tracks between tasks on JVM reuse, so
+     * a new one is registered with it whenever the cache is used after that.
+     * Earlier ones no longer spill anything.
+     */
+    private class CacheSpillable implements Spillable {
+        @Override
+        public long spill() {
+            synchronized (ReplicatedJoinCache.this) {
+                return this == spillable ? ReplicatedJoinCache.this.spill() : 0;
+            }
+        }
+
+        @Override
+        public long getMemorySize() {
+            synchronized (ReplicatedJoinCache.this) {
+                return this == spillable ? getUnreferencedSize() : 0;
+            }
+        }
+    }
+
+    // access ordered, the eldest entry is the least recently used
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private long bytes;
+    private CacheSpillable spillable;
+
+    static {
+        JVMReuseManager.getInstance().registerForStaticDataCleanup(ReplicatedJoinCache.class);
+    }
+
+    private ReplicatedJoinCache() {
+    }
+
+    /**
+     * Keeps the cached tables for the next task, but registers the cache with
+     * the memory manager again as that one has been reset.
+     */
+    @StaticDataCleanup
+    public static void staticDataCleanup() {
+        synchronized (instance) {
+            instance.spillable = null;
+        }
+    }
+
+    public static ReplicatedJoinCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Looks up the tables built for a key.
+     * @param key identifies the replicated inputs and how they were built
+     * @param holder object using the tables, they are not evicted while it
+     * is reachable
+     * @return the cached tables or null
+     */
+    public List<Map<? extends Object, ? extends List<Tuple>>> get(String key, Object holder) {
+        CacheSpillable newSpillable;
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.addHolder(holder);
+            newSpillable = newSpillable();
+        }
+        register(newSpillable);
+        log.info("Found replicated join tables in cache, " + entry.size + " bytes");
+        return entry.tables;
+    }
+
+    /**
+     * Caches tables that were just built, if they fit in maxBytes once the
+     * least recently used unreferenced entries have been evicted.
+     * @param key identifies the replicated inputs and how they were built
+     * @param tables built tables
+     * @param holder object using the tables
+     * @param maxBytes most bytes the cache may hold
+     * @return the tables to use, which are the cached ones if another holder
+     * built and cached them meanwhile
+     */
+    public List<Map<? extends Object, ? extends List<Tuple>>> put(String key,
+            List<Map<? extends Object, ? extends List<Tuple>>> tables, Object holder, long maxBytes) {
+        CacheSpillable newSpillable;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                entry.addHolder(holder);
+                return entry.tables;
+            }
+            long size = estimateSize(tables);
+            if (size > maxBytes) {
+                log.info("Replicated join tables of " + size + " bytes are too large to cache");
+                return tables;
+            }
+            for (Iterator<Entry> it = entries.values().iterator(); bytes + size > maxBytes && it.hasNext();) {
+                Entry e = it.next();
+                if (!e.isReferenced()) {
+                    it.remove();
+                    bytes -= e.size;
+                }
+            }
+            if (bytes + size > maxBytes) {
+                log.info("No room to cache replicated join tables of " + size + " bytes");
+                return tables;
+            }
+            entry = new Entry(tables, size);
+            entry.addHolder(holder);
+            entries.put(key, entry);
+            bytes += size;
+            newSpillable = newSpillable();
+            log.info("Cached replicated join tables of " + size + " bytes, cache holds " + bytes + " bytes");
+        }
+        register(newSpillable);
+        return tables;
+    }
+
+    private CacheSpillable newSpillable() {
+        if (spillable != null) {
+            return null;
+        }
+        spillable = new CacheSpillable();
+        return spillable;
+    }
+
+    // Called without holding the lock: registering may wait for a spill in
+    // progress, which needs it
+    private static void register(CacheSpillable newSpillable) {
+        if (newSpillable != null) {
+            SpillableMemoryManager.getInstance().registerSpillable(newSpillable);
+        }
+    }
+
+    /**
+     * @return bytes held by the cache, referenced or not
+     */
+    public synchronized long getMemorySize() {
+        return bytes;
+    }
+
+    /**
+     * @return number of cached entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+        spillable = null;
+    }
+
+    /**
+     * @return bytes of the tables no operator is using
+     */
+    public synchronized long getUnreferencedSize() {
+        long size = 0;
+        for (Entry e : entries.values()) {
+            if (!e.isReferenced()) {
+                size += e.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Evicts the tables no operator is using.
+     * @return bytes evicted
+     */
+    public synchronized long spill() {
+        long freed = 0;
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+            Entry e = it.next();
+            if (!e.isReferenced()) {
+                it.remove();
+                freed += e.size;
+            }
+        }
+        bytes -= freed;
+        if (freed > 0) {
+            log.info("Evicted " + freed + " bytes of replicated join tables from cache");
+        }
+        return freed;
+    }
+
+    /**
+     * @return memory used by the tables, exact for {@link ReplicatedJoinTable}s
+     * and estimated from the tuples otherwise
+     */
+    static long estimateSize(List<Map<? extends Object, ? extends List<Tuple>>> tables) {
+        long size = 0;
+        for (Map<? extends Object, ? extends List<Tuple>> table : tables) {
+            if (table == null) {
+                continue;
+            }
+            if (table instanceof ReplicatedJoinTable) {
+                size += ((ReplicatedJoinTable) table).getMemorySize();
+                continue;
+            }
+            for (Map.Entry<? extends Object, ? extends List<Tuple>> e : table.entrySet()) {
+                size += ENTRY_OVERHEAD + SizeUtil.getPigObjMemSize(e.getKey());
+                for (Tuple t : e.getValue()) {
+                    size += 8 + t.getMemorySize();
+                }
+            }
+        }
+        return size;
+    }
+}
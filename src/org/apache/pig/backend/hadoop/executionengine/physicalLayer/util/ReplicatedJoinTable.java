@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.WritableByteArray;
+
+/**
+ * Hash table for the replicated inputs of a fragment replicate join that
+ * keeps keys and values in their serialized form.
+ * <p>
+ * Keys and value tuples are written with {@link InterSedes} into large byte
+ * slabs, so a replicated input costs a few arrays instead of a HashMap entry,
+ * an ArrayList and a Tuple per row. The index is an open addressing table of
+ * primitive arrays keyed by the hash of the join key. The values of a key are
+ * chained in the order they were added and only deserialized when a probe
+ * matches. {@link #get(Object)} does not modify the table, so a fully built
+ * table can be probed by several threads.
+ * <p>
+ * The table is read only as a {@link Map}; it is filled with
+ * {@link #add(Object, Tuple)}. Null keys never match in a join and are
+ * ignored.
+ */
+public class ReplicatedJoinTable extends AbstractMap<Object, List<Tuple>> {
+
+    static final int SLAB_SIZE = 1 << 20;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Approximate size of an array header
+    private static final int ARRAY_HEADER = 16;
+
+    // Marks the end of a chain of values
+    private static final long NO_VALUE = -1L;
+
+    // Bytes per slot of the index: hash, count, key, head and tail addresses
+    private static final int SLOT_SIZE = 4 + 4 + 8 + 8 + 8;
+
+    private static final InterSedes sedes = InterSedesFactory.getInterSedesInstance();
+
+    private final List<byte[]> slabs = new ArrayList<byte[]>();
+    private byte[] slab;
+    private int slabPos;
+    private long slabBytes;
+
+    // open addressing index, a slot is free when its count is 0
+    private int[] hashes;
+    private int[] counts;
+    private long[] keyAddrs;
+    private long[] heads;
+    private long[] tails;
+    private int mask;
+    private int size;
+    private long numValues;
+
+    private WritableByteArray buffer = new WritableByteArray(256);
+    private DataOutputStream bufferOut = new DataOutputStream(buffer);
+
+    public ReplicatedJoinTable() {
+        allocateIndex(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds a row of the replicated input.
+     * @param key join key of the row
+     * @param value row to return for the key
+     * @throws ExecException if the key or the value can not be serialized
+     */
+    public void add(Object key, Tuple value) throws ExecException {
+        if (key == null) {
+            return;
+        }
+        int hash = spread(key.hashCode());
+        try {
+            buffer.reset();
+            sedes.writeDatum(bufferOut, key);
+            int keyLength = buffer.getLength();
+            int slot = hash & mask;
+            while (counts[slot] != 0) {
+                if (hashes[slot] == hash && keyEquals(keyAddrs[slot], key, keyLength)) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (counts[slot] == 0) {
+                if (size + 1 > (hashes.length >> 1) + (hashes.length >> 2)) {
+                    grow();
+                    slot = hash & mask;
+                    while (counts[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                }
+                hashes[slot] = hash;
+                keyAddrs[slot] = writeBuffer();
+                size++;
+            }
+
+            buffer.reset();
+            bufferOut.writeLong(NO_VALUE);
+            sedes.writeDatum(bufferOut, value);
+            long addr = writeBuffer();
+            if (counts[slot] == 0) {
+                heads[slot] = addr;
+            } else {
+                setNext(tails[slot], addr);
+            }
+            tails[slot] = addr;
+            counts[slot]++;
+            numValues++;
+        } catch (IOException e) {
+            int errCode = 2067;
+            String msg = "Unable to add a row to the replicated join table";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    /**
+     * Releases the unused end of the last slab and the write buffer. Rows
+     * can still be added afterwards.
+     */
+    public void trimToSize() {
+        if (slab != null && slabPos < slab.length) {
+            slabBytes -= slab.length - slabPos;
+            slab = Arrays.copyOf(slab, slabPos);
+            slabs.set(slabs.size() - 1, slab);
+        }
+        buffer = new WritableByteArray(256);
+        bufferOut = new DataOutputStream(buffer);
+    }
+
+    /**
+     * Returns the rows added for the key in the order they were added, or
+     * null if there are none. Each call deserializes a new list.
+     */
+    @Override
+    public List<Tuple> get(Object key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : readValues(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key) >= 0;
+    }
+
+    private int findSlot(Object key) {
+        if (key == null || size == 0) {
+            return -1;
+        }
+        int hash = spread(key.hashCode());
+        int slot = hash & mask;
+        while (counts[slot] != 0) {
+            if (hashes[slot] == hash && key.equals(readDatum(keyAddrs[slot]))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return number of distinct keys
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of rows added
+     */
+    public long getNumValues() {
+        return numValues;
+    }
+
+    /**
+     * @return bytes held by the table: its slabs, the index and the write
+     * buffer
+     */
+    public long getMemorySize() {
+        return slabBytes
+                + ARRAY_HEADER + 8L * slabs.size()
+                + 5L * ARRAY_HEADER + (long) SLOT_SIZE * hashes.length
+                + ARRAY_HEADER + buffer.getData().length;
+    }
+
+    @Override
+    public Set<Map.Entry<Object, List<Tuple>>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, List<Tuple>>>() {
+            @Override
+            public Iterator<Map.Entry<Object, List<Tuple>>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<Object, List<Tuple>>> {
+        private int slot = nextSlot(0);
+
+        private int nextSlot(int from) {
+            while (from < counts.length && counts[from] == 0) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < counts.length;
+        }
+
+        @Override
+        public Map.Entry<Object, List<Tuple>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Object, List<Tuple>> entry = new AbstractMap.SimpleImmutableEntry<Object, List<Tuple>>(
+                    readDatum(keyAddrs[slot]), readValues(slot));
+            slot = nextSlot(slot + 1);
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static int spread(int h) {
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+
+    private void allocateIndex(int capacity) {
+        hashes = new int[capacity];
+        counts = new int[capacity];
+        keyAddrs = new long[capacity];
+        heads = new long[capacity];
+        tails = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private void grow() {
+        int[] oldHashes = hashes;
+        int[] oldCounts = counts;
+        long[] oldKeyAddrs = keyAddrs;
+        long[] oldHeads = heads;
+        long[] oldTails = tails;
+        allocateIndex(oldHashes.length << 1);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldCounts[i] == 0) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (counts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = oldHashes[i];
+            counts[slot] = oldCounts[i];
+            keyAddrs[slot] = oldKeyAddrs[i];
+            heads[slot] = oldHeads[i];
+            tails[slot] = oldTails[i];
+        }
+    }
+
+    /*
+     * A stored key is [int length][bytes]. Equal bytes mean equal keys; keys
+     * that serialize differently may still be equal (e.g. tuples of different
+     * classes), so those are deserialized and compared.
+     */
+    private boolean keyEquals(long addr, Object key, int keyLength) {
+        byte[] s = slabs.get(slabIndex(addr));
+        int off = offset(addr);
+        int length = readInt(s, off);
+        if (length == keyLength) {
+            byte[] b = buffer.getData();
+            int i = 0;
+            while (i < length && s[off + 4 + i] == b[i]) {
+                i++;
+            }
+            if (i == length) {
+                return true;
+            }
+        }
+        return key.equals(readDatum(addr));
+    }
+
+    private List<Tuple> readValues(int slot) {
+        List<Tuple> values = new ArrayList<Tuple>(counts[slot]);
+        for (long addr = heads[slot]; addr != NO_VALUE; ) {
+            byte[] s = slabs.get(slabIndex(addr));
+            int off = offset(addr);
+            DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(s, off + 4, s.length - off - 4));
+            try {
+                addr = in.readLong();
+                values.add((Tuple) sedes.readDatum(in));
+            } catch (IOException e) {
+                // the bytes were written by this table
+                throw new RuntimeException("Corrupt replicated join table", e);
+            }
+        }
+        return values;
+    }
+
+    private Object readDatum(long addr) {
+        byte[] s = slabs.get(slabIndex(addr));
+        int off = offset(addr);
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(s, off + 4, readInt(s, off)));
+        try {
+            return sedes.readDatum(in);
+        } catch (IOException e) {
+            throw new RuntimeException("Corrupt replicated join table", e);
+        }
+    }
+
+    /*
+     * Copies the buffer into a slab as [int length][bytes] and returns its
+     * address.
+     */
+    private long writeBuffer() {
+        int length = buffer.getLength();
+        int needed = length + 4;
+        if (slab == null || slabPos + needed > slab.length) {
+            slab = new byte[Math.max(SLAB_SIZE, needed)];
+            slabs.add(slab);
+            slabPos = 0;
+            slabBytes += ARRAY_HEADER + slab.length;
+        }
+        long addr = ((long) (slabs.size() - 1) << 32) | slabPos;
+        writeInt(slab, slabPos, length);
+        System.arraycopy(buffer.getData(), 0, slab, slabPos + 4, length);
+        slabPos += needed;
+        return addr;
+    }
+
+    private void setNext(long addr, long next) {
+        byte[] s = slabs.get(slabIndex(addr));
+        int off = offset(addr) + 4;
+        for (int i = 7; i >= 0; i--) {
+            s[off + i] = (byte) next;
+            next >>>= 8;
+        }
+    }
+
+    private static int slabIndex(long addr) {
+        return (int) (addr >>> 32);
+    }
+
+    private static int offset(long addr) {
+        return (int) addr;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return ((b[off] & 0xff) << 24) | ((b[off + 1] & 0xff) << 16)
+                | ((b[off + 2] & 0xff) << 8) | (b[off + 3] & 0xff);
+    }
+
+    private static void writeInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataType;
+
+/**
+ * Vectorized Add, Subtract and Multiply over int, long, float and double.
+ * A null on either side gives a null result, as in the row based operators.
+ */
+public class ArithmeticVectorExpression extends VectorExpression {
+
+    public enum Op { ADD, SUBTRACT, MULTIPLY }
+
+    private final Op op;
+    private final VectorExpression lhs;
+    private final VectorExpression rhs;
+    private final ColumnVector out;
+
+    public ArithmeticVectorExpression(Op op, byte resultType, VectorExpression lhs,
+            VectorExpression rhs, int capacity) throws ExecException {
+        super(resultType);
+        this.op = op;
+        this.lhs = lhs;
+        this.rhs = rhs;
+        this.out = ColumnVector.create(resultType, capacity);
+    }
+
+    @Override
+    public ColumnVector evaluate(VectorBatch batch) throws ExecException {
+        ColumnVector l = lhs.evaluate(batch);
+        ColumnVector r = rhs.evaluate(batch);
+        int[] sel = batch.selected;
+        int n = batch.selectedCount;
+
+        out.noNulls = l.noNulls && r.noNulls;
+        if (!out.noNulls) {
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                out.isNull[i] = l.isNull[i] || r.isNull[i];
+            }
+        } else {
+            for (int j = 0; j < n; j++) {
+                out.isNull[sel[j]] = false;
+            }
+        }
+
+        switch (resultType) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+            evaluateLong(((LongColumnVector) l).vector, ((LongColumnVector) r).vector,
+                    ((LongColumnVector) out).vector, sel, n);
+            if (resultType == DataType.INTEGER) {
+                // int arithmetic wraps at 32 bits
+                long[] v = ((LongColumnVector) out).vector;
+                for (int j = 0; j < n; j++) {
+                    int i = sel[j];
+                    v[i] = (int) v[i];
+                }
+            }
+            break;
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+            evaluateDouble(((DoubleColumnVector) l).vector, ((DoubleColumnVector) r).vector,
+                    ((DoubleColumnVector) out).vector, sel, n);
+            if (resultType == DataType.FLOAT) {
+                // rounding the exact double result of two floats gives the
+                // same value as float arithmetic for +, - and *
+                double[] v = ((DoubleColumnVector) out).vector;
+                for (int j = 0; j < n; j++) {
+                    int i = sel[j];
+                    v[i] = (float) v[i];
+                }
+            }
+            break;
+        default:
+            throw new ExecException("Vectorized arithmetic called on unsupported type "
+                    + DataType.findTypeName(resultType));
+        }
+        return out;
+    }
+
+    private void evaluateLong(long[] a, long[] b, long[] v, int[] sel, int n) {
+        switch (op) {
+        case ADD:
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = a[i] + b[i];
+            }
+            break;
+        case SUBTRACT:
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = a[i] - b[i];
+            }
+            break;
+        default:
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = a[i] * b[i];
+            }
+        }
+    }
+
+    private void evaluateDouble(double[] a, double[] b, double[] v, int[] sel, int n) {
+        switch (op) {
+        case ADD:
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = a[i] + b[i];
+            }
+            break;
+        case SUBTRACT:
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = a[i] - b[i];
+            }
+            break;
+        default:
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = a[i] * b[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataType;
+
+/**
+ * One column of a {@link VectorBatch}. Values are indexed by the physical row
+ * position in the batch, so a column stays valid when the batch's selection
+ * vector is narrowed by a filter.
+ */
+public abstract class ColumnVector {
+
+    protected final byte type;
+
+    /** isNull[i] is true if the value at row i is null */
+    public final boolean[] isNull;
+
+    /** true if no row of the vector is null, so isNull need not be checked */
+    public boolean noNulls = true;
+
+    protected ColumnVector(byte type, int capacity) {
+        this.type = type;
+        this.isNull = new boolean[capacity];
+    }
+
+    /**
+     * @return the Pig data type of the values in this column
+     */
+    public byte getType() {
+        return type;
+    }
+
+    /**
+     * @return the value at row i boxed into the object type Pig uses for
+     * {@link #getType()}, or null
+     */
+    public abstract Object getObject(int i);
+
+    /**
+     * Sets row i from a value of the type Pig uses for {@link #getType()}.
+     * @throws ClassCastException if the value is of a different type, just as
+     * the tuple-at-a-time operators would
+     */
+    protected abstract void setValue(int i, Object o);
+
+    public void set(int i, Object o) {
+        if (o == null) {
+            isNull[i] = true;
+            noNulls = false;
+        } else {
+            isNull[i] = false;
+            setValue(i, o);
+        }
+    }
+
+    /**
+     * Creates the vector used to hold values of the given type.
+     */
+    public static ColumnVector create(byte type, int capacity) throws ExecException {
+        switch (type) {
+        case DataType.BOOLEAN:
+        case DataType.INTEGER:
+        case DataType.LONG:
+            return new LongColumnVector(type, capacity);
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+            return new DoubleColumnVector(type, capacity);
+        default:
+            return new ObjectColumnVector(type, capacity);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataType;
+
+/**
+ * Vectorized EqualToExpr, NotEqualToExpr, LessThanExpr, LTOrEqualToExpr,
+ * GreaterThanExpr and GTOrEqualToExpr. Values are ordered the way
+ * Comparable.compareTo orders their boxed form, so NaN and -0.0 compare as
+ * they do in the row based operators. A null on either side gives null.
+ */
+public class ComparisonVectorExpression extends VectorExpression {
+
+    public enum Op { EQ, NE, LT, LTE, GT, GTE }
+
+    private final Op op;
+    private final byte operandType;
+    private final VectorExpression lhs;
+    private final VectorExpression rhs;
+    private final LongColumnVector out;
+
+    public ComparisonVectorExpression(Op op, byte operandType, VectorExpression lhs,
+            VectorExpression rhs, int capacity) {
+        super(DataType.BOOLEAN);
+        this.op = op;
+        this.operandType = operandType;
+        this.lhs = lhs;
+        this.rhs = rhs;
+        this.out = new LongColumnVector(DataType.BOOLEAN, capacity);
+    }
+
+    @Override
+    public ColumnVector evaluate(VectorBatch batch) throws ExecException {
+        ColumnVector l = lhs.evaluate(batch);
+        ColumnVector r = rhs.evaluate(batch);
+        int[] sel = batch.selected;
+        int n = batch.selectedCount;
+        long[] v = out.vector;
+        boolean noNulls = l.noNulls && r.noNulls;
+        out.noNulls = noNulls;
+
+        switch (operandType) {
+        case DataType.BOOLEAN:
+        case DataType.INTEGER:
+        case DataType.LONG: {
+            long[] a = ((LongColumnVector) l).vector;
+            long[] b = ((LongColumnVector) r).vector;
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = test(Long.compare(a[i], b[i]));
+            }
+            break;
+        }
+        case DataType.FLOAT:
+        case DataType.DOUBLE: {
+            double[] a = ((DoubleColumnVector) l).vector;
+            double[] b = ((DoubleColumnVector) r).vector;
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                v[i] = test(Double.compare(a[i], b[i]));
+            }
+            break;
+        }
+        default: {
+            Object[] a = ((ObjectColumnVector) l).vector;
+            Object[] b = ((ObjectColumnVector) r).vector;
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                if (noNulls || !(l.isNull[i] || r.isNull[i])) {
+                    v[i] = test(compare(a[i], b[i]));
+                }
+            }
+        }
+        }
+
+        if (noNulls) {
+            for (int j = 0; j < n; j++) {
+                out.isNull[sel[j]] = false;
+            }
+        } else {
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                out.isNull[i] = l.isNull[i] || r.isNull[i];
+            }
+        }
+        return out;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Object a, Object b) throws ExecException {
+        if (!(a instanceof Comparable && b instanceof Comparable)) {
+            throw new ExecException("The left side and right side has the different types");
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private long test(int c) {
+        boolean b;
+        switch (op) {
+        case EQ: b = c == 0; break;
+        case NE: b = c != 0; break;
+        case LT: b = c < 0; break;
+        case LTE: b = c <= 0; break;
+        case GT: b = c > 0; break;
+        default: b = c >= 0;
+        }
+        return b ? 1 : 0;
+    }
+}
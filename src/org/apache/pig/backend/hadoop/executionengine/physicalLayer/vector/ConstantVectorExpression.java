@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.backend.executionengine.ExecException;
+
+/**
+ * Vectorized ConstantExpression. The vector is filled once, since nothing
+ * downstream writes into an input vector.
+ */
+public class ConstantVectorExpression extends VectorExpression {
+
+    private final ColumnVector vector;
+
+    public ConstantVectorExpression(Object value, byte resultType, int capacity) throws ExecException {
+        super(resultType);
+        vector = ColumnVector.create(resultType, capacity);
+        for (int i = 0; i < capacity; i++) {
+            vector.set(i, value);
+        }
+    }
+
+    @Override
+    public ColumnVector evaluate(VectorBatch batch) {
+        return vector;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.data.DataType;
+
+/**
+ * Column of float or double values held as primitive doubles. Float results
+ * are rounded back to float precision by the expressions that produce them,
+ * so every value in a float column is exactly representable as a float.
+ */
+public class DoubleColumnVector extends ColumnVector {
+
+    public final double[] vector;
+
+    public DoubleColumnVector(byte type, int capacity) {
+        super(type, capacity);
+        vector = new double[capacity];
+    }
+
+    @Override
+    public Object getObject(int i) {
+        if (isNull[i]) {
+            return null;
+        }
+        if (type == DataType.FLOAT) {
+            return Float.valueOf((float) vector[i]);
+        }
+        return Double.valueOf(vector[i]);
+    }
+
+    @Override
+    protected void setValue(int i, Object o) {
+        if (type == DataType.FLOAT) {
+            vector[i] = (Float) o;
+        } else {
+            vector[i] = (Double) o;
+        }
+    }
+}
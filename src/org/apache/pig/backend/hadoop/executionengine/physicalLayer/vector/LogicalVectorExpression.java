@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataType;
+
+/**
+ * Vectorized POAnd, POOr and PONot with SQL three valued logic: false AND
+ * null is false, true OR null is true, and every other combination with a
+ * null is null.
+ */
+public class LogicalVectorExpression extends VectorExpression {
+
+    public enum Op { AND, OR, NOT }
+
+    private final Op op;
+    private final VectorExpression lhs;
+    private final VectorExpression rhs;
+    private final LongColumnVector out;
+
+    /**
+     * @param rhs the right hand side, null for NOT
+     */
+    public LogicalVectorExpression(Op op, VectorExpression lhs, VectorExpression rhs, int capacity) {
+        super(DataType.BOOLEAN);
+        this.op = op;
+        this.lhs = lhs;
+        this.rhs = rhs;
+        this.out = new LongColumnVector(DataType.BOOLEAN, capacity);
+    }
+
+    @Override
+    public ColumnVector evaluate(VectorBatch batch) throws ExecException {
+        LongColumnVector l = (LongColumnVector) lhs.evaluate(batch);
+        int[] sel = batch.selected;
+        int n = batch.selectedCount;
+        long[] v = out.vector;
+        boolean[] isNull = out.isNull;
+
+        if (op == Op.NOT) {
+            out.noNulls = l.noNulls;
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                isNull[i] = l.isNull[i];
+                v[i] = l.vector[i] == 0 ? 1 : 0;
+            }
+            return out;
+        }
+
+        LongColumnVector r = (LongColumnVector) rhs.evaluate(batch);
+        // the value that decides the result on its own: false for AND, true for OR
+        long dominant = op == Op.AND ? 0 : 1;
+        boolean noNulls = true;
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            boolean ln = l.isNull[i];
+            boolean rn = r.isNull[i];
+            long a = l.vector[i];
+            long b = r.vector[i];
+            if ((!ln && a == dominant) || (!rn && b == dominant)) {
+                v[i] = dominant;
+                isNull[i] = false;
+            } else if (ln || rn) {
+                isNull[i] = true;
+                noNulls = false;
+            } else {
+                v[i] = 1 - dominant;
+                isNull[i] = false;
+            }
+        }
+        out.noNulls = noNulls;
+        return out;
+    }
+}
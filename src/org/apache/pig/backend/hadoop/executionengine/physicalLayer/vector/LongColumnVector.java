@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.data.DataType;
+
+/**
+ * Column of boolean, int or long values held as primitive longs. Booleans are
+ * stored as 0 and 1.
+ */
+public class LongColumnVector extends ColumnVector {
+
+    public final long[] vector;
+
+    public LongColumnVector(byte type, int capacity) {
+        super(type, capacity);
+        vector = new long[capacity];
+    }
+
+    @Override
+    public Object getObject(int i) {
+        if (isNull[i]) {
+            return null;
+        }
+        switch (type) {
+        case DataType.BOOLEAN:
+            return Boolean.valueOf(vector[i] != 0);
+        case DataType.INTEGER:
+            return Integer.valueOf((int) vector[i]);
+        default:
+            return Long.valueOf(vector[i]);
+        }
+    }
+
+    @Override
+    protected void setValue(int i, Object o) {
+        switch (type) {
+        case DataType.BOOLEAN:
+            vector[i] = ((Boolean) o) ? 1 : 0;
+            break;
+        case DataType.INTEGER:
+            vector[i] = (Integer) o;
+            break;
+        default:
+            vector[i] = (Long) o;
+        }
+    }
+}
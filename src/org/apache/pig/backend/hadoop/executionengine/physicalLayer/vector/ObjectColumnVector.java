@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+/**
+ * Column of values that have no primitive representation, such as chararrays,
+ * held as the objects found in the input tuples.
+ */
+public class ObjectColumnVector extends ColumnVector {
+
+    public final Object[] vector;
+
+    public ObjectColumnVector(byte type, int capacity) {
+        super(type, capacity);
+        vector = new Object[capacity];
+    }
+
+    @Override
+    public Object getObject(int i) {
+        return isNull[i] ? null : vector[i];
+    }
+
+    @Override
+    protected void setValue(int i, Object o) {
+        vector[i] = o;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.builtin.StreamingUDF;
+
+/**
+ * Vectorized call of a streaming udf with a batch size. The arguments of the
+ * live rows of a batch are sent to the udf process together, in frames of
+ * the batch size, instead of one round trip per row.
+ */
+public class StreamingUDFVectorExpression extends VectorExpression {
+
+    private static final TupleFactory TUPLE_FACTORY = TupleFactory.getInstance();
+
+    private final StreamingUDF func;
+    private final VectorExpression[] args;
+    private final ColumnVector out;
+
+    public StreamingUDFVectorExpression(StreamingUDF func, byte resultType,
+            VectorExpression[] args, int capacity) throws ExecException {
+        super(resultType);
+        this.func = func;
+        this.args = args;
+        this.out = ColumnVector.create(resultType, capacity);
+    }
+
+    @Override
+    public ColumnVector evaluate(VectorBatch batch) throws ExecException {
+        ColumnVector[] cols = new ColumnVector[args.length];
+        for (int k = 0; k < args.length; k++) {
+            cols[k] = args[k].evaluate(batch);
+        }
+        int[] sel = batch.selected;
+        int n = batch.selectedCount;
+        List<Tuple> inputs = new ArrayList<Tuple>(n);
+        for (int j = 0; j < n; j++) {
+            Tuple t = TUPLE_FACTORY.newTuple(args.length);
+            for (int k = 0; k < args.length; k++) {
+                t.set(k, cols[k].getObject(sel[j]));
+            }
+            inputs.add(t);
+        }
+
+        List<Object> results;
+        try {
+            results = func.execBatch(inputs);
+        } catch (ExecException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new ExecException("Error executing function " + func.getClass().getName(), e);
+        }
+        out.noNulls = true;
+        for (int j = 0; j < n; j++) {
+            out.set(sel[j], results.get(j));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import java.util.Arrays;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * A batch of rows handed between vectorized physical operators.
+ * <p>
+ * A batch is either backed by the input tuples it was filled from, in which
+ * case columns are extracted into primitive vectors the first time an
+ * expression asks for them, or by column vectors produced by a vectorized
+ * foreach, in which case no tuples exist until the columns are
+ * assembled back into rows at the boundary with a tuple-at-a-time operator.
+ * <p>
+ * Rows that have been filtered out are not removed. Instead the
+ * <code>selected</code> array lists, in order, the positions of the rows that
+ * are still live, and all column vectors are indexed by that position.
+ */
+public class VectorBatch {
+
+    public static final int DEFAULT_SIZE = 1024;
+
+    private static final TupleFactory TUPLE_FACTORY = TupleFactory.getInstance();
+
+    private final int capacity;
+
+    /** number of physical rows in the batch */
+    public int size;
+
+    /** positions of the live rows, the first selectedCount entries are valid */
+    public final int[] selected;
+
+    public int selectedCount;
+
+    /** set when the operator that filled the batch has no more input */
+    public boolean endOfInput;
+
+    private final Tuple[] rows;
+    private boolean hasRows = true;
+
+    // When backed by tuples, the columns extracted so far for this batch.
+    // Otherwise the column vectors the batch was built from.
+    private ColumnVector[] columns = new ColumnVector[0];
+    private int numColumns;
+
+    // vectors that tuple columns are extracted into, reused across batches
+    private ColumnVector[] extracted = new ColumnVector[0];
+
+    public VectorBatch() {
+        this(DEFAULT_SIZE);
+    }
+
+    public VectorBatch(int capacity) {
+        this.capacity = capacity;
+        this.selected = new int[capacity];
+        this.rows = new Tuple[capacity];
+    }
+
+    /**
+     * @return the batch size configured for the running task, or 0 if
+     * vectorized execution is turned off
+     */
+    public static int getConfiguredSize() {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        if (conf == null || !conf.getBoolean(PigConfiguration.PIG_EXEC_VECTORIZED, false)) {
+            return 0;
+        }
+        return conf.getInt(PigConfiguration.PIG_EXEC_VECTORIZED_BATCH_SIZE, DEFAULT_SIZE);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isFull() {
+        return size >= capacity;
+    }
+
+    /**
+     * Empties the batch so that it can be filled again, either by
+     * {@link #addRow(Tuple)} or by {@link #setColumns(VectorBatch, ColumnVector[])}.
+     */
+    public void reset() {
+        if (hasRows) {
+            Arrays.fill(rows, 0, size, null);
+        }
+        Arrays.fill(columns, 0, numColumns, null);
+        numColumns = 0;
+        size = 0;
+        selectedCount = 0;
+        endOfInput = false;
+        hasRows = true;
+    }
+
+    public void addRow(Tuple t) {
+        rows[size] = t;
+        selected[selectedCount++] = size;
+        size++;
+    }
+
+    /**
+     * Makes this batch carry the given column vectors for the live rows of
+     * <code>input</code>.
+     */
+    public void setColumns(VectorBatch input, ColumnVector[] cols) {
+        reset();
+        hasRows = false;
+        size = input.size;
+        selectedCount = input.selectedCount;
+        endOfInput = input.endOfInput;
+        System.arraycopy(input.selected, 0, selected, 0, selectedCount);
+        if (columns.length < cols.length) {
+            columns = new ColumnVector[cols.length];
+        }
+        System.arraycopy(cols, 0, columns, 0, cols.length);
+        numColumns = cols.length;
+    }
+
+    /**
+     * @return true if the batch holds the input tuples, false if it was
+     * built from column vectors
+     */
+    public boolean hasRows() {
+        return hasRows;
+    }
+
+    /**
+     * @return the tuple at position i, either the input tuple or, for a batch
+     * built from column vectors, a new tuple holding the column values
+     */
+    public Tuple getRow(int i) throws ExecException {
+        if (hasRows) {
+            return rows[i];
+        }
+        Tuple t = TUPLE_FACTORY.newTuple(numColumns);
+        for (int c = 0; c < numColumns; c++) {
+            t.set(c, columns[c].getObject(i));
+        }
+        return t;
+    }
+
+    /**
+     * @return column vector c of a batch built from column vectors
+     */
+    public ColumnVector getColumnVector(int c) {
+        return columns[c];
+    }
+
+    /**
+     * @return the number of columns of a batch built from column vectors
+     */
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    /**
+     * Returns column <code>col</code> as a vector of the given type, filled for
+     * the live rows of the batch. As with POProject, a column past the end of
+     * a row, or of a null row, reads as null.
+     */
+    public ColumnVector getColumn(int col, byte type) throws ExecException {
+        if (col < numColumns && columns[col] != null && columns[col].getType() == type) {
+            return columns[col];
+        }
+        ColumnVector cv = extractedVector(col, type);
+        cv.noNulls = true;
+        if (hasRows) {
+            for (int j = 0; j < selectedCount; j++) {
+                int i = selected[j];
+                Tuple t = rows[i];
+                cv.set(i, (t == null || t.size() <= col) ? null : t.get(col));
+            }
+            if (col >= columns.length) {
+                columns = Arrays.copyOf(columns, col + 1);
+            }
+            columns[col] = cv;
+            numColumns = Math.max(numColumns, col + 1);
+        } else {
+            // Either the column does not exist or the types disagree, in
+            // which case convert through the boxed values like the tuple
+            // based operators would
+            ColumnVector src = col < numColumns ? columns[col] : null;
+            for (int j = 0; j < selectedCount; j++) {
+                int i = selected[j];
+                cv.set(i, src == null ? null : src.getObject(i));
+            }
+        }
+        return cv;
+    }
+
+    private ColumnVector extractedVector(int col, byte type) throws ExecException {
+        if (col >= extracted.length) {
+            extracted = Arrays.copyOf(extracted, col + 1);
+        }
+        ColumnVector cv = extracted[col];
+        if (cv == null || cv.getType() != type) {
+            cv = ColumnVector.create(type, capacity);
+            extracted[col] = cv;
+        }
+        return cv;
+    }
+
+    /**
+     * Drops from the selection every row for which the boolean vector is
+     * false or null.
+     */
+    public void filter(LongColumnVector cond) {
+        int n = 0;
+        if (cond.noNulls) {
+            for (int j = 0; j < selectedCount; j++) {
+                int i = selected[j];
+                if (cond.vector[i] != 0) {
+                    selected[n++] = i;
+                }
+            }
+        } else {
+            for (int j = 0; j < selectedCount; j++) {
+                int i = selected[j];
+                if (!cond.isNull[i] && cond.vector[i] != 0) {
+                    selected[n++] = i;
+                }
+            }
+        }
+        selectedCount = n;
+    }
+}
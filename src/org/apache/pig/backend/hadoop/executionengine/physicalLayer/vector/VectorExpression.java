@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import org.apache.pig.backend.executionengine.ExecException;
+
+/**
+ * Batch-at-a-time counterpart of an expression operator. An expression
+ * evaluates its inputs over the live rows of a batch and writes its result
+ * into a column vector it owns, which stays valid until the next call.
+ * <p>
+ * Expressions are built from physical expression plans by
+ * {@link VectorExpressionBuilder}.
+ */
+public abstract class VectorExpression {
+
+    protected final byte resultType;
+
+    protected VectorExpression(byte resultType) {
+        this.resultType = resultType;
+    }
+
+    public byte getResultType() {
+        return resultType;
+    }
+
+    /**
+     * Evaluates this expression over the live rows of the batch.
+     * @return the result column, only the positions in batch.selected are
+     * meaningful
+     */
+    public abstract ColumnVector evaluate(VectorBatch batch) throws ExecException;
+}
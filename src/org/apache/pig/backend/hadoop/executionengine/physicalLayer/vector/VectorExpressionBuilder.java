@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.vector;
+
+import java.util.List;
+
+import org.apache.pig.EvalFunc;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryComparisonOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.EqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LessThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Multiply;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.NotEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PONot;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POOr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Subtract;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.data.DataType;
+import org.apache.pig.impl.builtin.StreamingUDF;
+
+/**
+ * Translates the expression plans of POFilter and POForEach into
+ * {@link VectorExpression}s. Only projections of single columns, constants,
+ * +, -, * over numbers, comparisons, boolean logic and calls of streaming
+ * udfs with a batch size are translated; for any other plan null is returned
+ * and the operator keeps processing one tuple at a time.
+ */
+public class VectorExpressionBuilder {
+
+    private VectorExpressionBuilder() {
+    }
+
+    /**
+     * @param plan an expression plan with a single leaf
+     * @param capacity batch size the expression will be evaluated on
+     * @return the vectorized expression, or null if the plan cannot be vectorized
+     */
+    public static VectorExpression build(PhysicalPlan plan, int capacity) throws ExecException {
+        List<PhysicalOperator> leaves = plan.getLeaves();
+        if (leaves == null || leaves.size() != 1) {
+            return null;
+        }
+        PhysicalOperator leaf = leaves.get(0);
+        if (leaf instanceof POProject && leaf.getResultType() != DataType.BAG) {
+            // A plain projection passes the value through untouched, whatever
+            // its declared type, so keep it boxed
+            int col = projectedColumn((POProject) leaf);
+            return col < 0 ? null : new ColumnProjection(col, DataType.UNKNOWN);
+        }
+        return build(leaf, capacity);
+    }
+
+    private static VectorExpression build(PhysicalOperator op, int capacity) throws ExecException {
+        byte type = op.getResultType();
+        if (op instanceof POProject) {
+            int col = projectedColumn((POProject) op);
+            return col < 0 || !isSupportedType(type) ? null : new ColumnProjection(col, type);
+        }
+        if (op instanceof ConstantExpression) {
+            return isSupportedType(type)
+                    ? new ConstantVectorExpression(((ConstantExpression) op).getValue(), type, capacity)
+                    : null;
+        }
+        if (op instanceof PONot) {
+            VectorExpression expr = build(((PONot) op).getExpr(), capacity);
+            return isBoolean(expr)
+                    ? new LogicalVectorExpression(LogicalVectorExpression.Op.NOT, expr, null, capacity)
+                    : null;
+        }
+        if (op instanceof POAnd || op instanceof POOr) {
+            BinaryExpressionOperator bin = (BinaryExpressionOperator) op;
+            VectorExpression lhs = build(bin.getLhs(), capacity);
+            VectorExpression rhs = build(bin.getRhs(), capacity);
+            if (!isBoolean(lhs) || !isBoolean(rhs)) {
+                return null;
+            }
+            return new LogicalVectorExpression(op instanceof POAnd
+                    ? LogicalVectorExpression.Op.AND : LogicalVectorExpression.Op.OR, lhs, rhs, capacity);
+        }
+        if (op instanceof BinaryComparisonOperator) {
+            return buildComparison((BinaryComparisonOperator) op, capacity);
+        }
+        if (op instanceof Add || op instanceof Subtract || op instanceof Multiply) {
+            return buildArithmetic((BinaryExpressionOperator) op, capacity);
+        }
+        if (op instanceof POUserFunc) {
+            return buildStreamingUDF((POUserFunc) op, capacity);
+        }
+        return null;
+    }
+
+    private static VectorExpression buildStreamingUDF(POUserFunc op, int capacity)
+            throws ExecException {
+        EvalFunc<?> func = op.getFunc();
+        if (!(func instanceof StreamingUDF) || ((StreamingUDF) func).getBatchSize() <= 0
+                || !isSupportedType(op.getResultType())) {
+            return null;
+        }
+        List<PhysicalOperator> inputs = op.getInputs();
+        VectorExpression[] args = new VectorExpression[inputs == null ? 0 : inputs.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = build(inputs.get(i), capacity);
+            if (args[i] == null) {
+                return null;
+            }
+        }
+        return new StreamingUDFVectorExpression((StreamingUDF) func, op.getResultType(), args, capacity);
+    }
+
+    private static VectorExpression buildComparison(BinaryComparisonOperator op, int capacity)
+            throws ExecException {
+        ComparisonVectorExpression.Op cmp;
+        if (op instanceof EqualToExpr) {
+            cmp = ComparisonVectorExpression.Op.EQ;
+        } else if (op instanceof NotEqualToExpr) {
+            cmp = ComparisonVectorExpression.Op.NE;
+        } else if (op instanceof LessThanExpr) {
+            cmp = ComparisonVectorExpression.Op.LT;
+        } else if (op instanceof LTOrEqualToExpr) {
+            cmp = ComparisonVectorExpression.Op.LTE;
+        } else if (op instanceof GreaterThanExpr) {
+            cmp = ComparisonVectorExpression.Op.GT;
+        } else if (op instanceof GTOrEqualToExpr) {
+            cmp = ComparisonVectorExpression.Op.GTE;
+        } else {
+            return null;
+        }
+        byte operandType = op.getOperandType();
+        if (!isSupportedType(operandType)
+                || (operandType == DataType.BOOLEAN
+                    && cmp != ComparisonVectorExpression.Op.EQ && cmp != ComparisonVectorExpression.Op.NE)) {
+            return null;
+        }
+        VectorExpression lhs = build(op.getLhs(), capacity);
+        VectorExpression rhs = build(op.getRhs(), capacity);
+        if (lhs == null || rhs == null
+                || lhs.getResultType() != operandType || rhs.getResultType() != operandType) {
+            return null;
+        }
+        return new ComparisonVectorExpression(cmp, operandType, lhs, rhs, capacity);
+    }
+
+    private static VectorExpression buildArithmetic(BinaryExpressionOperator op, int capacity)
+            throws ExecException {
+        byte type = op.getResultType();
+        if (type != DataType.INTEGER && type != DataType.LONG
+                && type != DataType.FLOAT && type != DataType.DOUBLE) {
+            return null;
+        }
+        VectorExpression lhs = build(op.getLhs(), capacity);
+        VectorExpression rhs = build(op.getRhs(), capacity);
+        if (lhs == null || rhs == null
+                || lhs.getResultType() != type || rhs.getResultType() != type) {
+            return null;
+        }
+        ArithmeticVectorExpression.Op arith = op instanceof Add ? ArithmeticVectorExpression.Op.ADD
+                : op instanceof Subtract ? ArithmeticVectorExpression.Op.SUBTRACT
+                : ArithmeticVectorExpression.Op.MULTIPLY;
+        return new ArithmeticVectorExpression(arith, type, lhs, rhs, capacity);
+    }
+
+    private static int projectedColumn(POProject project) throws ExecException {
+        if (project.isProjectToEnd() || project.isOverloaded()
+                || project.getColumns().size() != 1) {
+            return -1;
+        }
+        return project.getColumn();
+    }
+
+    private static boolean isBoolean(VectorExpression expr) {
+        return expr != null && expr.getResultType() == DataType.BOOLEAN;
+    }
+
+    private static boolean isSupportedType(byte type) {
+        switch (type) {
+        case DataType.BOOLEAN:
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+        case DataType.CHARARRAY:
+        case DataType.BYTEARRAY:
+        case DataType.DATETIME:
+        case DataType.BIGINTEGER:
+        case DataType.BIGDECIMAL:
+            return true;
+        default:
+            return false;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.spark;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.pig.backend.hadoop.executionengine.spark.converter.IndexedKey;
+import org.apache.pig.data.BinSedesTuple;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.DefaultDataBag;
+import org.apache.pig.data.DefaultTuple;
+import org.apache.pig.data.DistinctDataBag;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.NonSpillableDataBag;
+import org.apache.pig.data.SchemaTuple;
+import org.apache.pig.data.SortedDataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.spark.serializer.KryoRegistrator;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Registers serializers for the Pig types Spark shuffles, broadcasts and
+ * caches, so that Kryo writes them in the binary format Pig uses for
+ * intermediate data ({@link org.apache.pig.data.BinInterSedes}) instead of
+ * walking their fields. Set as spark.kryo.registrator by {@link SparkLauncher}.
+ * <p>
+ * As with intermediate data on MapReduce and Tez, bags are read back as
+ * default bags and tuples other than {@link DefaultTuple} and schema tuples
+ * as tuples of the default {@link org.apache.pig.data.TupleFactory}.
+ */
+public class PigKryoRegistrator implements KryoRegistrator {
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    @Override
+    public void registerClasses(Kryo kryo) {
+        // Kryo instances are not shared between threads, each gets its own serializers
+        TupleSerializer tuples = new TupleSerializer();
+        kryo.register(DefaultTuple.class, tuples);
+        kryo.register(BinSedesTuple.class, tuples);
+        kryo.addDefaultSerializer(SchemaTuple.class, tuples);
+
+        BagSerializer bags = new BagSerializer();
+        kryo.register(DefaultDataBag.class, bags);
+        kryo.register(DistinctDataBag.class, bags);
+        kryo.register(SortedDataBag.class, bags);
+        kryo.register(NonSpillableDataBag.class, bags);
+        kryo.addDefaultSerializer(DataBag.class, bags);
+
+        kryo.register(DataByteArray.class, new DataByteArraySerializer());
+        kryo.register(IndexedKey.class, new IndexedKeySerializer());
+    }
+
+    /**
+     * DataOutput over the Kryo output being written, reused across records.
+     */
+    private static class KryoDataOutput extends DataOutputStream {
+        KryoDataOutput() {
+            super(null);
+        }
+
+        KryoDataOutput wrap(OutputStream output) {
+            out = output;
+            return this;
+        }
+    }
+
+    /**
+     * DataInput over the Kryo input being read, reused across records.
+     */
+    private static class KryoDataInput extends DataInputStream {
+        KryoDataInput() {
+            super(null);
+        }
+
+        KryoDataInput wrap(InputStream input) {
+            in = input;
+            return this;
+        }
+    }
+
+    private abstract static class SedesSerializer<T> extends Serializer<T> {
+        private final KryoDataOutput dataOutput = new KryoDataOutput();
+        private final KryoDataInput dataInput = new KryoDataInput();
+
+        @Override
+        public void write(Kryo kryo, Output output, T object) {
+            try {
+                write(dataOutput.wrap(output), object);
+            } catch (IOException e) {
+                throw new KryoException(e);
+            }
+        }
+
+        @Override
+        public T read(Kryo kryo, Input input, Class<T> type) {
+            try {
+                return read(dataInput.wrap(input), type);
+            } catch (IOException e) {
+                throw new KryoException(e);
+            }
+        }
+
+        abstract void write(DataOutputStream out, T object) throws IOException;
+
+        abstract T read(DataInputStream in, Class<T> type) throws IOException;
+    }
+
+    static class TupleSerializer extends SedesSerializer<Tuple> {
+        @Override
+        void write(DataOutputStream out, Tuple t) throws IOException {
+            SEDES.writeDatum(out, t, DataType.TUPLE);
+        }
+
+        @Override
+        Tuple read(DataInputStream in, Class<Tuple> type) throws IOException {
+            if (DefaultTuple.class.equals(type)) {
+                Tuple t = new DefaultTuple();
+                SEDES.addColsToTuple(in, t);
+                return t;
+            }
+            return (Tuple) SEDES.readDatum(in);
+        }
+    }
+
+    static class BagSerializer extends SedesSerializer<DataBag> {
+        @Override
+        void write(DataOutputStream out, DataBag bag) throws IOException {
+            SEDES.writeDatum(out, bag, DataType.BAG);
+        }
+
+        @Override
+        DataBag read(DataInputStream in, Class<DataBag> type) throws IOException {
+            return (DataBag) SEDES.readDatum(in);
+        }
+    }
+
+    static class DataByteArraySerializer extends SedesSerializer<DataByteArray> {
+        @Override
+        void write(DataOutputStream out, DataByteArray bytes) throws IOException {
+            SEDES.writeDatum(out, bytes, DataType.BYTEARRAY);
+        }
+
+        @Override
+        DataByteArray read(DataInputStream in, Class<DataByteArray> type) throws IOException {
+            return (DataByteArray) SEDES.readDatum(in);
+        }
+    }
+
+    static class IndexedKeySerializer extends SedesSerializer<IndexedKey> {
+        @Override
+        void write(DataOutputStream out, IndexedKey key) throws IOException {
+            out.writeByte(key.getIndex());
+            SEDES.writeDatum(out, key.getKey());
+            out.writeBoolean(key.isUseSecondaryKey());
+            boolean[] order = key.getSecondarySortOrder();
+            if (order == null) {
+                out.writeInt(-1);
+            } else {
+                out.writeInt(order.length);
+                for (boolean asc : order) {
+                    out.writeBoolean(asc);
+                }
+            }
+        }
+
+        @Override
+        IndexedKey read(DataInputStream in, Class<IndexedKey> type) throws IOException {
+            IndexedKey key = new IndexedKey(in.readByte(), SEDES.readDatum(in));
+            key.setUseSecondaryKey(in.readBoolean());
+            int length = in.readInt();
+            if (length >= 0) {
+                boolean[] order = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    order[i] = in.readBoolean();
+                }
+                key.setSecondarySortOrder(order);
+            }
+            return key;
+        }
+    }
+}
@@ -610,6 +610,7 @@ public class SparkLauncher extends Launcher {
                 sparkConf.set("spark.executor.userClassPathFirst", "true");
             }
             checkAndConfigureDynamicAllocation(master, sparkConf);
+            configureSerializer(sparkConf, pigCtxtProperties);
 
             sparkContext = new JavaSparkContext(sparkConf);
             jobConf.set(SPARK_VERSION, sparkContext.version());
@@ -618,6 +619,23 @@ public class SparkLauncher extends Launcher {
         }
     }
 
+    /**
+     * Registers the serializers of {@link PigKryoRegistrator} for the tuples,
+     * bags and keys of shuffles, which are used whenever spark.serializer is Kryo.
+     */
+    private static void configureSerializer(SparkConf sparkConf, Properties pigCtxtProperties) {
+        if (!sparkConf.contains("spark.serializer") && Boolean.parseBoolean(
+                pigCtxtProperties.getProperty(PigConfiguration.PIG_SPARK_KRYO_ENABLED, "false"))) {
+            sparkConf.set("spark.serializer", "org.apache.spark.serializer.KryoSerializer");
+        }
+        String registrators = sparkConf.get("spark.kryo.registrator", "");
+        if (!registrators.contains(PigKryoRegistrator.class.getName())) {
+            sparkConf.set("spark.kryo.registrator", registrators.isEmpty()
+                    ? PigKryoRegistrator.class.getName()
+                    : registrators + "," + PigKryoRegistrator.class.getName());
+        }
+    }
+
     private static void checkAndConfigureDynamicAllocation(String master, SparkConf sparkConf) {
         if (sparkConf.getBoolean("spark.dynamicAllocation.enabled", false)) {
             if (!master.startsWith("yarn")) {
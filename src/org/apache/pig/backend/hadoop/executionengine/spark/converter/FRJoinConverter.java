@@ -37,6 +37,7 @@ import org.apache.pig.backend.hadoop.executionengine.spark.SparkPigContext;
 import org.apache.pig.backend.hadoop.executionengine.spark.SparkShims;
 import org.apache.pig.backend.hadoop.executionengine.spark.SparkUtil;
 import org.apache.pig.data.Tuple;
+import org.apache.spark.broadcast.Broadcast;
 import org.apache.spark.rdd.RDD;
 
 @SuppressWarnings("serial")
@@ -59,12 +60,17 @@ public class FRJoinConverter implements
 
     private void attachReplicatedInputs(POFRJoinSpark poFRJoin) {
         Map<String, List<Tuple>> replicatedInputMap = new HashMap<>();
+        // broadcast ids are unique within the application, so tasks on an
+        // executor can share the tables built from them
+        StringBuilder broadcastsKey = new StringBuilder();
 
         for (String replicatedInput : replicatedInputs) {
-            replicatedInputMap.put(replicatedInput, SparkPigContext.get().getBroadcastedVars().get(replicatedInput).value());
+            Broadcast<List<Tuple>> broadcast = SparkPigContext.get().getBroadcastedVars().get(replicatedInput);
+            replicatedInputMap.put(replicatedInput, broadcast.value());
+            broadcastsKey.append(replicatedInput).append('=').append(broadcast.id()).append(';');
         }
 
-        poFRJoin.attachInputs(replicatedInputMap);
+        poFRJoin.attachInputs(replicatedInputMap, broadcastsKey.toString());
     }
 
     private static class FRJoinFunction implements
@@ -97,6 +97,7 @@ import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.OperatorPlan;
 import org.apache.pig.impl.plan.PlanException;
 import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.CompilerUtils;
 import org.apache.pig.impl.util.MultiMap;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.Pair;
@@ -651,6 +652,7 @@ public class SparkCompiler extends PhyPlanVisitor {
     public void visitGlobalRearrange(POGlobalRearrange op)
             throws VisitorException {
         try {
+            addBloomToJoin(op);
             POGlobalRearrangeSpark glbOp = new POGlobalRearrangeSpark(op);
             addToPlan(glbOp);
             if (op.isCross()) {
@@ -667,12 +669,109 @@ public class SparkCompiler extends PhyPlanVisitor {
         }
     }
 
+    /**
+     * Bloom join. The bloom filter is built from the join keys of one input
+     * in a group all spark operator that runs before the join, and the
+     * records of the other inputs whose key is not in it are dropped before
+     * their local rearrange. If the inputs can not be told apart in the
+     * plans, it falls back to a regular join.
+     * @param op global rearrange of the join
+     */
+    private void addBloomToJoin(POGlobalRearrange op) throws IOException, PlanException, VisitorException {
+        List<PhysicalOperator> succs = physicalPlan.getSuccessors(op);
+        if (succs == null || !(succs.get(0) instanceof POPackage)
+                || ((POPackage) succs.get(0)).getPkgr().getPackageType() != Packager.PackageType.BLOOMJOIN) {
+            return;
+        }
+        boolean[] inner = ((POPackage) succs.get(0)).getPkgr().getInner();
+        POLocalRearrange[] lrs = new POLocalRearrange[inner.length];
+        SparkOperator[] sparkOps = new SparkOperator[inner.length];
+        for (SparkOperator sparkOp : compiledInputs) {
+            for (PhysicalOperator leaf : sparkOp.physicalPlan.getLeaves()) {
+                if (leaf instanceof POLocalRearrange && op.getInputs().contains(leaf)) {
+                    int index = ((POLocalRearrange) leaf).getIndex();
+                    lrs[index] = (POLocalRearrange) leaf;
+                    sparkOps[index] = sparkOp;
+                }
+            }
+        }
+        int build = CompilerUtils.getBloomJoinBuildInput(inner);
+        SparkOperator buildSparkOp = sparkOps[build];
+        boolean supported = buildSparkOp != null && buildSparkOp.physicalPlan.getLeaves().size() == 1
+                && buildSparkOp.scalars.isEmpty();
+        for (int i = 0; i < sparkOps.length; i++) {
+            if (i != build && (sparkOps[i] == null || sparkOps[i] == buildSparkOp)) {
+                supported = false;
+            }
+        }
+        if (!supported) {
+            LOG.info("Bloom filter can not be added to the join, falling back to regular join");
+            return;
+        }
+
+        // Operator building the bloom filter from a copy of the plan of the input
+        SparkOperator bloomSparkOp = getSparkOp();
+        try {
+            bloomSparkOp.physicalPlan = buildSparkOp.physicalPlan.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new PlanException("Error cloning the plan of the bloom join input", e);
+        }
+        PhysicalPlan buildPlan = bloomSparkOp.physicalPlan;
+        buildPlan.remove(buildPlan.getLeaves().get(0));
+        buildPlan.addAsLeaf(CompilerUtils.getBloomJoinKeys(lrs[build]));
+        buildPlan.addAsLeaf(CompilerUtils.getGroupAllRearrange(scope));
+        buildPlan.addAsLeaf(new POGlobalRearrangeSpark(new POGlobalRearrange(
+                new OperatorKey(scope, nig.getNextNodeId(scope)))));
+        buildPlan.addAsLeaf(CompilerUtils.getGroupAllPackage(scope));
+        POForEach fe = CompilerUtils.getBuildJoinBloom(pigContext.getProperties(), scope);
+        buildPlan.addAsLeaf(fe);
+        FileSpec bloomFile = getTempFileSpec();
+        POStore st = getStore();
+        st.setSFile(bloomFile);
+        buildPlan.addAsLeaf(st);
+        bloomSparkOp.requestedParallelism = 1;
+        bloomSparkOp.UDFs.addAll(buildSparkOp.UDFs);
+        bloomSparkOp.markGroupBy();
+        SparkOperator prevSparkOp = curSparkOp;
+        curSparkOp = bloomSparkOp;
+        processUDFs(fe.getInputPlans().get(0));
+        sparkPlan.add(bloomSparkOp);
+        List<SparkOperator> preds = sparkPlan.getPredecessors(buildSparkOp);
+        if (preds != null) {
+            for (SparkOperator pred : preds) {
+                sparkPlan.connect(pred, bloomSparkOp);
+            }
+        }
+
+        // Filter the other inputs with it
+        for (int i = 0; i < sparkOps.length; i++) {
+            if (i == build) {
+                continue;
+            }
+            SparkOperator sparkOp = sparkOps[i];
+            POFilter filter = CompilerUtils.getBloomJoinFilter(lrs[i], bloomFile.getFileName());
+            PhysicalOperator pred = sparkOp.physicalPlan.getPredecessors(lrs[i]).get(0);
+            sparkOp.physicalPlan.add(filter);
+            sparkOp.physicalPlan.disconnect(pred, lrs[i]);
+            sparkOp.physicalPlan.connect(pred, filter);
+            sparkOp.physicalPlan.connect(filter, lrs[i]);
+            curSparkOp = sparkOp;
+            processUDFs(filter.getPlan());
+            if (!sparkPlan.pathExists(bloomSparkOp, sparkOp)) {
+                sparkPlan.connect(bloomSparkOp, sparkOp);
+            }
+        }
+        curSparkOp = prevSparkOp;
+    }
+
     @Override
     public void visitPackage(POPackage op) throws VisitorException {
         try {
             addToPlan(op);
             phyToSparkOpMap.put(op, curSparkOp);
-            if (op.getPkgr().getPackageType() == Packager.PackageType.JOIN) {
+            if (op.getPkgr().getPackageType() == Packager.PackageType.JOIN
+                    || op.getPkgr().getPackageType() == Packager.PackageType.BLOOMJOIN) {
+                // The bloom filter of a bloom join is added in visitGlobalRearrange
                 curSparkOp.markRegularJoin();
             } else if (op.getPkgr().getPackageType() == Packager.PackageType.GROUP) {
                 if (op.getNumInps() == 1) {
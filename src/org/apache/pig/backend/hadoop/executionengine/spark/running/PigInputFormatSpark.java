@@ -39,6 +39,7 @@ import org.apache.pig.backend.hadoop.executionengine.spark.SparkPigRecordReader;
 import org.apache.pig.backend.hadoop.executionengine.spark.SparkPigSplit;
 import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
 import org.apache.pig.data.SchemaTupleBackend;
+import org.apache.pig.data.SpillFileFormat;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.PigImplConstants;
@@ -108,6 +109,7 @@ public class PigInputFormatSpark extends PigInputFormat {
         MapRedUtil.setupUDFContext(jobConf);
         PigContext pc = (PigContext) ObjectSerializer.deserialize(jobConf.get("pig.pigContext"));
         SchemaTupleBackend.initialize(jobConf, pc);
+        SpillFileFormat.configure(jobConf);
         PigMapReduce.sJobConfInternal.set(jobConf);
         PigHadoopLogger pigHadoopLogger = PigHadoopLogger.getInstance();
         pigHadoopLogger.setAggregate("true".equalsIgnoreCase(jobConf.get("aggregate.warning")));
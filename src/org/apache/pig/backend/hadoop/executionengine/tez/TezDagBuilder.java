@@ -76,6 +76,7 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigFloatRawC
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigInputFormat;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigIntRawComparator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigLongRawComparator;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigNormalizedTupleSortComparator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigOutputFormat;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSecondaryKeyComparator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextRawComparator;
@@ -89,6 +90,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.Physica
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.Packager.PackageType;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
@@ -102,6 +104,8 @@ import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POShuffle
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POStoreTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PartitionerDefinedVertexManager;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigGraceShuffleVertexManager;
+import org.apache.pig.backend.hadoop.executionengine.tez.runtime.SkewSplitPartitioner;
+import org.apache.pig.backend.hadoop.executionengine.tez.runtime.SkewSplitVertexManager;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigInputFormatTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigOutputFormatTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.PigProcessor;
@@ -114,6 +118,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.PigImplConstants;
 import org.apache.pig.impl.io.FileLocalizer;
+import org.apache.pig.impl.io.NullableNormalizedTuple;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.plan.DependencyOrderWalker;
@@ -485,6 +490,12 @@ public class TezDagBuilder extends TezOpPlanVisitor {
             if (lr.containsOutputKey(to.getOperatorKey().toString())) {
                 byte keyType = lr.getKeyType();
                 setIntermediateOutputKeyValue(keyType, conf, to, lr.isConnectedToPackage(), isMergedInput);
+                if (lr.getNormalizedSortOrder() != null) {
+                    conf.set(TezRuntimeConfiguration.TEZ_RUNTIME_KEY_CLASS,
+                            NullableNormalizedTuple.class.getName());
+                    conf.setClass(TezRuntimeConfiguration.TEZ_RUNTIME_KEY_COMPARATOR_CLASS,
+                            PigNormalizedTupleSortComparator.class, RawComparator.class);
+                }
                 // In case of secondary key sort, main key type is the actual key type
                 conf.set("pig.reduce.key.type", Byte.toString(lr.getMainKeyType()));
                 break;
@@ -541,6 +552,13 @@ public class TezDagBuilder extends TezOpPlanVisitor {
                     edge.partitionerClass.getName());
         }
 
+        if (getSkewSplitInputs(to) != null) {
+            // count the records of each partition for SkewSplitVertexManager
+            conf.set(org.apache.hadoop.mapreduce.MRJobConfig.PARTITIONER_CLASS_ATTR,
+                    SkewSplitPartitioner.class.getName());
+            conf.set(SkewSplitPartitioner.VERTEX, to.getOperatorKey().toString());
+        }
+
         UserPayload payLoad = TezUtils.createUserPayloadFromConf(conf);
         out.setUserPayload(payLoad);
         in.setUserPayload(payLoad);
@@ -589,6 +607,59 @@ public class TezDagBuilder extends TezOpPlanVisitor {
                 edge.schedulingType, out, in);
     }
 
+    /**
+     * Checks whether a vertex is a hash join that splits its skewed partitions
+     * at runtime with {@link SkewSplitVertexManager}.
+     * @return for each predecessor, whether its records can be split, or null
+     *         if the vertex does not split skewed partitions
+     */
+    private Map<String, Boolean> getSkewSplitInputs(TezOperator tezOp) throws VisitorException {
+        if (!globalConf.getBoolean(PigConfiguration.PIG_TEZ_SKEW_SPLIT, false)
+                || !tezOp.isRegularJoin() || tezOp.isSkewedJoin() || tezOp.getVertexParallelism() <= 1) {
+            return null;
+        }
+        List<POPackage> pkgs = PlanHelper.getPhysicalOperators(tezOp.plan, POPackage.class);
+        if (pkgs.size() != 1 || pkgs.get(0).getPkgr().getPackageType() != PackageType.JOIN) {
+            return null;
+        }
+        boolean[] inner = pkgs.get(0).getPkgr().getInner();
+        int numInputs = pkgs.get(0).getNumInps();
+        List<TezOperator> preds = getPlan().getPredecessors(tezOp);
+        if (inner == null || inner.length != numInputs || preds == null || preds.size() != numInputs) {
+            return null;
+        }
+        // Each input has to come through its own scatter gather edge
+        String key = tezOp.getOperatorKey().toString();
+        Map<String, Boolean> inputs = new HashMap<String, Boolean>();
+        boolean[] seen = new boolean[numInputs];
+        for (TezOperator pred : preds) {
+            TezEdgeDescriptor edge = tezOp.inEdges.get(pred.getOperatorKey());
+            if (pred.isVertexGroup() || edge == null
+                    || edge.dataMovementType != DataMovementType.SCATTER_GATHER
+                    || edge.partitionerClass != null || edge.isUseSecondaryKey()
+                    || !edge.combinePlan.isEmpty()) {
+                return null;
+            }
+            int index = -1;
+            for (POLocalRearrangeTez lr : PlanHelper.getPhysicalOperators(pred.plan, POLocalRearrangeTez.class)) {
+                if (lr.containsOutputKey(key)) {
+                    if (index != -1 && index != lr.getIndex()) {
+                        return null;
+                    }
+                    index = lr.getIndex();
+                }
+            }
+            if (index < 0 || index >= numInputs || seen[index]) {
+                return null;
+            }
+            seen[index] = true;
+            // An input that may be missing for a key would have its other
+            // side emitted by every task of a split partition
+            inputs.put(pred.getOperatorKey().toString(), inner[index]);
+        }
+        return inputs;
+    }
+
     private void addCombiner(PhysicalPlan combinePlan, TezOperator pkgTezOp,
             Configuration conf, boolean isMergedInput) throws IOException {
         POPackage combPack = (POPackage) combinePlan.getRoots().get(0);
@@ -800,6 +871,20 @@ public class TezDagBuilder extends TezOpPlanVisitor {
             log.info("Estimate quantile for sample aggregation vertex " + tezOp.getOperatorKey().toString());
         }
 
+        List<String> skewSplitVertices = new ArrayList<String>();
+        List<TezOperator> successors = getPlan().getSuccessors(tezOp);
+        if (successors != null) {
+            for (TezOperator successor : successors) {
+                if (getSkewSplitInputs(successor) != null) {
+                    skewSplitVertices.add(successor.getOperatorKey().toString());
+                }
+            }
+        }
+        if (!skewSplitVertices.isEmpty()) {
+            payloadConf.setStrings(SkewSplitVertexManager.REPORT_VERTICES,
+                    skewSplitVertices.toArray(new String[skewSplitVertices.size()]));
+        }
+
         // set various parallelism into the job conf for later analysis, PIG-2779
         payloadConf.setInt(PigImplConstants.REDUCER_DEFAULT_PARALLELISM, pc.defaultParallel);
         payloadConf.setInt(PigImplConstants.REDUCER_REQUESTED_PARALLELISM, tezOp.getRequestedParallelism());
@@ -836,7 +921,23 @@ public class TezDagBuilder extends TezOpPlanVisitor {
         }
 
         // Set the right VertexManagerPlugin
-        if (tezOp.getEstimatedParallelism() != -1) {
+        Map<String, Boolean> skewSplitInputs = getSkewSplitInputs(tezOp);
+        if (skewSplitInputs != null) {
+            List<String> splittable = new ArrayList<String>();
+            for (Entry<String, Boolean> entry : skewSplitInputs.entrySet()) {
+                if (entry.getValue()) {
+                    splittable.add(entry.getKey());
+                }
+            }
+            vmPluginName = SkewSplitVertexManager.class.getName();
+            vmPluginConf = new Configuration(false);
+            vmPluginConf.setStrings(SkewSplitVertexManager.SPLITTABLE_INPUTS,
+                    splittable.toArray(new String[splittable.size()]));
+            if (globalConf.getBoolean(PigConfiguration.PIG_TEZ_AUTO_PARALLELISM_DISABLE_DAG_RECOVERY, false)) {
+                disableDAGRecovery = true;
+            }
+            log.info("Set VertexManagerPlugin to SkewSplitVertexManager for vertex " + tezOp.getOperatorKey().toString());
+        } else if (tezOp.getEstimatedParallelism() != -1) {
             boolean autoParallelism = false;
             if (tezOp.isGlobalSort()||tezOp.isSkewedJoin()) {
                 if (tezOp.getVertexParallelism()==-1 && (
@@ -47,8 +47,10 @@ import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
 import org.apache.pig.backend.hadoop.executionengine.Launcher;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezCompiler;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezOperPlan;
+import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezOperator;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezPOPackageAnnotator;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezPlanContainer;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.TezPlanContainerNode;
@@ -62,6 +64,7 @@ import org.apache.pig.backend.hadoop.executionengine.tez.plan.optimizer.NoopFilt
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.optimizer.ParallelismSetter;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.optimizer.SecondaryKeyOptimizerTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.plan.optimizer.UnionOptimizer;
+import org.apache.pig.backend.hadoop.executionengine.util.PersistedMergeJoinIndex;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.plan.CompilationMessageCollector;
 import org.apache.pig.impl.plan.CompilationMessageCollector.MessageType;
@@ -258,6 +261,7 @@ public class TezLauncher extends Launcher {
             }
             handleUnCaughtException(pc);
             boolean tezDAGSucceeded = reporter.notifyFinishedOrFailed();
+            completeMergeJoinIndexes(tezPlan, tezDAGSucceeded, conf);
             tezPlanContainer.updatePlan(tezPlan, tezDAGSucceeded);
             // if stop_on_failure is enabled, we need to stop immediately when any job has failed
             if (!tezDAGSucceeded) {
@@ -303,6 +307,27 @@ public class TezLauncher extends Launcher {
         return tezStats;
     }
 
+    /**
+     * Publishes the merge join indexes the DAG saved for the next runs, or
+     * removes them if it failed.
+     */
+    private void completeMergeJoinIndexes(TezOperPlan tezPlan, boolean succeeded,
+            Configuration conf) throws IOException {
+        for (TezOperator tezOp : tezPlan) {
+            for (POStore store : PlanHelper.getPhysicalOperators(tezOp.plan, POStore.class)) {
+                String fileName = store.getSFile().getFileName();
+                if (!PersistedMergeJoinIndex.isPending(fileName)) {
+                    continue;
+                }
+                if (succeeded) {
+                    PersistedMergeJoinIndex.publish(fileName, conf);
+                } else {
+                    PersistedMergeJoinIndex.discard(fileName, conf);
+                }
+            }
+        }
+    }
+
     private void handleUnCaughtException(PigContext pc) throws Exception {
       //check for the uncaught exceptions from TezJob thread
         //if the job controller fails before launching the jobs then there are
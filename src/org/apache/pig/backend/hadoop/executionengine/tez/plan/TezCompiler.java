@@ -114,6 +114,7 @@ import org.apache.pig.backend.hadoop.executionengine.tez.runtime.BloomFilterPart
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.SkewedPartitionerTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.WeightedRangePartitionerTez;
 import org.apache.pig.backend.hadoop.executionengine.tez.util.TezCompilerUtil;
+import org.apache.pig.backend.hadoop.executionengine.util.PersistedMergeJoinIndex;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.builtin.GetMemNumRows;
@@ -1259,26 +1260,54 @@ public class TezCompiler extends PhyPlanVisitor {
                     throw new TezCompilerException(errMsg,errCode);
                 }
 
-                String[] indexerArgs = new String[6];
                 List<PhysicalPlan> rightInpPlans = joinOp.getInnerPlansOf(1);
                 FileSpec origRightLoaderFileSpec = rightLoader.getLFile();
 
-                indexerArgs[0] = origRightLoaderFileSpec.getFuncSpec().toString();
-                indexerArgs[1] = ObjectSerializer.serialize((Serializable)rightInpPlans);
-                indexerArgs[2] = ObjectSerializer.serialize(rightPipelinePlan);
-                indexerArgs[3] = rightLoader.getSignature();
-                indexerArgs[4] = rightLoader.getOperatorKey().scope;
-                indexerArgs[5] = Boolean.toString(true);
-
-                FileSpec lFile = new FileSpec(rightLoader.getLFile().getFileName(),new FuncSpec(MergeJoinIndexer.class.getName(), indexerArgs));
-                rightLoader.setLFile(lFile);
-
-                // Loader of operator will return a tuple of form -
-                // (keyFirst1, keyFirst2, .. , position, splitIndex) See MergeJoinIndexer
+                // An index saved by an earlier run can only be trusted if nothing
+                // in this script writes the right input before the join
+                PersistedMergeJoinIndex persistedIndex = null;
+                if (tezPlan.getPredecessors(rightTezOpr) == null) {
+                    persistedIndex = PersistedMergeJoinIndex.get(pigContext, rightLoader,
+                            rightInpPlans, rightPipelinePlan);
+                }
 
-                rightTezOprAggr = getTezOp();
-                tezPlan.add(rightTezOprAggr);
-                TezCompilerUtil.simpleConnectTwoVertex(tezPlan, rightTezOpr, rightTezOprAggr, scope, nig);
+                POStore indexStore = null;
+                if (persistedIndex != null && persistedIndex.isComplete()) {
+                    // The index of the current right input is already there. Load it
+                    // instead of the right input, there is no need of the indexing job.
+                    FileSpec indexFile = persistedIndex.getFileSpec();
+                    LOG.info("Using merge join index " + indexFile.getFileName());
+                    POLoad indexLoad = new POLoad(OperatorKey.genOpKey(scope), indexFile);
+                    indexLoad.setPc(pigContext);
+                    indexLoad.setIsTmpLoad(true);
+                    indexLoad.setSignature(rightLoader.getSignature() + "_index");
+                    rightTezOpr.plan.replace(rightLoader, indexLoad);
+                    rightTezOprAggr = rightTezOpr;
+                } else {
+                    String[] indexerArgs = new String[6];
+                    indexerArgs[0] = origRightLoaderFileSpec.getFuncSpec().toString();
+                    indexerArgs[1] = ObjectSerializer.serialize((Serializable)rightInpPlans);
+                    indexerArgs[2] = ObjectSerializer.serialize(rightPipelinePlan);
+                    indexerArgs[3] = rightLoader.getSignature();
+                    indexerArgs[4] = rightLoader.getOperatorKey().scope;
+                    indexerArgs[5] = Boolean.toString(true);
+
+                    FileSpec lFile = new FileSpec(rightLoader.getLFile().getFileName(),new FuncSpec(MergeJoinIndexer.class.getName(), indexerArgs));
+                    rightLoader.setLFile(lFile);
+
+                    // Loader of operator will return a tuple of form -
+                    // (keyFirst1, keyFirst2, .. , position, splitIndex) See MergeJoinIndexer
+
+                    rightTezOprAggr = getTezOp();
+                    tezPlan.add(rightTezOprAggr);
+                    TezCompilerUtil.simpleConnectTwoVertex(tezPlan, rightTezOpr, rightTezOprAggr, scope, nig);
+
+                    if (persistedIndex != null) {
+                        // published by TezLauncher once the DAG succeeded
+                        indexStore = TezCompilerUtil.getStore(scope, nig);
+                        indexStore.setSFile(persistedIndex.getPendingFileSpec());
+                    }
+                }
                 rightTezOprAggr.setRequestedParallelism(1); // we need exactly one task for indexing job.
                 rightTezOprAggr.setDontEstimateParallelism(true);
 
@@ -1287,6 +1316,21 @@ public class TezCompiler extends PhyPlanVisitor {
                 rightTezOprAggr.plan.addAsLeaf(rightTezOprAggrOutput);
                 rightTezOprAggrOutput.addOutputKey(curTezOp.getOperatorKey().toString());
 
+                if (indexStore != null) {
+                    // Also save the index for the next runs
+                    TezOperator indexStoreOper = getTezOp();
+                    tezPlan.add(indexStoreOper);
+                    rightTezOprAggrOutput.addOutputKey(indexStoreOper.getOperatorKey().toString());
+                    TezEdgeDescriptor storeEdge = TezCompilerUtil.connect(tezPlan, rightTezOprAggr, indexStoreOper);
+                    TezCompilerUtil.configureValueOnlyTupleOutput(storeEdge, DataMovementType.ONE_TO_ONE);
+                    indexStoreOper.setRequestedParallelism(1);
+                    indexStoreOper.setDontEstimateParallelism(true);
+                    POValueInputTez indexInput = new POValueInputTez(OperatorKey.genOpKey(scope));
+                    indexInput.setInputKey(rightTezOprAggr.getOperatorKey().toString());
+                    indexStoreOper.plan.addAsLeaf(indexInput);
+                    indexStoreOper.plan.addAsLeaf(indexStore);
+                }
+
                 TezEdgeDescriptor edge = new TezEdgeDescriptor();
                 TezCompilerUtil.configureValueOnlyTupleOutput(edge, DataMovementType.BROADCAST);
                 TezCompilerUtil.connect(tezPlan, rightTezOprAggr, curTezOp, edge);
@@ -2342,6 +2386,13 @@ public class TezCompiler extends PhyPlanVisitor {
                 sortOrder[i] = sortOrderList.get(i);
             }
             oper2.setSortOrder(sortOrder);
+            // Multi column keys are shuffled normalized, unless a combiner
+            // rearranges them again for a limit
+            if ((fields == null || fields.length > 1) && limit == -1 && !sort.isUDFComparatorUsed
+                    && Boolean.parseBoolean(pigProperties.getProperty(
+                            PigConfiguration.PIG_EXEC_NORMALIZED_SORT_KEYS, "false"))) {
+                partitionerLR.setNormalizedSortOrder(sortOrder);
+            }
         }
 
         if (limit!=-1) {
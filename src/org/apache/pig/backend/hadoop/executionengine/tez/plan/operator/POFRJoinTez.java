@@ -32,6 +32,7 @@ import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFRJoin;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin.TuplesToSchemaTupleList;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinTable;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.ObjectCache;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezInput;
 import org.apache.pig.data.SchemaTupleBackend;
@@ -115,6 +116,14 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
         }
     }
 
+    /**
+     * The tables are shared through the Tez ObjectRegistry instead
+     */
+    @Override
+    protected String getReplicatedCacheKey() {
+        return null;
+    }
+
     /**
      * Builds the HashMaps by reading replicated inputs from broadcast edges
      *
@@ -156,6 +165,7 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
         long time1 = System.currentTimeMillis();
 
         replicates.set(fragment, null);
+        boolean compact = useCompactTable();
         int inputIdx = 0;
         // We need to adjust the index because the number of replInputs is
         // one less than the number of inputSchemas. The inputSchemas
@@ -165,8 +175,11 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
             SchemaTupleFactory inputSchemaTupleFactory = inputSchemaTupleFactories[schemaIdx];
             SchemaTupleFactory keySchemaTupleFactory = keySchemaTupleFactories[schemaIdx];
 
-            Map<Object, ArrayList<Tuple>> replicate;
-            if (keySchemaTupleFactory == null) {
+            ReplicatedJoinTable table = null;
+            Map<Object, ArrayList<Tuple>> replicate = null;
+            if (compact) {
+                table = new ReplicatedJoinTable();
+            } else if (keySchemaTupleFactory == null) {
                 replicate = new HashMap<Object, ArrayList<Tuple>>(4000);
             } else {
                 replicate = new TupleToMapKey(4000, keySchemaTupleFactory);
@@ -192,6 +205,10 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
                     retTuple.set(1, keyValue);
                     retTuple.set(2, val.getValueAsPigType());
                     Tuple valTuple = getValueTuple(lr, retTuple);
+                    if (table != null) {
+                        table.add(keyValue, valTuple);
+                        continue;
+                    }
 
                     ArrayList<Tuple> values = replicate.get(keyValue);
                     if (values == null) {
@@ -207,7 +224,14 @@ public class POFRJoinTez extends POFRJoin implements TezInput {
             } catch (IOException e) {
                 throw new ExecException(e);
             }
-            replicates.set(schemaIdx, replicate);
+            if (table != null) {
+                table.trimToSize();
+                log.info("Replicated input " + schemaIdx + " holds " + table.getNumValues()
+                        + " rows in " + table.getMemorySize() + " bytes");
+                replicates.set(schemaIdx, table);
+            } else {
+                replicates.set(schemaIdx, replicate);
+            }
             inputIdx++;
             schemaIdx++;
         }
@@ -31,7 +31,10 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezInput;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezOutput;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.NullableNormalizedTuple;
 import org.apache.pig.impl.io.NullablePartitionWritable;
+import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.tez.runtime.api.LogicalInput;
@@ -140,6 +143,9 @@ public class POIdentityInOutTez extends POLocalRearrangeTez implements TezInput,
                         wrappedKey.setPartition(-1);
                         curKey = wrappedKey;
                     }
+                    if (normalizedSortOrder != null) {
+                        curKey = normalize(curKey);
+                    }
                     for (Object val : vals) {
                         writer.write(curKey, val);
                     }
@@ -156,6 +162,9 @@ public class POIdentityInOutTez extends POLocalRearrangeTez implements TezInput,
                         // Serializing it would add overhead for MR as well.
                         wrappedKey.setPartition(-1);
                         writer.write(wrappedKey, reader.getCurrentValue());
+                    } else if (normalizedSortOrder != null) {
+                        writer.write(normalize(reader.getCurrentKey()),
+                                reader.getCurrentValue());
                     } else {
                         writer.write(reader.getCurrentKey(),
                                 reader.getCurrentValue());
@@ -170,6 +179,14 @@ public class POIdentityInOutTez extends POLocalRearrangeTez implements TezInput,
         }
     }
 
+    private NullableNormalizedTuple normalize(Object key) {
+        NullableTuple nt = (NullableTuple) key;
+        NullableNormalizedTuple normalized = new NullableNormalizedTuple(
+                (Tuple) nt.getValueAsPigType(), normalizedSortOrder);
+        normalized.setIndex(nt.getIndex());
+        return normalized;
+    }
+
     @Override
     public String name() {
         return "POIdentityInOutTez - " + mKey.toString() + "\t<-\t " + inputKey + "\t->\t " + outputKey;
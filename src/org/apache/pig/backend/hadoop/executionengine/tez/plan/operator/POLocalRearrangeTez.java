@@ -31,6 +31,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.tez.runtime.TezOutput;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.NullableNormalizedTuple;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
@@ -50,6 +51,8 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
     protected String outputKey;
     protected boolean connectedToPackage = true;
     protected boolean isSkewedJoin = false;
+    // Sort order of ORDER BY keys written normalized, null if they are not
+    protected boolean[] normalizedSortOrder;
 
     protected transient KeyValueWriter writer;
 
@@ -68,6 +71,7 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
             this.isSkewedJoin = copyTez.isSkewedJoin;
             this.connectedToPackage = copyTez.connectedToPackage;
             this.outputKey = copyTez.outputKey;
+            this.normalizedSortOrder = copyTez.normalizedSortOrder;
         }
     }
 
@@ -95,6 +99,18 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
         this.isSkewedJoin = isSkewedJoin;
     }
 
+    public boolean[] getNormalizedSortOrder() {
+        return normalizedSortOrder;
+    }
+
+    /**
+     * Writes the tuple keys as {@link NullableNormalizedTuple}s for the given
+     * sort order.
+     */
+    public void setNormalizedSortOrder(boolean[] normalizedSortOrder) {
+        this.normalizedSortOrder = normalizedSortOrder;
+    }
+
     @Override
     public String[] getTezOutputs() {
         return new String[] { outputKey };
@@ -139,7 +155,12 @@ public class POLocalRearrangeTez extends POLocalRearrange implements TezOutput {
                 if (illustrator == null) {
                     Tuple result = (Tuple) res.result;
                     Byte index = (Byte) result.get(0);
-                    PigNullableWritable key = HDataType.getWritableComparableTypes(result.get(1), keyType);
+                    PigNullableWritable key;
+                    if (normalizedSortOrder != null) {
+                        key = new NullableNormalizedTuple((Tuple) result.get(1), normalizedSortOrder);
+                    } else {
+                        key = HDataType.getWritableComparableTypes(result.get(1), keyType);
+                    }
                     NullableTuple val = new NullableTuple((Tuple)result.get(2));
 
                     // Both the key and the value need the index.  The key needs it so
@@ -18,6 +18,7 @@
 package org.apache.pig.backend.hadoop.executionengine.tez.plan.optimizer;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
@@ -35,6 +36,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLimit;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
@@ -49,6 +51,8 @@ import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.plan.DepthFirstWalker;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.tools.pigstats.StatisticsCatalog;
+import org.apache.pig.tools.pigstats.tez.TezScriptState;
 import org.apache.tez.dag.api.EdgeProperty.DataMovementType;
 
 /**
@@ -134,10 +138,17 @@ public class TezOperDependencyParallelismEstimator implements TezParallelismEsti
                 if (!pred.isVertexGroup() && applyFactor) {
                     predParallelism = predParallelism * pred.getParallelismFactor(tezOper);
                     if (pred.getTotalInputFilesSize() > 0) {
-                        // Estimate similar to mapreduce and use the maximum of two
-                        int parallelismBySize = (int) Math.ceil((double) pred
-                                .getTotalInputFilesSize() / bytesPerReducer);
-                        predParallelism = Math.max(predParallelism, parallelismBySize);
+                        double selectivity = getSelectivity(pred, conf);
+                        if (selectivity >= 0) {
+                            // The output size of the last run replaces the guessed factors
+                            predParallelism = Math.max(1, Math.ceil(pred.getTotalInputFilesSize()
+                                    * selectivity / bytesPerReducer));
+                        } else {
+                            // Estimate similar to mapreduce and use the maximum of two
+                            int parallelismBySize = (int) Math.ceil((double) pred
+                                    .getTotalInputFilesSize() / bytesPerReducer);
+                            predParallelism = Math.max(predParallelism, parallelismBySize);
+                        }
                     }
                 }
                 estimatedParallelism += predParallelism;
@@ -172,6 +183,19 @@ public class TezOperDependencyParallelismEstimator implements TezParallelismEsti
         return roundedEstimatedParallelism;
     }
 
+    // Records a vertex emitted per record read in the last run, or -1 if unknown
+    private static double getSelectivity(TezOperator tezOp, Configuration conf) throws IOException {
+        StatisticsCatalog catalog = StatisticsCatalog.get(conf);
+        if (catalog == null) {
+            return -1;
+        }
+        List<String> locations = new ArrayList<String>();
+        for (POLoad ld : PlanHelper.getPhysicalOperators(tezOp.plan, POLoad.class)) {
+            locations.add(ld.getLFile().getFileName());
+        }
+        return catalog.getSelectivity(StatisticsCatalog.getSignature(TezScriptState.getAlias(tezOp), locations));
+    }
+
     private static TezOperator getPredecessorWithKey(TezOperPlan plan, TezOperator tezOper, String inputKey) {
         List<TezOperator> preds = plan.getPredecessors(tezOper);
         for (TezOperator pred : preds) {
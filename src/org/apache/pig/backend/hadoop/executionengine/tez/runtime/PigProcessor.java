@@ -335,6 +335,19 @@ public class PigProcessor extends AbstractLogicalIOProcessor {
                 events.add(vmEvent);
                 getContext().sendEvents(events);
             }
+
+            // send the records written to each partition to the join
+            // vertices that split skewed partitions
+            String[] skewSplitVertices = conf.getStrings(SkewSplitVertexManager.REPORT_VERTICES);
+            if (skewSplitVertices != null) {
+                Map<String, long[]> counts = SkewSplitPartitioner.getAndResetCounts();
+                List<Event> events = Lists.newArrayListWithCapacity(skewSplitVertices.length);
+                for (String vertex : skewSplitVertices) {
+                    events.add(SkewSplitVertexManager.createReport(vertex, getContext().getTaskVertexName(),
+                            getContext().getTaskIndex(), counts.get(vertex)));
+                }
+                getContext().sendEvents(events);
+            }
         } catch (Exception e) {
             LOG.error("Encountered exception while processing: ", e);
             abortOutput();
@@ -400,6 +413,9 @@ public class PigProcessor extends AbstractLogicalIOProcessor {
 
     private void initializeOutputs(Map<String, LogicalOutput> outputs) throws Exception {
 
+        // drop counts left by an earlier task run by this thread
+        SkewSplitPartitioner.getAndResetCounts();
+
         for (Entry<String, LogicalOutput> entry : outputs.entrySet()) {
             LogicalOutput output = entry.getValue();
             LOG.info("Starting output " + output + " to vertex " + entry.getKey());
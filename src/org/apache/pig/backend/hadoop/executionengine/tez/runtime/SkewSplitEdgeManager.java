@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.tez.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.tez.dag.api.EdgeManagerPluginContext;
+import org.apache.tez.dag.api.EdgeManagerPluginOnDemand;
+import org.apache.tez.dag.api.UserPayload;
+
+/**
+ * Scatter gather edge into a join vertex where some partitions are read by
+ * several tasks. For each such partition, the edge either splits it, each
+ * task reading it from a share of the source tasks, or replicates it, each
+ * task reading it from all the source tasks. The tasks of a partition are
+ * consecutive and partitions keep their order.
+ */
+public class SkewSplitEdgeManager extends EdgeManagerPluginOnDemand {
+
+    private int numPartitions;
+    private int[] pieces;
+    private boolean[] split;
+    // first task of each partition
+    private int[] firstTask;
+    private int[] partitionOfTask;
+    private int numConsumerTasks;
+
+    public SkewSplitEdgeManager(EdgeManagerPluginContext context) {
+        super(context);
+    }
+
+    /**
+     * @param pieces number of tasks reading each partition
+     * @param split whether this edge splits or replicates each partition
+     *        read by several tasks
+     */
+    public static UserPayload createPayload(int[] pieces, boolean[] split) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(pieces.length);
+        for (int i = 0; i < pieces.length; i++) {
+            out.writeInt(pieces[i]);
+            out.writeBoolean(split[i]);
+        }
+        out.close();
+        return UserPayload.create(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    @Override
+    public void initialize() throws Exception {
+        ByteBuffer payload = getContext().getUserPayload().getPayload();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        numPartitions = in.readInt();
+        pieces = new int[numPartitions];
+        split = new boolean[numPartitions];
+        firstTask = new int[numPartitions + 1];
+        for (int i = 0; i < numPartitions; i++) {
+            pieces[i] = in.readInt();
+            split[i] = in.readBoolean();
+            firstTask[i + 1] = firstTask[i] + pieces[i];
+            numConsumerTasks += split[i] ? 1 : pieces[i];
+        }
+        partitionOfTask = new int[firstTask[numPartitions]];
+        for (int i = 0; i < numPartitions; i++) {
+            for (int task = firstTask[i]; task < firstTask[i + 1]; task++) {
+                partitionOfTask[task] = i;
+            }
+        }
+    }
+
+    @Override
+    public void prepareForRouting() throws Exception {
+    }
+
+    @Override
+    public int getNumDestinationTaskPhysicalInputs(int destinationTaskIndex) {
+        int partition = partitionOfTask[destinationTaskIndex];
+        int numSourceTasks = getContext().getSourceVertexNumTasks();
+        if (split[partition]) {
+            int piece = destinationTaskIndex - firstTask[partition];
+            return (numSourceTasks - piece + pieces[partition] - 1) / pieces[partition];
+        }
+        return numSourceTasks;
+    }
+
+    @Override
+    public int getNumSourceTaskPhysicalOutputs(int sourceTaskIndex) {
+        return numPartitions;
+    }
+
+    @Override
+    public int getNumDestinationConsumerTasks(int sourceTaskIndex) {
+        return numConsumerTasks;
+    }
+
+    @Override
+    public int routeInputErrorEventToSource(int destinationTaskIndex, int destinationFailedInputIndex) {
+        int partition = partitionOfTask[destinationTaskIndex];
+        if (split[partition]) {
+            int piece = destinationTaskIndex - firstTask[partition];
+            return destinationFailedInputIndex * pieces[partition] + piece;
+        }
+        return destinationFailedInputIndex;
+    }
+
+    @Override
+    public EventRouteMetadata routeDataMovementEventToDestination(int sourceTaskIndex,
+            int sourceOutputIndex, int destinationTaskIndex) {
+        if (sourceOutputIndex != partitionOfTask[destinationTaskIndex]) {
+            return null;
+        }
+        return routeFromSource(sourceTaskIndex, destinationTaskIndex);
+    }
+
+    @Override
+    public EventRouteMetadata routeCompositeDataMovementEventToDestination(int sourceTaskIndex,
+            int destinationTaskIndex) {
+        int input = inputIndex(sourceTaskIndex, destinationTaskIndex);
+        if (input < 0) {
+            return null;
+        }
+        return EventRouteMetadata.create(1, new int[] {input},
+                new int[] {partitionOfTask[destinationTaskIndex]});
+    }
+
+    @Override
+    public EventRouteMetadata routeInputSourceTaskFailedEventToDestination(int sourceTaskIndex,
+            int destinationTaskIndex) {
+        return routeFromSource(sourceTaskIndex, destinationTaskIndex);
+    }
+
+    private EventRouteMetadata routeFromSource(int sourceTaskIndex, int destinationTaskIndex) {
+        int input = inputIndex(sourceTaskIndex, destinationTaskIndex);
+        if (input < 0) {
+            return null;
+        }
+        return EventRouteMetadata.create(1, new int[] {input});
+    }
+
+    // Input of the destination task that reads from the source task, or -1
+    private int inputIndex(int sourceTaskIndex, int destinationTaskIndex) {
+        int partition = partitionOfTask[destinationTaskIndex];
+        if (split[partition]) {
+            int piece = destinationTaskIndex - firstTask[partition];
+            if (sourceTaskIndex % pieces[partition] != piece) {
+                return -1;
+            }
+            return sourceTaskIndex / pieces[partition];
+        }
+        return sourceTaskIndex;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.tez.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.mapreduce.lib.partition.HashPartitioner;
+
+/**
+ * Hash partitioner for the edges into a join vertex managed by
+ * {@link SkewSplitVertexManager}. It counts the records sent to each
+ * partition, which {@link PigProcessor} reports to the join vertex once the
+ * task is done.
+ */
+public class SkewSplitPartitioner extends HashPartitioner<Writable, Writable> implements Configurable {
+
+    // Name of the vertex the edge goes to
+    public static final String VERTEX = "pig.tez.skewsplit.vertex";
+
+    // Outputs are started and written to by the processor thread
+    private static final ThreadLocal<Map<String, long[]>> counts = new ThreadLocal<Map<String, long[]>>() {
+        @Override
+        protected Map<String, long[]> initialValue() {
+            return new HashMap<String, long[]>();
+        }
+    };
+
+    private Configuration conf;
+    private String vertex;
+    private long[] partitionCounts;
+
+    @Override
+    public void setConf(Configuration conf) {
+        this.conf = conf;
+        vertex = conf.get(VERTEX);
+    }
+
+    @Override
+    public Configuration getConf() {
+        return conf;
+    }
+
+    @Override
+    public int getPartition(Writable key, Writable value, int numPartitions) {
+        int partition = super.getPartition(key, value, numPartitions);
+        if (partitionCounts == null) {
+            partitionCounts = new long[numPartitions];
+            counts.get().put(vertex, partitionCounts);
+        }
+        partitionCounts[partition]++;
+        return partition;
+    }
+
+    /**
+     * @return number of records written to each partition by the current
+     *         task, by destination vertex. Outputs that had no records are
+     *         missing.
+     */
+    public static Map<String, long[]> getAndResetCounts() {
+        Map<String, long[]> result = counts.get();
+        counts.remove();
+        return result;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.tez.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.tez.common.TezUtils;
+import org.apache.tez.dag.api.EdgeManagerPluginDescriptor;
+import org.apache.tez.dag.api.EdgeProperty;
+import org.apache.tez.dag.api.InputDescriptor;
+import org.apache.tez.dag.api.VertexManagerPlugin;
+import org.apache.tez.dag.api.VertexManagerPluginContext;
+import org.apache.tez.dag.api.VertexManagerPluginContext.TaskWithLocationHint;
+import org.apache.tez.dag.api.event.VertexState;
+import org.apache.tez.dag.api.event.VertexStateUpdate;
+import org.apache.tez.runtime.api.Event;
+import org.apache.tez.runtime.api.events.VertexManagerEvent;
+
+import com.google.common.collect.Lists;
+
+/**
+ * VertexManagerPlugin of hash join vertices that splits skewed partitions.
+ * Every source task reports how many records it wrote to each partition of
+ * the join vertex (see {@link SkewSplitPartitioner}). Once all the source
+ * tasks are done, a partition holding several times the average number of
+ * records is read by extra tasks: the input with the most records for it is
+ * split among them, and the other inputs are replicated to all of them.
+ * Only inputs that the join does not need to see empty can be split, which
+ * rules out the replicated side of outer joins. The edges are then
+ * reconfigured with {@link SkewSplitEdgeManager}.
+ */
+public class SkewSplitVertexManager extends VertexManagerPlugin {
+    private static final Log LOG = LogFactory.getLog(SkewSplitVertexManager.class);
+
+    // Source vertices whose records can be split
+    public static final String SPLITTABLE_INPUTS = "pig.tez.skewsplit.splittable";
+
+    // Join vertices a source vertex reports record counts to
+    public static final String REPORT_VERTICES = "pig.tez.skewsplit.report";
+
+    // Partitions holding this many times the average are split
+    private static final int SKEW_FACTOR = 2;
+
+    // Tells the record counts apart from the events of the shuffle outputs
+    private static final int MAGIC = 0x50494753;
+
+    private Collection<String> splittable;
+    private int numSources;
+    private Map<String, Integer> sourceTasks = new HashMap<String, Integer>();
+    private Map<String, Map<Integer, long[]>> reports = new HashMap<String, Map<Integer, long[]>>();
+    private int parallelism = -1;
+    private boolean configured;
+    private boolean started;
+    private boolean scheduled;
+
+    public SkewSplitVertexManager(VertexManagerPluginContext context) {
+        super(context);
+    }
+
+    /**
+     * Creates the event a source task sends with its record counts.
+     * @param vertex join vertex
+     * @param sourceVertex vertex of the task
+     * @param taskIndex index of the task
+     * @param counts records written to each partition, null if none
+     */
+    public static VertexManagerEvent createReport(String vertex, String sourceVertex, int taskIndex,
+            long[] counts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeUTF(sourceVertex);
+        out.writeInt(taskIndex);
+        if (counts == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(counts.length);
+            for (long count : counts) {
+                out.writeLong(count);
+            }
+        }
+        out.close();
+        return VertexManagerEvent.create(vertex, ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    @Override
+    public void initialize() {
+        try {
+            Configuration conf = TezUtils.createConfFromUserPayload(getContext().getUserPayload());
+            splittable = conf.getStringCollection(SPLITTABLE_INPUTS);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        // this will prevent vertex from starting until we notify we are done
+        getContext().vertexReconfigurationPlanned();
+        Map<String, EdgeProperty> edges = getContext().getInputVertexEdgeProperties();
+        numSources = edges.size();
+        for (String source : edges.keySet()) {
+            reports.put(source, new HashMap<Integer, long[]>());
+            getContext().registerForVertexStateUpdates(source, EnumSet.of(VertexState.CONFIGURED));
+        }
+    }
+
+    @Override
+    public synchronized void onVertexStateUpdated(VertexStateUpdate stateUpdate) throws Exception {
+        String source = stateUpdate.getVertexName();
+        sourceTasks.put(source, getContext().getVertexNumTasks(source));
+        tryConfigure();
+    }
+
+    @Override
+    public synchronized void onVertexManagerEventReceived(VertexManagerEvent vmEvent) throws Exception {
+        ByteBuffer payload = vmEvent.getUserPayload().duplicate();
+        if (payload.remaining() < 4 || payload.getInt() != MAGIC) {
+            return;
+        }
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        String source = in.readUTF();
+        int taskIndex = in.readInt();
+        long[] counts = new long[in.readInt()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = in.readLong();
+        }
+        // a task that ran again reports the same counts
+        reports.get(source).put(taskIndex, counts);
+        tryConfigure();
+    }
+
+    @Override
+    public void onRootVertexInitialized(String inputName, InputDescriptor inputDescriptor,
+            List<Event> events) {
+        // Nothing to do
+    }
+
+    @Override
+    public void onSourceTaskCompleted(String srcVertexName, Integer srcTaskId) {
+        // Nothing to do
+    }
+
+    @Override
+    public synchronized void onVertexStarted(Map<String, List<Integer>> completions) {
+        started = true;
+        trySchedulingTasks();
+    }
+
+    private void tryConfigure() throws IOException {
+        if (configured || sourceTasks.size() < numSources) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : sourceTasks.entrySet()) {
+            if (reports.get(entry.getKey()).size() < entry.getValue()) {
+                return;
+            }
+        }
+        int numPartitions = getContext().getVertexNumTasks(getContext().getVertexName());
+        Map<String, long[]> counts = new HashMap<String, long[]>();
+        for (Map.Entry<String, Map<Integer, long[]>> entry : reports.entrySet()) {
+            long[] total = new long[numPartitions];
+            for (long[] taskCounts : entry.getValue().values()) {
+                for (int i = 0; i < taskCounts.length && i < numPartitions; i++) {
+                    total[i] += taskCounts[i];
+                }
+            }
+            counts.put(entry.getKey(), total);
+        }
+        Map<String, boolean[]> split = new HashMap<String, boolean[]>();
+        int[] pieces = splitPartitions(counts, sourceTasks, splittable, split);
+        parallelism = 0;
+        for (int i = 0; i < numPartitions; i++) {
+            parallelism += pieces[i];
+        }
+        if (parallelism != numPartitions) {
+            LOG.info("Splitting skewed partitions of " + getContext().getVertexName() + " across "
+                    + parallelism + " tasks instead of " + numPartitions);
+            Map<String, EdgeProperty> edgeManagers = new HashMap<String, EdgeProperty>();
+            for (Map.Entry<String, EdgeProperty> entry : getContext().getInputVertexEdgeProperties().entrySet()) {
+                EdgeProperty edge = entry.getValue();
+                EdgeManagerPluginDescriptor edgeManager = EdgeManagerPluginDescriptor.create(
+                        SkewSplitEdgeManager.class.getName());
+                edgeManager.setUserPayload(SkewSplitEdgeManager.createPayload(pieces, split.get(entry.getKey())));
+                edgeManagers.put(entry.getKey(), EdgeProperty.create(edgeManager, edge.getDataSourceType(),
+                        edge.getSchedulingType(), edge.getEdgeSource(), edge.getEdgeDestination()));
+            }
+            getContext().reconfigureVertex(parallelism, null, edgeManagers);
+        }
+        getContext().doneReconfiguringVertex();
+        configured = true;
+        trySchedulingTasks();
+    }
+
+    /**
+     * Decides which partitions to split.
+     * @param counts records of each input for each partition
+     * @param numTasks number of tasks of each input
+     * @param splittable inputs that can be split
+     * @param split filled with, for each input, the partitions it splits
+     * @return number of tasks reading each partition
+     */
+    public static int[] splitPartitions(Map<String, long[]> counts, Map<String, Integer> numTasks,
+            Collection<String> splittable, Map<String, boolean[]> split) {
+        int numPartitions = counts.values().iterator().next().length;
+        long[] total = new long[numPartitions];
+        long sum = 0;
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            split.put(entry.getKey(), new boolean[numPartitions]);
+            for (int i = 0; i < numPartitions; i++) {
+                total[i] += entry.getValue()[i];
+                sum += entry.getValue()[i];
+            }
+        }
+        double average = (double) sum / numPartitions;
+        int[] pieces = new int[numPartitions];
+        for (int i = 0; i < numPartitions; i++) {
+            pieces[i] = 1;
+            if (average == 0 || total[i] < SKEW_FACTOR * average) {
+                continue;
+            }
+            String largest = null;
+            for (String input : splittable) {
+                if (counts.containsKey(input)
+                        && (largest == null || counts.get(input)[i] > counts.get(largest)[i])) {
+                    largest = input;
+                }
+            }
+            if (largest == null) {
+                continue;
+            }
+            // each piece gets about the average from the split input, a
+            // source task can not be split further
+            int n = (int) Math.min(counts.get(largest)[i] / average, numTasks.get(largest));
+            if (n > 1) {
+                pieces[i] = n;
+                split.get(largest)[i] = true;
+            }
+        }
+        return pieces;
+    }
+
+    private void trySchedulingTasks() {
+        if (configured && started && !scheduled) {
+            LOG.info("Scheduling " + parallelism + " tasks for vertex " + getContext().getVertexName());
+            List<TaskWithLocationHint> tasksToStart = Lists.newArrayListWithCapacity(parallelism);
+            for (int i = 0; i < parallelism; ++i) {
+                tasksToStart.add(new TaskWithLocationHint(Integer.valueOf(i), null));
+            }
+            getContext().scheduleVertexTasks(tasksToStart);
+            scheduled = true;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.apache.pig.FuncSpec;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.FileSpec;
+import org.apache.pig.impl.io.InterStorage;
+import org.apache.pig.impl.util.UDFContext;
+
+/**
+ * Index of the right input of a merge join saved next to the sorted data, for
+ * the next merge joins on the same keys to use instead of running the
+ * indexing job again. Enabled with {@link PigConfiguration#PIG_MERGEJOIN_INDEX_PERSIST}.
+ * <p>
+ * Indexes are kept in the {@link #INDEX_DIR} directory of the input, which
+ * loaders skip as they skip all hidden files. An index is named after a digest
+ * of the loader and the join keys, followed by a digest of the paths, lengths,
+ * block sizes and modification times of the files of the input and of the
+ * split size settings, since the index refers to splits by number. An index
+ * is used only while these are unchanged, as are the operators between the
+ * load and the join. Inputs that are not a single directory are not indexed
+ * this way.
+ * <p>
+ * The indexing job writes the index to a pending location of its own, unused
+ * by the other runs. The launcher moves it in place with {@link #publish}
+ * once the job succeeded, and only then removes the indexes of the earlier
+ * versions of the input, so that compiling or explaining a script never
+ * changes the indexes.
+ */
+public class PersistedMergeJoinIndex {
+
+    private static final Log LOG = LogFactory.getLog(PersistedMergeJoinIndex.class);
+
+    public static final String INDEX_DIR = "_pig_mergejoin_index";
+
+    private static final String PENDING_PREFIX = "pending.";
+
+    private static final String[] SPLIT_SETTINGS = {
+        "mapreduce.input.fileinputformat.split.minsize",
+        "mapreduce.input.fileinputformat.split.maxsize",
+        "mapreduce.input.fileinputformat.input.dir.recursive",
+    };
+
+    private final FileSystem fs;
+    private final Path location;
+    private final Path pending;
+
+    private PersistedMergeJoinIndex(FileSystem fs, Path dir, String keyDigest, String dataDigest) {
+        this.fs = fs;
+        this.location = new Path(dir, keyDigest + "." + dataDigest);
+        this.pending = new Path(dir, PENDING_PREFIX + location.getName() + "." + UUID.randomUUID());
+    }
+
+    /**
+     * @param rightLoader load of the right input of the join
+     * @param keyPlans plans of the join keys of the right input
+     * @param rightPipelinePlan operators between the load and the join, if any
+     * @return the index of the right input, or null if persisted indexes are
+     *         disabled or the right input can not have one
+     */
+    public static PersistedMergeJoinIndex get(PigContext pc, POLoad rightLoader,
+            List<PhysicalPlan> keyPlans, PhysicalPlan rightPipelinePlan) {
+        Properties props = pc.getProperties();
+        if (!Boolean.parseBoolean(props.getProperty(PigConfiguration.PIG_MERGEJOIN_INDEX_PERSIST, "false"))) {
+            return null;
+        }
+        String fileName = rightLoader.getLFile().getFileName();
+        if (rightLoader.isTmpLoad() || fileName.contains(",") || fileName.matches(".*[*?\\[\\]{}].*")) {
+            LOG.info("Not persisting the merge join index of " + fileName
+                    + ", which is not a single directory");
+            return null;
+        }
+        StringBuilder keys = new StringBuilder();
+        keys.append(rightLoader.getLFile().getFuncSpec()).append('\n');
+        for (PhysicalPlan keyPlan : keyPlans) {
+            if (keyPlan.size() != 1 || !(keyPlan.getRoots().get(0) instanceof POProject)) {
+                LOG.info("Not persisting the merge join index of " + fileName
+                        + ", whose join keys are not columns");
+                return null;
+            }
+            POProject project = (POProject) keyPlan.getRoots().get(0);
+            keys.append(project.isStar()).append(' ').append(project.isProjectToEnd()).append(' ')
+                    .append(project.getStartCol()).append(' ').append(project.getColumns())
+                    .append(' ').append(project.getResultType()).append('\n');
+        }
+        // the operators the keys are read through, without their ids
+        if (rightPipelinePlan != null && !rightPipelinePlan.isEmpty()) {
+            ByteArrayOutputStream plan = new ByteArrayOutputStream();
+            rightPipelinePlan.explain(new PrintStream(plan), "text", true);
+            keys.append(plan.toString().replaceAll("scope-[0-9]+", "")).append('\n');
+        }
+        // the columns the loader was asked for and any other setting it keeps
+        Properties udfProps = UDFContext.getUDFContext().getUDFProperties(
+                rightLoader.getLoadFunc().getClass(), new String[] { rightLoader.getSignature() });
+        for (Map.Entry<Object, Object> e : new TreeMap<Object, Object>(udfProps).entrySet()) {
+            keys.append(e.getKey()).append('=').append(e.getValue()).append('\n');
+        }
+
+        Configuration conf = ConfigurationUtil.toConfiguration(props);
+        try {
+            Path input = new Path(fileName);
+            FileSystem fs = input.getFileSystem(conf);
+            FileStatus status = fs.getFileStatus(input);
+            if (!status.isDirectory()) {
+                return null;
+            }
+            input = status.getPath();
+            String data = describeFiles(fs, input);
+            StringBuilder settings = new StringBuilder(data);
+            for (String setting : SPLIT_SETTINGS) {
+                settings.append(setting).append('=').append(conf.get(setting)).append('\n');
+            }
+            return new PersistedMergeJoinIndex(fs, new Path(input, INDEX_DIR),
+                    DigestUtils.shaHex(keys.toString()), DigestUtils.shaHex(settings.toString()));
+        } catch (IOException e) {
+            LOG.warn("Not persisting the merge join index of " + fileName + ": " + e);
+            return null;
+        }
+    }
+
+    private static String describeFiles(FileSystem fs, Path input) throws IOException {
+        TreeMap<String, FileStatus> files = new TreeMap<String, FileStatus>();
+        String root = input.toUri().getPath();
+        RemoteIterator<LocatedFileStatus> it = fs.listFiles(input, true);
+        while (it.hasNext()) {
+            FileStatus file = it.next();
+            String relative = file.getPath().toUri().getPath().substring(root.length());
+            if (!isHidden(relative)) {
+                files.put(relative, file);
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, FileStatus> e : files.entrySet()) {
+            FileStatus file = e.getValue();
+            sb.append(e.getKey()).append(' ').append(file.getLen()).append(' ')
+                    .append(file.getBlockSize()).append(' ')
+                    .append(file.getModificationTime()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return whether a component of the relative path is hidden from loaders
+     */
+    private static boolean isHidden(String relative) {
+        for (String name : relative.split("/")) {
+            if (name.startsWith("_") || name.startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the index of the current input was completely written by an earlier run
+     */
+    public boolean isComplete() {
+        try {
+            return isComplete(fs, location);
+        } catch (IOException e) {
+            LOG.warn("Unable to read the merge join index " + location + ": " + e);
+        }
+        return false;
+    }
+
+    private static boolean isComplete(FileSystem fs, Path location) throws IOException {
+        if (!fs.exists(location) || fs.exists(new Path(location, "_temporary"))) {
+            return false;
+        }
+        for (FileStatus part : fs.listStatus(location)) {
+            if (!isHidden(part.getPath().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the file is an index written by an indexing job, which
+     *         is to be published once the job succeeded
+     */
+    public static boolean isPending(String fileName) {
+        return isIndex(fileName) && new Path(fileName).getName().startsWith(PENDING_PREFIX);
+    }
+
+    /**
+     * Moves the index written by a successful indexing job in place, unless
+     * another run did meanwhile, and removes the indexes of the earlier
+     * versions of the input.
+     * @param fileName pending location of the index
+     */
+    public static void publish(String fileName, Configuration conf) throws IOException {
+        Path written = new Path(fileName);
+        FileSystem fs = written.getFileSystem(conf);
+        Path dir = written.getParent();
+        String name = written.getName().substring(PENDING_PREFIX.length());
+        name = name.substring(0, name.lastIndexOf('.'));
+        Path location = new Path(dir, name);
+        if (isComplete(fs, location)) {
+            fs.delete(written, true);
+        } else {
+            fs.delete(location, true);
+            if (!fs.rename(written, location)) {
+                throw new IOException("Unable to move merge join index " + written + " to " + location);
+            }
+            LOG.info("Saved merge join index " + location);
+        }
+        String keyPrefix = name.substring(0, name.indexOf('.') + 1);
+        for (FileStatus index : fs.listStatus(dir)) {
+            String indexName = index.getPath().getName();
+            if (indexName.startsWith(keyPrefix) && !indexName.equals(name)) {
+                LOG.info("Removing merge join index " + index.getPath());
+                fs.delete(index.getPath(), true);
+            }
+        }
+    }
+
+    /**
+     * Removes the index written by an indexing job that failed.
+     * @param fileName pending location of the index
+     */
+    public static void discard(String fileName, Configuration conf) throws IOException {
+        Path written = new Path(fileName);
+        written.getFileSystem(conf).delete(written, true);
+    }
+
+    /**
+     * @return whether the file is a persisted index, which is written by a
+     *         temporary store but is not intermediate data to clean up
+     */
+    public static boolean isIndex(String fileName) {
+        Path parent = new Path(fileName).getParent();
+        return parent != null && INDEX_DIR.equals(parent.getName());
+    }
+
+    /**
+     * @return where the index is, with the function to store and load it
+     */
+    public FileSpec getFileSpec() {
+        return new FileSpec(location.toString(), new FuncSpec(InterStorage.class.getName()));
+    }
+
+    /**
+     * @return where the indexing job of this run writes the index, with the
+     *         function to store and load it
+     */
+    public FileSpec getPendingFileSpec() {
+        return new FileSpec(pending.toString(), new FuncSpec(InterStorage.class.getName()));
+    }
+}
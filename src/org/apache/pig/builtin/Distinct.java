@@ -28,6 +28,7 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.InternalDistinctBag;
+import org.apache.pig.data.InternalHashDistinctBag;
 import org.apache.pig.data.SingleTupleBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
@@ -42,6 +43,7 @@ public class Distinct  extends EvalFunc<DataBag> implements Algebraic {
     private static TupleFactory tupleFactory = TupleFactory.getInstance();
     private static boolean initialized = false;
     private static boolean useDefaultBag = false;
+    private static boolean useHashBag = false;
 
     @Override
     public DataBag exec(Tuple input) throws IOException {
@@ -103,12 +105,17 @@ public class Distinct  extends EvalFunc<DataBag> implements Algebraic {
                 String bagType = PigMapReduce.sJobConfInternal.get().get(PigConfiguration.PIG_CACHEDBAG_DISTINCT_TYPE);
                 if (bagType != null && bagType.equalsIgnoreCase("default")) {
                     useDefaultBag = true;
+                } else if (bagType != null && bagType.equalsIgnoreCase("hash")) {
+                    useHashBag = true;
                 }
             }
         }
         // by default, we create InternalDistinctBag, unless user configures
-        // explicitly to use old bag
-        return useDefaultBag ? BagFactory.getInstance().newDistinctBag() : new InternalDistinctBag(3);
+        // explicitly to use old bag or the hash partitioned one
+        if (useDefaultBag) {
+            return BagFactory.getInstance().newDistinctBag();
+        }
+        return useHashBag ? new InternalHashDistinctBag(3) : new InternalDistinctBag(3);
     }
 
     static private DataBag getDistinctFromNestedBags(Tuple input, EvalFunc evalFunc) throws IOException {
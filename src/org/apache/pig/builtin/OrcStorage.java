@@ -647,9 +647,11 @@ public class OrcStorage extends LoadFunc implements StoreFuncInterface, LoadMeta
                 HiveShims.addBetweenOpToBuilder(builder, getColumnName(lhs),
                         getColumnType(lhs), HiveShims.getSearchArgObjValue(between.getLower()),
                         HiveShims.getSearchArgObjValue(between.getUpper()));
+                break;
             case OP_IN:
                 InExpression in = (InExpression) rhs;
                 builder.in(getColumnName(lhs), getColumnType(lhs), getSearchArgObjValues(in.getValues()).toArray());
+                break;
             default:
                 throw new RuntimeException("Unsupported binary expression type: " + expr.getOpType() + " in " + expr);
             }
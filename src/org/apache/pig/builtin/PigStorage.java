@@ -70,9 +70,11 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextOutpu
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.bzip2r.Bzip2TextInputFormat;
 import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
 import org.apache.pig.impl.util.CastUtils;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.impl.util.StorageUtil;
@@ -152,6 +154,12 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
     protected boolean[] mRequiredColumns = null;
     private boolean mRequiredColumnsInitialized = false;
 
+    // Schema columns read by readTypedTuple, in tuple order
+    private int[] typedColumns = null;
+    private boolean typedRead = false;
+    private boolean utf8Caster = false;
+    private Object tagValue = null;
+
     // Indicates whether the input file name/path should be read.
     private boolean tagFile = false;
     private static final String TAG_SOURCE_FILE = "tagFile";
@@ -244,7 +252,6 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
 
     @Override
     public Tuple getNext() throws IOException {
-        mProtoTuple = new ArrayList<Object>();
         if (!mRequiredColumnsInitialized) {
             if (signature!=null) {
                 Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass());
@@ -252,12 +259,6 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
             }
             mRequiredColumnsInitialized = true;
         }
-        // Prepend input source path if source tagging is enabled
-        if (tagFile && (mRequiredColumns == null || mRequiredColumns[0])) {
-            mProtoTuple.add(new DataByteArray(sourcePath.getName()));
-        } else if (tagPath && (mRequiredColumns == null || mRequiredColumns[0])) {
-            mProtoTuple.add(new DataByteArray(sourcePath.toString()));
-        }
 
         try {
             boolean notDone = in.nextKeyValue();
@@ -267,6 +268,17 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
             Text value = (Text) in.getCurrentValue();
             byte[] buf = value.getBytes();
             int len = value.getLength();
+            if (!dontLoadSchema && initTypedColumns()) {
+                return readTypedTuple(buf, len);
+            }
+
+            mProtoTuple = new ArrayList<Object>();
+            // Prepend input source path if source tagging is enabled
+            if (tagFile && (mRequiredColumns == null || mRequiredColumns[0])) {
+                mProtoTuple.add(new DataByteArray(sourcePath.getName()));
+            } else if (tagPath && (mRequiredColumns == null || mRequiredColumns[0])) {
+                mProtoTuple.add(new DataByteArray(sourcePath.toString()));
+            }
             int start = 0;
             // If tagging is enabled, mRequiredColumns is created based on the
             // schema that includes tagfile/path as first index(0)
@@ -294,7 +306,7 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
         }
     }
 
-    private Tuple applySchema(Tuple tup) throws IOException {
+    private void loadSchema() throws IOException {
         if ( caster == null) {
             caster = getLoadCaster();
         }
@@ -302,7 +314,7 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
             Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass(),
                     new String[] {signature});
             String serializedSchema = p.getProperty(signature+".schema");
-            if (serializedSchema == null) return tup;
+            if (serializedSchema == null) return;
             try {
                 schema = new ResourceSchema(Utils.getSchemaFromString(serializedSchema));
             } catch (ParserException e) {
@@ -312,7 +324,148 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
                 // the user specified (or required)
             }
         }
+    }
+
+    /**
+     * Sets up reading fields straight into their schema types, when the
+     * schema is known and readField is not overridden.
+     * @return whether tuples are read with {@link #readTypedTuple}
+     */
+    private boolean initTypedColumns() throws IOException {
+        if (typedColumns == null) {
+            loadSchema();
+            if (schema == null || overridesReadField(getClass())) {
+                typedColumns = new int[0];
+                typedRead = false;
+            } else {
+                ResourceFieldSchema[] fieldSchemas = schema.getFields();
+                int num = 0;
+                int[] columns = new int[fieldSchemas.length];
+                for (int i = 0; i < fieldSchemas.length; i++) {
+                    if (mRequiredColumns == null || (mRequiredColumns.length>i && mRequiredColumns[i])) {
+                        columns[num++] = i;
+                    }
+                }
+                typedColumns = Arrays.copyOf(columns, num);
+                utf8Caster = caster.getClass() == Utf8StorageConverter.class;
+                typedRead = true;
+            }
+        }
+        return typedRead;
+    }
+
+    private static boolean overridesReadField(Class<?> c) {
+        for (; c != PigStorage.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("readField", byte[].class, int.class, int.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not declared by this class
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the required fields of a line into a tuple of their schema
+     * types. Fields are parsed from the line buffer as they are found,
+     * columns that are not required are skipped, and the rest of the line
+     * is not scanned once the last required field has been read.
+     */
+    private Tuple readTypedTuple(byte[] buf, int len) throws IOException {
+        ResourceFieldSchema[] fieldSchemas = schema.getFields();
+        int[] columns = typedColumns;
+        Tuple t = mTupleFactory.newTuple(columns.length);
+        int col = 0;
+        int fieldID = 0;
+        if (tagFile || tagPath) {
+            // the source name or path is the first column
+            if (columns.length > 0 && columns[0] == 0) {
+                if (tagValue == null) {
+                    byte[] tag = (tagFile ? sourcePath.getName() : sourcePath.toString()).getBytes("UTF-8");
+                    tagValue = readTypedField(tag, 0, tag.length, fieldSchemas[0]);
+                }
+                t.set(col++, tagValue);
+            }
+            fieldID = 1;
+        }
+        int start = 0;
+        for (int i = 0; col < columns.length && i <= len; i++) {
+            if (i == len || buf[i] == fieldDel) {
+                if (fieldID == columns[col]) {
+                    t.set(col++, readTypedField(buf, start, i, fieldSchemas[fieldID]));
+                }
+                start = i + 1;
+                fieldID++;
+            }
+        }
+        return t;
+    }
 
+    private Object readTypedField(byte[] buf, int start, int end, ResourceFieldSchema fieldSchema)
+            throws IOException {
+        if (start == end) {
+            return null;
+        }
+        byte type = fieldSchema.getType();
+        if (utf8Caster) {
+            // same results as Utf8StorageConverter, without copying the bytes
+            switch (type) {
+            case DataType.CHARARRAY:
+                return new String(buf, start, end - start, "UTF-8");
+            case DataType.INTEGER:
+                if (end - start < 10 && isInteger(buf, start, end)) {
+                    return Integer.valueOf((int) parseLong(buf, start, end));
+                }
+                break;
+            case DataType.LONG:
+                if (end - start < 19 && isInteger(buf, start, end)) {
+                    return Long.valueOf(parseLong(buf, start, end));
+                }
+                break;
+            case DataType.DOUBLE:
+                try {
+                    return Double.valueOf(new String(buf, start, end - start));
+                } catch (NumberFormatException e) {
+                    // let the caster report it
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        if (type == DataType.BYTEARRAY) {
+            return new DataByteArray(buf, start, end);
+        }
+        return CastUtils.convertToType(caster, Arrays.copyOfRange(buf, start, end),
+                fieldSchema, type);
+    }
+
+    // An optional minus sign followed by at least one digit
+    private static boolean isInteger(byte[] buf, int start, int end) {
+        int i = buf[start] == '-' ? start + 1 : start;
+        if (i == end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (buf[i] < '0' || buf[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseLong(byte[] buf, int start, int end) {
+        boolean negative = buf[start] == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            value = value * 10 + (buf[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private Tuple applySchema(Tuple tup) throws IOException {
+        loadSchema();
         if (schema != null) {
             ResourceFieldSchema[] fieldSchemas = schema.getFields();
             int tupleIdx = 0;
@@ -439,6 +592,7 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
         in = reader;
         if (tagFile || tagPath) {
             sourcePath = ((FileSplit)split.getWrappedSplit()).getPath();
+            tagValue = null;
         }
     }
 
@@ -547,9 +701,22 @@ LoadPushDown, LoadMetadata, StoreMetadata, OverwritableStoreFunc {
             Job job) throws IOException {
         if (!dontLoadSchema) {
             schema = (new JsonMetadata()).getSchema(location, job, isSchemaOn);
+            boolean scriptSchema = false;
+            if (schema == null && signature != null
+                    && job.getConfiguration().getBoolean(PigConfiguration.PIG_STORAGE_TYPED_LOAD, false)) {
+                // Read the fields as the types given in the as clause,
+                // instead of casting them after the load
+                Schema s = Utils.getScriptSchema(signature, job.getConfiguration());
+                if (s != null) {
+                    schema = new ResourceSchema(s);
+                    scriptSchema = true;
+                }
+            }
 
             if (signature != null && schema != null) {
-                if(tagFile) {
+                if (scriptSchema) {
+                    // the as clause already has the tag column
+                } else if(tagFile) {
                     schema = Utils.getSchemaWithInputSourceTag(schema, "INPUT_FILE_NAME");
                 } else if(tagPath) {
                     schema = Utils.getSchemaWithInputSourceTag(schema, "INPUT_FILE_PATH");
@@ -21,11 +21,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.pig.EvalFunc;
 import org.apache.pig.FuncSpec;
 import org.apache.pig.PigWarning;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.Regex;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.RegexMatcher;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.logicalLayer.FrontendException;
@@ -50,7 +51,7 @@ import org.apache.pig.impl.logicalLayer.schema.Schema;
 
 public class REGEX_EXTRACT extends EvalFunc<String> {
     String mExpression = null;
-    Pattern mPattern = null;
+    RegexMatcher mMatcher = null;
     boolean mUseMatches = false;
 
     public REGEX_EXTRACT() {}
@@ -82,7 +83,7 @@ public class REGEX_EXTRACT extends EvalFunc<String> {
                 try
                 {
                     mExpression = (String)input.get(1);
-                    mPattern = Pattern.compile(mExpression);
+                    mMatcher = Regex.compile(mExpression).matcher();
                 } catch (Exception e)
                 {
                     String msg = "RegexExtract : Mal-Formed Regular expression : "+input.get(1);
@@ -95,9 +96,9 @@ public class REGEX_EXTRACT extends EvalFunc<String> {
         }
         int mIndex = (Integer)input.get(2);
 
-        Matcher m = mPattern.matcher((String)input.get(0));
+        RegexMatcher m = mMatcher;
 
-        if (!mUseMatches&&m.find()||mUseMatches&&m.matches())
+        if (!mUseMatches&&m.find(input.get(0))||mUseMatches&&m.matches(input.get(0)))
         {
             if (m.groupCount()>=mIndex)
             {
@@ -20,11 +20,11 @@ package org.apache.pig.builtin;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.pig.EvalFunc;
 import org.apache.pig.FuncSpec;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.Regex;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.RegexMatcher;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
@@ -41,8 +41,8 @@ import org.apache.pig.impl.logicalLayer.schema.Schema;
  * <dt><b>Output:</b></dt>
  * <dd><code>A tuple of matched strings</code>.</dd>
  * <dt><b>Matching strategy:</b></dt>
- * <dd>Trying to match the entire input by using {@link Matcher#matches()} instead of
- * {@link Matcher#find()} (default useMatches=true).</dd>
+ * <dd>Trying to match the entire input by using {@link java.util.regex.Matcher#matches()} instead of
+ * {@link java.util.regex.Matcher#find()} (default useMatches=true).</dd>
  * <dd><code>DEFINE GREEDY_EXTRACT REGEX_EXTRACT_ALL('false');</code></dd>
  * </dl>
  */
@@ -70,7 +70,7 @@ public class REGEX_EXTRACT_ALL extends EvalFunc<Tuple> {
             if (!input.get(1).equals(mExpression)) {
                 try {
                     mExpression = (String)input.get(1);
-                    mPattern = Pattern.compile(mExpression);
+                    mMatcher = Regex.compile(mExpression).matcher();
                 } catch (Exception e) {
                     String msg = "RegexExtractAll : Mal-Formed Regular expression : "+input.get(1);
                     throw new IOException(msg);
@@ -81,8 +81,8 @@ public class REGEX_EXTRACT_ALL extends EvalFunc<Tuple> {
             throw new IOException(msg);
         }
 
-        Matcher m = mPattern.matcher((String)input.get(0));
-        if (mUseMatches&&!m.matches()||!mUseMatches&&!m.find()) {
+        RegexMatcher m = mMatcher;
+        if (mUseMatches&&!m.matches(input.get(0))||!mUseMatches&&!m.find(input.get(0))) {
             return null;
         }
         Tuple result = tupleFactory.newTuple(m.groupCount());
@@ -93,7 +93,7 @@ public class REGEX_EXTRACT_ALL extends EvalFunc<Tuple> {
     }
 
     String mExpression = null;
-    Pattern mPattern = null;
+    RegexMatcher mMatcher = null;
     @Override
     public Schema outputSchema(Schema input) {
         try {
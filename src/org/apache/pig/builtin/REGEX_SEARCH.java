@@ -18,10 +18,10 @@
 package org.apache.pig.builtin;
 
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.pig.EvalFunc;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.Regex;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.RegexMatcher;
 import org.apache.pig.data.*;
 import org.apache.pig.impl.logicalLayer.schema.Schema;
 import org.apache.pig.impl.util.*;
@@ -58,7 +58,7 @@ public class REGEX_SEARCH extends EvalFunc<DataBag> {
 			if (!input.get(1).equals(mExpression)) {
                 try {
                     mExpression = (String)input.get(1);
-                    mPattern = Pattern.compile(mExpression);
+                    mMatcher = Regex.compile(mExpression).matcher();
                 } catch (Exception e) {
                     String msg = "StringSearchAll : Mal-Formed Regular expression : "+input.get(1);
                     throw new IOException(msg);
@@ -68,8 +68,8 @@ public class REGEX_SEARCH extends EvalFunc<DataBag> {
             String msg = "StringSearchAll : Regular expression is null";
             throw new IOException(msg);
         }
-        Matcher m = mPattern.matcher((String)input.get(0));
-        if (!m.find()) {
+        RegexMatcher m = mMatcher;
+        if (!m.find(input.get(0))) {
             return null;
         }
 
@@ -86,7 +86,7 @@ public class REGEX_SEARCH extends EvalFunc<DataBag> {
     }
 
     String mExpression = null;
-    Pattern mPattern = null;
+    RegexMatcher mMatcher = null;
     @Override
     public Schema outputSchema(Schema input) {
         try {
@@ -21,11 +21,13 @@ package org.apache.pig.builtin;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import org.apache.pig.EvalFunc;
 import org.apache.pig.FuncSpec;
 import org.apache.pig.PigWarning;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.Regex;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.RegexMatcher;
+import org.apache.pig.data.DataByteArray;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.logicalLayer.FrontendException;
@@ -43,7 +45,9 @@ import org.apache.pig.impl.logicalLayer.schema.Schema;
  */
 public class REPLACE extends EvalFunc<String>
 {
-    private Pattern mPattern = null;
+    private Regex mRegex = null;
+
+    private RegexMatcher mMatcher = null;
 
     /**
      * Method invoked on every tuple during foreach evaluation
@@ -55,7 +59,8 @@ public class REPLACE extends EvalFunc<String>
         if (input == null || input.size() < 3)
             return null;
 
-        String source = (String)input.get(0);
+        Object src = input.get(0);
+        String source = src instanceof DataByteArray ? src.toString() : (String)src;
         String target = (String)input.get(1);
 
         if (source == null) {
@@ -67,9 +72,10 @@ public class REPLACE extends EvalFunc<String>
             return null;
         }
         
-        if (mPattern == null || ! target.equals(mPattern.pattern())) {
+        if (mRegex == null || ! target.equals(mRegex.pattern())) {
             try {
-                mPattern = Pattern.compile(target);
+                mRegex = Regex.compile(target);
+                mMatcher = mRegex.matcher();
             } catch (Exception e) {
                 warn("Replace : Mal-Formed Regular expression : " + target, PigWarning.UDF_WARNING_1);
                 return null;
@@ -79,7 +85,7 @@ public class REPLACE extends EvalFunc<String>
         String replacewith = (String)input.get(2);
         
         try {    
-           return mPattern.matcher(source).replaceAll(replacewith);
+           return mMatcher.replaceAll(source, replacewith);
         }catch(Exception e){
             warn("Replace : Failed to process input; error - " + e.getMessage(), PigWarning.UDF_WARNING_1);
             return null;
@@ -17,19 +17,17 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigHadoopLogger;
@@ -381,38 +379,18 @@ public abstract class DefaultAbstractBag implements DataBag {
             mSpillFiles = new FileList(1);
         }
 
-        String tmpDirName= System.getProperties().getProperty("java.io.tmpdir") ;
-        File tmpDir = new File(tmpDirName);
-
-        // if the directory does not exist, create it.
-        if (!tmpDir.exists()){
-            log.info("Temporary directory doesn't exists. Trying to create: " + tmpDir.getAbsolutePath());
-          // Create the directory and see if it was successful
-          if (tmpDir.mkdir()){
-            log.info("Successfully created temporary directory: " + tmpDir.getAbsolutePath());
-          } else {
-              // If execution reaches here, it means that we needed to create the directory but
-              // were not successful in doing so.
-              //
-              // If this directory is created recently then we can simply
-              // skip creation. This is to address a rare issue occuring in a cluster despite the
-              // the fact that spill() makes call to getSpillFile() in a synchronized
-              // block.
-              if (tmpDir.exists()) {
-                log.info("Temporary directory already exists: " + tmpDir.getAbsolutePath());
-              } else {
-                int errCode = 2111;
-                String msg = "Unable to create temporary directory: " + tmpDir.getAbsolutePath();
-                throw new ExecException(msg, errCode, PigException.BUG);
-              }
-          }
-        }
-
-        File f = File.createTempFile("pigbag", null);
+        File f = SpillFileFormat.createTempFile();
         f.deleteOnExit();
         mSpillFiles.add(f);
-        return new DataOutputStream(new BufferedOutputStream(
-            new FileOutputStream(f)));
+        return SpillFileFormat.create(f);
+    }
+
+    /**
+     * Opens a spill file written to the stream returned by
+     * {@link #getSpillFile()} for reading.
+     */
+    protected static DataInputStream openSpillFile(File f) throws IOException {
+        return SpillFileFormat.open(f);
     }
 
     /**
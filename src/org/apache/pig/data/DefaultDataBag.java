@@ -17,12 +17,9 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -206,14 +203,13 @@ public class DefaultDataBag extends DefaultAbstractBag {
                 // we know to read from the file next time we come
                 // through.
                 try {
-                    mIn = new DataInputStream(new BufferedInputStream(
-                        new FileInputStream(mSpillFiles.get(mFilePtr++))));
-                } catch (FileNotFoundException fnfe) {
-                    // We can't find our own spill file?  That should never
+                    mIn = openSpillFile(mSpillFiles.get(mFilePtr++));
+                } catch (IOException ioe) {
+                    // We can't open our own spill file?  That should never
                     // happen.
-                    String msg = "Unable to find our spill file.";
-                    log.fatal(msg, fnfe);
-                    throw new RuntimeException(msg, fnfe);
+                    String msg = "Unable to open our spill file.";
+                    log.fatal(msg, ioe);
+                    throw new RuntimeException(msg, ioe);
                 }
                 for (int i = 0; i < mMemoryPtr; i++) {
                     try {
@@ -285,14 +281,13 @@ public class DefaultDataBag extends DefaultAbstractBag {
             // Open the next file, then call ourselves again as it
             // will enter the if above.
             try {
-                mIn = new DataInputStream(new BufferedInputStream(
-                    new FileInputStream(mSpillFiles.get(mFilePtr++))));
-            } catch (FileNotFoundException fnfe) {
-                // We can't find our own spill file?  That should never
+                mIn = openSpillFile(mSpillFiles.get(mFilePtr++));
+            } catch (IOException ioe) {
+                // We can't open our own spill file?  That should never
                 // happen.
-                String msg = "Unable to find our spill file.";
-                log.fatal(msg, fnfe);
-                throw new RuntimeException(msg, fnfe);
+                String msg = "Unable to open our spill file.";
+                log.fatal(msg, ioe);
+                throw new RuntimeException(msg, ioe);
             }
             return readFromFile();
         }
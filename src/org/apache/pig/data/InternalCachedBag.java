@@ -17,13 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -78,7 +75,7 @@ public class InternalCachedBag extends SelfSpillBag {
             throw new IllegalStateException("InternalCachedBag is closed for adding new tuples");
         }
                 
-        if(mContents.size() < memLimit.getCacheLimit())  {
+        if(out == null && memLimit.canHold(mContents.size() + 1))  {
             mContents.add(t);           
             if(mContents.size() < 100)
             {
@@ -178,11 +175,11 @@ public class InternalCachedBag extends SelfSpillBag {
             if(mSpillFiles != null && mSpillFiles.size() > 0) {
                 File file = mSpillFiles.get(0);
                 try {
-                    in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                    in = openSpillFile(file);
                 }
-                catch(FileNotFoundException fnfe) {
-                    String msg = "Unable to find our spill file.";
-                    throw new RuntimeException(msg, fnfe);
+                catch(IOException ioe) {
+                    String msg = "Unable to open our spill file.";
+                    throw new RuntimeException(msg, ioe);
                 }
             }
         }
@@ -17,13 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -137,7 +134,7 @@ public class InternalDistinctBag extends SortedSpillBag {
                 throw new IllegalStateException("InternalDistinctBag is closed for adding new tuples");
             }
 
-            if (mContents.size() > memLimit.getCacheLimit()) {
+            if (!memLimit.canHold(mContents.size())) {
                 proactive_spill(null);
             }
 
@@ -260,18 +257,17 @@ public class InternalDistinctBag extends SortedSpillBag {
                 while (i.hasNext()) {
                     try {
                         DataInputStream in =
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
+                            openSpillFile(i.next());
                         mStreams.add(in);
                         // Add the first tuple from this file into the
                         // merge queue.
                         addToQueue(null, mStreams.size() - 1);
-                    } catch (FileNotFoundException fnfe) {
-                        // We can't find our own spill file?  That should
+                    } catch (IOException ioe) {
+                        // We can't open our own spill file?  That should
                         // never happen.
-                        String msg = "Unable to find our spill file.";
-                        log.fatal(msg, fnfe);
-                        throw new RuntimeException(msg, fnfe);
+                        String msg = "Unable to open our spill file.";
+                        log.fatal(msg, ioe);
+                        throw new RuntimeException(msg, ioe);
                     }
                 }
 
@@ -406,18 +402,17 @@ public class InternalDistinctBag extends SortedSpillBag {
                         try {
                             File f = i.next();
                             DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
+                                openSpillFile(f);
                             mStreams.add(in);
                             addToQueue(null, mStreams.size() - 1);
                             i.remove();
                             filesToDelete.add(f);
-                        } catch (FileNotFoundException fnfe) {
-                            // We can't find our own spill file?  That should
+                        } catch (IOException ioe) {
+                            // We can't open our own spill file?  That should
                             // neer happen.
-                            String msg = "Unable to find our spill file.";
-                            log.fatal(msg, fnfe);
-                            throw new RuntimeException(msg, fnfe);
+                            String msg = "Unable to open our spill file.";
+                            log.fatal(msg, ioe);
+                            throw new RuntimeException(msg, ioe);
                         }
                     }
 
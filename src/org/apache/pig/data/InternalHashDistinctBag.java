@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigCounters;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.classification.InterfaceStability;
+
+/**
+ * An unordered collection of Tuples with no multiples, kept in a
+ * {@link SerializedTupleSet} instead of the HashSet of
+ * {@link InternalDistinctBag}, and spilled by hybrid hash partitioning
+ * instead of sorted runs.
+ * <p>
+ * When the tuples in memory reach the limit, the partitions of the hash
+ * holding the most tuples are written to disk, until at most half of the
+ * tuples are left in memory. Later tuples of these partitions go straight
+ * to their file, duplicates included, while the other partitions are still
+ * deduplicated in memory. Once adding is done, each partition on disk is read
+ * back into a bag of its own, which partitions its tuples by other bits of the
+ * hash if they do not fit in memory either. Tuples are not sorted.
+ */
+@InterfaceAudience.Private
+@InterfaceStability.Evolving
+public class InternalHashDistinctBag extends SelfSpillBag {
+    private static final long serialVersionUID = 1L;
+
+    private static final Log log = LogFactory.getLog(InternalHashDistinctBag.class);
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    private static final int PARTITION_BITS = 4;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    // partitions of each level take the next bits of the hash from the top
+    private static final int MAX_LEVEL = 32 / PARTITION_BITS - 1;
+
+    private final int bagCount;
+    private final float percent;
+    private final int level;
+
+    private transient SerializedTupleSet set;
+    private transient DataOutputStream[] partitions;
+    private transient File[] partitionFiles;
+    private transient boolean addDone;
+
+    // number of tuples written to partitions, until the counter is incremented
+    private transient int numTuplesSpilled = 0;
+
+    public InternalHashDistinctBag() {
+        this(1, -1f);
+    }
+
+    public InternalHashDistinctBag(int bagCount) {
+        this(bagCount, -1f);
+    }
+
+    public InternalHashDistinctBag(int bagCount, float percent) {
+        this(bagCount, percent, 0);
+    }
+
+    private InternalHashDistinctBag(int bagCount, float percent, int level) {
+        super(bagCount, percent);
+        this.bagCount = bagCount;
+        this.percent = percent;
+        this.level = level;
+        init();
+    }
+
+    private void init() {
+        mContents = new ArrayList<Tuple>();
+        set = new SerializedTupleSet();
+        partitions = null;
+        partitionFiles = null;
+        addDone = false;
+    }
+
+    private int partition(int hash) {
+        return (hash >>> (32 - PARTITION_BITS * (level + 1))) & (PARTITIONS - 1);
+    }
+
+    @Override
+    public void add(Tuple t) {
+        if (set == null) {
+            init();
+        }
+        if (addDone) {
+            throw new IllegalStateException("InternalHashDistinctBag is closed for adding new tuples");
+        }
+        try {
+            int hash = SerializedTupleSet.hash(t);
+            DataOutputStream out = partitions == null ? null : partitions[partition(hash)];
+            if (out != null) {
+                set.write(t, out);
+                spilled(1);
+                return;
+            }
+            if (!memLimit.canHold(set.size() + 1)) {
+                spillPartitions();
+                out = partitions == null ? null : partitions[partition(hash)];
+                if (out != null) {
+                    set.write(t, out);
+                    spilled(1);
+                    return;
+                }
+            }
+            if (set.add(t)) {
+                mSize++;
+                if (set.size() <= 100) {
+                    memLimit.addNewObjSize(set.getLength(set.size() - 1) + SerializedTupleSet.ENTRY_OVERHEAD);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Adds a tuple read from a partition file of the parent bag.
+     */
+    private void add(byte[] bytes, int len, int hash) throws IOException {
+        DataOutputStream out = partitions == null ? null : partitions[partition(hash)];
+        if (out == null && !memLimit.canHold(set.size() + 1)) {
+            spillPartitions();
+            out = partitions == null ? null : partitions[partition(hash)];
+        }
+        if (out != null) {
+            out.writeInt(hash);
+            out.writeInt(len);
+            out.write(bytes, 0, len);
+            spilled(1);
+        } else if (set.add(bytes, 0, len, hash, null)) {
+            mSize++;
+            if (set.size() <= 100) {
+                memLimit.addNewObjSize(len + SerializedTupleSet.ENTRY_OVERHEAD);
+            }
+        }
+    }
+
+    /**
+     * Writes the partitions holding the most tuples in memory to disk, until
+     * at most half of the tuples are left in memory.
+     */
+    private void spillPartitions() throws IOException {
+        if (level > MAX_LEVEL) {
+            // all the bits of the hash are used, the tuples can not be split any further
+            return;
+        }
+        if (partitions == null) {
+            partitions = new DataOutputStream[PARTITIONS];
+            partitionFiles = new File[PARTITIONS];
+            incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_BAGS);
+        }
+        int[] counts = new int[PARTITIONS];
+        for (int e = 0; e < set.size(); e++) {
+            counts[partition(set.getHash(e))]++;
+        }
+        int left = set.size();
+        do {
+            int largest = -1;
+            for (int p = 0; p < PARTITIONS; p++) {
+                if (partitions[p] == null && (largest < 0 || counts[p] > counts[largest])) {
+                    largest = p;
+                }
+            }
+            if (largest < 0) {
+                break;
+            }
+            partitions[largest] = getSpillFile();
+            partitionFiles[largest] = mSpillFiles.get(mSpillFiles.size() - 1);
+            left -= counts[largest];
+        } while (left > set.size() / 2);
+
+        SerializedTupleSet kept = new SerializedTupleSet();
+        for (int e = 0; e < set.size(); e++) {
+            DataOutputStream out = partitions[partition(set.getHash(e))];
+            if (out != null) {
+                set.write(e, out);
+                mSize--;
+            } else {
+                kept.add(set, e);
+            }
+        }
+        spilled(set.size() - kept.size());
+        if (log.isDebugEnabled()) {
+            log.debug("Spilled " + (set.size() - kept.size()) + " of " + set.size() + " distinct tuples");
+        }
+        set = kept;
+        // the memory of the tuples left is reserved again as they are checked
+        memLimit.release();
+    }
+
+    private void spilled(int numTuples) {
+        numTuplesSpilled += numTuples;
+        if (numTuplesSpilled > 1000) {
+            updateSpillRecCounter();
+        }
+    }
+
+    private void updateSpillRecCounter() {
+        incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_RECS, numTuplesSpilled);
+        numTuplesSpilled = 0;
+    }
+
+    /**
+     * Marks adding as done, and replaces each partition file with the
+     * distinct tuples it holds.
+     */
+    private void addDone() {
+        addDone = true;
+        if (numTuplesSpilled > 0) {
+            updateSpillRecCounter();
+        }
+        if (partitions == null) {
+            return;
+        }
+        byte[] bytes = new byte[1024];
+        try {
+            for (int p = 0; p < PARTITIONS; p++) {
+                if (partitions[p] == null) {
+                    continue;
+                }
+                partitions[p].close();
+                partitions[p] = null;
+                InternalHashDistinctBag bag = new InternalHashDistinctBag(bagCount, percent, level + 1);
+                DataInputStream in = openSpillFile(partitionFiles[p]);
+                try {
+                    while (true) {
+                        int hash;
+                        try {
+                            hash = in.readInt();
+                        } catch (EOFException e) {
+                            break;
+                        }
+                        int len = in.readInt();
+                        if (len > bytes.length) {
+                            bytes = new byte[Math.max(len, bytes.length * 2)];
+                        }
+                        in.readFully(bytes, 0, len);
+                        bag.add(bytes, len, hash);
+                    }
+                } finally {
+                    in.close();
+                }
+                mSpillFiles.remove(partitionFiles[p]);
+                partitionFiles[p].delete();
+                partitionFiles[p] = null;
+
+                bag.addDone();
+                DataOutputStream out = getSpillFile();
+                try {
+                    bag.writeTuples(out);
+                } finally {
+                    out.close();
+                }
+                mSize += bag.size();
+                bag.clear();
+                reportProgress();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to deduplicate our spill files", e);
+        }
+    }
+
+    /**
+     * Writes the tuples of the bag, once adding is done, as {@link BinInterSedes} does.
+     */
+    private void writeTuples(DataOutputStream out) throws IOException {
+        for (int e = 0; e < set.size(); e++) {
+            set.writeTuple(e, out);
+        }
+        if (mSpillFiles != null) {
+            for (File f : mSpillFiles) {
+                DataInputStream in = openSpillFile(f);
+                try {
+                    while (true) {
+                        Object t;
+                        try {
+                            t = SEDES.readDatum(in);
+                        } catch (EOFException e) {
+                            break;
+                        }
+                        SEDES.writeDatum(out, t, DataType.TUPLE);
+                    }
+                } finally {
+                    in.close();
+                }
+            }
+        }
+    }
+
+    @Override
+    public long spill() {
+        // the bag never registers with the SpillableMemoryManager, it spills by itself
+        return 0;
+    }
+
+    @Override
+    public long getMemorySize() {
+        return set == null ? 0 : set.getMemorySize();
+    }
+
+    @Override
+    public long size() {
+        if (!addDone && partitions != null) {
+            addDone();
+        }
+        return mSize;
+    }
+
+    @Override
+    public void clear() {
+        if (partitions != null) {
+            for (DataOutputStream out : partitions) {
+                if (out != null) {
+                    try {
+                        out.close();
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                }
+            }
+        }
+        super.clear();
+        init();
+    }
+
+    @Override
+    public boolean isDistinct() {
+        return true;
+    }
+
+    @Override
+    public boolean isSorted() {
+        return false;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        if (set == null) {
+            init();
+        }
+        if (!addDone) {
+            addDone();
+        }
+        return new HashDistinctBagIterator();
+    }
+
+    private class HashDistinctBagIterator implements Iterator<Tuple> {
+        private final SerializedTupleSet inMemory = set;
+        private int entry = 0;
+        private int file = 0;
+        private DataInputStream in;
+        private Tuple next;
+        private long numTuplesRead = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            try {
+                if (entry < inMemory.size()) {
+                    next = inMemory.get(entry++);
+                    return true;
+                }
+                while (true) {
+                    if (in == null) {
+                        if (mSpillFiles == null || file >= mSpillFiles.size()) {
+                            return false;
+                        }
+                        in = openSpillFile(mSpillFiles.get(file++));
+                    }
+                    try {
+                        next = (Tuple) SEDES.readDatum(in);
+                        return true;
+                    } catch (EOFException e) {
+                        in.close();
+                        in = null;
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read our spill file.", e);
+            }
+        }
+
+        @Override
+        public Tuple next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements from iterator");
+            }
+            Tuple t = next;
+            next = null;
+            numTuplesRead++;
+            // This will report progress every 16383 records.
+            if ((numTuplesRead & 0x3fff) == 0) {
+                reportProgress();
+            }
+            return t;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove is not supported for HashDistinctBagIterator");
+        }
+    }
+}
@@ -17,16 +17,12 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -64,7 +60,7 @@ public class InternalSortedBag extends SortedSpillBag{
     private transient Comparator<Tuple> mComp;
     private transient boolean mReadStarted = false;
 
-    static private class DefaultComparator implements Comparator<Tuple> {
+    static private class DefaultComparator implements ThreadSafeComparator {
         @Override
         @SuppressWarnings("unchecked")
 		public int compare(Tuple t1, Tuple t2) {
@@ -116,7 +112,8 @@ public class InternalSortedBag extends SortedSpillBag{
 	            throw new IllegalStateException("InternalSortedBag is closed for adding new tuples");
 	        }
 	                
-	    	if (mContents.size() > memLimit.getCacheLimit()) {    		
+	    	// tuples of a spill still being written are in memory too
+	    	if (!memLimit.canHold(mContents.size() + getPendingSpillSize())) {
 	    		proactive_spill(mComp);
 	    	}
 	    	        
@@ -198,8 +195,9 @@ public class InternalSortedBag extends SortedSpillBag{
             // If this is the first read, we need to sort the data.
         	synchronized(mContents) {
 	        	if (!mReadStarted) {
+	                waitForPendingSpill();
 	                preMerge();
-	                Collections.sort((ArrayList<Tuple>)mContents, mComp);
+	                sortContents(mComp);
 	                mReadStarted = true;
 	            }            
         	}
@@ -255,14 +253,12 @@ public class InternalSortedBag extends SortedSpillBag{
                 Iterator<File> i = mSpillFiles.iterator();
                 while (i.hasNext()) {
                     try {
-                        DataInputStream in = 
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
+                        DataInputStream in = openSpillFile(i.next());
                         mStreams.add(in);
                         // Add the first tuple from this file into the
                         // merge queue.
                         addToQueue(null, mStreams.size() - 1);
-                    } catch (FileNotFoundException fnfe) {
+                    } catch (IOException fnfe) {
                         // We can't find our own spill file?  That should
                         // never happen.
                         String msg = "Unable to find our spill file."; 
@@ -356,8 +352,13 @@ public class InternalSortedBag extends SortedSpillBag{
          * use the sort spec that was provided to me.
          */
         private void preMerge() {
+            int fanIn = getMergeFanIn();
             if (mSpillFiles == null ||
-                    mSpillFiles.size() <= MAX_SPILL_FILES) {
+                    mSpillFiles.size() <= fanIn) {
+                return;
+            }
+            if (isParallel(mComp)) {
+                preMergeInParallel(mComp, fanIn);
                 return;
             }
 
@@ -372,24 +373,22 @@ public class InternalSortedBag extends SortedSpillBag{
             try {
                 LinkedList<File> ll = new LinkedList<File>(mSpillFiles);
                 LinkedList<File> filesToDelete = new LinkedList<File>();
-                while (ll.size() > MAX_SPILL_FILES) {
+                while (ll.size() > fanIn) {
                     ListIterator<File> i = ll.listIterator();
                     mStreams =
-                        new ArrayList<DataInputStream>(MAX_SPILL_FILES);
-                    mMergeQ = new PriorityQueue<PQContainer>(MAX_SPILL_FILES);
+                        new ArrayList<DataInputStream>(fanIn);
+                    mMergeQ = new PriorityQueue<PQContainer>(fanIn);
 
-                    for (int j = 0; j < MAX_SPILL_FILES; j++) {
+                    for (int j = 0; j < fanIn; j++) {
                         try {
                             File f = i.next();
-                            DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
+                            DataInputStream in = openSpillFile(f);
                             mStreams.add(in);
                             addToQueue(null, mStreams.size() - 1);
                             i.remove();
                             filesToDelete.add(f);
                             
-                        } catch (FileNotFoundException fnfe) {
+                        } catch (IOException fnfe) {
                             // We can't find our own spill file?  That should
                             // neer happen.
                             String msg = "Unable to find our spill file.";
@@ -21,6 +21,7 @@ import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.TaskMemoryPool;
 
 import java.io.Serializable;
 
@@ -42,6 +43,12 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
         memLimit = new MemoryLimits(bagCount, percent);
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        memLimit.release();
+    }
+
     /**
      * This class helps to compute the number of entries that should be held in
      * memory so that memory consumption is limited. The memory limit is
@@ -50,6 +57,8 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
      * The number of objects that will fit into this memory limit is computed
      * using the average memory size of the objects whose size is given to this
      * class.
+     * If the task has a {@link TaskMemoryPool}, the objects are instead held
+     * as long as the bytes they take can be reserved from that pool.
      * In spark mode, MemoryLimits needs implement Serializable interface otherwise NotSerializableExecption will be thrown (See PIG-4611)
      */
     @InterfaceAudience.Private
@@ -61,6 +70,9 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
         private long memUsage = 0;
         private long numObjsSizeChecked = 0;
 
+        private transient TaskMemoryPool pool;
+        private transient TaskMemoryPool.Reservation reservation;
+
         private static float cachedMemUsage = 0.2F;
         private static long maxMem = 0;
         static {
@@ -83,6 +95,7 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
         }
 
         private void init(int bagCount, float percent) {
+            pool = TaskMemoryPool.getInstance();
 
             if (percent < 0) {
                 percent = cachedMemUsage;
@@ -113,6 +126,49 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
             return cacheLimit;
         }
 
+        /**
+         * Checks whether a number of objects of the average size seen so far
+         * can be held in memory, reserving the memory they need from the task
+         * memory pool if there is one.
+         *
+         * @param numObjects number of objects to hold
+         * @return false if the objects should be spilled
+         */
+        public boolean canHold(long numObjects) {
+            if (pool == null) {
+                return numObjects <= getCacheLimit();
+            }
+            if (numObjsSizeChecked == 0) {
+                return true;
+            }
+            if (reservation == null) {
+                reservation = pool.newReservation();
+            }
+            return reservation.reserve(numObjects * (memUsage / numObjsSizeChecked));
+        }
+
+        /**
+         * Gives the memory reserved by {@link #canHold(long)} back to the
+         * task memory pool, once the objects have been spilled or dropped.
+         */
+        public void release() {
+            if (reservation != null) {
+                reservation.release();
+            }
+        }
+
+        /**
+         * Gives the memory reserved by {@link #canHold(long)} beyond a number
+         * of objects of the average size back to the task memory pool, once
+         * the other objects have been spilled.
+         * @param numObjects number of objects still held
+         */
+        public void shrink(long numObjects) {
+            if (reservation != null && numObjsSizeChecked > 0) {
+                reservation.shrink(numObjects * (memUsage / numObjsSizeChecked));
+            }
+        }
+
         /**
          * Submit information about size of another object
          * 
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.classification.InterfaceStability;
+
+/**
+ * A set of tuples kept serialized with {@link BinInterSedes} in one byte
+ * array, with an open addressing table of entry numbers on top of it. It
+ * takes a fraction of the memory of a HashSet of tuples, without an object
+ * per entry for the garbage collector to trace.
+ * <p>
+ * Tuples are equal as they are in a HashSet: entries are found by
+ * {@link Tuple#hashCode()} and compared by their bytes, and by
+ * {@link Tuple#compareTo} only when the bytes of tuples with the same hash
+ * differ. Not thread safe.
+ */
+@InterfaceAudience.Private
+@InterfaceStability.Evolving
+public class SerializedTupleSet implements Iterable<Tuple> {
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    /** Bytes used per entry besides its serialized tuple */
+    public static final int ENTRY_OVERHEAD = 16;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[] data = new byte[1024];
+    private int dataSize;
+    // start of entry i in data is starts[i], its end starts[i + 1]
+    private int[] starts = new int[INITIAL_CAPACITY + 1];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    // entry number + 1 of each slot, 0 for free slots
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    private final Buffer buffer = new Buffer();
+    private final DataOutputStream bufferOut = new DataOutputStream(buffer);
+
+    /**
+     * Growable output whose bytes can be read in place.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+        byte[] bytes() {
+            return buf;
+        }
+    }
+
+    /**
+     * Mixes the bits of a hash code, so that both the slots and the
+     * partitions of {@link InternalHashDistinctBag} depend on all of them.
+     */
+    public static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * @return the hash the entry of the tuple is found by
+     */
+    public static int hash(Tuple t) {
+        return mix(t.hashCode());
+    }
+
+    /**
+     * Adds a tuple if there is no equal tuple in the set.
+     * @return whether the tuple was added
+     */
+    public boolean add(Tuple t) throws IOException {
+        buffer.reset();
+        SEDES.writeDatum(bufferOut, t, DataType.TUPLE);
+        return add(buffer.bytes(), 0, buffer.size(), hash(t), t);
+    }
+
+    /**
+     * Adds a serialized tuple, as written by {@link #write}, if there is no
+     * equal tuple in the set.
+     * @param hash {@link #hash} of the tuple
+     * @param t the tuple, or null to deserialize it if needed
+     * @return whether the tuple was added
+     */
+    public boolean add(byte[] bytes, int off, int len, int hash, Tuple t) throws IOException {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            int e = slots[slot] - 1;
+            if (hashes[e] == hash && equal(e, bytes, off, len, t)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == hashes.length) {
+            grow();
+            return add(bytes, off, len, hash, t);
+        }
+        if (dataSize + len > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataSize + len));
+        }
+        System.arraycopy(bytes, off, data, dataSize, len);
+        dataSize += len;
+        hashes[size] = hash;
+        starts[size + 1] = dataSize;
+        slots[slot] = ++size;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean equal(int e, byte[] bytes, int off, int len, Tuple t) throws IOException {
+        int start = starts[e];
+        int entryLen = starts[e + 1] - start;
+        if (entryLen == len) {
+            int i = 0;
+            while (i < len && data[start + i] == bytes[off + i]) {
+                i++;
+            }
+            if (i == len) {
+                return true;
+            }
+        }
+        // equal tuples may still be written differently, maps for instance
+        if (t == null) {
+            t = read(bytes, off, len);
+        }
+        return t.compareTo(get(e)) == 0;
+    }
+
+    private void grow() {
+        int capacity = hashes.length * 2;
+        hashes = Arrays.copyOf(hashes, capacity);
+        starts = Arrays.copyOf(starts, capacity + 1);
+        slots = new int[capacity * 2];
+        int mask = slots.length - 1;
+        for (int e = 0; e < size; e++) {
+            int slot = hashes[e] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = e + 1;
+        }
+    }
+
+    private static Tuple read(byte[] bytes, int off, int len) throws IOException {
+        return (Tuple) SEDES.readDatum(new DataInputStream(new ByteArrayInputStream(bytes, off, len)));
+    }
+
+    /**
+     * Adds entry e of another set if there is no equal tuple in this one.
+     * @return whether the tuple was added
+     */
+    public boolean add(SerializedTupleSet other, int e) throws IOException {
+        int start = other.starts[e];
+        return add(other.data, start, other.starts[e + 1] - start, other.hashes[e], null);
+    }
+
+    /**
+     * @return the tuple of entry e, in the order entries were added
+     */
+    public Tuple get(int e) throws IOException {
+        return read(data, starts[e], starts[e + 1] - starts[e]);
+    }
+
+    /**
+     * @return the length of the serialized tuple of entry e
+     */
+    public int getLength(int e) {
+        return starts[e + 1] - starts[e];
+    }
+
+    /**
+     * @return the hash of entry e
+     */
+    public int getHash(int e) {
+        return hashes[e];
+    }
+
+    /**
+     * Writes entry e as its hash, length and serialized tuple.
+     */
+    public void write(int e, DataOutput out) throws IOException {
+        int len = starts[e + 1] - starts[e];
+        out.writeInt(hashes[e]);
+        out.writeInt(len);
+        out.write(data, starts[e], len);
+    }
+
+    /**
+     * Writes a tuple as {@link #write(int, DataOutput)} writes entries.
+     */
+    public void write(Tuple t, DataOutput out) throws IOException {
+        buffer.reset();
+        SEDES.writeDatum(bufferOut, t, DataType.TUPLE);
+        out.writeInt(hash(t));
+        out.writeInt(buffer.size());
+        out.write(buffer.bytes(), 0, buffer.size());
+    }
+
+    /**
+     * Writes the serialized tuple of entry e, as {@link BinInterSedes} does.
+     */
+    public void writeTuple(int e, DataOutput out) throws IOException {
+        out.write(data, starts[e], starts[e + 1] - starts[e]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the bytes the set holds, approximately
+     */
+    public long getMemorySize() {
+        return data.length + 4L * (starts.length + hashes.length + slots.length) + buffer.bytes().length;
+    }
+
+    public void clear() {
+        data = new byte[1024];
+        dataSize = 0;
+        starts = new int[INITIAL_CAPACITY + 1];
+        hashes = new int[INITIAL_CAPACITY];
+        slots = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+        buffer.reset();
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        return new Iterator<Tuple>() {
+            int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Tuple next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return get(next++);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
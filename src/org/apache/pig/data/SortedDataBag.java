@@ -17,13 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -276,21 +273,20 @@ public class SortedDataBag extends DefaultAbstractBag{
                 // because we don't support calls to add() after calls to
                 // iterator(), and spill() won't create empty files.
                 try {
-                    in = new DataInputStream(new BufferedInputStream(
-                        new FileInputStream(mSpillFiles.get(
-                                mSpillFiles.size() - 1))));
+                    in = openSpillFile(mSpillFiles.get(
+                                mSpillFiles.size() - 1));
                     if (mStreams == null) {
                         // We didn't have any files before this spill.
                         mMergeQ = new PriorityQueue<PQContainer>(1);
                         mStreams = new ArrayList<DataInputStream>(1);
                     }
                     mStreams.add(in);
-                } catch (FileNotFoundException fnfe) {
-                    // We can't find our own spill file?  That should never
+                } catch (IOException ioe) {
+                    // We can't open our own spill file?  That should never
                     // happen.
-                    String msg = "Unable to find our spill file.";
-                    log.fatal(msg, fnfe);
-                    throw new RuntimeException(msg, fnfe);
+                    String msg = "Unable to open our spill file.";
+                    log.fatal(msg, ioe);
+                    throw new RuntimeException(msg, ioe);
                 }
 
                 // Fast foward past the tuples we've already put in the
@@ -344,18 +340,17 @@ public class SortedDataBag extends DefaultAbstractBag{
                 while (i.hasNext()) {
                     try {
                         DataInputStream in =
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
+                            openSpillFile(i.next());
                         mStreams.add(in);
                         // Add the first tuple from this file into the
                         // merge queue.
                         addToQueue(null, mStreams.size() - 1);
-                    } catch (FileNotFoundException fnfe) {
-                        // We can't find our own spill file?  That should
+                    } catch (IOException ioe) {
+                        // We can't open our own spill file?  That should
                         // never happen.
-                        String msg = "Unable to find our spill file.";
-                        log.fatal(msg, fnfe);
-                        throw new RuntimeException(msg, fnfe);
+                        String msg = "Unable to open our spill file.";
+                        log.fatal(msg, ioe);
+                        throw new RuntimeException(msg, ioe);
                     }
                 }
 
@@ -474,18 +469,17 @@ public class SortedDataBag extends DefaultAbstractBag{
                         try {
                             File f = i.next();
                             DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
+                                openSpillFile(f);
                             mStreams.add(in);
                             addToQueue(null, mStreams.size() - 1);
                             i.remove();
                             filesToDelete.add(f);
-                        } catch (FileNotFoundException fnfe) {
-                            // We can't find our own spill file?  That should
+                        } catch (IOException ioe) {
+                            // We can't open our own spill file?  That should
                             // neer happen.
-                            String msg = "Unable to find our spill file.";
-                            log.fatal(msg, fnfe);
-                            throw new RuntimeException(msg, fnfe);
+                            String msg = "Unable to open our spill file.";
+                            log.fatal(msg, ioe);
+                            throw new RuntimeException(msg, ioe);
                         }
                     }
 
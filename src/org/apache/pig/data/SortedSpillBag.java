@@ -17,19 +17,43 @@
  */
 package org.apache.pig.data;
 
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigCounters;
 import org.apache.pig.PigWarning;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * Common functionality for proactively spilling bags that need to keep the data
  * sorted.
+ * <p>
+ * If {@link PigConfiguration#PIG_SORTEDBAG_PARALLEL} is set and the bag is
+ * sorted with a {@link ThreadSafeComparator}, chunks are sorted with a
+ * fork-join pool and written to their spill file in the background while the
+ * bag buffers new tuples, and spill files are pre-merged in parallel.
  */
 @InterfaceAudience.Private
 @InterfaceStability.Evolving
@@ -37,10 +61,137 @@ public abstract class SortedSpillBag extends SelfSpillBag {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Log log = LogFactory.getLog(SortedSpillBag.class);
+
+    // Below this many tuples a parallel sort is not worth it
+    private static final int PARALLEL_SORT_MIN_SIZE = 1 << 13;
+
+    private static final TupleFactory gTupleFactory = TupleFactory.getInstance();
+
+    private static ExecutorService spillExecutor;
+
+    /**
+     * A comparator that can be called from several threads at once, so that
+     * a bag can sort and merge with it in parallel.
+     */
+    public interface ThreadSafeComparator extends Comparator<Tuple> {
+    }
+
+    // Looked up on the first spill, so that bags that never spill do not
+    // read the configuration
+    private transient Boolean parallel;
+
+    // Spill being written in the background and the tuples it holds
+    private transient Future<?> pendingSpill;
+    private transient Tuple[] pendingTuples;
+
     SortedSpillBag(int bagCount, float percent){
         super(bagCount, percent);
     }
 
+    private static synchronized ExecutorService getSpillExecutor() {
+        if (spillExecutor == null) {
+            spillExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setDaemon(true).setNameFormat("SortedSpillBag-%d").build());
+        }
+        return spillExecutor;
+    }
+
+    /**
+     * @param comp comparator the bag sorts with, null for the natural order
+     * @return whether spills are sorted, written and merged in parallel
+     */
+    protected boolean isParallel(Comparator<Tuple> comp) {
+        if (parallel == null) {
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            parallel = conf != null && conf.getBoolean(PigConfiguration.PIG_SORTEDBAG_PARALLEL, false)
+                    && (comp == null || comp instanceof ThreadSafeComparator);
+        }
+        return parallel;
+    }
+
+    /**
+     * Sorts the tuples held in memory, in parallel if there are enough of them
+     * and the bag sorts in parallel.
+     * @param comp comparator the bag sorts with
+     */
+    @SuppressWarnings("unchecked")
+    protected void sortContents(Comparator<Tuple> comp) {
+        ArrayList<Tuple> contents = (ArrayList<Tuple>) mContents;
+        if (contents.size() < PARALLEL_SORT_MIN_SIZE || !isParallel(comp)) {
+            Collections.sort(contents, comp);
+            return;
+        }
+        Tuple[] array = contents.toArray(new Tuple[contents.size()]);
+        Arrays.parallelSort(array, comp);
+        contents.clear();
+        Collections.addAll(contents, array);
+    }
+
+    /**
+     * @return most spill files to merge at once
+     */
+    protected static int getMergeFanIn() {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        int fanIn = conf == null ? MAX_SPILL_FILES
+                : conf.getInt(PigConfiguration.PIG_SORTEDBAG_MERGE_FANIN, MAX_SPILL_FILES);
+        return Math.max(fanIn, 2);
+    }
+
+    /**
+     * @return number of tuples held by a spill still being written. Once it is
+     *         done, its result is collected and 0 is returned
+     */
+    protected int getPendingSpillSize() {
+        if (pendingSpill == null) {
+            return 0;
+        }
+        if (pendingSpill.isDone()) {
+            waitForPendingSpill();
+            return 0;
+        }
+        return pendingTuples.length;
+    }
+
+    /**
+     * Waits for the spill being written in the background, if any. If it
+     * failed, its tuples are put back in memory.
+     */
+    protected void waitForPendingSpill() {
+        if (pendingSpill == null) {
+            return;
+        }
+        Tuple[] tuples = pendingTuples;
+        try {
+            pendingSpill.get();
+            incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_RECS, tuples.length);
+            // the spilled tuples no longer count against the memory of the bag
+            memLimit.shrink(mContents.size());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // The file of the failed spill is always the last one, as only
+            // one spill is written at a time
+            File f = mSpillFiles.remove(mSpillFiles.size() - 1);
+            if (!f.delete()) {
+                log.warn("Failed to delete spill file: " + f.getPath());
+            }
+            mContents.addAll(Arrays.asList(tuples));
+            warn("Unable to spill contents to disk", PigWarning.UNABLE_TO_SPILL,
+                    e instanceof ExecutionException ? e.getCause() : e);
+        } finally {
+            pendingSpill = null;
+            pendingTuples = null;
+        }
+    }
+
+    @Override
+    public void clear() {
+        waitForPendingSpill();
+        super.clear();
+    }
+
     /**
      * Sort contents of mContents and write them to disk
      * @param comp Comparator to sort contents of mContents
@@ -55,6 +206,10 @@ public abstract class SortedSpillBag extends SelfSpillBag {
         if(mSpillFiles == null)
             incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_BAGS);
 
+        if (isParallel(comp)) {
+            return spillInBackground(comp);
+        }
+
         long spilled = 0;
 
         DataOutputStream out = null;
@@ -92,6 +247,7 @@ public abstract class SortedSpillBag extends SelfSpillBag {
             out.close();
             out = null;
             mContents.clear();
+            memLimit.release();
         } catch (Throwable e) {
             // Remove the last file from the spilled array, since we failed to
             // write to it.
@@ -113,4 +269,169 @@ public abstract class SortedSpillBag extends SelfSpillBag {
         return spilled;
     }
 
+    /**
+     * Sorts the contents with a fork-join pool and hands them to a background
+     * thread to write, so that the bag can take new tuples meanwhile. Only
+     * one spill is written at a time, and its tuples count against the memory
+     * limit of the bag until it is done.
+     */
+    @SuppressWarnings("unchecked")
+    private long spillInBackground(Comparator<Tuple> comp) {
+        waitForPendingSpill();
+        if (mContents.size() == 0) return 0;
+
+        final DataOutputStream out;
+        try {
+            out = getSpillFile();
+        } catch (IOException ioe) {
+            warn(
+                "Unable to create tmp file to spill to disk", PigWarning.UNABLE_TO_CREATE_FILE_TO_SPILL, ioe);
+            return 0;
+        }
+        final Tuple[] array = new Tuple[mContents.size()];
+        mContents.toArray(array);
+        if (comp == null) {
+            Arrays.parallelSort(array);
+        } else {
+            Arrays.parallelSort(array, comp);
+        }
+        mContents.clear();
+        pendingTuples = array;
+        pendingSpill = getSpillExecutor().submit(new Callable<Void>() {
+            @Override
+            public Void call() throws IOException {
+                try {
+                    for (Tuple t : array) {
+                        t.write(out);
+                    }
+                } finally {
+                    out.close();
+                }
+                return null;
+            }
+        });
+        return array.length;
+    }
+
+    /**
+     * Merges the spill files in passes of at most fanIn files until no more
+     * than fanIn are left, running the merges of a pass in parallel.
+     * @param comp comparator the files are sorted with, null for the natural
+     *        order
+     * @param fanIn most files to merge at once
+     */
+    protected void preMergeInParallel(final Comparator<Tuple> comp, int fanIn) {
+        List<File> files = new ArrayList<File>(mSpillFiles);
+        List<File> filesToDelete = new ArrayList<File>();
+        while (files.size() > fanIn) {
+            // Merge just enough groups to get down to fanIn files
+            int groups = (files.size() - fanIn + fanIn - 2) / (fanIn - 1); // rounded up
+            groups = Math.max(Math.min(groups, files.size() / fanIn), 1);
+            List<Future<Void>> merges = new ArrayList<Future<Void>>(groups);
+            // files left out of this pass go first, so that the next pass
+            // merges them rather than the larger merged ones
+            List<File> merged = new ArrayList<File>(files.subList(groups * fanIn, files.size()));
+            try {
+                for (int g = 0; g < groups; g++) {
+                    final List<File> group = files.subList(g * fanIn, (g + 1) * fanIn);
+                    final DataOutputStream out = getSpillFile();
+                    merged.add(mSpillFiles.get(mSpillFiles.size() - 1));
+                    filesToDelete.addAll(group);
+                    merges.add(getSpillExecutor().submit(new Callable<Void>() {
+                        @Override
+                        public Void call() throws IOException {
+                            mergeSpillFiles(group, out, comp);
+                            return null;
+                        }
+                    }));
+                }
+                for (Future<Void> merge : merges) {
+                    merge.get();
+                    reportProgress();
+                }
+            } catch (Exception e) {
+                for (Future<Void> merge : merges) {
+                    merge.cancel(true);
+                }
+                String msg = "Unable to merge spill files.";
+                log.fatal(msg, e);
+                throw new RuntimeException(msg, e);
+            }
+            files = merged;
+        }
+        for (File f : filesToDelete) {
+            if (!f.delete()) {
+                log.warn("Failed to delete spill file: " + f.getPath());
+            }
+        }
+        // clear the list, so that finalize does not delete any files,
+        // when mSpillFiles is assigned a new value
+        mSpillFiles.clear();
+        mSpillFiles = new FileList(files.size());
+        mSpillFiles.addAll(files);
+    }
+
+    private static class MergeSource {
+        Tuple tuple;
+        final DataInputStream in;
+
+        MergeSource(DataInputStream in) {
+            this.in = in;
+        }
+
+        boolean advance() throws IOException {
+            Tuple t = gTupleFactory.newTuple();
+            try {
+                t.readFields(in);
+            } catch (EOFException eof) {
+                return false;
+            }
+            tuple = t;
+            return true;
+        }
+    }
+
+    /**
+     * Merges sorted spill files into a stream, which is closed.
+     */
+    static void mergeSpillFiles(List<File> files, DataOutputStream out,
+            final Comparator<Tuple> comp) throws IOException {
+        PriorityQueue<MergeSource> queue = new PriorityQueue<MergeSource>(files.size(),
+                new Comparator<MergeSource>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public int compare(MergeSource s1, MergeSource s2) {
+                        return comp == null ? s1.tuple.compareTo(s2.tuple)
+                                : comp.compare(s1.tuple, s2.tuple);
+                    }
+                });
+        List<DataInputStream> streams = new ArrayList<DataInputStream>(files.size());
+        try {
+            for (File f : files) {
+                DataInputStream in = openSpillFile(f);
+                streams.add(in);
+                MergeSource source = new MergeSource(in);
+                if (source.advance()) {
+                    queue.add(source);
+                }
+            }
+            MergeSource source;
+            while ((source = queue.poll()) != null) {
+                source.tuple.write(out);
+                if (source.advance()) {
+                    queue.add(source);
+                }
+            }
+        } finally {
+            for (DataInputStream in : streams) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close spill file.", e);
+                }
+            }
+            out.close();
+        }
+    }
+
 }
@@ -0,0 +1,540 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.Decompressor;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Format of the files bags spill to. A spill file starts with a header made
+ * of a magic number, the block size and the class name of the codec, empty
+ * when not compressed. The (compressed) data follows in blocks of at most the
+ * block size, each one being the int length of the block, the CRC32 of the
+ * block and the bytes of the block. A block of length 0 ends the file, so that
+ * truncated files are detected as well as corrupt blocks.
+ * <p>
+ * The files are created in turn in the directories of
+ * {@link PigConfiguration#PIG_SPILL_DIRS}. When
+ * {@link PigConfiguration#PIG_SPILL_ASYNC} is set, blocks are written by a
+ * background thread while the next one is filled, and the next block of a
+ * file is read ahead while the current one is consumed.
+ */
+public final class SpillFileFormat {
+
+    private static final Log log = LogFactory.getLog(SpillFileFormat.class);
+
+    static final int MAGIC = 0x50696753; // PigS
+    static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+    private static final int BLOCK_HEADER_SIZE = 8;
+    private static final int CODEC_BUFFER_SIZE = 64 * 1024;
+
+    private static volatile Configuration conf = null;
+    private static volatile CompressionCodec codec = null;
+    private static volatile boolean async = false;
+    private static volatile int blockSize = DEFAULT_BLOCK_SIZE;
+    private static volatile File[] dirs = null;
+    private static final AtomicInteger nextDir = new AtomicInteger();
+
+    private static ExecutorService executor = null;
+
+    private SpillFileFormat() {
+    }
+
+    /**
+     * Sets up the format of the files spilled by the tasks of a job.
+     */
+    public static void configure(Configuration jobConf) {
+        String codecName = jobConf.get(PigConfiguration.PIG_SPILL_CODEC, "").trim();
+        CompressionCodec newCodec = null;
+        if (!codecName.isEmpty() && !codecName.equalsIgnoreCase("none")) {
+            newCodec = new CompressionCodecFactory(jobConf).getCodecByName(codecName);
+            if (newCodec == null) {
+                log.warn("Unknown spill codec " + codecName + ", spilling uncompressed");
+            }
+        }
+        String[] dirNames = jobConf.getTrimmedStrings(PigConfiguration.PIG_SPILL_DIRS);
+        File[] newDirs = null;
+        if (dirNames.length > 0) {
+            newDirs = new File[dirNames.length];
+            for (int i = 0; i < dirNames.length; i++) {
+                newDirs[i] = new File(dirNames[i]);
+            }
+        }
+        conf = jobConf;
+        codec = newCodec;
+        async = jobConf.getBoolean(PigConfiguration.PIG_SPILL_ASYNC, false);
+        blockSize = jobConf.getInt(PigConfiguration.PIG_SPILL_BLOCK_SIZE, DEFAULT_BLOCK_SIZE);
+        dirs = newDirs;
+    }
+
+    //@StaticDataCleanup
+    public static void staticDataCleanup() {
+        conf = null;
+        codec = null;
+        async = false;
+        blockSize = DEFAULT_BLOCK_SIZE;
+        dirs = null;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setDaemon(true).setNameFormat("SpillFileFormat-%d").build());
+        }
+        return executor;
+    }
+
+    /**
+     * Creates an empty file to spill to, in the next spill directory.
+     */
+    public static File createTempFile() throws IOException {
+        File[] spillDirs = dirs;
+        File dir;
+        if (spillDirs == null) {
+            dir = new File(System.getProperties().getProperty("java.io.tmpdir"));
+        } else {
+            dir = spillDirs[(nextDir.getAndIncrement() & Integer.MAX_VALUE) % spillDirs.length];
+        }
+
+        // if the directory does not exist, create it.
+        if (!dir.exists()) {
+            log.info("Temporary directory doesn't exists. Trying to create: " + dir.getAbsolutePath());
+            // Create the directory and see if it was successful
+            if (dir.mkdirs()) {
+                log.info("Successfully created temporary directory: " + dir.getAbsolutePath());
+            } else if (dir.exists()) {
+                // If this directory is created recently then we can simply
+                // skip creation. This is to address a rare issue occuring in a
+                // cluster despite the fact that spill() makes call to
+                // getSpillFile() in a synchronized block.
+                log.info("Temporary directory already exists: " + dir.getAbsolutePath());
+            } else {
+                int errCode = 2111;
+                String msg = "Unable to create temporary directory: " + dir.getAbsolutePath();
+                throw new ExecException(msg, errCode, PigException.BUG);
+            }
+        }
+        return File.createTempFile("pigbag", null, dir);
+    }
+
+    /**
+     * Opens a spill file for writing.
+     */
+    public static DataOutputStream create(File f) throws IOException {
+        CompressionCodec c = codec;
+        int size = blockSize;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(baos);
+        header.writeInt(MAGIC);
+        header.writeInt(size);
+        header.writeUTF(c == null ? "" : c.getClass().getName());
+        FileOutputStream fos = new FileOutputStream(f);
+        try {
+            baos.writeTo(fos);
+        } catch (IOException e) {
+            fos.close();
+            throw e;
+        }
+        BlockOutputStream blocks = new BlockOutputStream(fos, size, async);
+        if (c == null) {
+            return new DataOutputStream(blocks);
+        }
+        final Compressor compressor = CodecPool.getCompressor(c);
+        return new DataOutputStream(new BufferedOutputStream(
+                c.createOutputStream(blocks, compressor), CODEC_BUFFER_SIZE) {
+            private boolean closed = false;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    CodecPool.returnCompressor(compressor);
+                }
+            }
+        });
+    }
+
+    /**
+     * Opens a spill file for reading.
+     */
+    public static DataInputStream open(File f) throws IOException {
+        DataInputStream raw = new DataInputStream(new FileInputStream(f));
+        String codecName;
+        int size;
+        try {
+            if (raw.readInt() != MAGIC) {
+                throw new IOException("Not a spill file: " + f);
+            }
+            size = raw.readInt();
+            codecName = raw.readUTF();
+        } catch (IOException e) {
+            raw.close();
+            throw e;
+        }
+        BlockInputStream blocks = new BlockInputStream(raw, f, size, async);
+        if (codecName.isEmpty()) {
+            return new DataInputStream(blocks);
+        }
+        CompressionCodec c;
+        try {
+            Configuration codecConf = conf == null ? new Configuration(false) : conf;
+            c = (CompressionCodec) ReflectionUtils.newInstance(
+                    codecConf.getClassByName(codecName), codecConf);
+        } catch (ClassNotFoundException e) {
+            blocks.close();
+            throw new IOException("Unable to load codec of spill file " + f, e);
+        }
+        final Decompressor decompressor = CodecPool.getDecompressor(c);
+        return new DataInputStream(new BufferedInputStream(
+                c.createInputStream(blocks, decompressor), CODEC_BUFFER_SIZE) {
+            private boolean closed = false;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    CodecPool.returnDecompressor(decompressor);
+                }
+            }
+        });
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+
+    private static int checksum(byte[] b, int off, int len) {
+        CRC32 crc = new CRC32();
+        crc.update(b, off, len);
+        return (int) crc.getValue();
+    }
+
+    private static void writeInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return ((b[off] & 0xff) << 24) | ((b[off + 1] & 0xff) << 16)
+                | ((b[off + 2] & 0xff) << 8) | (b[off + 3] & 0xff);
+    }
+
+    /**
+     * Cuts the data into checksummed blocks. With async, a block is written by
+     * the executor while the next one is filled.
+     */
+    static class BlockOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final boolean async;
+        private byte[] buf;
+        private int count = BLOCK_HEADER_SIZE;
+        // buffer of the block being written in the background
+        private byte[] writing = null;
+        private Future<Void> pending = null;
+        private boolean closed = false;
+
+        BlockOutputStream(OutputStream out, int blockSize, boolean async) {
+            this.out = out;
+            this.async = async;
+            this.buf = new byte[BLOCK_HEADER_SIZE + blockSize];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buf.length) {
+                endBlock();
+            }
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buf.length) {
+                    endBlock();
+                }
+                int n = Math.min(len, buf.length - count);
+                System.arraycopy(b, off, buf, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            endBlock();
+        }
+
+        private void endBlock() throws IOException {
+            final int len = count - BLOCK_HEADER_SIZE;
+            if (len == 0) {
+                return;
+            }
+            final byte[] block = buf;
+            if (!async) {
+                writeBlock(block, len);
+                count = BLOCK_HEADER_SIZE;
+                return;
+            }
+            awaitPending();
+            pending = getExecutor().submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    writeBlock(block, len);
+                    return null;
+                }
+            });
+            buf = writing == null ? new byte[block.length] : writing;
+            writing = block;
+            count = BLOCK_HEADER_SIZE;
+        }
+
+        private void writeBlock(byte[] block, int len) throws IOException {
+            writeInt(block, 0, len);
+            writeInt(block, 4, checksum(block, BLOCK_HEADER_SIZE, len));
+            out.write(block, 0, BLOCK_HEADER_SIZE + len);
+        }
+
+        private void awaitPending() throws IOException {
+            if (pending == null) {
+                return;
+            }
+            try {
+                pending.get();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while spilling");
+            } finally {
+                pending = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                endBlock();
+                awaitPending();
+                byte[] end = new byte[BLOCK_HEADER_SIZE];
+                out.write(end);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Reads and checks the blocks of a spill file. With async, the next block
+     * is read by the executor while the current one is consumed.
+     */
+    static class BlockInputStream extends InputStream {
+        private final DataInputStream in;
+        private final File file;
+        private final boolean async;
+        private final int blockSize;
+        private final byte[] header = new byte[BLOCK_HEADER_SIZE];
+        private byte[] buf;
+        private int pos = 0;
+        private int limit = 0;
+        private boolean eof = false;
+        // buffer of the block being read ahead
+        private byte[] next;
+        private Future<Integer> pending = null;
+
+        BlockInputStream(DataInputStream in, File file, int blockSize, boolean async) {
+            this.in = in;
+            this.file = file;
+            this.async = async;
+            this.blockSize = blockSize;
+            this.buf = new byte[blockSize];
+            if (async) {
+                next = new byte[blockSize];
+                readAhead();
+            }
+        }
+
+        private void readAhead() {
+            final byte[] block = next;
+            pending = getExecutor().submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws IOException {
+                    return readBlock(block);
+                }
+            });
+        }
+
+        /**
+         * @return length of the block read, -1 at the end of the file
+         */
+        private int readBlock(byte[] block) throws IOException {
+            try {
+                in.readFully(header);
+            } catch (EOFException e) {
+                throw new IOException("Truncated spill file " + file);
+            }
+            int len = readInt(header, 0);
+            if (len == 0) {
+                return -1;
+            }
+            if (len < 0 || len > blockSize) {
+                throw new IOException("Corrupt block in spill file " + file);
+            }
+            try {
+                in.readFully(block, 0, len);
+            } catch (EOFException e) {
+                throw new IOException("Truncated spill file " + file);
+            }
+            if (checksum(block, 0, len) != readInt(header, 4)) {
+                throw new IOException("Checksum error in spill file " + file);
+            }
+            return len;
+        }
+
+        private boolean nextBlock() throws IOException {
+            if (eof) {
+                return false;
+            }
+            int len;
+            if (async) {
+                try {
+                    len = pending.get();
+                } catch (ExecutionException e) {
+                    eof = true;
+                    throw unwrap(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading spill file");
+                } finally {
+                    pending = null;
+                }
+                if (len >= 0) {
+                    byte[] block = next;
+                    next = buf;
+                    buf = block;
+                    readAhead();
+                }
+            } else {
+                len = readBlock(buf);
+            }
+            if (len < 0) {
+                eof = true;
+                return false;
+            }
+            pos = 0;
+            limit = len;
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pos == limit && !nextBlock()) {
+                return -1;
+            }
+            return buf[pos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == limit && !nextBlock()) {
+                return -1;
+            }
+            int n = Math.min(len, limit - pos);
+            System.arraycopy(buf, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return limit - pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (pending != null) {
+                // let the read ahead finish before closing the file under it
+                try {
+                    pending.get();
+                } catch (ExecutionException e) {
+                    // the file is not read any more
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    pending = null;
+                }
+            }
+            eof = true;
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.builtin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.apache.hadoop.util.bloom.Key;
+import org.apache.pig.Algebraic;
+import org.apache.pig.EvalFunc;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.bloom.BloomFilter;
+import org.apache.pig.impl.bloom.Hash;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+
+/**
+ * Builds the bloom filter of a bloom join in mapreduce and spark mode from
+ * the join keys of the input the filter is built from. It runs in a group all
+ * job on a bag of key tuples and is applied on the other inputs of the join
+ * with {@link IsInJoinBloom}. Null keys are left out since they never match.
+ * The combiner builds a filter per map which are then or'ed together.
+ */
+public class BuildJoinBloom extends EvalFunc<DataByteArray> implements Algebraic {
+
+    private static final TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    private String[] args;
+
+    /**
+     * @param hashType murmur, murmur3km or jenkins
+     * @param vectorSizeBytes size in bytes of the bit vector of the filter
+     * @param numHash number of hash functions
+     */
+    public BuildJoinBloom(String hashType, String vectorSizeBytes, String numHash) {
+        args = new String[] {hashType, vectorSizeBytes, numHash};
+    }
+
+    @Override
+    public DataByteArray exec(Tuple input) throws IOException {
+        return bloomOut(addKeys(newFilter(args), input));
+    }
+
+    @Override
+    public String getInitial() {
+        return Initial.class.getName();
+    }
+
+    @Override
+    public String getIntermed() {
+        return Intermediate.class.getName();
+    }
+
+    @Override
+    public String getFinal() {
+        return Final.class.getName();
+    }
+
+    @Override
+    public Schema outputSchema(Schema input) {
+        return new Schema(new Schema.FieldSchema(null, DataType.BYTEARRAY));
+    }
+
+    static public class Initial extends EvalFunc<Tuple> {
+
+        private String[] args;
+
+        public Initial() {
+        }
+
+        public Initial(String hashType, String vectorSizeBytes, String numHash) {
+            args = new String[] {hashType, vectorSizeBytes, numHash};
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            return mTupleFactory.newTuple(bloomOut(addKeys(newFilter(args), input)));
+        }
+    }
+
+    static public class Intermediate extends EvalFunc<Tuple> {
+
+        public Intermediate() {
+        }
+
+        public Intermediate(String hashType, String vectorSizeBytes, String numHash) {
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            return mTupleFactory.newTuple(bloomOr(input));
+        }
+    }
+
+    static public class Final extends EvalFunc<DataByteArray> {
+
+        public Final() {
+        }
+
+        public Final(String hashType, String vectorSizeBytes, String numHash) {
+        }
+
+        @Override
+        public DataByteArray exec(Tuple input) throws IOException {
+            return bloomOr(input);
+        }
+    }
+
+    private static BloomFilter newFilter(String[] args) {
+        return new BloomFilter(Integer.parseInt(args[1]) * 8, Integer.parseInt(args[2]),
+                Hash.parseHashType(args[0]));
+    }
+
+    private static BloomFilter addKeys(BloomFilter filter, Tuple input) throws IOException {
+        DataBag keys = (DataBag) input.get(0);
+        for (Tuple t : keys) {
+            byte[] b = getKeyBytes(t);
+            if (b != null) {
+                filter.add(new Key(b));
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * @return the bytes the key is added to the filter as, or null for a
+     *         null key. A single key is serialized as is, and a compound one
+     *         as a tuple.
+     */
+    static byte[] getKeyBytes(Tuple key) throws IOException {
+        if (key.size() == 1) {
+            return key.get(0) == null ? null : DataType.toBytes(key.get(0));
+        }
+        return DataType.toBytes(key, DataType.TUPLE);
+    }
+
+    private static DataByteArray bloomOr(Tuple input) throws IOException {
+        BloomFilter filter = null;
+        Iterator<Tuple> it = ((DataBag) input.get(0)).iterator();
+        while (it.hasNext()) {
+            BloomFilter other = BloomFilter.bloomIn((DataByteArray) it.next().get(0));
+            if (filter == null) {
+                filter = other;
+            } else {
+                filter.or(other);
+            }
+        }
+        return filter == null ? null : bloomOut(filter);
+    }
+
+    private static DataByteArray bloomOut(BloomFilter filter) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(baos);
+        filter.write(dos);
+        dos.flush();
+        return new DataByteArray(baos.toByteArray());
+    }
+}
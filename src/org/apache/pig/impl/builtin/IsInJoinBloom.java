@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.builtin;
+
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.util.bloom.Key;
+import org.apache.pig.FilterFunc;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.bloom.BloomFilter;
+import org.apache.pig.impl.io.ReadToEndLoader;
+import org.apache.pig.impl.util.UDFContext;
+import org.apache.pig.impl.util.Utils;
+
+/**
+ * Drops the records of a bloom join input in mapreduce and spark mode whose
+ * join key is not in the bloom filter built by {@link BuildJoinBloom}. The
+ * arguments are the fields of the join key.
+ */
+public class IsInJoinBloom extends FilterFunc {
+
+    private String bloomFile;
+    private transient BloomFilter filter;
+    private transient boolean empty;
+
+    /**
+     * @param bloomFile the temporary file the filter was stored into
+     */
+    public IsInJoinBloom(String bloomFile) {
+        this.bloomFile = bloomFile;
+    }
+
+    @Override
+    public Boolean exec(Tuple input) throws IOException {
+        if (filter == null && !empty) {
+            init();
+        }
+        if (empty) {
+            // The input the filter is built from has no keys
+            return false;
+        }
+        byte[] b = BuildJoinBloom.getKeyBytes(input);
+        return b != null && filter.membershipTest(new Key(b));
+    }
+
+    private void init() throws IOException {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        if (conf == null) {
+            conf = UDFContext.getUDFContext().getJobConf();
+        }
+        ReadToEndLoader loader = new ReadToEndLoader(Utils.getTmpFileStorageObject(conf),
+                conf, bloomFile, 0);
+        Tuple t = loader.getNext();
+        if (t == null || t.get(0) == null) {
+            empty = true;
+        } else {
+            filter = BloomFilter.bloomIn((DataByteArray) t.get(0));
+        }
+    }
+}
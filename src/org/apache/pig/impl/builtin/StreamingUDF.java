@@ -26,8 +26,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.logging.Log;
@@ -36,6 +41,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.EvalFunc;
 import org.apache.pig.ExecType;
 import org.apache.pig.ExecTypeProvider;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MRConfiguration;
 import org.apache.pig.data.Tuple;
@@ -47,6 +53,7 @@ import org.apache.pig.impl.streaming.InputHandler;
 import org.apache.pig.impl.streaming.OutputHandler;
 import org.apache.pig.impl.streaming.PigStreamingUDF;
 import org.apache.pig.impl.streaming.StreamingCommand;
+import org.apache.pig.impl.streaming.StreamingUDFBinaryProtocol;
 import org.apache.pig.impl.streaming.StreamingUDFException;
 import org.apache.pig.impl.streaming.StreamingUDFInputHandler;
 import org.apache.pig.impl.streaming.StreamingUDFOutputHandler;
@@ -76,6 +83,9 @@ public class StreamingUDF extends EvalFunc<Object> {
     private static final int STD_ERR_OUTPUT_PATH = 7; //File for output from when user writes to standard error.
     private static final int CONTROLLER_LOG_FILE_PATH = 8; //Controller log file logs progress through the controller script not user code.
     private static final int IS_ILLUSTRATE = 9; //Controller captures output differently in illustrate vs running.
+    private static final int PROTOCOL = 10; //Only passed for the binary protocol.
+
+    private static final String BINARY_PROTOCOL = "binary";
 
     private String language;
     private String filePath;
@@ -107,6 +117,12 @@ public class StreamingUDF extends EvalFunc<Object> {
 
     private volatile StreamingUDFException outerrThreadsError;
 
+    // Set when tuples are sent in binary frames
+    private int batchSize;
+    private int maxInFlight;
+    private Worker[] workers;
+    private int nextWorker;
+
     public static final String TURN_ON_OUTPUT_CAPTURING = "TURN_ON_OUTPUT_CAPTURING";
 
     public StreamingUDF(String language,
@@ -145,10 +161,77 @@ public class StreamingUDF extends EvalFunc<Object> {
             initialize();
             initialized = true;
         }
+        if (workers != null) {
+            return execBatch(Collections.singletonList(input)).get(0);
+        }
         return getOutput(input);
     }
 
+    /**
+     * @return the number of tuples sent to the process in a frame, or 0 if
+     * tuples are sent one at a time with the text protocol
+     */
+    public int getBatchSize() {
+        Configuration conf = UDFContext.getUDFContext().getJobConf();
+        return conf == null ? 0 : conf.getInt(PigConfiguration.PIG_STREAMING_UDF_BATCH_SIZE, 0);
+    }
+
+    /**
+     * Computes the function on a list of tuples. With a batch size the tuples
+     * are split into frames of at most that many tuples, which are sent to
+     * the worker processes in turn without waiting for the results of the
+     * previous frames, up to the max number of frames in flight per process.
+     * Otherwise the tuples are sent one at a time.
+     * @return the results, in the order of the inputs
+     */
+    public List<Object> execBatch(List<Tuple> inputs) throws IOException {
+        if (!initialized) {
+            initialize();
+            initialized = true;
+        }
+        List<Object> results = new ArrayList<Object>(inputs.size());
+        if (workers == null) {
+            for (Tuple t : inputs) {
+                results.add(getOutput(t));
+            }
+            return results;
+        }
+
+        turnOnOutputCapturing();
+        boolean noArgs = getInputSchema() == null || getInputSchema().size() == 0;
+        List<Batch> batches = new ArrayList<Batch>();
+        for (int i = 0; i < inputs.size(); i += batchSize) {
+            List<Tuple> chunk = inputs.subList(i, Math.min(inputs.size(), i + batchSize));
+            if (noArgs) {
+                //Same as the text protocol, nothing is passed to the function.
+                chunk = new ArrayList<Tuple>(chunk.size());
+                for (int j = Math.min(inputs.size(), i + batchSize) - i; j > 0; j--) {
+                    chunk.add(TupleFactory.getInstance().newTuple(0));
+                }
+            }
+            Worker worker = workers[nextWorker];
+            nextWorker = (nextWorker + 1) % workers.length;
+            batches.add(worker.submit(chunk));
+        }
+        for (Batch batch : batches) {
+            results.addAll(batch.await());
+        }
+        return results;
+    }
+
     private void initialize() throws ExecException, IOException {
+        batchSize = getBatchSize();
+        if (batchSize > 0) {
+            Configuration conf = UDFContext.getUDFContext().getJobConf();
+            maxInFlight = Math.max(1, conf.getInt(PigConfiguration.PIG_STREAMING_UDF_MAX_INFLIGHT, 2));
+            int numWorkers = Math.max(1, conf.getInt(PigConfiguration.PIG_STREAMING_UDF_WORKERS, 1));
+            soc = new ScriptingOutputCapturer(execType);
+            workers = new Worker[numWorkers];
+            for (int i = 0; i < numWorkers; i++) {
+                workers[i] = new Worker();
+            }
+            return;
+        }
         inputQueue = new ArrayBlockingQueue<Tuple>(1);
         outputQueue = new ArrayBlockingQueue<Object>(2);
         soc = new ScriptingOutputCapturer(execType);
@@ -168,7 +251,7 @@ public class StreamingUDF extends EvalFunc<Object> {
     }
 
     private String[] constructCommand() throws IOException {
-        String[] command = new String[10];
+        String[] command = new String[workers != null ? 11 : 10];
         Configuration conf = UDFContext.getUDFContext().getJobConf();
 
         String jarPath = conf.get("mapreduce.job.jar");
@@ -211,6 +294,9 @@ public class StreamingUDF extends EvalFunc<Object> {
         command[STD_ERR_OUTPUT_PATH] = errOutFileName;
         command[CONTROLLER_LOG_FILE_PATH] = controllerLogFileName;
         command[IS_ILLUSTRATE] = isIllustrate;
+        if (workers != null) {
+            command[PROTOCOL] = BINARY_PROTOCOL;
+        }
 
         ensureUserFileAvailable(command, fileCachePath);
 
@@ -346,6 +432,16 @@ public class StreamingUDF extends EvalFunc<Object> {
         return language.toLowerCase().startsWith("python");
     }
 
+    private void turnOnOutputCapturing() throws IOException {
+        if (ScriptingOutputCapturer.isClassCapturingOutput() &&
+                !soc.isInstanceCapturingOutput()) {
+            for (Worker worker : workers) {
+                worker.submit(null);
+            }
+            soc.setInstanceCapturingOutput(true);
+        }
+    }
+
     private Object getOutput(Tuple input) throws ExecException {
         if (outputQueue == null) {
             throw new ExecException("Process has already been shut down.  No way to retrieve output for input: " + input);
@@ -519,6 +615,196 @@ public class StreamingUDF extends EvalFunc<Object> {
         }
     }
 
+    /**
+     * A frame of tuples sent to a worker, completed once its results have
+     * been read or the worker has failed. A frame without tuples turns on
+     * output capturing and gets no response.
+     */
+    private static class Batch {
+        final List<Tuple> inputs;
+        final CountDownLatch done = new CountDownLatch(1);
+        final Worker worker;
+        List<Object> results;
+
+        Batch(List<Tuple> inputs, Worker worker) {
+            this.inputs = inputs;
+            this.worker = worker;
+        }
+
+        List<Object> await() throws ExecException {
+            try {
+                while (!done.await(WAIT_FOR_ERROR_LENGTH, TimeUnit.MILLISECONDS)) {
+                    if (worker.error != null) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new ExecException("Interrupted waiting for streaming udf output", e);
+            }
+            if (results == null) {
+                throw worker.error;
+            }
+            return results;
+        }
+    }
+
+    /**
+     * A process the frames of tuples are sent to with the binary protocol.
+     * One thread writes the frames, blocking while the max number of frames
+     * are waiting for their results, another reads the results in the order
+     * the frames were sent and a third one reads the error output.
+     */
+    private class Worker {
+        private final Process proc;
+        private final DataOutputStream in;
+        private final DataInputStream out;
+        private final StreamingUDFBinaryProtocol protocol;
+        private final BlockingQueue<Batch> toSend;
+        private final BlockingQueue<Batch> inFlight;
+        private final Thread errThread;
+        volatile StreamingUDFException error;
+
+        Worker() throws IOException {
+            StreamingCommand sc = new StreamingCommand(null, constructCommand());
+            proc = StreamingUtil.createProcess(sc).start();
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    proc.destroy();
+                }
+            }));
+            in = new DataOutputStream(new BufferedOutputStream(proc.getOutputStream()));
+            out = new DataInputStream(new BufferedInputStream(proc.getInputStream()));
+            protocol = new StreamingUDFBinaryProtocol(schema.getField(0));
+            toSend = new ArrayBlockingQueue<Batch>(maxInFlight);
+            inFlight = new ArrayBlockingQueue<Batch>(maxInFlight);
+
+            Thread writer = new Thread() {
+                @Override
+                public void run() {
+                    write();
+                }
+            };
+            Thread reader = new Thread() {
+                @Override
+                public void run() {
+                    read();
+                }
+            };
+            errThread = new Thread() {
+                @Override
+                public void run() {
+                    readError();
+                }
+            };
+            for (Thread t : new Thread[] { writer, reader, errThread }) {
+                t.setDaemon(true);
+                t.start();
+            }
+        }
+
+        Batch submit(List<Tuple> inputs) throws ExecException {
+            if (error != null) {
+                throw error;
+            }
+            Batch batch = new Batch(inputs, this);
+            try {
+                toSend.put(batch);
+            } catch (InterruptedException e) {
+                throw new ExecException("Failed adding input to streaming udf", e);
+            }
+            return batch;
+        }
+
+        private void write() {
+            try {
+                while (true) {
+                    Batch batch = toSend.take();
+                    if (batch.inputs == null) {
+                        protocol.writeOutputCapturingRequest(in);
+                    } else {
+                        inFlight.put(batch);
+                        if (error != null) {
+                            batch.done.countDown();
+                            continue;
+                        }
+                        protocol.writeRequest(in, batch.inputs);
+                    }
+                    // Only flush when the frame is the last one queued
+                    if (toSend.isEmpty()) {
+                        in.flush();
+                    }
+                }
+            } catch (Exception e) {
+                fail(null, e);
+            }
+        }
+
+        private void read() {
+            try {
+                while (true) {
+                    Batch batch = inFlight.take();
+                    batch.results = protocol.readResponse(out, batch.inputs.size());
+                    batch.done.countDown();
+                }
+            } catch (Exception e) {
+                try {
+                    //Give error thread a chance to check the standard error output
+                    //for an exception message.
+                    int attempt = 0;
+                    while (errThread.isAlive() && attempt < MAX_WAIT_FOR_ERROR_ATTEMPTS) {
+                        Thread.sleep(WAIT_FOR_ERROR_LENGTH);
+                        attempt++;
+                    }
+                } catch (InterruptedException ie) {
+                    log.error(ie);
+                }
+                fail(null, e);
+            }
+        }
+
+        private void readError() {
+            try {
+                Integer lineNumber = null;
+                StringBuilder message = new StringBuilder();
+                String errInput;
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(proc.getErrorStream(), Charsets.UTF_8));
+                while ((errInput = reader.readLine()) != null) {
+                    //First line of error stream is usually the line number of error.
+                    if (lineNumber == null && message.length() == 0) {
+                        try {
+                            lineNumber = Integer.valueOf(errInput);
+                            continue;
+                        } catch (NumberFormatException nfe) {
+                            // first line of the message
+                        }
+                    }
+                    message.append(errInput + "\n");
+                }
+                reader.close();
+                fail(new StreamingUDFException(language, message.toString(), lineNumber), null);
+            } catch (IOException e) {
+                log.debug("Process Ended", e);
+            }
+        }
+
+        private synchronized void fail(StreamingUDFException e, Exception cause) {
+            if (error == null) {
+                error = e != null ? e : new StreamingUDFException(language,
+                        "Error deserializing output.  Please check that the declared outputSchema for function " +
+                        funcName + " matches the data type being returned.", cause);
+            }
+            // Wake up the main thread
+            for (Batch batch : inFlight) {
+                batch.done.countDown();
+            }
+            for (Batch batch : toSend) {
+                batch.done.countDown();
+            }
+        }
+    }
+
     public class ProcessKiller implements Runnable {
         public void run() {
             process.destroy();
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.joda.time.DateTime;
+
+/**
+ * A tuple sort key that is written along with an order preserving byte
+ * string, so that ORDER BY keys can be sorted by comparing bytes. The
+ * normalized form compares the same way
+ * {@link org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleSortComparator}
+ * compares the keys for the given sort order:
+ * <ul>
+ * <li>a null key is a 0 byte followed by its index, other keys start with a 1 byte and the tuple size</li>
+ * <li>each field is its type followed by its value: ints, longs and datetimes
+ * with the sign bit flipped, floats and doubles with the sign bit flipped or
+ * all bits inverted if negative, chararrays as UTF-8 and bytearrays as is,
+ * with 0 bytes escaped and a 0 0 terminator</li>
+ * <li>the bytes of descending fields are inverted</li>
+ * </ul>
+ * Keys with fields of other types, or chararrays with surrogate pairs which
+ * UTF-8 orders differently than Java strings, are written without the
+ * normalized form and compared as tuples.
+ * <p>
+ * Serialized as the null flag, the length of the normalized form or -1, the
+ * normalized form, the tuple and the index.
+ */
+public class NullableNormalizedTuple extends NullableTuple {
+
+    private static final BinInterSedes bis = new BinInterSedes();
+
+    private static final ThreadLocal<DataOutputBuffer> buffers = new ThreadLocal<DataOutputBuffer>() {
+        @Override
+        protected DataOutputBuffer initialValue() {
+            return new DataOutputBuffer();
+        }
+    };
+
+    private boolean[] mAsc;
+
+    public NullableNormalizedTuple() {
+    }
+
+    /**
+     * @param t key, may be null
+     * @param asc sort order of the fields, or of the whole tuple if it has
+     * a single entry
+     */
+    public NullableNormalizedTuple(Tuple t, boolean[] asc) {
+        super(t);
+        setNull(t == null);
+        mAsc = asc;
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+        boolean nullness = in.readBoolean();
+        setNull(nullness);
+        int len = in.readInt();
+        while (len > 0) {
+            int skipped = in.skipBytes(len);
+            if (skipped <= 0) {
+                in.readByte();
+                skipped = 1;
+            }
+            len -= skipped;
+        }
+        mValue = null;
+        if (!nullness) {
+            mValue = bis.readTuple(in);
+        }
+        setIndex(in.readByte());
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        out.writeBoolean(isNull());
+        DataOutputBuffer buf = buffers.get();
+        buf.reset();
+        if (mAsc != null && normalize((Tuple) getValueAsPigType(), getIndex(), mAsc, buf)) {
+            out.writeInt(buf.getLength());
+            out.write(buf.getData(), 0, buf.getLength());
+        } else {
+            out.writeInt(-1);
+        }
+        if (!isNull()) {
+            mValue.write(out);
+        }
+        out.writeByte(getIndex());
+    }
+
+    /**
+     * Appends the normalized form of a key.
+     * @param t key, may be null
+     * @param index index of the key
+     * @param asc sort order
+     * @param buf buffer to write to
+     * @return false if the key can not be normalized
+     */
+    public static boolean normalize(Tuple t, byte index, boolean[] asc, DataOutputBuffer buf)
+            throws IOException {
+        boolean wholeTuple = asc.length == 1;
+        int start = buf.getLength();
+        if (t == null) {
+            buf.writeByte(0);
+            buf.writeByte(index ^ 0x80);
+        } else {
+            buf.writeByte(1);
+        }
+        // only a descending whole tuple sort puts null keys last
+        if (wholeTuple && !asc[0]) {
+            invert(buf, start);
+        }
+        if (t == null) {
+            return true;
+        }
+        // sizes are compared before the sort order applies
+        int size = t.size();
+        buf.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            int fieldStart = buf.getLength();
+            if (!writeField(t.get(i), buf)) {
+                return false;
+            }
+            boolean fieldAsc = wholeTuple ? asc[0] : i >= asc.length || asc[i];
+            if (!fieldAsc) {
+                invert(buf, fieldStart);
+            }
+        }
+        return true;
+    }
+
+    private static boolean writeField(Object o, DataOutputBuffer buf) throws IOException {
+        byte type = DataType.findType(o);
+        switch (type) {
+        case DataType.NULL:
+            buf.writeByte(type);
+            return true;
+        case DataType.BOOLEAN:
+            buf.writeByte(type);
+            buf.writeByte((Boolean) o ? 1 : 0);
+            return true;
+        case DataType.BYTE:
+            buf.writeByte(type);
+            buf.writeByte((Byte) o ^ 0x80);
+            return true;
+        case DataType.INTEGER:
+            buf.writeByte(type);
+            buf.writeInt((Integer) o ^ Integer.MIN_VALUE);
+            return true;
+        case DataType.LONG:
+            buf.writeByte(type);
+            buf.writeLong((Long) o ^ Long.MIN_VALUE);
+            return true;
+        case DataType.DATETIME:
+            // ordered on the instant only, like the raw comparators
+            buf.writeByte(type);
+            buf.writeLong(((DateTime) o).getMillis() ^ Long.MIN_VALUE);
+            return true;
+        case DataType.FLOAT: {
+            // same order as Float.compare, -0.0 before 0.0 and NaN last
+            int bits = Float.floatToIntBits((Float) o);
+            buf.writeByte(type);
+            buf.writeInt(bits ^ ((bits >> 31) | Integer.MIN_VALUE));
+            return true;
+        }
+        case DataType.DOUBLE: {
+            long bits = Double.doubleToLongBits((Double) o);
+            buf.writeByte(type);
+            buf.writeLong(bits ^ ((bits >> 63) | Long.MIN_VALUE));
+            return true;
+        }
+        case DataType.BYTEARRAY: {
+            byte[] bytes = ((DataByteArray) o).get();
+            buf.writeByte(type);
+            for (byte b : bytes) {
+                writeEscaped(b, buf);
+            }
+            buf.writeShort(0);
+            return true;
+        }
+        case DataType.CHARARRAY: {
+            String s = (String) o;
+            buf.writeByte(type);
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    writeEscaped((byte) c, buf);
+                } else if (c < 0x800) {
+                    buf.writeByte(0xC0 | (c >> 6));
+                    buf.writeByte(0x80 | (c & 0x3F));
+                } else if (c < 0xD800) {
+                    buf.writeByte(0xE0 | (c >> 12));
+                    buf.writeByte(0x80 | ((c >> 6) & 0x3F));
+                    buf.writeByte(0x80 | (c & 0x3F));
+                } else {
+                    // String.compareTo orders surrogates before U+E000 and above
+                    return false;
+                }
+            }
+            buf.writeShort(0);
+            return true;
+        }
+        default:
+            return false;
+        }
+    }
+
+    private static void writeEscaped(byte b, DataOutputBuffer buf) throws IOException {
+        buf.writeByte(b);
+        if (b == 0) {
+            buf.writeByte(0xFF);
+        }
+    }
+
+    private static void invert(DataOutputBuffer buf, int start) {
+        byte[] data = buf.getData();
+        for (int i = start; i < buf.getLength(); i++) {
+            data[i] = (byte) ~data[i];
+        }
+    }
+}
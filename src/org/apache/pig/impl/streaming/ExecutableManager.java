@@ -25,10 +25,13 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Properties;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
@@ -48,30 +51,49 @@ import org.apache.pig.impl.util.UDFContext;
  * executable via it's <code>stdin</code>, collects the output records from
  * the <code>stdout</code> and also diagnostic information from the
  * <code>stdout</code>.
+ * <p>
+ * When the executable reads its <code>stdin</code> and writes its
+ * <code>stdout</code>, several instances of it can be started with
+ * {@link PigConfiguration#PIG_STREAMING_PROCESSES}. The input records are then
+ * sent to them in turn and their output records are merged in the order they
+ * come.
  */
 public class ExecutableManager {
     private static final Log LOG = LogFactory.getLog(ExecutableManager.class);
     private static final int SUCCESS = 0;
     private static final Result EOS_RESULT = new Result(POStatus.STATUS_EOS, null);
+    private static final int DEFAULT_BUFFER_SIZE = 65536;
 
     protected StreamingCommand command; // Streaming command to be run
 
     Process process; // Handle to the process
+    Process[] processes; // Handles to all the processes, process being the first one
     protected int exitCode = -127; // Exit code of the process
 
     protected DataOutputStream stdin; // stdin of the process
     ProcessInputThread stdinThread; // thread to send input to process
 
     ProcessOutputThread stdoutThread; // thread to get process stdout
+    ProcessOutputThread[] stdoutThreads; // threads to get the stdout of all processes
     InputStream stdout; // stdout of the process
 
     ProcessErrorThread stderrThread; // thread to get process stderr
+    ProcessErrorThread[] stderrThreads; // threads to get the stderr of all processes
     InputStream stderr; // stderr of the process
 
     // Input/Output handlers
     InputHandler inputHandler;
     OutputHandler outputHandler;
 
+    // Handlers of all the processes, inputHandler and outputHandler being the first ones
+    InputHandler[] inputHandlers;
+    OutputHandler[] outputHandlers;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    // Number of processes whose output has not been read to the end
+    private AtomicInteger openOutputs;
+
     // Statistics
     protected long inputRecords = 0;
     protected long inputBytes = 0;
@@ -102,6 +124,29 @@ public class ExecutableManager {
         // Create the input/output handlers
         this.inputHandler = HandlerFactory.createInputHandler(command);
         this.outputHandler = HandlerFactory.createOutputHandler(command);
+
+        int numProcesses = 1;
+        Properties props = stream.getShipCacheProperties();
+        if (props != null) {
+            bufferSize = Integer.parseInt(props.getProperty(
+                    PigConfiguration.PIG_STREAMING_BUFFER_SIZE, String.valueOf(DEFAULT_BUFFER_SIZE)));
+            // Output files can only be written by one process
+            if (inputHandler.getInputType() == InputType.SYNCHRONOUS
+                    && outputHandler.getOutputType() == OutputType.SYNCHRONOUS) {
+                numProcesses = Math.max(1, Integer.parseInt(props.getProperty(
+                        PigConfiguration.PIG_STREAMING_PROCESSES, "1")));
+            }
+        }
+        inputHandlers = new InputHandler[numProcesses];
+        outputHandlers = new OutputHandler[numProcesses];
+        inputHandlers[0] = inputHandler;
+        outputHandlers[0] = outputHandler;
+        for (int i = 1; i < numProcesses; i++) {
+            inputHandlers[i] = HandlerFactory.createInputHandler(command);
+            outputHandlers[i] = HandlerFactory.createOutputHandler(command);
+        }
+        processes = new Process[numProcesses];
+        openOutputs = new AtomicInteger(numProcesses);
     }
 
     /**
@@ -109,40 +154,50 @@ public class ExecutableManager {
      * @throws IOException
      */
     public void close() throws IOException {
-        // Close the InputHandler, which in some cases lets the process
+        // Close the InputHandlers, which in some cases lets the processes
         // terminate
-        inputHandler.close(process);
+        for (int i = 0; i < inputHandlers.length; i++) {
+            inputHandlers[i].close(processes[i]);
+        }
 
         // Check if we need to start the process now ...
         if (inputHandler.getInputType() == InputType.ASYNCHRONOUS) {
             exec();
         }
 
-        // Wait for the process to exit
+        // Wait for the processes to exit
         try {
-            exitCode = process.waitFor();
+            for (Process p : processes) {
+                setExitCode(p.waitFor());
+            }
         } catch (InterruptedException ie) {
             LOG.error("Unexpected exception while waiting for streaming binary to complete", ie);
             killProcess(process);
         }
 
-        // Wait for stdout thread to complete
+        // Wait for stdout threads to complete
         try {
-            if (stdoutThread != null) {
-                stdoutThread.join(0);
+            if (stdoutThreads != null) {
+                for (Thread t : stdoutThreads) {
+                    t.join(0);
+                }
             }
             stdoutThread = null;
+            stdoutThreads = null;
         } catch (InterruptedException ie) {
             LOG.error("Unexpected exception while waiting for output thread for streaming binary to complete", ie);
             killProcess(process);
         }
 
-        // Wait for stderr thread to complete
+        // Wait for stderr threads to complete
         try {
-            if (stderrThread != null) {
-                stderrThread.join(0);
+            if (stderrThreads != null) {
+                for (Thread t : stderrThreads) {
+                    t.join(0);
+                }
             }
             stderrThread = null;
+            stderrThreads = null;
         } catch (InterruptedException ie) {
             LOG.error("Unexpected exception while waiting for input thread for streaming binary to complete", ie);
             killProcess(process);
@@ -161,8 +216,9 @@ public class ExecutableManager {
             outputHandler.bindTo("", null, 0, -1);
 
             // start thread to process output from executable's stdout
-            stdoutThread = new ProcessOutputThread(outputHandler, poStream);
+            stdoutThread = new ProcessOutputThread(outputHandler, poStream, process);
             stdoutThread.start();
+            stdoutThreads = new ProcessOutputThread[] { stdoutThread };
         }
 
         // Check if there was a problem with the managed process
@@ -173,25 +229,38 @@ public class ExecutableManager {
 
     }
 
+    /**
+     * Keeps the first failed exit code of the processes.
+     */
+    private synchronized void setExitCode(int code) {
+        if (exitCode == -127 || exitCode == SUCCESS) {
+            exitCode = code;
+        }
+    }
+
     /**
      *  Helper function to close input and output streams
-     *  to the process and kill it
-     * @param process the process to be killed
+     *  to the processes and kill them
+     * @param process the first process, null if it was not started
      * @throws IOException
      */
     private void killProcess(Process process) {
         if (process != null) {
-            try {
-                inputHandler.close(process);
-            } catch (Exception e) {
-                LOG.info("Exception in killProcess while closing inputHandler. Ignoring:" + e.getMessage());
-            }
-            try {
-                outputHandler.close();
-            } catch (Exception e) {
-                LOG.info("Exception in killProcess while closing outputHandler. Ignoring:" + e.getMessage());
+            for (int i = 0; i < processes.length; i++) {
+                try {
+                    inputHandlers[i].close(processes[i]);
+                } catch (Exception e) {
+                    LOG.info("Exception in killProcess while closing inputHandler. Ignoring:" + e.getMessage());
+                }
+                try {
+                    outputHandlers[i].close();
+                } catch (Exception e) {
+                    LOG.info("Exception in killProcess while closing outputHandler. Ignoring:" + e.getMessage());
+                }
+                if (processes[i] != null) {
+                    processes[i].destroy();
+                }
             }
-            process.destroy();
         }
     }
 
@@ -205,31 +274,46 @@ public class ExecutableManager {
      * @throws IOException
      */
     protected void exec() throws IOException {
-        ProcessBuilder processBuilder = StreamingUtil.createProcess(this.command);
-        process = processBuilder.start();
-        LOG.debug("Started the process for command: " + command);
-
-        // Pick up the process' stderr stream and start the thread to
-        // process the stderr stream
-        stderr = new DataInputStream(new BufferedInputStream(process
-                .getErrorStream()));
-        stderrThread = new ProcessErrorThread();
-        stderrThread.start();
-
-        // Check if we need to handle the process' stdout directly
+        stderrThreads = new ProcessErrorThread[processes.length];
         if (outputHandler.getOutputType() == OutputType.SYNCHRONOUS) {
-            // Get hold of the stdout of the process
-            stdout = new DataInputStream(new BufferedInputStream(process
-                    .getInputStream()));
-
-            // Bind the stdout to the OutputHandler
-            outputHandler.bindTo("", new BufferedPositionedInputStream(stdout),
-                    0, Long.MAX_VALUE);
-
-            // start thread to process output from executable's stdout
-            stdoutThread = new ProcessOutputThread(outputHandler, poStream);
-            stdoutThread.start();
+            stdoutThreads = new ProcessOutputThread[processes.length];
         }
+        for (int i = 0; i < processes.length; i++) {
+            ProcessBuilder processBuilder = StreamingUtil.createProcess(this.command);
+            processes[i] = processBuilder.start();
+            LOG.debug("Started the process for command: " + command);
+
+            // Pick up the process' stderr stream and start the thread to
+            // process the stderr stream
+            InputStream err = new DataInputStream(new BufferedInputStream(processes[i]
+                    .getErrorStream()));
+            stderrThreads[i] = new ProcessErrorThread(err);
+            stderrThreads[i].start();
+
+            // Check if we need to handle the process' stdout directly
+            if (outputHandler.getOutputType() == OutputType.SYNCHRONOUS) {
+                // Get hold of the stdout of the process
+                InputStream out = new DataInputStream(new BufferedInputStream(processes[i]
+                        .getInputStream(), bufferSize));
+
+                // Bind the stdout to the OutputHandler
+                outputHandlers[i].bindTo("", new BufferedPositionedInputStream(out),
+                        0, Long.MAX_VALUE);
+
+                // start thread to process output from executable's stdout
+                stdoutThreads[i] = new ProcessOutputThread(outputHandlers[i], poStream, processes[i]);
+                stdoutThreads[i].start();
+                if (i == 0) {
+                    stdout = out;
+                }
+            }
+            if (i == 0) {
+                stderr = err;
+            }
+        }
+        process = processes[0];
+        stderrThread = stderrThreads[0];
+        stdoutThread = stdoutThreads == null ? null : stdoutThreads[0];
     }
 
     /**
@@ -257,10 +341,15 @@ public class ExecutableManager {
 
         // Start the executable ...
         exec();
-        // set up input to the executable
-        stdin = new DataOutputStream(new BufferedOutputStream(process
-                .getOutputStream()));
-        inputHandler.bindTo(stdin);
+        // set up input to the executables
+        for (int i = 0; i < processes.length; i++) {
+            DataOutputStream in = new DataOutputStream(new BufferedOutputStream(processes[i]
+                    .getOutputStream(), bufferSize));
+            inputHandlers[i].bindTo(in);
+            if (i == 0) {
+                stdin = in;
+            }
+        }
 
         // Start the thread to send input to the executable's stdin
         stdinThread = new ProcessInputThread(inputHandler, poStream, null);
@@ -300,7 +389,8 @@ public class ExecutableManager {
             }
             try {
                 // Read tuples from the previous operator in the pipeline
-                // and pass it to the executable
+                // and pass it to the executables in turn
+                int next = 0;
                 while (true) {
                     Result inp = null;
                     inp = binaryInputQueue.take();
@@ -332,7 +422,12 @@ public class ExecutableManager {
                         Tuple t = null;
                         try {
                             t = (Tuple) inp.result;
-                            inputHandler.putNext(t);
+                            if (inputHandler.getInputType() == InputType.SYNCHRONOUS) {
+                                inputHandlers[next].putNext(t);
+                                next = (next + 1) % inputHandlers.length;
+                            } else {
+                                inputHandler.putNext(t);
+                            }
                         } catch (IOException e) {
                             // if input type is synchronous then it could
                             // be related to the process terminating
@@ -397,10 +492,12 @@ public class ExecutableManager {
 
         OutputHandler outputHandler;
         private BlockingQueue<Result> binaryOutputQueue;
+        private Process process;
 
-        ProcessOutputThread(OutputHandler outputHandler, POStream poStream) {
+        ProcessOutputThread(OutputHandler outputHandler, POStream poStream, Process process) {
             setDaemon(true);
             this.outputHandler = outputHandler;
+            this.process = process;
             // the output queue where this thread will put
             // output tuples for POStream
             this.binaryOutputQueue = poStream.getBinaryOutputQueue();
@@ -451,9 +548,9 @@ public class ExecutableManager {
                 // binary - wait for the process to exit
                 // and harvest exit code
                 try {
-                    exitCode = process.waitFor();
+                    setExitCode(process.waitFor());
                 } catch (InterruptedException ie) {
-                    killProcess(process);
+                    killProcess(ExecutableManager.this.process);
                     // signal error
                     String errMsg = "Failure while waiting for process (" + command.toString() + ")" +
                             ie.getMessage();
@@ -464,6 +561,10 @@ public class ExecutableManager {
                     return;
                 }
                 if(exitCode == 0) {
+                    if (openOutputs.decrementAndGet() > 0) {
+                        // wait for the output of the other processes
+                        return;
+                    }
                     // signal EOS (End Of Stream output)
                     res = EOS_RESULT;
                 } else {
@@ -499,8 +600,11 @@ public class ExecutableManager {
 
     class ProcessErrorThread extends Thread {
 
-        public ProcessErrorThread() {
+        private InputStream stderr;
+
+        public ProcessErrorThread(InputStream stderr) {
             setDaemon(true);
+            this.stderr = stderr;
         }
 
         @Override
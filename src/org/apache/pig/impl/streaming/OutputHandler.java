@@ -26,8 +26,6 @@ import org.apache.pig.StreamToPig;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.io.BufferedPositionedInputStream;
 
-import com.google.common.base.Charsets;
-
 /**
  * {@link OutputHandler} is responsible for handling the output of the
  * Pig-Streaming external command.
@@ -57,11 +55,13 @@ public abstract class OutputHandler {
 
     private Text currValue = new Text();
 
+    private Text nextLine = new Text();
+
     private BufferedPositionedInputStream istream;
     
     //Both of these ignore the trailing \n.  So if the
-    //default delimiter is "\n" recordDelimStr is "".
-    private String recordDelimStr = null;
+    //default delimiter is "\n" recordDelim is empty.
+    private byte[] recordDelim = null;
     private int recordDelimLength = 0;
 
     /**
@@ -125,44 +125,40 @@ public abstract class OutputHandler {
             //Need to add back the newline character we ate.
             currValue.append(new byte[] {'\n'}, 0, 1);
 
-            byte[] lineBytes = readNextLine();
-            if (lineBytes == null) {
+            if (in.readLine(nextLine) <= 0) {
                 //We have no more input, so just break;
                 break;
             }
-            currValue.append(lineBytes, 0, lineBytes.length);
+            currValue.append(nextLine.getBytes(), 0, nextLine.getLength());
         }
         
         return true;
     }
-    
-    private byte[] readNextLine() throws IOException {
-        Text line = new Text();
-        int num = in.readLine(line);
-        byte[] lineBytes = line.getBytes();
-        if (num <= 0) {
-            return null;
-        }
-        
-        return lineBytes;
-    }
 
     private boolean isEndOfRow() {
-        if (recordDelimStr == null) {
+        if (recordDelim == null) {
             byte[] recordDelimBa = getRecordDelimiter();
             recordDelimLength = recordDelimBa.length - 1; //Ignore trailing \n
-            recordDelimStr = new String(recordDelimBa, 0, recordDelimLength,  Charsets.UTF_8);
+            recordDelim = recordDelimBa;
         }
 
         if (recordDelimLength == 0) {
             return true;
         }
         //If our current section is less than the delim length, then its not the end of the row.
-        if (currValue.getLength() < recordDelimLength) {
+        int start = currValue.getLength() - recordDelimLength;
+        if (start < 0) {
             return false;
         }
 
-        return currValue.find(recordDelimStr, currValue.getLength() - recordDelimLength) >= 0;
+        // Compare the bytes in place, the row is not decoded
+        byte[] bytes = currValue.getBytes();
+        for (int i = 0; i < recordDelimLength; i++) {
+            if (bytes[start + i] != recordDelim[i]) {
+                return false;
+            }
+        }
+        return true;
     }
     
     protected byte[] getRecordDelimiter() {
@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.streaming;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.builtin.ToDate;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+import org.apache.pig.impl.logicalLayer.schema.Schema.FieldSchema;
+import org.joda.time.DateTime;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Binary protocol between a batched StreamingUDF and its controller script.
+ * Every message is a frame made of the big endian int length of the payload
+ * followed by the payload. The payload of a request starts with the int
+ * number of argument tuples followed by the tuples, a count of -1 being the
+ * request to turn on output capturing which gets no response. The payload of
+ * a response is the int number of results followed by one value per argument
+ * tuple of the request.
+ * <p>
+ * A value is a type byte followed by its data:
+ * <ul>
+ * <li>N null, no data</li>
+ * <li>B boolean, one byte</li>
+ * <li>I int, L long, F float, D double</li>
+ * <li>C chararray, A bytearray, T datetime in ISO format, G biginteger and
+ * E bigdecimal as strings, all as the int length of the bytes followed by the
+ * bytes</li>
+ * <li>( tuple and { bag, the int number of fields or tuples followed by the
+ * values</li>
+ * <li>[ map, the int number of entries followed by the key as a chararray
+ * without its type byte and the value, for each entry</li>
+ * </ul>
+ * Since the controller does not know the output schema of the function, the
+ * values of a response are converted to the types of the schema when read.
+ */
+public class StreamingUDFBinaryProtocol {
+
+    public static final int OUTPUT_CAPTURING_FRAME = -1;
+
+    private static final byte NULL = 'N';
+    private static final byte BOOLEAN = 'B';
+    private static final byte INTEGER = 'I';
+    private static final byte LONG = 'L';
+    private static final byte FLOAT = 'F';
+    private static final byte DOUBLE = 'D';
+    private static final byte CHARARRAY = 'C';
+    private static final byte BYTEARRAY = 'A';
+    private static final byte DATETIME = 'T';
+    private static final byte BIGINTEGER = 'G';
+    private static final byte BIGDECIMAL = 'E';
+    private static final byte TUPLE = '(';
+    private static final byte BAG = '{';
+    private static final byte MAP = '[';
+
+    private static final TupleFactory tupleFactory = TupleFactory.getInstance();
+    private static final BagFactory bagFactory = BagFactory.getInstance();
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream payload = new DataOutputStream(buffer);
+    private final FieldSchema outputFs;
+
+    /**
+     * @param outputFs schema of the values returned by the function
+     */
+    public StreamingUDFBinaryProtocol(FieldSchema outputFs) {
+        this.outputFs = outputFs;
+    }
+
+    /**
+     * Writes the frame of a request for the argument tuples.
+     */
+    public void writeRequest(DataOutputStream out, List<Tuple> inputs) throws IOException {
+        buffer.reset();
+        payload.writeInt(inputs.size());
+        for (Tuple t : inputs) {
+            writeTuple(payload, t);
+        }
+        payload.flush();
+        out.writeInt(buffer.size());
+        buffer.writeTo(out);
+    }
+
+    /**
+     * Writes the frame of the request to turn on output capturing.
+     */
+    public void writeOutputCapturingRequest(DataOutputStream out) throws IOException {
+        out.writeInt(4);
+        out.writeInt(OUTPUT_CAPTURING_FRAME);
+    }
+
+    /**
+     * Reads the frame of a response.
+     * @param expected number of argument tuples of the request
+     * @return the results converted to the output schema
+     */
+    public List<Object> readResponse(DataInputStream in, int expected) throws IOException {
+        in.readInt();
+        int n = in.readInt();
+        if (n != expected) {
+            throw new ExecException("Expected " + expected + " results from streaming udf, got " + n);
+        }
+        List<Object> results = new ArrayList<Object>(n);
+        for (int i = 0; i < n; i++) {
+            results.add(conform(readValue(in), outputFs));
+        }
+        return results;
+    }
+
+    private static void writeTuple(DataOutputStream out, Tuple t) throws IOException {
+        out.writeByte(TUPLE);
+        int sz = t == null ? 0 : t.size();
+        out.writeInt(sz);
+        for (int i = 0; i < sz; i++) {
+            writeValue(out, t.get(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static void writeValue(DataOutputStream out, Object o) throws IOException {
+        switch (DataType.findType(o)) {
+        case DataType.NULL:
+            out.writeByte(NULL);
+            break;
+        case DataType.BOOLEAN:
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) o);
+            break;
+        case DataType.INTEGER:
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) o);
+            break;
+        case DataType.LONG:
+            out.writeByte(LONG);
+            out.writeLong((Long) o);
+            break;
+        case DataType.FLOAT:
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) o);
+            break;
+        case DataType.DOUBLE:
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) o);
+            break;
+        case DataType.CHARARRAY:
+            writeBytes(out, CHARARRAY, ((String) o).getBytes(Charsets.UTF_8));
+            break;
+        case DataType.BYTEARRAY:
+            writeBytes(out, BYTEARRAY, ((DataByteArray) o).get());
+            break;
+        case DataType.DATETIME:
+            writeBytes(out, DATETIME, o.toString().getBytes(Charsets.UTF_8));
+            break;
+        case DataType.BIGINTEGER:
+            writeBytes(out, BIGINTEGER, o.toString().getBytes(Charsets.UTF_8));
+            break;
+        case DataType.BIGDECIMAL:
+            writeBytes(out, BIGDECIMAL, o.toString().getBytes(Charsets.UTF_8));
+            break;
+        case DataType.TUPLE:
+            writeTuple(out, (Tuple) o);
+            break;
+        case DataType.BAG:
+            DataBag bag = (DataBag) o;
+            out.writeByte(BAG);
+            out.writeInt((int) bag.size());
+            for (Tuple t : bag) {
+                writeTuple(out, t);
+            }
+            break;
+        case DataType.MAP:
+            Map<String, Object> map = (Map<String, Object>) o;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<String, Object> e : map.entrySet()) {
+                byte[] key = e.getKey().getBytes(Charsets.UTF_8);
+                out.writeInt(key.length);
+                out.write(key);
+                writeValue(out, e.getValue());
+            }
+            break;
+        default:
+            throw new ExecException("Unable to send value of type "
+                    + DataType.findTypeName(o) + " to streaming udf");
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte type, byte[] b) throws IOException {
+        out.writeByte(type);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+        case NULL:
+            return null;
+        case BOOLEAN:
+            return in.readBoolean();
+        case INTEGER:
+            return in.readInt();
+        case LONG:
+            return in.readLong();
+        case FLOAT:
+            return in.readFloat();
+        case DOUBLE:
+            return in.readDouble();
+        case CHARARRAY:
+            return new String(readBytes(in), Charsets.UTF_8);
+        case BYTEARRAY:
+            return new DataByteArray(readBytes(in));
+        case DATETIME:
+            return ToDate.extractDateTime(new String(readBytes(in), Charsets.UTF_8));
+        case BIGINTEGER:
+            return new BigInteger(new String(readBytes(in), Charsets.UTF_8));
+        case BIGDECIMAL:
+            return new BigDecimal(new String(readBytes(in), Charsets.UTF_8));
+        case TUPLE: {
+            int sz = in.readInt();
+            Tuple t = tupleFactory.newTuple(sz);
+            for (int i = 0; i < sz; i++) {
+                t.set(i, readValue(in));
+            }
+            return t;
+        }
+        case BAG: {
+            int sz = in.readInt();
+            DataBag bag = bagFactory.newDefaultBag();
+            for (int i = 0; i < sz; i++) {
+                Object o = readValue(in);
+                bag.add(o instanceof Tuple ? (Tuple) o : tupleFactory.newTuple(o));
+            }
+            return bag;
+        }
+        case MAP: {
+            int sz = in.readInt();
+            Map<String, Object> map = new HashMap<String, Object>(sz);
+            for (int i = 0; i < sz; i++) {
+                String key = new String(readBytes(in), Charsets.UTF_8);
+                map.put(key, readValue(in));
+            }
+            return map;
+        }
+        default:
+            throw new ExecException("Unknown type " + (char) type + " in streaming udf output");
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] b = new byte[in.readInt()];
+        in.readFully(b);
+        return b;
+    }
+
+    /**
+     * Converts a value read from the controller to the type of its schema.
+     */
+    static Object conform(Object o, FieldSchema fs) throws IOException {
+        if (o == null || fs == null) {
+            return o;
+        }
+        switch (fs.type) {
+        case DataType.BOOLEAN:
+            return DataType.toBoolean(o);
+        case DataType.INTEGER:
+            return DataType.toInteger(o);
+        case DataType.LONG:
+            return DataType.toLong(o);
+        case DataType.FLOAT:
+            return DataType.toFloat(o);
+        case DataType.DOUBLE:
+            return DataType.toDouble(o);
+        case DataType.CHARARRAY:
+            return o instanceof DataByteArray ? o.toString() : DataType.toString(o);
+        case DataType.BYTEARRAY:
+            return o instanceof DataByteArray ? o : new DataByteArray(o.toString());
+        case DataType.DATETIME:
+            return o instanceof DateTime ? o : ToDate.extractDateTime(o.toString());
+        case DataType.BIGINTEGER:
+            return DataType.toBigInteger(o);
+        case DataType.BIGDECIMAL:
+            return DataType.toBigDecimal(o);
+        case DataType.TUPLE: {
+            Tuple t = o instanceof Tuple ? (Tuple) o : tupleFactory.newTuple(o);
+            Schema inner = fs.schema;
+            if (inner != null && inner.size() == t.size()) {
+                for (int i = 0; i < t.size(); i++) {
+                    t.set(i, conform(t.get(i), inner.getField(i)));
+                }
+            }
+            return t;
+        }
+        case DataType.BAG: {
+            DataBag bag = (DataBag) o;
+            FieldSchema tupleFs = fs.schema == null || fs.schema.size() != 1
+                    ? null : fs.schema.getField(0);
+            if (tupleFs == null) {
+                return bag;
+            }
+            DataBag result = bagFactory.newDefaultBag();
+            for (Tuple t : bag) {
+                result.add((Tuple) conform(t, tupleFs));
+            }
+            return result;
+        }
+        default:
+            return o;
+        }
+    }
+}
@@ -20,9 +20,13 @@ package org.apache.pig.impl.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
 import org.apache.pig.EvalFunc;
 import org.apache.pig.FuncSpec;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
@@ -30,6 +34,12 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.Packager;
+import org.apache.pig.backend.hadoop.executionengine.tez.plan.operator.POBuildBloomRearrangeTez;
 import org.apache.pig.builtin.IsEmpty;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
@@ -37,6 +47,8 @@ import org.apache.pig.data.NonSpillableDataBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.builtin.BuildJoinBloom;
+import org.apache.pig.impl.builtin.IsInJoinBloom;
 import org.apache.pig.impl.logicalLayer.schema.Schema;
 import org.apache.pig.impl.plan.NodeIdGenerator;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -157,4 +169,157 @@ public class CompilerUtils {
 
     }
 
+
+    /**
+     * Bloom join in mapreduce and spark mode. The bloom filter is built from
+     * the join keys of one input in a group all job and the other inputs are
+     * filtered with it before their local rearrange.
+     * <p>
+     * As in tez, the filter is built from the right most input and applied on
+     * the inputs on its left, except in a left outer join where it is built
+     * from the left most input and applied on the inputs on its right.
+     *
+     * @param inner inner flags of the join package
+     * @return index of the input the bloom filter is built from
+     */
+    public static int getBloomJoinBuildInput(boolean[] inner) {
+        return inner[inner.length - 1] ? inner.length - 1 : 0;
+    }
+
+    /**
+     * @return foreach generating the join key of the input of lr
+     */
+    public static POForEach getBloomJoinKeys(POLocalRearrange lr) throws PlanException {
+        String scope = lr.getOperatorKey().scope;
+        List<PhysicalPlan> eps = new ArrayList<PhysicalPlan>();
+        List<Boolean> flat = new ArrayList<Boolean>();
+        try {
+            for (PhysicalPlan plan : lr.getPlans()) {
+                eps.add(plan.clone());
+                flat.add(false);
+            }
+        } catch (CloneNotSupportedException e) {
+            throw new PlanException("Error cloning the join key plans", e);
+        }
+        POForEach fe = new POForEach(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)), -1, eps, flat);
+        fe.setResultType(DataType.TUPLE);
+        return fe;
+    }
+
+    /**
+     * @return local rearrange with "all" as the key
+     */
+    public static POLocalRearrange getGroupAllRearrange(String scope) throws PlanException {
+        ConstantExpression ce = new ConstantExpression(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)));
+        ce.setValue("all");
+        ce.setResultType(DataType.CHARARRAY);
+        PhysicalPlan ep = new PhysicalPlan();
+        ep.add(ce);
+        List<PhysicalPlan> eps = new ArrayList<PhysicalPlan>();
+        eps.add(ep);
+
+        POLocalRearrange lr = new POLocalRearrange(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)));
+        try {
+            lr.setIndex(0);
+        } catch (ExecException e) {
+            throw new PlanException("Unable to set index on newly created POLocalRearrange.", e);
+        }
+        lr.setKeyType(DataType.CHARARRAY);
+        lr.setPlans(eps);
+        lr.setResultType(DataType.TUPLE);
+        return lr;
+    }
+
+    /**
+     * @return package of the group all of {@link #getGroupAllRearrange(String)}
+     */
+    public static POPackage getGroupAllPackage(String scope) {
+        POPackage pkg = new POPackage(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)));
+        Packager pkgr = new Packager();
+        pkg.setPkgr(pkgr);
+        pkgr.setKeyType(DataType.CHARARRAY);
+        pkg.setNumInps(1);
+        pkgr.setInner(new boolean[] {false});
+        pkg.setResultType(DataType.TUPLE);
+        return pkg;
+    }
+
+    /**
+     * @return foreach building the bloom filter from the bag of join keys of
+     *         {@link #getGroupAllPackage(String)}, configured as in tez with
+     *         the pig.bloomjoin.* properties
+     */
+    public static POForEach getBuildJoinBloom(Properties props, String scope) {
+        String[] args = new String[] {
+                props.getProperty(PigConfiguration.PIG_BLOOMJOIN_HASH_TYPE,
+                        POBuildBloomRearrangeTez.DEFAULT_BLOOM_HASH_TYPE),
+                props.getProperty(PigConfiguration.PIG_BLOOMJOIN_VECTORSIZE_BYTES,
+                        String.valueOf(POBuildBloomRearrangeTez.DEFAULT_BLOOM_VECTOR_SIZE_BYTES)),
+                props.getProperty(PigConfiguration.PIG_BLOOMJOIN_HASH_FUNCTIONS,
+                        String.valueOf(POBuildBloomRearrangeTez.DEFAULT_NUM_BLOOM_HASH_FUNCTIONS)) };
+
+        POProject prj = new POProject(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)));
+        prj.setColumn(1);
+        prj.setOverloaded(false);
+        prj.setResultType(DataType.BAG);
+        List<PhysicalOperator> ufInps = new ArrayList<PhysicalOperator>();
+        ufInps.add(prj);
+        POUserFunc uf = new POUserFunc(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)), -1, ufInps,
+                new FuncSpec(BuildJoinBloom.class.getName(), args));
+        uf.setResultType(DataType.BYTEARRAY);
+        PhysicalPlan ep = new PhysicalPlan();
+        ep.add(prj);
+        ep.add(uf);
+        try {
+            ep.connect(prj, uf);
+        } catch (PlanException e) {
+            // Can not happen with two new operators
+            throw new AssertionError(e);
+        }
+
+        List<PhysicalPlan> eps = new ArrayList<PhysicalPlan>();
+        eps.add(ep);
+        List<Boolean> flat = new ArrayList<Boolean>();
+        flat.add(false);
+        POForEach fe = new POForEach(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)), -1, eps, flat);
+        fe.setResultType(DataType.TUPLE);
+        return fe;
+    }
+
+    /**
+     * @return filter to put before lr that drops the records whose join key
+     *         is not in the bloom filter stored in bloomFile
+     */
+    public static POFilter getBloomJoinFilter(POLocalRearrange lr, String bloomFile) throws PlanException {
+        String scope = lr.getOperatorKey().scope;
+        PhysicalPlan ep = new PhysicalPlan();
+        POUserFunc uf = new POUserFunc(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)), -1, null,
+                new FuncSpec(IsInJoinBloom.class.getName(), bloomFile));
+        uf.setResultType(DataType.BOOLEAN);
+        ep.add(uf);
+        try {
+            for (PhysicalPlan plan : lr.getPlans()) {
+                PhysicalPlan keyPlan = plan.clone();
+                PhysicalOperator key = keyPlan.getLeaves().get(0);
+                ep.merge(keyPlan);
+                ep.connect(key, uf);
+            }
+        } catch (CloneNotSupportedException e) {
+            throw new PlanException("Error cloning the join key plans", e);
+        }
+        POFilter filter = new POFilter(new OperatorKey(scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(scope)));
+        filter.setPlan(ep);
+        filter.setResultType(DataType.TUPLE);
+        return filter;
+    }
+
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigCounters;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.tools.pigstats.PigStatusReporter;
+
+/**
+ * A byte budget shared by the internal bags and aggregation tables of a task.
+ * <p>
+ * Instead of waiting for the {@link SpillableMemoryManager} to be notified
+ * that the tenured pool is filling up, the memory consumers of a task reserve
+ * the bytes they hold from this pool as they grow. When a reservation can not
+ * be satisfied the consumer spills or emits what it holds right away, and
+ * releases its bytes. So several bags growing at once share the budget
+ * instead of each assuming it owns a fixed fraction of the heap.
+ * <p>
+ * Bytes go back to the pool when a consumer releases them, or once the
+ * consumer has been garbage collected. There is one pool per task thread.
+ * It is enabled by setting {@link PigConfiguration#PIG_TASK_MEMORY_POOL}.
+ */
+public class TaskMemoryPool {
+
+    private static final Log log = LogFactory.getLog(TaskMemoryPool.class);
+
+    // Smallest amount a reservation grows by, to keep pool calls rare
+    static final long MIN_GROWTH = 64 * 1024;
+
+    private static ThreadLocal<TaskMemoryPool> pools = new ThreadLocal<TaskMemoryPool>();
+
+    // Marks threads that have looked up the configuration and have no pool
+    private static final TaskMemoryPool NONE = new TaskMemoryPool(0);
+
+    //@StaticDataCleanup
+    public static void staticDataCleanup() {
+        pools = new ThreadLocal<TaskMemoryPool>();
+    }
+
+    /**
+     * @return the pool of the current task, or null if the memory of the
+     *         task is not managed through a pool
+     */
+    public static TaskMemoryPool getInstance() {
+        TaskMemoryPool pool = pools.get();
+        if (pool == null) {
+            pool = NONE;
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            double size = conf == null ? 0 : conf.getDouble(PigConfiguration.PIG_TASK_MEMORY_POOL, 0);
+            if (size > 0) {
+                // a fraction of the heap, or a number of bytes
+                long capacity = size <= 1 ? (long) (Runtime.getRuntime().maxMemory() * size) : (long) size;
+                log.info("Bags and aggregation tables of this task share a memory pool of "
+                        + capacity + " bytes");
+                pool = new TaskMemoryPool(capacity);
+            }
+            pools.set(pool);
+        }
+        return pool == NONE ? null : pool;
+    }
+
+    /**
+     * Bytes held by one consumer. Consumers keep a strong reference to their
+     * reservation; the pool only keeps a weak one, so a consumer that is
+     * dropped without releasing its bytes gives them back once it is
+     * collected.
+     */
+    public class Reservation {
+        private final Grant grant;
+
+        private Reservation() {
+            grant = new Grant(this, queue);
+            synchronized (TaskMemoryPool.this) {
+                grants.add(grant);
+            }
+        }
+
+        /**
+         * Makes sure at least the given number of bytes are reserved,
+         * growing the reservation from the pool if needed.
+         * @param bytes bytes the consumer needs to hold in total
+         * @return false if the pool does not have enough bytes left, in which
+         *         case the consumer should spill and release
+         */
+        public boolean reserve(long bytes) {
+            if (bytes <= grant.bytes) {
+                return true;
+            }
+            return grow(grant, bytes);
+        }
+
+        /**
+         * Gives the bytes above the given number back to the pool.
+         */
+        public void shrink(long bytes) {
+            if (bytes < grant.bytes) {
+                TaskMemoryPool.this.shrink(grant, Math.max(bytes, 0));
+            }
+        }
+
+        /**
+         * Gives all the reserved bytes back to the pool.
+         */
+        public void release() {
+            shrink(0);
+        }
+
+        public long getBytes() {
+            return grant.bytes;
+        }
+    }
+
+    private static class Grant extends WeakReference<Reservation> {
+        long bytes;
+
+        Grant(Reservation reservation, ReferenceQueue<Reservation> queue) {
+            super(reservation, queue);
+        }
+    }
+
+    private final long capacity;
+    private long reserved;
+    private long peak;
+    private long denied;
+
+    private final ReferenceQueue<Reservation> queue = new ReferenceQueue<Reservation>();
+    // Keeps the grants reachable until their reservation has been collected
+    private final Set<Grant> grants = Collections.newSetFromMap(new IdentityHashMap<Grant, Boolean>());
+
+    public TaskMemoryPool(long capacity) {
+        this.capacity = capacity;
+    }
+
+    public Reservation newReservation() {
+        return new Reservation();
+    }
+
+    private synchronized boolean grow(Grant grant, long bytes) {
+        reclaim();
+        long needed = bytes - grant.bytes;
+        if (reserved + needed > capacity) {
+            denied++;
+            incrCounter(PigCounters.MEMORY_POOL_DENIED_RESERVATIONS, 1);
+            if (log.isDebugEnabled()) {
+                log.debug("Denied a reservation of " + bytes + " bytes, " + reserved + " of "
+                        + capacity + " bytes are reserved");
+            }
+            return false;
+        }
+        // grow by a quarter or more to keep reservations infrequent
+        long growth = Math.max(needed, Math.max(MIN_GROWTH, grant.bytes / 4));
+        growth = Math.min(growth, capacity - reserved);
+        grant.bytes += growth;
+        reserved += growth;
+        if (reserved > peak) {
+            incrCounter(PigCounters.MEMORY_POOL_PEAK_BYTES, reserved - peak);
+            peak = reserved;
+        }
+        return true;
+    }
+
+    private synchronized void shrink(Grant grant, long bytes) {
+        reserved -= grant.bytes - bytes;
+        grant.bytes = bytes;
+    }
+
+    // Returns the bytes of collected consumers
+    private void reclaim() {
+        for (Reference<? extends Reservation> ref = queue.poll(); ref != null; ref = queue.poll()) {
+            Grant grant = (Grant) ref;
+            if (grants.remove(grant)) {
+                reserved -= grant.bytes;
+                grant.bytes = 0;
+            }
+        }
+    }
+
+    private static void incrCounter(PigCounters counter, long incr) {
+        PigStatusReporter reporter = PigStatusReporter.getInstance();
+        if (reporter != null) {
+            reporter.incrCounter(counter, incr);
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return bytes currently reserved, including those of consumers that
+     *         have been dropped but not yet collected
+     */
+    public synchronized long getReserved() {
+        reclaim();
+        return reserved;
+    }
+
+    /**
+     * @return most bytes reserved at once
+     */
+    public synchronized long getPeak() {
+        return peak;
+    }
+
+    /**
+     * @return number of reservations that could not be satisfied
+     */
+    public synchronized long getDenied() {
+        return denied;
+    }
+}
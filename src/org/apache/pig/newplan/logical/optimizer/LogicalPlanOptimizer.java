@@ -28,6 +28,7 @@ import org.apache.pig.impl.PigContext;
 import org.apache.pig.newplan.OperatorPlan;
 import org.apache.pig.newplan.logical.rules.AddForEach;
 import org.apache.pig.newplan.logical.rules.ColumnMapKeyPrune;
+import org.apache.pig.newplan.logical.rules.CostBasedJoinSelector;
 import org.apache.pig.newplan.logical.rules.FilterAboveForeach;
 import org.apache.pig.newplan.logical.rules.FilterConstantCalculator;
 import org.apache.pig.newplan.logical.rules.ForEachConstantCalculator;
@@ -217,6 +218,14 @@ public class LogicalPlanOptimizer extends PlanOptimizer {
         if (!s.isEmpty())
             ls.add(s);
 
+        // Join strategy set
+        // This set of rules picks the strategy of joins from the size of their inputs
+        s = new HashSet<Rule>();
+        r = new CostBasedJoinSelector("CostBasedJoinSelector", pc);
+        checkAndAddRule(s, r);
+        if (!s.isEmpty())
+            ls.add(s);
+
         return ls;
     }
 
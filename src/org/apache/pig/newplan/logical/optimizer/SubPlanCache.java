@@ -0,0 +1,680 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.newplan.logical.optimizer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.apache.pig.FuncSpec;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.FileSpec;
+import org.apache.pig.impl.io.InterStorage;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.newplan.DependencyOrderWalker;
+import org.apache.pig.newplan.DepthFirstWalker;
+import org.apache.pig.newplan.Operator;
+import org.apache.pig.newplan.logical.expression.CastExpression;
+import org.apache.pig.newplan.logical.expression.ConstantExpression;
+import org.apache.pig.newplan.logical.expression.DereferenceExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionVisitor;
+import org.apache.pig.newplan.logical.expression.MapLookupExpression;
+import org.apache.pig.newplan.logical.expression.UserFuncExpression;
+import org.apache.pig.newplan.logical.relational.LOCogroup;
+import org.apache.pig.newplan.logical.relational.LOCross;
+import org.apache.pig.newplan.logical.relational.LODistinct;
+import org.apache.pig.newplan.logical.relational.LOForEach;
+import org.apache.pig.newplan.logical.relational.LOJoin;
+import org.apache.pig.newplan.logical.relational.LOLimit;
+import org.apache.pig.newplan.logical.relational.LOLoad;
+import org.apache.pig.newplan.logical.relational.LONative;
+import org.apache.pig.newplan.logical.relational.LORank;
+import org.apache.pig.newplan.logical.relational.LOSort;
+import org.apache.pig.newplan.logical.relational.LOStore;
+import org.apache.pig.newplan.logical.relational.LOStream;
+import org.apache.pig.newplan.logical.relational.LOUnion;
+import org.apache.pig.newplan.logical.relational.LogicalPlan;
+import org.apache.pig.newplan.logical.relational.LogicalRelationalOperator;
+import org.apache.pig.newplan.logical.visitor.ImplicitSplitInsertVisitor;
+import org.apache.pig.tools.pigstats.OutputStats;
+import org.apache.pig.tools.pigstats.PigStats;
+
+/**
+ * A cache of the results of the sub-plans of scripts, so that the next runs,
+ * of the same script or of another one, load them instead of recomputing
+ * them as long as their inputs do not change.
+ * <p>
+ * Once a plan is optimized, the outputs of its joins, crosses, distincts and
+ * of the foreachs that aggregate a group are looked up in the cache if all
+ * the operators they depend on are deterministic and read files. A result is
+ * identified by a digest of the plan that computes it, without its aliases
+ * and uids, and of the paths, lengths and modification times of the files it
+ * reads. When there is a valid result the sub-plan is replaced with a load of
+ * it, otherwise the result is stored into the cache by the script, in the
+ * format of {@link InterStorage}. Only the results closest to the outputs of
+ * the script are looked up and stored. Each run stores its results into
+ * directories of its own, so that the plans of other scripts, or of an
+ * explain, never change the results being written or read.
+ * <p>
+ * After the script has run, the results it stored replace the ones of
+ * earlier runs and are added to the cache,
+ * the results that expired or exceed the size of the cache, least recently
+ * used first, are removed, and the results that were loaded are reported in
+ * {@link PigStats}. It is enabled by setting
+ * {@link PigConfiguration#PIG_SUBPLAN_CACHE_DIR}.
+ */
+public class SubPlanCache {
+
+    private static final Log LOG = LogFactory.getLog(SubPlanCache.class);
+
+    /**
+     * Annotation of the loads of cached results, whose value is the digest
+     * of the result
+     */
+    public static final String CACHE_LOAD = "SubPlanCacheLoad";
+
+    /**
+     * Annotation of the stores of results into the cache, whose value is the
+     * digest of the result
+     */
+    public static final String CACHE_STORE = "SubPlanCacheStore";
+
+    public static final long DEFAULT_TTL = 24 * 60 * 60;
+
+    public static final long DEFAULT_MAX_BYTES = 10L * 1024 * 1024 * 1024;
+
+    private static final String ENTRY = ".entry";
+    private static final String CREATED = "created";
+    private static final String USED = "used";
+    private static final String RECORDS = "records";
+    private static final String BYTES = "bytes";
+
+    private final Configuration conf;
+    private final FileSystem fs;
+    private final Path dir;
+    private final long ttl;
+    private final long maxBytes;
+
+    public SubPlanCache(Properties props) throws IOException {
+        conf = ConfigurationUtil.toConfiguration(props);
+        Path path = new Path(props.getProperty(PigConfiguration.PIG_SUBPLAN_CACHE_DIR));
+        fs = path.getFileSystem(conf);
+        dir = fs.makeQualified(path);
+        ttl = Long.parseLong(props.getProperty(PigConfiguration.PIG_SUBPLAN_CACHE_TTL,
+                String.valueOf(DEFAULT_TTL))) * 1000;
+        maxBytes = Long.parseLong(props.getProperty(PigConfiguration.PIG_SUBPLAN_CACHE_MAX_BYTES,
+                String.valueOf(DEFAULT_MAX_BYTES)));
+    }
+
+    /**
+     * @return the cache set in the properties of the context, or null if
+     *         there is none or it can not be accessed
+     */
+    public static SubPlanCache get(PigContext pc) {
+        String path = pc == null ? null
+                : pc.getProperties().getProperty(PigConfiguration.PIG_SUBPLAN_CACHE_DIR);
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        try {
+            return new SubPlanCache(pc.getProperties());
+        } catch (IOException e) {
+            LOG.warn("Unable to access the sub-plan cache " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the sub-plans of an optimized plan whose result is cached
+     * with a load of the result, and stores the others into the cache.
+     */
+    public void rewrite(LogicalPlan plan) throws FrontendException {
+        Describer describer = new Describer(plan);
+        describer.visit();
+        Map<Operator, Boolean> cacheable = new HashMap<Operator, Boolean>();
+        // operators before their successors
+        Set<Operator> ordered = new LinkedHashSet<Operator>();
+        for (Operator sink : plan.getSinks()) {
+            order(plan, sink, ordered);
+        }
+        List<Operator> candidates = new ArrayList<Operator>();
+        for (Operator op : ordered) {
+            if (isCacheable(plan, op, describer, cacheable) && isCandidate(plan, op)) {
+                candidates.add(op);
+            }
+        }
+
+        Set<Operator> covered = new HashSet<Operator>();
+        boolean stored = false;
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            LogicalRelationalOperator op = (LogicalRelationalOperator) candidates.get(i);
+            if (covered.contains(op)) {
+                continue;
+            }
+            String digest;
+            try {
+                digest = getDigest(plan, op, describer);
+                if (digest == null) {
+                    continue;
+                }
+                addAncestors(plan, op, covered);
+                Path data = new Path(dir, digest);
+                Properties entry = readEntry(digest);
+                if (entry != null && System.currentTimeMillis()
+                        - Long.parseLong(entry.getProperty(CREATED)) <= ttl && fs.exists(data)) {
+                    LOG.info("Loading the result of " + op.getAlias()
+                            + " from the sub-plan cache " + data);
+                    replaceWithLoad(plan, op, data, digest);
+                } else {
+                    // moved in place of the result of earlier runs on commit
+                    Path result = new Path(dir, digest + "_" + UUID.randomUUID());
+                    addStore(plan, op, result, digest);
+                    stored = true;
+                }
+            } catch (IOException e) {
+                LOG.warn("Unable to use the sub-plan cache for " + op.getAlias(), e);
+            }
+        }
+        if (stored) {
+            new ImplicitSplitInsertVisitor(plan).visit();
+        }
+    }
+
+    /**
+     * Adds the results the plan stored to the cache, evicts the results that
+     * expired or exceed the size of the cache and reports the results the
+     * plan loaded from the cache in the statistics of the run.
+     */
+    public void commit(LogicalPlan plan, PigStats stats) throws IOException {
+        Map<String, OutputStats> outputs = new HashMap<String, OutputStats>();
+        for (OutputStats output : stats.getOutputStats()) {
+            outputs.put(output.getLocation(), output);
+        }
+        long now = System.currentTimeMillis();
+        int hits = 0;
+        long records = 0;
+        long bytes = 0;
+        int stores = 0;
+        for (Operator op : plan.getSinks()) {
+            if (op instanceof LOStore && op.getAnnotation(CACHE_STORE) != null) {
+                String location = ((LOStore) op).getFileSpec().getFileName();
+                OutputStats output = outputs.get(location);
+                Path result = new Path(location);
+                if (output == null || !output.isSuccessful()) {
+                    fs.delete(result, true);
+                    continue;
+                }
+                String digest = (String) op.getAnnotation(CACHE_STORE);
+                Path data = new Path(dir, digest);
+                // the result of an earlier run, which expired or is incomplete
+                fs.delete(data, true);
+                if (!fs.rename(result, data)) {
+                    LOG.warn("Unable to move " + result + " to " + data);
+                    continue;
+                }
+                Properties entry = new Properties();
+                entry.setProperty(CREATED, String.valueOf(now));
+                entry.setProperty(USED, String.valueOf(now));
+                entry.setProperty(RECORDS, String.valueOf(output.getNumberRecords()));
+                entry.setProperty(BYTES, String.valueOf(fs.getContentSummary(data).getLength()));
+                writeEntry(digest, entry);
+                stores++;
+            }
+        }
+        for (Operator op : plan.getSources()) {
+            String digest = (String) op.getAnnotation(CACHE_LOAD);
+            Properties entry = digest == null ? null : readEntry(digest);
+            if (entry != null) {
+                hits++;
+                records += Long.parseLong(entry.getProperty(RECORDS));
+                bytes += Long.parseLong(entry.getProperty(BYTES));
+                entry.setProperty(USED, String.valueOf(now));
+                writeEntry(digest, entry);
+            }
+        }
+        stats.setSubPlanCacheStats(hits, records, bytes);
+        if (hits > 0 || stores > 0) {
+            LOG.info("Loaded " + hits + " result(s) of " + records + " records (" + bytes
+                    + " bytes) from the sub-plan cache and stored " + stores + " result(s)");
+        }
+        evict(now);
+    }
+
+    private void evict(long now) throws IOException {
+        FileStatus[] files = fs.listStatus(dir);
+        if (files == null) {
+            return;
+        }
+        final Map<String, Properties> entries = new HashMap<String, Properties>();
+        List<String> digests = new ArrayList<String>();
+        for (FileStatus file : files) {
+            String name = file.getPath().getName();
+            if (name.endsWith(ENTRY)) {
+                String digest = name.substring(0, name.length() - ENTRY.length());
+                Properties entry = readEntry(digest);
+                if (entry == null) {
+                    continue;
+                }
+                if (now - Long.parseLong(entry.getProperty(CREATED)) > ttl) {
+                    remove(digest);
+                } else {
+                    entries.put(digest, entry);
+                    digests.add(digest);
+                }
+            } else if (!fs.exists(new Path(dir, name + ENTRY))
+                    && now - file.getModificationTime() > ttl) {
+                // result of a run that failed
+                fs.delete(file.getPath(), true);
+            }
+        }
+        long total = 0;
+        for (Properties entry : entries.values()) {
+            total += Long.parseLong(entry.getProperty(BYTES));
+        }
+        Collections.sort(digests, new Comparator<String>() {
+            @Override
+            public int compare(String d1, String d2) {
+                Long used1 = Long.valueOf(entries.get(d1).getProperty(USED));
+                Long used2 = Long.valueOf(entries.get(d2).getProperty(USED));
+                return used1.compareTo(used2);
+            }
+        });
+        for (int i = 0; i < digests.size() && total > maxBytes; i++) {
+            total -= Long.parseLong(entries.get(digests.get(i)).getProperty(BYTES));
+            remove(digests.get(i));
+        }
+    }
+
+    private void remove(String digest) throws IOException {
+        LOG.info("Removing " + digest + " from the sub-plan cache " + dir);
+        fs.delete(new Path(dir, digest + ENTRY), false);
+        fs.delete(new Path(dir, digest), true);
+    }
+
+    private Properties readEntry(String digest) throws IOException {
+        Path path = new Path(dir, digest + ENTRY);
+        if (!fs.exists(path)) {
+            return null;
+        }
+        Properties entry = new Properties();
+        InputStream in = fs.open(path);
+        try {
+            entry.load(in);
+        } finally {
+            in.close();
+        }
+        return entry;
+    }
+
+    private void writeEntry(String digest, Properties entry) throws IOException {
+        OutputStream out = fs.create(new Path(dir, digest + ENTRY), true);
+        try {
+            entry.store(out, "Pig sub-plan cache entry");
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void order(LogicalPlan plan, Operator op, Set<Operator> ordered) {
+        if (ordered.contains(op)) {
+            return;
+        }
+        List<Operator> preds = plan.getPredecessors(op);
+        if (preds != null) {
+            for (Operator pred : preds) {
+                order(plan, pred, ordered);
+            }
+        }
+        ordered.add(op);
+    }
+
+    private static void addAncestors(LogicalPlan plan, Operator op, Set<Operator> ancestors) {
+        if (ancestors.add(op) && plan.getPredecessors(op) != null) {
+            for (Operator pred : plan.getPredecessors(op)) {
+                addAncestors(plan, pred, ancestors);
+            }
+        }
+    }
+
+    /**
+     * Collects what the plan printer leaves out of the operators of a plan:
+     * their parameters and the constants, functions, casts and keys of their
+     * expressions. The nested operators of a foreach are described with it.
+     */
+    private static class Describer extends AllExpressionVisitor {
+
+        private final Map<Operator, StringBuilder> details = new HashMap<Operator, StringBuilder>();
+        private final Set<Operator> nondeterministic = new HashSet<Operator>();
+        private LOForEach foreach;
+
+        Describer(LogicalPlan plan) throws FrontendException {
+            super(plan, new DependencyOrderWalker(plan));
+        }
+
+        /**
+         * @return whether an expression of the operator calls a
+         *         nondeterministic UDF
+         */
+        boolean isNondeterministic(Operator op) {
+            return nondeterministic.contains(op);
+        }
+
+        String getDetails(Operator op) {
+            StringBuilder sb = details.get(op);
+            return sb == null ? "" : sb.toString();
+        }
+
+        private StringBuilder append(Operator op) {
+            Operator owner = foreach != null ? foreach : op;
+            StringBuilder sb = details.get(owner);
+            if (sb == null) {
+                sb = new StringBuilder();
+                details.put(owner, sb);
+            }
+            return sb;
+        }
+
+        @Override
+        public void visit(LOForEach foreach) throws FrontendException {
+            this.foreach = foreach;
+            super.visit(foreach);
+            this.foreach = null;
+        }
+
+        @Override
+        public void visit(LOJoin join) throws FrontendException {
+            append(join).append(Arrays.toString(join.getInnerFlags()))
+                    .append(join.getCustomPartitioner()).append('\n');
+            super.visit(join);
+        }
+
+        @Override
+        public void visit(LOCogroup cogroup) throws FrontendException {
+            append(cogroup).append(cogroup.getGroupType()).append(Arrays.toString(cogroup.getInner()))
+                    .append(cogroup.getCustomPartitioner()).append('\n');
+            super.visit(cogroup);
+        }
+
+        @Override
+        public void visit(LOSort sort) throws FrontendException {
+            append(sort).append(sort.getAscendingCols()).append(sort.getUserFunc())
+                    .append(sort.getLimit()).append('\n');
+            super.visit(sort);
+        }
+
+        @Override
+        public void visit(LOLimit limit) throws FrontendException {
+            append(limit).append(limit.getLimit()).append('\n');
+            super.visit(limit);
+        }
+
+        @Override
+        public void visit(LORank rank) throws FrontendException {
+            append(rank).append(rank.isDenseRank()).append(rank.isRowNumber()).append('\n');
+            super.visit(rank);
+        }
+
+        @Override
+        public void visit(LOUnion union) throws FrontendException {
+            append(union).append(union.isOnSchema()).append('\n');
+        }
+
+        @Override
+        public void visit(LOCross cross) throws FrontendException {
+            append(cross).append(cross.isNested()).append(cross.getCustomPartitioner())
+                    .append('\n');
+        }
+
+        @Override
+        public void visit(LODistinct distinct) throws FrontendException {
+            append(distinct).append(distinct.getCustomPartitioner()).append('\n');
+        }
+
+        @Override
+        protected LogicalExpressionVisitor getVisitor(LogicalExpressionPlan expr)
+                throws FrontendException {
+            return new LogicalExpressionVisitor(expr, new DepthFirstWalker(expr)) {
+                @Override
+                public void visit(ConstantExpression op) throws FrontendException {
+                    append(currentOp).append(op.getValue()).append('\n');
+                }
+
+                @Override
+                public void visit(CastExpression op) throws FrontendException {
+                    append(currentOp).append(op.getFuncSpec()).append('\n');
+                }
+
+                @Override
+                public void visit(MapLookupExpression op) throws FrontendException {
+                    append(currentOp).append(op.getLookupKey()).append('\n');
+                }
+
+                @Override
+                public void visit(DereferenceExpression op) throws FrontendException {
+                    append(currentOp).append(op.getBagColumns()).append('\n');
+                }
+
+                @Override
+                public void visit(UserFuncExpression op) throws FrontendException {
+                    append(currentOp).append(op.getFuncSpec()).append('\n');
+                    if (!op.isDeterministic()) {
+                        nondeterministic.add(foreach != null ? foreach : currentOp);
+                    }
+                }
+            };
+        }
+    }
+
+    private static boolean isCacheable(LogicalPlan plan, Operator op, Describer describer,
+            Map<Operator, Boolean> cacheable) {
+        Boolean result = cacheable.get(op);
+        if (result != null) {
+            return result;
+        }
+        result = !(op instanceof LOStore || op instanceof LOStream || op instanceof LONative)
+                && !describer.isNondeterministic(op)
+                && plan.getSoftLinkPredecessors(op) == null
+                && plan.getSoftLinkSuccessors(op) == null;
+        List<Operator> preds = plan.getPredecessors(op);
+        if (op instanceof LOLoad) {
+            result = result && preds == null && !((LOLoad) op).isTmpLoad();
+        } else if (preds != null) {
+            for (Operator pred : preds) {
+                result = result && isCacheable(plan, pred, describer, cacheable);
+            }
+        }
+        cacheable.put(op, result);
+        return result;
+    }
+
+    private static boolean isCandidate(LogicalPlan plan, Operator op) {
+        if (op instanceof LOForEach) {
+            List<Operator> preds = plan.getPredecessors(op);
+            return preds.size() == 1 && preds.get(0) instanceof LOCogroup;
+        }
+        return op instanceof LOJoin || op instanceof LOCross || op instanceof LODistinct;
+    }
+
+    /**
+     * @return the digest of the plan computing the output of the operator and
+     *         of the files it reads, or null if the files can not be listed
+     */
+    private String getDigest(LogicalPlan plan, Operator op, Describer describer)
+            throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos, false, "UTF-8");
+        new LogicalPlanPrinter(new SubPlan(plan, op), ps).visit();
+        ps.flush();
+        // aliases and uids change from script to script
+        StringBuilder sb = new StringBuilder(baos.toString("UTF-8")
+                .replaceAll("[^\\s|]+: \\(Name: ", "(Name: ")
+                .replaceAll("#-?[0-9]+", "")
+                .replaceAll("Uid: -?[0-9]+", "")
+                .replaceAll("Uids=\\[[-0-9, ]*\\]", "Uids"));
+
+        Set<Operator> ancestors = new LinkedHashSet<Operator>();
+        addAncestors(plan, op, ancestors);
+        for (Operator ancestor : ancestors) {
+            sb.append(describer.getDetails(ancestor));
+            if (ancestor instanceof LOLoad) {
+                String files = describeFiles((LOLoad) ancestor);
+                if (files == null) {
+                    return null;
+                }
+                sb.append(files);
+            }
+        }
+        return DigestUtils.shaHex(sb.toString());
+    }
+
+    private String describeFiles(LOLoad load) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append(load.getFileSpec()).append('\n');
+        sb.append(load.getPartitionFilter()).append('\n');
+        sb.append(load.getPushdownPredicate()).append('\n');
+        TreeMap<String, FileStatus> files = new TreeMap<String, FileStatus>();
+        for (String location : LoadFunc.getPathStrings(load.getFileSpec().getFileName())) {
+            Path path = new Path(location);
+            FileSystem pathFs;
+            FileStatus[] matches;
+            try {
+                pathFs = path.getFileSystem(conf);
+                matches = pathFs.globStatus(path);
+            } catch (IOException e) {
+                // not a file
+                return null;
+            }
+            if (matches == null || matches.length == 0) {
+                return null;
+            }
+            for (FileStatus match : matches) {
+                if (match.isDirectory()) {
+                    RemoteIterator<LocatedFileStatus> it = pathFs.listFiles(match.getPath(), true);
+                    while (it.hasNext()) {
+                        FileStatus file = it.next();
+                        files.put(file.getPath().toString(), file);
+                    }
+                } else {
+                    files.put(match.getPath().toString(), match);
+                }
+            }
+        }
+        for (FileStatus file : files.values()) {
+            sb.append(file.getPath()).append(' ').append(file.getLen()).append(' ')
+                    .append(file.getModificationTime()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private void replaceWithLoad(LogicalPlan plan, LogicalRelationalOperator op, Path data,
+            String digest) throws FrontendException {
+        FuncSpec funcSpec = new FuncSpec(InterStorage.class.getName());
+        LOLoad load = new LOLoad(new FileSpec(data.toString(), funcSpec),
+                op.getSchema().deepCopy(), plan, conf, new InterStorage(),
+                "SubPlanCache_" + digest);
+        load.setAlias(op.getAlias());
+        load.setTmpLoad(false);
+        load.annotate(CACHE_LOAD, digest);
+
+        List<Operator> preds = new ArrayList<Operator>(plan.getPredecessors(op));
+        for (Operator pred : preds) {
+            plan.disconnect(pred, op);
+        }
+        plan.replace(op, load);
+        for (Operator pred : preds) {
+            removeUnused(plan, pred);
+        }
+    }
+
+    private static void removeUnused(LogicalPlan plan, Operator op) throws FrontendException {
+        if (plan.getSuccessors(op) != null || plan.getSoftLinkSuccessors(op) != null) {
+            return;
+        }
+        List<Operator> preds = plan.getPredecessors(op) == null ? new ArrayList<Operator>()
+                : new ArrayList<Operator>(plan.getPredecessors(op));
+        for (Operator pred : preds) {
+            plan.disconnect(pred, op);
+        }
+        plan.remove(op);
+        for (Operator pred : preds) {
+            removeUnused(plan, pred);
+        }
+    }
+
+    private void addStore(LogicalPlan plan, LogicalRelationalOperator op, Path result,
+            String digest) {
+        FuncSpec funcSpec = new FuncSpec(InterStorage.class.getName());
+        LOStore store = new LOStore(plan, new FileSpec(result.toString(), funcSpec),
+                new InterStorage(), "SubPlanCache_" + digest, false);
+        store.setAlias(op.getAlias());
+        store.annotate(CACHE_STORE, digest);
+        plan.add(store);
+        plan.connect(op, store);
+    }
+
+    /**
+     * View of the operators an operator depends on, printed from the operator
+     */
+    private static class SubPlan extends LogicalPlan {
+        private final LogicalPlan base;
+        private final Operator sink;
+
+        SubPlan(LogicalPlan base, Operator sink) {
+            this.base = base;
+            this.sink = sink;
+        }
+
+        @Override
+        public List<Operator> getSinks() {
+            return Collections.singletonList(sink);
+        }
+
+        @Override
+        public List<Operator> getPredecessors(Operator op) {
+            return base.getPredecessors(op);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.Expression;
 import org.apache.pig.LoadFunc;
 import org.apache.pig.LoadMetadata;
 import org.apache.pig.PigException;
@@ -52,6 +53,8 @@ public class LOLoad extends LogicalRelationalOperator {
     private final String signature;
     private long limit = -1;
     private boolean isTmpLoad;
+    private transient Expression partitionFilter;
+    private transient Expression pushdownPredicate;
 
     /**
      * used for pattern matching
@@ -305,4 +308,30 @@ public class LOLoad extends LogicalRelationalOperator {
         this.limit = limit;
     }
 
+    public List<Integer> getRequiredFields() {
+        return requiredFields;
+    }
+
+    /**
+     * @return the partition filter set on the loader by the optimizer, or null
+     */
+    public Expression getPartitionFilter() {
+        return partitionFilter;
+    }
+
+    public void setPartitionFilter(Expression partitionFilter) {
+        this.partitionFilter = partitionFilter;
+    }
+
+    /**
+     * @return the predicate pushed down to the loader by the optimizer, or null
+     */
+    public Expression getPushdownPredicate() {
+        return pushdownPredicate;
+    }
+
+    public void setPushdownPredicate(Expression pushdownPredicate) {
+        this.pushdownPredicate = pushdownPredicate;
+    }
+
 }
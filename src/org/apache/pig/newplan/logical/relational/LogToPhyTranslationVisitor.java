@@ -20,6 +20,8 @@ package org.apache.pig.newplan.logical.relational;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -30,7 +32,13 @@ import java.util.Random;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.Expression.OpType;
 import org.apache.pig.FuncSpec;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPredicatePushdown;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigException;
 import org.apache.pig.ResourceSchema;
 import org.apache.pig.StoreResources;
@@ -65,6 +73,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStream;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POUnion;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.Packager.PackageType;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.DynamicPartitionFilter;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.SchemaTupleClassGenerator.GenContext;
 import org.apache.pig.data.SchemaTupleFrontend;
@@ -1142,6 +1151,98 @@ public class LogToPhyTranslationVisitor extends LogicalRelationalNodesVisitor {
         return true;
     }
 
+    /**
+     * Dynamic partition pruning of a replicated join is possible when the
+     * key of the fragment is a single column of its loader that is only
+     * filtered and projected after the load, and that the loader can filter
+     * on. The keys are read from the first replicated input.
+     * @return the filter to prune the fragment with, or null
+     */
+    private DynamicPartitionFilter getDynamicPartitionFilter(LOJoin loj, List<Operator> inputs)
+            throws FrontendException {
+        if (pc == null || !Boolean.parseBoolean(pc.getProperties().getProperty(
+                PigConfiguration.PIG_DYNAMIC_PARTITION_PRUNING, "false"))) {
+            return null;
+        }
+        Collection<LogicalExpressionPlan> plans = loj.getJoinPlan(0);
+        if (plans.size() != 1 || loj.getJoinPlan(1).size() != 1) {
+            return null;
+        }
+        LogicalExpressionPlan keyPlan = plans.iterator().next();
+        if (keyPlan.size() != 1 || !(keyPlan.getSources().get(0) instanceof ProjectExpression)
+                || ((ProjectExpression) keyPlan.getSources().get(0)).isRangeOrStarProject()) {
+            return null;
+        }
+        long uid = ((ProjectExpression) keyPlan.getSources().get(0)).getFieldSchema().uid;
+
+        Operator op = inputs.get(0);
+        while (op instanceof LOFilter || op instanceof LOForEach) {
+            List<Operator> preds = loj.getPlan().getPredecessors(op);
+            if (preds == null || preds.size() != 1) {
+                return null;
+            }
+            op = preds.get(0);
+        }
+        if (!(op instanceof LOLoad)) {
+            return null;
+        }
+        LOLoad load = (LOLoad) op;
+        LogicalSchema schema = load.getSchema();
+        LogicalSchema determinedSchema = load.getDeterminedSchema();
+        if (schema == null || determinedSchema == null) {
+            return null;
+        }
+        int index = -1;
+        for (int i = 0; i < schema.size(); i++) {
+            if (schema.getField(i).uid == uid) {
+                index = i;
+            }
+        }
+        if (index == -1) {
+            return null;
+        }
+        if (load.getRequiredFields() != null) {
+            // the schema only has the fields left after column pruning
+            List<Integer> required = new ArrayList<Integer>(load.getRequiredFields());
+            Collections.sort(required);
+            index = required.get(index);
+        }
+        if (index >= determinedSchema.size()) {
+            return null;
+        }
+        String column = determinedSchema.getField(index).alias;
+        byte type = determinedSchema.getField(index).type;
+
+        LoadFunc loadFunc = load.getLoadFunc();
+        String location = load.getFileSpec().getFileName();
+        try {
+            if (loadFunc instanceof LoadMetadata) {
+                String[] partitionKeys = ((LoadMetadata) loadFunc).getPartitionKeys(location,
+                        new Job(load.getConfiguration()));
+                if (partitionKeys != null && Arrays.asList(partitionKeys).contains(column)) {
+                    return new DynamicPartitionFilter(load.getSignature(), column, type, true,
+                            false, load.getPartitionFilter(), 1);
+                }
+            }
+            if (loadFunc instanceof LoadPredicatePushdown) {
+                LoadPredicatePushdown pushdown = (LoadPredicatePushdown) loadFunc;
+                List<String> fields = pushdown.getPredicateFields(location,
+                        new Job(load.getConfiguration()));
+                List<OpType> opTypes = pushdown.getSupportedExpressionTypes();
+                boolean supportsIn = opTypes.contains(OpType.OP_IN);
+                if (fields != null && fields.contains(column) && (supportsIn
+                        || (opTypes.contains(OpType.OP_EQ) && opTypes.contains(OpType.OP_OR)))
+                        && (load.getPushdownPredicate() == null || opTypes.contains(OpType.OP_AND))) {
+                    return new DynamicPartitionFilter(load.getSignature(), column, type, false,
+                            supportsIn, load.getPushdownPredicate(), 1);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to look up the partition keys of " + location, e);
+        }
+        return null;
+    }
+
     @Override
     public void visit(LOJoin loj) throws FrontendException {
 
@@ -1311,6 +1412,9 @@ public class LogToPhyTranslationVisitor extends LogicalRelationalNodesVisitor {
                                         inputSchemas,
                                         keySchemas);
                 pfrj.addOriginalLocation(alias, location);
+                if (!isLeftOuter) {
+                    pfrj.setPartitionFilter(getDynamicPartitionFilter(loj, inputs));
+                }
             } catch (ExecException e1) {
                 int errCode = 2058;
                 String msg = "Unable to set index on newly create POLocalRearrange.";
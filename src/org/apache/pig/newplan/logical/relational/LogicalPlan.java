@@ -43,6 +43,7 @@ import org.apache.pig.newplan.logical.DotLOPrinter;
 import org.apache.pig.newplan.logical.optimizer.LogicalPlanOptimizer;
 import org.apache.pig.newplan.logical.optimizer.LogicalPlanPrinter;
 import org.apache.pig.newplan.logical.optimizer.SchemaResetter;
+import org.apache.pig.newplan.logical.optimizer.SubPlanCache;
 import org.apache.pig.newplan.logical.optimizer.UidResetter;
 import org.apache.pig.newplan.logical.visitor.CastLineageSetter;
 import org.apache.pig.newplan.logical.visitor.ColumnAliasConversionVisitor;
@@ -267,6 +268,7 @@ public class LogicalPlan extends BaseOperatorPlan {
             disabledOptimizerRules.add("ColumnMapKeyPrune");
             disabledOptimizerRules.add("AddForEach");
             disabledOptimizerRules.add("GroupByConstParallelSetter");
+            disabledOptimizerRules.add("CostBasedJoinSelector");
         }
 
         try {
@@ -279,5 +281,10 @@ public class LogicalPlan extends BaseOperatorPlan {
         LogicalPlanOptimizer optimizer = new LogicalPlanOptimizer(this, 100,
                 disabledOptimizerRules, pigContext);
         optimizer.optimize();
+
+        SubPlanCache cache = SubPlanCache.get(pigContext);
+        if (cache != null && !pigContext.inIllustrator && !pigContext.inExplain) {
+            cache.rewrite(this);
+        }
     }
 }
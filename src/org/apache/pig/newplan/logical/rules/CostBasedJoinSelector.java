@@ -0,0 +1,555 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.newplan.logical.rules;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.ResourceStatistics.ResourceFieldStatistics;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.util.MultiMap;
+import org.apache.pig.impl.util.Pair;
+import org.apache.pig.impl.util.UriUtil;
+import org.apache.pig.newplan.Operator;
+import org.apache.pig.newplan.OperatorPlan;
+import org.apache.pig.newplan.OperatorSubPlan;
+import org.apache.pig.newplan.logical.expression.CastExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
+import org.apache.pig.newplan.logical.expression.ProjectExpression;
+import org.apache.pig.newplan.logical.relational.LODistinct;
+import org.apache.pig.newplan.logical.relational.LOFilter;
+import org.apache.pig.newplan.logical.relational.LOForEach;
+import org.apache.pig.newplan.logical.relational.LOGenerate;
+import org.apache.pig.newplan.logical.relational.LOInnerLoad;
+import org.apache.pig.newplan.logical.relational.LOJoin;
+import org.apache.pig.newplan.logical.relational.LOLimit;
+import org.apache.pig.newplan.logical.relational.LOLoad;
+import org.apache.pig.newplan.logical.relational.LOSort;
+import org.apache.pig.newplan.logical.relational.LOSplit;
+import org.apache.pig.newplan.logical.relational.LOSplitOutput;
+import org.apache.pig.newplan.logical.relational.LogicalPlan;
+import org.apache.pig.newplan.logical.relational.LogicalRelationalOperator;
+import org.apache.pig.newplan.logical.relational.LogicalSchema;
+import org.apache.pig.newplan.optimizer.Rule;
+import org.apache.pig.newplan.optimizer.Transformer;
+import org.apache.pig.tools.pigstats.StatisticsCatalog;
+
+/**
+ * Rule: choose the strategy of a join that has no USING clause from the sizes
+ * of its inputs and the statistics of their loaders.
+ * <ul>
+ * <li>If all inputs but one fit in
+ * {@link PigConfiguration#PIG_JOIN_COST_BASED_REPLICATED_BYTES}, the join
+ * becomes a fragment-replicated join of the largest input.</li>
+ * <li>Else if the field statistics of a 2-way join key show a value in more
+ * than {@link PigConfiguration#PIG_JOIN_COST_BASED_SKEW_FRACTION} of the
+ * records, the join becomes a skewed join on that input.</li>
+ * <li>Else the largest input of the hash join is moved last, as the last
+ * input is streamed while the others are held in memory.</li>
+ * </ul>
+ * Input sizes are only known for inputs that are loaded and then filtered,
+ * projected, sorted, limited or split; they come from
+ * {@link LoadMetadata#getStatistics}, from the size of the input files or
+ * from the {@link StatisticsCatalog} for inputs that do not exist yet.
+ * When inputs are reordered a foreach is added after the join to restore the
+ * order of the columns. The choice is shown as an annotation of the join in
+ * explain.
+ */
+public class CostBasedJoinSelector extends Rule {
+
+    private static final Log log = LogFactory.getLog(CostBasedJoinSelector.class);
+
+    /**
+     * Annotation of the joins this rule chose a strategy for
+     */
+    public static final String JOIN_STRATEGY = "CostBasedJoinStrategy";
+
+    public static final long DEFAULT_REPLICATED_BYTES = 100 * 1024 * 1024;
+
+    public static final float DEFAULT_SKEW_FRACTION = 0.1f;
+
+    private PigContext pc;
+
+    public CostBasedJoinSelector(String name, PigContext pc) {
+        super(name, false);
+        this.pc = pc;
+    }
+
+    @Override
+    protected OperatorPlan buildPattern() {
+        LogicalPlan plan = new LogicalPlan();
+        LogicalRelationalOperator join = new LOJoin(plan);
+        plan.add(join);
+        return plan;
+    }
+
+    @Override
+    public Transformer getNewTransformer() {
+        return new CostBasedJoinTransformer();
+    }
+
+    public class CostBasedJoinTransformer extends Transformer {
+
+        private boolean reordered;
+
+        @Override
+        public boolean check(OperatorPlan matched) throws FrontendException {
+            LOJoin join = (LOJoin) matched.getSources().get(0);
+            // only joins the script did not pick a strategy for, and each once
+            return join.getJoinType() == LOJoin.JOINTYPE.HASH
+                    && !join.isPinnedOption(LOJoin.OPTION_JOIN)
+                    && join.getCustomPartitioner() == null
+                    && pc != null
+                    && Boolean.parseBoolean(pc.getProperties().getProperty(
+                            PigConfiguration.PIG_JOIN_COST_BASED, "false"));
+        }
+
+        @Override
+        public void transform(OperatorPlan matched) throws FrontendException {
+            LOJoin join = (LOJoin) matched.getSources().get(0);
+            join.pinOption(LOJoin.OPTION_JOIN);
+            reordered = false;
+
+            List<Operator> inputs = new ArrayList<Operator>(currentPlan.getPredecessors(join));
+            int n = inputs.size();
+            boolean[] inner = join.getInnerFlags();
+            Properties props = pc.getProperties();
+            long budget = Math.min(
+                    Long.parseLong(props.getProperty(PigConfiguration.PIG_JOIN_COST_BASED_REPLICATED_BYTES,
+                            String.valueOf(DEFAULT_REPLICATED_BYTES))),
+                    Long.parseLong(props.getProperty(PigConfiguration.PIG_JOIN_REPLICATED_MAX_BYTES,
+                            "1000000000")));
+            float skewFraction = Float.parseFloat(props.getProperty(
+                    PigConfiguration.PIG_JOIN_COST_BASED_SKEW_FRACTION, String.valueOf(DEFAULT_SKEW_FRACTION)));
+
+            long[] sizes = new long[n];
+            int unknown = 0;
+            int largest = -1;
+            long replicated = 0;
+            for (int i = 0; i < n; i++) {
+                sizes[i] = getInputSize(inputs.get(i));
+                if (sizes[i] < 0) {
+                    unknown++;
+                    largest = i;
+                } else {
+                    replicated += sizes[i];
+                    if (unknown == 0 && (largest < 0 || sizes[i] > sizes[largest])) {
+                        largest = i;
+                    }
+                }
+            }
+
+            // replicate everything but the largest or the only unknown input
+            if (unknown <= 1) {
+                if (unknown == 0) {
+                    replicated -= sizes[largest];
+                }
+                int[] order = moveTo(n, largest, 0);
+                if (replicated <= budget && canReplicate(inputs, inner, order)
+                        && reorder(join, inputs, order)) {
+                    choose(join, LOJoin.JOINTYPE.REPLICATED, "inputs other than "
+                            + alias(inputs.get(largest)) + " have " + replicated + " bytes");
+                    return;
+                }
+            }
+
+            if (n == 2) {
+                for (int i = 0; i < n; i++) {
+                    float freq = getHottestKeyFrequency(join, i, inputs.get(i));
+                    // the first input is the one that is sampled for skew
+                    if (freq > skewFraction && canSkew(inputs, inner)
+                            && reorder(join, inputs, moveTo(n, i, 0))) {
+                        choose(join, LOJoin.JOINTYPE.SKEWED, "a key of "
+                                + alias(inputs.get(i)) + " is in " + freq + " of its records");
+                        return;
+                    }
+                }
+            }
+
+            // the last input of a hash join is streamed
+            if (unknown == 0 && largest != n - 1 && sizes[largest] > sizes[n - 1]
+                    && reorder(join, inputs, moveTo(n, largest, n - 1))) {
+                choose(join, LOJoin.JOINTYPE.HASH, alias(inputs.get(largest))
+                        + " is the largest input with " + sizes[largest] + " bytes");
+            }
+        }
+
+        @Override
+        public OperatorPlan reportChanges() {
+            // reordering changes the schemas of the join and the new foreach
+            return reordered ? currentPlan : new OperatorSubPlan(currentPlan);
+        }
+
+        private void choose(LOJoin join, LOJoin.JOINTYPE type, String reason) {
+            join.setJoinType(type);
+            join.annotate(JOIN_STRATEGY, type + " (" + reason + ")");
+            log.info("Using " + type + " join for " + join.getAlias() + ", " + reason);
+        }
+
+        private boolean canReplicate(List<Operator> inputs, boolean[] inner, int[] order)
+                throws FrontendException {
+            // the fragment input must be inner, and only 2-way left outer joins are supported
+            if (!inner[order[0]]) {
+                return false;
+            }
+            for (int i = 1; i < order.length; i++) {
+                if (!inner[order[i]] && (order.length > 2
+                        || ((LogicalRelationalOperator) inputs.get(order[i])).getSchema() == null)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean canSkew(List<Operator> inputs, boolean[] inner) throws FrontendException {
+            for (int i = 0; i < inputs.size(); i++) {
+                if (!inner[i] && ((LogicalRelationalOperator) inputs.get(i)).getSchema() == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Changes the order of the join inputs, and adds a foreach after the join
+         * to keep the columns in the original order.
+         * @param order index of the input to move to each position
+         * @return false if the inputs can not be reordered
+         */
+        private boolean reorder(LOJoin join, List<Operator> inputs, int[] order) throws FrontendException {
+            int n = order.length;
+            boolean identity = true;
+            for (int i = 0; i < n; i++) {
+                identity &= order[i] == i;
+            }
+            if (identity) {
+                return true;
+            }
+            // the columns can only be restored if all schemas are known
+            if (new HashSet<Operator>(inputs).size() != n || join.getSchema() == null) {
+                return false;
+            }
+            int[] offsets = new int[n];
+            for (int i = 1; i < n; i++) {
+                offsets[i] = offsets[i - 1]
+                        + ((LogicalRelationalOperator) inputs.get(i - 1)).getSchema().size();
+            }
+            int[] newOffsets = new int[n];
+            for (int i = 1; i < n; i++) {
+                newOffsets[i] = newOffsets[i - 1]
+                        + ((LogicalRelationalOperator) inputs.get(order[i - 1])).getSchema().size();
+            }
+            int[] newPosition = new int[n];
+            for (int i = 0; i < n; i++) {
+                newPosition[order[i]] = i;
+            }
+            int numColumns = join.getSchema().size();
+            int[] columns = new int[numColumns];
+            for (int i = 0; i < n; i++) {
+                int size = ((LogicalRelationalOperator) inputs.get(i)).getSchema().size();
+                for (int c = 0; c < size; c++) {
+                    columns[offsets[i] + c] = newOffsets[newPosition[i]] + c;
+                }
+            }
+
+            List<Operator> oldInputs = new ArrayList<Operator>(inputs);
+            int[] fromPositions = new int[n];
+            for (int i = 0; i < n; i++) {
+                fromPositions[i] = currentPlan.disconnect(oldInputs.get(i), join).first;
+            }
+            for (int i = 0; i < n; i++) {
+                currentPlan.connect(oldInputs.get(order[i]), fromPositions[order[i]], join, i);
+            }
+            MultiMap<Integer, LogicalExpressionPlan> joinPlans = join.getExpressionPlans();
+            MultiMap<Integer, LogicalExpressionPlan> newPlans = new MultiMap<Integer, LogicalExpressionPlan>();
+            boolean[] inner = join.getInnerFlags();
+            boolean[] newInner = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                for (LogicalExpressionPlan plan : joinPlans.get(order[i])) {
+                    for (Iterator<Operator> it = plan.getOperators(); it.hasNext();) {
+                        Operator op = it.next();
+                        if (op instanceof ProjectExpression) {
+                            ((ProjectExpression) op).setInputNum(i);
+                        }
+                    }
+                    newPlans.put(i, plan);
+                }
+                newInner[i] = inner[order[i]];
+            }
+            join.setJoinPlans(newPlans);
+            join.setInnerFlags(newInner);
+            join.resetSchema();
+            addForEachAfter(join, columns);
+            reordered = true;
+            return true;
+        }
+
+        private void addForEachAfter(LOJoin join, int[] columns) throws FrontendException {
+            LogicalPlan plan = (LogicalPlan) currentPlan;
+            LOForEach foreach = new LOForEach(plan);
+            plan.add(foreach);
+            List<Operator> next = plan.getSuccessors(join);
+            if (next != null) {
+                next = new ArrayList<Operator>(next);
+                for (int i = 0; i < next.size(); i++) {
+                    Pair<Integer, Integer> pos = plan.disconnect(join, next.get(i));
+                    plan.connect(foreach, i, next.get(i), pos.second);
+                }
+            }
+            plan.connect(join, foreach);
+            foreach.setAlias(join.getAlias());
+
+            LogicalPlan innerPlan = new LogicalPlan();
+            foreach.setInnerPlan(innerPlan);
+            List<LogicalExpressionPlan> exps = new ArrayList<LogicalExpressionPlan>();
+            LOGenerate gen = new LOGenerate(innerPlan, exps, new boolean[columns.length]);
+            innerPlan.add(gen);
+            for (int i = 0; i < columns.length; i++) {
+                LOInnerLoad innerLoad = new LOInnerLoad(innerPlan, foreach, columns[i]);
+                innerPlan.add(innerLoad);
+                innerPlan.connect(innerLoad, gen);
+
+                LogicalExpressionPlan exp = new LogicalExpressionPlan();
+                ProjectExpression prj = new ProjectExpression(exp, i, -1, gen);
+                exp.add(prj);
+                exps.add(exp);
+            }
+        }
+    }
+
+    // Order of the inputs after moving one of them to the given position
+    private static int[] moveTo(int n, int input, int position) {
+        int[] order = new int[n];
+        for (int i = 0, j = 0; i < n; i++) {
+            if (i == position) {
+                order[i] = input;
+            } else {
+                if (j == input) {
+                    j++;
+                }
+                order[i] = j++;
+            }
+        }
+        return order;
+    }
+
+    private static String alias(Operator op) {
+        return ((LogicalRelationalOperator) op).getAlias();
+    }
+
+    // Operators whose output is no larger than their input
+    private static boolean isSizeBounded(Operator op) {
+        if (op instanceof LOForEach) {
+            return !hasFlatten((LOForEach) op);
+        }
+        return op instanceof LOFilter || op instanceof LOLimit || op instanceof LODistinct
+                || op instanceof LOSort || op instanceof LOSplit || op instanceof LOSplitOutput;
+    }
+
+    private static boolean hasFlatten(LOForEach foreach) {
+        List<Operator> sinks = foreach.getInnerPlan().getSinks();
+        for (boolean flatten : ((LOGenerate) sinks.get(0)).getFlattenFlags()) {
+            if (flatten) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private LOLoad findLoad(Operator op) {
+        while (!(op instanceof LOLoad)) {
+            List<Operator> preds = currentPlan.getPredecessors(op);
+            if (!isSizeBounded(op) || preds == null || preds.size() != 1) {
+                return null;
+            }
+            op = preds.get(0);
+        }
+        return (LOLoad) op;
+    }
+
+    /**
+     * Estimates the size of a join input from the statistics of its loader or
+     * the size of its files.
+     * @return size in bytes, or -1 if unknown
+     */
+    private long getInputSize(Operator input) throws FrontendException {
+        LOLoad load = findLoad(input);
+        if (load == null) {
+            return -1;
+        }
+        ResourceStatistics stats = getStatistics(load);
+        if (stats != null) {
+            if (stats.getSizeInBytes() != null) {
+                return stats.getSizeInBytes();
+            }
+            if (stats.getNumRecords() != null && stats.getAvgRecordSize() != null) {
+                return stats.getNumRecords() * stats.getAvgRecordSize();
+            }
+        }
+        Configuration conf = ConfigurationUtil.toConfiguration(pc.getProperties());
+        StatisticsCatalog catalog = StatisticsCatalog.get(pc.getProperties());
+        long size = 0;
+        try {
+            for (String location : LoadFunc.getPathStrings(load.getFileSpec().getFileName())) {
+                FileStatus[] status = null;
+                FileSystem fs = null;
+                if (UriUtil.isHDFSFileOrLocalOrS3N(location, conf)) {
+                    Path path = new Path(location);
+                    fs = path.getFileSystem(conf);
+                    status = fs.globStatus(path);
+                }
+                // the input may be written by an earlier job of the script,
+                // or be of a run of the script that was recorded
+                if (status == null || status.length == 0) {
+                    long recorded = catalog == null ? -1 : catalog.getBytes(location);
+                    if (recorded < 0) {
+                        return -1;
+                    }
+                    size += recorded;
+                    continue;
+                }
+                for (FileStatus s : status) {
+                    size += MapRedUtil.getPathLength(fs, s);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Couldn't get the size of " + load.getFileSpec().getFileName(), e);
+            return -1;
+        }
+        return size;
+    }
+
+    private ResourceStatistics getStatistics(LOLoad load) throws FrontendException {
+        LoadFunc loadFunc = load.getLoadFunc();
+        if (!(loadFunc instanceof LoadMetadata)) {
+            return null;
+        }
+        try {
+            return ((LoadMetadata) loadFunc).getStatistics(load.getFileSpec().getFileName(),
+                    new Job(load.getConfiguration()));
+        } catch (Exception e) {
+            log.warn("Couldn't get statistics from LoadFunc: " + loadFunc, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return frequency of the most common value of the join key of an input
+     *         according to the loader, or 0 if unknown
+     */
+    private float getHottestKeyFrequency(LOJoin join, int index, Operator input) throws FrontendException {
+        Collection<LogicalExpressionPlan> plans = join.getJoinPlan(index);
+        LogicalSchema schema = ((LogicalRelationalOperator) input).getSchema();
+        if (plans.size() != 1 || schema == null) {
+            return 0;
+        }
+        LogicalExpressionPlan plan = plans.iterator().next();
+        if (plan.size() != 1 || !(plan.getSources().get(0) instanceof ProjectExpression)) {
+            return 0;
+        }
+        ProjectExpression key = (ProjectExpression) plan.getSources().get(0);
+        if (key.isProjectStar() || key.isRangeProject() || key.getColNum() < 0
+                || key.getColNum() >= schema.size()) {
+            return 0;
+        }
+        Pair<LOLoad, Integer> column = findLoadColumn(input, schema.getField(key.getColNum()).uid);
+        if (column == null) {
+            return 0;
+        }
+        ResourceStatistics stats = getStatistics(column.first);
+        int col = column.second;
+        if (stats == null || stats.getFields() == null || col >= stats.getFields().length) {
+            return 0;
+        }
+        ResourceFieldStatistics field = stats.getFields()[col];
+        if (field == null || field.getMostCommonValuesFreq() == null) {
+            return 0;
+        }
+        float hottest = 0;
+        for (float freq : field.getMostCommonValuesFreq()) {
+            hottest = Math.max(hottest, freq);
+        }
+        return hottest;
+    }
+
+    /**
+     * Follows a field back to the column of the load it comes from.
+     * @return the load and the column, or null if the field is computed
+     */
+    private Pair<LOLoad, Integer> findLoadColumn(Operator op, long uid) throws FrontendException {
+        while (!(op instanceof LOLoad)) {
+            List<Operator> preds = currentPlan.getPredecessors(op);
+            if (!isSizeBounded(op) || preds == null || preds.size() != 1) {
+                return null;
+            }
+            Operator pred = preds.get(0);
+            if (op instanceof LOForEach) {
+                LOForEach foreach = (LOForEach) op;
+                int i = foreach.getSchema() == null ? -1 : foreach.getSchema().findField(uid);
+                if (i < 0) {
+                    return null;
+                }
+                LOGenerate gen = (LOGenerate) foreach.getInnerPlan().getSinks().get(0);
+                LogicalExpressionPlan exp = gen.getOutputPlans().get(i);
+                LogicalExpression root = (LogicalExpression) exp.getSources().get(0);
+                // casts are added after loads that declare a schema
+                if (root instanceof CastExpression) {
+                    root = ((CastExpression) root).getExpression();
+                }
+                if (!(root instanceof ProjectExpression)
+                        || !(((ProjectExpression) root).findReferent() instanceof LOInnerLoad)) {
+                    return null;
+                }
+                LOInnerLoad innerLoad = (LOInnerLoad) ((ProjectExpression) root).findReferent();
+                LogicalSchema predSchema = ((LogicalRelationalOperator) pred).getSchema();
+                if (innerLoad.getColNum() < 0 || predSchema == null
+                        || innerLoad.getColNum() >= predSchema.size()) {
+                    return null;
+                }
+                uid = predSchema.getField(innerLoad.getColNum()).uid;
+            }
+            op = pred;
+        }
+        LogicalSchema schema = ((LOLoad) op).getSchema();
+        int col = schema == null ? -1 : schema.findField(uid);
+        if (col < 0) {
+            return null;
+        }
+        return new Pair<LOLoad, Integer>((LOLoad) op, col);
+    }
+}
@@ -165,6 +165,7 @@ public class PartitionFilterOptimizer extends Rule {
                 try {
                     LOG.info("Setting partition filter [" + partitionFilter + "] on loader " + loadMetadata);
                     loadMetadata.setPartitionFilter(partitionFilter);
+                    loLoad.setPartitionFilter(partitionFilter);
                     planChanged = true;
                 } catch (IOException e) {
                     throw new FrontendException( e );
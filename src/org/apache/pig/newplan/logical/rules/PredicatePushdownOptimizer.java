@@ -155,6 +155,7 @@ public class PredicatePushdownOptimizer extends Rule {
                 try {
                     LOG.info("Setting predicate pushdown filter [" + pushDownPredicate + "] on loader " + loadPredPushdown);
                     loadPredPushdown.setPushdownPredicate(pushDownPredicate);
+                    loLoad.setPushdownPredicate(pushDownPredicate);
                 } catch (IOException e) {
                     throw new FrontendException( e );
                 }
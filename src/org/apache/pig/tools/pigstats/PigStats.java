@@ -72,6 +72,10 @@ public abstract class PigStats {
     protected Throwable errorThrowable = null;
     protected int returnCode = ReturnCode.UNKNOWN;
 
+    protected int subPlanCacheHits = 0;
+    protected long subPlanCacheRecords = 0;
+    protected long subPlanCacheBytes = 0;
+
     public static PigStats get() {
         return tps.get();
     }
@@ -262,6 +266,35 @@ public abstract class PigStats {
         return ret;
     }
 
+    /**
+     * Returns the number of results of this script that were loaded from the
+     * sub-plan cache instead of being computed.
+     */
+    public int getSubPlanCacheHits() {
+        return subPlanCacheHits;
+    }
+
+    /**
+     * Returns the total number of records of the results loaded from the
+     * sub-plan cache.
+     */
+    public long getSubPlanCacheRecords() {
+        return subPlanCacheRecords;
+    }
+
+    /**
+     * Returns the total bytes of the results loaded from the sub-plan cache.
+     */
+    public long getSubPlanCacheBytes() {
+        return subPlanCacheBytes;
+    }
+
+    public void setSubPlanCacheStats(int hits, long records, long bytes) {
+        this.subPlanCacheHits = hits;
+        this.subPlanCacheRecords = records;
+        this.subPlanCacheBytes = bytes;
+    }
+
     public String getHadoopVersion() {
         return ScriptState.get().getHadoopVersion();
     }
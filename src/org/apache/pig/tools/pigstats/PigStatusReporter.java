@@ -31,7 +31,14 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
 
     private static PigStatusReporter reporter = null;
 
-    private TaskContext<?> context = null;
+    // Last context set, for threads that were not started by a task, such as
+    // the one notifying SpillableMemoryManager. When the tasks of a local job
+    // run concurrently, it is the context of any one of them.
+    private volatile TaskContext<?> context = null;
+
+    // Tasks of a local job run concurrently in the threads of the job runner.
+    // Threads started by a task report to that task.
+    private final ThreadLocal<TaskContext<?>> taskContext = new InheritableThreadLocal<TaskContext<?>>();
 
     //@StaticDataCleanup
     public static void staticDataCleanup() {
@@ -44,7 +51,7 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
     /**
      * Get singleton instance of the context
      */
-    public static PigStatusReporter getInstance() {
+    public static synchronized PigStatusReporter getInstance() {
         if (reporter == null) {
             reporter = new PigStatusReporter();
         }
@@ -53,6 +60,16 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
 
     public void setContext(TaskContext<?> context) {
         this.context = context;
+        taskContext.set(context);
+    }
+
+    /**
+     * Returns the context set by the current thread or the thread that
+     * started it, or else the last one set.
+     */
+    private TaskContext<?> getContext() {
+        TaskContext<?> current = taskContext.get();
+        return current == null ? context : current;
     }
 
     /**
@@ -63,6 +80,7 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
     @Override
     @Deprecated
     public Counter getCounter(Enum<?> name) {
+        TaskContext<?> context = getContext();
         return (context == null) ? null : context.getCounter(name);
     }
 
@@ -74,14 +92,17 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
     @Override
     @Deprecated
     public Counter getCounter(String group, String name) {
+        TaskContext<?> context = getContext();
         return context == null ? null : context.getCounter(group, name);
     }
 
     public boolean incrCounter(Enum<?> name, long incr) {
+        TaskContext<?> context = getContext();
         return context == null ? false : context.incrCounter(name, incr);
     }
 
     public boolean incrCounter(String group, String name, long incr) {
+        TaskContext<?> context = getContext();
         return context == null ? false : context.incrCounter(group, name, incr);
     }
 
@@ -97,6 +118,7 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
 
     @Override
     public void progress() {
+        TaskContext<?> context = getContext();
         if (context != null) {
             context.progress();
         }
@@ -104,12 +126,14 @@ public class PigStatusReporter extends StatusReporter implements Progressable, P
 
     @Override
     public void setStatus(String status) {
+        TaskContext<?> context = getContext();
         if (context != null) {
             context.setStatus(status);
         }
     }
 
     public float getProgress() {
+        TaskContext<?> context = getContext();
         return context == null ? 0f : context.getProgress();
     }
 }
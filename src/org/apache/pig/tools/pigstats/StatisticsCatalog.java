@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.tools.pigstats;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.tools.pigstats.tez.TezDAGStats;
+import org.apache.pig.tools.pigstats.tez.TezVertexStats;
+
+/**
+ * A local file of statistics observed by earlier runs, so that the next runs
+ * of a recurring script can plan with them.
+ * <p>
+ * After a script has run, the bytes and records of its inputs and outputs are
+ * recorded by location, and the selectivity of each job, or of each vertex on
+ * Tez, by signature. The selectivity is the number of records the map phase
+ * or vertex emits per record it reads; the signature is made of the aliases
+ * of the job and the locations of its inputs. Temporary files, whose names
+ * change from run to run, are left out. Only the most recent observations
+ * are kept.
+ * <p>
+ * The reducer estimators scale the size of the input of a job by its
+ * selectivity, and they and the cost based join selection use the recorded
+ * size of inputs whose size can not be looked up. It is enabled by setting
+ * {@link PigConfiguration#PIG_STATS_CATALOG} to the path of the file.
+ */
+public class StatisticsCatalog {
+
+    private static final Log LOG = LogFactory.getLog(StatisticsCatalog.class);
+
+    private static final String BYTES = "bytes.";
+    private static final String RECORDS = "records.";
+    private static final String SELECTIVITY = "selectivity.";
+
+    private static final Pattern TEMPORARY = Pattern.compile(".*/temp-?[0-9]+/tmp-?[0-9]+.*");
+
+    private final File file;
+    private final Properties entries = new Properties();
+
+    public StatisticsCatalog(File file) throws IOException {
+        this.file = file;
+        if (file.exists()) {
+            InputStream in = new FileInputStream(file);
+            try {
+                entries.load(in);
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * @return the catalog set in the configuration, or null if there is none
+     *         or it can not be read
+     */
+    public static StatisticsCatalog get(Configuration conf) {
+        return get(conf == null ? null : conf.get(PigConfiguration.PIG_STATS_CATALOG));
+    }
+
+    /**
+     * @return the catalog set in the properties, or null if there is none or
+     *         it can not be read
+     */
+    public static StatisticsCatalog get(Properties props) {
+        return get(props == null ? null : props.getProperty(PigConfiguration.PIG_STATS_CATALOG));
+    }
+
+    private static StatisticsCatalog get(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        try {
+            return new StatisticsCatalog(new File(path));
+        } catch (IOException e) {
+            LOG.warn("Unable to read the statistics catalog " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return bytes last read from or written to the location, or -1 if unknown
+     */
+    public long getBytes(String location) {
+        return getLong(BYTES + location);
+    }
+
+    /**
+     * @return records last read from or written to the location, or -1 if unknown
+     */
+    public long getRecords(String location) {
+        return getLong(RECORDS + location);
+    }
+
+    /**
+     * @return records emitted per record read by the job or vertex with the
+     *         given signature in its last run, or -1 if unknown
+     */
+    public double getSelectivity(String signature) {
+        String value = entries.getProperty(SELECTIVITY + signature);
+        return value == null ? -1 : Double.parseDouble(value);
+    }
+
+    private long getLong(String key) {
+        String value = entries.getProperty(key);
+        return value == null ? -1 : Long.parseLong(value);
+    }
+
+    /**
+     * Signature of a job or vertex, the same from run to run of a script.
+     * @param alias aliases of the job, as in {@link JobStats#getAlias()}
+     * @param locations locations of its inputs
+     */
+    public static String getSignature(String alias, Collection<String> locations) {
+        ArrayList<String> sorted = new ArrayList<String>();
+        for (String location : locations) {
+            if (location != null && !isTemporary(location)) {
+                sorted.add(location);
+            }
+        }
+        Collections.sort(sorted);
+        return (alias == null ? "" : alias) + "|" + LoadFunc.join(sorted, ",");
+    }
+
+    /**
+     * @return whether the location is a temporary file of a script
+     */
+    public static boolean isTemporary(String location) {
+        return TEMPORARY.matcher(location).matches();
+    }
+
+    /**
+     * Adds the statistics of a run to the catalog file.
+     */
+    public void record(PigStats stats) throws IOException {
+        Properties observed = new Properties();
+        for (JobStats job : stats.getJobGraph()) {
+            if (job instanceof TezDAGStats) {
+                for (TezVertexStats vertex : ((TezDAGStats) job).getAllVertexStats()) {
+                    record(vertex, observed);
+                }
+            } else {
+                record(job, observed);
+            }
+        }
+        if (observed.isEmpty()) {
+            return;
+        }
+        // scripts running at the same time may update the file
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        RandomAccessFile lockFile = new RandomAccessFile(file.getPath() + ".lock", "rw");
+        try {
+            FileLock lock = lockFile.getChannel().lock();
+            try {
+                Properties merged = new StatisticsCatalog(file).entries;
+                merged.putAll(observed);
+                File tmp = new File(file.getPath() + ".tmp");
+                OutputStream out = new FileOutputStream(tmp);
+                try {
+                    merged.store(out, "Pig statistics catalog");
+                } finally {
+                    out.close();
+                }
+                if (!tmp.renameTo(file) && !(file.delete() && tmp.renameTo(file))) {
+                    throw new IOException("Unable to replace " + file);
+                }
+                entries.clear();
+                entries.putAll(merged);
+            } finally {
+                lock.release();
+            }
+        } finally {
+            lockFile.close();
+        }
+        LOG.info("Recorded " + observed.size() + " statistics in " + file);
+    }
+
+    private static void record(JobStats job, Properties observed) {
+        if (!job.isSuccessful()) {
+            return;
+        }
+        List<String> locations = new ArrayList<String>();
+        for (InputStats input : job.getInputs()) {
+            if (input.getInputType() == InputStats.INPUT_TYPE.regular) {
+                locations.add(input.getLocation());
+                put(observed, input.getLocation(), input.getBytes(), input.getNumberRecords());
+            }
+        }
+        for (OutputStats output : job.getOutputs()) {
+            put(observed, output.getLocation(), output.getBytes(), output.getNumberRecords());
+        }
+        long in = job.getMapInputRecords();
+        long out = job.getMapOutputRecords();
+        if (in > 0 && out >= 0 && !locations.isEmpty()) {
+            observed.setProperty(SELECTIVITY + getSignature(job.getAlias(), locations),
+                    String.valueOf((double) out / in));
+        }
+    }
+
+    private static void put(Properties observed, String location, long bytes, long records) {
+        if (location == null || isTemporary(location)) {
+            return;
+        }
+        if (bytes >= 0) {
+            observed.setProperty(BYTES + location, String.valueOf(bytes));
+        }
+        if (records >= 0) {
+            observed.setProperty(RECORDS + location, String.valueOf(records));
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.pig.tools.pigstats.tez;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -190,6 +191,10 @@ public class TezDAGStats extends JobStats {
         return tezVertexStatsMap.get(vertexName);
     }
 
+    public Collection<TezVertexStats> getAllVertexStats() {
+        return tezVertexStatsMap.values();
+    }
+
     void setAlias(TezDAGScriptInfo dagScriptInfo) {
         annotate(ALIAS, dagScriptInfo.getAlias());
         annotate(ALIAS_LOCATION, dagScriptInfo.getAliasLocation());
@@ -70,6 +70,20 @@ public class TezScriptState extends ScriptState {
         return (TezScriptState) ScriptState.get();
     }
 
+    /**
+     * @return the aliases of a vertex, as they are in its statistics
+     */
+    public static String getAlias(TezOperator tezOp) {
+        ArrayList<String> aliasList = new ArrayList<String>();
+        try {
+            new AliasVisitor(tezOp.plan, aliasList, new ArrayList<String>()).visit();
+        } catch (VisitorException e) {
+            LOG.warn("unable to get alias", e);
+        }
+        Collections.sort(aliasList);
+        return LoadFunc.join(aliasList, ",");
+    }
+
     @Override
     public void registerListener(PigProgressNotificationListener listener) {
         super.registerListener(listener);
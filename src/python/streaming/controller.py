@@ -2,6 +2,7 @@
 import sys
 import os
 import logging
+import struct
 
 from datetime import datetime
 try:
@@ -56,6 +57,38 @@ END_OF_STREAM = TYPE_CHARARRAY + "\x04" + END_RECORD_DELIM
 TURN_ON_OUTPUT_CAPTURING = TYPE_CHARARRAY + "TURN_ON_OUTPUT_CAPTURING" + END_RECORD_DELIM
 NUM_LINES_OFFSET_TRACE = int(os.environ.get('PYTHON_TRACE_OFFSET', 0))
 
+#Binary protocol, see org.apache.pig.impl.streaming.StreamingUDFBinaryProtocol
+BINARY_PROTOCOL = "binary"
+OUTPUT_CAPTURING_FRAME = -1
+BIN_NULL = b'N'
+BIN_BOOLEAN = b'B'
+BIN_INTEGER = b'I'
+BIN_LONG = b'L'
+BIN_FLOAT = b'F'
+BIN_DOUBLE = b'D'
+BIN_CHARARRAY = b'C'
+BIN_BYTEARRAY = b'A'
+BIN_DATETIME = b'T'
+BIN_BIGINTEGER = b'G'
+BIN_BIGDECIMAL = b'E'
+BIN_TUPLE = b'('
+BIN_BAG = b'{'
+BIN_MAP = b'['
+
+try:
+    TEXT_TYPES = (str, unicode)
+    INT_TYPES = (int, long)
+    BYTES_TYPES = (bytearray,)
+    IMPORT_LEVEL = -1
+except NameError:
+    #Python 3
+    unicode = str
+    TEXT_TYPES = (str,)
+    INT_TYPES = (int,)
+    BYTES_TYPES = (bytearray, bytes)
+    #Implicit relative imports are gone
+    IMPORT_LEVEL = 0
+
 class PythonStreamingController:
     def __init__(self, profiling_mode=False):
         self.profiling_mode = profiling_mode
@@ -65,7 +98,8 @@ class PythonStreamingController:
 
     def main(self,
              module_name, file_path, func_name, cache_path,
-             output_stream_path, error_stream_path, log_file_name, is_illustrate_str):
+             output_stream_path, error_stream_path, log_file_name, is_illustrate_str,
+             protocol=None):
         sys.stdin = os.fdopen(sys.stdin.fileno(), 'rb', 0)
 
         #Need to ensure that user functions can't write to the streams we use to
@@ -85,10 +119,11 @@ class PythonStreamingController:
         logging.basicConfig(filename=log_file_name, format="%(asctime)s %(levelname)s %(message)s", level=udf_logging.udf_log_level)
         logging.info("To reduce the amount of information being logged only a small subset of rows are logged at the INFO level.  Call udf_logging.set_log_level_debug in pig_util to see all rows being processed.")
 
-        input_str = self.get_next_input()
+        if protocol != BINARY_PROTOCOL:
+            input_str = self.get_next_input()
 
         try:
-            func = __import__(module_name, globals(), locals(), [func_name], -1).__dict__[func_name]
+            func = __import__(module_name, globals(), locals(), [func_name], IMPORT_LEVEL).__dict__[func_name]
         except:
             #These errors should always be caused by user code.
             write_user_exception(module_name, self.stream_error, NUM_LINES_OFFSET_TRACE)
@@ -100,6 +135,10 @@ class PythonStreamingController:
         else:
             sys.stdout = self.output_stream
 
+        if protocol == BINARY_PROTOCOL:
+            self.main_binary(module_name, func)
+            return
+
         while input_str != END_OF_STREAM:
             should_log = False
             if self.input_count == self.next_input_count_to_log:
@@ -155,6 +194,55 @@ class PythonStreamingController:
 
             input_str = self.get_next_input()
 
+    def main_binary(self, module_name, func):
+        """
+        Reads frames of argument tuples and writes a frame with the results of
+        each of them until the end of the input.
+        """
+        while True:
+            frame = read_frame(self.input_stream)
+            if frame is None:
+                break
+            count = struct.unpack('>i', frame[:4])[0]
+            if count == OUTPUT_CAPTURING_FRAME:
+                logging.debug("Turned on Output Capturing")
+                sys.stdout = self.output_stream
+                continue
+
+            try:
+                try:
+                    inputs = deserialize_binary_frame(frame)
+                except:
+                    #Capture errors where the user passes in bad data.
+                    write_user_exception(module_name, self.stream_error, NUM_LINES_OFFSET_TRACE)
+                    self.close_controller(-3)
+
+                results = []
+                for args in inputs:
+                    if self.input_count == self.next_input_count_to_log:
+                        logging.info("Row %s: Deserialized Input: %s" % (self.input_count, args))
+                        self.update_next_input_count_to_log()
+                    self.input_count += 1
+                    try:
+                        results.append(func(*args))
+                    except:
+                        #These errors should always be caused by user code.
+                        write_user_exception(module_name, self.stream_error, NUM_LINES_OFFSET_TRACE)
+                        self.close_controller(-2)
+
+                self.stream_output.write(serialize_binary_frame(results))
+            except Exception as e:
+                #This should only catch internal exceptions with the controller
+                #and pig- not with user code.
+                import traceback
+                traceback.print_exc(file=self.stream_error)
+                sys.exit(-3)
+
+            sys.stdout.flush()
+            sys.stderr.flush()
+            self.stream_output.flush()
+            self.stream_error.flush()
+
     def get_next_input(self):
         input_stream = self.input_stream
         output_stream = self.output_stream
@@ -350,7 +438,145 @@ def serialize_output(output, utfEncodeAllFields=False):
     else:
         return str(output)
 
+def read_fully(stream, n):
+    data = b''
+    while len(data) < n:
+        chunk = stream.read(n - len(data))
+        if not chunk:
+            return None
+        data += chunk
+    return data
+
+def read_frame(stream):
+    """
+    @return the payload of the next frame, or None at the end of the input
+    """
+    header = read_fully(stream, 4)
+    if header is None:
+        return None
+    return read_fully(stream, struct.unpack('>i', header)[0])
+
+def deserialize_binary_frame(frame):
+    count = struct.unpack('>i', frame[:4])[0]
+    inputs = []
+    index = 4
+    for i in range(count):
+        args, index = _deserialize_binary(frame, index)
+        inputs.append(args)
+    return inputs
+
+def _read_binary_bytes(frame, index):
+    length = struct.unpack('>i', frame[index:index+4])[0]
+    return frame[index+4:index+4+length], index + 4 + length
+
+def _deserialize_binary(frame, index):
+    """
+    @return the value at index and the index following it
+    """
+    t = frame[index:index+1]
+    index += 1
+    if t == BIN_NULL:
+        return None, index
+    elif t == BIN_BOOLEAN:
+        return frame[index:index+1] != b'\x00', index + 1
+    elif t == BIN_INTEGER:
+        return struct.unpack('>i', frame[index:index+4])[0], index + 4
+    elif t == BIN_LONG:
+        return struct.unpack('>q', frame[index:index+8])[0], index + 8
+    elif t == BIN_FLOAT:
+        return struct.unpack('>f', frame[index:index+4])[0], index + 4
+    elif t == BIN_DOUBLE:
+        return struct.unpack('>d', frame[index:index+8])[0], index + 8
+    elif t == BIN_TUPLE or t == BIN_BAG or t == BIN_MAP:
+        size = struct.unpack('>i', frame[index:index+4])[0]
+        index += 4
+        if t == BIN_MAP:
+            result = {}
+            for i in range(size):
+                key, index = _read_binary_bytes(frame, index)
+                result[key.decode('utf-8')], index = _deserialize_binary(frame, index)
+            return result, index
+        result = []
+        for i in range(size):
+            value, index = _deserialize_binary(frame, index)
+            result.append(value)
+        return (tuple(result) if t == BIN_TUPLE else result), index
+
+    data, index = _read_binary_bytes(frame, index)
+    if t == BIN_CHARARRAY:
+        return data.decode('utf-8'), index
+    elif t == BIN_BYTEARRAY:
+        return bytearray(data), index
+    elif t == BIN_BIGINTEGER:
+        return INT_TYPES[-1](data.decode('utf-8')), index
+    elif t == BIN_BIGDECIMAL:
+        return float(data.decode('utf-8')), index
+    elif t == BIN_DATETIME:
+        dt = data.decode('utf-8')
+        if USE_DATEUTIL:
+            return parser.parse(dt), index
+        else:
+            return datetime.strptime(dt[:23], "%Y-%m-%dT%H:%M:%S.%f"), index
+    else:
+        raise Exception("Can't determine type of input: %s" % t)
+
+def serialize_binary_frame(results):
+    parts = [struct.pack('>i', len(results))]
+    for result in results:
+        _serialize_binary(result, parts)
+    payload = b''.join(parts)
+    return struct.pack('>i', len(payload)) + payload
+
+def _serialize_binary_bytes(t, data, parts):
+    parts.append(t)
+    parts.append(struct.pack('>i', len(data)))
+    parts.append(bytes(data))
+
+def _serialize_binary(output, parts):
+    if output is None:
+        parts.append(BIN_NULL)
+    elif isinstance(output, bool):
+        parts.append(BIN_BOOLEAN)
+        parts.append(b'\x01' if output else b'\x00')
+    elif isinstance(output, INT_TYPES):
+        if -2**63 <= output < 2**63:
+            parts.append(BIN_LONG)
+            parts.append(struct.pack('>q', output))
+        else:
+            _serialize_binary_bytes(BIN_BIGINTEGER, str(output).encode('utf-8'), parts)
+    elif isinstance(output, float):
+        parts.append(BIN_DOUBLE)
+        parts.append(struct.pack('>d', output))
+    elif isinstance(output, BYTES_TYPES):
+        _serialize_binary_bytes(BIN_BYTEARRAY, output, parts)
+    elif isinstance(output, datetime):
+        _serialize_binary_bytes(BIN_DATETIME, output.isoformat().encode('utf-8'), parts)
+    elif isinstance(output, tuple):
+        parts.append(BIN_TUPLE)
+        parts.append(struct.pack('>i', len(output)))
+        for o in output:
+            _serialize_binary(o, parts)
+    elif isinstance(output, list):
+        parts.append(BIN_BAG)
+        parts.append(struct.pack('>i', len(output)))
+        for o in output:
+            _serialize_binary(o if isinstance(o, tuple) else (o,), parts)
+    elif isinstance(output, dict):
+        parts.append(BIN_MAP)
+        parts.append(struct.pack('>i', len(output)))
+        for k, v in output.items():
+            key = unicode(k).encode('utf-8')
+            parts.append(struct.pack('>i', len(key)))
+            parts.append(key)
+            _serialize_binary(v, parts)
+    elif isinstance(output, TEXT_TYPES) and not isinstance(output, unicode):
+        #Python 2 str, pass the bytes through
+        _serialize_binary_bytes(BIN_CHARARRAY, output, parts)
+    else:
+        _serialize_binary_bytes(BIN_CHARARRAY, unicode(output).encode('utf-8'), parts)
+
 if __name__ == '__main__':
     controller = PythonStreamingController()
     controller.main(sys.argv[1], sys.argv[2], sys.argv[3], sys.argv[4],
-                    sys.argv[5], sys.argv[6], sys.argv[7], sys.argv[8])
+                    sys.argv[5], sys.argv[6], sys.argv[7], sys.argv[8],
+                    sys.argv[9] if len(sys.argv) > 9 else None)
@@ -17,15 +17,24 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.Collections;
+import java.util.Properties;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.LoadFunc;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
 import org.apache.pig.builtin.PigStorage;
 import org.apache.pig.impl.io.FileSpec;
+import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.test.PigStorageWithStatistics;
 import org.apache.pig.test.TestJobControlCompiler;
+import org.apache.pig.tools.pigstats.ScriptState;
+import org.apache.pig.tools.pigstats.StatisticsCatalog;
+import org.apache.pig.tools.pigstats.mapreduce.MRScriptState;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -68,6 +77,42 @@ public class TestInputSizeReducerEstimator {
                 new org.apache.hadoop.mapreduce.Job(CONF)));
     }
 
+    @Test
+    public void testStatisticsCatalog() throws Exception {
+        long size = 2L * 1000 * 1000 * 1000;
+        File catalogFile = File.createTempFile("stats", ".catalog");
+        catalogFile.deleteOnExit();
+        POLoad load = createPOLoadWithSize(size, new PigStorage());
+        String location = load.getLFile().getFileName();
+        Properties catalog = new Properties();
+        catalog.setProperty("bytes.hbase://users", "1000");
+        catalog.setProperty("selectivity." + StatisticsCatalog.getSignature("", Collections.singletonList(location)),
+                "0.25");
+        OutputStream out = new FileOutputStream(catalogFile);
+        catalog.store(out, null);
+        out.close();
+
+        Configuration conf = new Configuration(false);
+        conf.set(PigConfiguration.PIG_STATS_CATALOG, catalogFile.getAbsolutePath());
+        POLoad hbaseLoad = createPOLoadWithSize(size, new PigStorage());
+        hbaseLoad.setLFile(new FileSpec("hbase://users", null));
+        Assert.assertEquals(1000, InputSizeReducerEstimator.getTotalInputFileSize(
+                conf, Collections.singletonList(hbaseLoad), new org.apache.hadoop.mapreduce.Job(conf)));
+
+        // the map output of the last run was a quarter of the input
+        MapReduceOper mro = new MapReduceOper(new OperatorKey());
+        mro.mapPlan.add(load);
+        ScriptState.start(new MRScriptState("test"));
+        try {
+            Assert.assertEquals(2, new InputSizeReducerEstimator().estimateNumberOfReducers(
+                    new org.apache.hadoop.mapreduce.Job(CONF), mro));
+            Assert.assertEquals(1, new InputSizeReducerEstimator().estimateNumberOfReducers(
+                    new org.apache.hadoop.mapreduce.Job(conf), mro));
+        } finally {
+            ScriptState.start(null);
+        }
+    }
+
     private static POLoad createPOLoadWithSize(long size, LoadFunc loadFunc) throws Exception {
         return TestJobControlCompiler.createPOLoadWithSize(size, loadFunc);
     }
@@ -39,6 +39,7 @@ import org.apache.pig.Expression;
 import org.apache.pig.Expression.OpType;
 import org.apache.pig.PigServer;
 import org.apache.pig.backend.executionengine.ExecJob;
+import org.apache.pig.data.DataType;
 import org.apache.pig.impl.PigImplConstants;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.newplan.Operator;
@@ -269,6 +270,17 @@ public class TestOrcStoragePushdown {
                 "expr = (or leaf-0 leaf-1)");
     }
 
+    @Test
+    public void testInValues() throws Exception {
+        // as passed by dynamic partition pruning of replicated joins
+        Expression expr = new Expression.BinaryExpression(
+                new Expression.Column("srcid", DataType.INTEGER),
+                new Expression.InExpression(Arrays.<Object>asList(10, 11)), OpType.OP_IN);
+        SearchArgument sarg = orcStorage.getSearchArgument(expr);
+        assertEqualsSarg(sarg, "leaf-0 = (IN srcid 10 11)",
+                "expr = leaf-0");
+    }
+
     @Test
     public void testNegativeMatchesExpr() throws Exception {
         // matches operator is not a supported op type
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.test.Util;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSpillFileFormat {
+
+    private static final int TUPLES = 5000;
+
+    private TupleFactory tf = TupleFactory.getInstance();
+    private File dir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = File.createTempFile("spillfileformat", "");
+        dir.delete();
+        dir.mkdir();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SpillFileFormat.staticDataCleanup();
+        Util.deleteDirectory(dir);
+    }
+
+    private void configure(String codec, boolean async) {
+        Configuration conf = new Configuration(false);
+        if (codec != null) {
+            conf.set(PigConfiguration.PIG_SPILL_CODEC, codec);
+        }
+        conf.setBoolean(PigConfiguration.PIG_SPILL_ASYNC, async);
+        // small blocks, so that files have many of them
+        conf.setInt(PigConfiguration.PIG_SPILL_BLOCK_SIZE, 1000);
+        conf.set(PigConfiguration.PIG_SPILL_DIRS, dir.getAbsolutePath());
+        SpillFileFormat.configure(conf);
+    }
+
+    private Tuple tuple(int i) {
+        Tuple t = tf.newTuple(2);
+        try {
+            t.set(0, i);
+            t.set(1, "value " + i);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return t;
+    }
+
+    private File write() throws IOException {
+        File f = SpillFileFormat.createTempFile();
+        DataOutputStream out = SpillFileFormat.create(f);
+        for (int i = 0; i < TUPLES; i++) {
+            tuple(i).write(out);
+        }
+        out.close();
+        return f;
+    }
+
+    private void read(File f) throws IOException {
+        DataInputStream in = SpillFileFormat.open(f);
+        try {
+            for (int i = 0; i < TUPLES; i++) {
+                Tuple t = tf.newTuple();
+                t.readFields(in);
+                assertEquals(tuple(i), t);
+            }
+            assertEquals(-1, in.read());
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        for (String codec : new String[] { null, "default", "gzip" }) {
+            for (boolean async : new boolean[] { false, true }) {
+                configure(codec, async);
+                File f = write();
+                // blocks are read ahead when the file is written synchronously and vice versa
+                configure(codec, !async);
+                read(f);
+            }
+        }
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        configure(null, false);
+        long raw = write().length();
+        configure("default", false);
+        assertTrue(write().length() < raw);
+    }
+
+    @Test
+    public void testChecksum() throws Exception {
+        for (boolean async : new boolean[] { false, true }) {
+            configure(null, async);
+            File f = write();
+            RandomAccessFile raf = new RandomAccessFile(f, "rw");
+            raf.seek(f.length() / 2);
+            int b = raf.read();
+            raf.seek(f.length() / 2);
+            raf.write(b ^ 0xff);
+            raf.close();
+            try {
+                read(f);
+                fail("Expected a checksum error");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains("Checksum error"));
+            }
+        }
+    }
+
+    @Test
+    public void testTruncated() throws Exception {
+        configure(null, false);
+        File f = write();
+        RandomAccessFile raf = new RandomAccessFile(f, "rw");
+        // cut the end of the file off at a block boundary
+        raf.setLength(f.length() - 8);
+        raf.close();
+        DataInputStream in = SpillFileFormat.open(f);
+        try {
+            while (true) {
+                tf.newTuple().readFields(in);
+            }
+        } catch (EOFException e) {
+            fail("Truncated file read to the end");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("Truncated"));
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testSpillDirs() throws Exception {
+        File dir1 = new File(dir, "1");
+        File dir2 = new File(dir, "2");
+        Configuration conf = new Configuration(false);
+        conf.set(PigConfiguration.PIG_SPILL_DIRS, dir1.getAbsolutePath() + ", " + dir2.getAbsolutePath());
+        SpillFileFormat.configure(conf);
+        File f1 = SpillFileFormat.createTempFile();
+        File f2 = SpillFileFormat.createTempFile();
+        assertFalse(f1.getParentFile().equals(f2.getParentFile()));
+        assertTrue(f1.getParentFile().equals(dir1) || f1.getParentFile().equals(dir2));
+        assertTrue(f2.getParentFile().equals(dir1) || f2.getParentFile().equals(dir2));
+    }
+
+    @Test
+    public void testBagSpill() throws Exception {
+        configure("default", true);
+        DataBag bag = new SortedDataBag(null);
+        for (int i = TUPLES - 1; i >= 0; i--) {
+            bag.add(tuple(i));
+            if (i % 1000 == 0) {
+                bag.spill();
+            }
+        }
+        assertEquals(TUPLES, bag.size());
+        Iterator<Tuple> it = bag.iterator();
+        for (int i = 0; i < TUPLES; i++) {
+            assertEquals(tuple(i), it.next());
+        }
+        assertFalse(it.hasNext());
+        assertTrue(dir.list().length > 0);
+        bag.clear();
+    }
+}
@@ -19,13 +19,16 @@ package org.apache.pig.impl.builtin;
 
 import static org.apache.pig.builtin.mock.Storage.resetData;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Properties;
 
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigServer;
 import org.apache.pig.builtin.mock.Storage.Data;
 import org.apache.pig.data.DataBag;
@@ -51,6 +54,8 @@ import org.junit.runner.RunWith;
     "testPythonUDF__allTypes",
     "testPythonUDF__withBigDecimal",
     "testPythonUDF",
+    "testPythonUDF_binaryProtocol",
+    "testPythonUDF_binaryProtocolBatched",
     "testPythonUDF__withBigInteger",
     "testPythonUDF__withDateTime",
     "testPythonUDF_withNewline"
@@ -184,6 +189,83 @@ public class TestStreamingUDF {
         assertEquals(expected1, out.get(1));
     }
     
+    @Test
+    public void testPythonUDF_binaryProtocol() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_STREAMING_UDF_BATCH_SIZE, "4");
+        props.setProperty(PigConfiguration.PIG_STREAMING_UDF_WORKERS, "2");
+        pigServerLocal = new PigServer(Util.getLocalTestMode(), props);
+
+        String[] pythonScript = {
+                "from pig_util import outputSchema",
+                "@outputSchema(\'c:chararray\')",
+                "def py_func(one,two):",
+                "   return one + two"
+        };
+        Util.createLocalInputFile( "pyfile_binary.py", pythonScript);
+
+        Data data = resetData(pigServerLocal);
+        Tuple[] input = new Tuple[5];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = tf.newTuple(2);
+            input[i].set(0, "field" + i + "0");
+            input[i].set(1, "field" + i + "1");
+        }
+        data.set("testTuples", "c1:chararray,c2:chararray", input);
+
+        pigServerLocal.registerQuery("REGISTER 'pyfile_binary.py' USING streaming_python AS pf;");
+        pigServerLocal.registerQuery("A = LOAD 'testTuples' USING mock.Storage();");
+        pigServerLocal.registerQuery("B = FOREACH A generate pf.py_func(c1, c2);");
+        pigServerLocal.registerQuery("STORE B INTO 'out' USING mock.Storage();");
+
+        List<Tuple> out = data.get("out");
+        assertEquals(input.length, out.size());
+        for (int i = 0; i < input.length; i++) {
+            assertEquals(tf.newTuple("field" + i + "0field" + i + "1"), out.get(i));
+        }
+    }
+
+    @Test
+    public void testPythonUDF_binaryProtocolBatched() throws Exception {
+        // A vectorized foreach in fetch mode, which needs a limit, sends
+        // several tuples per frame
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_VECTORIZED, "true");
+        props.setProperty(PigConfiguration.PIG_STREAMING_UDF_BATCH_SIZE, "4");
+        props.setProperty(PigConfiguration.PIG_STREAMING_UDF_WORKERS, "2");
+        props.setProperty(PigConfiguration.PIG_STREAMING_UDF_MAX_INFLIGHT, "2");
+        pigServerLocal = new PigServer(Util.getLocalTestMode(), props);
+
+        String[] pythonScript = {
+                "from pig_util import outputSchema",
+                "@outputSchema(\'c:chararray\')",
+                "def py_func(one,two):",
+                "   return one + two"
+        };
+        Util.createLocalInputFile( "pyfile_batched.py", pythonScript);
+
+        Data data = resetData(pigServerLocal);
+        Tuple[] input = new Tuple[19];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = tf.newTuple(2);
+            input[i].set(0, "field" + i + "0");
+            input[i].set(1, "field" + i + "1");
+        }
+        data.set("testTuples", "c1:chararray,c2:chararray", input);
+
+        pigServerLocal.registerQuery("REGISTER 'pyfile_batched.py' USING streaming_python AS pf;");
+        pigServerLocal.registerQuery("A = LOAD 'testTuples' USING mock.Storage();");
+        pigServerLocal.registerQuery("B = FOREACH A generate pf.py_func(c1, c2);");
+        pigServerLocal.registerQuery("C = LIMIT B 100;");
+
+        Iterator<Tuple> iter = pigServerLocal.openIterator("C");
+        for (int i = 0; i < input.length; i++) {
+            assertTrue(iter.hasNext());
+            assertEquals(tf.newTuple("field" + i + "0field" + i + "1"), iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
     @Test
     public void testPythonUDF_withNewline() throws Exception {
         pigServerLocal = new PigServer(Util.getLocalTestMode());
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.DefaultBagFactory;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.schema.Schema.FieldSchema;
+import org.apache.pig.impl.util.Utils;
+import org.joda.time.DateTime;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class TestStreamingUDFBinaryProtocol {
+    TupleFactory tf = TupleFactory.getInstance();
+
+    private FieldSchema field(String schema) throws Exception {
+        return Utils.getSchemaFromString(schema).getField(0);
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("k", 1);
+        DataBag bag = DefaultBagFactory.getInstance().newDefaultBag();
+        bag.add(tf.newTuple("b"));
+        Object[] values = new Object[] { null, true, 1, 2L, 3.0f, 4.0, "sé", new DataByteArray("ab"),
+                new DateTime(2013, 8, 23, 18, 14, 3, 123), new BigInteger("12345678901234567890"),
+                new BigDecimal("1.5"), tf.newTuple(1), bag, map };
+        List<Tuple> inputs = new ArrayList<Tuple>();
+        inputs.add(tf.newTuple(Arrays.asList(values)));
+        inputs.add(tf.newTuple(0));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new StreamingUDFBinaryProtocol(null).writeRequest(new DataOutputStream(baos), inputs);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        Assert.assertEquals(baos.size() - 4, in.readInt());
+        Assert.assertEquals(2, in.readInt());
+        Assert.assertEquals(inputs.get(0), StreamingUDFBinaryProtocol.readValue(in));
+        Assert.assertEquals(inputs.get(1), StreamingUDFBinaryProtocol.readValue(in));
+        Assert.assertEquals(0, in.available());
+    }
+
+    @Test
+    public void testOutputCapturingRequest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new StreamingUDFBinaryProtocol(null).writeOutputCapturingRequest(new DataOutputStream(baos));
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        Assert.assertEquals(4, in.readInt());
+        Assert.assertEquals(StreamingUDFBinaryProtocol.OUTPUT_CAPTURING_FRAME, in.readInt());
+    }
+
+    private byte[] response(Object... values) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeInt(values.length);
+        for (Object o : values) {
+            StreamingUDFBinaryProtocol.writeValue(out, o);
+        }
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        DataOutputStream fout = new DataOutputStream(frame);
+        fout.writeInt(payload.size());
+        payload.writeTo(fout);
+        return frame.toByteArray();
+    }
+
+    private List<Object> read(String schema, int expected, Object... values) throws Exception {
+        StreamingUDFBinaryProtocol protocol = new StreamingUDFBinaryProtocol(field(schema));
+        return protocol.readResponse(new DataInputStream(new ByteArrayInputStream(response(values))),
+                expected);
+    }
+
+    @Test
+    public void testResponseConformsToSchema() throws Exception {
+        // the controller sends every python int as a long and floats as doubles
+        List<Object> results = read("i:int", 3, 1L, null, 2L);
+        Assert.assertEquals(1, results.get(0));
+        Assert.assertNull(results.get(1));
+        Assert.assertEquals(2, results.get(2));
+
+        Assert.assertEquals(1.5f, read("f:float", 1, 1.5).get(0));
+        Assert.assertEquals(new DataByteArray("ab"), read("b:bytearray", 1, "ab").get(0));
+        Assert.assertEquals(new BigDecimal("2"), read("d:bigdecimal", 1, 2L).get(0));
+        Assert.assertEquals(new DateTime(2013, 8, 23, 18, 14, 3, 123).getMillis(),
+                ((DateTime) read("d:datetime", 1, "2013-08-23T18:14:03.123").get(0)).getMillis());
+
+        Tuple t = (Tuple) read("t:(a:int, b:chararray)", 1, tf.newTuple(Arrays.<Object>asList(1L, "x")))
+                .get(0);
+        Assert.assertEquals(DataType.INTEGER, DataType.findType(t.get(0)));
+        Assert.assertEquals("x", t.get(1));
+
+        DataBag bag = DefaultBagFactory.getInstance().newDefaultBag();
+        bag.add(tf.newTuple(3L));
+        DataBag result = (DataBag) read("b:{(a:int)}", 1, bag).get(0);
+        Assert.assertEquals(3, result.iterator().next().get(0));
+    }
+
+    @Test(expected = ExecException.class)
+    public void testResponseCountMismatch() throws Exception {
+        read("i:int", 2, 1L);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.spark;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.pig.backend.hadoop.executionengine.spark.PigKryoRegistrator;
+import org.apache.pig.backend.hadoop.executionengine.spark.converter.IndexedKey;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DefaultTuple;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+@RunWith(JUnit4.class)
+public class TestPigKryoRegistrator {
+
+    private Kryo kryo;
+
+    @Before
+    public void setUp() {
+        kryo = new Kryo();
+        new PigKryoRegistrator().registerClasses(kryo);
+    }
+
+    private byte[] serialize(Object o) {
+        Output out = new Output(4096, -1);
+        kryo.writeClassAndObject(out, o);
+        return out.toBytes();
+    }
+
+    private Object roundTrip(Object o) {
+        Input in = new Input(serialize(o));
+        Object read = kryo.readClassAndObject(in);
+        assertEquals(0, in.limit() - in.position());
+        return read;
+    }
+
+    private Tuple newTuple() throws Exception {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("k", 1L);
+        DataBag bag = BagFactory.getInstance().newDefaultBag();
+        bag.add(TupleFactory.getInstance().newTuple(Arrays.<Object>asList("a", 1)));
+        bag.add(TupleFactory.getInstance().newTuple(Arrays.<Object>asList("b", null)));
+        return TupleFactory.getInstance().newTuple(Arrays.asList(1, "two", 3.0d, null,
+                new DataByteArray("bytes"), map, bag, TupleFactory.getInstance().newTuple(1)));
+    }
+
+    @Test
+    public void testTuples() throws Exception {
+        Tuple t = newTuple();
+        assertEquals(t, roundTrip(t));
+
+        Tuple d = new DefaultTuple();
+        d.append("x");
+        d.append(2L);
+        Object read = roundTrip(d);
+        assertEquals(DefaultTuple.class, read.getClass());
+        assertEquals(d, read);
+    }
+
+    @Test
+    public void testBagsAndBytes() throws Exception {
+        DataBag bag = BagFactory.getInstance().newDistinctBag();
+        bag.add(newTuple());
+        bag.add(TupleFactory.getInstance().newTuple(0));
+        DataBag read = (DataBag) roundTrip(bag);
+        assertEquals(bag.size(), read.size());
+        assertEquals(bag, read);
+
+        DataByteArray bytes = new DataByteArray(new byte[] { 0, 1, -1 });
+        assertEquals(bytes, roundTrip(bytes));
+    }
+
+    @Test
+    public void testIndexedKey() throws Exception {
+        IndexedKey key = new IndexedKey((byte) 1, TupleFactory.getInstance().newTuple(
+                Arrays.<Object>asList("a", 2)));
+        key.setUseSecondaryKey(true);
+        key.setSecondarySortOrder(new boolean[] { true, false });
+        IndexedKey read = (IndexedKey) roundTrip(key);
+        assertEquals(key.getIndex(), read.getIndex());
+        assertEquals(key.getKey(), read.getKey());
+        assertTrue(read.isUseSecondaryKey());
+        assertTrue(Arrays.equals(key.getSecondarySortOrder(), read.getSecondarySortOrder()));
+
+        read = (IndexedKey) roundTrip(new IndexedKey((byte) 0, null));
+        assertNull(read.getKey());
+        assertNull(read.getSecondarySortOrder());
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        Tuple t = newTuple();
+        ByteArrayOutputStream java = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(java);
+        out.writeObject(t);
+        out.close();
+        assertTrue(serialize(t).length * 4 < java.size());
+    }
+}
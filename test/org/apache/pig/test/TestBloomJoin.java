@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.pig.PigServer;
+import org.apache.pig.data.Tuple;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TestBloomJoin {
+
+    private static File left;
+    private static File right;
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void setUpClass() throws Exception {
+        left = Util.createFile(new String[] {
+                "1\ta", "2\tb", "3\tc", "\td", "5\te", "1\tf", "7\tg" });
+        right = Util.createFile(new String[] {
+                "1\ta\tx", "3\tc\ty", "3\tz\tz", "\td\tw", "8\th\tv" });
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws Exception {
+        left.delete();
+        right.delete();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(left.getAbsolutePath())
+                + "' as (k:int, s:chararray);");
+        pigServer.registerQuery("B = load '" + Util.encodeEscape(right.getAbsolutePath())
+                + "' as (k:int, s:chararray, t:chararray);");
+    }
+
+    private void checkJoin(String join) throws Exception {
+        pigServer.registerQuery("C = join " + join + ";");
+        pigServer.registerQuery("D = join " + join + " using 'bloom';");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("D", new PrintStream(baos));
+        assertTrue(baos.toString().contains("IsInJoinBloom"));
+        assertTrue(baos.toString().contains("BuildJoinBloom"));
+
+        List<Tuple> expected = Lists.newArrayList(pigServer.openIterator("C"));
+        Iterator<Tuple> it = pigServer.openIterator("D");
+        Util.checkQueryOutputsAfterSort(it, expected);
+    }
+
+    @Test
+    public void testInnerJoin() throws Exception {
+        checkJoin("A by k, B by k");
+    }
+
+    @Test
+    public void testCompoundKey() throws Exception {
+        checkJoin("A by (k, s), B by (k, s)");
+    }
+
+    @Test
+    public void testLeftOuterJoin() throws Exception {
+        checkJoin("A by k left outer, B by k");
+    }
+
+    @Test
+    public void testThreeWayJoin() throws Exception {
+        pigServer.registerQuery("E = filter B by t != 'z';");
+        checkJoin("A by k, B by k, E by k");
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.ResourceStatistics.ResourceFieldStatistics;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.newplan.logical.rules.CostBasedJoinSelector;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestCostBasedJoin {
+
+    private static File big;
+    private static File small;
+    private static File medium;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        String[] bigData = new String[300];
+        for (int i = 0; i < bigData.length; i++) {
+            bigData[i] = (i % 7 == 0 ? 1 : i % 20) + "\tbig" + i;
+        }
+        String[] mediumData = new String[40];
+        for (int i = 0; i < mediumData.length; i++) {
+            mediumData[i] = (i % 10) + "\tmedium" + i;
+        }
+        big = Util.createFile(bigData);
+        medium = Util.createFile(mediumData);
+        small = Util.createFile(new String[] {"1\tone", "2\ttwo", "3\tthree", "25\tnone"});
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        big.delete();
+        medium.delete();
+        small.delete();
+    }
+
+    @Test
+    public void testReplicated() throws Exception {
+        // the big input is moved first to be the fragment
+        String[] queries = new String[] {
+            "C = join S by k, B by k;",
+            "C = join B by k left outer, S by k;",
+            "C = join S by k right outer, B by k;",
+            "C = join S by k, M by k, B by k;"
+        };
+        for (String query : queries) {
+            String explain = explain(query, true, null);
+            assertTrue(explain, explain.contains(CostBasedJoinSelector.JOIN_STRATEGY + "=REPLICATED"));
+            assertTrue(explain, explain.contains("FRJoin"));
+            assertEquals(run(query, false, null), run(query, true, null));
+        }
+        // not for full outer joins, nor joins with a strategy
+        String[] hashQueries = new String[] {
+            "C = join S by k full outer, B by k;",
+            "C = join S by k, B by k using 'hash';"
+        };
+        for (String query : hashQueries) {
+            String explain = explain(query, true, null);
+            assertFalse(explain, explain.contains("REPLICATED"));
+            assertFalse(explain, explain.contains("FRJoin"));
+        }
+    }
+
+    @Test
+    public void testLargestInputLast() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_JOIN_COST_BASED_REPLICATED_BYTES, "10");
+        String query = "C = join B by k, S by k, M by k;";
+        String explain = explain(query, true, props);
+        assertTrue(explain, explain.contains(CostBasedJoinSelector.JOIN_STRATEGY + "=HASH"));
+        assertFalse(explain, explain.contains("FRJoin"));
+        List<Tuple> expected = run(query, false, props);
+        assertEquals(expected, run(query, true, props));
+        assertEquals(6, expected.get(0).size());
+        assertEquals("big", ((String) expected.get(0).get(1)).substring(0, 3));
+
+        // already last
+        query = "C = join S by k, B by k;";
+        explain = explain(query, true, props);
+        assertFalse(explain, explain.contains(CostBasedJoinSelector.JOIN_STRATEGY));
+    }
+
+    @Test
+    public void testSkewed() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_JOIN_COST_BASED_REPLICATED_BYTES, "10");
+        String[] queries = new String[] {
+            "C = join H by k, M by k;",
+            "C = join M by k, H by k;",
+            "C = join M by k left outer, H by k;"
+        };
+        for (String query : queries) {
+            String explain = explain(query, true, props);
+            assertTrue(explain, explain.contains(CostBasedJoinSelector.JOIN_STRATEGY + "=SKEWED"));
+            assertTrue(explain, explain.contains("SkewedJoin"));
+            assertEquals(run(query, false, props), run(query, true, props));
+        }
+        // the key is not a column of the loader
+        String query = "C = join M by k, H by k + 1;";
+        String explain = explain(query, true, props);
+        assertFalse(explain, explain.contains("SkewedJoin"));
+    }
+
+    private static PigServer newPigServer(String query, boolean costBased, Properties props) throws Exception {
+        Properties properties = new Properties();
+        if (props != null) {
+            properties.putAll(props);
+        }
+        properties.setProperty(PigConfiguration.PIG_JOIN_COST_BASED, String.valueOf(costBased));
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), properties);
+        pigServer.registerQuery("B = load '" + Util.encodeEscape(big.getAbsolutePath())
+                + "' as (k:int, v:chararray);");
+        pigServer.registerQuery("M = load '" + Util.encodeEscape(medium.getAbsolutePath())
+                + "' as (k:int, v:chararray);");
+        pigServer.registerQuery("S = load '" + Util.encodeEscape(small.getAbsolutePath())
+                + "' as (k:int, v:chararray);");
+        pigServer.registerQuery("H = load '" + Util.encodeEscape(big.getAbsolutePath()) + "' using "
+                + HotKeyStorage.class.getName() + "() as (k:int, v:chararray);");
+        pigServer.registerQuery(query);
+        return pigServer;
+    }
+
+    private static String explain(String query, boolean costBased, Properties props) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        newPigServer(query, costBased, props).explain("C", new PrintStream(baos));
+        return baos.toString();
+    }
+
+    private static final Comparator<Tuple> TUPLE_ORDER = new Comparator<Tuple>() {
+        @Override
+        public int compare(Tuple t1, Tuple t2) {
+            return DataType.compare(t1, t2);
+        }
+    };
+
+    private static List<Tuple> run(String query, boolean costBased, Properties props) throws Exception {
+        List<Tuple> out = new ArrayList<Tuple>();
+        Iterator<Tuple> it = newPigServer(query, costBased, props).openIterator("C");
+        while (it.hasNext()) {
+            out.add(it.next());
+        }
+        Collections.sort(out, TUPLE_ORDER);
+        return out;
+    }
+
+    public static class HotKeyStorage extends PigStorage {
+        @Override
+        public ResourceStatistics getStatistics(String location, Job job) throws IOException {
+            ResourceFieldStatistics key = new ResourceFieldStatistics();
+            key.setMostCommonValues(new Object[] {1, 2});
+            key.setMostCommonValuesFreq(new float[] {0.2f, 0.05f});
+            ResourceStatistics stats = new ResourceStatistics();
+            stats.setFields(new ResourceFieldStatistics[] {key, new ResourceFieldStatistics()});
+            return stats;
+        }
+    }
+}
@@ -28,13 +28,18 @@ import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.TreeSet;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DefaultDataBag;
@@ -1049,6 +1054,45 @@ public class TestDataBag  {
         assertEquals(bg6, bg7);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInternalSortedBagParallelSpills() throws Exception {
+        Configuration saved = PigMapReduce.sJobConfInternal.get();
+        Configuration conf = new Configuration(false);
+        conf.setBoolean(PigConfiguration.PIG_SORTEDBAG_PARALLEL, true);
+        conf.setInt(PigConfiguration.PIG_SORTEDBAG_MERGE_FANIN, 4);
+        PigMapReduce.sJobConfInternal.set(conf);
+        try {
+            Random r = new Random(17);
+            DataBag bag = new InternalSortedBag();
+            List<Tuple> expected = new ArrayList<Tuple>();
+            // enough spill files for several merge passes, and enough tuples
+            // left in memory to be sorted in parallel
+            for (int j = 0; j < 30; j++) {
+                int num = j == 29 ? 10000 : 500;
+                for (int i = 0; i < num; i++) {
+                    Tuple t = Util.createTuple(new Object[] {r.nextInt(1000), "v" + i});
+                    bag.add(t);
+                    expected.add(t);
+                }
+                if (j != 29) {
+                    bag.spill();
+                }
+            }
+            Collections.sort(expected);
+            assertEquals(expected.size(), bag.size());
+            Iterator<Tuple> iter = bag.iterator();
+            for (Tuple t : expected) {
+                assertEquals(t, iter.next());
+            }
+            assertFalse(iter.hasNext());
+            bag.clear();
+            assertEquals(0, bag.size());
+        } finally {
+            PigMapReduce.sJobConfInternal.set(saved);
+        }
+    }
+
     @Test
     public void testInternalDistinctBag() throws Exception {
     	// check adding empty tuple
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Properties;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.BinaryExpression;
+import org.apache.pig.Expression.Const;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.backend.executionengine.ExecJob;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.Utils;
+import org.apache.pig.tools.pigstats.InputStats;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestDynamicPartitionPruning {
+
+    private static final String SCHEMA = "a:int, dt:int, dt2:int, name:chararray";
+
+    private static File fact;
+    private static File dim;
+    private static File output;
+
+    private PigServer pigServer;
+
+    @BeforeClass
+    public static void setUpClass() throws Exception {
+        fact = File.createTempFile("fact", "");
+        fact.delete();
+        for (int dt = 1; dt <= 3; dt++) {
+            File partition = new File(fact, "dt=" + dt);
+            partition.mkdirs();
+            Util.createLocalInputFile(new File(partition, "part-0").getAbsolutePath(),
+                    new String[] { dt + "0\t" + dt, dt + "1\t" + dt });
+        }
+        dim = Util.createFile(new String[] { "2\tb", "3\tc", "3\tz", "\tn" });
+        output = new File(fact.getParentFile(), "dynamic-partition-pruning-out");
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws Exception {
+        Util.deleteDirectory(fact);
+        dim.delete();
+        Util.deleteDirectory(output);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        PartitionedLoader.lastFilter = null;
+        Util.deleteDirectory(output);
+    }
+
+    private long run(boolean enabled, String factFilter) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_DYNAMIC_PARTITION_PRUNING, String.valueOf(enabled));
+        pigServer = new PigServer(Util.getLocalTestMode(), props);
+        pigServer.registerQuery("F = load '" + Util.encodeEscape(fact.getAbsolutePath()) + "' using "
+                + PartitionedLoader.class.getName() + "();");
+        if (factFilter != null) {
+            pigServer.registerQuery("F = filter F by " + factFilter + ";");
+        }
+        pigServer.registerQuery("D = load '" + Util.encodeEscape(dim.getAbsolutePath())
+                + "' as (dt:int, name:chararray);");
+        pigServer.registerQuery("D = filter D by name != 'z';");
+        pigServer.registerQuery("J = join F by dt, D by dt using 'replicated';");
+        ExecJob job = pigServer.store("J", Util.encodeEscape(output.getAbsolutePath()));
+
+        pigServer.registerQuery("O = load '" + Util.encodeEscape(output.getAbsolutePath())
+                + "' as (" + SCHEMA + ");");
+        Iterator<Tuple> it = pigServer.openIterator("O");
+        if (factFilter == null) {
+            Util.checkQueryOutputsAfterSortRecursive(it, new String[] {
+                    "(20,2,2,b)", "(21,2,2,b)", "(30,3,3,c)", "(31,3,3,c)" }, SCHEMA);
+        } else {
+            Util.checkQueryOutputsAfterSortRecursive(it, new String[] {
+                    "(30,3,3,c)", "(31,3,3,c)" }, SCHEMA);
+        }
+
+        for (InputStats input : job.getStatistics().getInputStats()) {
+            if (input.getLocation().endsWith(fact.getName())) {
+                return input.getNumberRecords();
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testPruning() throws Exception {
+        assertEquals(4, run(true, null));
+        assertEquals("((dt == 2) or (dt == 3))", PartitionedLoader.lastFilter.toString());
+    }
+
+    @Test
+    public void testPruningWithPartitionFilter() throws Exception {
+        // and'ed with the filter pushed down by PartitionFilterOptimizer
+        assertEquals(2, run(true, "dt >= 3"));
+        assertEquals("((dt >= 3) and ((dt == 2) or (dt == 3)))",
+                PartitionedLoader.lastFilter.toString());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        assertEquals(6, run(false, null));
+        assertNull(PartitionedLoader.lastFilter);
+    }
+
+    /**
+     * Loads (a:int, dt:int) from a directory with a dt=N subdirectory per
+     * partition, reading only the partitions that match the partition filter.
+     * The filter is kept in a static field since the test runs in local mode.
+     */
+    public static class PartitionedLoader extends PigStorage implements LoadMetadata {
+
+        static Expression lastFilter;
+
+        @Override
+        public void setLocation(String location, Job job) throws IOException {
+            Expression filter = lastFilter;
+            if (filter == null) {
+                super.setLocation(location, job);
+                return;
+            }
+            ArrayList<String> partitions = new ArrayList<String>();
+            for (File partition : new File(new Path(location).toUri().getPath()).listFiles()) {
+                int dt = Integer.parseInt(partition.getName().substring("dt=".length()));
+                if (matches(filter, dt)) {
+                    partitions.add(partition.getAbsolutePath());
+                }
+            }
+            super.setLocation(LoadFunc.join(partitions, ","), job);
+        }
+
+        private static boolean matches(Expression expr, int dt) {
+            if (!(expr instanceof BinaryExpression)) {
+                throw new IllegalArgumentException(expr.toString());
+            }
+            BinaryExpression be = (BinaryExpression) expr;
+            switch (expr.getOpType()) {
+            case OP_AND:
+                return matches(be.getLhs(), dt) && matches(be.getRhs(), dt);
+            case OP_OR:
+                return matches(be.getLhs(), dt) || matches(be.getRhs(), dt);
+            case OP_EQ:
+                return dt == (Integer) ((Const) be.getRhs()).getValue();
+            case OP_GE:
+                return dt >= (Integer) ((Const) be.getRhs()).getValue();
+            default:
+                throw new IllegalArgumentException(expr.toString());
+            }
+        }
+
+        @Override
+        public Tuple getNext() throws IOException {
+            Tuple t = super.getNext();
+            if (t != null) {
+                for (int i = 0; i < t.size(); i++) {
+                    t.set(i, Integer.valueOf(t.get(i).toString()));
+                }
+            }
+            return t;
+        }
+
+        @Override
+        public String[] getPartitionKeys(String location, Job job) throws IOException {
+            return new String[] { "dt" };
+        }
+
+        @Override
+        public ResourceSchema getSchema(String location, Job job) throws IOException {
+            return new ResourceSchema(Utils.getSchemaFromString("a:int, dt:int"));
+        }
+
+        @Override
+        public ResourceStatistics getStatistics(String location, Job job) throws IOException {
+            return null;
+        }
+
+        @Override
+        public void setPartitionFilter(Expression partitionFilter) throws IOException {
+            lastFilter = partitionFilter;
+        }
+    }
+}
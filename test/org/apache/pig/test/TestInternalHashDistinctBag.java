@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.resetData;
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.pig.PigServer;
+import org.apache.pig.builtin.mock.Storage.Data;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.InternalHashDistinctBag;
+import org.apache.pig.data.SerializedTupleSet;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Test;
+
+public class TestInternalHashDistinctBag {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+
+    private final Random rand = new Random(42);
+
+    @Test
+    public void testSerializedTupleSet() throws Exception {
+        SerializedTupleSet set = new SerializedTupleSet();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.add(tf.newTuple(Arrays.<Object>asList(i, "v" + i))));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(set.add(tf.newTuple(Arrays.<Object>asList(i, "v" + i))));
+        }
+        assertTrue(set.add(tf.newTuple(Arrays.<Object>asList(1, null))));
+        assertFalse(set.add(tf.newTuple(Arrays.<Object>asList(1, null))));
+        assertEquals(1001, set.size());
+
+        // equal maps are written in the order of their keys
+        Map<String, Object> m1 = new LinkedHashMap<String, Object>();
+        m1.put("a", 1);
+        m1.put("b", 2);
+        Map<String, Object> m2 = new LinkedHashMap<String, Object>();
+        m2.put("b", 2);
+        m2.put("a", 1);
+        assertTrue(set.add(tf.newTuple(m1)));
+        assertFalse(set.add(tf.newTuple(m2)));
+
+        Iterator<Tuple> it = set.iterator();
+        assertEquals(tf.newTuple(Arrays.<Object>asList(0, "v0")), it.next());
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertTrue(set.add(tf.newTuple(m2)));
+    }
+
+    @Test
+    public void testInMemory() throws Exception {
+        DataBag bag = new InternalHashDistinctBag();
+        Set<Tuple> expected = fill(bag, 1000, 200);
+        check(expected, bag);
+    }
+
+    @Test
+    public void testSpilled() throws Exception {
+        DataBag bag = new InternalHashDistinctBag(1, 0.00001f);
+        Set<Tuple> expected = fill(bag, 50000, 20000);
+        check(expected, bag);
+        bag.clear();
+        assertEquals(0, bag.size());
+        assertFalse(bag.iterator().hasNext());
+    }
+
+    @Test
+    public void testAllSpilled() throws Exception {
+        DataBag bag = new InternalHashDistinctBag(1, 0.0f);
+        Set<Tuple> expected = fill(bag, 300, 50);
+        check(expected, bag);
+    }
+
+    @Test
+    public void testDistinct() throws Exception {
+        PigServer pigServer = new PigServer(Util.getLocalTestMode());
+        pigServer.getPigContext().getProperties().setProperty("pig.cachedbag.distinct.type", "hash");
+        pigServer.getPigContext().getProperties().setProperty("pig.exec.mapDistinct", "true");
+        Data data = resetData(pigServer);
+        data.set("input", tuple("a", 1), tuple("b", 2), tuple("a", 1), tuple("a", 3), tuple("b", 2));
+        pigServer.registerQuery("A = LOAD 'input' USING mock.Storage() AS (x:chararray, y:int);");
+        pigServer.registerQuery("B = DISTINCT A;");
+        pigServer.registerQuery("C = GROUP A BY x;");
+        pigServer.registerQuery("D = FOREACH C { E = DISTINCT A.y; GENERATE group, COUNT(E); };");
+        pigServer.registerQuery("STORE B INTO 'distinct' USING mock.Storage();");
+        pigServer.registerQuery("STORE D INTO 'counts' USING mock.Storage();");
+
+        List<Tuple> distinct = data.get("distinct");
+        assertEquals(new HashSet<Tuple>(Arrays.asList(tuple("a", 1), tuple("b", 2), tuple("a", 3))),
+                new HashSet<Tuple>(distinct));
+        assertEquals(3, distinct.size());
+        assertEquals(new HashSet<Tuple>(Arrays.asList(tuple("a", 2L), tuple("b", 1L))),
+                new HashSet<Tuple>(data.get("counts")));
+    }
+
+    private Set<Tuple> fill(DataBag bag, int numTuples, int numDistinct) throws Exception {
+        Set<Tuple> expected = new HashSet<Tuple>();
+        for (int i = 0; i < numTuples; i++) {
+            int v = rand.nextInt(numDistinct);
+            Tuple t = tf.newTuple(Arrays.<Object>asList(v, "value" + v, v % 3 == 0 ? null : (long) v));
+            expected.add(t);
+            bag.add(t);
+        }
+        return expected;
+    }
+
+    private void check(Set<Tuple> expected, DataBag bag) {
+        assertEquals(expected.size(), bag.size());
+        // the bag can be read more than once
+        for (int pass = 0; pass < 2; pass++) {
+            Set<Tuple> read = new HashSet<Tuple>();
+            for (Tuple t : bag) {
+                assertTrue(read.add(t));
+            }
+            assertEquals(expected, read);
+        }
+    }
+}
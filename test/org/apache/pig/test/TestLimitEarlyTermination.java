@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.Tuple;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestLimitEarlyTermination {
+    private static final int NUM_RECORDS = 10000;
+
+    private static File inputFile;
+    private PigServer pigServer;
+
+    /**
+     * PigStorage counting the records it reads.
+     */
+    public static class CountingStorage extends PigStorage {
+        static final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Tuple getNext() throws IOException {
+            Tuple t = super.getNext();
+            if (t != null) {
+                count.incrementAndGet();
+            }
+            return t;
+        }
+    }
+
+    @BeforeClass
+    public static void oneTimeSetUp() throws Exception {
+        String[] data = new String[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            data[i] = i + "\t" + (i % 7);
+        }
+        inputFile = Util.createFile(data);
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() {
+        inputFile.delete();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pigServer = new PigServer(Util.getLocalTestMode());
+        CountingStorage.count.set(0);
+    }
+
+    private String load() {
+        return "A = load '" + Util.encodeEscape(inputFile.getAbsolutePath()) + "' using "
+                + "org.apache.pig.test.TestLimitEarlyTermination\\$CountingStorage() as (x:int, y:int);";
+    }
+
+    private int countRecords(Iterator<Tuple> it) {
+        int n = 0;
+        while (it.hasNext()) {
+            it.next();
+            n++;
+        }
+        return n;
+    }
+
+    @Test
+    public void testLimitStopsReading() throws Exception {
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_OPT_FETCH, "false");
+        Util.registerMultiLineQuery(pigServer, load()
+                + "B = filter A by y == 3;"
+                + "C = limit B 10;");
+        assertEquals(10, countRecords(pigServer.openIterator("C")));
+        assertTrue(CountingStorage.count.get() < NUM_RECORDS);
+    }
+
+    @Test
+    public void testOrderedLimit() throws Exception {
+        Util.registerMultiLineQuery(pigServer, load()
+                + "B = order A by x desc parallel 1;"
+                + "C = limit B 10;");
+        Iterator<Tuple> it = pigServer.openIterator("C");
+        for (int i = NUM_RECORDS - 1; i >= NUM_RECORDS - 10; i--) {
+            assertTrue(it.hasNext());
+            assertEquals(i, it.next().get(0));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testFetchStopsReading() throws Exception {
+        Util.registerMultiLineQuery(pigServer, load()
+                + "B = limit A 10;");
+        assertEquals(10, countRecords(pigServer.openIterator("B")));
+        assertTrue(CountingStorage.count.get() < NUM_RECORDS);
+    }
+
+    @Test
+    public void testUnlimitedBranchReadsAll() throws Exception {
+        File out1 = File.createTempFile("limit", "");
+        File out2 = File.createTempFile("filter", "");
+        out1.delete();
+        out2.delete();
+        try {
+            pigServer.setBatchOn();
+            Util.registerMultiLineQuery(pigServer, load()
+                    + "B = limit A 10;"
+                    + "C = filter A by y == 3;"
+                    + "store B into '" + Util.encodeEscape(out1.getAbsolutePath()) + "';"
+                    + "store C into '" + Util.encodeEscape(out2.getAbsolutePath()) + "';");
+            pigServer.executeBatch();
+            assertEquals(NUM_RECORDS, CountingStorage.count.get());
+            assertEquals(10, countRecords(pigServer.openIterator("B")));
+        } finally {
+            Util.deleteDirectory(out1);
+            Util.deleteDirectory(out2);
+        }
+    }
+}
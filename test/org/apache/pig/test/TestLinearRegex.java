@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import static org.apache.pig.builtin.mock.Storage.resetData;
+import static org.apache.pig.builtin.mock.Storage.tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.LinearRegex;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.Regex;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.regex.RegexMatcher;
+import org.apache.pig.builtin.REGEX_EXTRACT;
+import org.apache.pig.builtin.REGEX_EXTRACT_ALL;
+import org.apache.pig.builtin.mock.Storage.Data;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+
+public class TestLinearRegex {
+
+    private static final String[] PATTERNS = {
+        "", "a", "abc", "a*", "a+", "a?", "a*?", "a+?", "a??", "(a)", "(a*)(a*)", "(a*?)(a*)",
+        "a|b", "(a|ab)(c|bcd)", "(a|b)*c", "(?:ab)+", "a{2}", "a{2,}", "a{1,3}", "a{1,3}?", "(a{0,2})(a)",
+        "[abc]+", "[^abc]+", "[a-z]+", "[-a]", "[a-]", "[\\]\\[]", "[\\d\\s]+", "[^\\W]+", "x]y", "a}",
+        ".", ".*", ".+b", "\\d+", "\\D+", "\\s+", "\\S+", "\\w+", "\\W+",
+        "^a", "a$", "^$", "^.*$", "\\Aab", "b\\z", "b\\Z", "\\bfoo\\b", "\\Bo", "o\\B",
+        "\\t", "\\n", "\\x41", "\\x{1F600}", "\\u00e9", "\\0101", "\\cA", "\\.", "\\Qa.b\\E", "\\Qa.b",
+        "([a-z]+)@([a-z]+)\\.com", "(\\d+)-(\\d+)?", "((a)|(b))+", "(a|(b))+", "(a(b)?)+",
+        "(.*)(\\d+)", "(.*?)(\\d+)", "(.*?)(\\d*)$", "x*", "é+", "[à-ÿ]+", "😀+",
+    };
+
+    private static final String[] INPUTS = {
+        "", "a", "aa", "aaa", "b", "ab", "abc", "abcd", "aabbcc", "bca", "cab", "xyz", "a]b", "x]y", "a}",
+        "foo bar", "foo.bar", "foobar", "a\n", "a\r\n", "b\n", "b\r", "b ", "a\nb", "\n", "\r\n",
+        "123-456", "123-", "user@example.com, admin@test.com", "abc123def45", "\t \u000b",
+        "A", "a.b", "\u0001", "été", "café au lait", "😀😀x", "ababab",
+        "abcbcd", "aba", "xaaay",
+    };
+
+    private static List<String> javaFindAll(Pattern p, String s) {
+        List<String> out = new ArrayList<String>();
+        Matcher m = p.matcher(s);
+        while (m.find()) {
+            for (int i = 0; i <= m.groupCount(); i++) {
+                out.add(m.group(i));
+            }
+        }
+        return out;
+    }
+
+    private static List<String> findAll(RegexMatcher m, String s, boolean bytes) {
+        List<String> out = new ArrayList<String>();
+        boolean found;
+        if (bytes) {
+            byte[] b = ("--" + s).getBytes(Charsets.UTF_8);
+            found = m.find(b, 2, b.length - 2);
+        } else {
+            found = m.find(s);
+        }
+        while (found) {
+            for (int i = 0; i <= m.groupCount(); i++) {
+                out.add(m.group(i));
+            }
+            found = m.find();
+        }
+        return out;
+    }
+
+    private static List<String> javaMatch(Pattern p, String s) {
+        Matcher m = p.matcher(s);
+        if (!m.matches()) {
+            return null;
+        }
+        List<String> out = new ArrayList<String>();
+        for (int i = 0; i <= m.groupCount(); i++) {
+            out.add(m.group(i));
+        }
+        return out;
+    }
+
+    private static List<String> match(RegexMatcher m, String s, boolean bytes) {
+        boolean matched;
+        if (bytes) {
+            byte[] b = (s + "--").getBytes(Charsets.UTF_8);
+            matched = m.matches(b, 0, b.length - 2);
+        } else {
+            matched = m.matches(s);
+        }
+        if (!matched) {
+            return null;
+        }
+        List<String> out = new ArrayList<String>();
+        for (int i = 0; i <= m.groupCount(); i++) {
+            out.add(m.group(i));
+        }
+        return out;
+    }
+
+    @Test
+    public void testSameResultsAsJava() {
+        for (String pattern : PATTERNS) {
+            Pattern p = Pattern.compile(pattern);
+            LinearRegex re = LinearRegex.compile(pattern);
+            if (re == null) {
+                fail("Pattern should be supported: " + pattern);
+            }
+            RegexMatcher m = re.matcher(true);
+            RegexMatcher b = re.matcher(false);
+            for (String s : INPUTS) {
+                String msg = "/" + pattern + "/ on \"" + s + "\"";
+                assertEquals(msg, javaMatch(p, s), match(m, s, false));
+                assertEquals(msg, javaMatch(p, s), match(m, s, true));
+                assertEquals(msg, p.matcher(s).matches(), b.matches(s));
+                assertEquals(msg, javaFindAll(p, s), findAll(m, s, false));
+                // after an empty match java.util.regex steps into surrogate pairs, bytes step over code points
+                if (s.length() == s.codePointCount(0, s.length())) {
+                    assertEquals(msg, javaFindAll(p, s), findAll(m, s, true));
+                }
+                assertEquals(msg, p.matcher(s).replaceAll("<$0>"), m.replaceAll(s, "<$0>"));
+            }
+        }
+    }
+
+    @Test
+    public void testReplacement() {
+        RegexMatcher m = Regex.compile("(\\w+)@(\\w+)").matcher();
+        String s = "joe@apache, jane@pig";
+        for (String replacement : new String[] { "$2:$1", "\\$1", "$12", "[$0]", "" }) {
+            assertEquals(Pattern.compile("(\\w+)@(\\w+)").matcher(s).replaceAll(replacement),
+                    m.replaceAll(s, replacement));
+        }
+        for (String replacement : new String[] { "$3", "$", "\\", "$x" }) {
+            try {
+                m.replaceAll(s, replacement);
+                fail("Expected a bad replacement: " + replacement);
+            } catch (IllegalArgumentException e) {
+                // expected
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        for (String pattern : new String[] { "(a)\\1", "a(?=b)", "a(?!b)", "(?<=a)b", "(?i)a", "a*+",
+                "(?<name>a)", "[a-z&&[^b]]", "[a[b]]", "\\p{Alpha}", "(a*)*", "(a|)+", "a{5000}b{5000}c{5000}" }) {
+            Pattern.compile(pattern);
+            assertNull(pattern, LinearRegex.compile(pattern));
+            Regex regex = Regex.compile(pattern);
+            assertFalse(pattern, regex.isLinear());
+        }
+        // the fallback works as java.util.regex does
+        RegexMatcher m = Regex.compile("(\\w)\\1").matcher();
+        assertTrue(m.find("abccd"));
+        assertEquals("cc", m.group(0));
+        assertTrue(Regex.compile("(?i)abc").matcher().matches("AbC".getBytes(Charsets.UTF_8), 0, 3));
+    }
+
+    @Test
+    public void testLinearTime() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.append('a');
+        }
+        String s = sb.toString();
+        // exponential for a backtracking matcher
+        for (String pattern : new String[] { "(a+)+b", "(?:a|aa)+b", "(a|a)*b", "(\\w+\\s?)+$x" }) {
+            Regex regex = Regex.compile(pattern);
+            assertTrue(pattern, regex.isLinear());
+            assertFalse(regex.matcher().matches(s));
+            assertFalse(regex.matcher().find(s));
+        }
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        try {
+            Regex.compile("(a");
+            fail("Expected a syntax error");
+        } catch (PatternSyntaxException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCache() {
+        Regex regex = Regex.compile("cached(\\d+)");
+        assertSame(regex, Regex.compile("cached(\\d+)"));
+    }
+
+    @Test
+    public void testBytes() throws Exception {
+        TupleFactory tf = TupleFactory.getInstance();
+        DataByteArray dba = new DataByteArray("café=été".getBytes(Charsets.UTF_8));
+        Tuple t = tf.newTuple(Arrays.asList((Object) dba, "(\\S+)=(.+)", 2));
+        assertEquals("été", new REGEX_EXTRACT().exec(t));
+
+        t = tf.newTuple(Arrays.asList((Object) dba, "(.*)=(.*)"));
+        Tuple groups = new REGEX_EXTRACT_ALL().exec(t);
+        assertEquals("café", groups.get(0));
+        assertEquals("été", groups.get(1));
+    }
+
+    @Test
+    public void testBytesInScript() throws Exception {
+        // MATCHES, REGEX_EXTRACT and REGEX_EXTRACT_ALL get their bytearray
+        // operand cast to chararray, REGEX_SEARCH matches the bytes as they are
+        PigServer pigServer = new PigServer(Util.getLocalTestMode());
+        Data data = resetData(pigServer);
+        data.set("input", "s:bytearray",
+                tuple(new DataByteArray("café=été".getBytes(Charsets.UTF_8))),
+                tuple(new DataByteArray("a=b=c".getBytes(Charsets.UTF_8))),
+                tuple(new DataByteArray("none".getBytes(Charsets.UTF_8))));
+        pigServer.registerQuery("A = LOAD 'input' USING mock.Storage();");
+        pigServer.registerQuery("B = FILTER A BY s MATCHES '.*=.*';");
+        pigServer.registerQuery("C = FOREACH B GENERATE REGEX_EXTRACT(s, '(.*?)=(.*)', 2),"
+                + " REGEX_EXTRACT_ALL(s, '(.*?)=(.*)'), REGEX_SEARCH(s, '([^=]+)');");
+        Iterator<Tuple> it = pigServer.openIterator("C");
+
+        Tuple t = it.next();
+        assertEquals("été", t.get(0));
+        assertEquals(tuple("café", "été"), t.get(1));
+        assertEquals(2, ((DataBag) t.get(2)).size());
+        t = it.next();
+        assertEquals("b=c", t.get(0));
+        assertEquals(tuple("a", "b=c"), t.get(1));
+        assertEquals(3, ((DataBag) t.get(2)).size());
+        assertFalse(it.hasNext());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecJob;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.tools.pigstats.JobStats;
+import org.apache.pig.tools.pigstats.PigStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestLocalParallelism {
+
+    private static final int FILES = 4;
+    private static final int ROWS = 1000;
+
+    private File input;
+    private File output;
+
+    @Before
+    public void setUp() throws Exception {
+        input = File.createTempFile("localparallelism", "");
+        input.delete();
+        input.mkdir();
+        for (int f = 0; f < FILES; f++) {
+            String[] rows = new String[ROWS];
+            for (int i = 0; i < ROWS; i++) {
+                rows[i] = (f * ROWS + i) + "\t" + (i % 10);
+            }
+            Util.createLocalInputFile(new File(input, "part-" + f).getAbsolutePath(), rows);
+        }
+        output = new File(input.getParentFile(), input.getName() + "-out");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Util.deleteDirectory(input);
+        Util.deleteDirectory(output);
+    }
+
+    private PigServer newPigServer(String parallelism) throws Exception {
+        return newPigServer(parallelism, new Properties());
+    }
+
+    private PigServer newPigServer(String parallelism, Properties props) throws Exception {
+        props.setProperty(PigConfiguration.PIG_LOCAL_PARALLELISM, parallelism);
+        props.setProperty(PigConfiguration.PIG_NO_SPLIT_COMBINATION, "true");
+        PigServer pigServer = new PigServer(ExecType.LOCAL, props);
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(input.getAbsolutePath())
+                + "' as (i:int, k:int);");
+        return pigServer;
+    }
+
+    private JobStats run(PigServer pigServer, String alias, String schema, String[] expected)
+            throws Exception {
+        ExecJob job = pigServer.store(alias, Util.encodeEscape(output.getAbsolutePath()));
+        assertEquals(ExecJob.JOB_STATUS.COMPLETED, job.getStatus());
+        PigStats stats = job.getStatistics();
+        assertEquals(1, stats.getJobGraph().size());
+
+        pigServer.registerQuery("O = load '" + Util.encodeEscape(output.getAbsolutePath())
+                + "' as (" + schema + ");");
+        Iterator<Tuple> it = pigServer.openIterator("O");
+        Util.checkQueryOutputsAfterSortRecursive(it, expected, schema);
+        return (JobStats) stats.getJobGraph().getSources().get(0);
+    }
+
+    @Test
+    public void testGroup() throws Exception {
+        PigServer pigServer = newPigServer("4");
+        pigServer.registerQuery("B = group A by k;");
+        pigServer.registerQuery("C = foreach B generate group, COUNT(A);");
+        String[] expected = new String[10];
+        for (int k = 0; k < 10; k++) {
+            expected[k] = "(" + k + "," + (FILES * ROWS / 10) + "L)";
+        }
+        JobStats js = run(pigServer, "C", "k:int, c:long", expected);
+        assertEquals(FILES, js.getNumberMaps());
+        assertEquals(4, js.getNumberReduces());
+        assertEquals(FILES * ROWS, js.getMapInputRecords());
+        assertEquals(10, js.getReduceOutputRecords());
+    }
+
+    @Test
+    public void testGroupWithPartialAgg() throws Exception {
+        // the concurrent map tasks register their POPartialAgg in the same JVM
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_MAP_PARTAGG, "true");
+        PigServer pigServer = newPigServer("4", props);
+        pigServer.registerQuery("B = group A by k;");
+        pigServer.registerQuery("C = foreach B generate group, COUNT(A), SUM(A.i);");
+        String[] expected = new String[10];
+        for (int k = 0; k < 10; k++) {
+            long sum = 0;
+            for (int i = k; i < FILES * ROWS; i += 10) {
+                sum += i;
+            }
+            expected[k] = "(" + k + "," + (FILES * ROWS / 10) + "L," + sum + "L)";
+        }
+        JobStats js = run(pigServer, "C", "k:int, c:long, s:long", expected);
+        assertEquals(FILES, js.getNumberMaps());
+        assertEquals(4, js.getNumberReduces());
+        // every map emits one partial aggregate per key
+        assertEquals(FILES * 10, js.getMapOutputRecords());
+    }
+
+    @Test
+    public void testMapOnly() throws Exception {
+        PigServer pigServer = newPigServer("3");
+        pigServer.registerQuery("B = filter A by k == 0;");
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < FILES * ROWS; i += 10) {
+            expected.add("(" + i + ",0)");
+        }
+        JobStats js = run(pigServer, "B", "i:int, k:int", expected.toArray(new String[0]));
+        assertEquals(FILES, js.getNumberMaps());
+        assertEquals(0, js.getNumberReduces());
+        assertEquals(FILES * ROWS, js.getMapInputRecords());
+        assertEquals(FILES * ROWS / 10, js.getMapOutputRecords());
+    }
+
+    @Test
+    public void testRequestedParallelism() throws Exception {
+        PigServer pigServer = newPigServer("4");
+        pigServer.registerQuery("B = group A by k parallel 2;");
+        pigServer.registerQuery("C = foreach B generate group, MAX(A.i);");
+        String[] expected = new String[10];
+        for (int k = 0; k < 10; k++) {
+            expected[k] = "(" + k + "," + ((FILES - 1) * ROWS + 990 + k) + ")";
+        }
+        JobStats js = run(pigServer, "C", "k:int, m:int", expected);
+        assertEquals(2, js.getNumberReduces());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.resetData;
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigNormalizedTupleSortComparator;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleSortComparator;
+import org.apache.pig.builtin.mock.Storage.Data;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.NullableNormalizedTuple;
+import org.apache.pig.impl.io.NullableTuple;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class TestNormalizedSortKeys {
+
+    private static final Object[] VALUES = new Object[] {
+        null, true, false, (byte) -3, (byte) 7, 0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE,
+        0L, -5L, Long.MIN_VALUE, Long.MAX_VALUE, 0.0f, -0.0f, 1.5f, -2.5f, Float.NaN,
+        Float.NEGATIVE_INFINITY, 0.0d, -0.0d, 3.25d, -1e300, Double.NaN, Double.POSITIVE_INFINITY,
+        new DateTime(0L), new DateTime(-1000L), new DateTime(1500000000000L),
+        "", "a", "ab", "a\u0000", "a\u0000b", "b", "\u00e9t\u00e9", "\u4e2d", "\uffff",
+        new DataByteArray(new byte[0]), new DataByteArray(new byte[] {0}),
+        new DataByteArray(new byte[] {0, 0}), new DataByteArray(new byte[] {-1}),
+        new DataByteArray(new byte[] {1, 2}), new DataByteArray(new byte[] {1})
+    };
+
+    // not normalized, compared as tuples
+    private static final Object[] OTHER_VALUES = new Object[] {
+        new BigDecimal("1.5"), new BigDecimal("-3"), "\uD83D\uDE00", "a\uD83D\uDE00", tuple(1, "x")
+    };
+
+    @Test
+    public void testSameOrderAsTupleComparator() throws Exception {
+        Random r = new Random(42);
+        boolean[][] orders = new boolean[][] {
+            {true}, {false}, {true, true, true}, {false, true, false}, {true, false, true}
+        };
+        for (boolean[] asc : orders) {
+            Configuration conf = new Configuration();
+            conf.set("pig.sortOrder", ObjectSerializer.serialize(asc));
+            PigTupleSortComparator expected = new PigTupleSortComparator();
+            expected.setConf(conf);
+            PigNormalizedTupleSortComparator actual = new PigNormalizedTupleSortComparator();
+            actual.setConf(conf);
+
+            List<Tuple> keys = new ArrayList<Tuple>();
+            keys.add(null);
+            for (int i = 0; i < 300; i++) {
+                Tuple t = tuple(value(r), value(r), value(r));
+                if (i % 50 == 0) {
+                    t.set(r.nextInt(3), OTHER_VALUES[r.nextInt(OTHER_VALUES.length)]);
+                }
+                keys.add(t);
+            }
+            for (Tuple k1 : keys) {
+                for (Tuple k2 : keys) {
+                    for (byte index = 0; index < 2; index++) {
+                        byte[] t1 = write(new NullableTuple(k1), index);
+                        byte[] t2 = write(new NullableTuple(k2), (byte) 0);
+                        int rc = expected.compare(t1, 0, t1.length, t2, 0, t2.length);
+                        byte[] b1 = write(new NullableNormalizedTuple(k1, asc), index);
+                        byte[] b2 = write(new NullableNormalizedTuple(k2, asc), (byte) 0);
+                        assertEquals(k1 + " " + k2, Integer.signum(rc),
+                                Integer.signum(actual.compare(b1, 0, b1.length, b2, 0, b2.length)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        boolean[] asc = new boolean[] {false, true};
+        Tuple t = tuple("a", 1L);
+        byte[] normalized = write(new NullableNormalizedTuple(t, asc), (byte) 3);
+        byte[] other = write(new NullableNormalizedTuple(tuple(new BigDecimal("2"), 1L), asc), (byte) 0);
+        // the normalized form is skipped when reading the key back
+        DataInputBuffer in = new DataInputBuffer();
+        in.reset(normalized, normalized.length);
+        NullableNormalizedTuple read = new NullableNormalizedTuple();
+        read.readFields(in);
+        assertEquals(t, read.getValueAsPigType());
+        assertEquals(3, read.getIndex());
+        in.reset(other, other.length);
+        read.readFields(in);
+        assertEquals(tuple(new BigDecimal("2"), 1L), read.getValueAsPigType());
+
+        DataOutputBuffer buf = new DataOutputBuffer();
+        assertTrue(NullableNormalizedTuple.normalize(t, (byte) 0, asc, buf));
+        assertFalse(NullableNormalizedTuple.normalize(tuple("\uD83D\uDE00", 1L), (byte) 0, asc, buf));
+    }
+
+    @Test
+    public void testOrderBy() throws Exception {
+        List<Tuple> expected = runOrderBy(false);
+        assertEquals(200, expected.size());
+        assertEquals(expected, runOrderBy(true));
+    }
+
+    private List<Tuple> runOrderBy(boolean normalized) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_NORMALIZED_SORT_KEYS, String.valueOf(normalized));
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), props);
+        Data data = resetData(pigServer);
+        List<Tuple> in = new ArrayList<Tuple>();
+        for (int i = 0; i < 200; i++) {
+            in.add(tuple(i % 7 == 3 ? null : "k" + (i % 11), i % 5 - 2, (double) i / 3, i));
+        }
+        data.set("in", "a:chararray,b:int,c:double,d:int", in);
+        pigServer.registerQuery("A = load 'in' using mock.Storage();");
+        pigServer.registerQuery("B = order A by a desc, b, c desc;");
+        List<Tuple> out = new ArrayList<Tuple>();
+        Iterator<Tuple> it = pigServer.openIterator("B");
+        while (it.hasNext()) {
+            out.add(it.next());
+        }
+        return out;
+    }
+
+    private static Object value(Random r) {
+        return VALUES[r.nextInt(VALUES.length)];
+    }
+
+    private static byte[] write(NullableTuple key, byte index) throws Exception {
+        key.setIndex(index);
+        if (key.getValueAsPigType() == null) {
+            key.setNull(true);
+        }
+        DataOutputBuffer out = new DataOutputBuffer();
+        key.write(out);
+        byte[] bytes = new byte[out.getLength()];
+        System.arraycopy(out.getData(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+}
@@ -24,7 +24,9 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -47,6 +49,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.PlanException;
 import org.apache.pig.impl.util.Spillable;
+import org.apache.pig.impl.util.TaskMemoryPool;
 import org.apache.pig.parser.ParserException;
 import org.apache.pig.test.utils.GenPhyOp;
 import org.junit.After;
@@ -380,6 +383,148 @@ public class TestPOPartialAgg {
         assertEquals(POStatus.STATUS_EOP, res.returnStatus);
     }
 
+    @Test
+    public void testTableMultiInput() throws Exception {
+        PigMapReduce.sJobConfInternal.get().setLong(PigConfiguration.PIG_EXEC_MAP_PARTAGG_MEMORY, 1024 * 1024);
+        createPOPartialPlan(2);
+        String[] inputTups = { "(1,(1L),(2L))", "(2,(2L),(1L))", "(1,(2L),(2L))",
+                "(null,(1L),(1L))", "(null,(3L),(1L))" };
+        String[] outputTups = { "(1,(3L),(4L))", "(2,(2L),(1L))", "(null,(4L),(2L))" };
+        checkInputAndOutput(inputTups, outputTups, false);
+    }
+
+    @Test
+    public void testTableGroupAll() throws Exception {
+        PigMapReduce.sJobConfInternal.get().setLong(PigConfiguration.PIG_EXEC_MAP_PARTAGG_MEMORY, 1024 * 1024);
+        createPOPartialPlan(1, true);
+        Result res;
+        for (long i=1; i <= 10010; i ++) {
+            Tuple t = tuple("all", tuple(i));
+            partAggOp.attachInput(t);
+            res = partAggOp.getNextTuple();
+            assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+        }
+        parentPlan.endOfAllInput = true;
+        res = partAggOp.getNextTuple();
+        assertEquals(tuple("all", tuple(50105055L)), res.result);
+        assertEquals(POStatus.STATUS_OK, res.returnStatus);
+        res = partAggOp.getNextTuple();
+        assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+    }
+
+    @Test
+    public void testTableEmittedWhenFull() throws Exception {
+        PigMapReduce.sJobConfInternal.get().setLong(PigConfiguration.PIG_EXEC_MAP_PARTAGG_MEMORY, 32 * 1024);
+        PigMapReduce.sJobConfInternal.get().setInt(PigConfiguration.PIG_EXEC_MAP_PARTAGG_MINREDUCTION, 1);
+        createPOPartialPlan(1);
+        int numKeys = 2000;
+        Map<Integer, Long> sums = new HashMap<Integer, Long>();
+        int emitted = 0;
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < numKeys; i++) {
+                partAggOp.attachInput(tuple(i, tuple(1L)));
+                Result res = partAggOp.getNextTuple();
+                while (res.returnStatus == POStatus.STATUS_OK) {
+                    emitted++;
+                    addToSums((Tuple) res.result, sums);
+                    res = partAggOp.getNextTuple();
+                }
+                assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+            }
+        }
+        // 2000 keys do not fit in 32KB, so some were emitted early
+        assertTrue(emitted > 0);
+        parentPlan.endOfAllInput = true;
+        for (Result res = partAggOp.getNextTuple(); res.returnStatus != POStatus.STATUS_EOP;
+                res = partAggOp.getNextTuple()) {
+            assertEquals(POStatus.STATUS_OK, res.returnStatus);
+            addToSums((Tuple) res.result, sums);
+        }
+        assertEquals(numKeys, sums.size());
+        for (long sum : sums.values()) {
+            assertEquals(3L, sum);
+        }
+    }
+
+    @Test
+    public void testTableEmittedWhenPoolIsUsedUp() throws Exception {
+        PigMapReduce.sJobConfInternal.get().setLong(PigConfiguration.PIG_TASK_MEMORY_POOL, 256 * 1024);
+        PigMapReduce.sJobConfInternal.get().setInt(PigConfiguration.PIG_EXEC_MAP_PARTAGG_MINREDUCTION, 1);
+        TaskMemoryPool.staticDataCleanup();
+        try {
+            // the pool turns the table on
+            createPOPartialPlan(1);
+            // another consumer holds half of the pool
+            TaskMemoryPool.Reservation other = TaskMemoryPool.getInstance().newReservation();
+            assertTrue(other.reserve(128 * 1024));
+            int numKeys = 20000;
+            Map<Integer, Long> sums = new HashMap<Integer, Long>();
+            int emitted = 0;
+            for (int round = 0; round < 2; round++) {
+                for (int i = 0; i < numKeys; i++) {
+                    partAggOp.attachInput(tuple(i, tuple(1L)));
+                    Result res = partAggOp.getNextTuple();
+                    while (res.returnStatus == POStatus.STATUS_OK) {
+                        emitted++;
+                        addToSums((Tuple) res.result, sums);
+                        res = partAggOp.getNextTuple();
+                    }
+                    assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+                }
+            }
+            TaskMemoryPool pool = TaskMemoryPool.getInstance();
+            assertTrue(emitted > 0);
+            assertTrue(pool.getDenied() > 0);
+            assertTrue(pool.getPeak() <= 256 * 1024);
+            other.release();
+            parentPlan.endOfAllInput = true;
+            for (Result res = partAggOp.getNextTuple(); res.returnStatus != POStatus.STATUS_EOP;
+                    res = partAggOp.getNextTuple()) {
+                assertEquals(POStatus.STATUS_OK, res.returnStatus);
+                addToSums((Tuple) res.result, sums);
+            }
+            assertEquals(numKeys, sums.size());
+            for (long sum : sums.values()) {
+                assertEquals(2L, sum);
+            }
+        } finally {
+            PigMapReduce.sJobConfInternal.set(new Configuration());
+            TaskMemoryPool.staticDataCleanup();
+        }
+    }
+
+    @Test
+    public void testTableDisabledOnLowReduction() throws Exception {
+        PigMapReduce.sJobConfInternal.get().setLong(PigConfiguration.PIG_EXEC_MAP_PARTAGG_MEMORY, 16 * 1024 * 1024);
+        createPOPartialPlan(1);
+        int numInputs = 12000;
+        int outputs = 0;
+        for (int i = 0; i < numInputs; i++) {
+            partAggOp.attachInput(tuple(i, tuple(1L)));
+            Result res = partAggOp.getNextTuple();
+            while (res.returnStatus == POStatus.STATUS_OK) {
+                outputs++;
+                res = partAggOp.getNextTuple();
+            }
+        }
+        parentPlan.endOfAllInput = true;
+        for (Result res = partAggOp.getNextTuple(); res.returnStatus != POStatus.STATUS_EOP;
+                res = partAggOp.getNextTuple()) {
+            outputs++;
+        }
+        // every key is distinct, so aggregation is turned off after 10000
+        // records and the rest is passed through
+        assertEquals(numInputs, outputs);
+        assertEquals(0, partAggOp.getMemorySize());
+    }
+
+    private void addToSums(Tuple t, Map<Integer, Long> sums) throws ExecException {
+        Integer key = (Integer) t.get(0);
+        long value = (Long) ((Tuple) t.get(1)).get(0);
+        Long old = sums.get(key);
+        sums.put(key, old == null ? value : old + value);
+    }
+
     private static class Spill implements Callable<Long> {
 
         private Spillable spillable;
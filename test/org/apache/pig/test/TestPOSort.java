@@ -24,9 +24,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.ComparisonFunc;
 import org.apache.pig.FuncSpec;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
@@ -648,6 +651,64 @@ public class TestPOSort {
         assertEquals(res.returnStatus, POStatus.STATUS_EOP);
     }
 
+    @Test
+    public void testPOSortMixAscDescInParallel() throws ExecException {
+        DataBag input = DefaultBagFactory.getInstance().newDefaultBag();
+        for (int i = 0; i < 20000; i++) {
+            Tuple t = TupleFactory.getInstance().newTuple();
+            t.append(r.nextInt(10) == 0 ? null : r.nextInt(100));
+            t.append(r.nextInt(10) == 0 ? null : "v" + r.nextInt(100));
+            input.add(t);
+        }
+        List<Tuple> expected = sortMixAscDesc(input);
+
+        Configuration saved = PigMapReduce.sJobConfInternal.get();
+        Configuration conf = new Configuration(false);
+        conf.setBoolean(PigConfiguration.PIG_SORTEDBAG_PARALLEL, true);
+        PigMapReduce.sJobConfInternal.set(conf);
+        try {
+            // compares the columns without running the sort plans
+            assertEquals(expected, sortMixAscDesc(input));
+        } finally {
+            PigMapReduce.sJobConfInternal.set(saved);
+        }
+    }
+
+    // Sorts by $1 DESC, $0 ASC
+    private List<Tuple> sortMixAscDesc(DataBag input) throws ExecException {
+        List<PhysicalPlan> sortPlans = new LinkedList<PhysicalPlan>();
+
+        POProject pr1 = new POProject(new OperatorKey("", r.nextLong()), -1, 1);
+        pr1.setResultType(DataType.CHARARRAY);
+        PhysicalPlan expPlan1 = new PhysicalPlan();
+        expPlan1.add(pr1);
+        sortPlans.add(expPlan1);
+
+        POProject pr2 = new POProject(new OperatorKey("", r.nextLong()), -1, 0);
+        pr2.setResultType(DataType.INTEGER);
+        PhysicalPlan expPlan2 = new PhysicalPlan();
+        expPlan2.add(pr2);
+        sortPlans.add(expPlan2);
+
+        List<Boolean> mAscCols = new LinkedList<Boolean>();
+        mAscCols.add(false);
+        mAscCols.add(true);
+
+        PORead read = new PORead(new OperatorKey("", r.nextLong()), input);
+        List<PhysicalOperator> inputs = new LinkedList<PhysicalOperator>();
+        inputs.add(read);
+
+        POSort sort = new POSort(new OperatorKey("", r.nextLong()), -1, inputs,
+                                 sortPlans, mAscCols, null);
+        List<Tuple> out = new LinkedList<Tuple>();
+        for (Result res = sort.getNextTuple(); res.returnStatus != POStatus.STATUS_EOP;
+                res = sort.getNextTuple()) {
+            out.add((Tuple) res.result);
+        }
+        assertEquals(input.size(), out.size());
+        return out;
+    }
+
     @Test
     public void testPOSortUDF() throws ExecException {
         DataBag input = (DataBag) GenRandomData.genRandSmallTupDataBag(r,
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PartialAggTable;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.junit.Test;
+
+public class TestPartialAggTable {
+
+    /**
+     * Sums the second field of rows of the form (key, sum) and counts how
+     * many times it was called.
+     */
+    private static class SumCombiner implements PartialAggTable.Combiner {
+        int calls;
+
+        @Override
+        public Tuple combine(Object key, Tuple[] rows, int count) throws ExecException {
+            calls++;
+            assertTrue(count > 1);
+            long sum = 0;
+            for (int i = 0; i < count; i++) {
+                assertEquals(key, rows[i].get(0));
+                sum += (Long) rows[i].get(1);
+            }
+            return tuple(key, sum);
+        }
+    }
+
+    private static final long BIG_BUDGET = 64L * 1024 * 1024;
+
+    @Test
+    public void testLongKeys() throws Exception {
+        checkSums(DataType.LONG, new KeyMaker() {
+            @Override
+            public Object key(int i) {
+                return Long.valueOf(i * 1000003L);
+            }
+        });
+    }
+
+    @Test
+    public void testIntKeys() throws Exception {
+        checkSums(DataType.INTEGER, new KeyMaker() {
+            @Override
+            public Object key(int i) {
+                return Integer.valueOf(-i);
+            }
+        });
+    }
+
+    @Test
+    public void testStringKeys() throws Exception {
+        checkSums(DataType.CHARARRAY, new KeyMaker() {
+            @Override
+            public Object key(int i) {
+                return "key" + i;
+            }
+        });
+    }
+
+    @Test
+    public void testTupleKeys() throws Exception {
+        checkSums(DataType.TUPLE, new KeyMaker() {
+            @Override
+            public Object key(int i) {
+                return tuple(i % 7, "k" + i);
+            }
+        });
+    }
+
+    @Test
+    public void testKeyOfUnexpectedType() throws Exception {
+        // int keys with a group all key mixed in
+        checkSums(DataType.INTEGER, new KeyMaker() {
+            @Override
+            public Object key(int i) {
+                return i % 100 == 50 ? "all" : (Object) Integer.valueOf(i);
+            }
+        });
+    }
+
+    private interface KeyMaker {
+        Object key(int i);
+    }
+
+    private void checkSums(byte keyType, KeyMaker keys) throws Exception {
+        SumCombiner combiner = new SumCombiner();
+        PartialAggTable table = new PartialAggTable(keyType, BIG_BUDGET, combiner);
+        Map<Object, Long> expected = new HashMap<Object, Long>();
+        int numKeys = 3000;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < numKeys; i++) {
+                // every third key is seen only once
+                if (i % 3 == 0 && round > 0) {
+                    continue;
+                }
+                Object key = keys.key(i);
+                long value = round * 10 + i;
+                assertTrue(table.add(key, tuple(key, value)));
+                Long old = expected.get(key);
+                expected.put(key, old == null ? value : old + value);
+            }
+        }
+        // a null key
+        for (long v = 1; v <= 40; v++) {
+            table.add(null, tuple(null, v));
+        }
+        expected.put(null, 820L);
+        assertEquals(expected.size(), table.size());
+        // rows are combined as they come in
+        assertTrue(combiner.calls > 0);
+
+        Map<Object, Long> actual = new HashMap<Object, Long>();
+        for (Tuple t = table.poll(); t != null; t = table.poll()) {
+            assertNull(actual.put(t.get(0), (Long) t.get(1)));
+        }
+        assertEquals(expected, actual);
+        assertTrue(table.isEmpty());
+
+        // the table can be used again once drained
+        assertTrue(table.add(keys.key(1), tuple(keys.key(1), 5L)));
+        assertEquals(tuple(keys.key(1), 5L), table.poll());
+        assertNull(table.poll());
+    }
+
+    @Test
+    public void testRowsAreFoldedInPlace() throws Exception {
+        SumCombiner combiner = new SumCombiner();
+        PartialAggTable table = new PartialAggTable(DataType.LONG, BIG_BUDGET, combiner);
+        table.add(1L, tuple(1L, 1L));
+        long oneRow = table.getMemorySize();
+        for (int i = 1; i < PartialAggTable.FOLD_SIZE; i++) {
+            table.add(1L, tuple(1L, 1L));
+        }
+        // the last add reached FOLD_SIZE and combined the rows into one
+        assertEquals(1, combiner.calls);
+        assertEquals(oneRow, table.getMemorySize());
+
+        table.add(1L, tuple(1L, 1L));
+        assertTrue(table.getMemorySize() > oneRow);
+        table.foldAll();
+        assertEquals(2, combiner.calls);
+        assertEquals(oneRow, table.getMemorySize());
+        assertEquals(tuple(1L, 17L), table.poll());
+    }
+
+    @Test
+    public void testBudget() throws Exception {
+        long budget = 256 * 1024;
+        PartialAggTable table = new PartialAggTable(DataType.LONG, budget, new SumCombiner());
+        long emptySize = table.getMemorySize();
+        int added = 0;
+        while (table.add((long) added, tuple((long) added, 1L))) {
+            added++;
+            assertTrue(table.getMemorySize() < budget);
+        }
+        added++;
+        assertTrue(table.isFull());
+        assertEquals(added, table.size());
+        assertTrue(table.getMemorySize() <= budget + 256);
+
+        // folding does not help as every key has one row
+        table.foldAll();
+        assertTrue(table.isFull());
+
+        int polled = 0;
+        while (table.poll() != null) {
+            polled++;
+        }
+        assertEquals(added, polled);
+        assertFalse(table.isFull());
+        // the grown key arrays are kept for the next round
+        assertTrue(table.getMemorySize() > emptySize);
+        assertTrue(table.getMemorySize() < budget);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecJob;
+import org.apache.pig.backend.hadoop.executionengine.util.PersistedMergeJoinIndex;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.tools.pigstats.PigStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestPersistedMergeJoinIndex {
+
+    private static final int FILES = 3;
+    private static final int ROWS = 100;
+
+    private File left;
+    private File right;
+    private File output;
+    private int jobs;
+
+    @Before
+    public void setUp() throws Exception {
+        left = File.createTempFile("mergejoinindex", "");
+        left.delete();
+        left.mkdir();
+        right = new File(left.getParentFile(), left.getName() + "-right");
+        right.mkdir();
+        output = new File(left.getParentFile(), left.getName() + "-out");
+        String[] rows = new String[FILES * ROWS];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i + "\tl" + i;
+        }
+        Util.createLocalInputFile(new File(left, "part-0").getAbsolutePath(), rows);
+        writeRight("r");
+    }
+
+    private void writeRight(String prefix) throws Exception {
+        for (int f = 0; f < FILES; f++) {
+            String[] rows = new String[ROWS];
+            for (int i = 0; i < ROWS; i++) {
+                int k = (f * ROWS + i) * 2;
+                rows[i] = k + "\t" + prefix + k;
+            }
+            Util.createLocalInputFile(new File(right, "part-" + f).getAbsolutePath(), rows);
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Util.deleteDirectory(left);
+        Util.deleteDirectory(right);
+        Util.deleteDirectory(output);
+    }
+
+    private PigServer register(boolean persist) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_MERGEJOIN_INDEX_PERSIST, Boolean.toString(persist));
+        PigServer pigServer = new PigServer(ExecType.LOCAL, props);
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(left.getAbsolutePath())
+                + "' as (k:int, v:chararray);");
+        pigServer.registerQuery("B = load '" + Util.encodeEscape(right.getAbsolutePath())
+                + "' as (k:int, v:chararray);");
+        pigServer.registerQuery("C = join A by k, B by k using 'merge';");
+        return pigServer;
+    }
+
+    private List<String> join(boolean persist, String prefix) throws Exception {
+        PigServer pigServer = register(persist);
+        Util.deleteDirectory(output);
+        ExecJob job = pigServer.store("C", Util.encodeEscape(output.getAbsolutePath()));
+        assertEquals(ExecJob.JOB_STATUS.COMPLETED, job.getStatus());
+        jobs = PigStats.get().getJobGraph().size();
+
+        List<String> results = new ArrayList<String>();
+        Iterator<Tuple> it = job.getResults();
+        while (it.hasNext()) {
+            results.add(it.next().toDelimitedString(","));
+        }
+        Collections.sort(results);
+        List<String> expected = new ArrayList<String>();
+        for (int k = 0; k < FILES * ROWS; k += 2) {
+            expected.add(k + ",l" + k + "," + k + "," + prefix + k);
+        }
+        Collections.sort(expected);
+        assertEquals(expected, results);
+        return indexes();
+    }
+
+    private List<String> indexes() {
+        File dir = new File(right, PersistedMergeJoinIndex.INDEX_DIR);
+        List<String> names = new ArrayList<String>();
+        if (dir.exists()) {
+            for (String name : dir.list()) {
+                if (!name.startsWith(".")) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        assertTrue(join(false, "r").isEmpty());
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        List<String> first = join(true, "r");
+        assertEquals(1, first.size());
+        assertEquals(2, jobs);
+        File index = new File(new File(right, PersistedMergeJoinIndex.INDEX_DIR), first.get(0));
+        long modified = index.lastModified();
+
+        // no indexing job, and the index is not written again
+        assertEquals(first, join(true, "r"));
+        assertEquals(1, jobs);
+        assertEquals(modified, index.lastModified());
+    }
+
+    @Test
+    public void testInputChanged() throws Exception {
+        List<String> first = join(true, "r");
+        assertEquals(1, first.size());
+        // modification times have a one second resolution on some file systems
+        Thread.sleep(1100);
+        writeRight("s");
+        List<String> second = join(true, "s");
+        assertEquals(1, second.size());
+        assertEquals(2, jobs);
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void testExplain() throws Exception {
+        register(true).explain("C", new PrintStream(new ByteArrayOutputStream()));
+        assertFalse(new File(right, PersistedMergeJoinIndex.INDEX_DIR).exists());
+
+        List<String> first = join(true, "r");
+        Thread.sleep(1100);
+        writeRight("s");
+        // the index of the earlier input is only replaced by a run
+        register(true).explain("C", new PrintStream(new ByteArrayOutputStream()));
+        assertEquals(first, indexes());
+    }
+}
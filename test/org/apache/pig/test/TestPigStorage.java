@@ -29,6 +29,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
@@ -37,6 +38,7 @@ import java.util.Properties;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapreduce.Job;
 import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigServer;
 import org.apache.pig.ResourceSchema;
 import org.apache.pig.backend.executionengine.ExecException;
@@ -510,6 +512,37 @@ public class TestPigStorage  {
         Util.checkQueryOutputs(sessions, expectedResults);
     }
 
+    @Test
+    public void testTypedLoad() throws Exception {
+        Util.createLocalInputFile(datadir + "typedinput",
+                new String[] {"a\t1\t-20000000000\t1.5\tx", "b\t-7\t12\tnotadouble",
+                "c\tnotanint\t3.0\t-0.25\ty\textra", "\t2147483648\t9223372036854775807",
+                "d\t 5 \t00\t1e3\t", "e"
+        });
+        String query = "A = LOAD '" + datadir + "typedinput' USING PigStorage('\\t', '-tagFile') "
+                + "as (file:chararray, name:chararray, i:int, l:long, d:double, s);"
+                + "B = foreach A generate file, i, l, d, name;"
+                + "C = foreach A generate s, i;";
+        List<Tuple> expectedB = loadTyped(query, "B", false);
+        List<Tuple> expectedC = loadTyped(query, "C", false);
+        assertEquals(6, expectedB.size());
+        assertEquals(tuple("typedinput", 1, -20000000000L, 1.5, "a"), expectedB.get(0));
+        assertEquals(expectedB, loadTyped(query, "B", true));
+        assertEquals(expectedC, loadTyped(query, "C", true));
+    }
+
+    private List<Tuple> loadTyped(String query, String alias, boolean typed) throws Exception {
+        pig.getPigContext().getProperties().setProperty(PigConfiguration.PIG_STORAGE_TYPED_LOAD,
+                String.valueOf(typed));
+        Util.registerMultiLineQuery(pig, query);
+        List<Tuple> results = new ArrayList<Tuple>();
+        Iterator<Tuple> it = pig.openIterator(alias);
+        while (it.hasNext()) {
+            results.add(it.next());
+        }
+        return results;
+    }
+
     @Test
     public void testPigStorageSchemaHeader() throws Exception {
         pigContext.connect();
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryComparisonOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Divide;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.EqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LTOrEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LessThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Multiply;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.NotEqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POCast;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Subtract;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.plan.PlanException;
+import org.apache.pig.test.utils.GenPhyOp;
+import org.junit.Test;
+
+/**
+ * Checks that int, long, float and double expressions evaluated through
+ * getNextPrimitive give the values the boxed operators give.
+ */
+public class TestPrimitiveExpressions {
+
+    private final TupleFactory tf = TupleFactory.getInstance();
+
+    @Test
+    public void testIntArithmeticWraps() throws Exception {
+        // (a + b) * b - a
+        ExpressionOperator a = project(0, DataType.INTEGER);
+        ExpressionOperator b = project(1, DataType.INTEGER);
+        ExpressionOperator sum = binary(new Add(GenPhyOp.getOK()), DataType.INTEGER, a, b);
+        ExpressionOperator mul = binary(new Multiply(GenPhyOp.getOK()), DataType.INTEGER,
+                sum, project(1, DataType.INTEGER));
+        ExpressionOperator sub = binary(new Subtract(GenPhyOp.getOK()), DataType.INTEGER,
+                mul, project(0, DataType.INTEGER));
+        assertTrue(((BinaryExpressionOperator) sub).supportsPrimitive(DataType.INTEGER));
+        PhysicalPlan plan = toPlan(sub);
+
+        int[][] values = { {1, 2}, {Integer.MAX_VALUE, 1}, {Integer.MIN_VALUE, -1},
+                {-7, 65536}, {123456, 54321} };
+        for (int[] v : values) {
+            Integer expected = Integer.valueOf((v[0] + v[1]) * v[1] - v[0]);
+            assertEquals(expected, eval(plan, sub, DataType.INTEGER, v[0], v[1]).result);
+        }
+        assertNull(eval(plan, sub, DataType.INTEGER, null, 1).result);
+        assertNull(eval(plan, sub, DataType.INTEGER, 1, null).result);
+    }
+
+    @Test
+    public void testLongAndDoubleArithmetic() throws Exception {
+        ExpressionOperator lsum = binary(new Add(GenPhyOp.getOK()), DataType.LONG,
+                project(0, DataType.LONG), constant(7L, DataType.LONG));
+        PhysicalPlan lplan = toPlan(lsum);
+        assertEquals(Long.MIN_VALUE + 6, eval(lplan, lsum, DataType.LONG, Long.MAX_VALUE, 0L).result);
+        assertEquals(10L, eval(lplan, lsum, DataType.LONG, 3L, 0L).result);
+
+        ExpressionOperator dmul = binary(new Multiply(GenPhyOp.getOK()), DataType.DOUBLE,
+                project(0, DataType.DOUBLE), project(1, DataType.DOUBLE));
+        PhysicalPlan dplan = toPlan(dmul);
+        assertEquals(0.1d * 3.3d, eval(dplan, dmul, DataType.DOUBLE, 0.1d, 3.3d).result);
+        assertEquals(Double.NaN, eval(dplan, dmul, DataType.DOUBLE, Double.POSITIVE_INFINITY, 0d).result);
+        assertEquals(-0.0d, eval(dplan, dmul, DataType.DOUBLE, -1d, 0d).result);
+        assertNull(eval(dplan, dmul, DataType.DOUBLE, null, 2d).result);
+    }
+
+    @Test
+    public void testFloatRounding() throws Exception {
+        // a - b + a, rounded to float after each operation
+        ExpressionOperator sub = binary(new Subtract(GenPhyOp.getOK()), DataType.FLOAT,
+                project(0, DataType.FLOAT), project(1, DataType.FLOAT));
+        ExpressionOperator add = binary(new Add(GenPhyOp.getOK()), DataType.FLOAT,
+                sub, project(0, DataType.FLOAT));
+        PhysicalPlan plan = toPlan(add);
+        float[][] values = { {0.1f, 0.7f}, {1e30f, -1e30f}, {16777216f, 1f}, {3.3f, 1e-8f} };
+        for (float[] v : values) {
+            Float expected = Float.valueOf(v[0] - v[1] + v[0]);
+            assertEquals(expected, eval(plan, add, DataType.FLOAT, v[0], v[1]).result);
+        }
+    }
+
+    @Test
+    public void testComparisons() throws Exception {
+        Object[][] doubles = { {1d, 2d}, {2d, 1d}, {1d, 1d}, {-0.0d, 0.0d}, {Double.NaN, 1d},
+                {Double.NaN, Double.NaN}, {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE},
+                {null, 1d}, {1d, null} };
+        Object[][] longs = { {1L, 2L}, {2L, 1L}, {5L, 5L}, {Long.MIN_VALUE, Long.MAX_VALUE},
+                {null, 1L}, {1L, null} };
+        for (BinaryComparisonOperator op : newComparisons()) {
+            checkComparison(op, DataType.DOUBLE, doubles);
+        }
+        for (BinaryComparisonOperator op : newComparisons()) {
+            checkComparison(op, DataType.LONG, longs);
+        }
+    }
+
+    private List<BinaryComparisonOperator> newComparisons() {
+        List<BinaryComparisonOperator> ops = new ArrayList<BinaryComparisonOperator>();
+        ops.add(new EqualToExpr(GenPhyOp.getOK()));
+        ops.add(new NotEqualToExpr(GenPhyOp.getOK()));
+        ops.add(new GreaterThanExpr(GenPhyOp.getOK()));
+        ops.add(new GTOrEqualToExpr(GenPhyOp.getOK()));
+        ops.add(new LessThanExpr(GenPhyOp.getOK()));
+        ops.add(new LTOrEqualToExpr(GenPhyOp.getOK()));
+        return ops;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void checkComparison(BinaryComparisonOperator op, byte type, Object[][] values)
+            throws Exception {
+        binary(op, DataType.BOOLEAN, project(0, type), project(1, type));
+        PhysicalPlan plan = toPlan(op);
+        for (Object[] v : values) {
+            Result r = eval(plan, op, DataType.BOOLEAN, v[0], v[1]);
+            assertEquals(POStatus.STATUS_OK, r.returnStatus);
+            if (v[0] == null || v[1] == null) {
+                assertNull(r.result);
+                continue;
+            }
+            int c = ((Comparable) v[0]).compareTo(v[1]);
+            boolean expected;
+            if (op instanceof EqualToExpr) {
+                expected = c == 0;
+            } else if (op instanceof NotEqualToExpr) {
+                expected = c != 0;
+            } else if (op instanceof GreaterThanExpr) {
+                expected = c > 0;
+            } else if (op instanceof GTOrEqualToExpr) {
+                expected = c >= 0;
+            } else if (op instanceof LessThanExpr) {
+                expected = c < 0;
+            } else {
+                expected = c <= 0;
+            }
+            assertEquals(op.name() + " " + v[0] + ", " + v[1], expected, r.result);
+        }
+    }
+
+    @Test
+    public void testNumericCasts() throws Exception {
+        // (long) a + b where a is a double
+        POCast cast = new POCast(GenPhyOp.getOK());
+        cast.setResultType(DataType.LONG);
+        ExpressionOperator a = project(0, DataType.DOUBLE);
+        List<PhysicalOperator> in = new ArrayList<PhysicalOperator>();
+        in.add(a);
+        cast.setInputs(in);
+        ExpressionOperator b = project(1, DataType.LONG);
+        ExpressionOperator add = binary(new Add(GenPhyOp.getOK()), DataType.LONG, cast, b);
+        assertTrue(cast.supportsPrimitive(DataType.LONG));
+
+        PhysicalPlan plan = new PhysicalPlan();
+        plan.add(a);
+        plan.add(cast);
+        plan.add(b);
+        plan.add(add);
+        plan.connect(a, cast);
+        plan.connect(cast, add);
+        plan.connect(b, add);
+
+        double[] values = { 1.9d, -1.9d, Double.NaN, 1e30d, -1e30d };
+        for (double d : values) {
+            assertEquals(Long.valueOf(((Double) d).longValue() + 1L),
+                    eval(plan, add, DataType.LONG, d, 1L).result);
+        }
+        assertNull(eval(plan, add, DataType.LONG, null, 1L).result);
+
+        // a bytearray cannot be unboxed, so a cast from it stays boxed
+        POCast fromBytes = new POCast(GenPhyOp.getOK());
+        fromBytes.setResultType(DataType.LONG);
+        List<PhysicalOperator> bytesIn = new ArrayList<PhysicalOperator>();
+        bytesIn.add(project(0, DataType.BYTEARRAY));
+        fromBytes.setInputs(bytesIn);
+        assertFalse(fromBytes.supportsPrimitive(DataType.LONG));
+    }
+
+    @Test
+    public void testUnsupportedOperandStaysBoxed() throws Exception {
+        ExpressionOperator div = binary(new Divide(GenPhyOp.getOK()), DataType.INTEGER,
+                project(0, DataType.INTEGER), constant(2, DataType.INTEGER));
+        ExpressionOperator add = binary(new Add(GenPhyOp.getOK()), DataType.INTEGER,
+                div, project(1, DataType.INTEGER));
+        assertFalse(add.supportsPrimitive(DataType.INTEGER));
+        PhysicalPlan plan = toPlan(add);
+        assertEquals(Integer.valueOf(8), eval(plan, add, DataType.INTEGER, 9, 4).result);
+        assertNull(eval(plan, add, DataType.INTEGER, null, 4).result);
+    }
+
+    @Test
+    public void testResultIsReused() throws Exception {
+        ExpressionOperator add = binary(new Add(GenPhyOp.getOK()), DataType.LONG,
+                project(0, DataType.LONG), project(1, DataType.LONG));
+        ExpressionOperator gt = binary(new GreaterThanExpr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                add, constant(10L, DataType.LONG));
+        ((BinaryComparisonOperator) gt).setOperandType(DataType.LONG);
+        PhysicalPlan plan = toPlan(gt);
+
+        Result first = eval(plan, gt, DataType.BOOLEAN, 1L, 2L);
+        assertEquals(Boolean.FALSE, first.result);
+        Result second = eval(plan, gt, DataType.BOOLEAN, 10L, 2L);
+        assertEquals(Boolean.TRUE, second.result);
+        assertSame(first, second);
+
+        Result sum1 = eval(plan, add, DataType.LONG, 1L, 2L);
+        Result sum2 = eval(plan, add, DataType.LONG, 3L, 4L);
+        assertSame(sum1, sum2);
+        assertEquals(7L, sum2.result);
+    }
+
+    private Result eval(PhysicalPlan plan, ExpressionOperator root, byte type, Object... fields)
+            throws Exception {
+        Tuple t = tf.newTuple(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            t.set(i, fields[i]);
+        }
+        plan.attachInput(t);
+        Result r = root.getNext(type);
+        plan.detachInput();
+        return r;
+    }
+
+    private ExpressionOperator binary(BinaryExpressionOperator op, byte resultType,
+            ExpressionOperator lhs, ExpressionOperator rhs) {
+        op.setLhs(lhs);
+        op.setRhs(rhs);
+        op.setResultType(resultType);
+        if (op instanceof BinaryComparisonOperator) {
+            ((BinaryComparisonOperator) op).setOperandType(lhs.getResultType());
+        }
+        return op;
+    }
+
+    private POProject project(int col, byte type) {
+        POProject p = new POProject(GenPhyOp.getOK(), -1, col);
+        p.setResultType(type);
+        return p;
+    }
+
+    private ConstantExpression constant(Object value, byte type) {
+        ConstantExpression c = new ConstantExpression(GenPhyOp.getOK());
+        c.setValue(value);
+        c.setResultType(type);
+        return c;
+    }
+
+    /**
+     * Adds the tree under root to a plan, so that attachInput reaches every
+     * leaf.
+     */
+    private PhysicalPlan toPlan(ExpressionOperator root) throws PlanException {
+        PhysicalPlan plan = new PhysicalPlan();
+        addToPlan(plan, root);
+        return plan;
+    }
+
+    private void addToPlan(PhysicalPlan plan, ExpressionOperator op) throws PlanException {
+        plan.add(op);
+        if (op instanceof BinaryExpressionOperator) {
+            BinaryExpressionOperator bin = (BinaryExpressionOperator) op;
+            addToPlan(plan, bin.getLhs());
+            addToPlan(plan, bin.getRhs());
+            plan.connect(bin.getLhs(), op);
+            plan.connect(bin.getRhs(), op);
+        }
+    }
+}
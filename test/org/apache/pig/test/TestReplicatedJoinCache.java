@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.resetData;
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinCache;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinTable;
+import org.apache.pig.builtin.mock.Storage.Data;
+import org.apache.pig.data.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestReplicatedJoinCache {
+
+    private ReplicatedJoinCache cache = ReplicatedJoinCache.getInstance();
+
+    @Before
+    @After
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private static List<Map<? extends Object, ? extends List<Tuple>>> tables(int rows) throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        for (int i = 0; i < rows; i++) {
+            table.add(i, tuple(i, "v" + i));
+        }
+        table.trimToSize();
+        return Arrays.<Map<? extends Object, ? extends List<Tuple>>>asList(null, table);
+    }
+
+    private static long size(List<Map<? extends Object, ? extends List<Tuple>>> tables) {
+        return ((ReplicatedJoinTable) tables.get(1)).getMemorySize();
+    }
+
+    @Test
+    public void testGetAndPut() throws Exception {
+        Object task1 = new Object();
+        Object task2 = new Object();
+        assertNull(cache.get("a", task1));
+        List<Map<? extends Object, ? extends List<Tuple>>> a = tables(100);
+        assertSame(a, cache.put("a", a, task1, 1L << 30));
+        assertEquals(size(a), cache.getMemorySize());
+        assertSame(a, cache.get("a", task2));
+
+        // a task that built the same tables meanwhile gets the cached ones
+        assertSame(a, cache.put("a", tables(100), task2, 1L << 30));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testSizeBound() throws Exception {
+        List<Map<? extends Object, ? extends List<Tuple>>> a = tables(1000);
+        long max = size(a) * 2 + size(a) / 2;
+        Object task = new Object();
+        cache.put("a", a, task, max);
+        cache.put("b", tables(1000), task, max);
+        // no room, and the others are in use
+        List<Map<? extends Object, ? extends List<Tuple>>> c = tables(1000);
+        assertSame(c, cache.put("c", c, task, max));
+        assertEquals(2, cache.size());
+        assertNull(cache.get("c", task));
+
+        // too large to cache at all
+        assertSame(c, cache.put("d", c, new Object(), size(c) - 1));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictUnreferenced() throws Exception {
+        List<Map<? extends Object, ? extends List<Tuple>>> a = tables(1000);
+        Object task1 = new Object();
+        cache.put("a", a, task1, 1L << 30);
+        cache.put("b", tables(1000), new Object(), 1L << 30);
+        cache.put("c", tables(1000), new Object(), 1L << 30);
+        // only task1 is still reachable
+        for (int i = 0; i < 20 && cache.getUnreferencedSize() < cache.getMemorySize() - size(a); i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        long unreferenced = cache.getUnreferencedSize();
+        assertEquals(cache.getMemorySize() - size(a), unreferenced);
+
+        // the least recently used unreferenced table makes room for a new one
+        List<Map<? extends Object, ? extends List<Tuple>>> d = tables(1000);
+        assertSame(d, cache.put("d", d, task1, cache.getMemorySize()));
+        assertNull(cache.get("b", task1));
+        assertEquals(3, cache.size());
+
+        // the memory manager takes the rest
+        assertEquals(unreferenced / 2, cache.spill());
+        assertEquals(2, cache.size());
+        assertSame(a, cache.get("a", task1));
+        assertSame(d, cache.get("d", task1));
+        assertEquals(0, cache.spill());
+    }
+
+    @Test
+    public void testReplicatedJoin() throws Exception {
+        List<Tuple> expected = runJoin(0);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, runJoin(1L << 30));
+        assertEquals(1, cache.size());
+    }
+
+    private List<Tuple> runJoin(long cacheBytes) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_JOIN_REPLICATED_CACHE_BYTES, String.valueOf(cacheBytes));
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), props);
+        Data data = resetData(pigServer);
+        List<Tuple> big = new ArrayList<Tuple>();
+        for (int i = 0; i < 100; i++) {
+            big.add(tuple(i % 7, "b" + i));
+        }
+        List<Tuple> small = new ArrayList<Tuple>();
+        for (int i = 0; i < 20; i++) {
+            small.add(tuple(i % 5, "s" + i));
+        }
+        data.set("big", "k:int,b:chararray", big);
+        data.set("small", "k:int,s:chararray", small);
+        pigServer.registerQuery("A = load 'big' using mock.Storage();");
+        pigServer.registerQuery("B = load 'small' using mock.Storage();");
+        pigServer.registerQuery("C = join A by k, B by k using 'replicated';");
+        List<Tuple> out = new ArrayList<Tuple>();
+        Iterator<Tuple> it = pigServer.openIterator("C");
+        while (it.hasNext()) {
+            out.add(it.next());
+        }
+        return out;
+    }
+}
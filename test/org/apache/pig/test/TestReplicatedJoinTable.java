@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.resetData;
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.ReplicatedJoinTable;
+import org.apache.pig.builtin.mock.Storage.Data;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DefaultTuple;
+import org.apache.pig.data.Tuple;
+import org.junit.Test;
+
+public class TestReplicatedJoinTable {
+
+    @Test
+    public void testLookup() throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        Map<Object, List<Tuple>> expected = new HashMap<Object, List<Tuple>>();
+        // enough keys to grow the index a few times
+        for (int i = 0; i < 20000; i++) {
+            Object key = i % 2 == 0 ? (Object) Integer.valueOf(i % 5000) : "k" + (i % 3000);
+            Tuple value = tuple(key, i, "v" + i);
+            table.add(key, value);
+            List<Tuple> values = expected.get(key);
+            if (values == null) {
+                values = new ArrayList<Tuple>();
+                expected.put(key, values);
+            }
+            values.add(value);
+        }
+        assertEquals(expected.size(), table.size());
+        assertEquals(20000, table.getNumValues());
+        for (Map.Entry<Object, List<Tuple>> e : expected.entrySet()) {
+            // values come back in the order they were added
+            assertEquals(e.getValue(), table.get(e.getKey()));
+        }
+        assertNull(table.get(5000));
+        assertNull(table.get("k3000"));
+        assertFalse(table.containsKey(-1));
+        assertNull(table.get(null));
+        assertEquals(expected, new HashMap<Object, List<Tuple>>(table));
+    }
+
+    @Test
+    public void testTupleKeys() throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        table.add(tuple(1, "a"), tuple(1, "a", 1.0));
+        table.add(tuple(1, "a"), tuple(1, "a", 2.0));
+        table.add(tuple(2, null), tuple(2, null, 3.0));
+        table.add(null, tuple(null, null, 4.0));
+        assertEquals(2, table.size());
+        assertEquals(3, table.getNumValues());
+        assertEquals(Collections.singletonList(tuple(2, null, 3.0)), table.get(tuple(2, null)));
+
+        // keys of another tuple class find the same rows
+        Tuple probe = new DefaultTuple();
+        probe.append(1);
+        probe.append("a");
+        List<Tuple> values = table.get(probe);
+        assertEquals(2, values.size());
+        assertEquals(tuple(1, "a", 1.0), values.get(0));
+        assertEquals(tuple(1, "a", 2.0), values.get(1));
+        assertNull(table.get(tuple(1, "b")));
+    }
+
+    @Test
+    public void testLargeValues() throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        // values larger than a slab get a slab of their own
+        byte[] big = new byte[3 << 20];
+        big[big.length - 1] = 7;
+        table.add(1L, tuple(1L, new DataByteArray(big)));
+        table.add(2L, tuple(2L, "small"));
+        table.add(1L, tuple(1L, "after"));
+        List<Tuple> values = table.get(1L);
+        assertEquals(2, values.size());
+        assertEquals(new DataByteArray(big), values.get(0).get(1));
+        assertEquals("after", values.get(1).get(1));
+        assertEquals(Collections.singletonList(tuple(2L, "small")), table.get(2L));
+    }
+
+    @Test
+    public void testMemorySize() throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        long empty = table.getMemorySize();
+        for (int i = 0; i < 10000; i++) {
+            table.add(i, tuple(i, "value" + i));
+        }
+        long full = table.getMemorySize();
+        assertTrue(full > empty);
+        table.trimToSize();
+        long trimmed = table.getMemorySize();
+        assertTrue(trimmed < full);
+        // about 20 serialized bytes and a 32 byte index slot per row
+        assertTrue("size " + trimmed, trimmed < 10000 * 100);
+        assertEquals(tuple(42, "value42"), table.get(42).get(0));
+
+        // rows can still be added after trimming
+        table.add(42, tuple(42, "more"));
+        assertEquals(2, table.get(42).size());
+    }
+
+    @Test
+    public void testReplicatedJoin() throws Exception {
+        List<Tuple> expected = runJoin(false);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, runJoin(true));
+    }
+
+    private List<Tuple> runJoin(boolean compact) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_JOIN_REPLICATED_COMPACT, String.valueOf(compact));
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), props);
+        Data data = resetData(pigServer);
+        List<Tuple> big = new ArrayList<Tuple>();
+        for (int i = 0; i < 200; i++) {
+            big.add(tuple(i % 17, "b" + i));
+        }
+        List<Tuple> small = new ArrayList<Tuple>();
+        for (int i = 0; i < 30; i++) {
+            small.add(tuple(i % 13 == 5 ? null : i % 10, "s" + i));
+        }
+        data.set("big", "k:int,b:chararray", big);
+        data.set("small", "k:int,s:chararray", small);
+        pigServer.registerQuery("A = load 'big' using mock.Storage();");
+        pigServer.registerQuery("B = load 'small' using mock.Storage();");
+        pigServer.registerQuery("C = join A by k left outer, B by k using 'replicated';");
+        List<Tuple> out = new ArrayList<Tuple>();
+        Iterator<Tuple> it = pigServer.openIterator("C");
+        while (it.hasNext()) {
+            out.add(it.next());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.tools.pigstats.StatisticsCatalog;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestStatisticsCatalog {
+
+    private static File input;
+    private static File catalogFile;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        String[] data = new String[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = String.valueOf(i);
+        }
+        input = Util.createFile(data);
+        catalogFile = File.createTempFile("stats", ".catalog");
+        catalogFile.delete();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        input.delete();
+        catalogFile.delete();
+    }
+
+    @Test
+    public void testSignature() {
+        assertEquals("A,B|/a,/b", StatisticsCatalog.getSignature("A,B", Arrays.asList("/b", "/a")));
+        // temporary files change from run to run
+        assertEquals("A|/a", StatisticsCatalog.getSignature("A",
+                Arrays.asList("/a", "hdfs://nn/tmp/temp-1234/tmp5678")));
+        assertTrue(StatisticsCatalog.isTemporary("file:/tmp/temp1234/tmp-5678"));
+        assertFalse(StatisticsCatalog.isTemporary("/data/temperature/tmp"));
+    }
+
+    @Test
+    public void testRecordRun() throws Exception {
+        File output = new File(catalogFile.getParentFile(), "stats-catalog-out");
+        Util.deleteDirectory(output);
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_STATS_CATALOG, catalogFile.getAbsolutePath());
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), props);
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(input.getAbsolutePath()) + "' as (a:int);");
+        pigServer.registerQuery("B = filter A by a < 25;");
+        pigServer.registerQuery("C = group B by a;");
+        pigServer.registerQuery("D = foreach C generate group, COUNT(B);");
+        pigServer.store("D", Util.encodeEscape(output.getAbsolutePath()));
+        Util.deleteDirectory(output);
+
+        StatisticsCatalog catalog = new StatisticsCatalog(catalogFile);
+        String inputLocation = "file://" + input.getAbsolutePath();
+        if (catalog.getRecords(inputLocation) == -1) {
+            inputLocation = input.getAbsolutePath();
+        }
+        assertEquals(100, catalog.getRecords(inputLocation));
+        assertEquals(25, catalog.getRecords(output.getAbsolutePath()));
+
+        // the job that reads the input keeps a quarter of the records
+        Properties entries = new Properties();
+        InputStream in = new FileInputStream(catalogFile);
+        entries.load(in);
+        in.close();
+        boolean found = false;
+        for (String key : entries.stringPropertyNames()) {
+            if (key.startsWith("selectivity.") && key.endsWith("|" + inputLocation)) {
+                assertEquals(0.25, Double.parseDouble(entries.getProperty(key)), 0.001);
+                found = true;
+            }
+        }
+        assertTrue(entries.toString(), found);
+    }
+}
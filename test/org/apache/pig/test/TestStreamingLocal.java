@@ -20,9 +20,12 @@ package org.apache.pig.test;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Properties;
 
 import org.apache.pig.ExecType;
+import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigServer;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.builtin.PigStorage;
@@ -374,6 +377,57 @@ public class TestStreamingLocal {
         }
     }
 
+    @Test
+    public void testParallelProcesses() throws Exception {
+        String[] lines = new String[5000];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "k" + (i % 10) + "," + i;
+        }
+        File input = Util.createInputFile("tmp", "", lines);
+
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_STREAMING_PROCESSES, "3");
+        props.setProperty(PigConfiguration.PIG_STREAMING_QUEUE_SIZE, "64");
+        props.setProperty(PigConfiguration.PIG_STREAMING_BUFFER_SIZE, "1024");
+        pigServer.shutdown();
+        pigServer = new PigServer(Util.getLocalTestMode(), props);
+        pigServer.registerQuery("IP = load '" +
+                Util.generateURI(input.toString(), pigServer.getPigContext()) +
+                "' using " + PigStorage.class.getName() + "(',');");
+        pigServer.registerQuery("OP = stream IP through `" +
+                simpleEchoStreamingCommand + "` as (f0:chararray, f1:int);");
+
+        // the output of the processes is merged in no particular order
+        Tuple[] expectedResults = new Tuple[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            expectedResults[i] = tf.newTuple(2);
+            expectedResults[i].set(0, "k" + (i % 10));
+            expectedResults[i].set(1, i);
+        }
+        Util.checkQueryOutputsAfterSort(pigServer.openIterator("OP"), Arrays.asList(expectedResults));
+    }
+
+    @Test
+    public void testParallelProcessesFailure() throws Exception {
+        File input = Util.createInputFile("tmp", "", new String[] { "1", "2", "3", "4" });
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_STREAMING_PROCESSES, "2");
+        pigServer.shutdown();
+        pigServer = new PigServer(Util.getLocalTestMode(), props);
+        pigServer.registerQuery("IP = load '" +
+                Util.generateURI(input.toString(), pigServer.getPigContext()) + "';");
+        pigServer.registerQuery("OP = stream IP through `perl -ne 'exit 3 if /3/; print $_'`;");
+        try {
+            Iterator<Tuple> it = pigServer.openIterator("OP");
+            while (it.hasNext()) {
+                it.next();
+            }
+            Assert.fail("Stream through a failing command did not fail");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
     @Test
     // Perl script with a syntax error, See PIG-4976
     public void testNegativeScriptSyntaxError() throws IOException {
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Properties;
+
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecJob;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.newplan.logical.optimizer.SubPlanCache;
+import org.apache.pig.tools.pigstats.PigStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSubPlanCache {
+
+    private static final String SCHEMA = "k:int, s:chararray, t:chararray";
+
+    private File left;
+    private File right;
+    private File cache;
+    private File output;
+    private PigServer pigServer;
+
+    @Before
+    public void setUp() throws Exception {
+        left = Util.createFile(new String[] { "1\ta", "2\tb", "3\tc", "4\td" });
+        right = Util.createFile(new String[] { "1\tx", "3\ty", "3\tz" });
+        cache = File.createTempFile("subplancache", "");
+        cache.delete();
+        output = new File(cache.getParentFile(), cache.getName() + "-out");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        left.delete();
+        right.delete();
+        Util.deleteDirectory(cache);
+        Util.deleteDirectory(output);
+    }
+
+    private void register(Properties props, String filter) throws Exception {
+        props.setProperty(PigConfiguration.PIG_SUBPLAN_CACHE_DIR, cache.getAbsolutePath());
+        pigServer = new PigServer(Util.getLocalTestMode(), props);
+        pigServer.registerQuery("A = load '" + Util.encodeEscape(left.getAbsolutePath())
+                + "' as (k:int, s:chararray);");
+        pigServer.registerQuery("A = filter A by " + filter + ";");
+        pigServer.registerQuery("B = load '" + Util.encodeEscape(right.getAbsolutePath())
+                + "' as (k:int, t:chararray);");
+        pigServer.registerQuery("C = join A by k, B by k;");
+        pigServer.registerQuery("D = foreach C generate A::k, s, t;");
+    }
+
+    private PigStats run(Properties props, String filter, String[] expected) throws Exception {
+        register(props, filter);
+        Util.deleteDirectory(output);
+        ExecJob job = pigServer.store("D", Util.encodeEscape(output.getAbsolutePath()));
+        assertEquals(ExecJob.JOB_STATUS.COMPLETED, job.getStatus());
+
+        pigServer.registerQuery("O = load '" + Util.encodeEscape(output.getAbsolutePath())
+                + "' as (" + SCHEMA + ");");
+        Iterator<Tuple> it = pigServer.openIterator("O");
+        Util.checkQueryOutputsAfterSortRecursive(it, expected, SCHEMA);
+        return job.getStatistics();
+    }
+
+    private PigStats run(Properties props) throws Exception {
+        return run(props, "k > 1", new String[] { "(3,c,y)", "(3,c,z)" });
+    }
+
+    private String explain(Properties props, String filter) throws Exception {
+        register(props, filter);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        pigServer.explain("D", new PrintStream(baos));
+        return baos.toString();
+    }
+
+    private String[] getEntries() {
+        String[] entries = cache.list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(".entry");
+            }
+        });
+        return entries == null ? new String[0] : entries;
+    }
+
+    @Test
+    public void testHit() throws Exception {
+        PigStats stats = run(new Properties());
+        assertEquals(0, stats.getSubPlanCacheHits());
+        assertEquals(1, getEntries().length);
+
+        stats = run(new Properties());
+        assertEquals(1, stats.getSubPlanCacheHits());
+        assertEquals(2, stats.getSubPlanCacheRecords());
+        assertTrue(stats.getSubPlanCacheBytes() > 0);
+        assertEquals(1, getEntries().length);
+    }
+
+    @Test
+    public void testDifferentPlan() throws Exception {
+        run(new Properties());
+        PigStats stats = run(new Properties(), "k > 2", new String[] { "(3,c,y)", "(3,c,z)" });
+        assertEquals(0, stats.getSubPlanCacheHits());
+        assertEquals(2, getEntries().length);
+    }
+
+    @Test
+    public void testInputChanged() throws Exception {
+        run(new Properties());
+        left.delete();
+        Util.createLocalInputFile(left.getAbsolutePath(), new String[] { "1\ta", "3\tc", "3\te" });
+        PigStats stats = run(new Properties(), "k > 1",
+                new String[] { "(3,c,y)", "(3,c,z)", "(3,e,y)", "(3,e,z)" });
+        assertEquals(0, stats.getSubPlanCacheHits());
+    }
+
+    @Test
+    public void testNondeterministic() throws Exception {
+        run(new Properties(), "RANDOM() >= 0", new String[] { "(1,a,x)", "(3,c,y)", "(3,c,z)" });
+        assertEquals(0, getEntries().length);
+    }
+
+    @Test
+    public void testExplain() throws Exception {
+        run(new Properties());
+        assertEquals(1, getEntries().length);
+        String[] results = cache.list();
+        Arrays.sort(results);
+
+        // the result expired, but explain must neither remove nor replace it
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_SUBPLAN_CACHE_TTL, "-1");
+        String plan = explain(props, "k > 1");
+        assertFalse(plan.contains(SubPlanCache.CACHE_LOAD));
+        assertFalse(plan.contains(SubPlanCache.CACHE_STORE));
+        String[] after = cache.list();
+        Arrays.sort(after);
+        assertArrayEquals(results, after);
+
+        PigStats stats = run(new Properties());
+        assertEquals(1, stats.getSubPlanCacheHits());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_SUBPLAN_CACHE_MAX_BYTES, "0");
+        run(props);
+        assertEquals(0, getEntries().length);
+
+        props = new Properties();
+        props.setProperty(PigConfiguration.PIG_SUBPLAN_CACHE_TTL, "-1");
+        run(props);
+        assertEquals(0, getEntries().length);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.InternalDistinctBag;
+import org.apache.pig.data.InternalSortedBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.TaskMemoryPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestTaskMemoryPool {
+
+    private static final long POOL_SIZE = 1024 * 1024;
+
+    @Before
+    public void setUp() {
+        Configuration conf = new Configuration();
+        conf.setLong(PigConfiguration.PIG_TASK_MEMORY_POOL, POOL_SIZE);
+        PigMapReduce.sJobConfInternal.set(conf);
+        TaskMemoryPool.staticDataCleanup();
+    }
+
+    @After
+    public void tearDown() {
+        PigMapReduce.sJobConfInternal.set(new Configuration());
+        TaskMemoryPool.staticDataCleanup();
+    }
+
+    @Test
+    public void testReservations() throws Exception {
+        TaskMemoryPool pool = new TaskMemoryPool(1000000);
+        TaskMemoryPool.Reservation r1 = pool.newReservation();
+        TaskMemoryPool.Reservation r2 = pool.newReservation();
+        assertTrue(r1.reserve(100));
+        // reservations grow by a chunk at least
+        assertTrue(r1.getBytes() >= 64 * 1024);
+        assertTrue(r1.reserve(600000));
+        assertFalse(r2.reserve(500000));
+        assertEquals(1, pool.getDenied());
+        r1.shrink(400000);
+        assertEquals(400000, r1.getBytes());
+        assertTrue(r2.reserve(500000));
+        assertEquals(pool.getReserved(), r1.getBytes() + r2.getBytes());
+        assertTrue(pool.getReserved() <= pool.getCapacity());
+        r1.release();
+        r2.release();
+        assertEquals(0, pool.getReserved());
+        assertTrue(pool.getPeak() >= 900000);
+    }
+
+    @Test
+    public void testDroppedReservationsAreReclaimed() throws Exception {
+        TaskMemoryPool pool = new TaskMemoryPool(1000000);
+        assertTrue(pool.newReservation().reserve(900000));
+        TaskMemoryPool.Reservation r = pool.newReservation();
+        boolean reserved = false;
+        for (int i = 0; i < 20 && !reserved; i++) {
+            System.gc();
+            Thread.sleep(50);
+            reserved = r.reserve(500000);
+        }
+        assertTrue(reserved);
+        assertEquals(r.getBytes(), pool.getReserved());
+    }
+
+    @Test
+    public void testPoolFromConfiguration() throws Exception {
+        TaskMemoryPool pool = TaskMemoryPool.getInstance();
+        assertNotNull(pool);
+        assertEquals(POOL_SIZE, pool.getCapacity());
+        PigMapReduce.sJobConfInternal.set(new Configuration());
+        TaskMemoryPool.staticDataCleanup();
+        assertNull(TaskMemoryPool.getInstance());
+    }
+
+    @Test
+    public void testBagsShareThePool() throws Exception {
+        // three bags growing at once, each with more data than the pool
+        DataBag cached = new InternalCachedBag(3);
+        DataBag sorted = new InternalSortedBag(3, null);
+        DataBag distinct = new InternalDistinctBag(3);
+        int num = 20000;
+        List<Tuple> expected = new ArrayList<Tuple>();
+        for (int i = 0; i < num; i++) {
+            Tuple t = tuple(num - i, "a value that is long enough to fill the pool " + i);
+            expected.add(t);
+            cached.add(t);
+            sorted.add(t);
+            distinct.add(t);
+            distinct.add(t);
+        }
+        TaskMemoryPool pool = TaskMemoryPool.getInstance();
+        assertTrue(pool.getDenied() > 0);
+        assertTrue(pool.getPeak() <= POOL_SIZE);
+
+        assertEquals(expected, toList(cached));
+        // the tuples were added in descending order of their first field
+        Collections.reverse(expected);
+        assertEquals(expected, toList(sorted));
+        assertEquals(expected, toList(distinct));
+
+        cached.clear();
+        sorted.clear();
+        distinct.clear();
+        assertEquals(0, pool.getReserved());
+    }
+
+    @Test
+    public void testBackgroundSpillReleases() throws Exception {
+        PigMapReduce.sJobConfInternal.get().setBoolean(PigConfiguration.PIG_SORTEDBAG_PARALLEL, true);
+        DataBag bag = new InternalSortedBag(1, null);
+        int num = 5000;
+        for (int i = 0; i < num; i++) {
+            bag.add(tuple(i, "value " + i));
+        }
+        TaskMemoryPool pool = TaskMemoryPool.getInstance();
+        long reserved = pool.getReserved();
+        assertTrue(reserved > 0);
+
+        bag.spill();
+        Iterator<Tuple> it = bag.iterator();
+        // the spilled tuples are not reserved anymore once written
+        assertTrue(pool.getReserved() < reserved);
+        for (int i = 0; i < num; i++) {
+            assertEquals(i, it.next().get(0));
+        }
+        assertFalse(it.hasNext());
+        bag.clear();
+    }
+
+    private static List<Tuple> toList(DataBag bag) {
+        List<Tuple> list = new ArrayList<Tuple>();
+        for (Iterator<Tuple> it = bag.iterator(); it.hasNext();) {
+            list.add(it.next());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.apache.pig.builtin.mock.Storage.resetData;
+import static org.apache.pig.builtin.mock.Storage.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryComparisonOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Divide;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.EqualToExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.LessThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Multiply;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POAnd;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PONot;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POOr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Subtract;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.UnaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLimit;
+import org.apache.pig.builtin.mock.Storage.Data;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.plan.PlanException;
+import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.test.utils.GenPhyOp;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that POFilter and POForEach give the same results whether they run
+ * a tuple or a batch at a time.
+ */
+public class TestVectorizedExecution {
+
+    private static final int ROWS = 5000;
+
+    private List<Tuple> input;
+
+    @Before
+    public void setUp() throws Exception {
+        TupleFactory tf = TupleFactory.getInstance();
+        Random r = new Random(42L);
+        input = new ArrayList<Tuple>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            if (i % 97 == 0) {
+                // too short, the missing columns read as null
+                input.add(tf.newTuple(1));
+                continue;
+            }
+            Tuple t = tf.newTuple(5);
+            t.set(0, r.nextInt(7) == 0 ? null : r.nextInt(1000));
+            t.set(1, r.nextInt(7) == 0 ? null : r.nextLong());
+            t.set(2, r.nextInt(7) == 0 ? null : r.nextDouble() * 1000);
+            t.set(3, r.nextInt(7) == 0 ? null : "s" + r.nextInt(20));
+            t.set(4, r.nextInt(7) == 0 ? null : Integer.MAX_VALUE - r.nextInt(10));
+            input.add(t);
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        PigMapReduce.sJobConfInternal.set(null);
+    }
+
+    @Test
+    public void testFilter() throws Exception {
+        assertSameResults(new PipelineBuilder() {
+            @Override
+            public PhysicalOperator build(PhysicalOperator source) throws Exception {
+                // a > 500
+                return filter(source, binary(new GreaterThanExpr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.INTEGER, project(0, DataType.INTEGER), constant(500, DataType.INTEGER)));
+            }
+        }, true);
+    }
+
+    @Test
+    public void testFilterThreeValuedLogic() throws Exception {
+        assertSameResults(new PipelineBuilder() {
+            @Override
+            public PhysicalOperator build(PhysicalOperator source) throws Exception {
+                // (a < 300 or b > 0) and not (d == 's3')
+                ExpressionOperator lt = binary(new LessThanExpr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.INTEGER, project(0, DataType.INTEGER), constant(300, DataType.INTEGER));
+                ExpressionOperator gt = binary(new GreaterThanExpr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.LONG, project(1, DataType.LONG), constant(0L, DataType.LONG));
+                ExpressionOperator eq = binary(new EqualToExpr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.CHARARRAY, project(3, DataType.CHARARRAY), constant("s3", DataType.CHARARRAY));
+                PONot not = new PONot(GenPhyOp.getOK());
+                not.setExpr(eq);
+                not.setResultType(DataType.BOOLEAN);
+                ExpressionOperator or = binary(new POOr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.BOOLEAN, lt, gt);
+                ExpressionOperator and = binary(new POAnd(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.BOOLEAN, or, not);
+                return filter(source, and);
+            }
+        }, true);
+    }
+
+    @Test
+    public void testForEach() throws Exception {
+        assertSameResults(new PipelineBuilder() {
+            @Override
+            public PhysicalOperator build(PhysicalOperator source) throws Exception {
+                // a, b + 7L, c * 2.0, d, e + a, c - c
+                return foreach(source,
+                        project(0, DataType.INTEGER),
+                        binary(new Add(GenPhyOp.getOK()), DataType.LONG, DataType.LONG,
+                                project(1, DataType.LONG), constant(7L, DataType.LONG)),
+                        binary(new Multiply(GenPhyOp.getOK()), DataType.DOUBLE, DataType.DOUBLE,
+                                project(2, DataType.DOUBLE), constant(2.0d, DataType.DOUBLE)),
+                        project(3, DataType.CHARARRAY),
+                        binary(new Add(GenPhyOp.getOK()), DataType.INTEGER, DataType.INTEGER,
+                                project(4, DataType.INTEGER), project(0, DataType.INTEGER)),
+                        binary(new Subtract(GenPhyOp.getOK()), DataType.DOUBLE, DataType.DOUBLE,
+                                project(2, DataType.DOUBLE), project(2, DataType.DOUBLE)));
+            }
+        }, true);
+    }
+
+    @Test
+    public void testFilterForEachFilter() throws Exception {
+        assertSameResults(new PipelineBuilder() {
+            @Override
+            public PhysicalOperator build(PhysicalOperator source) throws Exception {
+                // B = filter A by a > 100; C = foreach B generate a * 3, d; D = filter C by $0 < 2000;
+                PhysicalOperator f1 = filter(source, binary(new GreaterThanExpr(GenPhyOp.getOK()),
+                        DataType.BOOLEAN, DataType.INTEGER, project(0, DataType.INTEGER),
+                        constant(100, DataType.INTEGER)));
+                PhysicalOperator fe = foreach(f1,
+                        binary(new Multiply(GenPhyOp.getOK()), DataType.INTEGER, DataType.INTEGER,
+                                project(0, DataType.INTEGER), constant(3, DataType.INTEGER)),
+                        project(3, DataType.CHARARRAY));
+                return filter(fe, binary(new LessThanExpr(GenPhyOp.getOK()), DataType.BOOLEAN,
+                        DataType.INTEGER, project(0, DataType.INTEGER), constant(2000, DataType.INTEGER)));
+            }
+        }, true);
+    }
+
+    @Test
+    public void testUnsupportedExpressionFallsBack() throws Exception {
+        assertSameResults(new PipelineBuilder() {
+            @Override
+            public PhysicalOperator build(PhysicalOperator source) throws Exception {
+                return foreach(source, binary(new Divide(GenPhyOp.getOK()), DataType.DOUBLE,
+                        DataType.DOUBLE, project(2, DataType.DOUBLE), constant(3.0d, DataType.DOUBLE)));
+            }
+        }, false);
+    }
+
+    @Test
+    public void testForEachAfterLimit() throws Exception {
+        // A = load ...; B = limit A 1234; C = foreach B generate a, d;
+        List<Tuple> expected = null;
+        for (int batchSize : new int[] { 0, 7, 1024 }) {
+            Configuration conf = new Configuration(false);
+            conf.setBoolean(PigConfiguration.PIG_EXEC_VECTORIZED, batchSize > 0);
+            conf.setInt(PigConfiguration.PIG_EXEC_VECTORIZED_BATCH_SIZE, batchSize);
+            PigMapReduce.sJobConfInternal.set(conf);
+
+            POLimit limit = new POLimit(GenPhyOp.getOK());
+            limit.setLimit(1234);
+            limit.setInputs(inputs(new TupleSource(input)));
+            PhysicalOperator leaf = foreach(limit, project(0, DataType.INTEGER),
+                    project(3, DataType.CHARARRAY));
+            List<Tuple> out = new ArrayList<Tuple>();
+            for (Result r = leaf.getNextTuple(); r.returnStatus != POStatus.STATUS_EOP; r = leaf.getNextTuple()) {
+                assertEquals(POStatus.STATUS_OK, r.returnStatus);
+                out.add((Tuple) r.result);
+            }
+            assertEquals(batchSize > 0, leaf.supportsBatch());
+            assertEquals(1234, out.size());
+            if (expected == null) {
+                expected = out;
+            } else {
+                assertEquals("batch size " + batchSize, expected, out);
+            }
+        }
+    }
+
+    @Test
+    public void testScript() throws Exception {
+        List<Tuple> rowResults = runScript(false);
+        List<Tuple> vectorResults = runScript(true);
+        assertEquals(rowResults, vectorResults);
+        assertFalse(rowResults.isEmpty());
+    }
+
+    @Test
+    public void testReduceSideLimit() throws Exception {
+        // the reduce plan attaches each key to the package, the foreach after
+        // the limit must keep reading rows after the first key
+        List<Tuple> rowResults = runReduceSideScript(false);
+        List<Tuple> vectorResults = runReduceSideScript(true);
+        assertEquals(5, rowResults.size());
+        assertEquals(rowResults, vectorResults);
+    }
+
+    private List<Tuple> runReduceSideScript(boolean vectorized) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_VECTORIZED, String.valueOf(vectorized));
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), props);
+        Data data = resetData(pigServer);
+        List<Tuple> in = new ArrayList<Tuple>();
+        for (int i = 0; i < 20; i++) {
+            in.add(tuple(i % 5, (long) (i % 5) * 10));
+        }
+        data.set("in", "k:int,v:long", in);
+        pigServer.registerQuery("A = load 'in' using mock.Storage();");
+        pigServer.registerQuery("B = distinct A;");
+        pigServer.registerQuery("C = limit B 100;");
+        pigServer.registerQuery("D = foreach C generate k, v + 1L;");
+        pigServer.registerQuery("store D into 'out' using mock.Storage();");
+        List<Tuple> out = new ArrayList<Tuple>(data.get("out"));
+        Collections.sort(out, new Comparator<Tuple>() {
+            @Override
+            public int compare(Tuple t1, Tuple t2) {
+                return DataType.compare(t1, t2);
+            }
+        });
+        return out;
+    }
+
+    private List<Tuple> runScript(boolean vectorized) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PigConfiguration.PIG_EXEC_VECTORIZED, String.valueOf(vectorized));
+        props.setProperty(PigConfiguration.PIG_EXEC_VECTORIZED_BATCH_SIZE, "100");
+        PigServer pigServer = new PigServer(Util.getLocalTestMode(), props);
+        Data data = resetData(pigServer);
+        List<Tuple> in = new ArrayList<Tuple>();
+        for (int i = 0; i < 1000; i++) {
+            in.add(tuple(i % 13 == 0 ? null : i, (long) i * 31, i % 11 == 0 ? null : "v" + (i % 5)));
+        }
+        data.set("in", "a:int,b:long,c:chararray", in);
+        pigServer.registerQuery("A = load 'in' using mock.Storage();");
+        pigServer.registerQuery("B = filter A by a > 10 and (c == 'v1' or b < 3000L);");
+        pigServer.registerQuery("C = foreach B generate a + 1, b * 2L, c;");
+        List<Tuple> out = new ArrayList<Tuple>();
+        Iterator<Tuple> it = pigServer.openIterator("C");
+        while (it.hasNext()) {
+            out.add(it.next());
+        }
+        return out;
+    }
+
+    private interface PipelineBuilder {
+        PhysicalOperator build(PhysicalOperator source) throws Exception;
+    }
+
+    /**
+     * Runs the pipeline tuple at a time, then a batch at a time with batch
+     * sizes that do and do not divide the input evenly.
+     */
+    private void assertSameResults(PipelineBuilder builder, boolean expectBatches) throws Exception {
+        List<Tuple> expected = run(builder, 0, false);
+        assertFalse(expected.isEmpty());
+        for (int batchSize : new int[] { 1, 7, 1000, 1024 }) {
+            assertEquals("batch size " + batchSize, expected, run(builder, batchSize, expectBatches));
+        }
+    }
+
+    private List<Tuple> run(PipelineBuilder builder, int batchSize, boolean expectBatches)
+            throws Exception {
+        Configuration conf = new Configuration(false);
+        conf.setBoolean(PigConfiguration.PIG_EXEC_VECTORIZED, batchSize > 0);
+        conf.setInt(PigConfiguration.PIG_EXEC_VECTORIZED_BATCH_SIZE, batchSize);
+        PigMapReduce.sJobConfInternal.set(conf);
+
+        TupleSource source = new TupleSource(input);
+        PhysicalOperator leaf = builder.build(source);
+        List<Tuple> out = new ArrayList<Tuple>();
+        for (Result r = leaf.getNextTuple(); r.returnStatus != POStatus.STATUS_EOP; r = leaf.getNextTuple()) {
+            assertEquals(POStatus.STATUS_OK, r.returnStatus);
+            out.add((Tuple) r.result);
+        }
+        assertEquals(POStatus.STATUS_EOP, leaf.getNextTuple().returnStatus);
+        boolean batched = batchSize > 0 && expectBatches;
+        assertEquals(batched, leaf.supportsBatch());
+        if (batched) {
+            // once a batch has seen the end of input, nothing asks for more
+            assertEquals(1, source.eopCount);
+        }
+        return out;
+    }
+
+    private static POFilter filter(PhysicalOperator in, ExpressionOperator cond) throws PlanException {
+        POFilter f = new POFilter(GenPhyOp.getOK());
+        f.setPlan(plan(cond));
+        f.setResultType(DataType.TUPLE);
+        f.setInputs(inputs(in));
+        return f;
+    }
+
+    private static POForEach foreach(PhysicalOperator in, ExpressionOperator... exprs)
+            throws PlanException {
+        List<PhysicalPlan> plans = new ArrayList<PhysicalPlan>();
+        List<Boolean> flatten = new ArrayList<Boolean>();
+        for (ExpressionOperator e : exprs) {
+            plans.add(plan(e));
+            flatten.add(false);
+        }
+        POForEach fe = new POForEach(GenPhyOp.getOK(), -1, plans, flatten);
+        fe.setResultType(DataType.TUPLE);
+        fe.setInputs(inputs(in));
+        return fe;
+    }
+
+    private static List<PhysicalOperator> inputs(PhysicalOperator op) {
+        List<PhysicalOperator> l = new ArrayList<PhysicalOperator>();
+        l.add(op);
+        return l;
+    }
+
+    /**
+     * Builds the expression plan rooted at the given operator.
+     */
+    private static PhysicalPlan plan(ExpressionOperator root) throws PlanException {
+        PhysicalPlan plan = new PhysicalPlan();
+        addToPlan(plan, root);
+        return plan;
+    }
+
+    private static void addToPlan(PhysicalPlan plan, ExpressionOperator op) throws PlanException {
+        plan.add(op);
+        List<ExpressionOperator> children = new ArrayList<ExpressionOperator>();
+        if (op instanceof BinaryExpressionOperator) {
+            children.add(((BinaryExpressionOperator) op).getLhs());
+            children.add(((BinaryExpressionOperator) op).getRhs());
+        } else if (op instanceof UnaryExpressionOperator) {
+            children.add(((UnaryExpressionOperator) op).getExpr());
+        }
+        for (ExpressionOperator child : children) {
+            addToPlan(plan, child);
+            plan.connect(child, op);
+        }
+    }
+
+    private static ExpressionOperator binary(BinaryExpressionOperator op, byte resultType,
+            byte operandType, ExpressionOperator lhs, ExpressionOperator rhs) {
+        op.setLhs(lhs);
+        op.setRhs(rhs);
+        op.setResultType(resultType);
+        if (op instanceof BinaryComparisonOperator) {
+            ((BinaryComparisonOperator) op)
+                    .setOperandType(operandType);
+        }
+        return op;
+    }
+
+    private static POProject project(int col, byte type) {
+        POProject p = new POProject(GenPhyOp.getOK(), -1, col);
+        p.setResultType(type);
+        return p;
+    }
+
+    private static ConstantExpression constant(Object value, byte type) {
+        ConstantExpression c = new ConstantExpression(GenPhyOp.getOK());
+        c.setValue(value);
+        c.setResultType(type);
+        return c;
+    }
+
+    /**
+     * Stands in for POLoad, handing out a fixed list of tuples.
+     */
+    private static class TupleSource extends PhysicalOperator {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Tuple> tuples;
+        private int pos;
+        int eopCount;
+
+        TupleSource(List<Tuple> tuples) {
+            super(GenPhyOp.getOK());
+            this.tuples = tuples;
+        }
+
+        @Override
+        public Result getNextTuple() throws ExecException {
+            if (pos == tuples.size()) {
+                eopCount++;
+                return RESULT_EOP;
+            }
+            return new Result(POStatus.STATUS_OK, tuples.get(pos++));
+        }
+
+        @Override
+        public boolean supportsBatch() {
+            return true;
+        }
+
+        @Override
+        public void visit(PhyPlanVisitor v) throws VisitorException {
+        }
+
+        @Override
+        public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+            return null;
+        }
+
+        @Override
+        public boolean supportsMultipleInputs() {
+            return false;
+        }
+
+        @Override
+        public boolean supportsMultipleOutputs() {
+            return false;
+        }
+
+        @Override
+        public String name() {
+            return "TupleSource - " + mKey.toString();
+        }
+    }
+}
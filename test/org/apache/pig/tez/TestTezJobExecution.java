@@ -17,12 +17,19 @@
  */
 package org.apache.pig.tez;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
@@ -30,6 +37,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.pig.PigConfiguration;
 import org.apache.pig.PigRunner;
 import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.tez.runtime.SkewSplitVertexManager;
 import org.apache.pig.impl.plan.OperatorPlan;
 import org.apache.pig.test.Util;
 import org.apache.pig.tools.pigstats.JobStats;
@@ -123,6 +131,85 @@ public class TestTezJobExecution {
     }
 
 
+    @Test
+    public void testSkewSplitJoin() throws Exception {
+        // four files, so that the hot key comes from four tasks
+        String left = TEST_DIR + Path.SEPARATOR + "skewleft";
+        new File(left).mkdirs();
+        for (int f = 0; f < 4; f++) {
+            String[] lines = new String[760];
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = (i < 750 ? "hot" : "k" + i % 10) + "\t" + f + "-" + i;
+            }
+            Util.createLocalInputFile(left + Path.SEPARATOR + "part" + f, lines);
+        }
+        String right = TEST_DIR + Path.SEPARATOR + "skewright";
+        String[] lines = new String[15];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = (i < 3 ? "hot" : "k" + i) + "\t" + i;
+        }
+        Util.createLocalInputFile(right, lines);
+
+        for (String join : new String[] {"A by $0, B by $0", "A by $0 left outer, B by $0",
+                "A by $0 right outer, B by $0"}) {
+            List<String> expected = new ArrayList<String>();
+            int expectedTasks = runSkewSplitJoin(left, right, join, false, expected);
+            assertEquals(5, expectedTasks);
+            List<String> actual = new ArrayList<String>();
+            int tasks = runSkewSplitJoin(left, right, join, true, actual);
+            assertEquals(expected, actual);
+            if (join.contains("right")) {
+                // the hot key is on the side that is not preserved
+                assertEquals(5, tasks);
+            } else {
+                assertTrue(tasks > 5);
+            }
+        }
+    }
+
+    @Test
+    public void testSkewSplitPartitions() throws Exception {
+        Map<String, long[]> counts = new HashMap<String, long[]>();
+        counts.put("a", new long[] {10, 1000, 10, 10});
+        counts.put("b", new long[] {10, 20, 10, 10});
+        Map<String, Integer> numTasks = new HashMap<String, Integer>();
+        numTasks.put("a", 3);
+        numTasks.put("b", 2);
+        Map<String, boolean[]> split = new HashMap<String, boolean[]>();
+        int[] pieces = SkewSplitVertexManager.splitPartitions(counts, numTasks, Arrays.asList("a", "b"), split);
+        // no more pieces than tasks of the split input
+        assertArrayEquals(new int[] {1, 3, 1, 1}, pieces);
+        assertEquals("[false, true, false, false]", Arrays.toString(split.get("a")));
+        assertEquals("[false, false, false, false]", Arrays.toString(split.get("b")));
+
+        split.clear();
+        pieces = SkewSplitVertexManager.splitPartitions(counts, numTasks, Arrays.asList("b"), split);
+        assertArrayEquals(new int[] {1, 1, 1, 1}, pieces);
+    }
+
+    private int runSkewSplitJoin(String left, String right, String join, boolean skewSplit,
+            List<String> results) throws Exception {
+        String output = TEST_DIR + Path.SEPARATOR + "skewoutput";
+        Util.deleteDirectory(new File(output));
+        pigServer.getPigContext().getProperties().setProperty(PigConfiguration.PIG_TEZ_SKEW_SPLIT,
+                String.valueOf(skewSplit));
+        pigServer.getPigContext().getProperties().setProperty("pig.splitCombination", "false");
+        String query = "A = LOAD '" + left + "' AS (k:chararray, v:chararray);"
+                + "B = LOAD '" + right + "' AS (k:chararray, v:chararray);"
+                + "C = JOIN " + join + " PARALLEL 5;"
+                + "STORE C into '" + output + "';";
+        pigServer.registerQuery(query);
+        int tasks = 0;
+        for (File part : new File(output).listFiles()) {
+            if (part.getName().startsWith("part-")) {
+                tasks++;
+                results.addAll(FileUtils.readLines(part));
+            }
+        }
+        Collections.sort(results);
+        return tasks;
+    }
+
     private static class TestNotificationListener implements PigProgressNotificationListener {
 
         private Set<String> jobsStarted = new HashSet<String>();
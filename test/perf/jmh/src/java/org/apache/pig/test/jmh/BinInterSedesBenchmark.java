@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Read and write cost of a single datum of every Pig data type through
+ * {@link BinInterSedes}, the serialization used between map and reduce and
+ * for spill files.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinInterSedesBenchmark {
+
+    @Param({"boolean", "byte", "int", "long", "float", "double", "datetime",
+            "biginteger", "bigdecimal", "bytearray", "chararray", "map",
+            "tuple", "bag"})
+    public String type;
+
+    private final BinInterSedes sedes = new BinInterSedes();
+
+    private Object value;
+    private byte dataType;
+
+    private ByteArrayOutputStream bytesOut;
+    private DataOutputStream out;
+
+    private ByteArrayInputStream bytesIn;
+    private DataInputStream in;
+
+    @Setup
+    public void setup() throws IOException {
+        value = SyntheticData.valueOf(type, new Random(SyntheticData.SEED));
+        dataType = DataType.findType(value);
+        bytesOut = new ByteArrayOutputStream(4096);
+        out = new DataOutputStream(bytesOut);
+
+        sedes.writeDatum(out, value, dataType);
+        out.flush();
+        bytesIn = new ByteArrayInputStream(bytesOut.toByteArray());
+        in = new DataInputStream(bytesIn);
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        bytesOut.reset();
+        sedes.writeDatum(out, value, dataType);
+        return bytesOut.size();
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        bytesIn.reset();
+        return sedes.readDatum(in);
+    }
+}
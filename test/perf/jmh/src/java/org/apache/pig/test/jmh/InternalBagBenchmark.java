@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.InternalSortedBag;
+import org.apache.pig.data.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Add-then-iterate cost of the bags used by POPackage and nested ORDER BY.
+ * With {@code memory = "spill"} the bags are given a zero memory share, so
+ * every tuple goes through the spill file path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InternalBagBenchmark {
+
+    private static final int TUPLES = 8192;
+
+    @Param({"memory", "spill"})
+    public String memory;
+
+    private Tuple[] tuples;
+    private float percent;
+
+    @Setup
+    public void setup() throws Exception {
+        tuples = SyntheticData.mixedTuples(TUPLES);
+        // -1 falls back to pig.cachedbag.memusage
+        percent = "spill".equals(memory) ? 0f : -1f;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TUPLES)
+    public void cachedBag(Blackhole bh) {
+        fillAndIterate(new InternalCachedBag(1, percent), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TUPLES)
+    public void sortedBag(Blackhole bh) {
+        fillAndIterate(new InternalSortedBag(1, percent, null), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TUPLES)
+    public void sortedBagExplicitSpill(Blackhole bh) {
+        DataBag bag = new InternalSortedBag(1, percent, null);
+        for (int i = 0; i < TUPLES; i++) {
+            bag.add(tuples[i]);
+            if (i == TUPLES / 2) {
+                bag.spill();
+            }
+        }
+        iterate(bag, bh);
+    }
+
+    private void fillAndIterate(DataBag bag, Blackhole bh) {
+        for (Tuple t : tuples) {
+            bag.add(t);
+        }
+        iterate(bag, bh);
+    }
+
+    private void iterate(DataBag bag, Blackhole bh) {
+        Iterator<Tuple> it = bag.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+        bag.clear();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigConfiguration;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Add;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.BinaryExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ConstantExpression;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.GreaterThanExpr;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.Multiply;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.plan.PlanException;
+import org.apache.pig.impl.plan.VisitorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per tuple cost of the map side scan-filter-project chain:
+ * <pre>
+ * A = load ... as (a:int, b:long, c:double, d:chararray);
+ * B = filter A by a &gt; 500;
+ * C = foreach B generate a, b + 7L, c * 2.0, d;
+ * </pre>
+ * built directly as physical operators over synthetic input. With
+ * {@code vectorized = true} the operators run a batch at a time
+ * (pig.exec.vectorized).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhysicalPipelineBenchmark {
+
+    private static final int ROWS = 4096;
+    private static final String SCOPE = "jmh";
+
+    @Param({"false", "true"})
+    public boolean vectorized;
+
+    private long nodeId = 0;
+
+    private Tuple[] input;
+    private TupleSource source;
+    private POFilter filter;
+    private POForEach foreach;
+    private POForEach foreachOnly;
+
+    @Setup
+    public void setup() throws Exception {
+        Configuration conf = new Configuration(false);
+        conf.setBoolean(PigConfiguration.PIG_EXEC_VECTORIZED, vectorized);
+        PigMapReduce.sJobConfInternal.set(conf);
+
+        input = SyntheticData.mixedTuples(ROWS);
+    }
+
+    /**
+     * Operators remember that their input ended, so a vectorized pipeline
+     * cannot be rewound and is built again for every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void buildPipeline() throws Exception {
+        source = new TupleSource(newKey(), input);
+
+        filter = new POFilter(newKey());
+        filter.setPlan(filterPlan());
+        filter.setInputs(inputs(source));
+
+        foreach = newForEach();
+        foreach.setInputs(inputs(filter));
+
+        foreachOnly = newForEach();
+        foreachOnly.setInputs(inputs(source));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void filter(Blackhole bh) throws ExecException {
+        drain(filter, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void foreach(Blackhole bh) throws ExecException {
+        drain(foreachOnly, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void filterForeach(Blackhole bh) throws ExecException {
+        drain(foreach, bh);
+    }
+
+    private void drain(PhysicalOperator leaf, Blackhole bh) throws ExecException {
+        for (Result r = leaf.getNextTuple(); r.returnStatus != POStatus.STATUS_EOP; r = leaf.getNextTuple()) {
+            bh.consume(r.result);
+        }
+    }
+
+    private PhysicalPlan filterPlan() throws PlanException {
+        POProject a = project(0, DataType.INTEGER);
+        ConstantExpression c = constant(500, DataType.INTEGER);
+        GreaterThanExpr gt = new GreaterThanExpr(newKey());
+        gt.setOperandType(DataType.INTEGER);
+        return binaryPlan(gt, a, c);
+    }
+
+    private POForEach newForEach() throws PlanException {
+        List<PhysicalPlan> plans = new ArrayList<PhysicalPlan>();
+        List<Boolean> flatten = new ArrayList<Boolean>();
+
+        plans.add(singlePlan(project(0, DataType.INTEGER)));
+
+        Add add = new Add(newKey());
+        add.setResultType(DataType.LONG);
+        plans.add(binaryPlan(add, project(1, DataType.LONG), constant(7L, DataType.LONG)));
+
+        Multiply mul = new Multiply(newKey());
+        mul.setResultType(DataType.DOUBLE);
+        plans.add(binaryPlan(mul, project(2, DataType.DOUBLE), constant(2.0d, DataType.DOUBLE)));
+
+        plans.add(singlePlan(project(3, DataType.CHARARRAY)));
+
+        for (int i = 0; i < plans.size(); i++) {
+            flatten.add(false);
+        }
+        POForEach fe = new POForEach(newKey(), -1, plans, flatten);
+        fe.setResultType(DataType.TUPLE);
+        return fe;
+    }
+
+    private PhysicalPlan singlePlan(ExpressionOperator op) {
+        PhysicalPlan plan = new PhysicalPlan();
+        plan.add(op);
+        return plan;
+    }
+
+    private PhysicalPlan binaryPlan(BinaryExpressionOperator root,
+            ExpressionOperator lhs, ExpressionOperator rhs) throws PlanException {
+        root.setLhs(lhs);
+        root.setRhs(rhs);
+        PhysicalPlan plan = new PhysicalPlan();
+        plan.add(lhs);
+        plan.add(rhs);
+        plan.add(root);
+        plan.connect(lhs, root);
+        plan.connect(rhs, root);
+        return plan;
+    }
+
+    private POProject project(int col, byte type) {
+        POProject p = new POProject(newKey(), -1, col);
+        p.setResultType(type);
+        return p;
+    }
+
+    private ConstantExpression constant(Object value, byte type) {
+        ConstantExpression c = new ConstantExpression(newKey());
+        c.setValue(value);
+        c.setResultType(type);
+        return c;
+    }
+
+    private List<PhysicalOperator> inputs(PhysicalOperator op) {
+        List<PhysicalOperator> l = new ArrayList<PhysicalOperator>(1);
+        l.add(op);
+        return l;
+    }
+
+    private OperatorKey newKey() {
+        return new OperatorKey(SCOPE, nodeId++);
+    }
+
+    /**
+     * Root operator that returns a fixed array of tuples and then EOP,
+     * standing in for POLoad.
+     */
+    static class TupleSource extends PhysicalOperator {
+        private static final long serialVersionUID = 1L;
+
+        private final Tuple[] tuples;
+        private final Result result = new Result();
+        private int pos;
+
+        TupleSource(OperatorKey k, Tuple[] tuples) {
+            super(k);
+            this.tuples = tuples;
+        }
+
+        @Override
+        public boolean supportsBatch() {
+            return true;
+        }
+
+        @Override
+        public Result getNextTuple() {
+            if (pos >= tuples.length) {
+                return RESULT_EOP;
+            }
+            result.returnStatus = POStatus.STATUS_OK;
+            result.result = tuples[pos++];
+            return result;
+        }
+
+        @Override
+        public void visit(PhyPlanVisitor v) throws VisitorException {
+        }
+
+        @Override
+        public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+            return null;
+        }
+
+        @Override
+        public boolean supportsMultipleInputs() {
+            return false;
+        }
+
+        @Override
+        public boolean supportsMultipleOutputs() {
+            return false;
+        }
+
+        @Override
+        public String name() {
+            return "TupleSource - " + mKey.toString();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.data.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Line parsing cost of {@link PigStorage#getNext()} over tab delimited lines
+ * held in memory, so that no file system I/O is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PigStorageBenchmark {
+
+    private static final int LINES = 1024;
+
+    @Param({"4", "32"})
+    public int fields;
+
+    private PigStorage storage;
+    private InMemoryLineReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        Random r = new Random(SyntheticData.SEED);
+        Text[] lines = new Text[LINES];
+        for (int i = 0; i < LINES; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int f = 0; f < fields; f++) {
+                if (f > 0) {
+                    sb.append('\t');
+                }
+                switch (f % 4) {
+                case 0: sb.append(r.nextInt(100000)); break;
+                case 1: sb.append(r.nextLong()); break;
+                case 2: sb.append(r.nextDouble()); break;
+                default: sb.append(SyntheticData.randomString(r, 16)); break;
+                }
+            }
+            lines[i] = new Text(sb.toString());
+        }
+        reader = new InMemoryLineReader(lines);
+        storage = new PigStorage("\t", "-noschema");
+        storage.prepareToRead(reader, null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void getNext(Blackhole bh) throws IOException {
+        reader.rewind();
+        Tuple t;
+        while ((t = storage.getNext()) != null) {
+            bh.consume(t);
+        }
+    }
+
+    /**
+     * Hands out a fixed set of lines, the way LineRecordReader would for a
+     * split containing them.
+     */
+    static class InMemoryLineReader extends RecordReader<LongWritable, Text> {
+        private final Text[] lines;
+        private final LongWritable key = new LongWritable();
+        private int pos;
+
+        InMemoryLineReader(Text[] lines) {
+            this.lines = lines;
+        }
+
+        void rewind() {
+            pos = 0;
+        }
+
+        @Override
+        public void initialize(InputSplit split, TaskAttemptContext context) {
+        }
+
+        @Override
+        public boolean nextKeyValue() {
+            if (pos >= lines.length) {
+                return false;
+            }
+            key.set(pos++);
+            return true;
+        }
+
+        @Override
+        public LongWritable getCurrentKey() {
+            return key;
+        }
+
+        @Override
+        public Text getCurrentValue() {
+            return lines[pos - 1];
+        }
+
+        @Override
+        public float getProgress() {
+            return (float) pos / lines.length;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.joda.time.DateTime;
+
+/**
+ * Deterministic generators for the synthetic inputs used by the benchmarks.
+ * A fixed seed is used so that runs against different builds see the same data.
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 42L;
+
+    private static final TupleFactory TF = TupleFactory.getInstance();
+    private static final BagFactory BF = BagFactory.getInstance();
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Returns a representative value for the given Pig type name, as used by
+     * {@link DataType#findTypeByName(String)}.
+     */
+    public static Object valueOf(String typeName, Random r) throws ExecException {
+        byte type = DataType.findTypeByName(typeName);
+        switch (type) {
+        case DataType.BOOLEAN:
+            return r.nextBoolean();
+        case DataType.BYTE:
+            return (byte) r.nextInt();
+        case DataType.INTEGER:
+            return r.nextInt();
+        case DataType.LONG:
+            return r.nextLong();
+        case DataType.FLOAT:
+            return r.nextFloat();
+        case DataType.DOUBLE:
+            return r.nextDouble();
+        case DataType.DATETIME:
+            return new DateTime(1400000000000L + r.nextInt());
+        case DataType.BIGINTEGER:
+            return new BigInteger(96, r);
+        case DataType.BIGDECIMAL:
+            return new BigDecimal(new BigInteger(96, r), 6);
+        case DataType.BYTEARRAY:
+            return new DataByteArray(randomString(r, 32));
+        case DataType.CHARARRAY:
+            return randomString(r, 32);
+        case DataType.MAP:
+            Map<String, Object> m = new HashMap<String, Object>();
+            for (int i = 0; i < 8; i++) {
+                m.put("k" + i, randomString(r, 12));
+            }
+            return m;
+        case DataType.TUPLE:
+            return mixedTuple(r);
+        case DataType.BAG:
+            DataBag bag = BF.newDefaultBag();
+            for (int i = 0; i < 16; i++) {
+                bag.add(mixedTuple(r));
+            }
+            return bag;
+        default:
+            throw new IllegalArgumentException("Unsupported type " + typeName);
+        }
+    }
+
+    /**
+     * A tuple of (int, long, double, chararray), the shape most of the
+     * pipeline benchmarks run over.
+     */
+    public static Tuple mixedTuple(Random r) throws ExecException {
+        Tuple t = TF.newTuple(4);
+        t.set(0, r.nextInt(1000));
+        t.set(1, r.nextLong());
+        t.set(2, r.nextDouble());
+        t.set(3, randomString(r, 16));
+        return t;
+    }
+
+    public static Tuple[] mixedTuples(int count) throws ExecException {
+        Random r = new Random(SEED);
+        Tuple[] tuples = new Tuple[count];
+        for (int i = 0; i < count; i++) {
+            tuples[i] = mixedTuple(r);
+        }
+        return tuples;
+    }
+
+    public static String randomString(Random r, int len) {
+        char[] c = new char[len];
+        for (int i = 0; i < len; i++) {
+            c[i] = (char) ('a' + r.nextInt(26));
+        }
+        return new String(c);
+    }
+}
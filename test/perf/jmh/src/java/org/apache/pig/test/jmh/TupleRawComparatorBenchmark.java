@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.BinInterSedes.BinInterSedesTupleRawComparator;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of comparing serialized sort keys with
+ * {@link BinInterSedesTupleRawComparator}, compared against deserialized
+ * {@link Tuple#compareTo(Object)} on the same keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TupleRawComparatorBenchmark {
+
+    private static final int KEYS = 1024;
+
+    /**
+     * Shape of the key tuple: a single int, a single chararray, or
+     * (int, long, double, chararray).
+     */
+    @Param({"int", "chararray", "mixed"})
+    public String keyShape;
+
+    private final BinInterSedesTupleRawComparator comparator = new BinInterSedesTupleRawComparator();
+
+    private byte[][] serialized;
+    private Tuple[] tuples;
+    private int idx;
+
+    @Setup
+    public void setup() throws IOException {
+        comparator.setConf(new Configuration(false));
+
+        Random r = new Random(SyntheticData.SEED);
+        TupleFactory tf = TupleFactory.getInstance();
+        BinInterSedes sedes = new BinInterSedes();
+        serialized = new byte[KEYS][];
+        tuples = new Tuple[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            Tuple t;
+            if ("int".equals(keyShape)) {
+                // narrow range so that equal keys are common, as in a GROUP
+                t = tf.newTuple((Object) r.nextInt(64));
+            } else if ("chararray".equals(keyShape)) {
+                t = tf.newTuple((Object) ("key" + r.nextInt(64)));
+            } else {
+                t = SyntheticData.mixedTuple(r);
+                t.set(0, r.nextInt(8));
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            sedes.writeDatum(out, t, DataType.TUPLE);
+            out.flush();
+            serialized[i] = bytes.toByteArray();
+            tuples[i] = t;
+        }
+    }
+
+    @Benchmark
+    public int compareRaw() {
+        int i = idx;
+        idx = (i + 1) & (KEYS - 1);
+        byte[] a = serialized[i];
+        byte[] b = serialized[idx];
+        return comparator.compare(a, 0, a.length, b, 0, b.length);
+    }
+
+    @Benchmark
+    public int compareDeserialized() {
+        int i = idx;
+        idx = (i + 1) & (KEYS - 1);
+        return DataType.compare(tuples[i], tuples[idx]);
+    }
+}
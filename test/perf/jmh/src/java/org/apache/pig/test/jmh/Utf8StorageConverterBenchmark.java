@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pig.ResourceSchema.ResourceFieldSchema;
+import org.apache.pig.builtin.Utf8StorageConverter;
+import org.apache.pig.impl.util.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of the bytearray casts done by {@link Utf8StorageConverter} when a
+ * script casts a PigStorage field to a typed value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Utf8StorageConverterBenchmark {
+
+    private final Utf8StorageConverter caster = new Utf8StorageConverter();
+
+    private final byte[] intBytes = "1234567".getBytes();
+    private final byte[] longBytes = "1234567890123".getBytes();
+    private final byte[] doubleBytes = "12345.6789".getBytes();
+    private final byte[] charArrayBytes = "the quick brown fox".getBytes();
+    private final byte[] dateTimeBytes = "2014-05-13T10:20:30.000Z".getBytes();
+    private final byte[] mapBytes = "[a#1,b#2,c#hello]".getBytes();
+    private final byte[] bagBytes = "{(1,a),(2,b),(3,c)}".getBytes();
+
+    private ResourceFieldSchema bagSchema;
+
+    @Setup
+    public void setup() throws Exception {
+        bagSchema = new ResourceFieldSchema(
+                Utils.getSchemaFromString("b:{t:(x:int,y:chararray)}").getField(0));
+    }
+
+    @Benchmark
+    public Integer bytesToInteger() throws IOException {
+        return caster.bytesToInteger(intBytes);
+    }
+
+    @Benchmark
+    public Long bytesToLong() throws IOException {
+        return caster.bytesToLong(longBytes);
+    }
+
+    @Benchmark
+    public Double bytesToDouble() {
+        return caster.bytesToDouble(doubleBytes);
+    }
+
+    @Benchmark
+    public String bytesToCharArray() throws IOException {
+        return caster.bytesToCharArray(charArrayBytes);
+    }
+
+    @Benchmark
+    public Object bytesToDateTime() throws IOException {
+        return caster.bytesToDateTime(dateTimeBytes);
+    }
+
+    @Benchmark
+    public Object bytesToMap() throws IOException {
+        return caster.bytesToMap(mapBytes, null);
+    }
+
+    @Benchmark
+    public Object bytesToBag() throws IOException {
+        return caster.bytesToBag(bagBytes, bagSchema);
+    }
+}